@@ -0,0 +1,72 @@
+/*
+ * Copyright (c) 2018-2023 Leon Linhart,
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.osmerion.quitte.build.generator.internal
+
+private val ARITIES = 2..4
+private val ORDINALS = listOf("first", "second", "third", "fourth")
+
+/**
+ * A combination of `arity` inputs of the same source type into a single value of the target type.
+ */
+class Combinator(
+    val sourceType: Type,
+    val arity: Int,
+    val targetType: Type
+) {
+
+    val name = "${sourceType.abbrevName.repeat(arity)}To${targetType.abbrevName}"
+
+    val arityName = listOf("two", "three", "four")[arity - 2]
+
+    val params: List<String> = listOf("a", "b", "c", "d").take(arity)
+
+    fun ordinal(index: Int) = ORDINALS[index]
+
+    fun sourceTypeParams(names: List<String>): List<String> =
+        if (sourceType === Type.OBJECT) names.take(arity) else emptyList()
+
+    fun sourceTypeName(names: List<String>, index: Int): String =
+        if (sourceType === Type.OBJECT) names[index] else sourceType.raw
+
+    fun typeParams(sourceNames: List<String>, targetName: String): String {
+        val params = sourceTypeParams(sourceNames) + (if (targetType === Type.OBJECT) listOf(targetName) else emptyList())
+        return if (params.isEmpty()) "" else params.joinToString(separator = ", ", prefix = "<", postfix = ">")
+    }
+
+    companion object {
+
+        fun values(): List<Combinator> = Type.values().flatMap { sourceType ->
+            ARITIES.flatMap { arity -> Type.values().map { targetType -> Combinator(sourceType, arity, targetType) } }
+        }
+
+    }
+
+}
@@ -0,0 +1,119 @@
+/*
+ * Copyright (c) 2018-2023 Leon Linhart,
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.osmerion.quitte.build.generator.internal.templates.main.collections
+
+import com.osmerion.quitte.build.generator.internal.Template
+import com.osmerion.quitte.build.generator.internal.TemplateProvider
+import com.osmerion.quitte.build.generator.internal.Type
+
+object WeakListChangeListener : TemplateProvider {
+
+    override fun provideTemplates(): List<Template> = Type.values().filter { it !== Type.OBJECT }.map { type ->
+        val listenerName = "${type.abbrevName}ListChangeListener"
+        val className = "Weak$listenerName"
+
+        Template(PACKAGE_NAME, className) {
+            """
+package $PACKAGE_NAME;
+
+import java.lang.ref.WeakReference;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+import com.osmerion.quitte.internal.ListenerReaper;
+
+/**
+ * A {@code $className} may be used to wrap a listener that should only be referenced weakly from an
+ * {@link Observable${type.abbrevName}List}.
+ *
+ * <p>This listener does not keep a strong reference to the wrapped listener. Once the wrapped listener has been
+ * garbage collected, this listener is proactively detached from the observables it is attached to.</p>
+ *
+ * @see WeakReference
+ *
+ * @since   0.9.0
+ *
+ * @author  Leon Linhart
+ */
+public final class $className implements $listenerName, ListenerReaper.Reapable {
+
+    private final ListenerReaper.ListenerReference<$listenerName> ref;
+
+    /**
+     * Wraps the given {@link $listenerName listener}.
+     *
+     * @param listener  the listener to wrap
+     *
+     * @throws NullPointerException if the given listener is {@code null}
+     *
+     * @since   0.9.0
+     */
+    public $className($listenerName listener) {
+        this.ref = new ListenerReaper.ListenerReference<>(Objects.requireNonNull(listener));
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @since   0.9.0
+     */
+    @Override
+    public void onChanged(Observable${type.abbrevName}List observable, Change change) {
+        var listener = this.ref.get();
+
+        if (listener != null) listener.onChanged(observable, change);
+    }
+
+    /**
+     * {@return whether the underlying listener was garbage collected or has become invalid}
+     *
+     * @since   0.9.0
+     */
+    @Override
+    public boolean isInvalid() {
+        var listener = this.ref.get();
+        return (listener == null || listener.isInvalid());
+    }
+
+    /**
+     * @hidden
+     */
+    @Override
+    public <O> void reapFrom(O owner, Consumer<? super O> action) {
+        this.ref.reapFrom(owner, action);
+    }
+
+}
+            """
+        }
+    }
+
+}
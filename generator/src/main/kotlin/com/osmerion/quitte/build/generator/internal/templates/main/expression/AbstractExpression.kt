@@ -43,9 +43,15 @@ object AbstractExpression : TemplateProvider {
             """
 package $PACKAGE_NAME;
 
-import java.util.concurrent.CopyOnWriteArraySet;
-${if (type === Type.OBJECT) "\nimport javax.annotation.Nullable;\n" else ""}
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+
+import javax.annotation.Nullable;
+
+import com.osmerion.quitte.internal.DependencyTracker;
+import com.osmerion.quitte.internal.Listeners;
+import com.osmerion.quitte.internal.Metrics;
 import com.osmerion.quitte.internal.wrappers.*;
+import com.osmerion.quitte.metrics.MetricsSink;
 import com.osmerion.quitte.value.*;
 import com.osmerion.quitte.value.change.*;
 
@@ -62,7 +68,11 @@ import com.osmerion.quitte.value.change.*;
  */
 public abstract class Abstract${type.abbrevName}Expression$typeParams extends AbstractExpression implements ValueExpression<${type.box}>, Observable${type.abbrevName}Value$typeParams {
 
-    private final transient CopyOnWriteArraySet<${type.abbrevName}ChangeListener$typeParams> changeListeners = new CopyOnWriteArraySet<>();
+${if (type === Type.OBJECT) "    @SuppressWarnings(\"rawtypes\")\n" else ""}    private static final AtomicReferenceFieldUpdater<Abstract${type.abbrevName}Expression, Object> CHANGE_LISTENERS = AtomicReferenceFieldUpdater.newUpdater(Abstract${type.abbrevName}Expression.class, Object.class, "changeListeners");
+
+    /* The attached listeners are stored compactly. See Listeners for the representation. */
+    @Nullable
+    private transient volatile Object changeListeners;
 
     // package-private constructor for an effectively sealed class
     Abstract${type.abbrevName}Expression() {}
@@ -74,7 +84,7 @@ public abstract class Abstract${type.abbrevName}Expression$typeParams extends Ab
      */
     @Override
     public final boolean addChangeListener(${type.abbrevName}ChangeListener$typeParams listener) {
-        return this.changeListeners.add(listener);
+        return Listeners.add(CHANGE_LISTENERS, this, listener);
     }
 
     /**
@@ -84,8 +94,8 @@ public abstract class Abstract${type.abbrevName}Expression$typeParams extends Ab
      */
     @Override
     public final boolean addBoxedChangeListener(ChangeListener<${type.box}> listener) {
-        if (this.changeListeners.stream().anyMatch(it -> it instanceof Wrapping${type.abbrevName}ChangeListener && ((Wrapping${type.abbrevName}ChangeListener$typeParams) it).isWrapping(listener))) return false;
-        return this.changeListeners.add(${type.abbrevName}ChangeListener.wrap(listener));
+        if (Listeners.anyMatch(this.changeListeners, it -> it instanceof Wrapping${type.abbrevName}ChangeListener${if (type === Type.OBJECT) "<?>" else ""} wrapper && wrapper.isWrapping(listener))) return false;
+        return Listeners.add(CHANGE_LISTENERS, this, ${type.abbrevName}ChangeListener.wrap(listener));
     }
 
     /**
@@ -95,7 +105,7 @@ public abstract class Abstract${type.abbrevName}Expression$typeParams extends Ab
      */
     @Override
     public final boolean removeChangeListener(${type.abbrevName}ChangeListener$typeParams listener) {
-        return this.changeListeners.remove(listener);
+        return Listeners.remove(CHANGE_LISTENERS, this, listener);
     }
 
     /**
@@ -105,7 +115,7 @@ public abstract class Abstract${type.abbrevName}Expression$typeParams extends Ab
      */
     @Override
     public final boolean removeBoxedChangeListener(ChangeListener<${type.box}> listener) {
-        return this.changeListeners.removeIf(it -> it instanceof Wrapping${type.abbrevName}ChangeListener && ((Wrapping${type.abbrevName}ChangeListener$typeParams) it).isWrapping(listener));
+        return Listeners.removeIf(CHANGE_LISTENERS, this, it -> it instanceof Wrapping${type.abbrevName}ChangeListener${if (type === Type.OBJECT) "<?>" else ""} wrapper && wrapper.isWrapping(listener));
     }
 
     /**
@@ -115,6 +125,9 @@ public abstract class Abstract${type.abbrevName}Expression$typeParams extends Ab
      */
     @Override${if (type === Type.OBJECT) "\n    @Nullable" else ""}
     public ${type.raw} get() {
+        DependencyTracker.record(this);
+        this.recordSnapshotRead();
+
         return this.getImpl();
     }
 
@@ -130,17 +143,34 @@ public abstract class Abstract${type.abbrevName}Expression$typeParams extends Ab
 
     @Override
     void doInvalidate() {
-        if (this.updateValue(this.recomputeValue(), false)) this.notifyInvalidationListeners();
+        if (this.updateValue(this.doRecomputeValue(), false)) this.notifyInvalidationListeners();
     }
 ${if (type === Type.OBJECT) "\n    @Nullable" else ""}
     protected abstract ${type.raw} recomputeValue();
 
+    /* Recomputes the value of this expression, measuring the recomputation if a metrics sink is installed. */${if (type === Type.OBJECT) "\n    @Nullable" else ""}
+    final ${type.raw} doRecomputeValue() {
+        MetricsSink sink = Metrics.sink();
+        if (sink == null) return this.recomputeValue();
+
+        long start = System.nanoTime();
+
+        try {
+            return this.recomputeValue();
+        } finally {
+            sink.recordRecomputation(this, System.nanoTime() - start);
+        }
+    }
+
     final boolean updateValue(${if (type === Type.OBJECT) "@Nullable " else ""}${type.raw} value, boolean notifyListeners) {
         var prev = this.getImpl();
         var changed = prev != value;
 
         if (changed) {
+            this.beginWrite();
             this.setImpl(value);
+            this.endWrite();
+
             notifyListeners = true;
         }
 
@@ -148,14 +178,25 @@ ${if (type === Type.OBJECT) "\n    @Nullable" else ""}
             if (this.onChangedInternal(prev, value) && !changed) return false;
             this.onChanged(prev, value);
 
-            for (var listener : this.changeListeners) {
-                if (listener.isInvalid()) {
-                    this.changeListeners.remove(listener);
-                    continue;
+            var listeners = this.changeListeners;
+            int size = Listeners.size(listeners);
+
+            if (size != 0) {
+                MetricsSink sink = Metrics.sink();
+                long start = (sink != null) ? System.nanoTime() : 0L;
+
+                for (int i = 0; i < size; i++) {
+                    ${type.abbrevName}ChangeListener$typeParams listener = Listeners.get(listeners, i);
+
+                    if (listener.isInvalid()) {
+                        Listeners.remove(CHANGE_LISTENERS, this, listener);
+                        continue;
+                    }
+
+                    listener.onChanged(this, prev, this.getImpl());
                 }
 
-                listener.onChanged(this, prev, this.getImpl());
-                if (listener.isInvalid()) this.changeListeners.remove(listener);
+                if (sink != null) sink.recordChangeDispatch(this, size, System.nanoTime() - start);
             }
         }
 
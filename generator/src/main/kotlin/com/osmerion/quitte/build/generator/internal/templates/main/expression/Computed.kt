@@ -0,0 +1,122 @@
+/*
+ * Copyright (c) 2018-2023 Leon Linhart,
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.osmerion.quitte.build.generator.internal.templates.main.expression
+
+import com.osmerion.quitte.build.generator.internal.Template
+import com.osmerion.quitte.build.generator.internal.TemplateProvider
+import com.osmerion.quitte.build.generator.internal.Type
+
+object Computed : TemplateProvider {
+
+    override fun provideTemplates(): List<Template> = listOf(Template(PACKAGE_NAME, "Computed") {
+        """
+package $PACKAGE_NAME;
+
+import javax.annotation.Nullable;
+
+import com.osmerion.quitte.functional.*;
+import com.osmerion.quitte.internal.DependencyTracker;
+
+/**
+ * Factories for simple expressions that discover their dependencies automatically.
+ *
+ * <p>The value of a computed expression is computed by a supplier. Every property and expression that is read while
+ * the supplier is running becomes a dependency of the computed expression. After each computation, the expression
+ * stops listening to observables that were not read anymore and starts listening to observables that were read for
+ * the first time. Thus, a computed expression only depends on the observables that contributed to its current value.
+ * </p>
+ *
+ * <pre>{@code
+ * SimpleIntExpression total = Computed.ofInt(() -> useDiscount.get() ? discounted.get() : price.get());
+ * }</pre>
+ *
+ * <p>Reads are tracked for the properties and expressions provided by this library. Reads of other observables, such
+ * as custom {@link com.osmerion.quitte.value.ObservableValue} implementations and observable collections, are not
+ * tracked. Reads are only tracked on the thread that computes the value.</p>
+ *
+ * @since   0.9.0
+ *
+ * @author  Leon Linhart
+ */
+public final class Computed {
+
+    @Deprecated
+    private Computed() { throw new UnsupportedOperationException(); }
+${Type.values().joinToString(separator = "") { type ->
+            val typeParams = if (type === Type.OBJECT) "<T>" else ""
+
+            """
+    /**
+     * Returns a new simple expression that evaluates to the value computed by the given supplier.
+     *${if (type === Type.OBJECT) "\n     * @param <T>       the type of the value" else ""}
+     * @param supplier  the supplier that computes the value of the expression
+     *
+     * @return  a new simple expression that evaluates to the value computed by the given supplier
+     *
+     * @since   0.9.0
+     */
+    public static ${if (type === Type.OBJECT) "<T> " else ""}Simple${type.abbrevName}Expression$typeParams of${type.abbrevName}(${type.abbrevName}Supplier$typeParams supplier) {
+        return new Computed${type.abbrevName}Expression${if (type === Type.OBJECT) "<>" else ""}(supplier);
+    }
+"""
+        }}${Type.values().joinToString(separator = "") { type ->
+            val typeParams = if (type === Type.OBJECT) "<T>" else ""
+
+            """
+    private static final class Computed${type.abbrevName}Expression$typeParams extends Simple${type.abbrevName}Expression$typeParams {
+
+        private final ${type.abbrevName}Supplier$typeParams supplier;
+        private final transient DynamicDependencies dependencies = new DynamicDependencies(this);
+
+        private Computed${type.abbrevName}Expression(${type.abbrevName}Supplier$typeParams supplier) {
+            this.supplier = supplier;
+            this.invalidate();
+        }
+
+        @Override${if (type === Type.OBJECT) "\n        @Nullable" else ""}
+        protected ${type.raw} recomputeValue() {
+            DependencyTracker.Scope scope = DependencyTracker.open();
+
+            try {
+                return this.supplier.get();
+            } finally {
+                this.dependencies.update(scope);
+            }
+        }
+
+    }
+"""
+        }}
+}
+        """
+    })
+
+}
@@ -50,6 +50,7 @@ import javax.annotation.Nullable;
 
 import com.osmerion.quitte.*;
 import com.osmerion.quitte.functional.*;
+import com.osmerion.quitte.internal.DependencyTracker;
 import com.osmerion.quitte.internal.binding.*;
 import com.osmerion.quitte.property.*;
 import com.osmerion.quitte.value.*;
@@ -88,9 +89,9 @@ ${Type.values().joinToString(separator = "") { sourceType ->
      * @since   0.1.0
      */
     public static $transformTypeParams${if (transformTypeParams.isNotEmpty()) " " else ""}Lazy${type.abbrevName}Expression$typeParams of(Observable${sourceType.abbrevName}Value$sourceTypeParams observable, ${sourceType.abbrevName}To${type.abbrevName}Function$transformTypeParams transform) {
-        return new Transform${if (type === Type.OBJECT) "<>" else ""}(ex -> new ${sourceType.abbrevName}To${type.abbrevName}Binding${if (sourceType === Type.OBJECT || type === Type.OBJECT) "<>" else ""}(ex::doInvalidate, observable, transform));
+        return new Transform${if (type === Type.OBJECT) "<>" else ""}(observable, ex -> new ${sourceType.abbrevName}To${type.abbrevName}Binding${if (sourceType === Type.OBJECT || type === Type.OBJECT) "<>" else ""}(() -> ex.scheduleInvalidation(observable), observable, transform));
     }
-"""}}
+"""}}${selectFactories("Lazy", type)}
     /**
      * Returns a new lazy expression which aliases a child property of an observable.
      *
@@ -105,47 +106,19 @@ ${Type.values().joinToString(separator = "") { sourceType ->
      * @since   0.1.0
      */
     public static <${if (type === Type.OBJECT) "S, T" else "S"}> Lazy${type.abbrevName}Expression$typeParams ofNested(ObservableObjectValue<S> observable, Function<S, Observable${type.abbrevName}Value$typeParams> selector) {
-        return new Lazy${type.abbrevName}Expression${if (type === Type.OBJECT) "<>" else ""}() {
-
-            final InvalidationListener nestedPropertyListener = ignored -> this.doInvalidate();
-
-            {
-                observable.addInvalidationListener(ignored -> this.doInvalidate());
-
-                ObjectChangeListener<S> parentChangeListener = (ignored, oldValue, newValue) -> {
-                    if (oldValue != null) {
-                        var nestedProperty = selector.apply(oldValue);
-                        nestedProperty.removeInvalidationListener(this.nestedPropertyListener);
-                    }
-
-                    var nestedProperty = selector.apply(Objects.requireNonNull(newValue));
-                    nestedProperty.addInvalidationListener(this.nestedPropertyListener);
-                };
-                observable.addChangeListener(parentChangeListener);
-                parentChangeListener.onChanged(observable, null, observable.get());
-            }
-${if (type === Type.OBJECT) "\n            @Nullable" else ""}
-            @Override
-            protected ${type.raw} recomputeValue() {
-                var parent = observable.get();
-                return selector.apply(Objects.requireNonNull(parent)).get();
-            }
-
-        };
+        return new Transform${if (type === Type.OBJECT) "<>" else ""}(observable, ex -> new ${type.abbrevName}Binding.Selection${if (type === Type.OBJECT) "<>" else ""}(ex::scheduleInvalidation, observable, true, selector));
     }
 
-    private final SimpleObjectProperty<State> state = new SimpleObjectProperty<>(State.UNINITIALIZED) {
-
-        @Override
-        public void onChanged(@Nullable State prevValue, @Nullable State value) {
-            //noinspection ConstantConditions
-            if (!value.isValid()) Lazy${type.abbrevName}Expression.this.notifyInvalidationListeners();
-        }
+    private static final State[] STATES = State.values();
 
-    };
+    /*
+     * The state is stored as the ordinal of the respective State constant. An observable view is only created once it
+     * is requested and kept in sync from then on.
+     */
+    private transient byte state = (byte) State.UNINITIALIZED.ordinal();
 
     @Nullable
-    private ${type.abbrevName}Supplier$typeParams provider = this::recomputeValue;
+    private transient SimpleObjectProperty<State> stateProperty;
 ${if (type === Type.OBJECT) "\n    @Nullable" else ""}
     private ${type.raw} value;
 
@@ -154,12 +127,19 @@ ${if (type === Type.OBJECT) "\n    @Nullable" else ""}
      *
      * @return  a read-only view of this expression's state
      *
-     * @implNote    The view is not cached since calling this method is expected to be a rare operation.
+     * @implNote    The backing property is only created once this method is called for the first time.
      *
      * @since   0.1.0
      */
     public final ReadableObjectProperty<State> stateProperty() {
-        return this.state.asReadOnlyProperty();
+        SimpleObjectProperty<State> stateProperty = this.stateProperty;
+
+        if (stateProperty == null) {
+            stateProperty = new SimpleObjectProperty<>(this.getState());
+            this.stateProperty = stateProperty;
+        }
+
+        return stateProperty.asReadOnlyProperty();
     }
 
     /**
@@ -170,8 +150,7 @@ ${if (type === Type.OBJECT) "\n    @Nullable" else ""}
      * @since   0.1.0
      */
     public final State getState() {
-        //noinspection ConstantConditions
-        return this.state.get();
+        return STATES[this.state];
     }
 
     /**
@@ -181,14 +160,16 @@ ${if (type === Type.OBJECT) "\n    @Nullable" else ""}
      */
     @Override${if (type === Type.OBJECT) "\n    @Nullable" else ""}
     public final ${type.raw} get() {
-        //noinspection ConstantConditions
-        if (!this.state.get().isValid()) { 
-            var provider = Objects.requireNonNull(this.provider);
-            this.updateValue(provider.get(), !this.state.get().isValid());
+        DependencyTracker.record(this);
 
-            this.provider = null;
+        if (!this.isValid()) {
+            /* The recomputation's reads are dependencies of this expression, not of the enclosing scope. */
+            try (DependencyTracker.Scope ignored = DependencyTracker.suspend()) {
+                this.updateValue(this.doRecomputeValue(), !this.isValid());
+            }
         }
 
+        this.recordSnapshotRead();
         return this.value;
     }
 
@@ -204,29 +185,41 @@ ${if (type === Type.OBJECT) "\n    @Nullable" else ""}
 
     @Override
     final void doInvalidate() {
-        this.provider = this::recomputeValue;
-
-        //noinspection ConstantConditions
-        if (this.state.get().isValid()) this.state.set(State.INVALID);
+        if (this.isValid()) this.setState(State.INVALID);
     }
 
     @Override
     final boolean onChangedInternal(${if (type === Type.OBJECT) "@Nullable " else ""}${type.raw} oldValue, ${if (type === Type.OBJECT) "@Nullable " else ""}${type.raw} newValue) {
-        if (this.state.get() != State.UNINITIALIZED) {
-            this.state.set(State.VALID);
+        if (this.state != State.UNINITIALIZED.ordinal()) {
+            this.setState(State.VALID);
             return true;
         } else {
-            this.state.set(State.INITIALIZED);
+            this.setState(State.INITIALIZED);
             return false;
         }
     }
 
+    private boolean isValid() {
+        return STATES[this.state].isValid();
+    }
+
+    private void setState(State state) {
+        if (this.state == state.ordinal()) return;
+        this.state = (byte) state.ordinal();
+
+        if (!state.isValid()) this.notifyInvalidationListeners();
+
+        SimpleObjectProperty<State> stateProperty = this.stateProperty;
+        if (stateProperty != null) stateProperty.set(state);
+    }
+
     /** A simple expression transforming a single value using the internal binding API. */
     private static final class Transform$typeParams extends Lazy${type.abbrevName}Expression$typeParams {
 
         private final transient ${type.abbrevName}Binding$typeParams binding;
 
-        private Transform(Function<Lazy${type.abbrevName}Expression$typeParams, ${type.abbrevName}Binding$typeParams> factory) {
+        private Transform(Observable source, Function<Lazy${type.abbrevName}Expression$typeParams, ${type.abbrevName}Binding$typeParams> factory) {
+            this.rankAfter(source);
             this.binding = factory.apply(this);
         }
 
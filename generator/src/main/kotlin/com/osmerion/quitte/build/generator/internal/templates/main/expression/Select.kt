@@ -0,0 +1,76 @@
+/*
+ * Copyright (c) 2018-2023 Leon Linhart,
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.osmerion.quitte.build.generator.internal.templates.main.expression
+
+import com.osmerion.quitte.build.generator.internal.Type
+
+private val SELECT_DEPTHS = 1..4
+private val SELECT_TYPE_PARAMS = listOf("A", "B", "C", "D")
+private val SELECT_PARAMS = listOf("first", "second", "third", "fourth")
+
+/**
+ * Generates the `select` factories of the expression of the given kind (for example "Simple") and type.
+ */
+internal fun selectFactories(kind: String, type: Type): String = SELECT_DEPTHS.joinToString(separator = "") { depth ->
+    val typeParams = if (type === Type.OBJECT) "<T>" else ""
+    val valueTypeParams = SELECT_TYPE_PARAMS.take(depth)
+    val methodTypeParams = (valueTypeParams + (if (type === Type.OBJECT) listOf("T") else emptyList())).joinToString(separator = ", ", prefix = "<", postfix = ">")
+    val params = SELECT_PARAMS.take(depth)
+    val kindName = kind.lowercase()
+
+    val selectorParams = params.mapIndexed { index, param ->
+        val target = if (index == depth - 1) "Observable${type.abbrevName}Value$typeParams" else "ObservableObjectValue<${valueTypeParams[index + 1]}>"
+        "Function<? super ${valueTypeParams[index]}, ? extends $target> $param"
+    }
+
+    """
+    /**
+     * Returns a new $kindName expression which follows a path of nested observables starting at the given root.
+     *
+     * <p>Each selector is applied to the value of the previous observable in the path to obtain the next observable.
+     * The expression evaluates to the value of the last observable in the path, or to
+     * {@code ${when (type) { Type.BOOL -> "false"; Type.OBJECT -> "null"; else -> "0" }}} if any value along the path is {@code null}.</p>
+     *
+     * <p>Every observable in the path and its value are cached. When an observable in the path is invalidated, only
+     * the part of the path below it is walked again, and selectors are only applied to values that have changed. The
+     * observables in the path only reference the expression weakly.</p>
+     *
+${valueTypeParams.mapIndexed { index, param -> "     * @param <$param>       the type of the value of the ${if (index == 0) "root" else "${SELECT_PARAMS[index - 1]} selected"} observable\n" }.joinToString(separator = "")}${if (type === Type.OBJECT) "     * @param <T>       the type of the value of the expression\n" else ""}     * @param root      the root observable
+${params.mapIndexed { index, param -> "     * @param $param${" ".repeat(10 - param.length)}the ${if (index == depth - 1) "selector for the observable that provides the value" else "$param selector"}\n" }.joinToString(separator = "")}     *
+     * @return  a new $kindName expression which follows a path of nested observables starting at the given root
+     *
+     * @since   0.9.0
+     */
+    public static $methodTypeParams $kind${type.abbrevName}Expression$typeParams select(ObservableObjectValue<A> root, ${selectorParams.joinToString(separator = ", ")}) {
+        return new Transform${if (type === Type.OBJECT) "<>" else ""}(root, ex -> new ${type.abbrevName}Binding.Selection${if (type === Type.OBJECT) "<>" else ""}(ex::scheduleInvalidation, root, false, ${params.joinToString(separator = ", ")}));
+    }
+"""
+}
@@ -30,12 +30,134 @@
  */
 package com.osmerion.quitte.build.generator.internal.templates.main.expression
 
+import com.osmerion.quitte.build.generator.internal.Combinator
 import com.osmerion.quitte.build.generator.internal.Template
 import com.osmerion.quitte.build.generator.internal.TemplateProvider
 import com.osmerion.quitte.build.generator.internal.Type
 
+private val AGGREGATE_TYPES = listOf(Type.INT, Type.LONG, Type.DOUBLE)
+private val COMBINE_TYPE_PARAMS = listOf("A", "B", "C", "D")
+
 object SimpleExpression : TemplateProvider {
 
+    private class Aggregate(
+        val name: String,
+        val description: String,
+        val functionParam: String,
+        val functionDoc: String,
+        val binding: String,
+        val extraParam: String? = null,
+        val extraDoc: String? = null,
+        val extraArgs: String = "",
+        val note: String? = null
+    )
+
+    private fun aggregatesOf(type: Type): List<Aggregate> {
+        val sum = Aggregate(
+            name = "sumOf",
+            description = "the sum of the values of the elements",
+            functionParam = "ObjectTo${type.abbrevName}Function<? super E> function",
+            functionDoc = "the function that computes the value for an element",
+            binding = "${type.abbrevName}Sum",
+            note = if (type === Type.DOUBLE) "The sum is computed using compensated summation." else "The sum overflows silently."
+        )
+
+        fun extremum(max: Boolean) = Aggregate(
+            name = if (max) "maxOf" else "minOf",
+            description = "the ${if (max) "greatest" else "smallest"} value of the elements",
+            functionParam = "ObjectTo${type.abbrevName}Function<? super E> function",
+            functionDoc = "the function that computes the value for an element",
+            binding = "${type.abbrevName}Extremum",
+            extraParam = "${type.raw} defaultValue",
+            extraDoc = "the value of the expression if the %s is empty",
+            extraArgs = ", $max, defaultValue",
+            note = if (type === Type.DOUBLE) "Values are compared as if by {@link Double#compare(double, double)}." else null
+        )
+
+        return when (type) {
+            Type.INT -> listOf(
+                sum,
+                Aggregate(
+                    name = "countOf",
+                    description = "the number of matching elements",
+                    functionParam = "ObjectToBoolFunction<? super E> predicate",
+                    functionDoc = "the predicate to test the elements against",
+                    binding = "Count"
+                ),
+                extremum(max = false),
+                extremum(max = true)
+            )
+            Type.LONG -> listOf(sum, extremum(max = false), extremum(max = true))
+            Type.DOUBLE -> listOf(
+                sum,
+                Aggregate(
+                    name = "averageOf",
+                    description = "the average value of the elements",
+                    functionParam = "ObjectToDoubleFunction<? super E> function",
+                    functionDoc = "the function that computes the value for an element",
+                    binding = "Average",
+                    note = "The expression evaluates to {@link Double#NaN} if the %s is empty."
+                ),
+                extremum(max = false),
+                extremum(max = true)
+            )
+            else -> emptyList()
+        }
+    }
+
+    private fun combineFactories(type: Type): String = Combinator.values().filter { it.targetType === type }.joinToString(separator = "") { combinator ->
+        val sourceType = combinator.sourceType
+        val typeParams = if (type === Type.OBJECT) "<T>" else ""
+        val methodTypeParams = combinator.typeParams(COMBINE_TYPE_PARAMS, "T")
+        val sourceTypeParams = combinator.params.indices.map { index -> if (sourceType === Type.OBJECT) "<${COMBINE_TYPE_PARAMS[index]}>" else "" }
+
+        """
+    /**
+     * Returns a new simple expression which combines the values of the given observables using the given function.
+     *
+     * <p>The expression depends directly on each of the given observables. Unlike dependencies that are added using
+     * {@link #addDependency(Observable)}, these dependencies are tracked without any additional bookkeeping.</p>
+     *${combinator.sourceTypeParams(COMBINE_TYPE_PARAMS).mapIndexed { index, param -> "\n     * @param <$param>           the type of the ${combinator.ordinal(index)} value" }.joinToString(separator = "")}${if (type === Type.OBJECT) "\n     * @param <T>           the type of the target value" else ""}
+${combinator.params.mapIndexed { index, param -> "     * @param $param             the ${combinator.ordinal(index)} observable\n" }.joinToString(separator = "")}     * @param transform     the function that combines the values
+     *
+     * @return  a new simple expression which combines the values of the given observables
+     *
+     * @since   0.9.0
+     */
+    public static $methodTypeParams${if (methodTypeParams.isNotEmpty()) " " else ""}Simple${type.abbrevName}Expression$typeParams combine(${combinator.params.mapIndexed { index, param -> "Observable${sourceType.abbrevName}Value${sourceTypeParams[index]} $param" }.joinToString(separator = ", ")}, ${combinator.name}Function$methodTypeParams transform) {
+        return new Transform${if (type === Type.OBJECT) "<>" else ""}(new Observable[] { ${combinator.params.joinToString(separator = ", ")} }, ex -> new ${combinator.name}Binding${if (methodTypeParams.isNotEmpty()) "<>" else ""}(ex::scheduleInvalidation, ${combinator.params.joinToString(separator = ", ")}, transform));
+    }
+"""
+    }
+
+    private fun aggregateFactories(type: Type): String = aggregatesOf(type).joinToString(separator = "") { aggregate ->
+        listOf("list" to "ObservableList", "set" to "ObservableSet").joinToString(separator = "") { (param, collectionType) ->
+            val functionParamName = aggregate.functionParam.substringAfterLast(' ')
+            val extraParamName = aggregate.extraParam?.substringAfterLast(' ')
+
+            """
+    /**
+     * Returns a new simple expression that evaluates to ${aggregate.description} of the given $param.
+     *
+     * <p>The value of the expression is updated incrementally from the changes to the $param. The ${if (functionParamName == "predicate") "predicate" else "function"} is only
+     * applied to elements that are added to or removed from the $param. Thus, it must return the same result for an
+     * element as long as the element is contained in the $param.</p>${aggregate.note?.let { "\n     *\n     * <p>${it.format(param)}</p>" } ?: ""}
+     *
+     * @param <E>           the type of the elements
+     * @param $param${" ".repeat(14 - param.length)}the $param
+     * @param $functionParamName${" ".repeat(maxOf(1, 14 - functionParamName.length))}${aggregate.functionDoc}${if (extraParamName != null) "\n     * @param $extraParamName${" ".repeat(maxOf(1, 14 - extraParamName.length))}${aggregate.extraDoc!!.format(param)}" else ""}
+     *
+     * @return  a new simple expression that evaluates to ${aggregate.description} of the given $param
+     *
+     * @since   0.9.0
+     */
+    public static <E> Simple${type.abbrevName}Expression ${aggregate.name}($collectionType<E> $param, ${aggregate.functionParam}${aggregate.extraParam?.let { ", $it" } ?: ""}) {
+        return new Transform($param, ex -> new AggregateBinding.${aggregate.binding}<>(() -> ex.scheduleInvalidation($param), $param, $functionParamName${aggregate.extraArgs}));
+    }
+"""
+        }
+    }
+
     override fun provideTemplates(): List<Template> = Type.values().map { type ->
         val typeParams = if (type === Type.OBJECT) "<T>" else ""
 
@@ -46,7 +168,7 @@ package $PACKAGE_NAME;
 import java.util.Objects;
 import java.util.function.Function;
 ${if (type === Type.OBJECT) "\nimport javax.annotation.Nullable;\n" else ""}
-import com.osmerion.quitte.*;
+import com.osmerion.quitte.*;${if (type in AGGREGATE_TYPES) "\nimport com.osmerion.quitte.collections.*;" else ""}
 import com.osmerion.quitte.functional.*;
 import com.osmerion.quitte.internal.binding.*;
 import com.osmerion.quitte.value.*;
@@ -85,9 +207,9 @@ ${Type.values().joinToString(separator = "") { sourceType ->
      * @since   0.1.0
      */
     public static $transformTypeParams${if (transformTypeParams.isNotEmpty()) " " else ""}Simple${type.abbrevName}Expression$typeParams of(Observable${sourceType.abbrevName}Value$sourceTypeParams observable, ${sourceType.abbrevName}To${type.abbrevName}Function$transformTypeParams transform) {
-        return new Transform${if (type === Type.OBJECT) "<>" else ""}(ex -> new ${sourceType.abbrevName}To${type.abbrevName}Binding${if (sourceType === Type.OBJECT || type === Type.OBJECT) "<>" else ""}(ex::doInvalidate, observable, transform));
+        return new Transform${if (type === Type.OBJECT) "<>" else ""}(observable, ex -> new ${sourceType.abbrevName}To${type.abbrevName}Binding${if (sourceType === Type.OBJECT || type === Type.OBJECT) "<>" else ""}(() -> ex.scheduleInvalidation(observable), observable, transform));
     }
-"""}}
+"""}}${combineFactories(type)}${aggregateFactories(type)}${selectFactories("Simple", type)}
     /**
      * Returns a new simple expression which aliases a child property of an observable.
      *
@@ -102,33 +224,7 @@ ${Type.values().joinToString(separator = "") { sourceType ->
      * @since   0.1.0
      */
     public static <${if (type === Type.OBJECT) "S, T" else "S"}> Simple${type.abbrevName}Expression$typeParams ofNested(ObservableObjectValue<S> observable, Function<S, Observable${type.abbrevName}Value$typeParams> selector) {
-        return new Simple${type.abbrevName}Expression${if (type === Type.OBJECT) "<>" else ""}() {
-
-            final InvalidationListener nestedPropertyListener = ignored -> this.doInvalidate();
-
-            {
-                observable.addInvalidationListener(ignored -> this.doInvalidate());
-
-                ObjectChangeListener<S> parentChangeListener = (ignored, oldValue, newValue) -> {
-                    if (oldValue != null) {
-                        var nestedProperty = selector.apply(oldValue);
-                        nestedProperty.removeInvalidationListener(this.nestedPropertyListener);
-                    }
-
-                    var nestedProperty = selector.apply(Objects.requireNonNull(newValue));
-                    nestedProperty.addInvalidationListener(this.nestedPropertyListener);
-                };
-                observable.addChangeListener(parentChangeListener);
-                parentChangeListener.onChanged(observable, null, observable.get());
-            }
-${if (type === Type.OBJECT) "\n            @Nullable" else ""}
-            @Override
-            protected ${type.raw} recomputeValue() {
-                var parent = observable.get();
-                return selector.apply(Objects.requireNonNull(parent)).get();
-            }
-
-        };
+        return new Transform${if (type === Type.OBJECT) "<>" else ""}(observable, ex -> new ${type.abbrevName}Binding.Selection${if (type === Type.OBJECT) "<>" else ""}(ex::scheduleInvalidation, observable, true, selector));
     }
 ${if (type === Type.OBJECT) """
     /**
@@ -145,35 +241,7 @@ ${if (type === Type.OBJECT) """
      * @since   0.1.0
      */
     public static <${if (type === Type.OBJECT) "S, T" else "S"}> Simple${type.abbrevName}Expression$typeParams ofNestedOrNull(ObservableObjectValue<S> observable, Function<S, Observable${type.abbrevName}Value$typeParams> selector) {
-        return new Simple${type.abbrevName}Expression${if (type === Type.OBJECT) "<>" else ""}() {
-
-            final InvalidationListener nestedPropertyListener = ignored -> this.doInvalidate();
-
-            {
-                observable.addInvalidationListener(ignored -> this.doInvalidate());
-
-                ObjectChangeListener<S> parentChangeListener = (ignored, oldValue, newValue) -> {
-                    if (oldValue != null) {
-                        var nestedProperty = selector.apply(oldValue);
-                        nestedProperty.removeInvalidationListener(this.nestedPropertyListener);
-                    }
-
-                    if (newValue != null) {
-                        var nestedProperty = selector.apply(newValue);
-                        nestedProperty.addInvalidationListener(this.nestedPropertyListener);
-                    }
-                };
-                observable.addChangeListener(parentChangeListener);
-                parentChangeListener.onChanged(observable, null, observable.get());
-            }
-${if (type === Type.OBJECT) "\n            @Nullable" else ""}
-            @Override
-            protected ${type.raw} recomputeValue() {
-                var parent = observable.get();
-                return (parent != null) ? selector.apply(parent).get() : null;
-            }
-
-        };
+        return new Transform${if (type === Type.OBJECT) "<>" else ""}(observable, ex -> new ${type.abbrevName}Binding.Selection${if (type === Type.OBJECT) "<>" else ""}(ex::scheduleInvalidation, observable, false, selector));
     }
 
     @Nullable""" else ""}
@@ -204,7 +272,14 @@ ${if (type === Type.OBJECT) "\n            @Nullable" else ""}
 
         private final transient ${type.abbrevName}Binding$typeParams binding;
 
-        private Transform(Function<Simple${type.abbrevName}Expression$typeParams, ${type.abbrevName}Binding$typeParams> factory) {
+        private Transform(Observable source, Function<Simple${type.abbrevName}Expression$typeParams, ${type.abbrevName}Binding$typeParams> factory) {
+            this.rankAfter(source);
+            this.binding = factory.apply(this);
+            this.invalidate();
+        }
+
+        private Transform(Observable[] sources, Function<Simple${type.abbrevName}Expression$typeParams, ${type.abbrevName}Binding$typeParams> factory) {
+            for (Observable source : sources) this.rankAfter(source);
             this.binding = factory.apply(this);
             this.invalidate();
         }
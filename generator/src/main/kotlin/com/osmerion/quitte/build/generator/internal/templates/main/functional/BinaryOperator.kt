@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) 2018-2023 Leon Linhart,
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.osmerion.quitte.build.generator.internal.templates.main.functional
+
+import com.osmerion.quitte.build.generator.internal.Template
+import com.osmerion.quitte.build.generator.internal.TemplateProvider
+import com.osmerion.quitte.build.generator.internal.Type
+
+object BinaryOperator : TemplateProvider {
+
+    override fun provideTemplates(): List<Template> = Type.values().map { type ->
+        val className = "${type.abbrevName}BinaryOperator"
+        val typeName = if (type === Type.OBJECT) "T" else type.raw
+        val typeParams = if (type === Type.OBJECT) "<T>" else ""
+        val valAnno = if (type === Type.OBJECT) "@Nullable " else ""
+
+        Template(PACKAGE_NAME, className) {
+            """
+package $PACKAGE_NAME;
+${if (type === Type.OBJECT) "\nimport javax.annotation.Nullable;\n" else ""}
+/**
+ * Represents an operation upon two operands of the same type, producing a result of the same type as the operands.
+ *${if (type === Type.OBJECT) """
+ * @param <T>   the type of the operands and result of the operator
+ *""" else ""}
+ * @see java.util.function.BinaryOperator
+ *
+ * @since   0.9.0
+ *
+ * @author  Leon Linhart
+ */
+@FunctionalInterface
+public interface $className$typeParams {
+
+    /**
+     * Applies this operator to the given operands.
+     *
+     * @param left  the first operand
+     * @param right the second operand
+     *
+     * @return  the operator result
+     *
+     * @since   0.9.0
+     */${if (type === Type.OBJECT) "\n    @Nullable" else ""}
+    $typeName apply($valAnno$typeName left, $valAnno$typeName right);
+
+}
+            """
+        }
+    }
+
+}
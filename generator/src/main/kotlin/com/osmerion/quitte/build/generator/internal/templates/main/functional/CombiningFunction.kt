@@ -0,0 +1,81 @@
+/*
+ * Copyright (c) 2018-2023 Leon Linhart,
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.osmerion.quitte.build.generator.internal.templates.main.functional
+
+import com.osmerion.quitte.build.generator.internal.Combinator
+import com.osmerion.quitte.build.generator.internal.Template
+import com.osmerion.quitte.build.generator.internal.TemplateProvider
+import com.osmerion.quitte.build.generator.internal.Type
+
+private val SOURCE_TYPE_PARAMS = listOf("T", "U", "V", "W")
+
+object CombiningFunction : TemplateProvider {
+
+    override fun provideTemplates(): List<Template> = Combinator.values().map { combinator ->
+        val className = "${combinator.name}Function"
+        val sourceType = combinator.sourceType
+        val targetType = combinator.targetType
+        val targetTypeName = if (targetType === Type.OBJECT) "R" else targetType.raw
+        val typeParams = combinator.typeParams(SOURCE_TYPE_PARAMS, "R")
+
+        Template(PACKAGE_NAME, className) {
+            """
+package $PACKAGE_NAME;
+${if (sourceType === Type.OBJECT || targetType === Type.OBJECT) "\nimport javax.annotation.Nullable;\n" else ""}
+/**
+ * Represents a function that accepts ${combinator.arityName} arguments and produces a result.
+ *${(combinator.sourceTypeParams(SOURCE_TYPE_PARAMS).mapIndexed { index, param -> "\n * @param <$param>   the type of the ${combinator.ordinal(index)} argument to the function" } +
+            (if (targetType === Type.OBJECT) listOf("\n * @param <R>   the type of the result of the function") else emptyList())).let { if (it.isEmpty()) "" else it.joinToString(separator = "") + "\n *" }}
+ * @see java.util.function.BiFunction
+ *
+ * @since   0.9.0
+ *
+ * @author  Leon Linhart
+ */
+@FunctionalInterface
+public interface $className$typeParams {
+
+    /**
+     * Applies this function to the given arguments.
+     *
+${combinator.params.mapIndexed { index, param -> "     * @param $param the ${combinator.ordinal(index)} function argument\n" }.joinToString(separator = "")}     *
+     * @return  the function result
+     *
+     * @since   0.9.0
+     */${if (targetType === Type.OBJECT) "\n    @Nullable" else ""}
+    $targetTypeName apply(${combinator.params.mapIndexed { index, param -> "${if (sourceType === Type.OBJECT) "@Nullable " else ""}${combinator.sourceTypeName(SOURCE_TYPE_PARAMS, index)} $param" }.joinToString(separator = ", ")});
+
+}
+            """
+        }
+    }
+
+}
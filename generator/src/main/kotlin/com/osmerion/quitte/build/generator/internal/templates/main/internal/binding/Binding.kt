@@ -42,7 +42,9 @@ object Binding : TemplateProvider {
         Template(PACKAGE_NAME, "${type.abbrevName}Binding") {
             """
 package $PACKAGE_NAME;
-${if (type === Type.OBJECT) "\nimport javax.annotation.Nullable;\n" else ""}
+
+import java.util.function.Function;${if (type === Type.OBJECT) "\n\nimport javax.annotation.Nullable;" else ""}
+
 import com.osmerion.quitte.*;
 import com.osmerion.quitte.functional.*;
 import com.osmerion.quitte.value.*;
@@ -85,6 +87,28 @@ ${if (type === Type.OBJECT) "\n    @Nullable" else ""}
 
     }
 
+    final class Selection$typeParams implements ${type.abbrevName}Binding$typeParams {
+
+        private final SelectionChain chain;
+
+        @SafeVarargs
+        public Selection(InvalidationListener invalidator, ObservableObjectValue<?> root, boolean strict, Function<?, ? extends Observable>... selectors) {
+            this.chain = new SelectionChain(invalidator, root, strict, selectors);
+        }
+
+        @Override${if (type === Type.OBJECT) "\n        @Nullable" else ""}
+        ${if (type === Type.OBJECT) "@SuppressWarnings(\"unchecked\")\n        " else ""}public ${type.raw} get() {
+            var leaf = (Observable${type.abbrevName}Value$typeParams) this.chain.leaf();
+            return (leaf != null) ? leaf.get() : ${type.default};
+        }
+
+        @Override
+        public void release() {
+            this.chain.release();
+        }
+
+    }
+
 }
             """
         }
@@ -0,0 +1,92 @@
+/*
+ * Copyright (c) 2018-2023 Leon Linhart,
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.osmerion.quitte.build.generator.internal.templates.main.internal.binding
+
+import com.osmerion.quitte.build.generator.internal.Combinator
+import com.osmerion.quitte.build.generator.internal.Template
+import com.osmerion.quitte.build.generator.internal.TemplateProvider
+import com.osmerion.quitte.build.generator.internal.Type
+
+private val SOURCE_TYPE_PARAMS = listOf("T", "U", "V", "W")
+
+object CombiningBinding : TemplateProvider {
+
+    override fun provideTemplates(): List<Template> = Combinator.values().map { combinator ->
+        val className = "${combinator.name}Binding"
+        val sourceType = combinator.sourceType
+        val targetType = combinator.targetType
+        val targetTypeParams = if (targetType === Type.OBJECT) "<R>" else ""
+        val typeParams = combinator.typeParams(SOURCE_TYPE_PARAMS, "R")
+        val sourceTypeParams = combinator.params.indices.map { index -> if (sourceType === Type.OBJECT) "<${SOURCE_TYPE_PARAMS[index]}>" else "" }
+
+        Template(PACKAGE_NAME, className) {
+            """
+package $PACKAGE_NAME;
+
+import com.osmerion.quitte.*;
+import com.osmerion.quitte.functional.*;
+import com.osmerion.quitte.value.*;
+
+/**
+ * A specialized binding implementation that combines ${combinator.arityName} values.
+ *
+ * <p>A single listener is shared between all sources.</p>
+ *
+ * @author  Leon Linhart
+ */
+public final class $className$typeParams implements ${targetType.abbrevName}Binding$targetTypeParams {
+
+${combinator.params.mapIndexed { index, param -> "    private final Observable${sourceType.abbrevName}Value${sourceTypeParams[index]} $param;\n" }.joinToString(separator = "")}    private final InvalidationListener listener;
+    private final WeakInvalidationListener weakListener;
+    private final ${combinator.name}Function$typeParams transform;
+
+    public $className(InvalidationListener invalidator, ${combinator.params.mapIndexed { index, param -> "Observable${sourceType.abbrevName}Value${sourceTypeParams[index]} $param" }.joinToString(separator = ", ")}, ${combinator.name}Function$typeParams transform) {
+${combinator.params.joinToString(separator = "") { param -> "        this.$param = $param;\n" }}        this.transform = transform;
+
+        this.listener = invalidator;
+        this.weakListener = new WeakInvalidationListener(invalidator);
+${combinator.params.joinToString(separator = "") { param -> "        this.$param.addInvalidationListener(this.weakListener);\n" }}    }
+
+    @Override
+    public ${if (targetType === Type.OBJECT) "R" else targetType.raw} get() {
+        return this.transform.apply(${combinator.params.joinToString(separator = ", ") { param -> "this.$param.get()" }});
+    }
+
+    @Override
+    public void release() {
+${combinator.params.joinToString(separator = "") { param -> "        this.$param.removeInvalidationListener(this.weakListener);\n" }}    }
+
+}
+            """
+        }
+    }
+
+}
@@ -43,7 +43,10 @@ object WrappingChangeListener : TemplateProvider {
         Template(PACKAGE_NAME, "Wrapping${type.abbrevName}ChangeListener") {
             """
 package $PACKAGE_NAME;
+
+import java.util.function.Consumer;
 ${if (type === Type.OBJECT) "\nimport javax.annotation.Nullable;\n" else ""}
+import com.osmerion.quitte.internal.ListenerReaper;
 import com.osmerion.quitte.value.*;
 import com.osmerion.quitte.value.change.*;
 
@@ -58,7 +61,7 @@ import com.osmerion.quitte.value.change.*;
  *
  * @author  Leon Linhart
  */
-public final class Wrapping${type.abbrevName}ChangeListener$typeParams implements ${type.abbrevName}ChangeListener$typeParams {
+public final class Wrapping${type.abbrevName}ChangeListener$typeParams implements ${type.abbrevName}ChangeListener$typeParams, ListenerReaper.Reapable {
 
     private final ChangeListener<${type.box}> listener;
 
@@ -76,6 +79,11 @@ public final class Wrapping${type.abbrevName}ChangeListener$typeParams implement
         return this.listener.isInvalid();
     }
 
+    @Override
+    public <O> void reapFrom(O owner, Consumer<? super O> action) {
+        if (this.listener instanceof ListenerReaper.Reapable reapable) reapable.reapFrom(owner, action);
+    }
+
     /**
      * Returns whether this wrapper is wrapping the given listener.
      *
@@ -83,8 +91,8 @@ public final class Wrapping${type.abbrevName}ChangeListener$typeParams implement
      *
      * @return  whether this wrapper is wrappping the given listener
      */
-    public boolean isWrapping(ChangeListener<${type.box}> listener) {
-        return this.listener == listener;
+    public boolean isWrapping(ChangeListener<?> listener) {
+        return this.listener.equals(listener);
     }
 
 }
@@ -43,6 +43,7 @@ object SimpleProperty : TemplateProvider {
             """
 package $PACKAGE_NAME;
 ${if (type === Type.OBJECT) "\nimport javax.annotation.Nullable;\n" else ""}
+import com.osmerion.quitte.internal.DependencyTracker;
 import com.osmerion.quitte.internal.addon.*;
 
 /**
@@ -79,6 +80,9 @@ ${if (type === Type.OBJECT) "\n    @Nullable" else ""}
      */
     @Override${if (type === Type.OBJECT) "\n    @Nullable" else ""}
     public final ${type.raw} get() {
+        DependencyTracker.record(this);
+        this.recordSnapshotRead();
+
         return this.getImpl();
     }
 
@@ -41,9 +41,15 @@ object ObservableValue : TemplateProvider {
 
         Template(PACKAGE_NAME, "Observable${type.abbrevName}Value") {
             """
-package $PACKAGE_NAME;${if (type === Type.OBJECT) "\n\nimport javax.annotation.Nullable;" else ""}
+package $PACKAGE_NAME;
 
+import java.time.Duration;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ScheduledExecutorService;${if (type === Type.OBJECT) "\n\nimport javax.annotation.Nullable;" else ""}
+
+import com.osmerion.quitte.internal.timing.*;
 import com.osmerion.quitte.internal.wrappers.*;
+import com.osmerion.quitte.property.*;
 import com.osmerion.quitte.value.change.*;
 
 import static java.util.Objects.*;
@@ -120,6 +126,28 @@ public interface Observable${type.abbrevName}Value$typeParams extends Observable
      */
     boolean addChangeListener(${type.abbrevName}ChangeListener$typeParams listener);
 
+    /**
+     * Attaches the given {@link ${type.abbrevName}ChangeListener} to this observable. The listener is notified asynchronously using the
+     * given {@link Executor}.
+     *
+     * <p>This is equivalent to attaching a new {@link Async${type.abbrevName}ChangeListener} that wraps the given listener.</p>
+     *
+     * @param listener  the listener to be attached to this observable value
+     * @param executor  the executor used to notify the listener
+     *
+     * @return  {@code true} if the listener was not previously attached to this observable using the given executor and
+     *          has been successfully attached, or {@code false} otherwise
+     *
+     * @throws NullPointerException if the given listener or executor is {@code null}
+     *
+     * @see #removeChangeListener(${type.abbrevName}ChangeListener, Executor)
+     *
+     * @since   0.9.0
+     */
+    default boolean addChangeListener(${type.abbrevName}ChangeListener$typeParams listener, Executor executor) {
+        return this.addChangeListener(new Async${type.abbrevName}ChangeListener${if (type === Type.OBJECT) "<>" else ""}(listener, executor));
+    }
+
     /**
      * {@inheritDoc}
      *
@@ -149,6 +177,99 @@ public interface Observable${type.abbrevName}Value$typeParams extends Observable
      */
     boolean removeChangeListener(${type.abbrevName}ChangeListener$typeParams listener);
 
+    /**
+     * Detaches the given {@link ${type.abbrevName}ChangeListener} that was attached using the given {@link Executor} from this
+     * observable.
+     *
+     * @param listener  the listener to be detached from this observable value
+     * @param executor  the executor that was used to attach the listener
+     *
+     * @return  {@code true} if the listener was attached to and has been detached from this observable, or
+     *          {@code false} otherwise
+     *
+     * @throws NullPointerException if the given listener or executor is {@code null}
+     *
+     * @see #addChangeListener(${type.abbrevName}ChangeListener, Executor)
+     *
+     * @since   0.9.0
+     */
+    default boolean removeChangeListener(${type.abbrevName}ChangeListener$typeParams listener, Executor executor) {
+        return this.removeChangeListener(new Async${type.abbrevName}ChangeListener${if (type === Type.OBJECT) "<>" else ""}(listener, executor));
+    }
+
+    /**
+     * Returns a read-only property that follows this value once it has settled.
+     *
+     * <p>The returned property is updated to the latest value of this observable once no further change has occurred
+     * for the given delay. Intermediate values are dropped. Updates are performed by tasks scheduled on the given
+     * executor, and listeners of the returned property are notified on the executor's threads.</p>
+     *
+     * <p>The returned property only references this observable weakly. It remains attached for as long as it is
+     * reachable.</p>
+     *
+     * @param delay     the duration for which this value must remain unchanged before it is emitted
+     * @param executor  the executor used to schedule updates
+     *
+     * @return  a debounced view of this value
+     *
+     * @throws IllegalArgumentException if the given delay is not positive
+     * @throws NullPointerException     if the given delay or executor is {@code null}
+     *
+     * @since   0.9.0
+     */
+    default Readable${type.abbrevName}Property$typeParams debounce(Duration delay, ScheduledExecutorService executor) {
+        return new Timed${type.abbrevName}Property${if (type === Type.OBJECT) "<>" else ""}(this, TimingMode.DEBOUNCE, delay, executor).asReadOnlyProperty();
+    }
+
+    /**
+     * Returns a read-only property that follows this value at most once per given interval.
+     *
+     * <p>A change that occurs while no interval is open is emitted immediately and opens a new interval. Changes that
+     * occur while an interval is open are held back, and the latest of them is emitted once the interval has passed.
+     * Updates are performed by tasks scheduled on the given executor, and listeners of the returned property may be
+     * notified on the executor's threads.</p>
+     *
+     * <p>The returned property only references this observable weakly. It remains attached for as long as it is
+     * reachable.</p>
+     *
+     * @param interval  the minimum duration between two updates of the returned property
+     * @param executor  the executor used to schedule updates
+     *
+     * @return  a throttled view of this value
+     *
+     * @throws IllegalArgumentException if the given interval is not positive
+     * @throws NullPointerException     if the given interval or executor is {@code null}
+     *
+     * @since   0.9.0
+     */
+    default Readable${type.abbrevName}Property$typeParams throttleLatest(Duration interval, ScheduledExecutorService executor) {
+        return new Timed${type.abbrevName}Property${if (type === Type.OBJECT) "<>" else ""}(this, TimingMode.THROTTLE_LATEST, interval, executor).asReadOnlyProperty();
+    }
+
+    /**
+     * Returns a read-only property that samples this value periodically.
+     *
+     * <p>Once this value changes, the returned property is updated to the latest value after the given period. No
+     * updates are scheduled while this value does not change. Updates are performed by tasks scheduled on the given
+     * executor, and listeners of the returned property are notified on the executor's threads.</p>
+     *
+     * <p>The returned property only references this observable weakly. It remains attached for as long as it is
+     * reachable.</p>
+     *
+     * @param period    the sampling period
+     * @param executor  the executor used to schedule updates
+     *
+     * @return  a sampled view of this value
+     *
+     * @throws IllegalArgumentException if the given period is not positive
+     * @throws NullPointerException     if the given period or executor is {@code null}
+     *
+     * @since   0.9.0
+     */
+    default Readable${type.abbrevName}Property$typeParams sample(Duration period, ScheduledExecutorService executor) {
+        return new Timed${type.abbrevName}Property${if (type === Type.OBJECT) "<>" else ""}(this, TimingMode.SAMPLE, period, executor).asReadOnlyProperty();
+    }
+
 }
             """
         }
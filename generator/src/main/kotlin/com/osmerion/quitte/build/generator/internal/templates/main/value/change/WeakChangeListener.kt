@@ -46,14 +46,17 @@ package $PACKAGE_NAME;
 
 import java.lang.ref.WeakReference;
 import java.util.Objects;
+import java.util.function.Consumer;
 ${if (type === Type.OBJECT) "\nimport javax.annotation.Nullable;\n" else ""}
+import com.osmerion.quitte.internal.ListenerReaper;
 import com.osmerion.quitte.value.*;
 
 /**
  * A {@code Weak${type.abbrevName}ChangeListener} may be used to wrap a listener that should only be referenced weakly
  * from an {@link ObservableValue}.
  *
- * <p>This listener does not keep a strong reference to the wrapped listener.</p>
+ * <p>This listener does not keep a strong reference to the wrapped listener. Once the wrapped listener has been
+ * garbage collected, this listener is proactively detached from the observables it is attached to.</p>
  * ${if (type === Type.OBJECT) "\n * @param <T>   the type of the observed value\n *" else ""}
  * @see WeakReference
  *
@@ -61,11 +64,9 @@ import com.osmerion.quitte.value.*;
  *
  * @author  Leon Linhart
  */
-public final class Weak${type.abbrevName}ChangeListener$typeParams implements ${type.abbrevName}ChangeListener$typeParams {
+public final class Weak${type.abbrevName}ChangeListener$typeParams implements ${type.abbrevName}ChangeListener$typeParams, ListenerReaper.Reapable {
 
-    private final WeakReference<${type.abbrevName}ChangeListener$typeParams> ref;
-
-    private boolean wasGarbageCollected;
+    private final ListenerReaper.ListenerReference<${type.abbrevName}ChangeListener$typeParams> ref;
 
     /**
      * Wraps the given {@link ${type.abbrevName}ChangeListener listener}.
@@ -77,8 +78,7 @@ public final class Weak${type.abbrevName}ChangeListener$typeParams implements ${
      * @since   0.1.0
      */
     public Weak${type.abbrevName}ChangeListener(${type.abbrevName}ChangeListener$typeParams listener) {
-        this.ref = new WeakReference<>(Objects.requireNonNull(listener));
-        this.wasGarbageCollected = false;
+        this.ref = new ListenerReaper.ListenerReference<>(Objects.requireNonNull(listener));
     }
 
     /**
@@ -90,11 +90,7 @@ public final class Weak${type.abbrevName}ChangeListener$typeParams implements ${
     public void onChanged(Observable${type.abbrevName}Value$typeParams observable, $valAnno${type.raw} oldValue, $valAnno${type.raw} newValue) {
         var listener = this.ref.get();
 
-        if (listener != null) {
-            listener.onChanged(observable, oldValue, newValue);
-        } else {
-            this.wasGarbageCollected = false;
-        }
+        if (listener != null) listener.onChanged(observable, oldValue, newValue);
     }
 
     /**
@@ -106,10 +102,16 @@ public final class Weak${type.abbrevName}ChangeListener$typeParams implements ${
      */
     @Override
     public boolean isInvalid() {
-        if (this.wasGarbageCollected) return true;
-
         var listener = this.ref.get();
-        return (listener != null && listener.isInvalid());
+        return (listener == null || listener.isInvalid());
+    }
+
+    /**
+     * @hidden
+     */
+    @Override
+    public <O> void reapFrom(O owner, Consumer<? super O> action) {
+        this.ref.reapFrom(owner, action);
     }
 
 }
@@ -0,0 +1,287 @@
+/*
+ * Copyright (c) 2018-2023 Leon Linhart,
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.osmerion.quitte.build.generator.internal.templates.test.collections
+
+import com.osmerion.quitte.build.generator.internal.Template
+import com.osmerion.quitte.build.generator.internal.TemplateProvider
+import com.osmerion.quitte.build.generator.internal.Type
+
+object ObservableList : TemplateProvider {
+
+    private fun Type.literal(value: Int): String = when (this) {
+        Type.BOOL -> (value % 2 == 1).toString()
+        Type.BYTE -> "(byte) $value"
+        Type.SHORT -> "(short) $value"
+        Type.LONG -> "${value}L"
+        Type.FLOAT -> "$value.0F"
+        Type.DOUBLE -> "$value.0D"
+        else -> "$value"
+    }
+
+    override fun provideTemplates(): List<Template> = Type.values().filter { it !== Type.OBJECT }.map { type ->
+        val className = "Observable${type.abbrevName}List"
+        val propertyName = "${type.abbrevName}ListProperty"
+        val listenerName = "${type.abbrevName}ListChangeListener"
+        val raw = type.raw
+
+        fun values(vararg values: Int) = values.joinToString(separator = ", ") { type.literal(it) }
+
+        /* Sorting [3, 1, 2] (or [true, false, false]) results in the permutation [2, 0, 1]. */
+        val unsorted = if (type === Type.BOOL) "true, false, false" else values(3, 1, 2)
+        val sorted = if (type === Type.BOOL) "false, false, true" else values(1, 2, 3)
+
+        Template(PACKAGE_NAME, "${className}GeneratedTest") {
+            """
+package $PACKAGE_NAME;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.osmerion.quitte.Quitte;
+import com.osmerion.quitte.property.$propertyName;
+import org.junit.jupiter.api.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Generated tests for {@link $className}.
+ *
+ * @author  Leon Linhart
+ */
+public final class ${className}GeneratedTest {
+
+    private static List<$listenerName.Change> trackChanges($className list) {
+        List<$listenerName.Change> changes = new ArrayList<>();
+        list.addChangeListener((observable, change) -> changes.add(change));
+
+        return changes;
+    }
+
+    private static $listenerName.Change update($listenerName.LocalChange... localChanges) {
+        return new $listenerName.Change.Update(List.of(localChanges));
+    }
+
+    @Test
+    public void testAdd() {
+        $propertyName list = new $propertyName();
+        var changes = trackChanges(list);
+
+        list.add(${type.literal(1)});
+        list.add(0, ${type.literal(2)});
+
+        assertArrayEquals(new $raw[] { ${values(2, 1)} }, list.toArray());
+        assertEquals(List.of(
+            update(new $listenerName.LocalChange.Insertion(0, new $raw[] { ${values(1)} }, 0, 1)),
+            update(new $listenerName.LocalChange.Insertion(0, new $raw[] { ${values(2)} }, 0, 1))
+        ), changes);
+    }
+
+    @Test
+    public void testAddAll() {
+        $propertyName list = new $propertyName(${values(1, 4)});
+        var changes = trackChanges(list);
+
+        assertFalse(list.addAll(1, new $raw[0]));
+        assertTrue(list.addAll(1, new $raw[] { ${values(0, 2, 3, 0)} }, 1, 2));
+
+        assertArrayEquals(new $raw[] { ${values(1, 2, 3, 4)} }, list.toArray());
+        assertEquals(List.of(update(new $listenerName.LocalChange.Insertion(1, new $raw[] { ${values(2, 3)} }, 0, 2))), changes);
+    }
+
+    @Test
+    public void testBatchedAppendsAreMerged() {
+        $propertyName list = new $propertyName();
+        var changes = trackChanges(list);
+
+        Quitte.batch(() -> {
+            for (int i = 0; i < 100; i++) list.add(${type.literal(1)});
+            list.add(${type.literal(2)});
+        });
+
+        assertEquals(101, list.size());
+        assertEquals(1, changes.size());
+
+        var localChanges = assertInstanceOf($listenerName.Change.Update.class, changes.get(0)).localChanges();
+        assertEquals(1, localChanges.size());
+
+        var insertion = assertInstanceOf($listenerName.LocalChange.Insertion.class, localChanges.get(0));
+        assertEquals(0, insertion.index());
+        assertEquals(101, insertion.length());
+        assertEquals(${type.literal(2)}, insertion.get(100));
+    }
+
+    @Test
+    public void testRemovalOfInsertedElementsIsNotReported() {
+        $propertyName list = new $propertyName(${values(1)});
+        var changes = trackChanges(list);
+
+        Quitte.batch(() -> {
+            list.add(${type.literal(2)});
+            list.removeAt(1);
+        });
+
+        assertTrue(changes.isEmpty());
+    }
+
+    @Test
+    public void testRemoveAt() {
+        $propertyName list = new $propertyName(${values(1, 2, 3)});
+        var changes = trackChanges(list);
+
+        assertEquals(${type.literal(2)}, list.removeAt(1));
+
+        assertArrayEquals(new $raw[] { ${values(1, 3)} }, list.toArray());
+        assertEquals(List.of(update(new $listenerName.LocalChange.Removal(1, new $raw[] { ${values(2)} }, 0, 1))), changes);
+    }
+
+    @Test
+    public void testRemoveRange() {
+        $propertyName list = new $propertyName(${values(1, 2, 3, 4)});
+        var changes = trackChanges(list);
+
+        list.removeRange(1, 3);
+
+        assertArrayEquals(new $raw[] { ${values(1, 4)} }, list.toArray());
+        assertEquals(List.of(update(new $listenerName.LocalChange.Removal(1, new $raw[] { ${values(2, 3)} }, 0, 2))), changes);
+
+        list.clear();
+        assertTrue(list.isEmpty());
+        assertEquals(2, changes.size());
+    }
+
+    @Test
+    public void testSet() {
+        $propertyName list = new $propertyName(${values(1, 2)});
+        var changes = trackChanges(list);
+
+        assertEquals(${type.literal(1)}, list.set(0, ${type.literal(2)}));
+
+        assertArrayEquals(new $raw[] { ${values(2, 2)} }, list.toArray());
+        assertEquals(List.of(update(new $listenerName.LocalChange.Update(0, new $raw[] { ${values(1)} }, new $raw[] { ${values(2)} }, 0, 1))), changes);
+    }
+
+    @Test
+    public void testSetAll() {
+        $propertyName list = new $propertyName(${values(1, 2)});
+        var changes = trackChanges(list);
+
+        assertFalse(list.setAll(new $raw[] { ${values(1, 2)} }));
+        assertTrue(changes.isEmpty());
+
+        assertTrue(list.setAll(new $raw[] { ${values(2, 3)} }));
+        assertArrayEquals(new $raw[] { ${values(2, 3)} }, list.toArray());
+        assertEquals(List.of(update(new $listenerName.LocalChange.Update(0, new $raw[] { ${values(1, 2)} }, new $raw[] { ${values(2, 3)} }, 0, 2))), changes);
+    }
+
+    @Test
+    public void testSort() {
+        $propertyName list = new $propertyName($unsorted);
+        var changes = trackChanges(list);
+
+        list.sort();
+
+        assertArrayEquals(new $raw[] { $sorted }, list.toArray());
+        assertEquals(List.of(new $listenerName.Change.Permutation(new int[] { 2, 0, 1 })), changes);
+
+        list.sort();
+        assertEquals(1, changes.size());
+    }
+
+    @Test
+    public void testSortInBatchWithOtherChanges() {
+        $propertyName list = new $propertyName($unsorted);
+        var changes = trackChanges(list);
+
+        Quitte.batch(() -> {
+            list.sort();
+            list.set(0, list.get(0));
+        });
+
+        assertEquals(List.of(update(new $listenerName.LocalChange.Update(0, new $raw[] { $unsorted }, new $raw[] { $sorted }, 0, 3))), changes);
+    }
+
+    @Test
+    public void testInvalidationListener() {
+        $propertyName list = new $propertyName();
+        List<Object> invalidations = new ArrayList<>();
+        list.addInvalidationListener(invalidations::add);
+
+        list.add(${type.literal(1)});
+        assertEquals(List.of(list), invalidations);
+    }
+
+    @Test
+    public void testBindTo() {
+        $propertyName source = new $propertyName($unsorted);
+        $propertyName property = new $propertyName();
+        property.bindTo(source);
+
+        assertTrue(property.isBound());
+        assertFalse(property.isWritable());
+        assertEquals(source, property);
+        assertThrows(IllegalStateException.class, () -> property.add(${type.literal(1)}));
+
+        source.add(1, ${type.literal(4)});
+        assertEquals(source, property);
+
+        source.sort();
+        assertEquals(source, property);
+
+        source.set(2, ${type.literal(5)});
+        source.removeRange(0, 2);
+        assertEquals(source, property);
+
+        property.unbind();
+        source.clear();
+        assertFalse(property.isEmpty());
+
+        property.add(${type.literal(1)});
+    }
+
+    @Test
+    public void testReadOnlyProperty() {
+        $propertyName property = new $propertyName(${values(1)});
+        var readOnly = property.asReadOnlyProperty();
+
+        assertSame(readOnly, readOnly.asReadOnlyProperty());
+        assertEquals(property, readOnly);
+        assertThrows(UnsupportedOperationException.class, () -> readOnly.add(${type.literal(2)}));
+
+        property.add(${type.literal(2)});
+        assertEquals(2, readOnly.size());
+    }
+
+}
+            """
+        }
+    }
+
+}
@@ -81,6 +81,36 @@ public final class Simple${type.abbrevName}ExpressionGeneratedTest {
         assertEquals(TestValues.${type.abbrevName}Value_H, expression.get());
     }
 
+    @Test
+    public void testCombineUpdateGetConsistency() {
+        Simple${type.abbrevName}Property$typeParams a = new Simple${type.abbrevName}Property$typeDiamond(TestValues.${type.abbrevName}Value_L);
+        Simple${type.abbrevName}Property$typeParams b = new Simple${type.abbrevName}Property$typeDiamond(TestValues.${type.abbrevName}Value_L);
+        Simple${type.abbrevName}Expression$typeParams expression = Simple${type.abbrevName}Expression.combine(a, b, (x, y) -> y);
+        assertEquals(TestValues.${type.abbrevName}Value_L, expression.get());
+
+        b.set(TestValues.${type.abbrevName}Value_H);
+        assertEquals(TestValues.${type.abbrevName}Value_H, expression.get());
+    }
+
+    @Test
+    public void testCombineFourUpdateGetConsistency() {
+        Simple${type.abbrevName}Property$typeParams a = new Simple${type.abbrevName}Property$typeDiamond(TestValues.${type.abbrevName}Value_L);
+        Simple${type.abbrevName}Property$typeParams b = new Simple${type.abbrevName}Property$typeDiamond(TestValues.${type.abbrevName}Value_L);
+        Simple${type.abbrevName}Property$typeParams c = new Simple${type.abbrevName}Property$typeDiamond(TestValues.${type.abbrevName}Value_L);
+        Simple${type.abbrevName}Property$typeParams d = new Simple${type.abbrevName}Property$typeDiamond(TestValues.${type.abbrevName}Value_L);
+        Simple${type.abbrevName}Expression$typeParams expression = Simple${type.abbrevName}Expression.combine(a, b, c, d, (w, x, y, z) -> z);
+        AtomicInteger callCounter = new AtomicInteger(0);
+        expression.addInvalidationListener(observable -> callCounter.getAndIncrement());
+
+        c.set(TestValues.${type.abbrevName}Value_H);
+        assertEquals(TestValues.${type.abbrevName}Value_L, expression.get());
+        assertEquals(0, callCounter.get());
+
+        d.set(TestValues.${type.abbrevName}Value_H);
+        assertEquals(TestValues.${type.abbrevName}Value_H, expression.get());
+        assertEquals(1, callCounter.get());
+    }
+
     @Test
     public void testChangeListenerBoxAttachDetach() {
         var property = new Simple${type.abbrevName}Property$typeDiamond(TestValues.${type.abbrevName}Value_H);
@@ -0,0 +1,167 @@
+/*
+ * Copyright (c) 2018-2023 Leon Linhart,
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.osmerion.quitte.build.generator.internal.templates.test.property
+
+import com.osmerion.quitte.build.generator.internal.Template
+import com.osmerion.quitte.build.generator.internal.TemplateProvider
+import com.osmerion.quitte.build.generator.internal.Type
+
+object ConcurrentProperty : TemplateProvider {
+
+    override fun provideTemplates(): List<Template> = Type.values().map { type ->
+        val typeParams = if (type === Type.OBJECT) "<Object>" else ""
+        val typeDiamond = if (type === Type.OBJECT) "<>" else ""
+        val className = "Concurrent${type.abbrevName}Property"
+
+        Template(PACKAGE_NAME, "${className}GeneratedTest") {
+            """
+package $PACKAGE_NAME;
+
+import java.util.ArrayList;
+import java.util.List;${if (type === Type.INT || type === Type.LONG) "\nimport java.util.concurrent.atomic.AtomicLong;" else ""}
+
+import com.osmerion.quitte.*;
+
+import org.junit.jupiter.api.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+            
+/**
+ * Generated tests for {@link $className}.
+ *
+ * @author  Leon Linhart
+ */
+public final class ${className}GeneratedTest {
+
+    @Test
+    public void testCompareAndSet() {
+        $className$typeParams property = new $className$typeDiamond(TestValues.${type.abbrevName}Value_L);
+        assertFalse(property.compareAndSet(TestValues.${type.abbrevName}Value_H, TestValues.${type.abbrevName}Value_H));
+        assertEquals(TestValues.${type.abbrevName}Value_L, property.get());
+
+        assertTrue(property.compareAndSet(TestValues.${type.abbrevName}Value_L, TestValues.${type.abbrevName}Value_H));
+        assertEquals(TestValues.${type.abbrevName}Value_H, property.get());
+    }
+
+    @Test
+    public void testGetAndSet() {
+        $className$typeParams property = new $className$typeDiamond(TestValues.${type.abbrevName}Value_L);
+        assertEquals(TestValues.${type.abbrevName}Value_L, property.getAndSet(TestValues.${type.abbrevName}Value_H));
+        assertEquals(TestValues.${type.abbrevName}Value_H, property.get());
+    }
+
+    @Test
+    public void testGetAndUpdate() {
+        $className$typeParams property = new $className$typeDiamond(TestValues.${type.abbrevName}Value_L);
+        assertEquals(TestValues.${type.abbrevName}Value_L, property.getAndUpdate(it -> TestValues.${type.abbrevName}Value_H));
+        assertEquals(TestValues.${type.abbrevName}Value_H, property.get());
+    }
+
+    @Test
+    public void testUpdateAndGet() {
+        $className$typeParams property = new $className$typeDiamond(TestValues.${type.abbrevName}Value_L);
+        assertEquals(TestValues.${type.abbrevName}Value_H, property.updateAndGet(it -> TestValues.${type.abbrevName}Value_H));
+        assertEquals(TestValues.${type.abbrevName}Value_H, property.get());
+    }
+
+    @Test
+    public void testGetAndAccumulate() {
+        $className$typeParams property = new $className$typeDiamond(TestValues.${type.abbrevName}Value_L);
+        assertEquals(TestValues.${type.abbrevName}Value_L, property.getAndAccumulate(TestValues.${type.abbrevName}Value_H, (left, right) -> right));
+        assertEquals(TestValues.${type.abbrevName}Value_H, property.get());
+    }
+
+    @Test
+    public void testAccumulateAndGet() {
+        $className$typeParams property = new $className$typeDiamond(TestValues.${type.abbrevName}Value_L);
+        assertEquals(TestValues.${type.abbrevName}Value_H, property.accumulateAndGet(TestValues.${type.abbrevName}Value_H, (left, right) -> right));
+        assertEquals(TestValues.${type.abbrevName}Value_H, property.get());
+    }
+
+    @Test
+    public void testListenersReceiveUpdate() {
+        $className$typeParams property = new $className$typeDiamond(TestValues.${type.abbrevName}Value_L);
+        List<Object> changes = new ArrayList<>();
+        property.addChangeListener((observable, oldValue, newValue) -> {
+            changes.add(oldValue);
+            changes.add(newValue);
+        });
+
+        List<Observable> invalidations = new ArrayList<>();
+        property.addInvalidationListener(invalidations::add);
+
+        property.compareAndSet(TestValues.${type.abbrevName}Value_L, TestValues.${type.abbrevName}Value_H);
+        assertEquals(List.of(TestValues.${type.abbrevName}Value_L, TestValues.${type.abbrevName}Value_H), changes);
+        assertEquals(1, invalidations.size());
+
+        property.compareAndSet(TestValues.${type.abbrevName}Value_H, TestValues.${type.abbrevName}Value_H);
+        assertEquals(2, changes.size());
+        assertEquals(1, invalidations.size());
+    }
+
+    @Test
+    public void testUpdateThrowsForBound() {
+        $className$typeParams other = new $className$typeDiamond(TestValues.${type.abbrevName}Value_L);
+        $className$typeParams property = new $className$typeDiamond(TestValues.${type.abbrevName}Value_L);
+        property.bindTo(other);
+
+        assertThrows(IllegalStateException.class, () -> property.compareAndSet(TestValues.${type.abbrevName}Value_L, TestValues.${type.abbrevName}Value_H));
+        assertThrows(IllegalStateException.class, () -> property.getAndUpdate(it -> TestValues.${type.abbrevName}Value_H));
+        assertEquals(TestValues.${type.abbrevName}Value_L, property.get());
+    }
+${if (type === Type.INT || type === Type.LONG) """
+    @Test
+    public void testConcurrentUpdates() throws InterruptedException {
+        $className property = new $className(${type.default});
+        AtomicLong delta = new AtomicLong();
+        property.addChangeListener((observable, oldValue, newValue) -> delta.addAndGet(newValue - oldValue));
+
+        Thread[] threads = new Thread[4];
+
+        for (int i = 0; i < threads.length; i++) {
+            threads[i] = new Thread(() -> {
+                for (int j = 0; j < 10_000; j++) property.accumulateAndGet(1, (left, right) -> left + right);
+            });
+            threads[i].start();
+        }
+
+        for (Thread thread : threads) thread.join();
+
+        assertEquals(40_000, property.get());
+        assertEquals(40_000, delta.get());
+    }
+""" else ""}
+}
+            """
+        }
+    }
+
+}
@@ -361,6 +361,20 @@ public final class Lazy${type.abbrevName}PropertyGeneratedTest {
         assertEquals(3, stateInvalidatedCallCounter.get());
     }
 
+    @Test
+    public void testStatePropertyCreatedAfterStateChange() {
+        var property = new Lazy${type.abbrevName}Property$typeDiamond(() -> TestValues.${type.abbrevName}Value_H);
+        property.get();
+        property.set(TestValues.${type.abbrevName}Value_L);
+
+        var state = property.stateProperty();
+        assertEquals(LazyValue.State.INVALID, state.get());
+
+        property.get();
+        assertEquals(LazyValue.State.VALID, state.get());
+        assertEquals(LazyValue.State.VALID, property.stateProperty().get());
+    }
+
     @Test
     public void testChangeListenerAddRemovedWithBox() {
         var property = new Lazy${type.abbrevName}Property$typeDiamond(TestValues.${type.abbrevName}Value_H);
@@ -531,6 +531,36 @@ ${Type.values().joinToString(separator = "") { sourceType ->
         assertEquals(0, callCounter.get());
     }
 
+    @Test
+    public void testMultipleListenersAttachDetach() {
+        StringBuilder calls = new StringBuilder();
+
+        Simple${type.abbrevName}Property$typeParams property = new Simple${type.abbrevName}Property$typeDiamond(TestValues.${type.abbrevName}Value_L);
+        InvalidationListener a = observable -> calls.append('a');
+        InvalidationListener b = observable -> calls.append('b');
+        InvalidationListener c = observable -> calls.append('c');
+
+        assertTrue(property.addInvalidationListener(a));
+        assertTrue(property.addInvalidationListener(b));
+        assertTrue(property.addInvalidationListener(c));
+        assertFalse(property.addInvalidationListener(b));
+
+        property.set(TestValues.${type.abbrevName}Value_H);
+        assertEquals("abc", calls.toString());
+
+        assertTrue(property.removeInvalidationListener(b));
+        assertFalse(property.removeInvalidationListener(b));
+
+        property.set(TestValues.${type.abbrevName}Value_L);
+        assertEquals("abcac", calls.toString());
+
+        assertTrue(property.removeInvalidationListener(a));
+        assertTrue(property.removeInvalidationListener(c));
+
+        property.set(TestValues.${type.abbrevName}Value_H);
+        assertEquals("abcac", calls.toString());
+    }
+
 }
             """
         }
@@ -44,24 +44,39 @@ import java.io.StringReader
 open class QuitteGeneratorPlugin : Plugin<Project> {
 
     private val templates: List<TemplateProvider> = listOf(
+        /* com.osmerion.quitte.collections */
+        com.osmerion.quitte.build.generator.internal.templates.main.collections.AbstractObservableList,
+        com.osmerion.quitte.build.generator.internal.templates.main.collections.ListChangeListener,
+        com.osmerion.quitte.build.generator.internal.templates.main.collections.ObservableList,
+        com.osmerion.quitte.build.generator.internal.templates.main.collections.WeakListChangeListener,
         /* com.osmerion.quitte.expression */
         com.osmerion.quitte.build.generator.internal.templates.main.expression.AbstractExpression,
+        com.osmerion.quitte.build.generator.internal.templates.main.expression.Computed,
         com.osmerion.quitte.build.generator.internal.templates.main.expression.LazyExpression,
         com.osmerion.quitte.build.generator.internal.templates.main.expression.SimpleExpression,
         /* com.osmerion.quitte.functional */
+        com.osmerion.quitte.build.generator.internal.templates.main.functional.BinaryOperator,
+        com.osmerion.quitte.build.generator.internal.templates.main.functional.CombiningFunction,
         com.osmerion.quitte.build.generator.internal.templates.main.functional.Consumer,
         com.osmerion.quitte.build.generator.internal.templates.main.functional.Function,
         com.osmerion.quitte.build.generator.internal.templates.main.functional.Supplier,
         /* com.osmerion.quitte.internal.binding */
         com.osmerion.quitte.build.generator.internal.templates.main.internal.binding.Binding,
+        com.osmerion.quitte.build.generator.internal.templates.main.internal.binding.CombiningBinding,
         com.osmerion.quitte.build.generator.internal.templates.main.internal.binding.TypeToTypeBinding,
+        /* com.osmerion.quitte.internal.timing */
+        com.osmerion.quitte.build.generator.internal.templates.main.internal.timing.TimedProperty,
         /* com.osmerion.quitte.internal.wrappers */
+        com.osmerion.quitte.build.generator.internal.templates.main.internal.wrappers.ReadOnlyListProperty,
         com.osmerion.quitte.build.generator.internal.templates.main.internal.wrappers.ReadOnlyProperty,
         com.osmerion.quitte.build.generator.internal.templates.main.internal.wrappers.ReadOnlyWrapper,
         com.osmerion.quitte.build.generator.internal.templates.main.internal.wrappers.WrappingChangeListener,
         /* com.osmerion.quitte.property */
         com.osmerion.quitte.build.generator.internal.templates.main.property.AbstractProperty,
+        com.osmerion.quitte.build.generator.internal.templates.main.property.ConcurrentProperty,
         com.osmerion.quitte.build.generator.internal.templates.main.property.LazyProperty,
+        com.osmerion.quitte.build.generator.internal.templates.main.property.ListProperty,
+        com.osmerion.quitte.build.generator.internal.templates.main.property.ReadableListProperty,
         com.osmerion.quitte.build.generator.internal.templates.main.property.ReadableProperty,
         com.osmerion.quitte.build.generator.internal.templates.main.property.SimpleProperty,
         com.osmerion.quitte.build.generator.internal.templates.main.property.WritableProperty,
@@ -69,15 +84,19 @@ open class QuitteGeneratorPlugin : Plugin<Project> {
         com.osmerion.quitte.build.generator.internal.templates.main.value.ObservableValue,
         com.osmerion.quitte.build.generator.internal.templates.main.value.WritableValue,
         /* com.osmerion.quitte.value.change */
+        com.osmerion.quitte.build.generator.internal.templates.main.value.change.AsyncChangeListener,
         com.osmerion.quitte.build.generator.internal.templates.main.value.change.ChangeListener,
         com.osmerion.quitte.build.generator.internal.templates.main.value.change.WeakChangeListener
     )
 
     private val testTemplates: List<TemplateProvider> = listOf(
+        /* com.osmerion.quitte.collections */
+        com.osmerion.quitte.build.generator.internal.templates.test.collections.ObservableList,
         /* com.osmerion.quitte.expression */
         com.osmerion.quitte.build.generator.internal.templates.test.expression.LazyExpression,
         com.osmerion.quitte.build.generator.internal.templates.test.expression.SimpleExpression,
         /* com.osmerion.quitte.property */
+        com.osmerion.quitte.build.generator.internal.templates.test.property.ConcurrentProperty,
         com.osmerion.quitte.build.generator.internal.templates.test.property.LazyProperty,
         com.osmerion.quitte.build.generator.internal.templates.test.property.SimpleProperty
     )
@@ -0,0 +1,84 @@
+/*
+ * Copyright (c) 2018-2023 Leon Linhart,
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.osmerion.quitte.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import com.osmerion.quitte.collections.ObservableList;
+import com.osmerion.quitte.expression.SimpleDoubleExpression;
+import com.osmerion.quitte.expression.SimpleIntExpression;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Benchmarks for updating aggregate expressions over large observable lists after single-element edits.
+ *
+ * @author  Leon Linhart
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class AggregateBenchmark {
+
+    @Param({ "1000", "200000" })
+    public int size;
+
+    private ObservableList<Integer> list;
+    private SimpleIntExpression sum;
+    private SimpleIntExpression max;
+    private SimpleDoubleExpression average;
+
+    private int index;
+
+    @Setup
+    public void setup() {
+        List<Integer> elements = new ArrayList<>(this.size);
+        for (int i = 0; i < this.size; i++) elements.add(i);
+
+        this.list = ObservableList.of(elements);
+        this.sum = SimpleIntExpression.sumOf(this.list, it -> it);
+        this.max = SimpleIntExpression.maxOf(this.list, it -> it, 0);
+        this.average = SimpleDoubleExpression.averageOf(this.list, it -> it);
+    }
+
+    @Benchmark
+    public int setElement() {
+        int index = this.index = (this.index + 1) % this.size;
+        this.list.set(index, this.list.get(index) + 1);
+
+        return this.sum.get() + this.max.get() + (int) this.average.get();
+    }
+
+}
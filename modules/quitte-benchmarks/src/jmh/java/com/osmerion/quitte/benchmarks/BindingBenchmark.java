@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) 2018-2023 Leon Linhart,
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.osmerion.quitte.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import com.osmerion.quitte.property.SimpleIntProperty;
+import com.osmerion.quitte.property.SimpleObjectProperty;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Benchmarks for propagating updates to properties that are bound to a source property using {@code bindTo}.
+ *
+ * @author  Leon Linhart
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class BindingBenchmark {
+
+    @Param({ "1", "10", "100" })
+    public int boundCount;
+
+    private SimpleIntProperty source;
+    private SimpleIntProperty transformSource;
+    private SimpleIntProperty[] bound;
+    private SimpleObjectProperty<?>[] transformed;
+
+    @Setup
+    public void setup() {
+        this.source = new SimpleIntProperty(0);
+        this.transformSource = new SimpleIntProperty(0);
+        this.bound = new SimpleIntProperty[this.boundCount];
+        this.transformed = new SimpleObjectProperty<?>[this.boundCount];
+
+        for (int i = 0; i < this.boundCount; i++) {
+            SimpleIntProperty property = this.bound[i] = new SimpleIntProperty(0);
+            property.bindTo(this.source);
+
+            SimpleObjectProperty<String> transformed = new SimpleObjectProperty<>(null);
+            transformed.bindTo(this.transformSource, String::valueOf);
+            this.transformed[i] = transformed;
+        }
+    }
+
+    @Benchmark
+    public void bindTo() {
+        this.source.set(this.source.get() + 1);
+    }
+
+    @Benchmark
+    public void bindToWithTransform() {
+        this.transformSource.set(this.transformSource.get() + 1);
+    }
+
+}
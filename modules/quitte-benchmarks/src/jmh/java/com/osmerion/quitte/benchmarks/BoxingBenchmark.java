@@ -0,0 +1,102 @@
+/*
+ * Copyright (c) 2018-2023 Leon Linhart,
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.osmerion.quitte.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import com.osmerion.quitte.property.IntListProperty;
+import com.osmerion.quitte.property.ListProperty;
+import com.osmerion.quitte.property.SimpleIntProperty;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Benchmarks comparing primitive specializations with their boxed counterparts.
+ *
+ * @author  Leon Linhart
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class BoxingBenchmark {
+
+    private SimpleIntProperty primitiveProperty;
+    private SimpleIntProperty boxedProperty;
+
+    private IntListProperty primitiveList;
+    private ListProperty<Integer> boxedList;
+
+    @Setup
+    public void setup(Blackhole blackhole) {
+        this.primitiveProperty = new SimpleIntProperty(0);
+        this.primitiveProperty.addChangeListener((observable, oldValue, newValue) -> blackhole.consume(newValue));
+
+        this.boxedProperty = new SimpleIntProperty(0);
+        this.boxedProperty.addBoxedChangeListener((observable, oldValue, newValue) -> blackhole.consume(newValue));
+
+        this.primitiveList = new IntListProperty();
+        this.primitiveList.addChangeListener((observable, change) -> blackhole.consume(change));
+
+        this.boxedList = new ListProperty<>();
+        this.boxedList.addChangeListener((observable, change) -> blackhole.consume(change));
+    }
+
+    /** Clears the lists after each iteration to keep the memory footprint stable. */
+    @TearDown(Level.Iteration)
+    public void clearLists() {
+        this.primitiveList.clear();
+        this.boxedList.clear();
+    }
+
+    @Benchmark
+    public void primitiveChangeListener() {
+        this.primitiveProperty.set(this.primitiveProperty.get() + 1);
+    }
+
+    @Benchmark
+    public void boxedChangeListener() {
+        this.boxedProperty.set(this.boxedProperty.get() + 1);
+    }
+
+    @Benchmark
+    public void primitiveListAdd() {
+        this.primitiveList.add(this.primitiveList.size());
+    }
+
+    @Benchmark
+    public void boxedListAdd() {
+        this.boxedList.add(this.boxedList.size());
+    }
+
+}
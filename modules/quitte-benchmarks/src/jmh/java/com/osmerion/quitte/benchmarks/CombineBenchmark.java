@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) 2018-2023 Leon Linhart,
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.osmerion.quitte.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import com.osmerion.quitte.expression.SimpleIntExpression;
+import com.osmerion.quitte.property.SimpleIntProperty;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Benchmarks for creating expressions that combine two properties using {@code addDependency} and using
+ * {@code combine}.
+ *
+ * @author  Leon Linhart
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class CombineBenchmark {
+
+    private SimpleIntProperty a;
+    private SimpleIntProperty b;
+
+    @Setup(Level.Invocation)
+    public void setup() {
+        this.a = new SimpleIntProperty(1);
+        this.b = new SimpleIntProperty(2);
+    }
+
+    @Benchmark
+    public SimpleIntExpression addDependency() {
+        SimpleIntProperty a = this.a, b = this.b;
+
+        return new SimpleIntExpression() {
+
+            {
+                this.addDependency(a);
+                this.addDependency(b);
+                this.invalidate();
+            }
+
+            @Override
+            protected int recomputeValue() {
+                return a.get() + b.get();
+            }
+
+        };
+    }
+
+    @Benchmark
+    public SimpleIntExpression combine() {
+        return SimpleIntExpression.combine(this.a, this.b, Integer::sum);
+    }
+
+}
@@ -0,0 +1,100 @@
+/*
+ * Copyright (c) 2018-2023 Leon Linhart,
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.osmerion.quitte.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import com.osmerion.quitte.expression.LazyIntExpression;
+import com.osmerion.quitte.expression.SimpleIntExpression;
+import com.osmerion.quitte.property.SimpleIntProperty;
+import com.osmerion.quitte.value.ObservableIntValue;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Benchmarks for propagating updates through chains of {@code SimpleIntExpression} and {@code LazyIntExpression}
+ * instances of varying depth.
+ *
+ * @author  Leon Linhart
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ExpressionChainBenchmark {
+
+    @Param({ "1", "10", "100" })
+    public int depth;
+
+    private SimpleIntProperty simpleRoot;
+    private ObservableIntValue simpleTail;
+
+    private SimpleIntProperty lazyRoot;
+    private ObservableIntValue lazyTail;
+
+    @Setup
+    public void setup() {
+        this.simpleRoot = new SimpleIntProperty(0);
+        this.lazyRoot = new SimpleIntProperty(0);
+
+        ObservableIntValue simpleTail = this.simpleRoot, lazyTail = this.lazyRoot;
+
+        for (int i = 0; i < this.depth; i++) {
+            simpleTail = SimpleIntExpression.of(simpleTail, it -> it + 1);
+            lazyTail = LazyIntExpression.of(lazyTail, it -> it + 1);
+        }
+
+        this.simpleTail = simpleTail;
+        this.lazyTail = lazyTail;
+    }
+
+    /** Updates the root of a chain of eagerly evaluated expressions and reads the tail. */
+    @Benchmark
+    public int simpleSetAndGet() {
+        this.simpleRoot.set(this.simpleRoot.get() + 1);
+        return this.simpleTail.get();
+    }
+
+    /** Updates the root of a chain of lazily evaluated expressions and reads the tail. */
+    @Benchmark
+    public int lazySetAndGet() {
+        this.lazyRoot.set(this.lazyRoot.get() + 1);
+        return this.lazyTail.get();
+    }
+
+    /** Updates the root of a chain of lazily evaluated expressions without reading the tail. */
+    @Benchmark
+    public void lazySet() {
+        this.lazyRoot.set(this.lazyRoot.get() + 1);
+    }
+
+}
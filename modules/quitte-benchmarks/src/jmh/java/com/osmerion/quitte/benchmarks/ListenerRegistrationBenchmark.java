@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) 2018-2023 Leon Linhart,
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.osmerion.quitte.benchmarks;
+
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.TimeUnit;
+
+import com.osmerion.quitte.InvalidationListener;
+import com.osmerion.quitte.ListenerRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Benchmarks for attaching and detaching a large number of listeners using a {@link CopyOnWriteArraySet} and using a
+ * {@link ListenerRegistry}.
+ *
+ * @author  Leon Linhart
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ListenerRegistrationBenchmark {
+
+    @Param({ "1000", "10000", "50000" })
+    public int listenerCount;
+
+    private InvalidationListener[] listeners;
+
+    @Setup
+    public void setup(Blackhole blackhole) {
+        this.listeners = new InvalidationListener[this.listenerCount];
+        for (int i = 0; i < this.listenerCount; i++) this.listeners[i] = blackhole::consume;
+    }
+
+    @Benchmark
+    public int copyOnWriteArraySet() {
+        CopyOnWriteArraySet<InvalidationListener> set = new CopyOnWriteArraySet<>();
+        for (var listener : this.listeners) set.add(listener);
+
+        int size = set.size();
+        for (var listener : this.listeners) set.remove(listener);
+
+        return size;
+    }
+
+    @Benchmark
+    public int listenerRegistry() {
+        ListenerRegistry<InvalidationListener> registry = new ListenerRegistry<>();
+        for (var listener : this.listeners) registry.add(listener);
+
+        int size = registry.size();
+        for (var listener : this.listeners) registry.remove(listener);
+
+        return size;
+    }
+
+}
@@ -0,0 +1,252 @@
+/*
+ * Copyright (c) 2018-2023 Leon Linhart,
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.osmerion.quitte.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import com.osmerion.quitte.property.*;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Benchmarks for reading and writing {@code Simple*Property} and {@code Lazy*Property} instances without any attached
+ * listeners.
+ *
+ * @author  Leon Linhart
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class PropertyBenchmark {
+
+    private static final Object VALUE_A = new Object(), VALUE_B = new Object();
+
+    private SimpleBoolProperty simpleBool;
+    private SimpleByteProperty simpleByte;
+    private SimpleShortProperty simpleShort;
+    private SimpleIntProperty simpleInt;
+    private SimpleLongProperty simpleLong;
+    private SimpleFloatProperty simpleFloat;
+    private SimpleDoubleProperty simpleDouble;
+    private SimpleObjectProperty<Object> simpleObject;
+
+    private LazyBoolProperty lazyBool;
+    private LazyByteProperty lazyByte;
+    private LazyShortProperty lazyShort;
+    private LazyIntProperty lazyInt;
+    private LazyLongProperty lazyLong;
+    private LazyFloatProperty lazyFloat;
+    private LazyDoubleProperty lazyDouble;
+    private LazyObjectProperty<Object> lazyObject;
+
+    @Setup
+    public void setup() {
+        this.simpleBool = new SimpleBoolProperty(false);
+        this.simpleByte = new SimpleByteProperty((byte) 0);
+        this.simpleShort = new SimpleShortProperty((short) 0);
+        this.simpleInt = new SimpleIntProperty(0);
+        this.simpleLong = new SimpleLongProperty(0L);
+        this.simpleFloat = new SimpleFloatProperty(0.0F);
+        this.simpleDouble = new SimpleDoubleProperty(0.0D);
+        this.simpleObject = new SimpleObjectProperty<>(VALUE_A);
+
+        this.lazyBool = new LazyBoolProperty(false);
+        this.lazyByte = new LazyByteProperty((byte) 0);
+        this.lazyShort = new LazyShortProperty((short) 0);
+        this.lazyInt = new LazyIntProperty(0);
+        this.lazyLong = new LazyLongProperty(0L);
+        this.lazyFloat = new LazyFloatProperty(0.0F);
+        this.lazyDouble = new LazyDoubleProperty(0.0D);
+        this.lazyObject = new LazyObjectProperty<>(VALUE_A);
+    }
+
+    @Benchmark
+    public boolean getSimpleBool() {
+        return this.simpleBool.get();
+    }
+
+    @Benchmark
+    public void setSimpleBool() {
+        this.simpleBool.set(!this.simpleBool.get());
+    }
+
+    @Benchmark
+    public byte getSimpleByte() {
+        return this.simpleByte.get();
+    }
+
+    @Benchmark
+    public void setSimpleByte() {
+        this.simpleByte.set((byte) (this.simpleByte.get() + 1));
+    }
+
+    @Benchmark
+    public short getSimpleShort() {
+        return this.simpleShort.get();
+    }
+
+    @Benchmark
+    public void setSimpleShort() {
+        this.simpleShort.set((short) (this.simpleShort.get() + 1));
+    }
+
+    @Benchmark
+    public int getSimpleInt() {
+        return this.simpleInt.get();
+    }
+
+    @Benchmark
+    public void setSimpleInt() {
+        this.simpleInt.set(this.simpleInt.get() + 1);
+    }
+
+    @Benchmark
+    public long getSimpleLong() {
+        return this.simpleLong.get();
+    }
+
+    @Benchmark
+    public void setSimpleLong() {
+        this.simpleLong.set(this.simpleLong.get() + 1);
+    }
+
+    @Benchmark
+    public float getSimpleFloat() {
+        return this.simpleFloat.get();
+    }
+
+    @Benchmark
+    public void setSimpleFloat() {
+        this.simpleFloat.set(this.simpleFloat.get() + 1);
+    }
+
+    @Benchmark
+    public double getSimpleDouble() {
+        return this.simpleDouble.get();
+    }
+
+    @Benchmark
+    public void setSimpleDouble() {
+        this.simpleDouble.set(this.simpleDouble.get() + 1);
+    }
+
+    @Benchmark
+    public Object getSimpleObject() {
+        return this.simpleObject.get();
+    }
+
+    @Benchmark
+    public void setSimpleObject() {
+        this.simpleObject.set((this.simpleObject.get() == VALUE_A) ? VALUE_B : VALUE_A);
+    }
+
+    @Benchmark
+    public boolean getLazyBool() {
+        return this.lazyBool.get();
+    }
+
+    @Benchmark
+    public void setLazyBool() {
+        this.lazyBool.set(!this.lazyBool.get());
+    }
+
+    @Benchmark
+    public byte getLazyByte() {
+        return this.lazyByte.get();
+    }
+
+    @Benchmark
+    public void setLazyByte() {
+        this.lazyByte.set((byte) (this.lazyByte.get() + 1));
+    }
+
+    @Benchmark
+    public short getLazyShort() {
+        return this.lazyShort.get();
+    }
+
+    @Benchmark
+    public void setLazyShort() {
+        this.lazyShort.set((short) (this.lazyShort.get() + 1));
+    }
+
+    @Benchmark
+    public int getLazyInt() {
+        return this.lazyInt.get();
+    }
+
+    @Benchmark
+    public void setLazyInt() {
+        this.lazyInt.set(this.lazyInt.get() + 1);
+    }
+
+    @Benchmark
+    public long getLazyLong() {
+        return this.lazyLong.get();
+    }
+
+    @Benchmark
+    public void setLazyLong() {
+        this.lazyLong.set(this.lazyLong.get() + 1);
+    }
+
+    @Benchmark
+    public float getLazyFloat() {
+        return this.lazyFloat.get();
+    }
+
+    @Benchmark
+    public void setLazyFloat() {
+        this.lazyFloat.set(this.lazyFloat.get() + 1);
+    }
+
+    @Benchmark
+    public double getLazyDouble() {
+        return this.lazyDouble.get();
+    }
+
+    @Benchmark
+    public void setLazyDouble() {
+        this.lazyDouble.set(this.lazyDouble.get() + 1);
+    }
+
+    @Benchmark
+    public Object getLazyObject() {
+        return this.lazyObject.get();
+    }
+
+    @Benchmark
+    public void setLazyObject() {
+        this.lazyObject.set((this.lazyObject.get() == VALUE_A) ? VALUE_B : VALUE_A);
+    }
+}
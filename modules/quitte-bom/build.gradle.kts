@@ -50,7 +50,7 @@ publishing {
 
 dependencies {
     constraints {
-        parent!!.subprojects.filter { it.name.startsWith("quitte") && it != project }.forEach { module ->
+        parent!!.subprojects.filter { it.name.startsWith("quitte") && it != project && it.name != "quitte-benchmarks" }.forEach { module ->
             api(module)
         }
     }
@@ -31,7 +31,14 @@
 package com.osmerion.quitte.compose
 
 import androidx.compose.runtime.*
+import androidx.compose.runtime.snapshots.Snapshot
+import androidx.compose.runtime.snapshots.SnapshotStateList
+import androidx.compose.runtime.snapshots.SnapshotStateMap
 import com.osmerion.quitte.InvalidationListener
+import com.osmerion.quitte.collections.ListChangeListener
+import com.osmerion.quitte.collections.MapChangeListener
+import com.osmerion.quitte.collections.ObservableList
+import com.osmerion.quitte.collections.ObservableMap
 import com.osmerion.quitte.value.ObservableValue
 
 /**
@@ -59,4 +66,116 @@ public fun <T> ObservableValue<T>.observeAsState(): State<T?> =
         awaitDispose {
             removeInvalidationListener(listener)
         }
-    }
\ No newline at end of file
+    }
+
+/**
+ * Starts observing this [ObservableList] and represents its elements via a
+ * [SnapshotStateList]. When the observable is changed, the change is applied
+ * to the returned list within a single snapshot.
+ *
+ * Unlike copying the observable into new state on every change, only the
+ * affected elements of the returned list are modified. Thus, only readers of
+ * these elements need to recompose.
+ *
+ * The returned list must not be modified by the caller. It automatically
+ * starts observing when it enters the composition and stops when it leaves the
+ * composition again.
+ *
+ * @since   0.9.0
+ */
+@Composable
+public fun <E> ObservableList<E>.observeAsStateList(): List<E> {
+    val state = remember(this) { mutableStateListOf<E>().also { it.addAll(this) } }
+
+    DisposableEffect(this, state) {
+        val listener = ListChangeListener<E> { _, change ->
+            Snapshot.withMutableSnapshot { state.applyChange(change) }
+        }
+
+        addChangeListener(listener)
+
+        /* The observable might have changed before the listener was registered. */
+        Snapshot.withMutableSnapshot {
+            if (state.toList() != this@observeAsStateList.toList()) {
+                state.clear()
+                state.addAll(this@observeAsStateList)
+            }
+        }
+
+        onDispose {
+            removeChangeListener(listener)
+        }
+    }
+
+    return state
+}
+
+/**
+ * Starts observing this [ObservableMap] and represents its entries via a
+ * [SnapshotStateMap]. When the observable is changed, the change is applied to
+ * the returned map within a single snapshot.
+ *
+ * Unlike copying the observable into new state on every change, only the
+ * affected entries of the returned map are modified. Thus, only readers of
+ * these entries need to recompose.
+ *
+ * The returned map must not be modified by the caller. It automatically starts
+ * observing when it enters the composition and stops when it leaves the
+ * composition again.
+ *
+ * @since   0.9.0
+ */
+@Composable
+public fun <K, V> ObservableMap<K, V>.observeAsStateMap(): Map<K, V> {
+    val state = remember(this) { mutableStateMapOf<K, V>().also { it.putAll(this) } }
+
+    DisposableEffect(this, state) {
+        val listener = MapChangeListener<K, V> { _, change ->
+            Snapshot.withMutableSnapshot { state.applyChange(change) }
+        }
+
+        addChangeListener(listener)
+
+        /* The observable might have changed before the listener was registered. */
+        Snapshot.withMutableSnapshot {
+            if (state.toMap() != this@observeAsStateMap.toMap()) {
+                state.clear()
+                state.putAll(this@observeAsStateMap)
+            }
+        }
+
+        onDispose {
+            removeChangeListener(listener)
+        }
+    }
+
+    return state
+}
+
+private fun <E> SnapshotStateList<E>.applyChange(change: ListChangeListener.Change<out E>) {
+    when (change) {
+        is ListChangeListener.Change.Permutation -> {
+            val elements = toList()
+
+            change.indices().forEachIndexed { from, to ->
+                if (from != to) this[to] = elements[from]
+            }
+        }
+        is ListChangeListener.Change.Update -> change.localChanges().forEach { localChange ->
+            when (localChange) {
+                is ListChangeListener.LocalChange.Insertion -> addAll(localChange.index(), localChange.elements())
+                is ListChangeListener.LocalChange.Removal -> removeRange(localChange.index(), localChange.index() + localChange.elements().size)
+                is ListChangeListener.LocalChange.Update -> localChange.newElements().forEachIndexed { offset, element ->
+                    this[localChange.index() + offset] = element
+                }
+            }
+        }
+    }
+}
+
+@Suppress("UNCHECKED_CAST")
+private fun <K, V> SnapshotStateMap<K, V>.applyChange(change: MapChangeListener.Change<out K, out V>) {
+    change.removedElements().keys.forEach { remove(it) }
+    putAll(change.addedElements())
+    change.updatedElements().forEach { (key, update) -> this[key] = update.newValue() as V }
+}
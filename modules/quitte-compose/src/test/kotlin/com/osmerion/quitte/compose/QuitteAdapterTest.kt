@@ -31,6 +31,8 @@
 package com.osmerion.quitte.compose
 
 import androidx.compose.ui.test.junit4.createComposeRule
+import com.osmerion.quitte.collections.ObservableList
+import com.osmerion.quitte.collections.ObservableMap
 import com.osmerion.quitte.property.LazyObjectProperty
 import com.osmerion.quitte.property.SimpleObjectProperty
 import org.junit.Rule
@@ -102,4 +104,74 @@ class QuitteAdapterTest {
         }
     }
 
-}
\ No newline at end of file
+    @Test
+    fun testListInitialValue() {
+        val observable = ObservableList.of(mutableListOf("A", "B"))
+        var realValue: List<String>? = null
+
+        rule.setContent {
+            realValue = observable.observeAsStateList()
+        }
+
+        rule.runOnIdle {
+            assertEquals(listOf("A", "B"), realValue)
+        }
+    }
+
+    @Test
+    fun testListReceivesUpdates() {
+        val observable = ObservableList.of(mutableListOf("C", "A", "B"))
+        var realValue: List<String>? = null
+
+        rule.setContent {
+            realValue = observable.observeAsStateList()
+        }
+
+        rule.runOnIdle {
+            observable.add("D")
+            observable.removeAt(1)
+            observable[0] = "X"
+            observable.addAll(1, listOf("E", "F"))
+            observable.sortWith(Comparator.reverseOrder())
+        }
+
+        rule.runOnIdle {
+            assertEquals(observable.toList(), realValue)
+        }
+    }
+
+    @Test
+    fun testMapInitialValue() {
+        val observable = ObservableMap.of(mutableMapOf("A" to 1))
+        var realValue: Map<String, Int>? = null
+
+        rule.setContent {
+            realValue = observable.observeAsStateMap()
+        }
+
+        rule.runOnIdle {
+            assertEquals(mapOf("A" to 1), realValue)
+        }
+    }
+
+    @Test
+    fun testMapReceivesUpdates() {
+        val observable = ObservableMap.of(mutableMapOf("A" to 1, "B" to 2))
+        var realValue: Map<String, Int>? = null
+
+        rule.setContent {
+            realValue = observable.observeAsStateMap()
+        }
+
+        rule.runOnIdle {
+            observable["A"] = 3
+            observable.remove("B")
+            observable["C"] = 4
+        }
+
+        rule.runOnIdle {
+            assertEquals(mapOf("A" to 3, "C" to 4), realValue?.toMap())
+        }
+    }
+
+}
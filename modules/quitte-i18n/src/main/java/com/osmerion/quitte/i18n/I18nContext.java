@@ -30,8 +30,8 @@
  */
 package com.osmerion.quitte.i18n;
 
-import java.util.concurrent.CopyOnWriteArraySet;
 import com.osmerion.quitte.InvalidationListener;
+import com.osmerion.quitte.ListenerRegistry;
 import com.osmerion.quitte.Observable;
 
 /**
@@ -41,6 +41,9 @@ import com.osmerion.quitte.Observable;
  * <p>A context may update its mappings dynamically. When doing so, {@link InvalidationListener InvalidationListeners}
  * should be invoked by calling {@link #notifyListeners()}.</p>
  *
+ * <p>Since a context is typically observed by a large number of localized values, its listeners are stored in a
+ * {@link ListenerRegistry}.</p>
+ *
  * @see I18n
  *
  * @since   0.1.0
@@ -49,7 +52,7 @@ import com.osmerion.quitte.Observable;
  */
 public abstract class I18nContext implements Observable {
 
-    private final CopyOnWriteArraySet<InvalidationListener> invalidationListeners = new CopyOnWriteArraySet<>();
+    private final ListenerRegistry<InvalidationListener> invalidationListeners = new ListenerRegistry<>();
 
     /**
      * Creates a new {@code I18nContext}.
@@ -89,7 +92,6 @@ public abstract class I18nContext implements Observable {
             }
 
             listener.onInvalidation(this);
-            if (listener.isInvalid()) this.invalidationListeners.remove(listener);
         }
     }
 
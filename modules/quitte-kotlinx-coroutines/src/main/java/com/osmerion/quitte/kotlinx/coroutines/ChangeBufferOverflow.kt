@@ -0,0 +1,70 @@
+/*
+ * Copyright (c) 2018-2023 Leon Linhart,
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.osmerion.quitte.kotlinx.coroutines
+
+/**
+ * A strategy that determines how a flow of changes reacts when changes arrive
+ * faster than they are collected and its buffer is full.
+ *
+ * Observable collections notify their listeners synchronously. Thus, unlike
+ * [kotlinx.coroutines.channels.BufferOverflow], there is no option to suspend
+ * the producer.
+ *
+ * @since   0.9.0
+ */
+public enum class ChangeBufferOverflow {
+
+    /**
+     * Merges the incoming change into the most recently buffered change.
+     *
+     * No information is lost when merging changes. If two changes cannot be
+     * merged (for example, a permutation of a list and a subsequent update),
+     * the incoming change is buffered regardless of the capacity.
+     *
+     * @since   0.9.0
+     */
+    MERGE,
+
+    /**
+     * Drops the oldest buffered change to make room for the incoming change.
+     *
+     * @since   0.9.0
+     */
+    DROP_OLDEST,
+
+    /**
+     * Drops the incoming change and keeps the buffer unchanged.
+     *
+     * @since   0.9.0
+     */
+    DROP_LATEST
+
+}
@@ -38,10 +38,12 @@ import com.osmerion.quitte.collections.ObservableMap
 import com.osmerion.quitte.collections.ObservableSet
 import com.osmerion.quitte.collections.SetChangeListener
 import com.osmerion.quitte.value.ObservableValue
+import kotlinx.coroutines.channels.Channel
 import kotlinx.coroutines.channels.awaitClose
 import kotlinx.coroutines.flow.Flow
 import kotlinx.coroutines.flow.callbackFlow
 import kotlinx.coroutines.flow.conflate
+import kotlinx.coroutines.flow.flow
 
 /**
  * Creates and instance of a cold [Flow] that subscribes to the given
@@ -138,4 +140,188 @@ public fun <E> ObservableSet<E>.asFlow(): Flow<Set<E>> = callbackFlow {
     awaitClose {
         removeChangeListener(listener)
     }
-}.conflate()
\ No newline at end of file
+}.conflate()
+
+/**
+ * Creates an instance of a cold [Flow] that subscribes to the given
+ * [ObservableList] and emits the changes made to it.
+ *
+ * Unlike [asFlow], the resulting flow does not emit snapshots of the list.
+ * Instead, it emits the deltas that were reported to the list's listeners
+ * after collection started. Thus, a collector that mirrors the list should
+ * take an initial snapshot before collecting the flow.
+ *
+ * Changes that arrive while the collector is busy are buffered. Once more
+ * than [capacity] changes are buffered, [onBufferOverflow] determines how the
+ * flow reacts. By default, at most one change is buffered and incoming changes
+ * are merged into it. Subsequent updates are concatenated and subsequent
+ * permutations are composed (see [ListChangeListener.Change.merge]).
+ *
+ * @param capacity          the number of changes that may be buffered before
+ *                          [onBufferOverflow] applies
+ * @param onBufferOverflow  the strategy to use when the buffer is full
+ *
+ * @throws IllegalArgumentException if [capacity] is not positive
+ *
+ * @since   0.9.0
+ */
+public fun <E> ObservableList<E>.changesAsFlow(
+    capacity: Int = 1,
+    onBufferOverflow: ChangeBufferOverflow = ChangeBufferOverflow.MERGE
+): Flow<ListChangeListener.Change<E>> = changesFlow(capacity, onBufferOverflow, { first, second -> ListChangeListener.Change.merge(first, second) }) { buffer ->
+    @Suppress("UNCHECKED_CAST")
+    val listener = ListChangeListener<E> { _, change ->
+        buffer.offer(change as ListChangeListener.Change<E>)
+    }
+
+    addChangeListener(listener)
+    return@changesFlow { removeChangeListener(listener) }
+}
+
+/**
+ * Creates an instance of a cold [Flow] that subscribes to the given
+ * [ObservableMap] and emits the changes made to it.
+ *
+ * Unlike [asFlow], the resulting flow does not emit snapshots of the map.
+ * Instead, it emits the deltas that were reported to the map's listeners after
+ * collection started. Thus, a collector that mirrors the map should take an
+ * initial snapshot before collecting the flow.
+ *
+ * Changes that arrive while the collector is busy are buffered. Once more
+ * than [capacity] changes are buffered, [onBufferOverflow] determines how the
+ * flow reacts. By default, at most one change is buffered and incoming changes
+ * are merged into it, so that each emitted change describes the net difference
+ * since the previous emission (see [MapChangeListener.Change.merge]).
+ *
+ * @param capacity          the number of changes that may be buffered before
+ *                          [onBufferOverflow] applies
+ * @param onBufferOverflow  the strategy to use when the buffer is full
+ *
+ * @throws IllegalArgumentException if [capacity] is not positive
+ *
+ * @since   0.9.0
+ */
+public fun <K, V> ObservableMap<K, V>.changesAsFlow(
+    capacity: Int = 1,
+    onBufferOverflow: ChangeBufferOverflow = ChangeBufferOverflow.MERGE
+): Flow<MapChangeListener.Change<K, V>> = changesFlow(capacity, onBufferOverflow, { first, second -> MapChangeListener.Change.merge(first, second) }) { buffer ->
+    @Suppress("UNCHECKED_CAST")
+    val listener = MapChangeListener<K, V> { _, change ->
+        buffer.offer(change as MapChangeListener.Change<K, V>)
+    }
+
+    addChangeListener(listener)
+    return@changesFlow { removeChangeListener(listener) }
+}
+
+/**
+ * Creates an instance of a cold [Flow] that subscribes to the given
+ * [ObservableSet] and emits the changes made to it.
+ *
+ * Unlike [asFlow], the resulting flow does not emit snapshots of the set.
+ * Instead, it emits the deltas that were reported to the set's listeners after
+ * collection started. Thus, a collector that mirrors the set should take an
+ * initial snapshot before collecting the flow.
+ *
+ * Changes that arrive while the collector is busy are buffered. Once more
+ * than [capacity] changes are buffered, [onBufferOverflow] determines how the
+ * flow reacts. By default, at most one change is buffered and incoming changes
+ * are merged into it, so that each emitted change describes the net difference
+ * since the previous emission (see [SetChangeListener.Change.merge]).
+ *
+ * @param capacity          the number of changes that may be buffered before
+ *                          [onBufferOverflow] applies
+ * @param onBufferOverflow  the strategy to use when the buffer is full
+ *
+ * @throws IllegalArgumentException if [capacity] is not positive
+ *
+ * @since   0.9.0
+ */
+public fun <E> ObservableSet<E>.changesAsFlow(
+    capacity: Int = 1,
+    onBufferOverflow: ChangeBufferOverflow = ChangeBufferOverflow.MERGE
+): Flow<SetChangeListener.Change<E>> = changesFlow(capacity, onBufferOverflow, { first, second -> SetChangeListener.Change.merge(first, second) }) { buffer ->
+    @Suppress("UNCHECKED_CAST")
+    val listener = SetChangeListener<E> { _, change ->
+        buffer.offer(change as SetChangeListener.Change<E>)
+    }
+
+    addChangeListener(listener)
+    return@changesFlow { removeChangeListener(listener) }
+}
+
+private fun <C : Any> changesFlow(
+    capacity: Int,
+    onBufferOverflow: ChangeBufferOverflow,
+    merge: (C, C) -> C?,
+    subscribe: (ChangeBuffer<C>) -> () -> Unit
+): Flow<C> {
+    require(capacity > 0) { "Capacity must be positive: $capacity" }
+
+    return flow {
+        val buffer = ChangeBuffer(capacity, onBufferOverflow, merge)
+        val unsubscribe = subscribe(buffer)
+
+        try {
+            while (true) {
+                buffer.awaitChanges()
+
+                while (true) {
+                    val change = buffer.poll() ?: break
+                    emit(change)
+                }
+            }
+        } finally {
+            unsubscribe()
+        }
+    }
+}
+
+/*
+ * Changes are buffered in a plain queue, instead of a channel, so that incoming
+ * changes may be merged into already buffered ones. The conflated channel is
+ * only used to wake up the collector.
+ */
+private class ChangeBuffer<C : Any>(
+    private val capacity: Int,
+    private val onBufferOverflow: ChangeBufferOverflow,
+    private val merge: (C, C) -> C?
+) {
+
+    private val changes = ArrayDeque<C>()
+    private val signal = Channel<Unit>(Channel.CONFLATED)
+
+    fun offer(change: C) {
+        synchronized(changes) {
+            if (changes.size < capacity) {
+                changes.addLast(change)
+            } else {
+                when (onBufferOverflow) {
+                    ChangeBufferOverflow.MERGE -> {
+                        val merged = merge(changes.last(), change)
+
+                        if (merged != null) {
+                            changes[changes.lastIndex] = merged
+                        } else {
+                            changes.addLast(change)
+                        }
+                    }
+                    ChangeBufferOverflow.DROP_OLDEST -> {
+                        changes.removeFirst()
+                        changes.addLast(change)
+                    }
+                    ChangeBufferOverflow.DROP_LATEST -> return
+                }
+            }
+        }
+
+        signal.trySend(Unit)
+    }
+
+    fun poll(): C? = synchronized(changes) { changes.removeFirstOrNull() }
+
+    suspend fun awaitChanges() {
+        signal.receive()
+    }
+
+}
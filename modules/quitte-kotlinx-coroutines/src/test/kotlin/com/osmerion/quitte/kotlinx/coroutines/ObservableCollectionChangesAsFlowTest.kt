@@ -0,0 +1,194 @@
+/*
+ * Copyright (c) 2018-2023 Leon Linhart,
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ */
+@file:OptIn(ExperimentalCoroutinesApi::class)
+package com.osmerion.quitte.kotlinx.coroutines
+
+import com.osmerion.quitte.collections.ListChangeListener
+import com.osmerion.quitte.collections.MapChangeListener
+import com.osmerion.quitte.collections.ObservableList
+import com.osmerion.quitte.collections.ObservableMap
+import com.osmerion.quitte.collections.ObservableSet
+import com.osmerion.quitte.collections.SetChangeListener
+import kotlinx.coroutines.*
+import kotlinx.coroutines.flow.Flow
+import kotlinx.coroutines.test.TestScope
+import kotlinx.coroutines.test.runCurrent
+import kotlinx.coroutines.test.runTest
+import org.junit.jupiter.api.Assertions.*
+import org.junit.jupiter.api.*
+
+class ObservableCollectionChangesAsFlowTest {
+
+    @Test
+    fun testList_Merge() = runTest {
+        val list = ObservableList.of(mutableListOf("A", "B", "C"))
+        val mirror = list.toMutableList()
+
+        val changes = collectWhile(list.changesAsFlow()) {
+            list.add("D")
+            list.removeAt(0)
+            list[1] = "X"
+        }
+
+        assertEquals(1, changes.size)
+        changes.forEach { mirror.apply(it) }
+        assertEquals(list, mirror)
+    }
+
+    @Test
+    fun testList_MergePermutations() = runTest {
+        val list = ObservableList.of(mutableListOf(3, 1, 2))
+        val mirror = list.toMutableList()
+
+        val changes = collectWhile(list.changesAsFlow()) {
+            list.sortWith(Comparator.naturalOrder())
+            list.sortWith(Comparator.reverseOrder())
+        }
+
+        assertEquals(1, changes.size)
+        assertInstanceOf(ListChangeListener.Change.Permutation::class.java, changes[0])
+        changes.forEach { mirror.apply(it) }
+        assertEquals(list, mirror)
+    }
+
+    @Test
+    fun testList_Unmergeable() = runTest {
+        val list = ObservableList.of(mutableListOf(3, 1, 2))
+        val mirror = list.toMutableList()
+
+        val changes = collectWhile(list.changesAsFlow()) {
+            list.add(0)
+            list.sortWith(Comparator.naturalOrder())
+            list.add(4)
+        }
+
+        assertEquals(3, changes.size)
+        changes.forEach { mirror.apply(it) }
+        assertEquals(list, mirror)
+    }
+
+    @Test
+    fun testList_Unbuffered() = runTest {
+        val list = ObservableList.of(mutableListOf<String>())
+
+        val changes = collectWhile(list.changesAsFlow()) {
+            list.add("A")
+            runCurrent()
+            list.add("B")
+        }
+
+        assertEquals(2, changes.size)
+    }
+
+    @Test
+    fun testMap_Merge() = runTest {
+        val map = ObservableMap.of(mutableMapOf("A" to 1, "B" to 2))
+
+        val changes = collectWhile(map.changesAsFlow()) {
+            map["A"] = 3
+            map.remove("B")
+            map["C"] = 4
+            map.remove("C")
+        }
+
+        assertEquals(listOf(MapChangeListener.Change(null, mapOf("B" to 2), mapOf("A" to MapChangeListener.Change.Update(1, 3)))), changes)
+    }
+
+    @Test
+    fun testSet_Merge() = runTest {
+        val set = ObservableSet.of(mutableSetOf("A", "B"))
+
+        val changes = collectWhile(set.changesAsFlow()) {
+            set.add("C")
+            set.remove("A")
+            set.remove("C")
+        }
+
+        assertEquals(listOf(SetChangeListener.Change(null, setOf("A"))), changes)
+    }
+
+    @Test
+    fun testSet_DropOldest() = runTest {
+        val set = ObservableSet.of(mutableSetOf<Int>())
+
+        val changes = collectWhile(set.changesAsFlow(capacity = 2, onBufferOverflow = ChangeBufferOverflow.DROP_OLDEST)) {
+            for (i in 0 until 5) set.add(i)
+        }
+
+        assertEquals(listOf(setOf(3), setOf(4)), changes.map { it.addedElements() })
+    }
+
+    @Test
+    fun testSet_DropLatest() = runTest {
+        val set = ObservableSet.of(mutableSetOf<Int>())
+
+        val changes = collectWhile(set.changesAsFlow(capacity = 2, onBufferOverflow = ChangeBufferOverflow.DROP_LATEST)) {
+            for (i in 0 until 5) set.add(i)
+        }
+
+        assertEquals(listOf(setOf(0), setOf(1)), changes.map { it.addedElements() })
+    }
+
+    @Test
+    fun testInvalidCapacity() {
+        assertThrows<IllegalArgumentException> { ObservableSet.of(mutableSetOf<Int>()).changesAsFlow(capacity = 0) }
+    }
+
+    private fun <T> TestScope.collectWhile(flow: Flow<T>, action: () -> Unit): List<T> {
+        val items = mutableListOf<T>()
+        val job = launch { flow.collect { items += it } }
+
+        runCurrent()
+        action()
+        runCurrent()
+        job.cancel()
+        runCurrent()
+
+        return items
+    }
+
+    private fun <E> MutableList<E>.apply(change: ListChangeListener.Change<E>) {
+        when (change) {
+            is ListChangeListener.Change.Permutation -> {
+                val copy = toList()
+                change.indices().forEachIndexed { from, to -> this[to] = copy[from] }
+            }
+            is ListChangeListener.Change.Update -> change.localChanges().forEach { localChange ->
+                when (localChange) {
+                    is ListChangeListener.LocalChange.Insertion -> addAll(localChange.index(), localChange.elements())
+                    is ListChangeListener.LocalChange.Removal -> subList(localChange.index(), localChange.index() + localChange.elements().size).clear()
+                    is ListChangeListener.LocalChange.Update -> localChange.newElements().forEachIndexed { i, e -> this[localChange.index() + i] = e }
+                }
+            }
+        }
+    }
+
+}
@@ -0,0 +1,847 @@
+/*
+ * Copyright (c) 2018-2023 Leon Linhart,
+ * All rights reserved.
+ * MACHINE GENERATED FILE, DO NOT EDIT
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.osmerion.quitte.collections;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CopyOnWriteArraySet;
+import javax.annotation.Nullable;
+
+import com.osmerion.quitte.InvalidationListener;
+import com.osmerion.quitte.functional.ByteConsumer;
+import com.osmerion.quitte.internal.Listeners;
+import com.osmerion.quitte.internal.Metrics;
+import com.osmerion.quitte.internal.Propagation;
+import com.osmerion.quitte.metrics.MetricsSink;
+
+/**
+ * A basic implementation for a modifiable {@link ObservableByteList} that is backed by a growable
+ * {@code byte} array.
+ *
+ * @since   0.9.0
+ *
+ * @author  Leon Linhart
+ */
+public abstract class AbstractObservableByteList implements ObservableByteList {
+
+    private static final byte[] EMPTY_ELEMENTS = {};
+
+    private transient final CopyOnWriteArraySet<ByteListChangeListener> changeListeners = new CopyOnWriteArraySet<>();
+    private transient final CopyOnWriteArraySet<InvalidationListener> invalidationListeners = new CopyOnWriteArraySet<>();
+
+    @Nullable
+    private transient ChangeBuilder changeBuilder;
+
+    private byte[] elements;
+    private int size;
+
+    /**
+     * Creates a new empty list.
+     *
+     * @since   0.9.0
+     */
+    protected AbstractObservableByteList() {
+        this.elements = EMPTY_ELEMENTS;
+    }
+
+    /**
+     * Creates a new list with the given initial elements.
+     *
+     * @param elements  the initial elements for the list
+     *
+     * @throws NullPointerException if the given array is {@code null}
+     *
+     * @since   0.9.0
+     */
+    protected AbstractObservableByteList(byte[] elements) {
+        this.elements = (elements.length != 0) ? elements.clone() : EMPTY_ELEMENTS;
+        this.size = elements.length;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @since   0.9.0
+     */
+    @Override
+    public final boolean addChangeListener(ByteListChangeListener listener) {
+        return Listeners.add(this.changeListeners, listener);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @since   0.9.0
+     */
+    @Override
+    public final boolean removeChangeListener(ByteListChangeListener listener) {
+        return this.changeListeners.remove(Objects.requireNonNull(listener));
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @since   0.9.0
+     */
+    @Override
+    public final boolean addInvalidationListener(InvalidationListener listener) {
+        return Listeners.add(this.invalidationListeners, listener);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @since   0.9.0
+     */
+    @Override
+    public final boolean removeInvalidationListener(InvalidationListener listener) {
+        return this.invalidationListeners.remove(listener);
+    }
+
+    /**
+     * Pushes a frame on the current {@link ChangeBuilder} instance or creates a new one.
+     *
+     * <p>If a {@link com.osmerion.quitte.Quitte#beginTransaction() transaction} is open, a newly created builder is
+     * kept open until the transaction is committed. Thus, all changes made during the transaction are reported as a
+     * single change.</p>
+     *
+     * @return  the current {@code ChangeBuilder}
+     *
+     * @since   0.9.0
+     */
+    protected final ChangeBuilder beginChange() {
+        if (this.changeBuilder == null) {
+            ChangeBuilder changeBuilder = this.changeBuilder = new ChangeBuilder();
+            if (Propagation.isInTransaction() && Propagation.deferChange(this, changeBuilder::close)) changeBuilder.depth++;
+        }
+
+        this.changeBuilder.depth++;
+
+        return this.changeBuilder;
+    }
+
+    /**
+     * Checks whether this list may currently be modified. This method is called before this list is modified.
+     *
+     * <p>The default implementation does nothing.</p>
+     *
+     * @throws IllegalStateException    if this list may currently not be modified
+     *
+     * @since   0.9.0
+     */
+    protected void checkModifiable() {}
+
+    /**
+     * {@inheritDoc}
+     *
+     * @since   0.9.0
+     */
+    @Override
+    public final int size() {
+        return this.size;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @since   0.9.0
+     */
+    @Override
+    public final byte get(int index) {
+        return this.elements[Objects.checkIndex(index, this.size)];
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @since   0.9.0
+     */
+    @Override
+    public final int indexOf(byte element) {
+        for (int i = 0; i < this.size; i++) {
+            if (elementEquals(this.elements[i], element)) return i;
+        }
+
+        return -1;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @since   0.9.0
+     */
+    @Override
+    public final int lastIndexOf(byte element) {
+        for (int i = this.size - 1; i >= 0; i--) {
+            if (elementEquals(this.elements[i], element)) return i;
+        }
+
+        return -1;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @since   0.9.0
+     */
+    @Override
+    public final byte[] toArray() {
+        return Arrays.copyOf(this.elements, this.size);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @since   0.9.0
+     */
+    @Override
+    public final void forEach(ByteConsumer action) {
+        Objects.requireNonNull(action);
+        for (int i = 0; i < this.size; i++) action.accept(this.elements[i]);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @since   0.9.0
+     */
+    @Override
+    public final boolean add(byte element) {
+        this.add(this.size, element);
+        return true;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @since   0.9.0
+     */
+    @Override
+    public final void add(int index, byte element) {
+        Objects.checkIndex(index, this.size + 1);
+        this.checkModifiable();
+
+        this.ensureCapacity(this.size + 1);
+        System.arraycopy(this.elements, index, this.elements, index + 1, this.size - index);
+        this.elements[index] = element;
+        this.size++;
+
+        try (ChangeBuilder changeBuilder = this.beginChange()) {
+            changeBuilder.logAdd(index, index + 1);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @since   0.9.0
+     */
+    @Override
+    public final boolean addAll(byte[] elements) {
+        return this.addAll(this.size, elements, 0, elements.length);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @since   0.9.0
+     */
+    @Override
+    public final boolean addAll(int index, byte[] elements, int offset, int length) {
+        Objects.checkIndex(index, this.size + 1);
+        Objects.checkFromIndexSize(offset, length, elements.length);
+        this.checkModifiable();
+
+        if (length == 0) return false;
+
+        this.ensureCapacity(this.size + length);
+        System.arraycopy(this.elements, index, this.elements, index + length, this.size - index);
+        System.arraycopy(elements, offset, this.elements, index, length);
+        this.size += length;
+
+        try (ChangeBuilder changeBuilder = this.beginChange()) {
+            changeBuilder.logAdd(index, index + length);
+        }
+
+        return true;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @since   0.9.0
+     */
+    @Override
+    public final byte set(int index, byte element) {
+        Objects.checkIndex(index, this.size);
+        this.checkModifiable();
+
+        byte old = this.elements[index];
+        this.elements[index] = element;
+
+        try (ChangeBuilder changeBuilder = this.beginChange()) {
+            changeBuilder.logSet(index, old);
+        }
+
+        return old;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @since   0.9.0
+     */
+    @Override
+    public final boolean setAll(byte[] elements) {
+        if (Arrays.equals(this.elements, 0, this.size, elements, 0, elements.length)) return false;
+        this.checkModifiable();
+
+        try (ChangeBuilder changeBuilder = this.beginChange()) {
+            if (this.size == elements.length) {
+                /* If the size does not change, the elements are replaced in place and reported as a single update. */
+                byte[] old = this.toArray();
+                System.arraycopy(elements, 0, this.elements, 0, elements.length);
+
+                changeBuilder.logSet(0, old, old.length);
+            } else {
+                this.removeRange(0, this.size);
+                this.addAll(0, elements, 0, elements.length);
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @since   0.9.0
+     */
+    @Override
+    public final byte removeAt(int index) {
+        Objects.checkIndex(index, this.size);
+        this.checkModifiable();
+
+        byte old = this.elements[index];
+
+        try (ChangeBuilder changeBuilder = this.beginChange()) {
+            changeBuilder.logRemove(index, this.elements, index, 1);
+
+            System.arraycopy(this.elements, index + 1, this.elements, index, this.size - index - 1);
+            this.size--;
+        }
+
+        return old;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @since   0.9.0
+     */
+    @Override
+    public final void removeRange(int fromIndex, int toIndex) {
+        Objects.checkFromToIndex(fromIndex, toIndex, this.size);
+        this.checkModifiable();
+
+        if (fromIndex == toIndex) return;
+
+        try (ChangeBuilder changeBuilder = this.beginChange()) {
+            changeBuilder.logRemove(fromIndex, this.elements, fromIndex, toIndex - fromIndex);
+
+            System.arraycopy(this.elements, toIndex, this.elements, fromIndex, this.size - toIndex);
+            this.size -= toIndex - fromIndex;
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @since   0.9.0
+     */
+    @Override
+    public final void sort() {
+        this.checkModifiable();
+        if (this.size < 2) return;
+
+        /* Sort the indices instead of the elements to compute the permutation without boxing. */
+        int[] order = new int[this.size];
+        for (int i = 0; i < order.length; i++) order[i] = i;
+
+        mergeSort(this.elements, order, new int[order.length], 0, order.length);
+
+        int[] permutation = new int[this.size];
+        for (int i = 0; i < order.length; i++) permutation[order[i]] = i;
+
+        this.permute(permutation);
+    }
+
+    private static void mergeSort(byte[] keys, int[] order, int[] buffer, int from, int to) {
+        if (to - from < 2) return;
+
+        int mid = (from + to) >>> 1;
+        mergeSort(keys, order, buffer, from, mid);
+        mergeSort(keys, order, buffer, mid, to);
+
+        if (Byte.compare(keys[order[mid - 1]], keys[order[mid]]) <= 0) return;
+
+        System.arraycopy(order, from, buffer, from, to - from);
+
+        for (int i = from, l = from, r = mid; i < to; i++) {
+            order[i] = (r >= to || (l < mid && Byte.compare(keys[buffer[l]], keys[buffer[r]]) <= 0)) ? buffer[l++] : buffer[r++];
+        }
+    }
+
+    /**
+     * Rearranges the elements of this list according to the given permutation.
+     *
+     * <p>The element at index {@code i} is moved to index {@code indices[i]}.</p>
+     *
+     * @param indices   the permutation
+     *
+     * @throws IllegalArgumentException if the given array is not a permutation of the indices of this list
+     * @throws NullPointerException     if the given array is {@code null}
+     *
+     * @since   0.9.0
+     */
+    protected final void permute(int[] indices) {
+        if (indices.length != this.size) throw new IllegalArgumentException("Permutation size does not match list size");
+
+        boolean[] visited = new boolean[indices.length];
+
+        for (int index : indices) {
+            if (index < 0 || index >= indices.length || visited[index]) throw new IllegalArgumentException("Not a permutation: " + Arrays.toString(indices));
+            visited[index] = true;
+        }
+
+        this.checkModifiable();
+
+        byte[] origin = this.toArray();
+        for (int i = 0; i < origin.length; i++) this.elements[indices[i]] = origin[i];
+
+        try (ChangeBuilder changeBuilder = this.beginChange()) {
+            changeBuilder.logPermutation(origin, indices.clone());
+        }
+    }
+
+    private void ensureCapacity(int minCapacity) {
+        if (minCapacity < 0) throw new OutOfMemoryError("Required array length is too large");
+        if (minCapacity <= this.elements.length) return;
+
+        int capacity = Math.max(Math.max(minCapacity, 10), this.elements.length + (this.elements.length >> 1));
+        this.elements = Arrays.copyOf(this.elements, capacity);
+    }
+
+    /**
+     * {@return whether the given object is an {@link ObservableByteList} that contains the same elements in
+     * the same order as this list}
+     *
+     * @param obj   the object to compare this list to
+     *
+     * @since   0.9.0
+     */
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) return true;
+        if (!(obj instanceof ObservableByteList other) || this.size != other.size()) return false;
+
+        for (int i = 0; i < this.size; i++) {
+            if (!elementEquals(this.elements[i], other.get(i))) return false;
+        }
+
+        return true;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @since   0.9.0
+     */
+    @Override
+    public int hashCode() {
+        int result = 1;
+        for (int i = 0; i < this.size; i++) result = 31 * result + Byte.hashCode(this.elements[i]);
+
+        return result;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @since   0.9.0
+     */
+    @Override
+    public String toString() {
+        return Arrays.toString(this.toArray());
+    }
+
+    private static boolean elementEquals(byte a, byte b) {
+        return a == b;
+    }
+
+    /**
+     * A builder to be used to register changes made to this list.
+     *
+     * <p>Subsequent changes to adjacent ranges of this list are merged into a single local change as they are
+     * registered. The elements affected by local changes are buffered in growable {@code byte} arrays which are
+     * referenced by the reported change without copying.</p>
+     *
+     * @see #beginChange()
+     * @see #close()
+     *
+     * @since   0.9.0
+     */
+    protected final class ChangeBuilder implements AutoCloseable {
+
+        private final List<WorkingLocalChange> localChanges = new ArrayList<>(1);
+
+        /*
+         * A permutation is only tracked while no other changes have been registered. Once another change is
+         * registered, the permutation is converted into an update.
+         */
+        @Nullable
+        private byte[] permutationOrigin;
+
+        @Nullable
+        private int[] permutation;
+
+        private int depth = 0;
+
+        private ChangeBuilder() {}
+
+        /**
+         * Pops a frame from this builder.
+         *
+         * <p>If the last frame has been popped, the changes are committed and sent to this listeners of this
+         * observable.</p>
+         *
+         * @since   0.9.0
+         */
+        @Override
+        public void close() {
+            if (this.depth < 1) throw new IllegalStateException();
+
+            this.depth--;
+
+            if (this.depth == 0) {
+                AbstractObservableByteList.this.changeBuilder = null;
+
+                MetricsSink sink = Metrics.sink();
+                long start = (sink != null) ? System.nanoTime() : 0L;
+
+                ByteListChangeListener.Change change;
+
+                if (this.permutation != null) {
+                    boolean hasChanged = false;
+
+                    for (int i = 0; i < this.permutation.length; i++) {
+                        if (i != this.permutation[i]) {
+                            hasChanged = true;
+                            break;
+                        }
+                    }
+
+                    /*
+                     * If the permutation is the identity function, the list has not changed, and we do not notify
+                     * listeners.
+                     */
+                    if (!hasChanged) return;
+
+                    change = new ByteListChangeListener.Change.Permutation(this.permutation);
+                } else {
+                    if (this.localChanges.isEmpty()) return;
+
+                    List<ByteListChangeListener.LocalChange> localChanges = new ArrayList<>(this.localChanges.size());
+                    for (WorkingLocalChange workingLocalChange : this.localChanges) localChanges.add(workingLocalChange.toLocalChange());
+
+                    change = new ByteListChangeListener.Change.Update(localChanges);
+                }
+
+                if (sink != null) {
+                    long now = System.nanoTime();
+                    sink.recordInvalidation(AbstractObservableByteList.this);
+                    sink.recordChangeCompaction(AbstractObservableByteList.this, now - start);
+                    start = now;
+                }
+
+                int changeListenerCount = AbstractObservableByteList.this.changeListeners.size();
+
+                for (var listener : AbstractObservableByteList.this.changeListeners) {
+                    if (listener.isInvalid()) {
+                        AbstractObservableByteList.this.changeListeners.remove(listener);
+                        continue;
+                    }
+
+                    listener.onChanged(AbstractObservableByteList.this, change);
+                }
+
+                if (sink != null) {
+                    long now = System.nanoTime();
+                    if (changeListenerCount != 0) sink.recordChangeDispatch(AbstractObservableByteList.this, changeListenerCount, now - start);
+                    start = now;
+                }
+
+                int invalidationListenerCount = AbstractObservableByteList.this.invalidationListeners.size();
+
+                if (invalidationListenerCount != 0) {
+                    Propagation.begin();
+
+                    try {
+                        for (var listener : AbstractObservableByteList.this.invalidationListeners) {
+                            if (listener.isInvalid()) {
+                                AbstractObservableByteList.this.invalidationListeners.remove(listener);
+                                continue;
+                            }
+
+                            listener.onInvalidation(AbstractObservableByteList.this);
+                        }
+                    } finally {
+                        Propagation.end();
+                    }
+
+                    if (sink != null) sink.recordInvalidationDispatch(AbstractObservableByteList.this, invalidationListenerCount, System.nanoTime() - start);
+                }
+            }
+        }
+
+        /**
+         * Registers the insertion of the elements that are currently in the given range of this list.
+         *
+         * @param from  the index of the first inserted element (inclusive)
+         * @param to    the index of the last inserted element (exclusive)
+         *
+         * @since   0.9.0
+         */
+        public void logAdd(int from, int to) {
+            this.flushPermutation();
+
+            byte[] elements = AbstractObservableByteList.this.elements;
+            int length = to - from;
+
+            if (this.last() instanceof WorkingLocalChange.Insertion insertion && insertion.index <= from && from <= insertion.index + insertion.length) {
+                insertion.insert(from - insertion.index, elements, from, length);
+                return;
+            }
+
+            this.localChanges.add(new WorkingLocalChange.Insertion(from, Arrays.copyOfRange(elements, from, to)));
+        }
+
+        /**
+         * Registers the removal of the elements in the given slice of an array.
+         *
+         * @param index     the index of the first removed element
+         * @param elements  the array that holds the removed elements
+         * @param offset    the offset of the first removed element in {@code elements}
+         * @param length    the number of removed elements
+         *
+         * @since   0.9.0
+         */
+        public void logRemove(int index, byte[] elements, int offset, int length) {
+            this.flushPermutation();
+
+            WorkingLocalChange last = this.last();
+
+            if (last instanceof WorkingLocalChange.Insertion insertion && insertion.index <= index && index + length <= insertion.index + insertion.length) {
+                /* Removing previously inserted elements cancels out their insertion. */
+                insertion.remove(index - insertion.index, length);
+                if (insertion.length == 0) this.localChanges.remove(this.localChanges.size() - 1);
+
+                return;
+            } else if (last instanceof WorkingLocalChange.Removal removal) {
+                if (index == removal.index) {
+                    removal.insert(removal.length, elements, offset, length);
+                    return;
+                } else if (index + length == removal.index) {
+                    removal.insert(0, elements, offset, length);
+                    removal.index = index;
+                    return;
+                }
+            }
+
+            this.localChanges.add(new WorkingLocalChange.Removal(index, Arrays.copyOfRange(elements, offset, offset + length)));
+        }
+
+        /**
+         * Registers that the element at the given index has been replaced.
+         *
+         * @param index the index of the replaced element
+         * @param old   the previous element
+         *
+         * @since   0.9.0
+         */
+        public void logSet(int index, byte old) {
+            this.flushPermutation();
+
+            WorkingLocalChange last = this.last();
+            byte element = AbstractObservableByteList.this.elements[index];
+
+            if (last instanceof WorkingLocalChange.Insertion insertion && insertion.index <= index && index < insertion.index + insertion.length) {
+                insertion.elements[index - insertion.index] = element;
+                return;
+            } else if (last instanceof WorkingLocalChange.Update update) {
+                if (update.index <= index && index < update.index + update.length) {
+                    update.newElements[index - update.index] = element;
+                    return;
+                } else if (index == update.index + update.length) {
+                    update.append(old, element);
+                    return;
+                }
+            }
+
+            this.localChanges.add(new WorkingLocalChange.Update(index, new byte[] { old }, new byte[] { element }));
+        }
+
+        private void logSet(int index, byte[] old, int length) {
+            this.flushPermutation();
+            this.localChanges.add(new WorkingLocalChange.Update(index, old, Arrays.copyOfRange(AbstractObservableByteList.this.elements, index, index + length)));
+        }
+
+        private void logPermutation(byte[] origin, int[] permutation) {
+            if (!this.localChanges.isEmpty()) {
+                this.localChanges.add(new WorkingLocalChange.Update(0, origin, AbstractObservableByteList.this.toArray()));
+            } else if (this.permutation == null) {
+                this.permutationOrigin = origin;
+                this.permutation = permutation;
+            } else {
+                int[] combined = new int[permutation.length];
+                for (int i = 0; i < combined.length; i++) combined[i] = permutation[this.permutation[i]];
+
+                this.permutation = combined;
+            }
+        }
+
+        private void flushPermutation() {
+            if (this.permutation == null) return;
+            assert (this.permutationOrigin != null);
+
+            byte[] permuted = new byte[this.permutation.length];
+            for (int i = 0; i < permuted.length; i++) permuted[this.permutation[i]] = this.permutationOrigin[i];
+
+            this.localChanges.add(new WorkingLocalChange.Update(0, this.permutationOrigin, permuted));
+            this.permutationOrigin = null;
+            this.permutation = null;
+        }
+
+        @Nullable
+        private WorkingLocalChange last() {
+            return this.localChanges.isEmpty() ? null : this.localChanges.get(this.localChanges.size() - 1);
+        }
+
+    }
+
+    private static abstract class WorkingLocalChange {
+
+        int index;
+        byte[] elements;
+        int length;
+
+        WorkingLocalChange(int index, byte[] elements) {
+            this.index = index;
+            this.elements = elements;
+            this.length = elements.length;
+        }
+
+        void insert(int at, byte[] source, int offset, int count) {
+            if (this.length + count > this.elements.length) this.elements = Arrays.copyOf(this.elements, Math.max(this.length + count, this.elements.length * 2));
+
+            System.arraycopy(this.elements, at, this.elements, at + count, this.length - at);
+            System.arraycopy(source, offset, this.elements, at, count);
+            this.length += count;
+        }
+
+        void remove(int at, int count) {
+            System.arraycopy(this.elements, at + count, this.elements, at, this.length - at - count);
+            this.length -= count;
+        }
+
+        abstract ByteListChangeListener.LocalChange toLocalChange();
+
+        private static final class Insertion extends WorkingLocalChange {
+
+            private Insertion(int index, byte[] elements) {
+                super(index, elements);
+            }
+
+            @Override
+            ByteListChangeListener.LocalChange toLocalChange() {
+                return new ByteListChangeListener.LocalChange.Insertion(this.index, this.elements, 0, this.length);
+            }
+
+        }
+
+        private static final class Removal extends WorkingLocalChange {
+
+            private Removal(int index, byte[] elements) {
+                super(index, elements);
+            }
+
+            @Override
+            ByteListChangeListener.LocalChange toLocalChange() {
+                return new ByteListChangeListener.LocalChange.Removal(this.index, this.elements, 0, this.length);
+            }
+
+        }
+
+        /* For updates, the inherited elements are the previous elements. */
+        private static final class Update extends WorkingLocalChange {
+
+            private byte[] newElements;
+
+            private Update(int index, byte[] oldElements, byte[] newElements) {
+                super(index, oldElements);
+                this.newElements = newElements;
+            }
+
+            void append(byte oldElement, byte newElement) {
+                if (this.length == this.elements.length || this.length == this.newElements.length) {
+                    int capacity = Math.max(this.length + 1, this.length * 2);
+                    this.elements = Arrays.copyOf(this.elements, capacity);
+                    this.newElements = Arrays.copyOf(this.newElements, capacity);
+                }
+
+                this.elements[this.length] = oldElement;
+                this.newElements[this.length] = newElement;
+                this.length++;
+            }
+
+            @Override
+            ByteListChangeListener.LocalChange toLocalChange() {
+                return new ByteListChangeListener.LocalChange.Update(this.index, this.elements, this.newElements, 0, this.length);
+            }
+
+        }
+
+    }
+
+}
\ No newline at end of file
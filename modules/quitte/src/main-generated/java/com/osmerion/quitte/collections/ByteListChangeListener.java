@@ -0,0 +1,391 @@
+/*
+ * Copyright (c) 2018-2023 Leon Linhart,
+ * All rights reserved.
+ * MACHINE GENERATED FILE, DO NOT EDIT
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.osmerion.quitte.collections;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * A listener that may be used to subscribe to changes to one or more {@link ObservableByteList observable list}.
+ *
+ * <p>To avoid boxing, the elements affected by a {@link LocalChange local change} are referenced as a slice of a
+ * {@code byte} array. These arrays are owned by the change and must not be modified.</p>
+ *
+ * @since   0.9.0
+ *
+ * @author  Leon Linhart
+ */
+public interface ByteListChangeListener {
+
+    /**
+     * Processes changes to an {@link ObservableByteList observable list} this listener is attached to.
+     *
+     * @param observable    the observable list
+     * @param change        the change to process
+     *
+     * @since   0.9.0
+     */
+    void onChanged(ObservableByteList observable, Change change);
+
+    /**
+     * {@return whether this listener is invalid}
+     *
+     * <p>Once an observable collection discovers that a listener is invalid, it will stop notifying the listener of
+     * updates and release all strong references to the listener.</p>
+     *
+     * <p>Once this method returned {@code true}, it must never return {@code false} again for the same instance.
+     * Breaking this contract may result in unexpected behavior.</p>
+     *
+     * @since   0.9.0
+     */
+    default boolean isInvalid() {
+        return false;
+    }
+
+    /**
+     * A change to a list may either be a {@link Permutation permutation}, or one or more local updates to parts of the
+     * list (represented as {@link LocalChange}).
+     *
+     * <p>Using {@code instanceof} checks (or similar future pattern matching mechanisms) is recommended when working
+     * with {@code Change} objects.</p>
+     *
+     * @since   0.9.0
+     */
+    sealed interface Change {
+
+        /**
+         * A change to a list in which its elements are rearranged.
+         *
+         * <p>The element at index {@code i} before the change is at index {@code indices[i]} after the change.</p>
+         *
+         * @param indices   the indices (must not be modified)
+         *
+         * @since   0.9.0
+         */
+        record Permutation(
+            int[] indices
+        ) implements Change {
+
+            public Permutation {
+                Objects.requireNonNull(indices);
+            }
+
+            @Override
+            public boolean equals(Object obj) {
+                if (this == obj) return true;
+                return (obj instanceof Permutation other && Arrays.equals(this.indices, other.indices));
+            }
+
+            @Override
+            public int hashCode() {
+                return Arrays.hashCode(this.indices);
+            }
+
+            @Override
+            public String toString() {
+                return "Permutation[indices=" + Arrays.toString(this.indices) + "]";
+            }
+
+        }
+
+        /**
+         * A change to a list that consists of one or more local changes to the list.
+         *
+         * @param localChanges  the local changes
+         *
+         * @since   0.9.0
+         */
+        record Update(
+            List<? extends LocalChange> localChanges
+        ) implements Change {
+
+            public Update {
+                localChanges = List.copyOf(localChanges);
+            }
+
+        }
+
+    }
+
+    /**
+     * A change to a list. This might either be an {@link Insertion}, a {@link Removal}, or an {@link Update}.
+     *
+     * <p>Using {@code instanceof} checks (or similar future pattern matching mechanisms) is recommended when working
+     * with {@code LocalChange} objects.</p>
+     *
+     * @since   0.9.0
+     */
+    sealed interface LocalChange {
+
+        /**
+         * Returns the index of the first element affected by this change.
+         *
+         * @return  the index of the first element affected by this change
+         *
+         * @since   0.9.0
+         */
+        int index();
+
+        /**
+         * Returns the number of elements affected by this change.
+         *
+         * @return  the number of elements affected by this change
+         *
+         * @since   0.9.0
+         */
+        int length();
+
+        /**
+         * Represents insertion of one or more subsequent elements starting from a given {@link #index() index}.
+         *
+         * @param index     the index of the first element affected by this change
+         * @param elements  the array that holds the inserted elements (must not be modified)
+         * @param offset    the offset of the first inserted element in {@code elements}
+         * @param length    the number of inserted elements
+         *
+         * @since   0.9.0
+         */
+        record Insertion(
+            int index,
+            byte[] elements,
+            int offset,
+            int length
+        ) implements LocalChange {
+
+            public Insertion {
+                Objects.checkFromIndexSize(offset, length, elements.length);
+            }
+
+            /**
+             * Returns the inserted element at the given position.
+             *
+             * @param index the position of the element relative to {@link #index()}
+             *
+             * @return  the inserted element at the given position
+             *
+             * @throws IndexOutOfBoundsException    if the index is out of range
+             *
+             * @since   0.9.0
+             */
+            public byte get(int index) {
+                return this.elements[this.offset + Objects.checkIndex(index, this.length)];
+            }
+
+            /**
+             * {@return a copy of the inserted elements}
+             *
+             * @since   0.9.0
+             */
+            public byte[] toArray() {
+                return Arrays.copyOfRange(this.elements, this.offset, this.offset + this.length);
+            }
+
+            @Override
+            public boolean equals(Object obj) {
+                if (this == obj) return true;
+                return (obj instanceof Insertion other && this.index == other.index && sliceEquals(this.elements, this.offset, other.elements, other.offset, this.length, other.length));
+            }
+
+            @Override
+            public int hashCode() {
+                return 31 * this.index + sliceHashCode(this.elements, this.offset, this.length);
+            }
+
+            @Override
+            public String toString() {
+                return "Insertion[index=" + this.index + ", elements=" + Arrays.toString(this.toArray()) + "]";
+            }
+
+        }
+
+        /**
+         * Represents removal of one or more subsequent elements starting from a given {@link #index() index}.
+         *
+         * @param index     the index of the first element affected by this change
+         * @param elements  the array that holds the removed elements (must not be modified)
+         * @param offset    the offset of the first removed element in {@code elements}
+         * @param length    the number of removed elements
+         *
+         * @since   0.9.0
+         */
+        record Removal(
+            int index,
+            byte[] elements,
+            int offset,
+            int length
+        ) implements LocalChange {
+
+            public Removal {
+                Objects.checkFromIndexSize(offset, length, elements.length);
+            }
+
+            /**
+             * Returns the removed element at the given position.
+             *
+             * @param index the position of the element relative to {@link #index()}
+             *
+             * @return  the removed element at the given position
+             *
+             * @throws IndexOutOfBoundsException    if the index is out of range
+             *
+             * @since   0.9.0
+             */
+            public byte get(int index) {
+                return this.elements[this.offset + Objects.checkIndex(index, this.length)];
+            }
+
+            /**
+             * {@return a copy of the removed elements}
+             *
+             * @since   0.9.0
+             */
+            public byte[] toArray() {
+                return Arrays.copyOfRange(this.elements, this.offset, this.offset + this.length);
+            }
+
+            @Override
+            public boolean equals(Object obj) {
+                if (this == obj) return true;
+                return (obj instanceof Removal other && this.index == other.index && sliceEquals(this.elements, this.offset, other.elements, other.offset, this.length, other.length));
+            }
+
+            @Override
+            public int hashCode() {
+                return 31 * this.index + sliceHashCode(this.elements, this.offset, this.length);
+            }
+
+            @Override
+            public String toString() {
+                return "Removal[index=" + this.index + ", elements=" + Arrays.toString(this.toArray()) + "]";
+            }
+
+        }
+
+        /**
+         * Represents an update of one or more subsequent elements starting from a given {@link #index() index}.
+         *
+         * <p>The previous and updated elements are stored in separate arrays, but at the same offset.</p>
+         *
+         * @param index         the index of the first element affected by this change
+         * @param oldElements   the array that holds the previous elements (must not be modified)
+         * @param newElements   the array that holds the updated elements (must not be modified)
+         * @param offset        the offset of the first affected element in {@code oldElements} and {@code newElements}
+         * @param length        the number of updated elements
+         *
+         * @since   0.9.0
+         */
+        record Update(
+            int index,
+            byte[] oldElements,
+            byte[] newElements,
+            int offset,
+            int length
+        ) implements LocalChange {
+
+            public Update {
+                Objects.checkFromIndexSize(offset, length, oldElements.length);
+                Objects.checkFromIndexSize(offset, length, newElements.length);
+            }
+
+            /**
+             * Returns the previous element at the given position.
+             *
+             * @param index the position of the element relative to {@link #index()}
+             *
+             * @return  the previous element at the given position
+             *
+             * @throws IndexOutOfBoundsException    if the index is out of range
+             *
+             * @since   0.9.0
+             */
+            public byte getOld(int index) {
+                return this.oldElements[this.offset + Objects.checkIndex(index, this.length)];
+            }
+
+            /**
+             * Returns the updated element at the given position.
+             *
+             * @param index the position of the element relative to {@link #index()}
+             *
+             * @return  the updated element at the given position
+             *
+             * @throws IndexOutOfBoundsException    if the index is out of range
+             *
+             * @since   0.9.0
+             */
+            public byte getNew(int index) {
+                return this.newElements[this.offset + Objects.checkIndex(index, this.length)];
+            }
+
+            @Override
+            public boolean equals(Object obj) {
+                if (this == obj) return true;
+                return (obj instanceof Update other
+                    && this.index == other.index
+                    && sliceEquals(this.oldElements, this.offset, other.oldElements, other.offset, this.length, other.length)
+                    && sliceEquals(this.newElements, this.offset, other.newElements, other.offset, this.length, other.length));
+            }
+
+            @Override
+            public int hashCode() {
+                int result = this.index;
+                result = 31 * result + sliceHashCode(this.oldElements, this.offset, this.length);
+                result = 31 * result + sliceHashCode(this.newElements, this.offset, this.length);
+
+                return result;
+            }
+
+            @Override
+            public String toString() {
+                return "Update[index=" + this.index
+                    + ", oldElements=" + Arrays.toString(Arrays.copyOfRange(this.oldElements, this.offset, this.offset + this.length))
+                    + ", newElements=" + Arrays.toString(Arrays.copyOfRange(this.newElements, this.offset, this.offset + this.length))
+                    + "]";
+            }
+
+        }
+
+    }
+
+    private static boolean sliceEquals(byte[] a, int aOffset, byte[] b, int bOffset, int aLength, int bLength) {
+        return Arrays.equals(a, aOffset, aOffset + aLength, b, bOffset, bOffset + bLength);
+    }
+
+    private static int sliceHashCode(byte[] a, int offset, int length) {
+        int result = 1;
+        for (int i = offset; i < offset + length; i++) result = 31 * result + Byte.hashCode(a[i]);
+
+        return result;
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,331 @@
+/*
+ * Copyright (c) 2018-2023 Leon Linhart,
+ * All rights reserved.
+ * MACHINE GENERATED FILE, DO NOT EDIT
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.osmerion.quitte.collections;
+
+import com.osmerion.quitte.Observable;
+import com.osmerion.quitte.functional.ByteConsumer;
+
+/**
+ * A specialized observable {@code byte} list with support for tracking changes to the list's content.
+ *
+ * <p>Unlike an {@link ObservableList ObservableList&lt;Byte&gt;}, a {@code ObservableByteList} stores its
+ * elements and reports changes without boxing.</p>
+ *
+ * @since   0.9.0
+ *
+ * @author  Leon Linhart
+ */
+public interface ObservableByteList extends Observable {
+
+    /**
+     * Attaches the given {@link ByteListChangeListener change listener} to this list.
+     *
+     * <p>If the given listener is already attached to this list, this method does nothing and returns {@code false}.
+     * </p>
+     *
+     * <p>This list stores a strong reference to the given listener until the listener is either removed explicitly by
+     * calling {@link #removeChangeListener(ByteListChangeListener)} or implicitly when this list discovers that the
+     * listener has become {@link ByteListChangeListener#isInvalid() invalid}. Generally, it is recommended to use an
+     * instance of {@link WeakByteListChangeListener} when possible to avoid leaking instances.</p>
+     *
+     * @param listener  the listener to be attached to this list
+     *
+     * @return  {@code true} if the listener was not previously attached to this list and has been successfully
+     *          attached, or {@code false} otherwise
+     *
+     * @throws NullPointerException if the given listener is {@code null}
+     *
+     * @see #removeChangeListener(ByteListChangeListener)
+     *
+     * @since   0.9.0
+     */
+    boolean addChangeListener(ByteListChangeListener listener);
+
+    /**
+     * Detaches the given {@link ByteListChangeListener change listener} from this list.
+     *
+     * <p>If the given listener is not attached to this list, this method does nothing and returns {@code false}.</p>
+     *
+     * @param listener  the listener to be detached from this list
+     *
+     * @return  {@code true} if the listener was attached to and has been detached from this list, or {@code false}
+     *          otherwise
+     *
+     * @throws NullPointerException if the given listener is {@code null}
+     *
+     * @see #addChangeListener(ByteListChangeListener)
+     *
+     * @since   0.9.0
+     */
+    boolean removeChangeListener(ByteListChangeListener listener);
+
+    /**
+     * {@return the number of elements in this list}
+     *
+     * @since   0.9.0
+     */
+    int size();
+
+    /**
+     * {@return whether this list contains no elements}
+     *
+     * @since   0.9.0
+     */
+    default boolean isEmpty() {
+        return this.size() == 0;
+    }
+
+    /**
+     * Returns the element at the given index.
+     *
+     * @param index the index of the element
+     *
+     * @return  the element at the given index
+     *
+     * @throws IndexOutOfBoundsException    if the index is out of range
+     *
+     * @since   0.9.0
+     */
+    byte get(int index);
+
+    /**
+     * Returns whether this list contains the given element.
+     *
+     * @param element   the element
+     *
+     * @return  whether this list contains the given element
+     *
+     * @since   0.9.0
+     */
+    default boolean contains(byte element) {
+        return this.indexOf(element) != -1;
+    }
+
+    /**
+     * Returns the index of the first occurrence of the given element in this list.
+     *
+     * @param element   the element
+     *
+     * @return  the index of the first occurrence of the given element in this list, or {@code -1} if this list does
+     *          not contain the element
+     *
+     * @since   0.9.0
+     */
+    int indexOf(byte element);
+
+    /**
+     * Returns the index of the last occurrence of the given element in this list.
+     *
+     * @param element   the element
+     *
+     * @return  the index of the last occurrence of the given element in this list, or {@code -1} if this list does
+     *          not contain the element
+     *
+     * @since   0.9.0
+     */
+    int lastIndexOf(byte element);
+
+    /**
+     * {@return an array containing all elements of this list in order}
+     *
+     * @since   0.9.0
+     */
+    byte[] toArray();
+
+    /**
+     * Performs the given action for each element of this list in order.
+     *
+     * @param action    the action to be performed
+     *
+     * @throws NullPointerException if the given action is {@code null}
+     *
+     * @since   0.9.0
+     */
+    void forEach(ByteConsumer action);
+
+    /**
+     * Appends the given element to the end of this list.
+     *
+     * @param element   the element to append
+     *
+     * @return  {@code true}
+     *
+     * @throws UnsupportedOperationException    if this list is unmodifiable
+     *
+     * @since   0.9.0
+     */
+    boolean add(byte element);
+
+    /**
+     * Inserts the given element at the given index.
+     *
+     * @param index     the index at which to insert the element
+     * @param element   the element to insert
+     *
+     * @throws IndexOutOfBoundsException        if the index is out of range
+     * @throws UnsupportedOperationException    if this list is unmodifiable
+     *
+     * @since   0.9.0
+     */
+    void add(int index, byte element);
+
+    /**
+     * Appends the given elements to the end of this list.
+     *
+     * @param elements  the elements to append
+     *
+     * @return  whether this list changed as a result of the call
+     *
+     * @throws NullPointerException             if the given array is {@code null}
+     * @throws UnsupportedOperationException    if this list is unmodifiable
+     *
+     * @since   0.9.0
+     */
+    boolean addAll(byte[] elements);
+
+    /**
+     * Inserts the given elements at the given index.
+     *
+     * @param index     the index at which to insert the first element
+     * @param elements  the elements to insert
+     *
+     * @return  whether this list changed as a result of the call
+     *
+     * @throws IndexOutOfBoundsException        if the index is out of range
+     * @throws NullPointerException             if the given array is {@code null}
+     * @throws UnsupportedOperationException    if this list is unmodifiable
+     *
+     * @since   0.9.0
+     */
+    default boolean addAll(int index, byte[] elements) {
+        return this.addAll(index, elements, 0, elements.length);
+    }
+
+    /**
+     * Inserts the elements from the given slice of an array at the given index.
+     *
+     * @param index     the index at which to insert the first element
+     * @param elements  the array that holds the elements to insert
+     * @param offset    the offset of the first element to insert in {@code elements}
+     * @param length    the number of elements to insert
+     *
+     * @return  whether this list changed as a result of the call
+     *
+     * @throws IndexOutOfBoundsException        if the index is out of range, or if the slice is out of the array's
+     *                                          bounds
+     * @throws NullPointerException             if the given array is {@code null}
+     * @throws UnsupportedOperationException    if this list is unmodifiable
+     *
+     * @since   0.9.0
+     */
+    boolean addAll(int index, byte[] elements, int offset, int length);
+
+    /**
+     * Replaces the element at the given index.
+     *
+     * @param index     the index of the element to replace
+     * @param element   the new element
+     *
+     * @return  the previous element at the given index
+     *
+     * @throws IndexOutOfBoundsException        if the index is out of range
+     * @throws UnsupportedOperationException    if this list is unmodifiable
+     *
+     * @since   0.9.0
+     */
+    byte set(int index, byte element);
+
+    /**
+     * Replaces all elements of this list with the given elements.
+     *
+     * @param elements  the new elements
+     *
+     * @return  whether this list changed as a result of the call
+     *
+     * @throws NullPointerException             if the given array is {@code null}
+     * @throws UnsupportedOperationException    if this list is unmodifiable
+     *
+     * @since   0.9.0
+     */
+    boolean setAll(byte[] elements);
+
+    /**
+     * Removes the element at the given index.
+     *
+     * @param index the index of the element to remove
+     *
+     * @return  the removed element
+     *
+     * @throws IndexOutOfBoundsException        if the index is out of range
+     * @throws UnsupportedOperationException    if this list is unmodifiable
+     *
+     * @since   0.9.0
+     */
+    byte removeAt(int index);
+
+    /**
+     * Removes all elements in the given range.
+     *
+     * @param fromIndex the index of the first element to remove (inclusive)
+     * @param toIndex   the index of the last element to remove (exclusive)
+     *
+     * @throws IndexOutOfBoundsException        if the range is out of bounds
+     * @throws UnsupportedOperationException    if this list is unmodifiable
+     *
+     * @since   0.9.0
+     */
+    void removeRange(int fromIndex, int toIndex);
+
+    /**
+     * Removes all elements from this list.
+     *
+     * @throws UnsupportedOperationException    if this list is unmodifiable
+     *
+     * @since   0.9.0
+     */
+    default void clear() {
+        this.removeRange(0, this.size());
+    }
+
+    /**
+     * Sorts this list into ascending order.
+     *
+     * <p>The sort is stable. Unless it is part of a larger change, the change is reported as a
+     * {@link ByteListChangeListener.Change.Permutation permutation}.</p>
+     *
+     * @throws UnsupportedOperationException    if this list is unmodifiable
+     *
+     * @since   0.9.0
+     */
+    void sort();
+
+}
\ No newline at end of file
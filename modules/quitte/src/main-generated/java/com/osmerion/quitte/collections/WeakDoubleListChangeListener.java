@@ -0,0 +1,101 @@
+/*
+ * Copyright (c) 2018-2023 Leon Linhart,
+ * All rights reserved.
+ * MACHINE GENERATED FILE, DO NOT EDIT
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.osmerion.quitte.collections;
+
+import java.lang.ref.WeakReference;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+import com.osmerion.quitte.internal.ListenerReaper;
+
+/**
+ * A {@code WeakDoubleListChangeListener} may be used to wrap a listener that should only be referenced weakly from an
+ * {@link ObservableDoubleList}.
+ *
+ * <p>This listener does not keep a strong reference to the wrapped listener. Once the wrapped listener has been
+ * garbage collected, this listener is proactively detached from the observables it is attached to.</p>
+ *
+ * @see WeakReference
+ *
+ * @since   0.9.0
+ *
+ * @author  Leon Linhart
+ */
+public final class WeakDoubleListChangeListener implements DoubleListChangeListener, ListenerReaper.Reapable {
+
+    private final ListenerReaper.ListenerReference<DoubleListChangeListener> ref;
+
+    /**
+     * Wraps the given {@link DoubleListChangeListener listener}.
+     *
+     * @param listener  the listener to wrap
+     *
+     * @throws NullPointerException if the given listener is {@code null}
+     *
+     * @since   0.9.0
+     */
+    public WeakDoubleListChangeListener(DoubleListChangeListener listener) {
+        this.ref = new ListenerReaper.ListenerReference<>(Objects.requireNonNull(listener));
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @since   0.9.0
+     */
+    @Override
+    public void onChanged(ObservableDoubleList observable, Change change) {
+        var listener = this.ref.get();
+
+        if (listener != null) listener.onChanged(observable, change);
+    }
+
+    /**
+     * {@return whether the underlying listener was garbage collected or has become invalid}
+     *
+     * @since   0.9.0
+     */
+    @Override
+    public boolean isInvalid() {
+        var listener = this.ref.get();
+        return (listener == null || listener.isInvalid());
+    }
+
+    /**
+     * @hidden
+     */
+    @Override
+    public <O> void reapFrom(O owner, Consumer<? super O> action) {
+        this.ref.reapFrom(owner, action);
+    }
+
+}
\ No newline at end of file
@@ -31,9 +31,15 @@
  */
 package com.osmerion.quitte.expression;
 
-import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
 
+import javax.annotation.Nullable;
+
+import com.osmerion.quitte.internal.DependencyTracker;
+import com.osmerion.quitte.internal.Listeners;
+import com.osmerion.quitte.internal.Metrics;
 import com.osmerion.quitte.internal.wrappers.*;
+import com.osmerion.quitte.metrics.MetricsSink;
 import com.osmerion.quitte.value.*;
 import com.osmerion.quitte.value.change.*;
 
@@ -46,7 +52,11 @@ import com.osmerion.quitte.value.change.*;
  */
 public abstract class AbstractBoolExpression extends AbstractExpression implements ValueExpression<Boolean>, ObservableBoolValue {
 
-    private final transient CopyOnWriteArraySet<BoolChangeListener> changeListeners = new CopyOnWriteArraySet<>();
+    private static final AtomicReferenceFieldUpdater<AbstractBoolExpression, Object> CHANGE_LISTENERS = AtomicReferenceFieldUpdater.newUpdater(AbstractBoolExpression.class, Object.class, "changeListeners");
+
+    /* The attached listeners are stored compactly. See Listeners for the representation. */
+    @Nullable
+    private transient volatile Object changeListeners;
 
     // package-private constructor for an effectively sealed class
     AbstractBoolExpression() {}
@@ -58,7 +68,7 @@ public abstract class AbstractBoolExpression extends AbstractExpression implemen
      */
     @Override
     public final boolean addChangeListener(BoolChangeListener listener) {
-        return this.changeListeners.add(listener);
+        return Listeners.add(CHANGE_LISTENERS, this, listener);
     }
 
     /**
@@ -68,8 +78,8 @@ public abstract class AbstractBoolExpression extends AbstractExpression implemen
      */
     @Override
     public final boolean addBoxedChangeListener(ChangeListener<Boolean> listener) {
-        if (this.changeListeners.stream().anyMatch(it -> it instanceof WrappingBoolChangeListener && ((WrappingBoolChangeListener) it).isWrapping(listener))) return false;
-        return this.changeListeners.add(BoolChangeListener.wrap(listener));
+        if (Listeners.anyMatch(this.changeListeners, it -> it instanceof WrappingBoolChangeListener wrapper && wrapper.isWrapping(listener))) return false;
+        return Listeners.add(CHANGE_LISTENERS, this, BoolChangeListener.wrap(listener));
     }
 
     /**
@@ -79,7 +89,7 @@ public abstract class AbstractBoolExpression extends AbstractExpression implemen
      */
     @Override
     public final boolean removeChangeListener(BoolChangeListener listener) {
-        return this.changeListeners.remove(listener);
+        return Listeners.remove(CHANGE_LISTENERS, this, listener);
     }
 
     /**
@@ -89,7 +99,7 @@ public abstract class AbstractBoolExpression extends AbstractExpression implemen
      */
     @Override
     public final boolean removeBoxedChangeListener(ChangeListener<Boolean> listener) {
-        return this.changeListeners.removeIf(it -> it instanceof WrappingBoolChangeListener && ((WrappingBoolChangeListener) it).isWrapping(listener));
+        return Listeners.removeIf(CHANGE_LISTENERS, this, it -> it instanceof WrappingBoolChangeListener wrapper && wrapper.isWrapping(listener));
     }
 
     /**
@@ -99,6 +109,9 @@ public abstract class AbstractBoolExpression extends AbstractExpression implemen
      */
     @Override
     public boolean get() {
+        DependencyTracker.record(this);
+        this.recordSnapshotRead();
+
         return this.getImpl();
     }
 
@@ -114,17 +127,34 @@ public abstract class AbstractBoolExpression extends AbstractExpression implemen
 
     @Override
     void doInvalidate() {
-        if (this.updateValue(this.recomputeValue(), false)) this.notifyInvalidationListeners();
+        if (this.updateValue(this.doRecomputeValue(), false)) this.notifyInvalidationListeners();
     }
 
     protected abstract boolean recomputeValue();
 
+    /* Recomputes the value of this expression, measuring the recomputation if a metrics sink is installed. */
+    final boolean doRecomputeValue() {
+        MetricsSink sink = Metrics.sink();
+        if (sink == null) return this.recomputeValue();
+
+        long start = System.nanoTime();
+
+        try {
+            return this.recomputeValue();
+        } finally {
+            sink.recordRecomputation(this, System.nanoTime() - start);
+        }
+    }
+
     final boolean updateValue(boolean value, boolean notifyListeners) {
         var prev = this.getImpl();
         var changed = prev != value;
 
         if (changed) {
+            this.beginWrite();
             this.setImpl(value);
+            this.endWrite();
+
             notifyListeners = true;
         }
 
@@ -132,14 +162,25 @@ public abstract class AbstractBoolExpression extends AbstractExpression implemen
             if (this.onChangedInternal(prev, value) && !changed) return false;
             this.onChanged(prev, value);
 
-            for (var listener : this.changeListeners) {
-                if (listener.isInvalid()) {
-                    this.changeListeners.remove(listener);
-                    continue;
+            var listeners = this.changeListeners;
+            int size = Listeners.size(listeners);
+
+            if (size != 0) {
+                MetricsSink sink = Metrics.sink();
+                long start = (sink != null) ? System.nanoTime() : 0L;
+
+                for (int i = 0; i < size; i++) {
+                    BoolChangeListener listener = Listeners.get(listeners, i);
+
+                    if (listener.isInvalid()) {
+                        Listeners.remove(CHANGE_LISTENERS, this, listener);
+                        continue;
+                    }
+
+                    listener.onChanged(this, prev, this.getImpl());
                 }
 
-                listener.onChanged(this, prev, this.getImpl());
-                if (listener.isInvalid()) this.changeListeners.remove(listener);
+                if (sink != null) sink.recordChangeDispatch(this, size, System.nanoTime() - start);
             }
         }
 
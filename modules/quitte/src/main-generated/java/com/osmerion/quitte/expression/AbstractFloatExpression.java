@@ -31,9 +31,15 @@
  */
 package com.osmerion.quitte.expression;
 
-import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
 
+import javax.annotation.Nullable;
+
+import com.osmerion.quitte.internal.DependencyTracker;
+import com.osmerion.quitte.internal.Listeners;
+import com.osmerion.quitte.internal.Metrics;
 import com.osmerion.quitte.internal.wrappers.*;
+import com.osmerion.quitte.metrics.MetricsSink;
 import com.osmerion.quitte.value.*;
 import com.osmerion.quitte.value.change.*;
 
@@ -46,7 +52,11 @@ import com.osmerion.quitte.value.change.*;
  */
 public abstract class AbstractFloatExpression extends AbstractExpression implements ValueExpression<Float>, ObservableFloatValue {
 
-    private final transient CopyOnWriteArraySet<FloatChangeListener> changeListeners = new CopyOnWriteArraySet<>();
+    private static final AtomicReferenceFieldUpdater<AbstractFloatExpression, Object> CHANGE_LISTENERS = AtomicReferenceFieldUpdater.newUpdater(AbstractFloatExpression.class, Object.class, "changeListeners");
+
+    /* The attached listeners are stored compactly. See Listeners for the representation. */
+    @Nullable
+    private transient volatile Object changeListeners;
 
     // package-private constructor for an effectively sealed class
     AbstractFloatExpression() {}
@@ -58,7 +68,7 @@ public abstract class AbstractFloatExpression extends AbstractExpression impleme
      */
     @Override
     public final boolean addChangeListener(FloatChangeListener listener) {
-        return this.changeListeners.add(listener);
+        return Listeners.add(CHANGE_LISTENERS, this, listener);
     }
 
     /**
@@ -68,8 +78,8 @@ public abstract class AbstractFloatExpression extends AbstractExpression impleme
      */
     @Override
     public final boolean addBoxedChangeListener(ChangeListener<Float> listener) {
-        if (this.changeListeners.stream().anyMatch(it -> it instanceof WrappingFloatChangeListener && ((WrappingFloatChangeListener) it).isWrapping(listener))) return false;
-        return this.changeListeners.add(FloatChangeListener.wrap(listener));
+        if (Listeners.anyMatch(this.changeListeners, it -> it instanceof WrappingFloatChangeListener wrapper && wrapper.isWrapping(listener))) return false;
+        return Listeners.add(CHANGE_LISTENERS, this, FloatChangeListener.wrap(listener));
     }
 
     /**
@@ -79,7 +89,7 @@ public abstract class AbstractFloatExpression extends AbstractExpression impleme
      */
     @Override
     public final boolean removeChangeListener(FloatChangeListener listener) {
-        return this.changeListeners.remove(listener);
+        return Listeners.remove(CHANGE_LISTENERS, this, listener);
     }
 
     /**
@@ -89,7 +99,7 @@ public abstract class AbstractFloatExpression extends AbstractExpression impleme
      */
     @Override
     public final boolean removeBoxedChangeListener(ChangeListener<Float> listener) {
-        return this.changeListeners.removeIf(it -> it instanceof WrappingFloatChangeListener && ((WrappingFloatChangeListener) it).isWrapping(listener));
+        return Listeners.removeIf(CHANGE_LISTENERS, this, it -> it instanceof WrappingFloatChangeListener wrapper && wrapper.isWrapping(listener));
     }
 
     /**
@@ -99,6 +109,9 @@ public abstract class AbstractFloatExpression extends AbstractExpression impleme
      */
     @Override
     public float get() {
+        DependencyTracker.record(this);
+        this.recordSnapshotRead();
+
         return this.getImpl();
     }
 
@@ -114,17 +127,34 @@ public abstract class AbstractFloatExpression extends AbstractExpression impleme
 
     @Override
     void doInvalidate() {
-        if (this.updateValue(this.recomputeValue(), false)) this.notifyInvalidationListeners();
+        if (this.updateValue(this.doRecomputeValue(), false)) this.notifyInvalidationListeners();
     }
 
     protected abstract float recomputeValue();
 
+    /* Recomputes the value of this expression, measuring the recomputation if a metrics sink is installed. */
+    final float doRecomputeValue() {
+        MetricsSink sink = Metrics.sink();
+        if (sink == null) return this.recomputeValue();
+
+        long start = System.nanoTime();
+
+        try {
+            return this.recomputeValue();
+        } finally {
+            sink.recordRecomputation(this, System.nanoTime() - start);
+        }
+    }
+
     final boolean updateValue(float value, boolean notifyListeners) {
         var prev = this.getImpl();
         var changed = prev != value;
 
         if (changed) {
+            this.beginWrite();
             this.setImpl(value);
+            this.endWrite();
+
             notifyListeners = true;
         }
 
@@ -132,14 +162,25 @@ public abstract class AbstractFloatExpression extends AbstractExpression impleme
             if (this.onChangedInternal(prev, value) && !changed) return false;
             this.onChanged(prev, value);
 
-            for (var listener : this.changeListeners) {
-                if (listener.isInvalid()) {
-                    this.changeListeners.remove(listener);
-                    continue;
+            var listeners = this.changeListeners;
+            int size = Listeners.size(listeners);
+
+            if (size != 0) {
+                MetricsSink sink = Metrics.sink();
+                long start = (sink != null) ? System.nanoTime() : 0L;
+
+                for (int i = 0; i < size; i++) {
+                    FloatChangeListener listener = Listeners.get(listeners, i);
+
+                    if (listener.isInvalid()) {
+                        Listeners.remove(CHANGE_LISTENERS, this, listener);
+                        continue;
+                    }
+
+                    listener.onChanged(this, prev, this.getImpl());
                 }
 
-                listener.onChanged(this, prev, this.getImpl());
-                if (listener.isInvalid()) this.changeListeners.remove(listener);
+                if (sink != null) sink.recordChangeDispatch(this, size, System.nanoTime() - start);
             }
         }
 
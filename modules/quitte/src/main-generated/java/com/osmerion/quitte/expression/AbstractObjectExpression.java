@@ -31,11 +31,15 @@
  */
 package com.osmerion.quitte.expression;
 
-import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
 
 import javax.annotation.Nullable;
 
+import com.osmerion.quitte.internal.DependencyTracker;
+import com.osmerion.quitte.internal.Listeners;
+import com.osmerion.quitte.internal.Metrics;
 import com.osmerion.quitte.internal.wrappers.*;
+import com.osmerion.quitte.metrics.MetricsSink;
 import com.osmerion.quitte.value.*;
 import com.osmerion.quitte.value.change.*;
 
@@ -48,7 +52,12 @@ import com.osmerion.quitte.value.change.*;
  */
 public abstract class AbstractObjectExpression<T> extends AbstractExpression implements ValueExpression<T>, ObservableObjectValue<T> {
 
-    private final transient CopyOnWriteArraySet<ObjectChangeListener<T>> changeListeners = new CopyOnWriteArraySet<>();
+    @SuppressWarnings("rawtypes")
+    private static final AtomicReferenceFieldUpdater<AbstractObjectExpression, Object> CHANGE_LISTENERS = AtomicReferenceFieldUpdater.newUpdater(AbstractObjectExpression.class, Object.class, "changeListeners");
+
+    /* The attached listeners are stored compactly. See Listeners for the representation. */
+    @Nullable
+    private transient volatile Object changeListeners;
 
     // package-private constructor for an effectively sealed class
     AbstractObjectExpression() {}
@@ -60,7 +69,7 @@ public abstract class AbstractObjectExpression<T> extends AbstractExpression imp
      */
     @Override
     public final boolean addChangeListener(ObjectChangeListener<T> listener) {
-        return this.changeListeners.add(listener);
+        return Listeners.add(CHANGE_LISTENERS, this, listener);
     }
 
     /**
@@ -70,8 +79,8 @@ public abstract class AbstractObjectExpression<T> extends AbstractExpression imp
      */
     @Override
     public final boolean addBoxedChangeListener(ChangeListener<T> listener) {
-        if (this.changeListeners.stream().anyMatch(it -> it instanceof WrappingObjectChangeListener && ((WrappingObjectChangeListener<T>) it).isWrapping(listener))) return false;
-        return this.changeListeners.add(ObjectChangeListener.wrap(listener));
+        if (Listeners.anyMatch(this.changeListeners, it -> it instanceof WrappingObjectChangeListener<?> wrapper && wrapper.isWrapping(listener))) return false;
+        return Listeners.add(CHANGE_LISTENERS, this, ObjectChangeListener.wrap(listener));
     }
 
     /**
@@ -81,7 +90,7 @@ public abstract class AbstractObjectExpression<T> extends AbstractExpression imp
      */
     @Override
     public final boolean removeChangeListener(ObjectChangeListener<T> listener) {
-        return this.changeListeners.remove(listener);
+        return Listeners.remove(CHANGE_LISTENERS, this, listener);
     }
 
     /**
@@ -91,7 +100,7 @@ public abstract class AbstractObjectExpression<T> extends AbstractExpression imp
      */
     @Override
     public final boolean removeBoxedChangeListener(ChangeListener<T> listener) {
-        return this.changeListeners.removeIf(it -> it instanceof WrappingObjectChangeListener && ((WrappingObjectChangeListener<T>) it).isWrapping(listener));
+        return Listeners.removeIf(CHANGE_LISTENERS, this, it -> it instanceof WrappingObjectChangeListener<?> wrapper && wrapper.isWrapping(listener));
     }
 
     /**
@@ -102,6 +111,9 @@ public abstract class AbstractObjectExpression<T> extends AbstractExpression imp
     @Override
     @Nullable
     public T get() {
+        DependencyTracker.record(this);
+        this.recordSnapshotRead();
+
         return this.getImpl();
     }
 
@@ -118,18 +130,36 @@ public abstract class AbstractObjectExpression<T> extends AbstractExpression imp
 
     @Override
     void doInvalidate() {
-        if (this.updateValue(this.recomputeValue(), false)) this.notifyInvalidationListeners();
+        if (this.updateValue(this.doRecomputeValue(), false)) this.notifyInvalidationListeners();
     }
 
     @Nullable
     protected abstract T recomputeValue();
 
+    /* Recomputes the value of this expression, measuring the recomputation if a metrics sink is installed. */
+    @Nullable
+    final T doRecomputeValue() {
+        MetricsSink sink = Metrics.sink();
+        if (sink == null) return this.recomputeValue();
+
+        long start = System.nanoTime();
+
+        try {
+            return this.recomputeValue();
+        } finally {
+            sink.recordRecomputation(this, System.nanoTime() - start);
+        }
+    }
+
     final boolean updateValue(@Nullable T value, boolean notifyListeners) {
         var prev = this.getImpl();
         var changed = prev != value;
 
         if (changed) {
+            this.beginWrite();
             this.setImpl(value);
+            this.endWrite();
+
             notifyListeners = true;
         }
 
@@ -137,14 +167,25 @@ public abstract class AbstractObjectExpression<T> extends AbstractExpression imp
             if (this.onChangedInternal(prev, value) && !changed) return false;
             this.onChanged(prev, value);
 
-            for (var listener : this.changeListeners) {
-                if (listener.isInvalid()) {
-                    this.changeListeners.remove(listener);
-                    continue;
+            var listeners = this.changeListeners;
+            int size = Listeners.size(listeners);
+
+            if (size != 0) {
+                MetricsSink sink = Metrics.sink();
+                long start = (sink != null) ? System.nanoTime() : 0L;
+
+                for (int i = 0; i < size; i++) {
+                    ObjectChangeListener<T> listener = Listeners.get(listeners, i);
+
+                    if (listener.isInvalid()) {
+                        Listeners.remove(CHANGE_LISTENERS, this, listener);
+                        continue;
+                    }
+
+                    listener.onChanged(this, prev, this.getImpl());
                 }
 
-                listener.onChanged(this, prev, this.getImpl());
-                if (listener.isInvalid()) this.changeListeners.remove(listener);
+                if (sink != null) sink.recordChangeDispatch(this, size, System.nanoTime() - start);
             }
         }
 
@@ -0,0 +1,355 @@
+/*
+ * Copyright (c) 2018-2023 Leon Linhart,
+ * All rights reserved.
+ * MACHINE GENERATED FILE, DO NOT EDIT
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.osmerion.quitte.expression;
+
+import javax.annotation.Nullable;
+
+import com.osmerion.quitte.functional.*;
+import com.osmerion.quitte.internal.DependencyTracker;
+
+/**
+ * Factories for simple expressions that discover their dependencies automatically.
+ *
+ * <p>The value of a computed expression is computed by a supplier. Every property and expression that is read while
+ * the supplier is running becomes a dependency of the computed expression. After each computation, the expression
+ * stops listening to observables that were not read anymore and starts listening to observables that were read for
+ * the first time. Thus, a computed expression only depends on the observables that contributed to its current value.
+ * </p>
+ *
+ * <pre>{@code
+ * SimpleIntExpression total = Computed.ofInt(() -> useDiscount.get() ? discounted.get() : price.get());
+ * }</pre>
+ *
+ * <p>Reads are tracked for the properties and expressions provided by this library. Reads of other observables, such
+ * as custom {@link com.osmerion.quitte.value.ObservableValue} implementations and observable collections, are not
+ * tracked. Reads are only tracked on the thread that computes the value.</p>
+ *
+ * @since   0.9.0
+ *
+ * @author  Leon Linhart
+ */
+public final class Computed {
+
+    @Deprecated
+    private Computed() { throw new UnsupportedOperationException(); }
+
+    /**
+     * Returns a new simple expression that evaluates to the value computed by the given supplier.
+     *
+     * @param supplier  the supplier that computes the value of the expression
+     *
+     * @return  a new simple expression that evaluates to the value computed by the given supplier
+     *
+     * @since   0.9.0
+     */
+    public static SimpleBoolExpression ofBool(BoolSupplier supplier) {
+        return new ComputedBoolExpression(supplier);
+    }
+
+    /**
+     * Returns a new simple expression that evaluates to the value computed by the given supplier.
+     *
+     * @param supplier  the supplier that computes the value of the expression
+     *
+     * @return  a new simple expression that evaluates to the value computed by the given supplier
+     *
+     * @since   0.9.0
+     */
+    public static SimpleByteExpression ofByte(ByteSupplier supplier) {
+        return new ComputedByteExpression(supplier);
+    }
+
+    /**
+     * Returns a new simple expression that evaluates to the value computed by the given supplier.
+     *
+     * @param supplier  the supplier that computes the value of the expression
+     *
+     * @return  a new simple expression that evaluates to the value computed by the given supplier
+     *
+     * @since   0.9.0
+     */
+    public static SimpleShortExpression ofShort(ShortSupplier supplier) {
+        return new ComputedShortExpression(supplier);
+    }
+
+    /**
+     * Returns a new simple expression that evaluates to the value computed by the given supplier.
+     *
+     * @param supplier  the supplier that computes the value of the expression
+     *
+     * @return  a new simple expression that evaluates to the value computed by the given supplier
+     *
+     * @since   0.9.0
+     */
+    public static SimpleIntExpression ofInt(IntSupplier supplier) {
+        return new ComputedIntExpression(supplier);
+    }
+
+    /**
+     * Returns a new simple expression that evaluates to the value computed by the given supplier.
+     *
+     * @param supplier  the supplier that computes the value of the expression
+     *
+     * @return  a new simple expression that evaluates to the value computed by the given supplier
+     *
+     * @since   0.9.0
+     */
+    public static SimpleLongExpression ofLong(LongSupplier supplier) {
+        return new ComputedLongExpression(supplier);
+    }
+
+    /**
+     * Returns a new simple expression that evaluates to the value computed by the given supplier.
+     *
+     * @param supplier  the supplier that computes the value of the expression
+     *
+     * @return  a new simple expression that evaluates to the value computed by the given supplier
+     *
+     * @since   0.9.0
+     */
+    public static SimpleFloatExpression ofFloat(FloatSupplier supplier) {
+        return new ComputedFloatExpression(supplier);
+    }
+
+    /**
+     * Returns a new simple expression that evaluates to the value computed by the given supplier.
+     *
+     * @param supplier  the supplier that computes the value of the expression
+     *
+     * @return  a new simple expression that evaluates to the value computed by the given supplier
+     *
+     * @since   0.9.0
+     */
+    public static SimpleDoubleExpression ofDouble(DoubleSupplier supplier) {
+        return new ComputedDoubleExpression(supplier);
+    }
+
+    /**
+     * Returns a new simple expression that evaluates to the value computed by the given supplier.
+     *
+     * @param <T>       the type of the value
+     * @param supplier  the supplier that computes the value of the expression
+     *
+     * @return  a new simple expression that evaluates to the value computed by the given supplier
+     *
+     * @since   0.9.0
+     */
+    public static <T> SimpleObjectExpression<T> ofObject(ObjectSupplier<T> supplier) {
+        return new ComputedObjectExpression<>(supplier);
+    }
+
+    private static final class ComputedBoolExpression extends SimpleBoolExpression {
+
+        private final BoolSupplier supplier;
+        private final transient DynamicDependencies dependencies = new DynamicDependencies(this);
+
+        private ComputedBoolExpression(BoolSupplier supplier) {
+            this.supplier = supplier;
+            this.invalidate();
+        }
+
+        @Override
+        protected boolean recomputeValue() {
+            DependencyTracker.Scope scope = DependencyTracker.open();
+
+            try {
+                return this.supplier.get();
+            } finally {
+                this.dependencies.update(scope);
+            }
+        }
+
+    }
+
+    private static final class ComputedByteExpression extends SimpleByteExpression {
+
+        private final ByteSupplier supplier;
+        private final transient DynamicDependencies dependencies = new DynamicDependencies(this);
+
+        private ComputedByteExpression(ByteSupplier supplier) {
+            this.supplier = supplier;
+            this.invalidate();
+        }
+
+        @Override
+        protected byte recomputeValue() {
+            DependencyTracker.Scope scope = DependencyTracker.open();
+
+            try {
+                return this.supplier.get();
+            } finally {
+                this.dependencies.update(scope);
+            }
+        }
+
+    }
+
+    private static final class ComputedShortExpression extends SimpleShortExpression {
+
+        private final ShortSupplier supplier;
+        private final transient DynamicDependencies dependencies = new DynamicDependencies(this);
+
+        private ComputedShortExpression(ShortSupplier supplier) {
+            this.supplier = supplier;
+            this.invalidate();
+        }
+
+        @Override
+        protected short recomputeValue() {
+            DependencyTracker.Scope scope = DependencyTracker.open();
+
+            try {
+                return this.supplier.get();
+            } finally {
+                this.dependencies.update(scope);
+            }
+        }
+
+    }
+
+    private static final class ComputedIntExpression extends SimpleIntExpression {
+
+        private final IntSupplier supplier;
+        private final transient DynamicDependencies dependencies = new DynamicDependencies(this);
+
+        private ComputedIntExpression(IntSupplier supplier) {
+            this.supplier = supplier;
+            this.invalidate();
+        }
+
+        @Override
+        protected int recomputeValue() {
+            DependencyTracker.Scope scope = DependencyTracker.open();
+
+            try {
+                return this.supplier.get();
+            } finally {
+                this.dependencies.update(scope);
+            }
+        }
+
+    }
+
+    private static final class ComputedLongExpression extends SimpleLongExpression {
+
+        private final LongSupplier supplier;
+        private final transient DynamicDependencies dependencies = new DynamicDependencies(this);
+
+        private ComputedLongExpression(LongSupplier supplier) {
+            this.supplier = supplier;
+            this.invalidate();
+        }
+
+        @Override
+        protected long recomputeValue() {
+            DependencyTracker.Scope scope = DependencyTracker.open();
+
+            try {
+                return this.supplier.get();
+            } finally {
+                this.dependencies.update(scope);
+            }
+        }
+
+    }
+
+    private static final class ComputedFloatExpression extends SimpleFloatExpression {
+
+        private final FloatSupplier supplier;
+        private final transient DynamicDependencies dependencies = new DynamicDependencies(this);
+
+        private ComputedFloatExpression(FloatSupplier supplier) {
+            this.supplier = supplier;
+            this.invalidate();
+        }
+
+        @Override
+        protected float recomputeValue() {
+            DependencyTracker.Scope scope = DependencyTracker.open();
+
+            try {
+                return this.supplier.get();
+            } finally {
+                this.dependencies.update(scope);
+            }
+        }
+
+    }
+
+    private static final class ComputedDoubleExpression extends SimpleDoubleExpression {
+
+        private final DoubleSupplier supplier;
+        private final transient DynamicDependencies dependencies = new DynamicDependencies(this);
+
+        private ComputedDoubleExpression(DoubleSupplier supplier) {
+            this.supplier = supplier;
+            this.invalidate();
+        }
+
+        @Override
+        protected double recomputeValue() {
+            DependencyTracker.Scope scope = DependencyTracker.open();
+
+            try {
+                return this.supplier.get();
+            } finally {
+                this.dependencies.update(scope);
+            }
+        }
+
+    }
+
+    private static final class ComputedObjectExpression<T> extends SimpleObjectExpression<T> {
+
+        private final ObjectSupplier<T> supplier;
+        private final transient DynamicDependencies dependencies = new DynamicDependencies(this);
+
+        private ComputedObjectExpression(ObjectSupplier<T> supplier) {
+            this.supplier = supplier;
+            this.invalidate();
+        }
+
+        @Override
+        @Nullable
+        protected T recomputeValue() {
+            DependencyTracker.Scope scope = DependencyTracker.open();
+
+            try {
+                return this.supplier.get();
+            } finally {
+                this.dependencies.update(scope);
+            }
+        }
+
+    }
+
+}
\ No newline at end of file
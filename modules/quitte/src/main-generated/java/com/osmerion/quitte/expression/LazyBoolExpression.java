@@ -38,6 +38,7 @@ import javax.annotation.Nullable;
 
 import com.osmerion.quitte.*;
 import com.osmerion.quitte.functional.*;
+import com.osmerion.quitte.internal.DependencyTracker;
 import com.osmerion.quitte.internal.binding.*;
 import com.osmerion.quitte.property.*;
 import com.osmerion.quitte.value.*;
@@ -63,7 +64,7 @@ public abstract class LazyBoolExpression extends AbstractBoolExpression implemen
      * @since   0.1.0
      */
     public static LazyBoolExpression of(ObservableBoolValue observable, BoolToBoolFunction transform) {
-        return new Transform(ex -> new BoolToBoolBinding(ex::doInvalidate, observable, transform));
+        return new Transform(observable, ex -> new BoolToBoolBinding(() -> ex.scheduleInvalidation(observable), observable, transform));
     }
 
     /**
@@ -77,7 +78,7 @@ public abstract class LazyBoolExpression extends AbstractBoolExpression implemen
      * @since   0.1.0
      */
     public static LazyBoolExpression of(ObservableByteValue observable, ByteToBoolFunction transform) {
-        return new Transform(ex -> new ByteToBoolBinding(ex::doInvalidate, observable, transform));
+        return new Transform(observable, ex -> new ByteToBoolBinding(() -> ex.scheduleInvalidation(observable), observable, transform));
     }
 
     /**
@@ -91,7 +92,7 @@ public abstract class LazyBoolExpression extends AbstractBoolExpression implemen
      * @since   0.1.0
      */
     public static LazyBoolExpression of(ObservableShortValue observable, ShortToBoolFunction transform) {
-        return new Transform(ex -> new ShortToBoolBinding(ex::doInvalidate, observable, transform));
+        return new Transform(observable, ex -> new ShortToBoolBinding(() -> ex.scheduleInvalidation(observable), observable, transform));
     }
 
     /**
@@ -105,7 +106,7 @@ public abstract class LazyBoolExpression extends AbstractBoolExpression implemen
      * @since   0.1.0
      */
     public static LazyBoolExpression of(ObservableIntValue observable, IntToBoolFunction transform) {
-        return new Transform(ex -> new IntToBoolBinding(ex::doInvalidate, observable, transform));
+        return new Transform(observable, ex -> new IntToBoolBinding(() -> ex.scheduleInvalidation(observable), observable, transform));
     }
 
     /**
@@ -119,7 +120,7 @@ public abstract class LazyBoolExpression extends AbstractBoolExpression implemen
      * @since   0.1.0
      */
     public static LazyBoolExpression of(ObservableLongValue observable, LongToBoolFunction transform) {
-        return new Transform(ex -> new LongToBoolBinding(ex::doInvalidate, observable, transform));
+        return new Transform(observable, ex -> new LongToBoolBinding(() -> ex.scheduleInvalidation(observable), observable, transform));
     }
 
     /**
@@ -133,7 +134,7 @@ public abstract class LazyBoolExpression extends AbstractBoolExpression implemen
      * @since   0.1.0
      */
     public static LazyBoolExpression of(ObservableFloatValue observable, FloatToBoolFunction transform) {
-        return new Transform(ex -> new FloatToBoolBinding(ex::doInvalidate, observable, transform));
+        return new Transform(observable, ex -> new FloatToBoolBinding(() -> ex.scheduleInvalidation(observable), observable, transform));
     }
 
     /**
@@ -147,7 +148,7 @@ public abstract class LazyBoolExpression extends AbstractBoolExpression implemen
      * @since   0.1.0
      */
     public static LazyBoolExpression of(ObservableDoubleValue observable, DoubleToBoolFunction transform) {
-        return new Transform(ex -> new DoubleToBoolBinding(ex::doInvalidate, observable, transform));
+        return new Transform(observable, ex -> new DoubleToBoolBinding(() -> ex.scheduleInvalidation(observable), observable, transform));
     }
 
     /**
@@ -162,7 +163,111 @@ public abstract class LazyBoolExpression extends AbstractBoolExpression implemen
      * @since   0.1.0
      */
     public static <S> LazyBoolExpression of(ObservableObjectValue<S> observable, ObjectToBoolFunction<S> transform) {
-        return new Transform(ex -> new ObjectToBoolBinding<>(ex::doInvalidate, observable, transform));
+        return new Transform(observable, ex -> new ObjectToBoolBinding<>(() -> ex.scheduleInvalidation(observable), observable, transform));
+    }
+
+    /**
+     * Returns a new lazy expression which follows a path of nested observables starting at the given root.
+     *
+     * <p>Each selector is applied to the value of the previous observable in the path to obtain the next observable.
+     * The expression evaluates to the value of the last observable in the path, or to
+     * {@code false} if any value along the path is {@code null}.</p>
+     *
+     * <p>Every observable in the path and its value are cached. When an observable in the path is invalidated, only
+     * the part of the path below it is walked again, and selectors are only applied to values that have changed. The
+     * observables in the path only reference the expression weakly.</p>
+     *
+     * @param <A>       the type of the value of the root observable
+     * @param root      the root observable
+     * @param first     the selector for the observable that provides the value
+     *
+     * @return  a new lazy expression which follows a path of nested observables starting at the given root
+     *
+     * @since   0.9.0
+     */
+    public static <A> LazyBoolExpression select(ObservableObjectValue<A> root, Function<? super A, ? extends ObservableBoolValue> first) {
+        return new Transform(root, ex -> new BoolBinding.Selection(ex::scheduleInvalidation, root, false, first));
+    }
+
+    /**
+     * Returns a new lazy expression which follows a path of nested observables starting at the given root.
+     *
+     * <p>Each selector is applied to the value of the previous observable in the path to obtain the next observable.
+     * The expression evaluates to the value of the last observable in the path, or to
+     * {@code false} if any value along the path is {@code null}.</p>
+     *
+     * <p>Every observable in the path and its value are cached. When an observable in the path is invalidated, only
+     * the part of the path below it is walked again, and selectors are only applied to values that have changed. The
+     * observables in the path only reference the expression weakly.</p>
+     *
+     * @param <A>       the type of the value of the root observable
+     * @param <B>       the type of the value of the first selected observable
+     * @param root      the root observable
+     * @param first     the first selector
+     * @param second    the selector for the observable that provides the value
+     *
+     * @return  a new lazy expression which follows a path of nested observables starting at the given root
+     *
+     * @since   0.9.0
+     */
+    public static <A, B> LazyBoolExpression select(ObservableObjectValue<A> root, Function<? super A, ? extends ObservableObjectValue<B>> first, Function<? super B, ? extends ObservableBoolValue> second) {
+        return new Transform(root, ex -> new BoolBinding.Selection(ex::scheduleInvalidation, root, false, first, second));
+    }
+
+    /**
+     * Returns a new lazy expression which follows a path of nested observables starting at the given root.
+     *
+     * <p>Each selector is applied to the value of the previous observable in the path to obtain the next observable.
+     * The expression evaluates to the value of the last observable in the path, or to
+     * {@code false} if any value along the path is {@code null}.</p>
+     *
+     * <p>Every observable in the path and its value are cached. When an observable in the path is invalidated, only
+     * the part of the path below it is walked again, and selectors are only applied to values that have changed. The
+     * observables in the path only reference the expression weakly.</p>
+     *
+     * @param <A>       the type of the value of the root observable
+     * @param <B>       the type of the value of the first selected observable
+     * @param <C>       the type of the value of the second selected observable
+     * @param root      the root observable
+     * @param first     the first selector
+     * @param second    the second selector
+     * @param third     the selector for the observable that provides the value
+     *
+     * @return  a new lazy expression which follows a path of nested observables starting at the given root
+     *
+     * @since   0.9.0
+     */
+    public static <A, B, C> LazyBoolExpression select(ObservableObjectValue<A> root, Function<? super A, ? extends ObservableObjectValue<B>> first, Function<? super B, ? extends ObservableObjectValue<C>> second, Function<? super C, ? extends ObservableBoolValue> third) {
+        return new Transform(root, ex -> new BoolBinding.Selection(ex::scheduleInvalidation, root, false, first, second, third));
+    }
+
+    /**
+     * Returns a new lazy expression which follows a path of nested observables starting at the given root.
+     *
+     * <p>Each selector is applied to the value of the previous observable in the path to obtain the next observable.
+     * The expression evaluates to the value of the last observable in the path, or to
+     * {@code false} if any value along the path is {@code null}.</p>
+     *
+     * <p>Every observable in the path and its value are cached. When an observable in the path is invalidated, only
+     * the part of the path below it is walked again, and selectors are only applied to values that have changed. The
+     * observables in the path only reference the expression weakly.</p>
+     *
+     * @param <A>       the type of the value of the root observable
+     * @param <B>       the type of the value of the first selected observable
+     * @param <C>       the type of the value of the second selected observable
+     * @param <D>       the type of the value of the third selected observable
+     * @param root      the root observable
+     * @param first     the first selector
+     * @param second    the second selector
+     * @param third     the third selector
+     * @param fourth    the selector for the observable that provides the value
+     *
+     * @return  a new lazy expression which follows a path of nested observables starting at the given root
+     *
+     * @since   0.9.0
+     */
+    public static <A, B, C, D> LazyBoolExpression select(ObservableObjectValue<A> root, Function<? super A, ? extends ObservableObjectValue<B>> first, Function<? super B, ? extends ObservableObjectValue<C>> second, Function<? super C, ? extends ObservableObjectValue<D>> third, Function<? super D, ? extends ObservableBoolValue> fourth) {
+        return new Transform(root, ex -> new BoolBinding.Selection(ex::scheduleInvalidation, root, false, first, second, third, fourth));
     }
 
     /**
@@ -179,47 +284,19 @@ public abstract class LazyBoolExpression extends AbstractBoolExpression implemen
      * @since   0.1.0
      */
     public static <S> LazyBoolExpression ofNested(ObservableObjectValue<S> observable, Function<S, ObservableBoolValue> selector) {
-        return new LazyBoolExpression() {
-
-            final InvalidationListener nestedPropertyListener = ignored -> this.doInvalidate();
-
-            {
-                observable.addInvalidationListener(ignored -> this.doInvalidate());
-
-                ObjectChangeListener<S> parentChangeListener = (ignored, oldValue, newValue) -> {
-                    if (oldValue != null) {
-                        var nestedProperty = selector.apply(oldValue);
-                        nestedProperty.removeInvalidationListener(this.nestedPropertyListener);
-                    }
-
-                    var nestedProperty = selector.apply(Objects.requireNonNull(newValue));
-                    nestedProperty.addInvalidationListener(this.nestedPropertyListener);
-                };
-                observable.addChangeListener(parentChangeListener);
-                parentChangeListener.onChanged(observable, null, observable.get());
-            }
-
-            @Override
-            protected boolean recomputeValue() {
-                var parent = observable.get();
-                return selector.apply(Objects.requireNonNull(parent)).get();
-            }
-
-        };
+        return new Transform(observable, ex -> new BoolBinding.Selection(ex::scheduleInvalidation, observable, true, selector));
     }
 
-    private final SimpleObjectProperty<State> state = new SimpleObjectProperty<>(State.UNINITIALIZED) {
+    private static final State[] STATES = State.values();
 
-        @Override
-        public void onChanged(@Nullable State prevValue, @Nullable State value) {
-            //noinspection ConstantConditions
-            if (!value.isValid()) LazyBoolExpression.this.notifyInvalidationListeners();
-        }
-
-    };
+    /*
+     * The state is stored as the ordinal of the respective State constant. An observable view is only created once it
+     * is requested and kept in sync from then on.
+     */
+    private transient byte state = (byte) State.UNINITIALIZED.ordinal();
 
     @Nullable
-    private BoolSupplier provider = this::recomputeValue;
+    private transient SimpleObjectProperty<State> stateProperty;
 
     private boolean value;
 
@@ -228,12 +305,19 @@ public abstract class LazyBoolExpression extends AbstractBoolExpression implemen
      *
      * @return  a read-only view of this expression's state
      *
-     * @implNote    The view is not cached since calling this method is expected to be a rare operation.
+     * @implNote    The backing property is only created once this method is called for the first time.
      *
      * @since   0.1.0
      */
     public final ReadableObjectProperty<State> stateProperty() {
-        return this.state.asReadOnlyProperty();
+        SimpleObjectProperty<State> stateProperty = this.stateProperty;
+
+        if (stateProperty == null) {
+            stateProperty = new SimpleObjectProperty<>(this.getState());
+            this.stateProperty = stateProperty;
+        }
+
+        return stateProperty.asReadOnlyProperty();
     }
 
     /**
@@ -244,8 +328,7 @@ public abstract class LazyBoolExpression extends AbstractBoolExpression implemen
      * @since   0.1.0
      */
     public final State getState() {
-        //noinspection ConstantConditions
-        return this.state.get();
+        return STATES[this.state];
     }
 
     /**
@@ -255,14 +338,16 @@ public abstract class LazyBoolExpression extends AbstractBoolExpression implemen
      */
     @Override
     public final boolean get() {
-        //noinspection ConstantConditions
-        if (!this.state.get().isValid()) { 
-            var provider = Objects.requireNonNull(this.provider);
-            this.updateValue(provider.get(), !this.state.get().isValid());
+        DependencyTracker.record(this);
 
-            this.provider = null;
+        if (!this.isValid()) {
+            /* The recomputation's reads are dependencies of this expression, not of the enclosing scope. */
+            try (DependencyTracker.Scope ignored = DependencyTracker.suspend()) {
+                this.updateValue(this.doRecomputeValue(), !this.isValid());
+            }
         }
 
+        this.recordSnapshotRead();
         return this.value;
     }
 
@@ -278,29 +363,41 @@ public abstract class LazyBoolExpression extends AbstractBoolExpression implemen
 
     @Override
     final void doInvalidate() {
-        this.provider = this::recomputeValue;
-
-        //noinspection ConstantConditions
-        if (this.state.get().isValid()) this.state.set(State.INVALID);
+        if (this.isValid()) this.setState(State.INVALID);
     }
 
     @Override
     final boolean onChangedInternal(boolean oldValue, boolean newValue) {
-        if (this.state.get() != State.UNINITIALIZED) {
-            this.state.set(State.VALID);
+        if (this.state != State.UNINITIALIZED.ordinal()) {
+            this.setState(State.VALID);
             return true;
         } else {
-            this.state.set(State.INITIALIZED);
+            this.setState(State.INITIALIZED);
             return false;
         }
     }
 
+    private boolean isValid() {
+        return STATES[this.state].isValid();
+    }
+
+    private void setState(State state) {
+        if (this.state == state.ordinal()) return;
+        this.state = (byte) state.ordinal();
+
+        if (!state.isValid()) this.notifyInvalidationListeners();
+
+        SimpleObjectProperty<State> stateProperty = this.stateProperty;
+        if (stateProperty != null) stateProperty.set(state);
+    }
+
     /** A simple expression transforming a single value using the internal binding API. */
     private static final class Transform extends LazyBoolExpression {
 
         private final transient BoolBinding binding;
 
-        private Transform(Function<LazyBoolExpression, BoolBinding> factory) {
+        private Transform(Observable source, Function<LazyBoolExpression, BoolBinding> factory) {
+            this.rankAfter(source);
             this.binding = factory.apply(this);
         }
 
@@ -38,6 +38,7 @@ import javax.annotation.Nullable;
 
 import com.osmerion.quitte.*;
 import com.osmerion.quitte.functional.*;
+import com.osmerion.quitte.internal.DependencyTracker;
 import com.osmerion.quitte.internal.binding.*;
 import com.osmerion.quitte.property.*;
 import com.osmerion.quitte.value.*;
@@ -64,7 +65,7 @@ public abstract class LazyObjectExpression<T> extends AbstractObjectExpression<T
      * @since   0.1.0
      */
     public static <T> LazyObjectExpression<T> of(ObservableBoolValue observable, BoolToObjectFunction<T> transform) {
-        return new Transform<>(ex -> new BoolToObjectBinding<>(ex::doInvalidate, observable, transform));
+        return new Transform<>(observable, ex -> new BoolToObjectBinding<>(() -> ex.scheduleInvalidation(observable), observable, transform));
     }
 
     /**
@@ -79,7 +80,7 @@ public abstract class LazyObjectExpression<T> extends AbstractObjectExpression<T
      * @since   0.1.0
      */
     public static <T> LazyObjectExpression<T> of(ObservableByteValue observable, ByteToObjectFunction<T> transform) {
-        return new Transform<>(ex -> new ByteToObjectBinding<>(ex::doInvalidate, observable, transform));
+        return new Transform<>(observable, ex -> new ByteToObjectBinding<>(() -> ex.scheduleInvalidation(observable), observable, transform));
     }
 
     /**
@@ -94,7 +95,7 @@ public abstract class LazyObjectExpression<T> extends AbstractObjectExpression<T
      * @since   0.1.0
      */
     public static <T> LazyObjectExpression<T> of(ObservableShortValue observable, ShortToObjectFunction<T> transform) {
-        return new Transform<>(ex -> new ShortToObjectBinding<>(ex::doInvalidate, observable, transform));
+        return new Transform<>(observable, ex -> new ShortToObjectBinding<>(() -> ex.scheduleInvalidation(observable), observable, transform));
     }
 
     /**
@@ -109,7 +110,7 @@ public abstract class LazyObjectExpression<T> extends AbstractObjectExpression<T
      * @since   0.1.0
      */
     public static <T> LazyObjectExpression<T> of(ObservableIntValue observable, IntToObjectFunction<T> transform) {
-        return new Transform<>(ex -> new IntToObjectBinding<>(ex::doInvalidate, observable, transform));
+        return new Transform<>(observable, ex -> new IntToObjectBinding<>(() -> ex.scheduleInvalidation(observable), observable, transform));
     }
 
     /**
@@ -124,7 +125,7 @@ public abstract class LazyObjectExpression<T> extends AbstractObjectExpression<T
      * @since   0.1.0
      */
     public static <T> LazyObjectExpression<T> of(ObservableLongValue observable, LongToObjectFunction<T> transform) {
-        return new Transform<>(ex -> new LongToObjectBinding<>(ex::doInvalidate, observable, transform));
+        return new Transform<>(observable, ex -> new LongToObjectBinding<>(() -> ex.scheduleInvalidation(observable), observable, transform));
     }
 
     /**
@@ -139,7 +140,7 @@ public abstract class LazyObjectExpression<T> extends AbstractObjectExpression<T
      * @since   0.1.0
      */
     public static <T> LazyObjectExpression<T> of(ObservableFloatValue observable, FloatToObjectFunction<T> transform) {
-        return new Transform<>(ex -> new FloatToObjectBinding<>(ex::doInvalidate, observable, transform));
+        return new Transform<>(observable, ex -> new FloatToObjectBinding<>(() -> ex.scheduleInvalidation(observable), observable, transform));
     }
 
     /**
@@ -154,7 +155,7 @@ public abstract class LazyObjectExpression<T> extends AbstractObjectExpression<T
      * @since   0.1.0
      */
     public static <T> LazyObjectExpression<T> of(ObservableDoubleValue observable, DoubleToObjectFunction<T> transform) {
-        return new Transform<>(ex -> new DoubleToObjectBinding<>(ex::doInvalidate, observable, transform));
+        return new Transform<>(observable, ex -> new DoubleToObjectBinding<>(() -> ex.scheduleInvalidation(observable), observable, transform));
     }
 
     /**
@@ -170,7 +171,115 @@ public abstract class LazyObjectExpression<T> extends AbstractObjectExpression<T
      * @since   0.1.0
      */
     public static <S, T> LazyObjectExpression<T> of(ObservableObjectValue<S> observable, ObjectToObjectFunction<S, T> transform) {
-        return new Transform<>(ex -> new ObjectToObjectBinding<>(ex::doInvalidate, observable, transform));
+        return new Transform<>(observable, ex -> new ObjectToObjectBinding<>(() -> ex.scheduleInvalidation(observable), observable, transform));
+    }
+
+    /**
+     * Returns a new lazy expression which follows a path of nested observables starting at the given root.
+     *
+     * <p>Each selector is applied to the value of the previous observable in the path to obtain the next observable.
+     * The expression evaluates to the value of the last observable in the path, or to
+     * {@code null} if any value along the path is {@code null}.</p>
+     *
+     * <p>Every observable in the path and its value are cached. When an observable in the path is invalidated, only
+     * the part of the path below it is walked again, and selectors are only applied to values that have changed. The
+     * observables in the path only reference the expression weakly.</p>
+     *
+     * @param <A>       the type of the value of the root observable
+     * @param <T>       the type of the value of the expression
+     * @param root      the root observable
+     * @param first     the selector for the observable that provides the value
+     *
+     * @return  a new lazy expression which follows a path of nested observables starting at the given root
+     *
+     * @since   0.9.0
+     */
+    public static <A, T> LazyObjectExpression<T> select(ObservableObjectValue<A> root, Function<? super A, ? extends ObservableObjectValue<T>> first) {
+        return new Transform<>(root, ex -> new ObjectBinding.Selection<>(ex::scheduleInvalidation, root, false, first));
+    }
+
+    /**
+     * Returns a new lazy expression which follows a path of nested observables starting at the given root.
+     *
+     * <p>Each selector is applied to the value of the previous observable in the path to obtain the next observable.
+     * The expression evaluates to the value of the last observable in the path, or to
+     * {@code null} if any value along the path is {@code null}.</p>
+     *
+     * <p>Every observable in the path and its value are cached. When an observable in the path is invalidated, only
+     * the part of the path below it is walked again, and selectors are only applied to values that have changed. The
+     * observables in the path only reference the expression weakly.</p>
+     *
+     * @param <A>       the type of the value of the root observable
+     * @param <B>       the type of the value of the first selected observable
+     * @param <T>       the type of the value of the expression
+     * @param root      the root observable
+     * @param first     the first selector
+     * @param second    the selector for the observable that provides the value
+     *
+     * @return  a new lazy expression which follows a path of nested observables starting at the given root
+     *
+     * @since   0.9.0
+     */
+    public static <A, B, T> LazyObjectExpression<T> select(ObservableObjectValue<A> root, Function<? super A, ? extends ObservableObjectValue<B>> first, Function<? super B, ? extends ObservableObjectValue<T>> second) {
+        return new Transform<>(root, ex -> new ObjectBinding.Selection<>(ex::scheduleInvalidation, root, false, first, second));
+    }
+
+    /**
+     * Returns a new lazy expression which follows a path of nested observables starting at the given root.
+     *
+     * <p>Each selector is applied to the value of the previous observable in the path to obtain the next observable.
+     * The expression evaluates to the value of the last observable in the path, or to
+     * {@code null} if any value along the path is {@code null}.</p>
+     *
+     * <p>Every observable in the path and its value are cached. When an observable in the path is invalidated, only
+     * the part of the path below it is walked again, and selectors are only applied to values that have changed. The
+     * observables in the path only reference the expression weakly.</p>
+     *
+     * @param <A>       the type of the value of the root observable
+     * @param <B>       the type of the value of the first selected observable
+     * @param <C>       the type of the value of the second selected observable
+     * @param <T>       the type of the value of the expression
+     * @param root      the root observable
+     * @param first     the first selector
+     * @param second    the second selector
+     * @param third     the selector for the observable that provides the value
+     *
+     * @return  a new lazy expression which follows a path of nested observables starting at the given root
+     *
+     * @since   0.9.0
+     */
+    public static <A, B, C, T> LazyObjectExpression<T> select(ObservableObjectValue<A> root, Function<? super A, ? extends ObservableObjectValue<B>> first, Function<? super B, ? extends ObservableObjectValue<C>> second, Function<? super C, ? extends ObservableObjectValue<T>> third) {
+        return new Transform<>(root, ex -> new ObjectBinding.Selection<>(ex::scheduleInvalidation, root, false, first, second, third));
+    }
+
+    /**
+     * Returns a new lazy expression which follows a path of nested observables starting at the given root.
+     *
+     * <p>Each selector is applied to the value of the previous observable in the path to obtain the next observable.
+     * The expression evaluates to the value of the last observable in the path, or to
+     * {@code null} if any value along the path is {@code null}.</p>
+     *
+     * <p>Every observable in the path and its value are cached. When an observable in the path is invalidated, only
+     * the part of the path below it is walked again, and selectors are only applied to values that have changed. The
+     * observables in the path only reference the expression weakly.</p>
+     *
+     * @param <A>       the type of the value of the root observable
+     * @param <B>       the type of the value of the first selected observable
+     * @param <C>       the type of the value of the second selected observable
+     * @param <D>       the type of the value of the third selected observable
+     * @param <T>       the type of the value of the expression
+     * @param root      the root observable
+     * @param first     the first selector
+     * @param second    the second selector
+     * @param third     the third selector
+     * @param fourth    the selector for the observable that provides the value
+     *
+     * @return  a new lazy expression which follows a path of nested observables starting at the given root
+     *
+     * @since   0.9.0
+     */
+    public static <A, B, C, D, T> LazyObjectExpression<T> select(ObservableObjectValue<A> root, Function<? super A, ? extends ObservableObjectValue<B>> first, Function<? super B, ? extends ObservableObjectValue<C>> second, Function<? super C, ? extends ObservableObjectValue<D>> third, Function<? super D, ? extends ObservableObjectValue<T>> fourth) {
+        return new Transform<>(root, ex -> new ObjectBinding.Selection<>(ex::scheduleInvalidation, root, false, first, second, third, fourth));
     }
 
     /**
@@ -188,48 +297,19 @@ public abstract class LazyObjectExpression<T> extends AbstractObjectExpression<T
      * @since   0.1.0
      */
     public static <S, T> LazyObjectExpression<T> ofNested(ObservableObjectValue<S> observable, Function<S, ObservableObjectValue<T>> selector) {
-        return new LazyObjectExpression<>() {
-
-            final InvalidationListener nestedPropertyListener = ignored -> this.doInvalidate();
-
-            {
-                observable.addInvalidationListener(ignored -> this.doInvalidate());
-
-                ObjectChangeListener<S> parentChangeListener = (ignored, oldValue, newValue) -> {
-                    if (oldValue != null) {
-                        var nestedProperty = selector.apply(oldValue);
-                        nestedProperty.removeInvalidationListener(this.nestedPropertyListener);
-                    }
-
-                    var nestedProperty = selector.apply(Objects.requireNonNull(newValue));
-                    nestedProperty.addInvalidationListener(this.nestedPropertyListener);
-                };
-                observable.addChangeListener(parentChangeListener);
-                parentChangeListener.onChanged(observable, null, observable.get());
-            }
-
-            @Nullable
-            @Override
-            protected T recomputeValue() {
-                var parent = observable.get();
-                return selector.apply(Objects.requireNonNull(parent)).get();
-            }
-
-        };
+        return new Transform<>(observable, ex -> new ObjectBinding.Selection<>(ex::scheduleInvalidation, observable, true, selector));
     }
 
-    private final SimpleObjectProperty<State> state = new SimpleObjectProperty<>(State.UNINITIALIZED) {
+    private static final State[] STATES = State.values();
 
-        @Override
-        public void onChanged(@Nullable State prevValue, @Nullable State value) {
-            //noinspection ConstantConditions
-            if (!value.isValid()) LazyObjectExpression.this.notifyInvalidationListeners();
-        }
-
-    };
+    /*
+     * The state is stored as the ordinal of the respective State constant. An observable view is only created once it
+     * is requested and kept in sync from then on.
+     */
+    private transient byte state = (byte) State.UNINITIALIZED.ordinal();
 
     @Nullable
-    private ObjectSupplier<T> provider = this::recomputeValue;
+    private transient SimpleObjectProperty<State> stateProperty;
 
     @Nullable
     private T value;
@@ -239,12 +319,19 @@ public abstract class LazyObjectExpression<T> extends AbstractObjectExpression<T
      *
      * @return  a read-only view of this expression's state
      *
-     * @implNote    The view is not cached since calling this method is expected to be a rare operation.
+     * @implNote    The backing property is only created once this method is called for the first time.
      *
      * @since   0.1.0
      */
     public final ReadableObjectProperty<State> stateProperty() {
-        return this.state.asReadOnlyProperty();
+        SimpleObjectProperty<State> stateProperty = this.stateProperty;
+
+        if (stateProperty == null) {
+            stateProperty = new SimpleObjectProperty<>(this.getState());
+            this.stateProperty = stateProperty;
+        }
+
+        return stateProperty.asReadOnlyProperty();
     }
 
     /**
@@ -255,8 +342,7 @@ public abstract class LazyObjectExpression<T> extends AbstractObjectExpression<T
      * @since   0.1.0
      */
     public final State getState() {
-        //noinspection ConstantConditions
-        return this.state.get();
+        return STATES[this.state];
     }
 
     /**
@@ -267,14 +353,16 @@ public abstract class LazyObjectExpression<T> extends AbstractObjectExpression<T
     @Override
     @Nullable
     public final T get() {
-        //noinspection ConstantConditions
-        if (!this.state.get().isValid()) { 
-            var provider = Objects.requireNonNull(this.provider);
-            this.updateValue(provider.get(), !this.state.get().isValid());
+        DependencyTracker.record(this);
 
-            this.provider = null;
+        if (!this.isValid()) {
+            /* The recomputation's reads are dependencies of this expression, not of the enclosing scope. */
+            try (DependencyTracker.Scope ignored = DependencyTracker.suspend()) {
+                this.updateValue(this.doRecomputeValue(), !this.isValid());
+            }
         }
 
+        this.recordSnapshotRead();
         return this.value;
     }
 
@@ -291,29 +379,41 @@ public abstract class LazyObjectExpression<T> extends AbstractObjectExpression<T
 
     @Override
     final void doInvalidate() {
-        this.provider = this::recomputeValue;
-
-        //noinspection ConstantConditions
-        if (this.state.get().isValid()) this.state.set(State.INVALID);
+        if (this.isValid()) this.setState(State.INVALID);
     }
 
     @Override
     final boolean onChangedInternal(@Nullable T oldValue, @Nullable T newValue) {
-        if (this.state.get() != State.UNINITIALIZED) {
-            this.state.set(State.VALID);
+        if (this.state != State.UNINITIALIZED.ordinal()) {
+            this.setState(State.VALID);
             return true;
         } else {
-            this.state.set(State.INITIALIZED);
+            this.setState(State.INITIALIZED);
             return false;
         }
     }
 
+    private boolean isValid() {
+        return STATES[this.state].isValid();
+    }
+
+    private void setState(State state) {
+        if (this.state == state.ordinal()) return;
+        this.state = (byte) state.ordinal();
+
+        if (!state.isValid()) this.notifyInvalidationListeners();
+
+        SimpleObjectProperty<State> stateProperty = this.stateProperty;
+        if (stateProperty != null) stateProperty.set(state);
+    }
+
     /** A simple expression transforming a single value using the internal binding API. */
     private static final class Transform<T> extends LazyObjectExpression<T> {
 
         private final transient ObjectBinding<T> binding;
 
-        private Transform(Function<LazyObjectExpression<T>, ObjectBinding<T>> factory) {
+        private Transform(Observable source, Function<LazyObjectExpression<T>, ObjectBinding<T>> factory) {
+            this.rankAfter(source);
             this.binding = factory.apply(this);
         }
 
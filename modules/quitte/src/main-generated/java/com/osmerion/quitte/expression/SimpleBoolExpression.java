@@ -60,7 +60,7 @@ public abstract class SimpleBoolExpression extends AbstractBoolExpression {
      * @since   0.1.0
      */
     public static SimpleBoolExpression of(ObservableBoolValue observable, BoolToBoolFunction transform) {
-        return new Transform(ex -> new BoolToBoolBinding(ex::doInvalidate, observable, transform));
+        return new Transform(observable, ex -> new BoolToBoolBinding(() -> ex.scheduleInvalidation(observable), observable, transform));
     }
 
     /**
@@ -74,7 +74,7 @@ public abstract class SimpleBoolExpression extends AbstractBoolExpression {
      * @since   0.1.0
      */
     public static SimpleBoolExpression of(ObservableByteValue observable, ByteToBoolFunction transform) {
-        return new Transform(ex -> new ByteToBoolBinding(ex::doInvalidate, observable, transform));
+        return new Transform(observable, ex -> new ByteToBoolBinding(() -> ex.scheduleInvalidation(observable), observable, transform));
     }
 
     /**
@@ -88,7 +88,7 @@ public abstract class SimpleBoolExpression extends AbstractBoolExpression {
      * @since   0.1.0
      */
     public static SimpleBoolExpression of(ObservableShortValue observable, ShortToBoolFunction transform) {
-        return new Transform(ex -> new ShortToBoolBinding(ex::doInvalidate, observable, transform));
+        return new Transform(observable, ex -> new ShortToBoolBinding(() -> ex.scheduleInvalidation(observable), observable, transform));
     }
 
     /**
@@ -102,7 +102,7 @@ public abstract class SimpleBoolExpression extends AbstractBoolExpression {
      * @since   0.1.0
      */
     public static SimpleBoolExpression of(ObservableIntValue observable, IntToBoolFunction transform) {
-        return new Transform(ex -> new IntToBoolBinding(ex::doInvalidate, observable, transform));
+        return new Transform(observable, ex -> new IntToBoolBinding(() -> ex.scheduleInvalidation(observable), observable, transform));
     }
 
     /**
@@ -116,7 +116,7 @@ public abstract class SimpleBoolExpression extends AbstractBoolExpression {
      * @since   0.1.0
      */
     public static SimpleBoolExpression of(ObservableLongValue observable, LongToBoolFunction transform) {
-        return new Transform(ex -> new LongToBoolBinding(ex::doInvalidate, observable, transform));
+        return new Transform(observable, ex -> new LongToBoolBinding(() -> ex.scheduleInvalidation(observable), observable, transform));
     }
 
     /**
@@ -130,7 +130,7 @@ public abstract class SimpleBoolExpression extends AbstractBoolExpression {
      * @since   0.1.0
      */
     public static SimpleBoolExpression of(ObservableFloatValue observable, FloatToBoolFunction transform) {
-        return new Transform(ex -> new FloatToBoolBinding(ex::doInvalidate, observable, transform));
+        return new Transform(observable, ex -> new FloatToBoolBinding(() -> ex.scheduleInvalidation(observable), observable, transform));
     }
 
     /**
@@ -144,7 +144,7 @@ public abstract class SimpleBoolExpression extends AbstractBoolExpression {
      * @since   0.1.0
      */
     public static SimpleBoolExpression of(ObservableDoubleValue observable, DoubleToBoolFunction transform) {
-        return new Transform(ex -> new DoubleToBoolBinding(ex::doInvalidate, observable, transform));
+        return new Transform(observable, ex -> new DoubleToBoolBinding(() -> ex.scheduleInvalidation(observable), observable, transform));
     }
 
     /**
@@ -159,7 +159,576 @@ public abstract class SimpleBoolExpression extends AbstractBoolExpression {
      * @since   0.1.0
      */
     public static <S> SimpleBoolExpression of(ObservableObjectValue<S> observable, ObjectToBoolFunction<S> transform) {
-        return new Transform(ex -> new ObjectToBoolBinding<>(ex::doInvalidate, observable, transform));
+        return new Transform(observable, ex -> new ObjectToBoolBinding<>(() -> ex.scheduleInvalidation(observable), observable, transform));
+    }
+
+    /**
+     * Returns a new simple expression which combines the values of the given observables using the given function.
+     *
+     * <p>The expression depends directly on each of the given observables. Unlike dependencies that are added using
+     * {@link #addDependency(Observable)}, these dependencies are tracked without any additional bookkeeping.</p>
+     *
+     * @param a             the first observable
+     * @param b             the second observable
+     * @param transform     the function that combines the values
+     *
+     * @return  a new simple expression which combines the values of the given observables
+     *
+     * @since   0.9.0
+     */
+    public static SimpleBoolExpression combine(ObservableBoolValue a, ObservableBoolValue b, BoolBoolToBoolFunction transform) {
+        return new Transform(new Observable[] { a, b }, ex -> new BoolBoolToBoolBinding(ex::scheduleInvalidation, a, b, transform));
+    }
+
+    /**
+     * Returns a new simple expression which combines the values of the given observables using the given function.
+     *
+     * <p>The expression depends directly on each of the given observables. Unlike dependencies that are added using
+     * {@link #addDependency(Observable)}, these dependencies are tracked without any additional bookkeeping.</p>
+     *
+     * @param a             the first observable
+     * @param b             the second observable
+     * @param c             the third observable
+     * @param transform     the function that combines the values
+     *
+     * @return  a new simple expression which combines the values of the given observables
+     *
+     * @since   0.9.0
+     */
+    public static SimpleBoolExpression combine(ObservableBoolValue a, ObservableBoolValue b, ObservableBoolValue c, BoolBoolBoolToBoolFunction transform) {
+        return new Transform(new Observable[] { a, b, c }, ex -> new BoolBoolBoolToBoolBinding(ex::scheduleInvalidation, a, b, c, transform));
+    }
+
+    /**
+     * Returns a new simple expression which combines the values of the given observables using the given function.
+     *
+     * <p>The expression depends directly on each of the given observables. Unlike dependencies that are added using
+     * {@link #addDependency(Observable)}, these dependencies are tracked without any additional bookkeeping.</p>
+     *
+     * @param a             the first observable
+     * @param b             the second observable
+     * @param c             the third observable
+     * @param d             the fourth observable
+     * @param transform     the function that combines the values
+     *
+     * @return  a new simple expression which combines the values of the given observables
+     *
+     * @since   0.9.0
+     */
+    public static SimpleBoolExpression combine(ObservableBoolValue a, ObservableBoolValue b, ObservableBoolValue c, ObservableBoolValue d, BoolBoolBoolBoolToBoolFunction transform) {
+        return new Transform(new Observable[] { a, b, c, d }, ex -> new BoolBoolBoolBoolToBoolBinding(ex::scheduleInvalidation, a, b, c, d, transform));
+    }
+
+    /**
+     * Returns a new simple expression which combines the values of the given observables using the given function.
+     *
+     * <p>The expression depends directly on each of the given observables. Unlike dependencies that are added using
+     * {@link #addDependency(Observable)}, these dependencies are tracked without any additional bookkeeping.</p>
+     *
+     * @param a             the first observable
+     * @param b             the second observable
+     * @param transform     the function that combines the values
+     *
+     * @return  a new simple expression which combines the values of the given observables
+     *
+     * @since   0.9.0
+     */
+    public static SimpleBoolExpression combine(ObservableByteValue a, ObservableByteValue b, ByteByteToBoolFunction transform) {
+        return new Transform(new Observable[] { a, b }, ex -> new ByteByteToBoolBinding(ex::scheduleInvalidation, a, b, transform));
+    }
+
+    /**
+     * Returns a new simple expression which combines the values of the given observables using the given function.
+     *
+     * <p>The expression depends directly on each of the given observables. Unlike dependencies that are added using
+     * {@link #addDependency(Observable)}, these dependencies are tracked without any additional bookkeeping.</p>
+     *
+     * @param a             the first observable
+     * @param b             the second observable
+     * @param c             the third observable
+     * @param transform     the function that combines the values
+     *
+     * @return  a new simple expression which combines the values of the given observables
+     *
+     * @since   0.9.0
+     */
+    public static SimpleBoolExpression combine(ObservableByteValue a, ObservableByteValue b, ObservableByteValue c, ByteByteByteToBoolFunction transform) {
+        return new Transform(new Observable[] { a, b, c }, ex -> new ByteByteByteToBoolBinding(ex::scheduleInvalidation, a, b, c, transform));
+    }
+
+    /**
+     * Returns a new simple expression which combines the values of the given observables using the given function.
+     *
+     * <p>The expression depends directly on each of the given observables. Unlike dependencies that are added using
+     * {@link #addDependency(Observable)}, these dependencies are tracked without any additional bookkeeping.</p>
+     *
+     * @param a             the first observable
+     * @param b             the second observable
+     * @param c             the third observable
+     * @param d             the fourth observable
+     * @param transform     the function that combines the values
+     *
+     * @return  a new simple expression which combines the values of the given observables
+     *
+     * @since   0.9.0
+     */
+    public static SimpleBoolExpression combine(ObservableByteValue a, ObservableByteValue b, ObservableByteValue c, ObservableByteValue d, ByteByteByteByteToBoolFunction transform) {
+        return new Transform(new Observable[] { a, b, c, d }, ex -> new ByteByteByteByteToBoolBinding(ex::scheduleInvalidation, a, b, c, d, transform));
+    }
+
+    /**
+     * Returns a new simple expression which combines the values of the given observables using the given function.
+     *
+     * <p>The expression depends directly on each of the given observables. Unlike dependencies that are added using
+     * {@link #addDependency(Observable)}, these dependencies are tracked without any additional bookkeeping.</p>
+     *
+     * @param a             the first observable
+     * @param b             the second observable
+     * @param transform     the function that combines the values
+     *
+     * @return  a new simple expression which combines the values of the given observables
+     *
+     * @since   0.9.0
+     */
+    public static SimpleBoolExpression combine(ObservableShortValue a, ObservableShortValue b, ShortShortToBoolFunction transform) {
+        return new Transform(new Observable[] { a, b }, ex -> new ShortShortToBoolBinding(ex::scheduleInvalidation, a, b, transform));
+    }
+
+    /**
+     * Returns a new simple expression which combines the values of the given observables using the given function.
+     *
+     * <p>The expression depends directly on each of the given observables. Unlike dependencies that are added using
+     * {@link #addDependency(Observable)}, these dependencies are tracked without any additional bookkeeping.</p>
+     *
+     * @param a             the first observable
+     * @param b             the second observable
+     * @param c             the third observable
+     * @param transform     the function that combines the values
+     *
+     * @return  a new simple expression which combines the values of the given observables
+     *
+     * @since   0.9.0
+     */
+    public static SimpleBoolExpression combine(ObservableShortValue a, ObservableShortValue b, ObservableShortValue c, ShortShortShortToBoolFunction transform) {
+        return new Transform(new Observable[] { a, b, c }, ex -> new ShortShortShortToBoolBinding(ex::scheduleInvalidation, a, b, c, transform));
+    }
+
+    /**
+     * Returns a new simple expression which combines the values of the given observables using the given function.
+     *
+     * <p>The expression depends directly on each of the given observables. Unlike dependencies that are added using
+     * {@link #addDependency(Observable)}, these dependencies are tracked without any additional bookkeeping.</p>
+     *
+     * @param a             the first observable
+     * @param b             the second observable
+     * @param c             the third observable
+     * @param d             the fourth observable
+     * @param transform     the function that combines the values
+     *
+     * @return  a new simple expression which combines the values of the given observables
+     *
+     * @since   0.9.0
+     */
+    public static SimpleBoolExpression combine(ObservableShortValue a, ObservableShortValue b, ObservableShortValue c, ObservableShortValue d, ShortShortShortShortToBoolFunction transform) {
+        return new Transform(new Observable[] { a, b, c, d }, ex -> new ShortShortShortShortToBoolBinding(ex::scheduleInvalidation, a, b, c, d, transform));
+    }
+
+    /**
+     * Returns a new simple expression which combines the values of the given observables using the given function.
+     *
+     * <p>The expression depends directly on each of the given observables. Unlike dependencies that are added using
+     * {@link #addDependency(Observable)}, these dependencies are tracked without any additional bookkeeping.</p>
+     *
+     * @param a             the first observable
+     * @param b             the second observable
+     * @param transform     the function that combines the values
+     *
+     * @return  a new simple expression which combines the values of the given observables
+     *
+     * @since   0.9.0
+     */
+    public static SimpleBoolExpression combine(ObservableIntValue a, ObservableIntValue b, IntIntToBoolFunction transform) {
+        return new Transform(new Observable[] { a, b }, ex -> new IntIntToBoolBinding(ex::scheduleInvalidation, a, b, transform));
+    }
+
+    /**
+     * Returns a new simple expression which combines the values of the given observables using the given function.
+     *
+     * <p>The expression depends directly on each of the given observables. Unlike dependencies that are added using
+     * {@link #addDependency(Observable)}, these dependencies are tracked without any additional bookkeeping.</p>
+     *
+     * @param a             the first observable
+     * @param b             the second observable
+     * @param c             the third observable
+     * @param transform     the function that combines the values
+     *
+     * @return  a new simple expression which combines the values of the given observables
+     *
+     * @since   0.9.0
+     */
+    public static SimpleBoolExpression combine(ObservableIntValue a, ObservableIntValue b, ObservableIntValue c, IntIntIntToBoolFunction transform) {
+        return new Transform(new Observable[] { a, b, c }, ex -> new IntIntIntToBoolBinding(ex::scheduleInvalidation, a, b, c, transform));
+    }
+
+    /**
+     * Returns a new simple expression which combines the values of the given observables using the given function.
+     *
+     * <p>The expression depends directly on each of the given observables. Unlike dependencies that are added using
+     * {@link #addDependency(Observable)}, these dependencies are tracked without any additional bookkeeping.</p>
+     *
+     * @param a             the first observable
+     * @param b             the second observable
+     * @param c             the third observable
+     * @param d             the fourth observable
+     * @param transform     the function that combines the values
+     *
+     * @return  a new simple expression which combines the values of the given observables
+     *
+     * @since   0.9.0
+     */
+    public static SimpleBoolExpression combine(ObservableIntValue a, ObservableIntValue b, ObservableIntValue c, ObservableIntValue d, IntIntIntIntToBoolFunction transform) {
+        return new Transform(new Observable[] { a, b, c, d }, ex -> new IntIntIntIntToBoolBinding(ex::scheduleInvalidation, a, b, c, d, transform));
+    }
+
+    /**
+     * Returns a new simple expression which combines the values of the given observables using the given function.
+     *
+     * <p>The expression depends directly on each of the given observables. Unlike dependencies that are added using
+     * {@link #addDependency(Observable)}, these dependencies are tracked without any additional bookkeeping.</p>
+     *
+     * @param a             the first observable
+     * @param b             the second observable
+     * @param transform     the function that combines the values
+     *
+     * @return  a new simple expression which combines the values of the given observables
+     *
+     * @since   0.9.0
+     */
+    public static SimpleBoolExpression combine(ObservableLongValue a, ObservableLongValue b, LongLongToBoolFunction transform) {
+        return new Transform(new Observable[] { a, b }, ex -> new LongLongToBoolBinding(ex::scheduleInvalidation, a, b, transform));
+    }
+
+    /**
+     * Returns a new simple expression which combines the values of the given observables using the given function.
+     *
+     * <p>The expression depends directly on each of the given observables. Unlike dependencies that are added using
+     * {@link #addDependency(Observable)}, these dependencies are tracked without any additional bookkeeping.</p>
+     *
+     * @param a             the first observable
+     * @param b             the second observable
+     * @param c             the third observable
+     * @param transform     the function that combines the values
+     *
+     * @return  a new simple expression which combines the values of the given observables
+     *
+     * @since   0.9.0
+     */
+    public static SimpleBoolExpression combine(ObservableLongValue a, ObservableLongValue b, ObservableLongValue c, LongLongLongToBoolFunction transform) {
+        return new Transform(new Observable[] { a, b, c }, ex -> new LongLongLongToBoolBinding(ex::scheduleInvalidation, a, b, c, transform));
+    }
+
+    /**
+     * Returns a new simple expression which combines the values of the given observables using the given function.
+     *
+     * <p>The expression depends directly on each of the given observables. Unlike dependencies that are added using
+     * {@link #addDependency(Observable)}, these dependencies are tracked without any additional bookkeeping.</p>
+     *
+     * @param a             the first observable
+     * @param b             the second observable
+     * @param c             the third observable
+     * @param d             the fourth observable
+     * @param transform     the function that combines the values
+     *
+     * @return  a new simple expression which combines the values of the given observables
+     *
+     * @since   0.9.0
+     */
+    public static SimpleBoolExpression combine(ObservableLongValue a, ObservableLongValue b, ObservableLongValue c, ObservableLongValue d, LongLongLongLongToBoolFunction transform) {
+        return new Transform(new Observable[] { a, b, c, d }, ex -> new LongLongLongLongToBoolBinding(ex::scheduleInvalidation, a, b, c, d, transform));
+    }
+
+    /**
+     * Returns a new simple expression which combines the values of the given observables using the given function.
+     *
+     * <p>The expression depends directly on each of the given observables. Unlike dependencies that are added using
+     * {@link #addDependency(Observable)}, these dependencies are tracked without any additional bookkeeping.</p>
+     *
+     * @param a             the first observable
+     * @param b             the second observable
+     * @param transform     the function that combines the values
+     *
+     * @return  a new simple expression which combines the values of the given observables
+     *
+     * @since   0.9.0
+     */
+    public static SimpleBoolExpression combine(ObservableFloatValue a, ObservableFloatValue b, FloatFloatToBoolFunction transform) {
+        return new Transform(new Observable[] { a, b }, ex -> new FloatFloatToBoolBinding(ex::scheduleInvalidation, a, b, transform));
+    }
+
+    /**
+     * Returns a new simple expression which combines the values of the given observables using the given function.
+     *
+     * <p>The expression depends directly on each of the given observables. Unlike dependencies that are added using
+     * {@link #addDependency(Observable)}, these dependencies are tracked without any additional bookkeeping.</p>
+     *
+     * @param a             the first observable
+     * @param b             the second observable
+     * @param c             the third observable
+     * @param transform     the function that combines the values
+     *
+     * @return  a new simple expression which combines the values of the given observables
+     *
+     * @since   0.9.0
+     */
+    public static SimpleBoolExpression combine(ObservableFloatValue a, ObservableFloatValue b, ObservableFloatValue c, FloatFloatFloatToBoolFunction transform) {
+        return new Transform(new Observable[] { a, b, c }, ex -> new FloatFloatFloatToBoolBinding(ex::scheduleInvalidation, a, b, c, transform));
+    }
+
+    /**
+     * Returns a new simple expression which combines the values of the given observables using the given function.
+     *
+     * <p>The expression depends directly on each of the given observables. Unlike dependencies that are added using
+     * {@link #addDependency(Observable)}, these dependencies are tracked without any additional bookkeeping.</p>
+     *
+     * @param a             the first observable
+     * @param b             the second observable
+     * @param c             the third observable
+     * @param d             the fourth observable
+     * @param transform     the function that combines the values
+     *
+     * @return  a new simple expression which combines the values of the given observables
+     *
+     * @since   0.9.0
+     */
+    public static SimpleBoolExpression combine(ObservableFloatValue a, ObservableFloatValue b, ObservableFloatValue c, ObservableFloatValue d, FloatFloatFloatFloatToBoolFunction transform) {
+        return new Transform(new Observable[] { a, b, c, d }, ex -> new FloatFloatFloatFloatToBoolBinding(ex::scheduleInvalidation, a, b, c, d, transform));
+    }
+
+    /**
+     * Returns a new simple expression which combines the values of the given observables using the given function.
+     *
+     * <p>The expression depends directly on each of the given observables. Unlike dependencies that are added using
+     * {@link #addDependency(Observable)}, these dependencies are tracked without any additional bookkeeping.</p>
+     *
+     * @param a             the first observable
+     * @param b             the second observable
+     * @param transform     the function that combines the values
+     *
+     * @return  a new simple expression which combines the values of the given observables
+     *
+     * @since   0.9.0
+     */
+    public static SimpleBoolExpression combine(ObservableDoubleValue a, ObservableDoubleValue b, DoubleDoubleToBoolFunction transform) {
+        return new Transform(new Observable[] { a, b }, ex -> new DoubleDoubleToBoolBinding(ex::scheduleInvalidation, a, b, transform));
+    }
+
+    /**
+     * Returns a new simple expression which combines the values of the given observables using the given function.
+     *
+     * <p>The expression depends directly on each of the given observables. Unlike dependencies that are added using
+     * {@link #addDependency(Observable)}, these dependencies are tracked without any additional bookkeeping.</p>
+     *
+     * @param a             the first observable
+     * @param b             the second observable
+     * @param c             the third observable
+     * @param transform     the function that combines the values
+     *
+     * @return  a new simple expression which combines the values of the given observables
+     *
+     * @since   0.9.0
+     */
+    public static SimpleBoolExpression combine(ObservableDoubleValue a, ObservableDoubleValue b, ObservableDoubleValue c, DoubleDoubleDoubleToBoolFunction transform) {
+        return new Transform(new Observable[] { a, b, c }, ex -> new DoubleDoubleDoubleToBoolBinding(ex::scheduleInvalidation, a, b, c, transform));
+    }
+
+    /**
+     * Returns a new simple expression which combines the values of the given observables using the given function.
+     *
+     * <p>The expression depends directly on each of the given observables. Unlike dependencies that are added using
+     * {@link #addDependency(Observable)}, these dependencies are tracked without any additional bookkeeping.</p>
+     *
+     * @param a             the first observable
+     * @param b             the second observable
+     * @param c             the third observable
+     * @param d             the fourth observable
+     * @param transform     the function that combines the values
+     *
+     * @return  a new simple expression which combines the values of the given observables
+     *
+     * @since   0.9.0
+     */
+    public static SimpleBoolExpression combine(ObservableDoubleValue a, ObservableDoubleValue b, ObservableDoubleValue c, ObservableDoubleValue d, DoubleDoubleDoubleDoubleToBoolFunction transform) {
+        return new Transform(new Observable[] { a, b, c, d }, ex -> new DoubleDoubleDoubleDoubleToBoolBinding(ex::scheduleInvalidation, a, b, c, d, transform));
+    }
+
+    /**
+     * Returns a new simple expression which combines the values of the given observables using the given function.
+     *
+     * <p>The expression depends directly on each of the given observables. Unlike dependencies that are added using
+     * {@link #addDependency(Observable)}, these dependencies are tracked without any additional bookkeeping.</p>
+     *
+     * @param <A>           the type of the first value
+     * @param <B>           the type of the second value
+     * @param a             the first observable
+     * @param b             the second observable
+     * @param transform     the function that combines the values
+     *
+     * @return  a new simple expression which combines the values of the given observables
+     *
+     * @since   0.9.0
+     */
+    public static <A, B> SimpleBoolExpression combine(ObservableObjectValue<A> a, ObservableObjectValue<B> b, ObjectObjectToBoolFunction<A, B> transform) {
+        return new Transform(new Observable[] { a, b }, ex -> new ObjectObjectToBoolBinding<>(ex::scheduleInvalidation, a, b, transform));
+    }
+
+    /**
+     * Returns a new simple expression which combines the values of the given observables using the given function.
+     *
+     * <p>The expression depends directly on each of the given observables. Unlike dependencies that are added using
+     * {@link #addDependency(Observable)}, these dependencies are tracked without any additional bookkeeping.</p>
+     *
+     * @param <A>           the type of the first value
+     * @param <B>           the type of the second value
+     * @param <C>           the type of the third value
+     * @param a             the first observable
+     * @param b             the second observable
+     * @param c             the third observable
+     * @param transform     the function that combines the values
+     *
+     * @return  a new simple expression which combines the values of the given observables
+     *
+     * @since   0.9.0
+     */
+    public static <A, B, C> SimpleBoolExpression combine(ObservableObjectValue<A> a, ObservableObjectValue<B> b, ObservableObjectValue<C> c, ObjectObjectObjectToBoolFunction<A, B, C> transform) {
+        return new Transform(new Observable[] { a, b, c }, ex -> new ObjectObjectObjectToBoolBinding<>(ex::scheduleInvalidation, a, b, c, transform));
+    }
+
+    /**
+     * Returns a new simple expression which combines the values of the given observables using the given function.
+     *
+     * <p>The expression depends directly on each of the given observables. Unlike dependencies that are added using
+     * {@link #addDependency(Observable)}, these dependencies are tracked without any additional bookkeeping.</p>
+     *
+     * @param <A>           the type of the first value
+     * @param <B>           the type of the second value
+     * @param <C>           the type of the third value
+     * @param <D>           the type of the fourth value
+     * @param a             the first observable
+     * @param b             the second observable
+     * @param c             the third observable
+     * @param d             the fourth observable
+     * @param transform     the function that combines the values
+     *
+     * @return  a new simple expression which combines the values of the given observables
+     *
+     * @since   0.9.0
+     */
+    public static <A, B, C, D> SimpleBoolExpression combine(ObservableObjectValue<A> a, ObservableObjectValue<B> b, ObservableObjectValue<C> c, ObservableObjectValue<D> d, ObjectObjectObjectObjectToBoolFunction<A, B, C, D> transform) {
+        return new Transform(new Observable[] { a, b, c, d }, ex -> new ObjectObjectObjectObjectToBoolBinding<>(ex::scheduleInvalidation, a, b, c, d, transform));
+    }
+
+    /**
+     * Returns a new simple expression which follows a path of nested observables starting at the given root.
+     *
+     * <p>Each selector is applied to the value of the previous observable in the path to obtain the next observable.
+     * The expression evaluates to the value of the last observable in the path, or to
+     * {@code false} if any value along the path is {@code null}.</p>
+     *
+     * <p>Every observable in the path and its value are cached. When an observable in the path is invalidated, only
+     * the part of the path below it is walked again, and selectors are only applied to values that have changed. The
+     * observables in the path only reference the expression weakly.</p>
+     *
+     * @param <A>       the type of the value of the root observable
+     * @param root      the root observable
+     * @param first     the selector for the observable that provides the value
+     *
+     * @return  a new simple expression which follows a path of nested observables starting at the given root
+     *
+     * @since   0.9.0
+     */
+    public static <A> SimpleBoolExpression select(ObservableObjectValue<A> root, Function<? super A, ? extends ObservableBoolValue> first) {
+        return new Transform(root, ex -> new BoolBinding.Selection(ex::scheduleInvalidation, root, false, first));
+    }
+
+    /**
+     * Returns a new simple expression which follows a path of nested observables starting at the given root.
+     *
+     * <p>Each selector is applied to the value of the previous observable in the path to obtain the next observable.
+     * The expression evaluates to the value of the last observable in the path, or to
+     * {@code false} if any value along the path is {@code null}.</p>
+     *
+     * <p>Every observable in the path and its value are cached. When an observable in the path is invalidated, only
+     * the part of the path below it is walked again, and selectors are only applied to values that have changed. The
+     * observables in the path only reference the expression weakly.</p>
+     *
+     * @param <A>       the type of the value of the root observable
+     * @param <B>       the type of the value of the first selected observable
+     * @param root      the root observable
+     * @param first     the first selector
+     * @param second    the selector for the observable that provides the value
+     *
+     * @return  a new simple expression which follows a path of nested observables starting at the given root
+     *
+     * @since   0.9.0
+     */
+    public static <A, B> SimpleBoolExpression select(ObservableObjectValue<A> root, Function<? super A, ? extends ObservableObjectValue<B>> first, Function<? super B, ? extends ObservableBoolValue> second) {
+        return new Transform(root, ex -> new BoolBinding.Selection(ex::scheduleInvalidation, root, false, first, second));
+    }
+
+    /**
+     * Returns a new simple expression which follows a path of nested observables starting at the given root.
+     *
+     * <p>Each selector is applied to the value of the previous observable in the path to obtain the next observable.
+     * The expression evaluates to the value of the last observable in the path, or to
+     * {@code false} if any value along the path is {@code null}.</p>
+     *
+     * <p>Every observable in the path and its value are cached. When an observable in the path is invalidated, only
+     * the part of the path below it is walked again, and selectors are only applied to values that have changed. The
+     * observables in the path only reference the expression weakly.</p>
+     *
+     * @param <A>       the type of the value of the root observable
+     * @param <B>       the type of the value of the first selected observable
+     * @param <C>       the type of the value of the second selected observable
+     * @param root      the root observable
+     * @param first     the first selector
+     * @param second    the second selector
+     * @param third     the selector for the observable that provides the value
+     *
+     * @return  a new simple expression which follows a path of nested observables starting at the given root
+     *
+     * @since   0.9.0
+     */
+    public static <A, B, C> SimpleBoolExpression select(ObservableObjectValue<A> root, Function<? super A, ? extends ObservableObjectValue<B>> first, Function<? super B, ? extends ObservableObjectValue<C>> second, Function<? super C, ? extends ObservableBoolValue> third) {
+        return new Transform(root, ex -> new BoolBinding.Selection(ex::scheduleInvalidation, root, false, first, second, third));
+    }
+
+    /**
+     * Returns a new simple expression which follows a path of nested observables starting at the given root.
+     *
+     * <p>Each selector is applied to the value of the previous observable in the path to obtain the next observable.
+     * The expression evaluates to the value of the last observable in the path, or to
+     * {@code false} if any value along the path is {@code null}.</p>
+     *
+     * <p>Every observable in the path and its value are cached. When an observable in the path is invalidated, only
+     * the part of the path below it is walked again, and selectors are only applied to values that have changed. The
+     * observables in the path only reference the expression weakly.</p>
+     *
+     * @param <A>       the type of the value of the root observable
+     * @param <B>       the type of the value of the first selected observable
+     * @param <C>       the type of the value of the second selected observable
+     * @param <D>       the type of the value of the third selected observable
+     * @param root      the root observable
+     * @param first     the first selector
+     * @param second    the second selector
+     * @param third     the third selector
+     * @param fourth    the selector for the observable that provides the value
+     *
+     * @return  a new simple expression which follows a path of nested observables starting at the given root
+     *
+     * @since   0.9.0
+     */
+    public static <A, B, C, D> SimpleBoolExpression select(ObservableObjectValue<A> root, Function<? super A, ? extends ObservableObjectValue<B>> first, Function<? super B, ? extends ObservableObjectValue<C>> second, Function<? super C, ? extends ObservableObjectValue<D>> third, Function<? super D, ? extends ObservableBoolValue> fourth) {
+        return new Transform(root, ex -> new BoolBinding.Selection(ex::scheduleInvalidation, root, false, first, second, third, fourth));
     }
 
     /**
@@ -176,33 +745,7 @@ public abstract class SimpleBoolExpression extends AbstractBoolExpression {
      * @since   0.1.0
      */
     public static <S> SimpleBoolExpression ofNested(ObservableObjectValue<S> observable, Function<S, ObservableBoolValue> selector) {
-        return new SimpleBoolExpression() {
-
-            final InvalidationListener nestedPropertyListener = ignored -> this.doInvalidate();
-
-            {
-                observable.addInvalidationListener(ignored -> this.doInvalidate());
-
-                ObjectChangeListener<S> parentChangeListener = (ignored, oldValue, newValue) -> {
-                    if (oldValue != null) {
-                        var nestedProperty = selector.apply(oldValue);
-                        nestedProperty.removeInvalidationListener(this.nestedPropertyListener);
-                    }
-
-                    var nestedProperty = selector.apply(Objects.requireNonNull(newValue));
-                    nestedProperty.addInvalidationListener(this.nestedPropertyListener);
-                };
-                observable.addChangeListener(parentChangeListener);
-                parentChangeListener.onChanged(observable, null, observable.get());
-            }
-
-            @Override
-            protected boolean recomputeValue() {
-                var parent = observable.get();
-                return selector.apply(Objects.requireNonNull(parent)).get();
-            }
-
-        };
+        return new Transform(observable, ex -> new BoolBinding.Selection(ex::scheduleInvalidation, observable, true, selector));
     }
 
     private boolean value;
@@ -232,7 +775,14 @@ public abstract class SimpleBoolExpression extends AbstractBoolExpression {
 
         private final transient BoolBinding binding;
 
-        private Transform(Function<SimpleBoolExpression, BoolBinding> factory) {
+        private Transform(Observable source, Function<SimpleBoolExpression, BoolBinding> factory) {
+            this.rankAfter(source);
+            this.binding = factory.apply(this);
+            this.invalidate();
+        }
+
+        private Transform(Observable[] sources, Function<SimpleBoolExpression, BoolBinding> factory) {
+            for (Observable source : sources) this.rankAfter(source);
             this.binding = factory.apply(this);
             this.invalidate();
         }
@@ -60,7 +60,7 @@ public abstract class SimpleByteExpression extends AbstractByteExpression {
      * @since   0.1.0
      */
     public static SimpleByteExpression of(ObservableBoolValue observable, BoolToByteFunction transform) {
-        return new Transform(ex -> new BoolToByteBinding(ex::doInvalidate, observable, transform));
+        return new Transform(observable, ex -> new BoolToByteBinding(() -> ex.scheduleInvalidation(observable), observable, transform));
     }
 
     /**
@@ -74,7 +74,7 @@ public abstract class SimpleByteExpression extends AbstractByteExpression {
      * @since   0.1.0
      */
     public static SimpleByteExpression of(ObservableByteValue observable, ByteToByteFunction transform) {
-        return new Transform(ex -> new ByteToByteBinding(ex::doInvalidate, observable, transform));
+        return new Transform(observable, ex -> new ByteToByteBinding(() -> ex.scheduleInvalidation(observable), observable, transform));
     }
 
     /**
@@ -88,7 +88,7 @@ public abstract class SimpleByteExpression extends AbstractByteExpression {
      * @since   0.1.0
      */
     public static SimpleByteExpression of(ObservableShortValue observable, ShortToByteFunction transform) {
-        return new Transform(ex -> new ShortToByteBinding(ex::doInvalidate, observable, transform));
+        return new Transform(observable, ex -> new ShortToByteBinding(() -> ex.scheduleInvalidation(observable), observable, transform));
     }
 
     /**
@@ -102,7 +102,7 @@ public abstract class SimpleByteExpression extends AbstractByteExpression {
      * @since   0.1.0
      */
     public static SimpleByteExpression of(ObservableIntValue observable, IntToByteFunction transform) {
-        return new Transform(ex -> new IntToByteBinding(ex::doInvalidate, observable, transform));
+        return new Transform(observable, ex -> new IntToByteBinding(() -> ex.scheduleInvalidation(observable), observable, transform));
     }
 
     /**
@@ -116,7 +116,7 @@ public abstract class SimpleByteExpression extends AbstractByteExpression {
      * @since   0.1.0
      */
     public static SimpleByteExpression of(ObservableLongValue observable, LongToByteFunction transform) {
-        return new Transform(ex -> new LongToByteBinding(ex::doInvalidate, observable, transform));
+        return new Transform(observable, ex -> new LongToByteBinding(() -> ex.scheduleInvalidation(observable), observable, transform));
     }
 
     /**
@@ -130,7 +130,7 @@ public abstract class SimpleByteExpression extends AbstractByteExpression {
      * @since   0.1.0
      */
     public static SimpleByteExpression of(ObservableFloatValue observable, FloatToByteFunction transform) {
-        return new Transform(ex -> new FloatToByteBinding(ex::doInvalidate, observable, transform));
+        return new Transform(observable, ex -> new FloatToByteBinding(() -> ex.scheduleInvalidation(observable), observable, transform));
     }
 
     /**
@@ -144,7 +144,7 @@ public abstract class SimpleByteExpression extends AbstractByteExpression {
      * @since   0.1.0
      */
     public static SimpleByteExpression of(ObservableDoubleValue observable, DoubleToByteFunction transform) {
-        return new Transform(ex -> new DoubleToByteBinding(ex::doInvalidate, observable, transform));
+        return new Transform(observable, ex -> new DoubleToByteBinding(() -> ex.scheduleInvalidation(observable), observable, transform));
     }
 
     /**
@@ -159,7 +159,576 @@ public abstract class SimpleByteExpression extends AbstractByteExpression {
      * @since   0.1.0
      */
     public static <S> SimpleByteExpression of(ObservableObjectValue<S> observable, ObjectToByteFunction<S> transform) {
-        return new Transform(ex -> new ObjectToByteBinding<>(ex::doInvalidate, observable, transform));
+        return new Transform(observable, ex -> new ObjectToByteBinding<>(() -> ex.scheduleInvalidation(observable), observable, transform));
+    }
+
+    /**
+     * Returns a new simple expression which combines the values of the given observables using the given function.
+     *
+     * <p>The expression depends directly on each of the given observables. Unlike dependencies that are added using
+     * {@link #addDependency(Observable)}, these dependencies are tracked without any additional bookkeeping.</p>
+     *
+     * @param a             the first observable
+     * @param b             the second observable
+     * @param transform     the function that combines the values
+     *
+     * @return  a new simple expression which combines the values of the given observables
+     *
+     * @since   0.9.0
+     */
+    public static SimpleByteExpression combine(ObservableBoolValue a, ObservableBoolValue b, BoolBoolToByteFunction transform) {
+        return new Transform(new Observable[] { a, b }, ex -> new BoolBoolToByteBinding(ex::scheduleInvalidation, a, b, transform));
+    }
+
+    /**
+     * Returns a new simple expression which combines the values of the given observables using the given function.
+     *
+     * <p>The expression depends directly on each of the given observables. Unlike dependencies that are added using
+     * {@link #addDependency(Observable)}, these dependencies are tracked without any additional bookkeeping.</p>
+     *
+     * @param a             the first observable
+     * @param b             the second observable
+     * @param c             the third observable
+     * @param transform     the function that combines the values
+     *
+     * @return  a new simple expression which combines the values of the given observables
+     *
+     * @since   0.9.0
+     */
+    public static SimpleByteExpression combine(ObservableBoolValue a, ObservableBoolValue b, ObservableBoolValue c, BoolBoolBoolToByteFunction transform) {
+        return new Transform(new Observable[] { a, b, c }, ex -> new BoolBoolBoolToByteBinding(ex::scheduleInvalidation, a, b, c, transform));
+    }
+
+    /**
+     * Returns a new simple expression which combines the values of the given observables using the given function.
+     *
+     * <p>The expression depends directly on each of the given observables. Unlike dependencies that are added using
+     * {@link #addDependency(Observable)}, these dependencies are tracked without any additional bookkeeping.</p>
+     *
+     * @param a             the first observable
+     * @param b             the second observable
+     * @param c             the third observable
+     * @param d             the fourth observable
+     * @param transform     the function that combines the values
+     *
+     * @return  a new simple expression which combines the values of the given observables
+     *
+     * @since   0.9.0
+     */
+    public static SimpleByteExpression combine(ObservableBoolValue a, ObservableBoolValue b, ObservableBoolValue c, ObservableBoolValue d, BoolBoolBoolBoolToByteFunction transform) {
+        return new Transform(new Observable[] { a, b, c, d }, ex -> new BoolBoolBoolBoolToByteBinding(ex::scheduleInvalidation, a, b, c, d, transform));
+    }
+
+    /**
+     * Returns a new simple expression which combines the values of the given observables using the given function.
+     *
+     * <p>The expression depends directly on each of the given observables. Unlike dependencies that are added using
+     * {@link #addDependency(Observable)}, these dependencies are tracked without any additional bookkeeping.</p>
+     *
+     * @param a             the first observable
+     * @param b             the second observable
+     * @param transform     the function that combines the values
+     *
+     * @return  a new simple expression which combines the values of the given observables
+     *
+     * @since   0.9.0
+     */
+    public static SimpleByteExpression combine(ObservableByteValue a, ObservableByteValue b, ByteByteToByteFunction transform) {
+        return new Transform(new Observable[] { a, b }, ex -> new ByteByteToByteBinding(ex::scheduleInvalidation, a, b, transform));
+    }
+
+    /**
+     * Returns a new simple expression which combines the values of the given observables using the given function.
+     *
+     * <p>The expression depends directly on each of the given observables. Unlike dependencies that are added using
+     * {@link #addDependency(Observable)}, these dependencies are tracked without any additional bookkeeping.</p>
+     *
+     * @param a             the first observable
+     * @param b             the second observable
+     * @param c             the third observable
+     * @param transform     the function that combines the values
+     *
+     * @return  a new simple expression which combines the values of the given observables
+     *
+     * @since   0.9.0
+     */
+    public static SimpleByteExpression combine(ObservableByteValue a, ObservableByteValue b, ObservableByteValue c, ByteByteByteToByteFunction transform) {
+        return new Transform(new Observable[] { a, b, c }, ex -> new ByteByteByteToByteBinding(ex::scheduleInvalidation, a, b, c, transform));
+    }
+
+    /**
+     * Returns a new simple expression which combines the values of the given observables using the given function.
+     *
+     * <p>The expression depends directly on each of the given observables. Unlike dependencies that are added using
+     * {@link #addDependency(Observable)}, these dependencies are tracked without any additional bookkeeping.</p>
+     *
+     * @param a             the first observable
+     * @param b             the second observable
+     * @param c             the third observable
+     * @param d             the fourth observable
+     * @param transform     the function that combines the values
+     *
+     * @return  a new simple expression which combines the values of the given observables
+     *
+     * @since   0.9.0
+     */
+    public static SimpleByteExpression combine(ObservableByteValue a, ObservableByteValue b, ObservableByteValue c, ObservableByteValue d, ByteByteByteByteToByteFunction transform) {
+        return new Transform(new Observable[] { a, b, c, d }, ex -> new ByteByteByteByteToByteBinding(ex::scheduleInvalidation, a, b, c, d, transform));
+    }
+
+    /**
+     * Returns a new simple expression which combines the values of the given observables using the given function.
+     *
+     * <p>The expression depends directly on each of the given observables. Unlike dependencies that are added using
+     * {@link #addDependency(Observable)}, these dependencies are tracked without any additional bookkeeping.</p>
+     *
+     * @param a             the first observable
+     * @param b             the second observable
+     * @param transform     the function that combines the values
+     *
+     * @return  a new simple expression which combines the values of the given observables
+     *
+     * @since   0.9.0
+     */
+    public static SimpleByteExpression combine(ObservableShortValue a, ObservableShortValue b, ShortShortToByteFunction transform) {
+        return new Transform(new Observable[] { a, b }, ex -> new ShortShortToByteBinding(ex::scheduleInvalidation, a, b, transform));
+    }
+
+    /**
+     * Returns a new simple expression which combines the values of the given observables using the given function.
+     *
+     * <p>The expression depends directly on each of the given observables. Unlike dependencies that are added using
+     * {@link #addDependency(Observable)}, these dependencies are tracked without any additional bookkeeping.</p>
+     *
+     * @param a             the first observable
+     * @param b             the second observable
+     * @param c             the third observable
+     * @param transform     the function that combines the values
+     *
+     * @return  a new simple expression which combines the values of the given observables
+     *
+     * @since   0.9.0
+     */
+    public static SimpleByteExpression combine(ObservableShortValue a, ObservableShortValue b, ObservableShortValue c, ShortShortShortToByteFunction transform) {
+        return new Transform(new Observable[] { a, b, c }, ex -> new ShortShortShortToByteBinding(ex::scheduleInvalidation, a, b, c, transform));
+    }
+
+    /**
+     * Returns a new simple expression which combines the values of the given observables using the given function.
+     *
+     * <p>The expression depends directly on each of the given observables. Unlike dependencies that are added using
+     * {@link #addDependency(Observable)}, these dependencies are tracked without any additional bookkeeping.</p>
+     *
+     * @param a             the first observable
+     * @param b             the second observable
+     * @param c             the third observable
+     * @param d             the fourth observable
+     * @param transform     the function that combines the values
+     *
+     * @return  a new simple expression which combines the values of the given observables
+     *
+     * @since   0.9.0
+     */
+    public static SimpleByteExpression combine(ObservableShortValue a, ObservableShortValue b, ObservableShortValue c, ObservableShortValue d, ShortShortShortShortToByteFunction transform) {
+        return new Transform(new Observable[] { a, b, c, d }, ex -> new ShortShortShortShortToByteBinding(ex::scheduleInvalidation, a, b, c, d, transform));
+    }
+
+    /**
+     * Returns a new simple expression which combines the values of the given observables using the given function.
+     *
+     * <p>The expression depends directly on each of the given observables. Unlike dependencies that are added using
+     * {@link #addDependency(Observable)}, these dependencies are tracked without any additional bookkeeping.</p>
+     *
+     * @param a             the first observable
+     * @param b             the second observable
+     * @param transform     the function that combines the values
+     *
+     * @return  a new simple expression which combines the values of the given observables
+     *
+     * @since   0.9.0
+     */
+    public static SimpleByteExpression combine(ObservableIntValue a, ObservableIntValue b, IntIntToByteFunction transform) {
+        return new Transform(new Observable[] { a, b }, ex -> new IntIntToByteBinding(ex::scheduleInvalidation, a, b, transform));
+    }
+
+    /**
+     * Returns a new simple expression which combines the values of the given observables using the given function.
+     *
+     * <p>The expression depends directly on each of the given observables. Unlike dependencies that are added using
+     * {@link #addDependency(Observable)}, these dependencies are tracked without any additional bookkeeping.</p>
+     *
+     * @param a             the first observable
+     * @param b             the second observable
+     * @param c             the third observable
+     * @param transform     the function that combines the values
+     *
+     * @return  a new simple expression which combines the values of the given observables
+     *
+     * @since   0.9.0
+     */
+    public static SimpleByteExpression combine(ObservableIntValue a, ObservableIntValue b, ObservableIntValue c, IntIntIntToByteFunction transform) {
+        return new Transform(new Observable[] { a, b, c }, ex -> new IntIntIntToByteBinding(ex::scheduleInvalidation, a, b, c, transform));
+    }
+
+    /**
+     * Returns a new simple expression which combines the values of the given observables using the given function.
+     *
+     * <p>The expression depends directly on each of the given observables. Unlike dependencies that are added using
+     * {@link #addDependency(Observable)}, these dependencies are tracked without any additional bookkeeping.</p>
+     *
+     * @param a             the first observable
+     * @param b             the second observable
+     * @param c             the third observable
+     * @param d             the fourth observable
+     * @param transform     the function that combines the values
+     *
+     * @return  a new simple expression which combines the values of the given observables
+     *
+     * @since   0.9.0
+     */
+    public static SimpleByteExpression combine(ObservableIntValue a, ObservableIntValue b, ObservableIntValue c, ObservableIntValue d, IntIntIntIntToByteFunction transform) {
+        return new Transform(new Observable[] { a, b, c, d }, ex -> new IntIntIntIntToByteBinding(ex::scheduleInvalidation, a, b, c, d, transform));
+    }
+
+    /**
+     * Returns a new simple expression which combines the values of the given observables using the given function.
+     *
+     * <p>The expression depends directly on each of the given observables. Unlike dependencies that are added using
+     * {@link #addDependency(Observable)}, these dependencies are tracked without any additional bookkeeping.</p>
+     *
+     * @param a             the first observable
+     * @param b             the second observable
+     * @param transform     the function that combines the values
+     *
+     * @return  a new simple expression which combines the values of the given observables
+     *
+     * @since   0.9.0
+     */
+    public static SimpleByteExpression combine(ObservableLongValue a, ObservableLongValue b, LongLongToByteFunction transform) {
+        return new Transform(new Observable[] { a, b }, ex -> new LongLongToByteBinding(ex::scheduleInvalidation, a, b, transform));
+    }
+
+    /**
+     * Returns a new simple expression which combines the values of the given observables using the given function.
+     *
+     * <p>The expression depends directly on each of the given observables. Unlike dependencies that are added using
+     * {@link #addDependency(Observable)}, these dependencies are tracked without any additional bookkeeping.</p>
+     *
+     * @param a             the first observable
+     * @param b             the second observable
+     * @param c             the third observable
+     * @param transform     the function that combines the values
+     *
+     * @return  a new simple expression which combines the values of the given observables
+     *
+     * @since   0.9.0
+     */
+    public static SimpleByteExpression combine(ObservableLongValue a, ObservableLongValue b, ObservableLongValue c, LongLongLongToByteFunction transform) {
+        return new Transform(new Observable[] { a, b, c }, ex -> new LongLongLongToByteBinding(ex::scheduleInvalidation, a, b, c, transform));
+    }
+
+    /**
+     * Returns a new simple expression which combines the values of the given observables using the given function.
+     *
+     * <p>The expression depends directly on each of the given observables. Unlike dependencies that are added using
+     * {@link #addDependency(Observable)}, these dependencies are tracked without any additional bookkeeping.</p>
+     *
+     * @param a             the first observable
+     * @param b             the second observable
+     * @param c             the third observable
+     * @param d             the fourth observable
+     * @param transform     the function that combines the values
+     *
+     * @return  a new simple expression which combines the values of the given observables
+     *
+     * @since   0.9.0
+     */
+    public static SimpleByteExpression combine(ObservableLongValue a, ObservableLongValue b, ObservableLongValue c, ObservableLongValue d, LongLongLongLongToByteFunction transform) {
+        return new Transform(new Observable[] { a, b, c, d }, ex -> new LongLongLongLongToByteBinding(ex::scheduleInvalidation, a, b, c, d, transform));
+    }
+
+    /**
+     * Returns a new simple expression which combines the values of the given observables using the given function.
+     *
+     * <p>The expression depends directly on each of the given observables. Unlike dependencies that are added using
+     * {@link #addDependency(Observable)}, these dependencies are tracked without any additional bookkeeping.</p>
+     *
+     * @param a             the first observable
+     * @param b             the second observable
+     * @param transform     the function that combines the values
+     *
+     * @return  a new simple expression which combines the values of the given observables
+     *
+     * @since   0.9.0
+     */
+    public static SimpleByteExpression combine(ObservableFloatValue a, ObservableFloatValue b, FloatFloatToByteFunction transform) {
+        return new Transform(new Observable[] { a, b }, ex -> new FloatFloatToByteBinding(ex::scheduleInvalidation, a, b, transform));
+    }
+
+    /**
+     * Returns a new simple expression which combines the values of the given observables using the given function.
+     *
+     * <p>The expression depends directly on each of the given observables. Unlike dependencies that are added using
+     * {@link #addDependency(Observable)}, these dependencies are tracked without any additional bookkeeping.</p>
+     *
+     * @param a             the first observable
+     * @param b             the second observable
+     * @param c             the third observable
+     * @param transform     the function that combines the values
+     *
+     * @return  a new simple expression which combines the values of the given observables
+     *
+     * @since   0.9.0
+     */
+    public static SimpleByteExpression combine(ObservableFloatValue a, ObservableFloatValue b, ObservableFloatValue c, FloatFloatFloatToByteFunction transform) {
+        return new Transform(new Observable[] { a, b, c }, ex -> new FloatFloatFloatToByteBinding(ex::scheduleInvalidation, a, b, c, transform));
+    }
+
+    /**
+     * Returns a new simple expression which combines the values of the given observables using the given function.
+     *
+     * <p>The expression depends directly on each of the given observables. Unlike dependencies that are added using
+     * {@link #addDependency(Observable)}, these dependencies are tracked without any additional bookkeeping.</p>
+     *
+     * @param a             the first observable
+     * @param b             the second observable
+     * @param c             the third observable
+     * @param d             the fourth observable
+     * @param transform     the function that combines the values
+     *
+     * @return  a new simple expression which combines the values of the given observables
+     *
+     * @since   0.9.0
+     */
+    public static SimpleByteExpression combine(ObservableFloatValue a, ObservableFloatValue b, ObservableFloatValue c, ObservableFloatValue d, FloatFloatFloatFloatToByteFunction transform) {
+        return new Transform(new Observable[] { a, b, c, d }, ex -> new FloatFloatFloatFloatToByteBinding(ex::scheduleInvalidation, a, b, c, d, transform));
+    }
+
+    /**
+     * Returns a new simple expression which combines the values of the given observables using the given function.
+     *
+     * <p>The expression depends directly on each of the given observables. Unlike dependencies that are added using
+     * {@link #addDependency(Observable)}, these dependencies are tracked without any additional bookkeeping.</p>
+     *
+     * @param a             the first observable
+     * @param b             the second observable
+     * @param transform     the function that combines the values
+     *
+     * @return  a new simple expression which combines the values of the given observables
+     *
+     * @since   0.9.0
+     */
+    public static SimpleByteExpression combine(ObservableDoubleValue a, ObservableDoubleValue b, DoubleDoubleToByteFunction transform) {
+        return new Transform(new Observable[] { a, b }, ex -> new DoubleDoubleToByteBinding(ex::scheduleInvalidation, a, b, transform));
+    }
+
+    /**
+     * Returns a new simple expression which combines the values of the given observables using the given function.
+     *
+     * <p>The expression depends directly on each of the given observables. Unlike dependencies that are added using
+     * {@link #addDependency(Observable)}, these dependencies are tracked without any additional bookkeeping.</p>
+     *
+     * @param a             the first observable
+     * @param b             the second observable
+     * @param c             the third observable
+     * @param transform     the function that combines the values
+     *
+     * @return  a new simple expression which combines the values of the given observables
+     *
+     * @since   0.9.0
+     */
+    public static SimpleByteExpression combine(ObservableDoubleValue a, ObservableDoubleValue b, ObservableDoubleValue c, DoubleDoubleDoubleToByteFunction transform) {
+        return new Transform(new Observable[] { a, b, c }, ex -> new DoubleDoubleDoubleToByteBinding(ex::scheduleInvalidation, a, b, c, transform));
+    }
+
+    /**
+     * Returns a new simple expression which combines the values of the given observables using the given function.
+     *
+     * <p>The expression depends directly on each of the given observables. Unlike dependencies that are added using
+     * {@link #addDependency(Observable)}, these dependencies are tracked without any additional bookkeeping.</p>
+     *
+     * @param a             the first observable
+     * @param b             the second observable
+     * @param c             the third observable
+     * @param d             the fourth observable
+     * @param transform     the function that combines the values
+     *
+     * @return  a new simple expression which combines the values of the given observables
+     *
+     * @since   0.9.0
+     */
+    public static SimpleByteExpression combine(ObservableDoubleValue a, ObservableDoubleValue b, ObservableDoubleValue c, ObservableDoubleValue d, DoubleDoubleDoubleDoubleToByteFunction transform) {
+        return new Transform(new Observable[] { a, b, c, d }, ex -> new DoubleDoubleDoubleDoubleToByteBinding(ex::scheduleInvalidation, a, b, c, d, transform));
+    }
+
+    /**
+     * Returns a new simple expression which combines the values of the given observables using the given function.
+     *
+     * <p>The expression depends directly on each of the given observables. Unlike dependencies that are added using
+     * {@link #addDependency(Observable)}, these dependencies are tracked without any additional bookkeeping.</p>
+     *
+     * @param <A>           the type of the first value
+     * @param <B>           the type of the second value
+     * @param a             the first observable
+     * @param b             the second observable
+     * @param transform     the function that combines the values
+     *
+     * @return  a new simple expression which combines the values of the given observables
+     *
+     * @since   0.9.0
+     */
+    public static <A, B> SimpleByteExpression combine(ObservableObjectValue<A> a, ObservableObjectValue<B> b, ObjectObjectToByteFunction<A, B> transform) {
+        return new Transform(new Observable[] { a, b }, ex -> new ObjectObjectToByteBinding<>(ex::scheduleInvalidation, a, b, transform));
+    }
+
+    /**
+     * Returns a new simple expression which combines the values of the given observables using the given function.
+     *
+     * <p>The expression depends directly on each of the given observables. Unlike dependencies that are added using
+     * {@link #addDependency(Observable)}, these dependencies are tracked without any additional bookkeeping.</p>
+     *
+     * @param <A>           the type of the first value
+     * @param <B>           the type of the second value
+     * @param <C>           the type of the third value
+     * @param a             the first observable
+     * @param b             the second observable
+     * @param c             the third observable
+     * @param transform     the function that combines the values
+     *
+     * @return  a new simple expression which combines the values of the given observables
+     *
+     * @since   0.9.0
+     */
+    public static <A, B, C> SimpleByteExpression combine(ObservableObjectValue<A> a, ObservableObjectValue<B> b, ObservableObjectValue<C> c, ObjectObjectObjectToByteFunction<A, B, C> transform) {
+        return new Transform(new Observable[] { a, b, c }, ex -> new ObjectObjectObjectToByteBinding<>(ex::scheduleInvalidation, a, b, c, transform));
+    }
+
+    /**
+     * Returns a new simple expression which combines the values of the given observables using the given function.
+     *
+     * <p>The expression depends directly on each of the given observables. Unlike dependencies that are added using
+     * {@link #addDependency(Observable)}, these dependencies are tracked without any additional bookkeeping.</p>
+     *
+     * @param <A>           the type of the first value
+     * @param <B>           the type of the second value
+     * @param <C>           the type of the third value
+     * @param <D>           the type of the fourth value
+     * @param a             the first observable
+     * @param b             the second observable
+     * @param c             the third observable
+     * @param d             the fourth observable
+     * @param transform     the function that combines the values
+     *
+     * @return  a new simple expression which combines the values of the given observables
+     *
+     * @since   0.9.0
+     */
+    public static <A, B, C, D> SimpleByteExpression combine(ObservableObjectValue<A> a, ObservableObjectValue<B> b, ObservableObjectValue<C> c, ObservableObjectValue<D> d, ObjectObjectObjectObjectToByteFunction<A, B, C, D> transform) {
+        return new Transform(new Observable[] { a, b, c, d }, ex -> new ObjectObjectObjectObjectToByteBinding<>(ex::scheduleInvalidation, a, b, c, d, transform));
+    }
+
+    /**
+     * Returns a new simple expression which follows a path of nested observables starting at the given root.
+     *
+     * <p>Each selector is applied to the value of the previous observable in the path to obtain the next observable.
+     * The expression evaluates to the value of the last observable in the path, or to
+     * {@code 0} if any value along the path is {@code null}.</p>
+     *
+     * <p>Every observable in the path and its value are cached. When an observable in the path is invalidated, only
+     * the part of the path below it is walked again, and selectors are only applied to values that have changed. The
+     * observables in the path only reference the expression weakly.</p>
+     *
+     * @param <A>       the type of the value of the root observable
+     * @param root      the root observable
+     * @param first     the selector for the observable that provides the value
+     *
+     * @return  a new simple expression which follows a path of nested observables starting at the given root
+     *
+     * @since   0.9.0
+     */
+    public static <A> SimpleByteExpression select(ObservableObjectValue<A> root, Function<? super A, ? extends ObservableByteValue> first) {
+        return new Transform(root, ex -> new ByteBinding.Selection(ex::scheduleInvalidation, root, false, first));
+    }
+
+    /**
+     * Returns a new simple expression which follows a path of nested observables starting at the given root.
+     *
+     * <p>Each selector is applied to the value of the previous observable in the path to obtain the next observable.
+     * The expression evaluates to the value of the last observable in the path, or to
+     * {@code 0} if any value along the path is {@code null}.</p>
+     *
+     * <p>Every observable in the path and its value are cached. When an observable in the path is invalidated, only
+     * the part of the path below it is walked again, and selectors are only applied to values that have changed. The
+     * observables in the path only reference the expression weakly.</p>
+     *
+     * @param <A>       the type of the value of the root observable
+     * @param <B>       the type of the value of the first selected observable
+     * @param root      the root observable
+     * @param first     the first selector
+     * @param second    the selector for the observable that provides the value
+     *
+     * @return  a new simple expression which follows a path of nested observables starting at the given root
+     *
+     * @since   0.9.0
+     */
+    public static <A, B> SimpleByteExpression select(ObservableObjectValue<A> root, Function<? super A, ? extends ObservableObjectValue<B>> first, Function<? super B, ? extends ObservableByteValue> second) {
+        return new Transform(root, ex -> new ByteBinding.Selection(ex::scheduleInvalidation, root, false, first, second));
+    }
+
+    /**
+     * Returns a new simple expression which follows a path of nested observables starting at the given root.
+     *
+     * <p>Each selector is applied to the value of the previous observable in the path to obtain the next observable.
+     * The expression evaluates to the value of the last observable in the path, or to
+     * {@code 0} if any value along the path is {@code null}.</p>
+     *
+     * <p>Every observable in the path and its value are cached. When an observable in the path is invalidated, only
+     * the part of the path below it is walked again, and selectors are only applied to values that have changed. The
+     * observables in the path only reference the expression weakly.</p>
+     *
+     * @param <A>       the type of the value of the root observable
+     * @param <B>       the type of the value of the first selected observable
+     * @param <C>       the type of the value of the second selected observable
+     * @param root      the root observable
+     * @param first     the first selector
+     * @param second    the second selector
+     * @param third     the selector for the observable that provides the value
+     *
+     * @return  a new simple expression which follows a path of nested observables starting at the given root
+     *
+     * @since   0.9.0
+     */
+    public static <A, B, C> SimpleByteExpression select(ObservableObjectValue<A> root, Function<? super A, ? extends ObservableObjectValue<B>> first, Function<? super B, ? extends ObservableObjectValue<C>> second, Function<? super C, ? extends ObservableByteValue> third) {
+        return new Transform(root, ex -> new ByteBinding.Selection(ex::scheduleInvalidation, root, false, first, second, third));
+    }
+
+    /**
+     * Returns a new simple expression which follows a path of nested observables starting at the given root.
+     *
+     * <p>Each selector is applied to the value of the previous observable in the path to obtain the next observable.
+     * The expression evaluates to the value of the last observable in the path, or to
+     * {@code 0} if any value along the path is {@code null}.</p>
+     *
+     * <p>Every observable in the path and its value are cached. When an observable in the path is invalidated, only
+     * the part of the path below it is walked again, and selectors are only applied to values that have changed. The
+     * observables in the path only reference the expression weakly.</p>
+     *
+     * @param <A>       the type of the value of the root observable
+     * @param <B>       the type of the value of the first selected observable
+     * @param <C>       the type of the value of the second selected observable
+     * @param <D>       the type of the value of the third selected observable
+     * @param root      the root observable
+     * @param first     the first selector
+     * @param second    the second selector
+     * @param third     the third selector
+     * @param fourth    the selector for the observable that provides the value
+     *
+     * @return  a new simple expression which follows a path of nested observables starting at the given root
+     *
+     * @since   0.9.0
+     */
+    public static <A, B, C, D> SimpleByteExpression select(ObservableObjectValue<A> root, Function<? super A, ? extends ObservableObjectValue<B>> first, Function<? super B, ? extends ObservableObjectValue<C>> second, Function<? super C, ? extends ObservableObjectValue<D>> third, Function<? super D, ? extends ObservableByteValue> fourth) {
+        return new Transform(root, ex -> new ByteBinding.Selection(ex::scheduleInvalidation, root, false, first, second, third, fourth));
     }
 
     /**
@@ -176,33 +745,7 @@ public abstract class SimpleByteExpression extends AbstractByteExpression {
      * @since   0.1.0
      */
     public static <S> SimpleByteExpression ofNested(ObservableObjectValue<S> observable, Function<S, ObservableByteValue> selector) {
-        return new SimpleByteExpression() {
-
-            final InvalidationListener nestedPropertyListener = ignored -> this.doInvalidate();
-
-            {
-                observable.addInvalidationListener(ignored -> this.doInvalidate());
-
-                ObjectChangeListener<S> parentChangeListener = (ignored, oldValue, newValue) -> {
-                    if (oldValue != null) {
-                        var nestedProperty = selector.apply(oldValue);
-                        nestedProperty.removeInvalidationListener(this.nestedPropertyListener);
-                    }
-
-                    var nestedProperty = selector.apply(Objects.requireNonNull(newValue));
-                    nestedProperty.addInvalidationListener(this.nestedPropertyListener);
-                };
-                observable.addChangeListener(parentChangeListener);
-                parentChangeListener.onChanged(observable, null, observable.get());
-            }
-
-            @Override
-            protected byte recomputeValue() {
-                var parent = observable.get();
-                return selector.apply(Objects.requireNonNull(parent)).get();
-            }
-
-        };
+        return new Transform(observable, ex -> new ByteBinding.Selection(ex::scheduleInvalidation, observable, true, selector));
     }
 
     private byte value;
@@ -232,7 +775,14 @@ public abstract class SimpleByteExpression extends AbstractByteExpression {
 
         private final transient ByteBinding binding;
 
-        private Transform(Function<SimpleByteExpression, ByteBinding> factory) {
+        private Transform(Observable source, Function<SimpleByteExpression, ByteBinding> factory) {
+            this.rankAfter(source);
+            this.binding = factory.apply(this);
+            this.invalidate();
+        }
+
+        private Transform(Observable[] sources, Function<SimpleByteExpression, ByteBinding> factory) {
+            for (Observable source : sources) this.rankAfter(source);
             this.binding = factory.apply(this);
             this.invalidate();
         }
@@ -35,6 +35,7 @@ import java.util.Objects;
 import java.util.function.Function;
 
 import com.osmerion.quitte.*;
+import com.osmerion.quitte.collections.*;
 import com.osmerion.quitte.functional.*;
 import com.osmerion.quitte.internal.binding.*;
 import com.osmerion.quitte.value.*;
@@ -60,7 +61,7 @@ public abstract class SimpleDoubleExpression extends AbstractDoubleExpression {
      * @since   0.1.0
      */
     public static SimpleDoubleExpression of(ObservableBoolValue observable, BoolToDoubleFunction transform) {
-        return new Transform(ex -> new BoolToDoubleBinding(ex::doInvalidate, observable, transform));
+        return new Transform(observable, ex -> new BoolToDoubleBinding(() -> ex.scheduleInvalidation(observable), observable, transform));
     }
 
     /**
@@ -74,7 +75,7 @@ public abstract class SimpleDoubleExpression extends AbstractDoubleExpression {
      * @since   0.1.0
      */
     public static SimpleDoubleExpression of(ObservableByteValue observable, ByteToDoubleFunction transform) {
-        return new Transform(ex -> new ByteToDoubleBinding(ex::doInvalidate, observable, transform));
+        return new Transform(observable, ex -> new ByteToDoubleBinding(() -> ex.scheduleInvalidation(observable), observable, transform));
     }
 
     /**
@@ -88,7 +89,7 @@ public abstract class SimpleDoubleExpression extends AbstractDoubleExpression {
      * @since   0.1.0
      */
     public static SimpleDoubleExpression of(ObservableShortValue observable, ShortToDoubleFunction transform) {
-        return new Transform(ex -> new ShortToDoubleBinding(ex::doInvalidate, observable, transform));
+        return new Transform(observable, ex -> new ShortToDoubleBinding(() -> ex.scheduleInvalidation(observable), observable, transform));
     }
 
     /**
@@ -102,7 +103,7 @@ public abstract class SimpleDoubleExpression extends AbstractDoubleExpression {
      * @since   0.1.0
      */
     public static SimpleDoubleExpression of(ObservableIntValue observable, IntToDoubleFunction transform) {
-        return new Transform(ex -> new IntToDoubleBinding(ex::doInvalidate, observable, transform));
+        return new Transform(observable, ex -> new IntToDoubleBinding(() -> ex.scheduleInvalidation(observable), observable, transform));
     }
 
     /**
@@ -116,7 +117,7 @@ public abstract class SimpleDoubleExpression extends AbstractDoubleExpression {
      * @since   0.1.0
      */
     public static SimpleDoubleExpression of(ObservableLongValue observable, LongToDoubleFunction transform) {
-        return new Transform(ex -> new LongToDoubleBinding(ex::doInvalidate, observable, transform));
+        return new Transform(observable, ex -> new LongToDoubleBinding(() -> ex.scheduleInvalidation(observable), observable, transform));
     }
 
     /**
@@ -130,7 +131,7 @@ public abstract class SimpleDoubleExpression extends AbstractDoubleExpression {
      * @since   0.1.0
      */
     public static SimpleDoubleExpression of(ObservableFloatValue observable, FloatToDoubleFunction transform) {
-        return new Transform(ex -> new FloatToDoubleBinding(ex::doInvalidate, observable, transform));
+        return new Transform(observable, ex -> new FloatToDoubleBinding(() -> ex.scheduleInvalidation(observable), observable, transform));
     }
 
     /**
@@ -144,7 +145,7 @@ public abstract class SimpleDoubleExpression extends AbstractDoubleExpression {
      * @since   0.1.0
      */
     public static SimpleDoubleExpression of(ObservableDoubleValue observable, DoubleToDoubleFunction transform) {
-        return new Transform(ex -> new DoubleToDoubleBinding(ex::doInvalidate, observable, transform));
+        return new Transform(observable, ex -> new DoubleToDoubleBinding(() -> ex.scheduleInvalidation(observable), observable, transform));
     }
 
     /**
@@ -159,7 +160,748 @@ public abstract class SimpleDoubleExpression extends AbstractDoubleExpression {
      * @since   0.1.0
      */
     public static <S> SimpleDoubleExpression of(ObservableObjectValue<S> observable, ObjectToDoubleFunction<S> transform) {
-        return new Transform(ex -> new ObjectToDoubleBinding<>(ex::doInvalidate, observable, transform));
+        return new Transform(observable, ex -> new ObjectToDoubleBinding<>(() -> ex.scheduleInvalidation(observable), observable, transform));
+    }
+
+    /**
+     * Returns a new simple expression which combines the values of the given observables using the given function.
+     *
+     * <p>The expression depends directly on each of the given observables. Unlike dependencies that are added using
+     * {@link #addDependency(Observable)}, these dependencies are tracked without any additional bookkeeping.</p>
+     *
+     * @param a             the first observable
+     * @param b             the second observable
+     * @param transform     the function that combines the values
+     *
+     * @return  a new simple expression which combines the values of the given observables
+     *
+     * @since   0.9.0
+     */
+    public static SimpleDoubleExpression combine(ObservableBoolValue a, ObservableBoolValue b, BoolBoolToDoubleFunction transform) {
+        return new Transform(new Observable[] { a, b }, ex -> new BoolBoolToDoubleBinding(ex::scheduleInvalidation, a, b, transform));
+    }
+
+    /**
+     * Returns a new simple expression which combines the values of the given observables using the given function.
+     *
+     * <p>The expression depends directly on each of the given observables. Unlike dependencies that are added using
+     * {@link #addDependency(Observable)}, these dependencies are tracked without any additional bookkeeping.</p>
+     *
+     * @param a             the first observable
+     * @param b             the second observable
+     * @param c             the third observable
+     * @param transform     the function that combines the values
+     *
+     * @return  a new simple expression which combines the values of the given observables
+     *
+     * @since   0.9.0
+     */
+    public static SimpleDoubleExpression combine(ObservableBoolValue a, ObservableBoolValue b, ObservableBoolValue c, BoolBoolBoolToDoubleFunction transform) {
+        return new Transform(new Observable[] { a, b, c }, ex -> new BoolBoolBoolToDoubleBinding(ex::scheduleInvalidation, a, b, c, transform));
+    }
+
+    /**
+     * Returns a new simple expression which combines the values of the given observables using the given function.
+     *
+     * <p>The expression depends directly on each of the given observables. Unlike dependencies that are added using
+     * {@link #addDependency(Observable)}, these dependencies are tracked without any additional bookkeeping.</p>
+     *
+     * @param a             the first observable
+     * @param b             the second observable
+     * @param c             the third observable
+     * @param d             the fourth observable
+     * @param transform     the function that combines the values
+     *
+     * @return  a new simple expression which combines the values of the given observables
+     *
+     * @since   0.9.0
+     */
+    public static SimpleDoubleExpression combine(ObservableBoolValue a, ObservableBoolValue b, ObservableBoolValue c, ObservableBoolValue d, BoolBoolBoolBoolToDoubleFunction transform) {
+        return new Transform(new Observable[] { a, b, c, d }, ex -> new BoolBoolBoolBoolToDoubleBinding(ex::scheduleInvalidation, a, b, c, d, transform));
+    }
+
+    /**
+     * Returns a new simple expression which combines the values of the given observables using the given function.
+     *
+     * <p>The expression depends directly on each of the given observables. Unlike dependencies that are added using
+     * {@link #addDependency(Observable)}, these dependencies are tracked without any additional bookkeeping.</p>
+     *
+     * @param a             the first observable
+     * @param b             the second observable
+     * @param transform     the function that combines the values
+     *
+     * @return  a new simple expression which combines the values of the given observables
+     *
+     * @since   0.9.0
+     */
+    public static SimpleDoubleExpression combine(ObservableByteValue a, ObservableByteValue b, ByteByteToDoubleFunction transform) {
+        return new Transform(new Observable[] { a, b }, ex -> new ByteByteToDoubleBinding(ex::scheduleInvalidation, a, b, transform));
+    }
+
+    /**
+     * Returns a new simple expression which combines the values of the given observables using the given function.
+     *
+     * <p>The expression depends directly on each of the given observables. Unlike dependencies that are added using
+     * {@link #addDependency(Observable)}, these dependencies are tracked without any additional bookkeeping.</p>
+     *
+     * @param a             the first observable
+     * @param b             the second observable
+     * @param c             the third observable
+     * @param transform     the function that combines the values
+     *
+     * @return  a new simple expression which combines the values of the given observables
+     *
+     * @since   0.9.0
+     */
+    public static SimpleDoubleExpression combine(ObservableByteValue a, ObservableByteValue b, ObservableByteValue c, ByteByteByteToDoubleFunction transform) {
+        return new Transform(new Observable[] { a, b, c }, ex -> new ByteByteByteToDoubleBinding(ex::scheduleInvalidation, a, b, c, transform));
+    }
+
+    /**
+     * Returns a new simple expression which combines the values of the given observables using the given function.
+     *
+     * <p>The expression depends directly on each of the given observables. Unlike dependencies that are added using
+     * {@link #addDependency(Observable)}, these dependencies are tracked without any additional bookkeeping.</p>
+     *
+     * @param a             the first observable
+     * @param b             the second observable
+     * @param c             the third observable
+     * @param d             the fourth observable
+     * @param transform     the function that combines the values
+     *
+     * @return  a new simple expression which combines the values of the given observables
+     *
+     * @since   0.9.0
+     */
+    public static SimpleDoubleExpression combine(ObservableByteValue a, ObservableByteValue b, ObservableByteValue c, ObservableByteValue d, ByteByteByteByteToDoubleFunction transform) {
+        return new Transform(new Observable[] { a, b, c, d }, ex -> new ByteByteByteByteToDoubleBinding(ex::scheduleInvalidation, a, b, c, d, transform));
+    }
+
+    /**
+     * Returns a new simple expression which combines the values of the given observables using the given function.
+     *
+     * <p>The expression depends directly on each of the given observables. Unlike dependencies that are added using
+     * {@link #addDependency(Observable)}, these dependencies are tracked without any additional bookkeeping.</p>
+     *
+     * @param a             the first observable
+     * @param b             the second observable
+     * @param transform     the function that combines the values
+     *
+     * @return  a new simple expression which combines the values of the given observables
+     *
+     * @since   0.9.0
+     */
+    public static SimpleDoubleExpression combine(ObservableShortValue a, ObservableShortValue b, ShortShortToDoubleFunction transform) {
+        return new Transform(new Observable[] { a, b }, ex -> new ShortShortToDoubleBinding(ex::scheduleInvalidation, a, b, transform));
+    }
+
+    /**
+     * Returns a new simple expression which combines the values of the given observables using the given function.
+     *
+     * <p>The expression depends directly on each of the given observables. Unlike dependencies that are added using
+     * {@link #addDependency(Observable)}, these dependencies are tracked without any additional bookkeeping.</p>
+     *
+     * @param a             the first observable
+     * @param b             the second observable
+     * @param c             the third observable
+     * @param transform     the function that combines the values
+     *
+     * @return  a new simple expression which combines the values of the given observables
+     *
+     * @since   0.9.0
+     */
+    public static SimpleDoubleExpression combine(ObservableShortValue a, ObservableShortValue b, ObservableShortValue c, ShortShortShortToDoubleFunction transform) {
+        return new Transform(new Observable[] { a, b, c }, ex -> new ShortShortShortToDoubleBinding(ex::scheduleInvalidation, a, b, c, transform));
+    }
+
+    /**
+     * Returns a new simple expression which combines the values of the given observables using the given function.
+     *
+     * <p>The expression depends directly on each of the given observables. Unlike dependencies that are added using
+     * {@link #addDependency(Observable)}, these dependencies are tracked without any additional bookkeeping.</p>
+     *
+     * @param a             the first observable
+     * @param b             the second observable
+     * @param c             the third observable
+     * @param d             the fourth observable
+     * @param transform     the function that combines the values
+     *
+     * @return  a new simple expression which combines the values of the given observables
+     *
+     * @since   0.9.0
+     */
+    public static SimpleDoubleExpression combine(ObservableShortValue a, ObservableShortValue b, ObservableShortValue c, ObservableShortValue d, ShortShortShortShortToDoubleFunction transform) {
+        return new Transform(new Observable[] { a, b, c, d }, ex -> new ShortShortShortShortToDoubleBinding(ex::scheduleInvalidation, a, b, c, d, transform));
+    }
+
+    /**
+     * Returns a new simple expression which combines the values of the given observables using the given function.
+     *
+     * <p>The expression depends directly on each of the given observables. Unlike dependencies that are added using
+     * {@link #addDependency(Observable)}, these dependencies are tracked without any additional bookkeeping.</p>
+     *
+     * @param a             the first observable
+     * @param b             the second observable
+     * @param transform     the function that combines the values
+     *
+     * @return  a new simple expression which combines the values of the given observables
+     *
+     * @since   0.9.0
+     */
+    public static SimpleDoubleExpression combine(ObservableIntValue a, ObservableIntValue b, IntIntToDoubleFunction transform) {
+        return new Transform(new Observable[] { a, b }, ex -> new IntIntToDoubleBinding(ex::scheduleInvalidation, a, b, transform));
+    }
+
+    /**
+     * Returns a new simple expression which combines the values of the given observables using the given function.
+     *
+     * <p>The expression depends directly on each of the given observables. Unlike dependencies that are added using
+     * {@link #addDependency(Observable)}, these dependencies are tracked without any additional bookkeeping.</p>
+     *
+     * @param a             the first observable
+     * @param b             the second observable
+     * @param c             the third observable
+     * @param transform     the function that combines the values
+     *
+     * @return  a new simple expression which combines the values of the given observables
+     *
+     * @since   0.9.0
+     */
+    public static SimpleDoubleExpression combine(ObservableIntValue a, ObservableIntValue b, ObservableIntValue c, IntIntIntToDoubleFunction transform) {
+        return new Transform(new Observable[] { a, b, c }, ex -> new IntIntIntToDoubleBinding(ex::scheduleInvalidation, a, b, c, transform));
+    }
+
+    /**
+     * Returns a new simple expression which combines the values of the given observables using the given function.
+     *
+     * <p>The expression depends directly on each of the given observables. Unlike dependencies that are added using
+     * {@link #addDependency(Observable)}, these dependencies are tracked without any additional bookkeeping.</p>
+     *
+     * @param a             the first observable
+     * @param b             the second observable
+     * @param c             the third observable
+     * @param d             the fourth observable
+     * @param transform     the function that combines the values
+     *
+     * @return  a new simple expression which combines the values of the given observables
+     *
+     * @since   0.9.0
+     */
+    public static SimpleDoubleExpression combine(ObservableIntValue a, ObservableIntValue b, ObservableIntValue c, ObservableIntValue d, IntIntIntIntToDoubleFunction transform) {
+        return new Transform(new Observable[] { a, b, c, d }, ex -> new IntIntIntIntToDoubleBinding(ex::scheduleInvalidation, a, b, c, d, transform));
+    }
+
+    /**
+     * Returns a new simple expression which combines the values of the given observables using the given function.
+     *
+     * <p>The expression depends directly on each of the given observables. Unlike dependencies that are added using
+     * {@link #addDependency(Observable)}, these dependencies are tracked without any additional bookkeeping.</p>
+     *
+     * @param a             the first observable
+     * @param b             the second observable
+     * @param transform     the function that combines the values
+     *
+     * @return  a new simple expression which combines the values of the given observables
+     *
+     * @since   0.9.0
+     */
+    public static SimpleDoubleExpression combine(ObservableLongValue a, ObservableLongValue b, LongLongToDoubleFunction transform) {
+        return new Transform(new Observable[] { a, b }, ex -> new LongLongToDoubleBinding(ex::scheduleInvalidation, a, b, transform));
+    }
+
+    /**
+     * Returns a new simple expression which combines the values of the given observables using the given function.
+     *
+     * <p>The expression depends directly on each of the given observables. Unlike dependencies that are added using
+     * {@link #addDependency(Observable)}, these dependencies are tracked without any additional bookkeeping.</p>
+     *
+     * @param a             the first observable
+     * @param b             the second observable
+     * @param c             the third observable
+     * @param transform     the function that combines the values
+     *
+     * @return  a new simple expression which combines the values of the given observables
+     *
+     * @since   0.9.0
+     */
+    public static SimpleDoubleExpression combine(ObservableLongValue a, ObservableLongValue b, ObservableLongValue c, LongLongLongToDoubleFunction transform) {
+        return new Transform(new Observable[] { a, b, c }, ex -> new LongLongLongToDoubleBinding(ex::scheduleInvalidation, a, b, c, transform));
+    }
+
+    /**
+     * Returns a new simple expression which combines the values of the given observables using the given function.
+     *
+     * <p>The expression depends directly on each of the given observables. Unlike dependencies that are added using
+     * {@link #addDependency(Observable)}, these dependencies are tracked without any additional bookkeeping.</p>
+     *
+     * @param a             the first observable
+     * @param b             the second observable
+     * @param c             the third observable
+     * @param d             the fourth observable
+     * @param transform     the function that combines the values
+     *
+     * @return  a new simple expression which combines the values of the given observables
+     *
+     * @since   0.9.0
+     */
+    public static SimpleDoubleExpression combine(ObservableLongValue a, ObservableLongValue b, ObservableLongValue c, ObservableLongValue d, LongLongLongLongToDoubleFunction transform) {
+        return new Transform(new Observable[] { a, b, c, d }, ex -> new LongLongLongLongToDoubleBinding(ex::scheduleInvalidation, a, b, c, d, transform));
+    }
+
+    /**
+     * Returns a new simple expression which combines the values of the given observables using the given function.
+     *
+     * <p>The expression depends directly on each of the given observables. Unlike dependencies that are added using
+     * {@link #addDependency(Observable)}, these dependencies are tracked without any additional bookkeeping.</p>
+     *
+     * @param a             the first observable
+     * @param b             the second observable
+     * @param transform     the function that combines the values
+     *
+     * @return  a new simple expression which combines the values of the given observables
+     *
+     * @since   0.9.0
+     */
+    public static SimpleDoubleExpression combine(ObservableFloatValue a, ObservableFloatValue b, FloatFloatToDoubleFunction transform) {
+        return new Transform(new Observable[] { a, b }, ex -> new FloatFloatToDoubleBinding(ex::scheduleInvalidation, a, b, transform));
+    }
+
+    /**
+     * Returns a new simple expression which combines the values of the given observables using the given function.
+     *
+     * <p>The expression depends directly on each of the given observables. Unlike dependencies that are added using
+     * {@link #addDependency(Observable)}, these dependencies are tracked without any additional bookkeeping.</p>
+     *
+     * @param a             the first observable
+     * @param b             the second observable
+     * @param c             the third observable
+     * @param transform     the function that combines the values
+     *
+     * @return  a new simple expression which combines the values of the given observables
+     *
+     * @since   0.9.0
+     */
+    public static SimpleDoubleExpression combine(ObservableFloatValue a, ObservableFloatValue b, ObservableFloatValue c, FloatFloatFloatToDoubleFunction transform) {
+        return new Transform(new Observable[] { a, b, c }, ex -> new FloatFloatFloatToDoubleBinding(ex::scheduleInvalidation, a, b, c, transform));
+    }
+
+    /**
+     * Returns a new simple expression which combines the values of the given observables using the given function.
+     *
+     * <p>The expression depends directly on each of the given observables. Unlike dependencies that are added using
+     * {@link #addDependency(Observable)}, these dependencies are tracked without any additional bookkeeping.</p>
+     *
+     * @param a             the first observable
+     * @param b             the second observable
+     * @param c             the third observable
+     * @param d             the fourth observable
+     * @param transform     the function that combines the values
+     *
+     * @return  a new simple expression which combines the values of the given observables
+     *
+     * @since   0.9.0
+     */
+    public static SimpleDoubleExpression combine(ObservableFloatValue a, ObservableFloatValue b, ObservableFloatValue c, ObservableFloatValue d, FloatFloatFloatFloatToDoubleFunction transform) {
+        return new Transform(new Observable[] { a, b, c, d }, ex -> new FloatFloatFloatFloatToDoubleBinding(ex::scheduleInvalidation, a, b, c, d, transform));
+    }
+
+    /**
+     * Returns a new simple expression which combines the values of the given observables using the given function.
+     *
+     * <p>The expression depends directly on each of the given observables. Unlike dependencies that are added using
+     * {@link #addDependency(Observable)}, these dependencies are tracked without any additional bookkeeping.</p>
+     *
+     * @param a             the first observable
+     * @param b             the second observable
+     * @param transform     the function that combines the values
+     *
+     * @return  a new simple expression which combines the values of the given observables
+     *
+     * @since   0.9.0
+     */
+    public static SimpleDoubleExpression combine(ObservableDoubleValue a, ObservableDoubleValue b, DoubleDoubleToDoubleFunction transform) {
+        return new Transform(new Observable[] { a, b }, ex -> new DoubleDoubleToDoubleBinding(ex::scheduleInvalidation, a, b, transform));
+    }
+
+    /**
+     * Returns a new simple expression which combines the values of the given observables using the given function.
+     *
+     * <p>The expression depends directly on each of the given observables. Unlike dependencies that are added using
+     * {@link #addDependency(Observable)}, these dependencies are tracked without any additional bookkeeping.</p>
+     *
+     * @param a             the first observable
+     * @param b             the second observable
+     * @param c             the third observable
+     * @param transform     the function that combines the values
+     *
+     * @return  a new simple expression which combines the values of the given observables
+     *
+     * @since   0.9.0
+     */
+    public static SimpleDoubleExpression combine(ObservableDoubleValue a, ObservableDoubleValue b, ObservableDoubleValue c, DoubleDoubleDoubleToDoubleFunction transform) {
+        return new Transform(new Observable[] { a, b, c }, ex -> new DoubleDoubleDoubleToDoubleBinding(ex::scheduleInvalidation, a, b, c, transform));
+    }
+
+    /**
+     * Returns a new simple expression which combines the values of the given observables using the given function.
+     *
+     * <p>The expression depends directly on each of the given observables. Unlike dependencies that are added using
+     * {@link #addDependency(Observable)}, these dependencies are tracked without any additional bookkeeping.</p>
+     *
+     * @param a             the first observable
+     * @param b             the second observable
+     * @param c             the third observable
+     * @param d             the fourth observable
+     * @param transform     the function that combines the values
+     *
+     * @return  a new simple expression which combines the values of the given observables
+     *
+     * @since   0.9.0
+     */
+    public static SimpleDoubleExpression combine(ObservableDoubleValue a, ObservableDoubleValue b, ObservableDoubleValue c, ObservableDoubleValue d, DoubleDoubleDoubleDoubleToDoubleFunction transform) {
+        return new Transform(new Observable[] { a, b, c, d }, ex -> new DoubleDoubleDoubleDoubleToDoubleBinding(ex::scheduleInvalidation, a, b, c, d, transform));
+    }
+
+    /**
+     * Returns a new simple expression which combines the values of the given observables using the given function.
+     *
+     * <p>The expression depends directly on each of the given observables. Unlike dependencies that are added using
+     * {@link #addDependency(Observable)}, these dependencies are tracked without any additional bookkeeping.</p>
+     *
+     * @param <A>           the type of the first value
+     * @param <B>           the type of the second value
+     * @param a             the first observable
+     * @param b             the second observable
+     * @param transform     the function that combines the values
+     *
+     * @return  a new simple expression which combines the values of the given observables
+     *
+     * @since   0.9.0
+     */
+    public static <A, B> SimpleDoubleExpression combine(ObservableObjectValue<A> a, ObservableObjectValue<B> b, ObjectObjectToDoubleFunction<A, B> transform) {
+        return new Transform(new Observable[] { a, b }, ex -> new ObjectObjectToDoubleBinding<>(ex::scheduleInvalidation, a, b, transform));
+    }
+
+    /**
+     * Returns a new simple expression which combines the values of the given observables using the given function.
+     *
+     * <p>The expression depends directly on each of the given observables. Unlike dependencies that are added using
+     * {@link #addDependency(Observable)}, these dependencies are tracked without any additional bookkeeping.</p>
+     *
+     * @param <A>           the type of the first value
+     * @param <B>           the type of the second value
+     * @param <C>           the type of the third value
+     * @param a             the first observable
+     * @param b             the second observable
+     * @param c             the third observable
+     * @param transform     the function that combines the values
+     *
+     * @return  a new simple expression which combines the values of the given observables
+     *
+     * @since   0.9.0
+     */
+    public static <A, B, C> SimpleDoubleExpression combine(ObservableObjectValue<A> a, ObservableObjectValue<B> b, ObservableObjectValue<C> c, ObjectObjectObjectToDoubleFunction<A, B, C> transform) {
+        return new Transform(new Observable[] { a, b, c }, ex -> new ObjectObjectObjectToDoubleBinding<>(ex::scheduleInvalidation, a, b, c, transform));
+    }
+
+    /**
+     * Returns a new simple expression which combines the values of the given observables using the given function.
+     *
+     * <p>The expression depends directly on each of the given observables. Unlike dependencies that are added using
+     * {@link #addDependency(Observable)}, these dependencies are tracked without any additional bookkeeping.</p>
+     *
+     * @param <A>           the type of the first value
+     * @param <B>           the type of the second value
+     * @param <C>           the type of the third value
+     * @param <D>           the type of the fourth value
+     * @param a             the first observable
+     * @param b             the second observable
+     * @param c             the third observable
+     * @param d             the fourth observable
+     * @param transform     the function that combines the values
+     *
+     * @return  a new simple expression which combines the values of the given observables
+     *
+     * @since   0.9.0
+     */
+    public static <A, B, C, D> SimpleDoubleExpression combine(ObservableObjectValue<A> a, ObservableObjectValue<B> b, ObservableObjectValue<C> c, ObservableObjectValue<D> d, ObjectObjectObjectObjectToDoubleFunction<A, B, C, D> transform) {
+        return new Transform(new Observable[] { a, b, c, d }, ex -> new ObjectObjectObjectObjectToDoubleBinding<>(ex::scheduleInvalidation, a, b, c, d, transform));
+    }
+
+    /**
+     * Returns a new simple expression that evaluates to the sum of the values of the elements of the given list.
+     *
+     * <p>The value of the expression is updated incrementally from the changes to the list. The function is only
+     * applied to elements that are added to or removed from the list. Thus, it must return the same result for an
+     * element as long as the element is contained in the list.</p>
+     *
+     * <p>The sum is computed using compensated summation.</p>
+     *
+     * @param <E>           the type of the elements
+     * @param list          the list
+     * @param function      the function that computes the value for an element
+     *
+     * @return  a new simple expression that evaluates to the sum of the values of the elements of the given list
+     *
+     * @since   0.9.0
+     */
+    public static <E> SimpleDoubleExpression sumOf(ObservableList<E> list, ObjectToDoubleFunction<? super E> function) {
+        return new Transform(list, ex -> new AggregateBinding.DoubleSum<>(() -> ex.scheduleInvalidation(list), list, function));
+    }
+
+    /**
+     * Returns a new simple expression that evaluates to the sum of the values of the elements of the given set.
+     *
+     * <p>The value of the expression is updated incrementally from the changes to the set. The function is only
+     * applied to elements that are added to or removed from the set. Thus, it must return the same result for an
+     * element as long as the element is contained in the set.</p>
+     *
+     * <p>The sum is computed using compensated summation.</p>
+     *
+     * @param <E>           the type of the elements
+     * @param set           the set
+     * @param function      the function that computes the value for an element
+     *
+     * @return  a new simple expression that evaluates to the sum of the values of the elements of the given set
+     *
+     * @since   0.9.0
+     */
+    public static <E> SimpleDoubleExpression sumOf(ObservableSet<E> set, ObjectToDoubleFunction<? super E> function) {
+        return new Transform(set, ex -> new AggregateBinding.DoubleSum<>(() -> ex.scheduleInvalidation(set), set, function));
+    }
+
+    /**
+     * Returns a new simple expression that evaluates to the average value of the elements of the given list.
+     *
+     * <p>The value of the expression is updated incrementally from the changes to the list. The function is only
+     * applied to elements that are added to or removed from the list. Thus, it must return the same result for an
+     * element as long as the element is contained in the list.</p>
+     *
+     * <p>The expression evaluates to {@link Double#NaN} if the list is empty.</p>
+     *
+     * @param <E>           the type of the elements
+     * @param list          the list
+     * @param function      the function that computes the value for an element
+     *
+     * @return  a new simple expression that evaluates to the average value of the elements of the given list
+     *
+     * @since   0.9.0
+     */
+    public static <E> SimpleDoubleExpression averageOf(ObservableList<E> list, ObjectToDoubleFunction<? super E> function) {
+        return new Transform(list, ex -> new AggregateBinding.Average<>(() -> ex.scheduleInvalidation(list), list, function));
+    }
+
+    /**
+     * Returns a new simple expression that evaluates to the average value of the elements of the given set.
+     *
+     * <p>The value of the expression is updated incrementally from the changes to the set. The function is only
+     * applied to elements that are added to or removed from the set. Thus, it must return the same result for an
+     * element as long as the element is contained in the set.</p>
+     *
+     * <p>The expression evaluates to {@link Double#NaN} if the set is empty.</p>
+     *
+     * @param <E>           the type of the elements
+     * @param set           the set
+     * @param function      the function that computes the value for an element
+     *
+     * @return  a new simple expression that evaluates to the average value of the elements of the given set
+     *
+     * @since   0.9.0
+     */
+    public static <E> SimpleDoubleExpression averageOf(ObservableSet<E> set, ObjectToDoubleFunction<? super E> function) {
+        return new Transform(set, ex -> new AggregateBinding.Average<>(() -> ex.scheduleInvalidation(set), set, function));
+    }
+
+    /**
+     * Returns a new simple expression that evaluates to the smallest value of the elements of the given list.
+     *
+     * <p>The value of the expression is updated incrementally from the changes to the list. The function is only
+     * applied to elements that are added to or removed from the list. Thus, it must return the same result for an
+     * element as long as the element is contained in the list.</p>
+     *
+     * <p>Values are compared as if by {@link Double#compare(double, double)}.</p>
+     *
+     * @param <E>           the type of the elements
+     * @param list          the list
+     * @param function      the function that computes the value for an element
+     * @param defaultValue  the value of the expression if the list is empty
+     *
+     * @return  a new simple expression that evaluates to the smallest value of the elements of the given list
+     *
+     * @since   0.9.0
+     */
+    public static <E> SimpleDoubleExpression minOf(ObservableList<E> list, ObjectToDoubleFunction<? super E> function, double defaultValue) {
+        return new Transform(list, ex -> new AggregateBinding.DoubleExtremum<>(() -> ex.scheduleInvalidation(list), list, function, false, defaultValue));
+    }
+
+    /**
+     * Returns a new simple expression that evaluates to the smallest value of the elements of the given set.
+     *
+     * <p>The value of the expression is updated incrementally from the changes to the set. The function is only
+     * applied to elements that are added to or removed from the set. Thus, it must return the same result for an
+     * element as long as the element is contained in the set.</p>
+     *
+     * <p>Values are compared as if by {@link Double#compare(double, double)}.</p>
+     *
+     * @param <E>           the type of the elements
+     * @param set           the set
+     * @param function      the function that computes the value for an element
+     * @param defaultValue  the value of the expression if the set is empty
+     *
+     * @return  a new simple expression that evaluates to the smallest value of the elements of the given set
+     *
+     * @since   0.9.0
+     */
+    public static <E> SimpleDoubleExpression minOf(ObservableSet<E> set, ObjectToDoubleFunction<? super E> function, double defaultValue) {
+        return new Transform(set, ex -> new AggregateBinding.DoubleExtremum<>(() -> ex.scheduleInvalidation(set), set, function, false, defaultValue));
+    }
+
+    /**
+     * Returns a new simple expression that evaluates to the greatest value of the elements of the given list.
+     *
+     * <p>The value of the expression is updated incrementally from the changes to the list. The function is only
+     * applied to elements that are added to or removed from the list. Thus, it must return the same result for an
+     * element as long as the element is contained in the list.</p>
+     *
+     * <p>Values are compared as if by {@link Double#compare(double, double)}.</p>
+     *
+     * @param <E>           the type of the elements
+     * @param list          the list
+     * @param function      the function that computes the value for an element
+     * @param defaultValue  the value of the expression if the list is empty
+     *
+     * @return  a new simple expression that evaluates to the greatest value of the elements of the given list
+     *
+     * @since   0.9.0
+     */
+    public static <E> SimpleDoubleExpression maxOf(ObservableList<E> list, ObjectToDoubleFunction<? super E> function, double defaultValue) {
+        return new Transform(list, ex -> new AggregateBinding.DoubleExtremum<>(() -> ex.scheduleInvalidation(list), list, function, true, defaultValue));
+    }
+
+    /**
+     * Returns a new simple expression that evaluates to the greatest value of the elements of the given set.
+     *
+     * <p>The value of the expression is updated incrementally from the changes to the set. The function is only
+     * applied to elements that are added to or removed from the set. Thus, it must return the same result for an
+     * element as long as the element is contained in the set.</p>
+     *
+     * <p>Values are compared as if by {@link Double#compare(double, double)}.</p>
+     *
+     * @param <E>           the type of the elements
+     * @param set           the set
+     * @param function      the function that computes the value for an element
+     * @param defaultValue  the value of the expression if the set is empty
+     *
+     * @return  a new simple expression that evaluates to the greatest value of the elements of the given set
+     *
+     * @since   0.9.0
+     */
+    public static <E> SimpleDoubleExpression maxOf(ObservableSet<E> set, ObjectToDoubleFunction<? super E> function, double defaultValue) {
+        return new Transform(set, ex -> new AggregateBinding.DoubleExtremum<>(() -> ex.scheduleInvalidation(set), set, function, true, defaultValue));
+    }
+
+    /**
+     * Returns a new simple expression which follows a path of nested observables starting at the given root.
+     *
+     * <p>Each selector is applied to the value of the previous observable in the path to obtain the next observable.
+     * The expression evaluates to the value of the last observable in the path, or to
+     * {@code 0} if any value along the path is {@code null}.</p>
+     *
+     * <p>Every observable in the path and its value are cached. When an observable in the path is invalidated, only
+     * the part of the path below it is walked again, and selectors are only applied to values that have changed. The
+     * observables in the path only reference the expression weakly.</p>
+     *
+     * @param <A>       the type of the value of the root observable
+     * @param root      the root observable
+     * @param first     the selector for the observable that provides the value
+     *
+     * @return  a new simple expression which follows a path of nested observables starting at the given root
+     *
+     * @since   0.9.0
+     */
+    public static <A> SimpleDoubleExpression select(ObservableObjectValue<A> root, Function<? super A, ? extends ObservableDoubleValue> first) {
+        return new Transform(root, ex -> new DoubleBinding.Selection(ex::scheduleInvalidation, root, false, first));
+    }
+
+    /**
+     * Returns a new simple expression which follows a path of nested observables starting at the given root.
+     *
+     * <p>Each selector is applied to the value of the previous observable in the path to obtain the next observable.
+     * The expression evaluates to the value of the last observable in the path, or to
+     * {@code 0} if any value along the path is {@code null}.</p>
+     *
+     * <p>Every observable in the path and its value are cached. When an observable in the path is invalidated, only
+     * the part of the path below it is walked again, and selectors are only applied to values that have changed. The
+     * observables in the path only reference the expression weakly.</p>
+     *
+     * @param <A>       the type of the value of the root observable
+     * @param <B>       the type of the value of the first selected observable
+     * @param root      the root observable
+     * @param first     the first selector
+     * @param second    the selector for the observable that provides the value
+     *
+     * @return  a new simple expression which follows a path of nested observables starting at the given root
+     *
+     * @since   0.9.0
+     */
+    public static <A, B> SimpleDoubleExpression select(ObservableObjectValue<A> root, Function<? super A, ? extends ObservableObjectValue<B>> first, Function<? super B, ? extends ObservableDoubleValue> second) {
+        return new Transform(root, ex -> new DoubleBinding.Selection(ex::scheduleInvalidation, root, false, first, second));
+    }
+
+    /**
+     * Returns a new simple expression which follows a path of nested observables starting at the given root.
+     *
+     * <p>Each selector is applied to the value of the previous observable in the path to obtain the next observable.
+     * The expression evaluates to the value of the last observable in the path, or to
+     * {@code 0} if any value along the path is {@code null}.</p>
+     *
+     * <p>Every observable in the path and its value are cached. When an observable in the path is invalidated, only
+     * the part of the path below it is walked again, and selectors are only applied to values that have changed. The
+     * observables in the path only reference the expression weakly.</p>
+     *
+     * @param <A>       the type of the value of the root observable
+     * @param <B>       the type of the value of the first selected observable
+     * @param <C>       the type of the value of the second selected observable
+     * @param root      the root observable
+     * @param first     the first selector
+     * @param second    the second selector
+     * @param third     the selector for the observable that provides the value
+     *
+     * @return  a new simple expression which follows a path of nested observables starting at the given root
+     *
+     * @since   0.9.0
+     */
+    public static <A, B, C> SimpleDoubleExpression select(ObservableObjectValue<A> root, Function<? super A, ? extends ObservableObjectValue<B>> first, Function<? super B, ? extends ObservableObjectValue<C>> second, Function<? super C, ? extends ObservableDoubleValue> third) {
+        return new Transform(root, ex -> new DoubleBinding.Selection(ex::scheduleInvalidation, root, false, first, second, third));
+    }
+
+    /**
+     * Returns a new simple expression which follows a path of nested observables starting at the given root.
+     *
+     * <p>Each selector is applied to the value of the previous observable in the path to obtain the next observable.
+     * The expression evaluates to the value of the last observable in the path, or to
+     * {@code 0} if any value along the path is {@code null}.</p>
+     *
+     * <p>Every observable in the path and its value are cached. When an observable in the path is invalidated, only
+     * the part of the path below it is walked again, and selectors are only applied to values that have changed. The
+     * observables in the path only reference the expression weakly.</p>
+     *
+     * @param <A>       the type of the value of the root observable
+     * @param <B>       the type of the value of the first selected observable
+     * @param <C>       the type of the value of the second selected observable
+     * @param <D>       the type of the value of the third selected observable
+     * @param root      the root observable
+     * @param first     the first selector
+     * @param second    the second selector
+     * @param third     the third selector
+     * @param fourth    the selector for the observable that provides the value
+     *
+     * @return  a new simple expression which follows a path of nested observables starting at the given root
+     *
+     * @since   0.9.0
+     */
+    public static <A, B, C, D> SimpleDoubleExpression select(ObservableObjectValue<A> root, Function<? super A, ? extends ObservableObjectValue<B>> first, Function<? super B, ? extends ObservableObjectValue<C>> second, Function<? super C, ? extends ObservableObjectValue<D>> third, Function<? super D, ? extends ObservableDoubleValue> fourth) {
+        return new Transform(root, ex -> new DoubleBinding.Selection(ex::scheduleInvalidation, root, false, first, second, third, fourth));
     }
 
     /**
@@ -176,33 +918,7 @@ public abstract class SimpleDoubleExpression extends AbstractDoubleExpression {
      * @since   0.1.0
      */
     public static <S> SimpleDoubleExpression ofNested(ObservableObjectValue<S> observable, Function<S, ObservableDoubleValue> selector) {
-        return new SimpleDoubleExpression() {
-
-            final InvalidationListener nestedPropertyListener = ignored -> this.doInvalidate();
-
-            {
-                observable.addInvalidationListener(ignored -> this.doInvalidate());
-
-                ObjectChangeListener<S> parentChangeListener = (ignored, oldValue, newValue) -> {
-                    if (oldValue != null) {
-                        var nestedProperty = selector.apply(oldValue);
-                        nestedProperty.removeInvalidationListener(this.nestedPropertyListener);
-                    }
-
-                    var nestedProperty = selector.apply(Objects.requireNonNull(newValue));
-                    nestedProperty.addInvalidationListener(this.nestedPropertyListener);
-                };
-                observable.addChangeListener(parentChangeListener);
-                parentChangeListener.onChanged(observable, null, observable.get());
-            }
-
-            @Override
-            protected double recomputeValue() {
-                var parent = observable.get();
-                return selector.apply(Objects.requireNonNull(parent)).get();
-            }
-
-        };
+        return new Transform(observable, ex -> new DoubleBinding.Selection(ex::scheduleInvalidation, observable, true, selector));
     }
 
     private double value;
@@ -232,7 +948,14 @@ public abstract class SimpleDoubleExpression extends AbstractDoubleExpression {
 
         private final transient DoubleBinding binding;
 
-        private Transform(Function<SimpleDoubleExpression, DoubleBinding> factory) {
+        private Transform(Observable source, Function<SimpleDoubleExpression, DoubleBinding> factory) {
+            this.rankAfter(source);
+            this.binding = factory.apply(this);
+            this.invalidate();
+        }
+
+        private Transform(Observable[] sources, Function<SimpleDoubleExpression, DoubleBinding> factory) {
+            for (Observable source : sources) this.rankAfter(source);
             this.binding = factory.apply(this);
             this.invalidate();
         }
@@ -60,7 +60,7 @@ public abstract class SimpleFloatExpression extends AbstractFloatExpression {
      * @since   0.1.0
      */
     public static SimpleFloatExpression of(ObservableBoolValue observable, BoolToFloatFunction transform) {
-        return new Transform(ex -> new BoolToFloatBinding(ex::doInvalidate, observable, transform));
+        return new Transform(observable, ex -> new BoolToFloatBinding(() -> ex.scheduleInvalidation(observable), observable, transform));
     }
 
     /**
@@ -74,7 +74,7 @@ public abstract class SimpleFloatExpression extends AbstractFloatExpression {
      * @since   0.1.0
      */
     public static SimpleFloatExpression of(ObservableByteValue observable, ByteToFloatFunction transform) {
-        return new Transform(ex -> new ByteToFloatBinding(ex::doInvalidate, observable, transform));
+        return new Transform(observable, ex -> new ByteToFloatBinding(() -> ex.scheduleInvalidation(observable), observable, transform));
     }
 
     /**
@@ -88,7 +88,7 @@ public abstract class SimpleFloatExpression extends AbstractFloatExpression {
      * @since   0.1.0
      */
     public static SimpleFloatExpression of(ObservableShortValue observable, ShortToFloatFunction transform) {
-        return new Transform(ex -> new ShortToFloatBinding(ex::doInvalidate, observable, transform));
+        return new Transform(observable, ex -> new ShortToFloatBinding(() -> ex.scheduleInvalidation(observable), observable, transform));
     }
 
     /**
@@ -102,7 +102,7 @@ public abstract class SimpleFloatExpression extends AbstractFloatExpression {
      * @since   0.1.0
      */
     public static SimpleFloatExpression of(ObservableIntValue observable, IntToFloatFunction transform) {
-        return new Transform(ex -> new IntToFloatBinding(ex::doInvalidate, observable, transform));
+        return new Transform(observable, ex -> new IntToFloatBinding(() -> ex.scheduleInvalidation(observable), observable, transform));
     }
 
     /**
@@ -116,7 +116,7 @@ public abstract class SimpleFloatExpression extends AbstractFloatExpression {
      * @since   0.1.0
      */
     public static SimpleFloatExpression of(ObservableLongValue observable, LongToFloatFunction transform) {
-        return new Transform(ex -> new LongToFloatBinding(ex::doInvalidate, observable, transform));
+        return new Transform(observable, ex -> new LongToFloatBinding(() -> ex.scheduleInvalidation(observable), observable, transform));
     }
 
     /**
@@ -130,7 +130,7 @@ public abstract class SimpleFloatExpression extends AbstractFloatExpression {
      * @since   0.1.0
      */
     public static SimpleFloatExpression of(ObservableFloatValue observable, FloatToFloatFunction transform) {
-        return new Transform(ex -> new FloatToFloatBinding(ex::doInvalidate, observable, transform));
+        return new Transform(observable, ex -> new FloatToFloatBinding(() -> ex.scheduleInvalidation(observable), observable, transform));
     }
 
     /**
@@ -144,7 +144,7 @@ public abstract class SimpleFloatExpression extends AbstractFloatExpression {
      * @since   0.1.0
      */
     public static SimpleFloatExpression of(ObservableDoubleValue observable, DoubleToFloatFunction transform) {
-        return new Transform(ex -> new DoubleToFloatBinding(ex::doInvalidate, observable, transform));
+        return new Transform(observable, ex -> new DoubleToFloatBinding(() -> ex.scheduleInvalidation(observable), observable, transform));
     }
 
     /**
@@ -159,7 +159,576 @@ public abstract class SimpleFloatExpression extends AbstractFloatExpression {
      * @since   0.1.0
      */
     public static <S> SimpleFloatExpression of(ObservableObjectValue<S> observable, ObjectToFloatFunction<S> transform) {
-        return new Transform(ex -> new ObjectToFloatBinding<>(ex::doInvalidate, observable, transform));
+        return new Transform(observable, ex -> new ObjectToFloatBinding<>(() -> ex.scheduleInvalidation(observable), observable, transform));
+    }
+
+    /**
+     * Returns a new simple expression which combines the values of the given observables using the given function.
+     *
+     * <p>The expression depends directly on each of the given observables. Unlike dependencies that are added using
+     * {@link #addDependency(Observable)}, these dependencies are tracked without any additional bookkeeping.</p>
+     *
+     * @param a             the first observable
+     * @param b             the second observable
+     * @param transform     the function that combines the values
+     *
+     * @return  a new simple expression which combines the values of the given observables
+     *
+     * @since   0.9.0
+     */
+    public static SimpleFloatExpression combine(ObservableBoolValue a, ObservableBoolValue b, BoolBoolToFloatFunction transform) {
+        return new Transform(new Observable[] { a, b }, ex -> new BoolBoolToFloatBinding(ex::scheduleInvalidation, a, b, transform));
+    }
+
+    /**
+     * Returns a new simple expression which combines the values of the given observables using the given function.
+     *
+     * <p>The expression depends directly on each of the given observables. Unlike dependencies that are added using
+     * {@link #addDependency(Observable)}, these dependencies are tracked without any additional bookkeeping.</p>
+     *
+     * @param a             the first observable
+     * @param b             the second observable
+     * @param c             the third observable
+     * @param transform     the function that combines the values
+     *
+     * @return  a new simple expression which combines the values of the given observables
+     *
+     * @since   0.9.0
+     */
+    public static SimpleFloatExpression combine(ObservableBoolValue a, ObservableBoolValue b, ObservableBoolValue c, BoolBoolBoolToFloatFunction transform) {
+        return new Transform(new Observable[] { a, b, c }, ex -> new BoolBoolBoolToFloatBinding(ex::scheduleInvalidation, a, b, c, transform));
+    }
+
+    /**
+     * Returns a new simple expression which combines the values of the given observables using the given function.
+     *
+     * <p>The expression depends directly on each of the given observables. Unlike dependencies that are added using
+     * {@link #addDependency(Observable)}, these dependencies are tracked without any additional bookkeeping.</p>
+     *
+     * @param a             the first observable
+     * @param b             the second observable
+     * @param c             the third observable
+     * @param d             the fourth observable
+     * @param transform     the function that combines the values
+     *
+     * @return  a new simple expression which combines the values of the given observables
+     *
+     * @since   0.9.0
+     */
+    public static SimpleFloatExpression combine(ObservableBoolValue a, ObservableBoolValue b, ObservableBoolValue c, ObservableBoolValue d, BoolBoolBoolBoolToFloatFunction transform) {
+        return new Transform(new Observable[] { a, b, c, d }, ex -> new BoolBoolBoolBoolToFloatBinding(ex::scheduleInvalidation, a, b, c, d, transform));
+    }
+
+    /**
+     * Returns a new simple expression which combines the values of the given observables using the given function.
+     *
+     * <p>The expression depends directly on each of the given observables. Unlike dependencies that are added using
+     * {@link #addDependency(Observable)}, these dependencies are tracked without any additional bookkeeping.</p>
+     *
+     * @param a             the first observable
+     * @param b             the second observable
+     * @param transform     the function that combines the values
+     *
+     * @return  a new simple expression which combines the values of the given observables
+     *
+     * @since   0.9.0
+     */
+    public static SimpleFloatExpression combine(ObservableByteValue a, ObservableByteValue b, ByteByteToFloatFunction transform) {
+        return new Transform(new Observable[] { a, b }, ex -> new ByteByteToFloatBinding(ex::scheduleInvalidation, a, b, transform));
+    }
+
+    /**
+     * Returns a new simple expression which combines the values of the given observables using the given function.
+     *
+     * <p>The expression depends directly on each of the given observables. Unlike dependencies that are added using
+     * {@link #addDependency(Observable)}, these dependencies are tracked without any additional bookkeeping.</p>
+     *
+     * @param a             the first observable
+     * @param b             the second observable
+     * @param c             the third observable
+     * @param transform     the function that combines the values
+     *
+     * @return  a new simple expression which combines the values of the given observables
+     *
+     * @since   0.9.0
+     */
+    public static SimpleFloatExpression combine(ObservableByteValue a, ObservableByteValue b, ObservableByteValue c, ByteByteByteToFloatFunction transform) {
+        return new Transform(new Observable[] { a, b, c }, ex -> new ByteByteByteToFloatBinding(ex::scheduleInvalidation, a, b, c, transform));
+    }
+
+    /**
+     * Returns a new simple expression which combines the values of the given observables using the given function.
+     *
+     * <p>The expression depends directly on each of the given observables. Unlike dependencies that are added using
+     * {@link #addDependency(Observable)}, these dependencies are tracked without any additional bookkeeping.</p>
+     *
+     * @param a             the first observable
+     * @param b             the second observable
+     * @param c             the third observable
+     * @param d             the fourth observable
+     * @param transform     the function that combines the values
+     *
+     * @return  a new simple expression which combines the values of the given observables
+     *
+     * @since   0.9.0
+     */
+    public static SimpleFloatExpression combine(ObservableByteValue a, ObservableByteValue b, ObservableByteValue c, ObservableByteValue d, ByteByteByteByteToFloatFunction transform) {
+        return new Transform(new Observable[] { a, b, c, d }, ex -> new ByteByteByteByteToFloatBinding(ex::scheduleInvalidation, a, b, c, d, transform));
+    }
+
+    /**
+     * Returns a new simple expression which combines the values of the given observables using the given function.
+     *
+     * <p>The expression depends directly on each of the given observables. Unlike dependencies that are added using
+     * {@link #addDependency(Observable)}, these dependencies are tracked without any additional bookkeeping.</p>
+     *
+     * @param a             the first observable
+     * @param b             the second observable
+     * @param transform     the function that combines the values
+     *
+     * @return  a new simple expression which combines the values of the given observables
+     *
+     * @since   0.9.0
+     */
+    public static SimpleFloatExpression combine(ObservableShortValue a, ObservableShortValue b, ShortShortToFloatFunction transform) {
+        return new Transform(new Observable[] { a, b }, ex -> new ShortShortToFloatBinding(ex::scheduleInvalidation, a, b, transform));
+    }
+
+    /**
+     * Returns a new simple expression which combines the values of the given observables using the given function.
+     *
+     * <p>The expression depends directly on each of the given observables. Unlike dependencies that are added using
+     * {@link #addDependency(Observable)}, these dependencies are tracked without any additional bookkeeping.</p>
+     *
+     * @param a             the first observable
+     * @param b             the second observable
+     * @param c             the third observable
+     * @param transform     the function that combines the values
+     *
+     * @return  a new simple expression which combines the values of the given observables
+     *
+     * @since   0.9.0
+     */
+    public static SimpleFloatExpression combine(ObservableShortValue a, ObservableShortValue b, ObservableShortValue c, ShortShortShortToFloatFunction transform) {
+        return new Transform(new Observable[] { a, b, c }, ex -> new ShortShortShortToFloatBinding(ex::scheduleInvalidation, a, b, c, transform));
+    }
+
+    /**
+     * Returns a new simple expression which combines the values of the given observables using the given function.
+     *
+     * <p>The expression depends directly on each of the given observables. Unlike dependencies that are added using
+     * {@link #addDependency(Observable)}, these dependencies are tracked without any additional bookkeeping.</p>
+     *
+     * @param a             the first observable
+     * @param b             the second observable
+     * @param c             the third observable
+     * @param d             the fourth observable
+     * @param transform     the function that combines the values
+     *
+     * @return  a new simple expression which combines the values of the given observables
+     *
+     * @since   0.9.0
+     */
+    public static SimpleFloatExpression combine(ObservableShortValue a, ObservableShortValue b, ObservableShortValue c, ObservableShortValue d, ShortShortShortShortToFloatFunction transform) {
+        return new Transform(new Observable[] { a, b, c, d }, ex -> new ShortShortShortShortToFloatBinding(ex::scheduleInvalidation, a, b, c, d, transform));
+    }
+
+    /**
+     * Returns a new simple expression which combines the values of the given observables using the given function.
+     *
+     * <p>The expression depends directly on each of the given observables. Unlike dependencies that are added using
+     * {@link #addDependency(Observable)}, these dependencies are tracked without any additional bookkeeping.</p>
+     *
+     * @param a             the first observable
+     * @param b             the second observable
+     * @param transform     the function that combines the values
+     *
+     * @return  a new simple expression which combines the values of the given observables
+     *
+     * @since   0.9.0
+     */
+    public static SimpleFloatExpression combine(ObservableIntValue a, ObservableIntValue b, IntIntToFloatFunction transform) {
+        return new Transform(new Observable[] { a, b }, ex -> new IntIntToFloatBinding(ex::scheduleInvalidation, a, b, transform));
+    }
+
+    /**
+     * Returns a new simple expression which combines the values of the given observables using the given function.
+     *
+     * <p>The expression depends directly on each of the given observables. Unlike dependencies that are added using
+     * {@link #addDependency(Observable)}, these dependencies are tracked without any additional bookkeeping.</p>
+     *
+     * @param a             the first observable
+     * @param b             the second observable
+     * @param c             the third observable
+     * @param transform     the function that combines the values
+     *
+     * @return  a new simple expression which combines the values of the given observables
+     *
+     * @since   0.9.0
+     */
+    public static SimpleFloatExpression combine(ObservableIntValue a, ObservableIntValue b, ObservableIntValue c, IntIntIntToFloatFunction transform) {
+        return new Transform(new Observable[] { a, b, c }, ex -> new IntIntIntToFloatBinding(ex::scheduleInvalidation, a, b, c, transform));
+    }
+
+    /**
+     * Returns a new simple expression which combines the values of the given observables using the given function.
+     *
+     * <p>The expression depends directly on each of the given observables. Unlike dependencies that are added using
+     * {@link #addDependency(Observable)}, these dependencies are tracked without any additional bookkeeping.</p>
+     *
+     * @param a             the first observable
+     * @param b             the second observable
+     * @param c             the third observable
+     * @param d             the fourth observable
+     * @param transform     the function that combines the values
+     *
+     * @return  a new simple expression which combines the values of the given observables
+     *
+     * @since   0.9.0
+     */
+    public static SimpleFloatExpression combine(ObservableIntValue a, ObservableIntValue b, ObservableIntValue c, ObservableIntValue d, IntIntIntIntToFloatFunction transform) {
+        return new Transform(new Observable[] { a, b, c, d }, ex -> new IntIntIntIntToFloatBinding(ex::scheduleInvalidation, a, b, c, d, transform));
+    }
+
+    /**
+     * Returns a new simple expression which combines the values of the given observables using the given function.
+     *
+     * <p>The expression depends directly on each of the given observables. Unlike dependencies that are added using
+     * {@link #addDependency(Observable)}, these dependencies are tracked without any additional bookkeeping.</p>
+     *
+     * @param a             the first observable
+     * @param b             the second observable
+     * @param transform     the function that combines the values
+     *
+     * @return  a new simple expression which combines the values of the given observables
+     *
+     * @since   0.9.0
+     */
+    public static SimpleFloatExpression combine(ObservableLongValue a, ObservableLongValue b, LongLongToFloatFunction transform) {
+        return new Transform(new Observable[] { a, b }, ex -> new LongLongToFloatBinding(ex::scheduleInvalidation, a, b, transform));
+    }
+
+    /**
+     * Returns a new simple expression which combines the values of the given observables using the given function.
+     *
+     * <p>The expression depends directly on each of the given observables. Unlike dependencies that are added using
+     * {@link #addDependency(Observable)}, these dependencies are tracked without any additional bookkeeping.</p>
+     *
+     * @param a             the first observable
+     * @param b             the second observable
+     * @param c             the third observable
+     * @param transform     the function that combines the values
+     *
+     * @return  a new simple expression which combines the values of the given observables
+     *
+     * @since   0.9.0
+     */
+    public static SimpleFloatExpression combine(ObservableLongValue a, ObservableLongValue b, ObservableLongValue c, LongLongLongToFloatFunction transform) {
+        return new Transform(new Observable[] { a, b, c }, ex -> new LongLongLongToFloatBinding(ex::scheduleInvalidation, a, b, c, transform));
+    }
+
+    /**
+     * Returns a new simple expression which combines the values of the given observables using the given function.
+     *
+     * <p>The expression depends directly on each of the given observables. Unlike dependencies that are added using
+     * {@link #addDependency(Observable)}, these dependencies are tracked without any additional bookkeeping.</p>
+     *
+     * @param a             the first observable
+     * @param b             the second observable
+     * @param c             the third observable
+     * @param d             the fourth observable
+     * @param transform     the function that combines the values
+     *
+     * @return  a new simple expression which combines the values of the given observables
+     *
+     * @since   0.9.0
+     */
+    public static SimpleFloatExpression combine(ObservableLongValue a, ObservableLongValue b, ObservableLongValue c, ObservableLongValue d, LongLongLongLongToFloatFunction transform) {
+        return new Transform(new Observable[] { a, b, c, d }, ex -> new LongLongLongLongToFloatBinding(ex::scheduleInvalidation, a, b, c, d, transform));
+    }
+
+    /**
+     * Returns a new simple expression which combines the values of the given observables using the given function.
+     *
+     * <p>The expression depends directly on each of the given observables. Unlike dependencies that are added using
+     * {@link #addDependency(Observable)}, these dependencies are tracked without any additional bookkeeping.</p>
+     *
+     * @param a             the first observable
+     * @param b             the second observable
+     * @param transform     the function that combines the values
+     *
+     * @return  a new simple expression which combines the values of the given observables
+     *
+     * @since   0.9.0
+     */
+    public static SimpleFloatExpression combine(ObservableFloatValue a, ObservableFloatValue b, FloatFloatToFloatFunction transform) {
+        return new Transform(new Observable[] { a, b }, ex -> new FloatFloatToFloatBinding(ex::scheduleInvalidation, a, b, transform));
+    }
+
+    /**
+     * Returns a new simple expression which combines the values of the given observables using the given function.
+     *
+     * <p>The expression depends directly on each of the given observables. Unlike dependencies that are added using
+     * {@link #addDependency(Observable)}, these dependencies are tracked without any additional bookkeeping.</p>
+     *
+     * @param a             the first observable
+     * @param b             the second observable
+     * @param c             the third observable
+     * @param transform     the function that combines the values
+     *
+     * @return  a new simple expression which combines the values of the given observables
+     *
+     * @since   0.9.0
+     */
+    public static SimpleFloatExpression combine(ObservableFloatValue a, ObservableFloatValue b, ObservableFloatValue c, FloatFloatFloatToFloatFunction transform) {
+        return new Transform(new Observable[] { a, b, c }, ex -> new FloatFloatFloatToFloatBinding(ex::scheduleInvalidation, a, b, c, transform));
+    }
+
+    /**
+     * Returns a new simple expression which combines the values of the given observables using the given function.
+     *
+     * <p>The expression depends directly on each of the given observables. Unlike dependencies that are added using
+     * {@link #addDependency(Observable)}, these dependencies are tracked without any additional bookkeeping.</p>
+     *
+     * @param a             the first observable
+     * @param b             the second observable
+     * @param c             the third observable
+     * @param d             the fourth observable
+     * @param transform     the function that combines the values
+     *
+     * @return  a new simple expression which combines the values of the given observables
+     *
+     * @since   0.9.0
+     */
+    public static SimpleFloatExpression combine(ObservableFloatValue a, ObservableFloatValue b, ObservableFloatValue c, ObservableFloatValue d, FloatFloatFloatFloatToFloatFunction transform) {
+        return new Transform(new Observable[] { a, b, c, d }, ex -> new FloatFloatFloatFloatToFloatBinding(ex::scheduleInvalidation, a, b, c, d, transform));
+    }
+
+    /**
+     * Returns a new simple expression which combines the values of the given observables using the given function.
+     *
+     * <p>The expression depends directly on each of the given observables. Unlike dependencies that are added using
+     * {@link #addDependency(Observable)}, these dependencies are tracked without any additional bookkeeping.</p>
+     *
+     * @param a             the first observable
+     * @param b             the second observable
+     * @param transform     the function that combines the values
+     *
+     * @return  a new simple expression which combines the values of the given observables
+     *
+     * @since   0.9.0
+     */
+    public static SimpleFloatExpression combine(ObservableDoubleValue a, ObservableDoubleValue b, DoubleDoubleToFloatFunction transform) {
+        return new Transform(new Observable[] { a, b }, ex -> new DoubleDoubleToFloatBinding(ex::scheduleInvalidation, a, b, transform));
+    }
+
+    /**
+     * Returns a new simple expression which combines the values of the given observables using the given function.
+     *
+     * <p>The expression depends directly on each of the given observables. Unlike dependencies that are added using
+     * {@link #addDependency(Observable)}, these dependencies are tracked without any additional bookkeeping.</p>
+     *
+     * @param a             the first observable
+     * @param b             the second observable
+     * @param c             the third observable
+     * @param transform     the function that combines the values
+     *
+     * @return  a new simple expression which combines the values of the given observables
+     *
+     * @since   0.9.0
+     */
+    public static SimpleFloatExpression combine(ObservableDoubleValue a, ObservableDoubleValue b, ObservableDoubleValue c, DoubleDoubleDoubleToFloatFunction transform) {
+        return new Transform(new Observable[] { a, b, c }, ex -> new DoubleDoubleDoubleToFloatBinding(ex::scheduleInvalidation, a, b, c, transform));
+    }
+
+    /**
+     * Returns a new simple expression which combines the values of the given observables using the given function.
+     *
+     * <p>The expression depends directly on each of the given observables. Unlike dependencies that are added using
+     * {@link #addDependency(Observable)}, these dependencies are tracked without any additional bookkeeping.</p>
+     *
+     * @param a             the first observable
+     * @param b             the second observable
+     * @param c             the third observable
+     * @param d             the fourth observable
+     * @param transform     the function that combines the values
+     *
+     * @return  a new simple expression which combines the values of the given observables
+     *
+     * @since   0.9.0
+     */
+    public static SimpleFloatExpression combine(ObservableDoubleValue a, ObservableDoubleValue b, ObservableDoubleValue c, ObservableDoubleValue d, DoubleDoubleDoubleDoubleToFloatFunction transform) {
+        return new Transform(new Observable[] { a, b, c, d }, ex -> new DoubleDoubleDoubleDoubleToFloatBinding(ex::scheduleInvalidation, a, b, c, d, transform));
+    }
+
+    /**
+     * Returns a new simple expression which combines the values of the given observables using the given function.
+     *
+     * <p>The expression depends directly on each of the given observables. Unlike dependencies that are added using
+     * {@link #addDependency(Observable)}, these dependencies are tracked without any additional bookkeeping.</p>
+     *
+     * @param <A>           the type of the first value
+     * @param <B>           the type of the second value
+     * @param a             the first observable
+     * @param b             the second observable
+     * @param transform     the function that combines the values
+     *
+     * @return  a new simple expression which combines the values of the given observables
+     *
+     * @since   0.9.0
+     */
+    public static <A, B> SimpleFloatExpression combine(ObservableObjectValue<A> a, ObservableObjectValue<B> b, ObjectObjectToFloatFunction<A, B> transform) {
+        return new Transform(new Observable[] { a, b }, ex -> new ObjectObjectToFloatBinding<>(ex::scheduleInvalidation, a, b, transform));
+    }
+
+    /**
+     * Returns a new simple expression which combines the values of the given observables using the given function.
+     *
+     * <p>The expression depends directly on each of the given observables. Unlike dependencies that are added using
+     * {@link #addDependency(Observable)}, these dependencies are tracked without any additional bookkeeping.</p>
+     *
+     * @param <A>           the type of the first value
+     * @param <B>           the type of the second value
+     * @param <C>           the type of the third value
+     * @param a             the first observable
+     * @param b             the second observable
+     * @param c             the third observable
+     * @param transform     the function that combines the values
+     *
+     * @return  a new simple expression which combines the values of the given observables
+     *
+     * @since   0.9.0
+     */
+    public static <A, B, C> SimpleFloatExpression combine(ObservableObjectValue<A> a, ObservableObjectValue<B> b, ObservableObjectValue<C> c, ObjectObjectObjectToFloatFunction<A, B, C> transform) {
+        return new Transform(new Observable[] { a, b, c }, ex -> new ObjectObjectObjectToFloatBinding<>(ex::scheduleInvalidation, a, b, c, transform));
+    }
+
+    /**
+     * Returns a new simple expression which combines the values of the given observables using the given function.
+     *
+     * <p>The expression depends directly on each of the given observables. Unlike dependencies that are added using
+     * {@link #addDependency(Observable)}, these dependencies are tracked without any additional bookkeeping.</p>
+     *
+     * @param <A>           the type of the first value
+     * @param <B>           the type of the second value
+     * @param <C>           the type of the third value
+     * @param <D>           the type of the fourth value
+     * @param a             the first observable
+     * @param b             the second observable
+     * @param c             the third observable
+     * @param d             the fourth observable
+     * @param transform     the function that combines the values
+     *
+     * @return  a new simple expression which combines the values of the given observables
+     *
+     * @since   0.9.0
+     */
+    public static <A, B, C, D> SimpleFloatExpression combine(ObservableObjectValue<A> a, ObservableObjectValue<B> b, ObservableObjectValue<C> c, ObservableObjectValue<D> d, ObjectObjectObjectObjectToFloatFunction<A, B, C, D> transform) {
+        return new Transform(new Observable[] { a, b, c, d }, ex -> new ObjectObjectObjectObjectToFloatBinding<>(ex::scheduleInvalidation, a, b, c, d, transform));
+    }
+
+    /**
+     * Returns a new simple expression which follows a path of nested observables starting at the given root.
+     *
+     * <p>Each selector is applied to the value of the previous observable in the path to obtain the next observable.
+     * The expression evaluates to the value of the last observable in the path, or to
+     * {@code 0} if any value along the path is {@code null}.</p>
+     *
+     * <p>Every observable in the path and its value are cached. When an observable in the path is invalidated, only
+     * the part of the path below it is walked again, and selectors are only applied to values that have changed. The
+     * observables in the path only reference the expression weakly.</p>
+     *
+     * @param <A>       the type of the value of the root observable
+     * @param root      the root observable
+     * @param first     the selector for the observable that provides the value
+     *
+     * @return  a new simple expression which follows a path of nested observables starting at the given root
+     *
+     * @since   0.9.0
+     */
+    public static <A> SimpleFloatExpression select(ObservableObjectValue<A> root, Function<? super A, ? extends ObservableFloatValue> first) {
+        return new Transform(root, ex -> new FloatBinding.Selection(ex::scheduleInvalidation, root, false, first));
+    }
+
+    /**
+     * Returns a new simple expression which follows a path of nested observables starting at the given root.
+     *
+     * <p>Each selector is applied to the value of the previous observable in the path to obtain the next observable.
+     * The expression evaluates to the value of the last observable in the path, or to
+     * {@code 0} if any value along the path is {@code null}.</p>
+     *
+     * <p>Every observable in the path and its value are cached. When an observable in the path is invalidated, only
+     * the part of the path below it is walked again, and selectors are only applied to values that have changed. The
+     * observables in the path only reference the expression weakly.</p>
+     *
+     * @param <A>       the type of the value of the root observable
+     * @param <B>       the type of the value of the first selected observable
+     * @param root      the root observable
+     * @param first     the first selector
+     * @param second    the selector for the observable that provides the value
+     *
+     * @return  a new simple expression which follows a path of nested observables starting at the given root
+     *
+     * @since   0.9.0
+     */
+    public static <A, B> SimpleFloatExpression select(ObservableObjectValue<A> root, Function<? super A, ? extends ObservableObjectValue<B>> first, Function<? super B, ? extends ObservableFloatValue> second) {
+        return new Transform(root, ex -> new FloatBinding.Selection(ex::scheduleInvalidation, root, false, first, second));
+    }
+
+    /**
+     * Returns a new simple expression which follows a path of nested observables starting at the given root.
+     *
+     * <p>Each selector is applied to the value of the previous observable in the path to obtain the next observable.
+     * The expression evaluates to the value of the last observable in the path, or to
+     * {@code 0} if any value along the path is {@code null}.</p>
+     *
+     * <p>Every observable in the path and its value are cached. When an observable in the path is invalidated, only
+     * the part of the path below it is walked again, and selectors are only applied to values that have changed. The
+     * observables in the path only reference the expression weakly.</p>
+     *
+     * @param <A>       the type of the value of the root observable
+     * @param <B>       the type of the value of the first selected observable
+     * @param <C>       the type of the value of the second selected observable
+     * @param root      the root observable
+     * @param first     the first selector
+     * @param second    the second selector
+     * @param third     the selector for the observable that provides the value
+     *
+     * @return  a new simple expression which follows a path of nested observables starting at the given root
+     *
+     * @since   0.9.0
+     */
+    public static <A, B, C> SimpleFloatExpression select(ObservableObjectValue<A> root, Function<? super A, ? extends ObservableObjectValue<B>> first, Function<? super B, ? extends ObservableObjectValue<C>> second, Function<? super C, ? extends ObservableFloatValue> third) {
+        return new Transform(root, ex -> new FloatBinding.Selection(ex::scheduleInvalidation, root, false, first, second, third));
+    }
+
+    /**
+     * Returns a new simple expression which follows a path of nested observables starting at the given root.
+     *
+     * <p>Each selector is applied to the value of the previous observable in the path to obtain the next observable.
+     * The expression evaluates to the value of the last observable in the path, or to
+     * {@code 0} if any value along the path is {@code null}.</p>
+     *
+     * <p>Every observable in the path and its value are cached. When an observable in the path is invalidated, only
+     * the part of the path below it is walked again, and selectors are only applied to values that have changed. The
+     * observables in the path only reference the expression weakly.</p>
+     *
+     * @param <A>       the type of the value of the root observable
+     * @param <B>       the type of the value of the first selected observable
+     * @param <C>       the type of the value of the second selected observable
+     * @param <D>       the type of the value of the third selected observable
+     * @param root      the root observable
+     * @param first     the first selector
+     * @param second    the second selector
+     * @param third     the third selector
+     * @param fourth    the selector for the observable that provides the value
+     *
+     * @return  a new simple expression which follows a path of nested observables starting at the given root
+     *
+     * @since   0.9.0
+     */
+    public static <A, B, C, D> SimpleFloatExpression select(ObservableObjectValue<A> root, Function<? super A, ? extends ObservableObjectValue<B>> first, Function<? super B, ? extends ObservableObjectValue<C>> second, Function<? super C, ? extends ObservableObjectValue<D>> third, Function<? super D, ? extends ObservableFloatValue> fourth) {
+        return new Transform(root, ex -> new FloatBinding.Selection(ex::scheduleInvalidation, root, false, first, second, third, fourth));
     }
 
     /**
@@ -176,33 +745,7 @@ public abstract class SimpleFloatExpression extends AbstractFloatExpression {
      * @since   0.1.0
      */
     public static <S> SimpleFloatExpression ofNested(ObservableObjectValue<S> observable, Function<S, ObservableFloatValue> selector) {
-        return new SimpleFloatExpression() {
-
-            final InvalidationListener nestedPropertyListener = ignored -> this.doInvalidate();
-
-            {
-                observable.addInvalidationListener(ignored -> this.doInvalidate());
-
-                ObjectChangeListener<S> parentChangeListener = (ignored, oldValue, newValue) -> {
-                    if (oldValue != null) {
-                        var nestedProperty = selector.apply(oldValue);
-                        nestedProperty.removeInvalidationListener(this.nestedPropertyListener);
-                    }
-
-                    var nestedProperty = selector.apply(Objects.requireNonNull(newValue));
-                    nestedProperty.addInvalidationListener(this.nestedPropertyListener);
-                };
-                observable.addChangeListener(parentChangeListener);
-                parentChangeListener.onChanged(observable, null, observable.get());
-            }
-
-            @Override
-            protected float recomputeValue() {
-                var parent = observable.get();
-                return selector.apply(Objects.requireNonNull(parent)).get();
-            }
-
-        };
+        return new Transform(observable, ex -> new FloatBinding.Selection(ex::scheduleInvalidation, observable, true, selector));
     }
 
     private float value;
@@ -232,7 +775,14 @@ public abstract class SimpleFloatExpression extends AbstractFloatExpression {
 
         private final transient FloatBinding binding;
 
-        private Transform(Function<SimpleFloatExpression, FloatBinding> factory) {
+        private Transform(Observable source, Function<SimpleFloatExpression, FloatBinding> factory) {
+            this.rankAfter(source);
+            this.binding = factory.apply(this);
+            this.invalidate();
+        }
+
+        private Transform(Observable[] sources, Function<SimpleFloatExpression, FloatBinding> factory) {
+            for (Observable source : sources) this.rankAfter(source);
             this.binding = factory.apply(this);
             this.invalidate();
         }
@@ -35,6 +35,7 @@ import java.util.Objects;
 import java.util.function.Function;
 
 import com.osmerion.quitte.*;
+import com.osmerion.quitte.collections.*;
 import com.osmerion.quitte.functional.*;
 import com.osmerion.quitte.internal.binding.*;
 import com.osmerion.quitte.value.*;
@@ -60,7 +61,7 @@ public abstract class SimpleIntExpression extends AbstractIntExpression {
      * @since   0.1.0
      */
     public static SimpleIntExpression of(ObservableBoolValue observable, BoolToIntFunction transform) {
-        return new Transform(ex -> new BoolToIntBinding(ex::doInvalidate, observable, transform));
+        return new Transform(observable, ex -> new BoolToIntBinding(() -> ex.scheduleInvalidation(observable), observable, transform));
     }
 
     /**
@@ -74,7 +75,7 @@ public abstract class SimpleIntExpression extends AbstractIntExpression {
      * @since   0.1.0
      */
     public static SimpleIntExpression of(ObservableByteValue observable, ByteToIntFunction transform) {
-        return new Transform(ex -> new ByteToIntBinding(ex::doInvalidate, observable, transform));
+        return new Transform(observable, ex -> new ByteToIntBinding(() -> ex.scheduleInvalidation(observable), observable, transform));
     }
 
     /**
@@ -88,7 +89,7 @@ public abstract class SimpleIntExpression extends AbstractIntExpression {
      * @since   0.1.0
      */
     public static SimpleIntExpression of(ObservableShortValue observable, ShortToIntFunction transform) {
-        return new Transform(ex -> new ShortToIntBinding(ex::doInvalidate, observable, transform));
+        return new Transform(observable, ex -> new ShortToIntBinding(() -> ex.scheduleInvalidation(observable), observable, transform));
     }
 
     /**
@@ -102,7 +103,7 @@ public abstract class SimpleIntExpression extends AbstractIntExpression {
      * @since   0.1.0
      */
     public static SimpleIntExpression of(ObservableIntValue observable, IntToIntFunction transform) {
-        return new Transform(ex -> new IntToIntBinding(ex::doInvalidate, observable, transform));
+        return new Transform(observable, ex -> new IntToIntBinding(() -> ex.scheduleInvalidation(observable), observable, transform));
     }
 
     /**
@@ -116,7 +117,7 @@ public abstract class SimpleIntExpression extends AbstractIntExpression {
      * @since   0.1.0
      */
     public static SimpleIntExpression of(ObservableLongValue observable, LongToIntFunction transform) {
-        return new Transform(ex -> new LongToIntBinding(ex::doInvalidate, observable, transform));
+        return new Transform(observable, ex -> new LongToIntBinding(() -> ex.scheduleInvalidation(observable), observable, transform));
     }
 
     /**
@@ -130,7 +131,7 @@ public abstract class SimpleIntExpression extends AbstractIntExpression {
      * @since   0.1.0
      */
     public static SimpleIntExpression of(ObservableFloatValue observable, FloatToIntFunction transform) {
-        return new Transform(ex -> new FloatToIntBinding(ex::doInvalidate, observable, transform));
+        return new Transform(observable, ex -> new FloatToIntBinding(() -> ex.scheduleInvalidation(observable), observable, transform));
     }
 
     /**
@@ -144,7 +145,7 @@ public abstract class SimpleIntExpression extends AbstractIntExpression {
      * @since   0.1.0
      */
     public static SimpleIntExpression of(ObservableDoubleValue observable, DoubleToIntFunction transform) {
-        return new Transform(ex -> new DoubleToIntBinding(ex::doInvalidate, observable, transform));
+        return new Transform(observable, ex -> new DoubleToIntBinding(() -> ex.scheduleInvalidation(observable), observable, transform));
     }
 
     /**
@@ -159,7 +160,736 @@ public abstract class SimpleIntExpression extends AbstractIntExpression {
      * @since   0.1.0
      */
     public static <S> SimpleIntExpression of(ObservableObjectValue<S> observable, ObjectToIntFunction<S> transform) {
-        return new Transform(ex -> new ObjectToIntBinding<>(ex::doInvalidate, observable, transform));
+        return new Transform(observable, ex -> new ObjectToIntBinding<>(() -> ex.scheduleInvalidation(observable), observable, transform));
+    }
+
+    /**
+     * Returns a new simple expression which combines the values of the given observables using the given function.
+     *
+     * <p>The expression depends directly on each of the given observables. Unlike dependencies that are added using
+     * {@link #addDependency(Observable)}, these dependencies are tracked without any additional bookkeeping.</p>
+     *
+     * @param a             the first observable
+     * @param b             the second observable
+     * @param transform     the function that combines the values
+     *
+     * @return  a new simple expression which combines the values of the given observables
+     *
+     * @since   0.9.0
+     */
+    public static SimpleIntExpression combine(ObservableBoolValue a, ObservableBoolValue b, BoolBoolToIntFunction transform) {
+        return new Transform(new Observable[] { a, b }, ex -> new BoolBoolToIntBinding(ex::scheduleInvalidation, a, b, transform));
+    }
+
+    /**
+     * Returns a new simple expression which combines the values of the given observables using the given function.
+     *
+     * <p>The expression depends directly on each of the given observables. Unlike dependencies that are added using
+     * {@link #addDependency(Observable)}, these dependencies are tracked without any additional bookkeeping.</p>
+     *
+     * @param a             the first observable
+     * @param b             the second observable
+     * @param c             the third observable
+     * @param transform     the function that combines the values
+     *
+     * @return  a new simple expression which combines the values of the given observables
+     *
+     * @since   0.9.0
+     */
+    public static SimpleIntExpression combine(ObservableBoolValue a, ObservableBoolValue b, ObservableBoolValue c, BoolBoolBoolToIntFunction transform) {
+        return new Transform(new Observable[] { a, b, c }, ex -> new BoolBoolBoolToIntBinding(ex::scheduleInvalidation, a, b, c, transform));
+    }
+
+    /**
+     * Returns a new simple expression which combines the values of the given observables using the given function.
+     *
+     * <p>The expression depends directly on each of the given observables. Unlike dependencies that are added using
+     * {@link #addDependency(Observable)}, these dependencies are tracked without any additional bookkeeping.</p>
+     *
+     * @param a             the first observable
+     * @param b             the second observable
+     * @param c             the third observable
+     * @param d             the fourth observable
+     * @param transform     the function that combines the values
+     *
+     * @return  a new simple expression which combines the values of the given observables
+     *
+     * @since   0.9.0
+     */
+    public static SimpleIntExpression combine(ObservableBoolValue a, ObservableBoolValue b, ObservableBoolValue c, ObservableBoolValue d, BoolBoolBoolBoolToIntFunction transform) {
+        return new Transform(new Observable[] { a, b, c, d }, ex -> new BoolBoolBoolBoolToIntBinding(ex::scheduleInvalidation, a, b, c, d, transform));
+    }
+
+    /**
+     * Returns a new simple expression which combines the values of the given observables using the given function.
+     *
+     * <p>The expression depends directly on each of the given observables. Unlike dependencies that are added using
+     * {@link #addDependency(Observable)}, these dependencies are tracked without any additional bookkeeping.</p>
+     *
+     * @param a             the first observable
+     * @param b             the second observable
+     * @param transform     the function that combines the values
+     *
+     * @return  a new simple expression which combines the values of the given observables
+     *
+     * @since   0.9.0
+     */
+    public static SimpleIntExpression combine(ObservableByteValue a, ObservableByteValue b, ByteByteToIntFunction transform) {
+        return new Transform(new Observable[] { a, b }, ex -> new ByteByteToIntBinding(ex::scheduleInvalidation, a, b, transform));
+    }
+
+    /**
+     * Returns a new simple expression which combines the values of the given observables using the given function.
+     *
+     * <p>The expression depends directly on each of the given observables. Unlike dependencies that are added using
+     * {@link #addDependency(Observable)}, these dependencies are tracked without any additional bookkeeping.</p>
+     *
+     * @param a             the first observable
+     * @param b             the second observable
+     * @param c             the third observable
+     * @param transform     the function that combines the values
+     *
+     * @return  a new simple expression which combines the values of the given observables
+     *
+     * @since   0.9.0
+     */
+    public static SimpleIntExpression combine(ObservableByteValue a, ObservableByteValue b, ObservableByteValue c, ByteByteByteToIntFunction transform) {
+        return new Transform(new Observable[] { a, b, c }, ex -> new ByteByteByteToIntBinding(ex::scheduleInvalidation, a, b, c, transform));
+    }
+
+    /**
+     * Returns a new simple expression which combines the values of the given observables using the given function.
+     *
+     * <p>The expression depends directly on each of the given observables. Unlike dependencies that are added using
+     * {@link #addDependency(Observable)}, these dependencies are tracked without any additional bookkeeping.</p>
+     *
+     * @param a             the first observable
+     * @param b             the second observable
+     * @param c             the third observable
+     * @param d             the fourth observable
+     * @param transform     the function that combines the values
+     *
+     * @return  a new simple expression which combines the values of the given observables
+     *
+     * @since   0.9.0
+     */
+    public static SimpleIntExpression combine(ObservableByteValue a, ObservableByteValue b, ObservableByteValue c, ObservableByteValue d, ByteByteByteByteToIntFunction transform) {
+        return new Transform(new Observable[] { a, b, c, d }, ex -> new ByteByteByteByteToIntBinding(ex::scheduleInvalidation, a, b, c, d, transform));
+    }
+
+    /**
+     * Returns a new simple expression which combines the values of the given observables using the given function.
+     *
+     * <p>The expression depends directly on each of the given observables. Unlike dependencies that are added using
+     * {@link #addDependency(Observable)}, these dependencies are tracked without any additional bookkeeping.</p>
+     *
+     * @param a             the first observable
+     * @param b             the second observable
+     * @param transform     the function that combines the values
+     *
+     * @return  a new simple expression which combines the values of the given observables
+     *
+     * @since   0.9.0
+     */
+    public static SimpleIntExpression combine(ObservableShortValue a, ObservableShortValue b, ShortShortToIntFunction transform) {
+        return new Transform(new Observable[] { a, b }, ex -> new ShortShortToIntBinding(ex::scheduleInvalidation, a, b, transform));
+    }
+
+    /**
+     * Returns a new simple expression which combines the values of the given observables using the given function.
+     *
+     * <p>The expression depends directly on each of the given observables. Unlike dependencies that are added using
+     * {@link #addDependency(Observable)}, these dependencies are tracked without any additional bookkeeping.</p>
+     *
+     * @param a             the first observable
+     * @param b             the second observable
+     * @param c             the third observable
+     * @param transform     the function that combines the values
+     *
+     * @return  a new simple expression which combines the values of the given observables
+     *
+     * @since   0.9.0
+     */
+    public static SimpleIntExpression combine(ObservableShortValue a, ObservableShortValue b, ObservableShortValue c, ShortShortShortToIntFunction transform) {
+        return new Transform(new Observable[] { a, b, c }, ex -> new ShortShortShortToIntBinding(ex::scheduleInvalidation, a, b, c, transform));
+    }
+
+    /**
+     * Returns a new simple expression which combines the values of the given observables using the given function.
+     *
+     * <p>The expression depends directly on each of the given observables. Unlike dependencies that are added using
+     * {@link #addDependency(Observable)}, these dependencies are tracked without any additional bookkeeping.</p>
+     *
+     * @param a             the first observable
+     * @param b             the second observable
+     * @param c             the third observable
+     * @param d             the fourth observable
+     * @param transform     the function that combines the values
+     *
+     * @return  a new simple expression which combines the values of the given observables
+     *
+     * @since   0.9.0
+     */
+    public static SimpleIntExpression combine(ObservableShortValue a, ObservableShortValue b, ObservableShortValue c, ObservableShortValue d, ShortShortShortShortToIntFunction transform) {
+        return new Transform(new Observable[] { a, b, c, d }, ex -> new ShortShortShortShortToIntBinding(ex::scheduleInvalidation, a, b, c, d, transform));
+    }
+
+    /**
+     * Returns a new simple expression which combines the values of the given observables using the given function.
+     *
+     * <p>The expression depends directly on each of the given observables. Unlike dependencies that are added using
+     * {@link #addDependency(Observable)}, these dependencies are tracked without any additional bookkeeping.</p>
+     *
+     * @param a             the first observable
+     * @param b             the second observable
+     * @param transform     the function that combines the values
+     *
+     * @return  a new simple expression which combines the values of the given observables
+     *
+     * @since   0.9.0
+     */
+    public static SimpleIntExpression combine(ObservableIntValue a, ObservableIntValue b, IntIntToIntFunction transform) {
+        return new Transform(new Observable[] { a, b }, ex -> new IntIntToIntBinding(ex::scheduleInvalidation, a, b, transform));
+    }
+
+    /**
+     * Returns a new simple expression which combines the values of the given observables using the given function.
+     *
+     * <p>The expression depends directly on each of the given observables. Unlike dependencies that are added using
+     * {@link #addDependency(Observable)}, these dependencies are tracked without any additional bookkeeping.</p>
+     *
+     * @param a             the first observable
+     * @param b             the second observable
+     * @param c             the third observable
+     * @param transform     the function that combines the values
+     *
+     * @return  a new simple expression which combines the values of the given observables
+     *
+     * @since   0.9.0
+     */
+    public static SimpleIntExpression combine(ObservableIntValue a, ObservableIntValue b, ObservableIntValue c, IntIntIntToIntFunction transform) {
+        return new Transform(new Observable[] { a, b, c }, ex -> new IntIntIntToIntBinding(ex::scheduleInvalidation, a, b, c, transform));
+    }
+
+    /**
+     * Returns a new simple expression which combines the values of the given observables using the given function.
+     *
+     * <p>The expression depends directly on each of the given observables. Unlike dependencies that are added using
+     * {@link #addDependency(Observable)}, these dependencies are tracked without any additional bookkeeping.</p>
+     *
+     * @param a             the first observable
+     * @param b             the second observable
+     * @param c             the third observable
+     * @param d             the fourth observable
+     * @param transform     the function that combines the values
+     *
+     * @return  a new simple expression which combines the values of the given observables
+     *
+     * @since   0.9.0
+     */
+    public static SimpleIntExpression combine(ObservableIntValue a, ObservableIntValue b, ObservableIntValue c, ObservableIntValue d, IntIntIntIntToIntFunction transform) {
+        return new Transform(new Observable[] { a, b, c, d }, ex -> new IntIntIntIntToIntBinding(ex::scheduleInvalidation, a, b, c, d, transform));
+    }
+
+    /**
+     * Returns a new simple expression which combines the values of the given observables using the given function.
+     *
+     * <p>The expression depends directly on each of the given observables. Unlike dependencies that are added using
+     * {@link #addDependency(Observable)}, these dependencies are tracked without any additional bookkeeping.</p>
+     *
+     * @param a             the first observable
+     * @param b             the second observable
+     * @param transform     the function that combines the values
+     *
+     * @return  a new simple expression which combines the values of the given observables
+     *
+     * @since   0.9.0
+     */
+    public static SimpleIntExpression combine(ObservableLongValue a, ObservableLongValue b, LongLongToIntFunction transform) {
+        return new Transform(new Observable[] { a, b }, ex -> new LongLongToIntBinding(ex::scheduleInvalidation, a, b, transform));
+    }
+
+    /**
+     * Returns a new simple expression which combines the values of the given observables using the given function.
+     *
+     * <p>The expression depends directly on each of the given observables. Unlike dependencies that are added using
+     * {@link #addDependency(Observable)}, these dependencies are tracked without any additional bookkeeping.</p>
+     *
+     * @param a             the first observable
+     * @param b             the second observable
+     * @param c             the third observable
+     * @param transform     the function that combines the values
+     *
+     * @return  a new simple expression which combines the values of the given observables
+     *
+     * @since   0.9.0
+     */
+    public static SimpleIntExpression combine(ObservableLongValue a, ObservableLongValue b, ObservableLongValue c, LongLongLongToIntFunction transform) {
+        return new Transform(new Observable[] { a, b, c }, ex -> new LongLongLongToIntBinding(ex::scheduleInvalidation, a, b, c, transform));
+    }
+
+    /**
+     * Returns a new simple expression which combines the values of the given observables using the given function.
+     *
+     * <p>The expression depends directly on each of the given observables. Unlike dependencies that are added using
+     * {@link #addDependency(Observable)}, these dependencies are tracked without any additional bookkeeping.</p>
+     *
+     * @param a             the first observable
+     * @param b             the second observable
+     * @param c             the third observable
+     * @param d             the fourth observable
+     * @param transform     the function that combines the values
+     *
+     * @return  a new simple expression which combines the values of the given observables
+     *
+     * @since   0.9.0
+     */
+    public static SimpleIntExpression combine(ObservableLongValue a, ObservableLongValue b, ObservableLongValue c, ObservableLongValue d, LongLongLongLongToIntFunction transform) {
+        return new Transform(new Observable[] { a, b, c, d }, ex -> new LongLongLongLongToIntBinding(ex::scheduleInvalidation, a, b, c, d, transform));
+    }
+
+    /**
+     * Returns a new simple expression which combines the values of the given observables using the given function.
+     *
+     * <p>The expression depends directly on each of the given observables. Unlike dependencies that are added using
+     * {@link #addDependency(Observable)}, these dependencies are tracked without any additional bookkeeping.</p>
+     *
+     * @param a             the first observable
+     * @param b             the second observable
+     * @param transform     the function that combines the values
+     *
+     * @return  a new simple expression which combines the values of the given observables
+     *
+     * @since   0.9.0
+     */
+    public static SimpleIntExpression combine(ObservableFloatValue a, ObservableFloatValue b, FloatFloatToIntFunction transform) {
+        return new Transform(new Observable[] { a, b }, ex -> new FloatFloatToIntBinding(ex::scheduleInvalidation, a, b, transform));
+    }
+
+    /**
+     * Returns a new simple expression which combines the values of the given observables using the given function.
+     *
+     * <p>The expression depends directly on each of the given observables. Unlike dependencies that are added using
+     * {@link #addDependency(Observable)}, these dependencies are tracked without any additional bookkeeping.</p>
+     *
+     * @param a             the first observable
+     * @param b             the second observable
+     * @param c             the third observable
+     * @param transform     the function that combines the values
+     *
+     * @return  a new simple expression which combines the values of the given observables
+     *
+     * @since   0.9.0
+     */
+    public static SimpleIntExpression combine(ObservableFloatValue a, ObservableFloatValue b, ObservableFloatValue c, FloatFloatFloatToIntFunction transform) {
+        return new Transform(new Observable[] { a, b, c }, ex -> new FloatFloatFloatToIntBinding(ex::scheduleInvalidation, a, b, c, transform));
+    }
+
+    /**
+     * Returns a new simple expression which combines the values of the given observables using the given function.
+     *
+     * <p>The expression depends directly on each of the given observables. Unlike dependencies that are added using
+     * {@link #addDependency(Observable)}, these dependencies are tracked without any additional bookkeeping.</p>
+     *
+     * @param a             the first observable
+     * @param b             the second observable
+     * @param c             the third observable
+     * @param d             the fourth observable
+     * @param transform     the function that combines the values
+     *
+     * @return  a new simple expression which combines the values of the given observables
+     *
+     * @since   0.9.0
+     */
+    public static SimpleIntExpression combine(ObservableFloatValue a, ObservableFloatValue b, ObservableFloatValue c, ObservableFloatValue d, FloatFloatFloatFloatToIntFunction transform) {
+        return new Transform(new Observable[] { a, b, c, d }, ex -> new FloatFloatFloatFloatToIntBinding(ex::scheduleInvalidation, a, b, c, d, transform));
+    }
+
+    /**
+     * Returns a new simple expression which combines the values of the given observables using the given function.
+     *
+     * <p>The expression depends directly on each of the given observables. Unlike dependencies that are added using
+     * {@link #addDependency(Observable)}, these dependencies are tracked without any additional bookkeeping.</p>
+     *
+     * @param a             the first observable
+     * @param b             the second observable
+     * @param transform     the function that combines the values
+     *
+     * @return  a new simple expression which combines the values of the given observables
+     *
+     * @since   0.9.0
+     */
+    public static SimpleIntExpression combine(ObservableDoubleValue a, ObservableDoubleValue b, DoubleDoubleToIntFunction transform) {
+        return new Transform(new Observable[] { a, b }, ex -> new DoubleDoubleToIntBinding(ex::scheduleInvalidation, a, b, transform));
+    }
+
+    /**
+     * Returns a new simple expression which combines the values of the given observables using the given function.
+     *
+     * <p>The expression depends directly on each of the given observables. Unlike dependencies that are added using
+     * {@link #addDependency(Observable)}, these dependencies are tracked without any additional bookkeeping.</p>
+     *
+     * @param a             the first observable
+     * @param b             the second observable
+     * @param c             the third observable
+     * @param transform     the function that combines the values
+     *
+     * @return  a new simple expression which combines the values of the given observables
+     *
+     * @since   0.9.0
+     */
+    public static SimpleIntExpression combine(ObservableDoubleValue a, ObservableDoubleValue b, ObservableDoubleValue c, DoubleDoubleDoubleToIntFunction transform) {
+        return new Transform(new Observable[] { a, b, c }, ex -> new DoubleDoubleDoubleToIntBinding(ex::scheduleInvalidation, a, b, c, transform));
+    }
+
+    /**
+     * Returns a new simple expression which combines the values of the given observables using the given function.
+     *
+     * <p>The expression depends directly on each of the given observables. Unlike dependencies that are added using
+     * {@link #addDependency(Observable)}, these dependencies are tracked without any additional bookkeeping.</p>
+     *
+     * @param a             the first observable
+     * @param b             the second observable
+     * @param c             the third observable
+     * @param d             the fourth observable
+     * @param transform     the function that combines the values
+     *
+     * @return  a new simple expression which combines the values of the given observables
+     *
+     * @since   0.9.0
+     */
+    public static SimpleIntExpression combine(ObservableDoubleValue a, ObservableDoubleValue b, ObservableDoubleValue c, ObservableDoubleValue d, DoubleDoubleDoubleDoubleToIntFunction transform) {
+        return new Transform(new Observable[] { a, b, c, d }, ex -> new DoubleDoubleDoubleDoubleToIntBinding(ex::scheduleInvalidation, a, b, c, d, transform));
+    }
+
+    /**
+     * Returns a new simple expression which combines the values of the given observables using the given function.
+     *
+     * <p>The expression depends directly on each of the given observables. Unlike dependencies that are added using
+     * {@link #addDependency(Observable)}, these dependencies are tracked without any additional bookkeeping.</p>
+     *
+     * @param <A>           the type of the first value
+     * @param <B>           the type of the second value
+     * @param a             the first observable
+     * @param b             the second observable
+     * @param transform     the function that combines the values
+     *
+     * @return  a new simple expression which combines the values of the given observables
+     *
+     * @since   0.9.0
+     */
+    public static <A, B> SimpleIntExpression combine(ObservableObjectValue<A> a, ObservableObjectValue<B> b, ObjectObjectToIntFunction<A, B> transform) {
+        return new Transform(new Observable[] { a, b }, ex -> new ObjectObjectToIntBinding<>(ex::scheduleInvalidation, a, b, transform));
+    }
+
+    /**
+     * Returns a new simple expression which combines the values of the given observables using the given function.
+     *
+     * <p>The expression depends directly on each of the given observables. Unlike dependencies that are added using
+     * {@link #addDependency(Observable)}, these dependencies are tracked without any additional bookkeeping.</p>
+     *
+     * @param <A>           the type of the first value
+     * @param <B>           the type of the second value
+     * @param <C>           the type of the third value
+     * @param a             the first observable
+     * @param b             the second observable
+     * @param c             the third observable
+     * @param transform     the function that combines the values
+     *
+     * @return  a new simple expression which combines the values of the given observables
+     *
+     * @since   0.9.0
+     */
+    public static <A, B, C> SimpleIntExpression combine(ObservableObjectValue<A> a, ObservableObjectValue<B> b, ObservableObjectValue<C> c, ObjectObjectObjectToIntFunction<A, B, C> transform) {
+        return new Transform(new Observable[] { a, b, c }, ex -> new ObjectObjectObjectToIntBinding<>(ex::scheduleInvalidation, a, b, c, transform));
+    }
+
+    /**
+     * Returns a new simple expression which combines the values of the given observables using the given function.
+     *
+     * <p>The expression depends directly on each of the given observables. Unlike dependencies that are added using
+     * {@link #addDependency(Observable)}, these dependencies are tracked without any additional bookkeeping.</p>
+     *
+     * @param <A>           the type of the first value
+     * @param <B>           the type of the second value
+     * @param <C>           the type of the third value
+     * @param <D>           the type of the fourth value
+     * @param a             the first observable
+     * @param b             the second observable
+     * @param c             the third observable
+     * @param d             the fourth observable
+     * @param transform     the function that combines the values
+     *
+     * @return  a new simple expression which combines the values of the given observables
+     *
+     * @since   0.9.0
+     */
+    public static <A, B, C, D> SimpleIntExpression combine(ObservableObjectValue<A> a, ObservableObjectValue<B> b, ObservableObjectValue<C> c, ObservableObjectValue<D> d, ObjectObjectObjectObjectToIntFunction<A, B, C, D> transform) {
+        return new Transform(new Observable[] { a, b, c, d }, ex -> new ObjectObjectObjectObjectToIntBinding<>(ex::scheduleInvalidation, a, b, c, d, transform));
+    }
+
+    /**
+     * Returns a new simple expression that evaluates to the sum of the values of the elements of the given list.
+     *
+     * <p>The value of the expression is updated incrementally from the changes to the list. The function is only
+     * applied to elements that are added to or removed from the list. Thus, it must return the same result for an
+     * element as long as the element is contained in the list.</p>
+     *
+     * <p>The sum overflows silently.</p>
+     *
+     * @param <E>           the type of the elements
+     * @param list          the list
+     * @param function      the function that computes the value for an element
+     *
+     * @return  a new simple expression that evaluates to the sum of the values of the elements of the given list
+     *
+     * @since   0.9.0
+     */
+    public static <E> SimpleIntExpression sumOf(ObservableList<E> list, ObjectToIntFunction<? super E> function) {
+        return new Transform(list, ex -> new AggregateBinding.IntSum<>(() -> ex.scheduleInvalidation(list), list, function));
+    }
+
+    /**
+     * Returns a new simple expression that evaluates to the sum of the values of the elements of the given set.
+     *
+     * <p>The value of the expression is updated incrementally from the changes to the set. The function is only
+     * applied to elements that are added to or removed from the set. Thus, it must return the same result for an
+     * element as long as the element is contained in the set.</p>
+     *
+     * <p>The sum overflows silently.</p>
+     *
+     * @param <E>           the type of the elements
+     * @param set           the set
+     * @param function      the function that computes the value for an element
+     *
+     * @return  a new simple expression that evaluates to the sum of the values of the elements of the given set
+     *
+     * @since   0.9.0
+     */
+    public static <E> SimpleIntExpression sumOf(ObservableSet<E> set, ObjectToIntFunction<? super E> function) {
+        return new Transform(set, ex -> new AggregateBinding.IntSum<>(() -> ex.scheduleInvalidation(set), set, function));
+    }
+
+    /**
+     * Returns a new simple expression that evaluates to the number of matching elements of the given list.
+     *
+     * <p>The value of the expression is updated incrementally from the changes to the list. The predicate is only
+     * applied to elements that are added to or removed from the list. Thus, it must return the same result for an
+     * element as long as the element is contained in the list.</p>
+     *
+     * @param <E>           the type of the elements
+     * @param list          the list
+     * @param predicate     the predicate to test the elements against
+     *
+     * @return  a new simple expression that evaluates to the number of matching elements of the given list
+     *
+     * @since   0.9.0
+     */
+    public static <E> SimpleIntExpression countOf(ObservableList<E> list, ObjectToBoolFunction<? super E> predicate) {
+        return new Transform(list, ex -> new AggregateBinding.Count<>(() -> ex.scheduleInvalidation(list), list, predicate));
+    }
+
+    /**
+     * Returns a new simple expression that evaluates to the number of matching elements of the given set.
+     *
+     * <p>The value of the expression is updated incrementally from the changes to the set. The predicate is only
+     * applied to elements that are added to or removed from the set. Thus, it must return the same result for an
+     * element as long as the element is contained in the set.</p>
+     *
+     * @param <E>           the type of the elements
+     * @param set           the set
+     * @param predicate     the predicate to test the elements against
+     *
+     * @return  a new simple expression that evaluates to the number of matching elements of the given set
+     *
+     * @since   0.9.0
+     */
+    public static <E> SimpleIntExpression countOf(ObservableSet<E> set, ObjectToBoolFunction<? super E> predicate) {
+        return new Transform(set, ex -> new AggregateBinding.Count<>(() -> ex.scheduleInvalidation(set), set, predicate));
+    }
+
+    /**
+     * Returns a new simple expression that evaluates to the smallest value of the elements of the given list.
+     *
+     * <p>The value of the expression is updated incrementally from the changes to the list. The function is only
+     * applied to elements that are added to or removed from the list. Thus, it must return the same result for an
+     * element as long as the element is contained in the list.</p>
+     *
+     * @param <E>           the type of the elements
+     * @param list          the list
+     * @param function      the function that computes the value for an element
+     * @param defaultValue  the value of the expression if the list is empty
+     *
+     * @return  a new simple expression that evaluates to the smallest value of the elements of the given list
+     *
+     * @since   0.9.0
+     */
+    public static <E> SimpleIntExpression minOf(ObservableList<E> list, ObjectToIntFunction<? super E> function, int defaultValue) {
+        return new Transform(list, ex -> new AggregateBinding.IntExtremum<>(() -> ex.scheduleInvalidation(list), list, function, false, defaultValue));
+    }
+
+    /**
+     * Returns a new simple expression that evaluates to the smallest value of the elements of the given set.
+     *
+     * <p>The value of the expression is updated incrementally from the changes to the set. The function is only
+     * applied to elements that are added to or removed from the set. Thus, it must return the same result for an
+     * element as long as the element is contained in the set.</p>
+     *
+     * @param <E>           the type of the elements
+     * @param set           the set
+     * @param function      the function that computes the value for an element
+     * @param defaultValue  the value of the expression if the set is empty
+     *
+     * @return  a new simple expression that evaluates to the smallest value of the elements of the given set
+     *
+     * @since   0.9.0
+     */
+    public static <E> SimpleIntExpression minOf(ObservableSet<E> set, ObjectToIntFunction<? super E> function, int defaultValue) {
+        return new Transform(set, ex -> new AggregateBinding.IntExtremum<>(() -> ex.scheduleInvalidation(set), set, function, false, defaultValue));
+    }
+
+    /**
+     * Returns a new simple expression that evaluates to the greatest value of the elements of the given list.
+     *
+     * <p>The value of the expression is updated incrementally from the changes to the list. The function is only
+     * applied to elements that are added to or removed from the list. Thus, it must return the same result for an
+     * element as long as the element is contained in the list.</p>
+     *
+     * @param <E>           the type of the elements
+     * @param list          the list
+     * @param function      the function that computes the value for an element
+     * @param defaultValue  the value of the expression if the list is empty
+     *
+     * @return  a new simple expression that evaluates to the greatest value of the elements of the given list
+     *
+     * @since   0.9.0
+     */
+    public static <E> SimpleIntExpression maxOf(ObservableList<E> list, ObjectToIntFunction<? super E> function, int defaultValue) {
+        return new Transform(list, ex -> new AggregateBinding.IntExtremum<>(() -> ex.scheduleInvalidation(list), list, function, true, defaultValue));
+    }
+
+    /**
+     * Returns a new simple expression that evaluates to the greatest value of the elements of the given set.
+     *
+     * <p>The value of the expression is updated incrementally from the changes to the set. The function is only
+     * applied to elements that are added to or removed from the set. Thus, it must return the same result for an
+     * element as long as the element is contained in the set.</p>
+     *
+     * @param <E>           the type of the elements
+     * @param set           the set
+     * @param function      the function that computes the value for an element
+     * @param defaultValue  the value of the expression if the set is empty
+     *
+     * @return  a new simple expression that evaluates to the greatest value of the elements of the given set
+     *
+     * @since   0.9.0
+     */
+    public static <E> SimpleIntExpression maxOf(ObservableSet<E> set, ObjectToIntFunction<? super E> function, int defaultValue) {
+        return new Transform(set, ex -> new AggregateBinding.IntExtremum<>(() -> ex.scheduleInvalidation(set), set, function, true, defaultValue));
+    }
+
+    /**
+     * Returns a new simple expression which follows a path of nested observables starting at the given root.
+     *
+     * <p>Each selector is applied to the value of the previous observable in the path to obtain the next observable.
+     * The expression evaluates to the value of the last observable in the path, or to
+     * {@code 0} if any value along the path is {@code null}.</p>
+     *
+     * <p>Every observable in the path and its value are cached. When an observable in the path is invalidated, only
+     * the part of the path below it is walked again, and selectors are only applied to values that have changed. The
+     * observables in the path only reference the expression weakly.</p>
+     *
+     * @param <A>       the type of the value of the root observable
+     * @param root      the root observable
+     * @param first     the selector for the observable that provides the value
+     *
+     * @return  a new simple expression which follows a path of nested observables starting at the given root
+     *
+     * @since   0.9.0
+     */
+    public static <A> SimpleIntExpression select(ObservableObjectValue<A> root, Function<? super A, ? extends ObservableIntValue> first) {
+        return new Transform(root, ex -> new IntBinding.Selection(ex::scheduleInvalidation, root, false, first));
+    }
+
+    /**
+     * Returns a new simple expression which follows a path of nested observables starting at the given root.
+     *
+     * <p>Each selector is applied to the value of the previous observable in the path to obtain the next observable.
+     * The expression evaluates to the value of the last observable in the path, or to
+     * {@code 0} if any value along the path is {@code null}.</p>
+     *
+     * <p>Every observable in the path and its value are cached. When an observable in the path is invalidated, only
+     * the part of the path below it is walked again, and selectors are only applied to values that have changed. The
+     * observables in the path only reference the expression weakly.</p>
+     *
+     * @param <A>       the type of the value of the root observable
+     * @param <B>       the type of the value of the first selected observable
+     * @param root      the root observable
+     * @param first     the first selector
+     * @param second    the selector for the observable that provides the value
+     *
+     * @return  a new simple expression which follows a path of nested observables starting at the given root
+     *
+     * @since   0.9.0
+     */
+    public static <A, B> SimpleIntExpression select(ObservableObjectValue<A> root, Function<? super A, ? extends ObservableObjectValue<B>> first, Function<? super B, ? extends ObservableIntValue> second) {
+        return new Transform(root, ex -> new IntBinding.Selection(ex::scheduleInvalidation, root, false, first, second));
+    }
+
+    /**
+     * Returns a new simple expression which follows a path of nested observables starting at the given root.
+     *
+     * <p>Each selector is applied to the value of the previous observable in the path to obtain the next observable.
+     * The expression evaluates to the value of the last observable in the path, or to
+     * {@code 0} if any value along the path is {@code null}.</p>
+     *
+     * <p>Every observable in the path and its value are cached. When an observable in the path is invalidated, only
+     * the part of the path below it is walked again, and selectors are only applied to values that have changed. The
+     * observables in the path only reference the expression weakly.</p>
+     *
+     * @param <A>       the type of the value of the root observable
+     * @param <B>       the type of the value of the first selected observable
+     * @param <C>       the type of the value of the second selected observable
+     * @param root      the root observable
+     * @param first     the first selector
+     * @param second    the second selector
+     * @param third     the selector for the observable that provides the value
+     *
+     * @return  a new simple expression which follows a path of nested observables starting at the given root
+     *
+     * @since   0.9.0
+     */
+    public static <A, B, C> SimpleIntExpression select(ObservableObjectValue<A> root, Function<? super A, ? extends ObservableObjectValue<B>> first, Function<? super B, ? extends ObservableObjectValue<C>> second, Function<? super C, ? extends ObservableIntValue> third) {
+        return new Transform(root, ex -> new IntBinding.Selection(ex::scheduleInvalidation, root, false, first, second, third));
+    }
+
+    /**
+     * Returns a new simple expression which follows a path of nested observables starting at the given root.
+     *
+     * <p>Each selector is applied to the value of the previous observable in the path to obtain the next observable.
+     * The expression evaluates to the value of the last observable in the path, or to
+     * {@code 0} if any value along the path is {@code null}.</p>
+     *
+     * <p>Every observable in the path and its value are cached. When an observable in the path is invalidated, only
+     * the part of the path below it is walked again, and selectors are only applied to values that have changed. The
+     * observables in the path only reference the expression weakly.</p>
+     *
+     * @param <A>       the type of the value of the root observable
+     * @param <B>       the type of the value of the first selected observable
+     * @param <C>       the type of the value of the second selected observable
+     * @param <D>       the type of the value of the third selected observable
+     * @param root      the root observable
+     * @param first     the first selector
+     * @param second    the second selector
+     * @param third     the third selector
+     * @param fourth    the selector for the observable that provides the value
+     *
+     * @return  a new simple expression which follows a path of nested observables starting at the given root
+     *
+     * @since   0.9.0
+     */
+    public static <A, B, C, D> SimpleIntExpression select(ObservableObjectValue<A> root, Function<? super A, ? extends ObservableObjectValue<B>> first, Function<? super B, ? extends ObservableObjectValue<C>> second, Function<? super C, ? extends ObservableObjectValue<D>> third, Function<? super D, ? extends ObservableIntValue> fourth) {
+        return new Transform(root, ex -> new IntBinding.Selection(ex::scheduleInvalidation, root, false, first, second, third, fourth));
     }
 
     /**
@@ -176,33 +906,7 @@ public abstract class SimpleIntExpression extends AbstractIntExpression {
      * @since   0.1.0
      */
     public static <S> SimpleIntExpression ofNested(ObservableObjectValue<S> observable, Function<S, ObservableIntValue> selector) {
-        return new SimpleIntExpression() {
-
-            final InvalidationListener nestedPropertyListener = ignored -> this.doInvalidate();
-
-            {
-                observable.addInvalidationListener(ignored -> this.doInvalidate());
-
-                ObjectChangeListener<S> parentChangeListener = (ignored, oldValue, newValue) -> {
-                    if (oldValue != null) {
-                        var nestedProperty = selector.apply(oldValue);
-                        nestedProperty.removeInvalidationListener(this.nestedPropertyListener);
-                    }
-
-                    var nestedProperty = selector.apply(Objects.requireNonNull(newValue));
-                    nestedProperty.addInvalidationListener(this.nestedPropertyListener);
-                };
-                observable.addChangeListener(parentChangeListener);
-                parentChangeListener.onChanged(observable, null, observable.get());
-            }
-
-            @Override
-            protected int recomputeValue() {
-                var parent = observable.get();
-                return selector.apply(Objects.requireNonNull(parent)).get();
-            }
-
-        };
+        return new Transform(observable, ex -> new IntBinding.Selection(ex::scheduleInvalidation, observable, true, selector));
     }
 
     private int value;
@@ -232,7 +936,14 @@ public abstract class SimpleIntExpression extends AbstractIntExpression {
 
         private final transient IntBinding binding;
 
-        private Transform(Function<SimpleIntExpression, IntBinding> factory) {
+        private Transform(Observable source, Function<SimpleIntExpression, IntBinding> factory) {
+            this.rankAfter(source);
+            this.binding = factory.apply(this);
+            this.invalidate();
+        }
+
+        private Transform(Observable[] sources, Function<SimpleIntExpression, IntBinding> factory) {
+            for (Observable source : sources) this.rankAfter(source);
             this.binding = factory.apply(this);
             this.invalidate();
         }
@@ -35,6 +35,7 @@ import java.util.Objects;
 import java.util.function.Function;
 
 import com.osmerion.quitte.*;
+import com.osmerion.quitte.collections.*;
 import com.osmerion.quitte.functional.*;
 import com.osmerion.quitte.internal.binding.*;
 import com.osmerion.quitte.value.*;
@@ -60,7 +61,7 @@ public abstract class SimpleLongExpression extends AbstractLongExpression {
      * @since   0.1.0
      */
     public static SimpleLongExpression of(ObservableBoolValue observable, BoolToLongFunction transform) {
-        return new Transform(ex -> new BoolToLongBinding(ex::doInvalidate, observable, transform));
+        return new Transform(observable, ex -> new BoolToLongBinding(() -> ex.scheduleInvalidation(observable), observable, transform));
     }
 
     /**
@@ -74,7 +75,7 @@ public abstract class SimpleLongExpression extends AbstractLongExpression {
      * @since   0.1.0
      */
     public static SimpleLongExpression of(ObservableByteValue observable, ByteToLongFunction transform) {
-        return new Transform(ex -> new ByteToLongBinding(ex::doInvalidate, observable, transform));
+        return new Transform(observable, ex -> new ByteToLongBinding(() -> ex.scheduleInvalidation(observable), observable, transform));
     }
 
     /**
@@ -88,7 +89,7 @@ public abstract class SimpleLongExpression extends AbstractLongExpression {
      * @since   0.1.0
      */
     public static SimpleLongExpression of(ObservableShortValue observable, ShortToLongFunction transform) {
-        return new Transform(ex -> new ShortToLongBinding(ex::doInvalidate, observable, transform));
+        return new Transform(observable, ex -> new ShortToLongBinding(() -> ex.scheduleInvalidation(observable), observable, transform));
     }
 
     /**
@@ -102,7 +103,7 @@ public abstract class SimpleLongExpression extends AbstractLongExpression {
      * @since   0.1.0
      */
     public static SimpleLongExpression of(ObservableIntValue observable, IntToLongFunction transform) {
-        return new Transform(ex -> new IntToLongBinding(ex::doInvalidate, observable, transform));
+        return new Transform(observable, ex -> new IntToLongBinding(() -> ex.scheduleInvalidation(observable), observable, transform));
     }
 
     /**
@@ -116,7 +117,7 @@ public abstract class SimpleLongExpression extends AbstractLongExpression {
      * @since   0.1.0
      */
     public static SimpleLongExpression of(ObservableLongValue observable, LongToLongFunction transform) {
-        return new Transform(ex -> new LongToLongBinding(ex::doInvalidate, observable, transform));
+        return new Transform(observable, ex -> new LongToLongBinding(() -> ex.scheduleInvalidation(observable), observable, transform));
     }
 
     /**
@@ -130,7 +131,7 @@ public abstract class SimpleLongExpression extends AbstractLongExpression {
      * @since   0.1.0
      */
     public static SimpleLongExpression of(ObservableFloatValue observable, FloatToLongFunction transform) {
-        return new Transform(ex -> new FloatToLongBinding(ex::doInvalidate, observable, transform));
+        return new Transform(observable, ex -> new FloatToLongBinding(() -> ex.scheduleInvalidation(observable), observable, transform));
     }
 
     /**
@@ -144,7 +145,7 @@ public abstract class SimpleLongExpression extends AbstractLongExpression {
      * @since   0.1.0
      */
     public static SimpleLongExpression of(ObservableDoubleValue observable, DoubleToLongFunction transform) {
-        return new Transform(ex -> new DoubleToLongBinding(ex::doInvalidate, observable, transform));
+        return new Transform(observable, ex -> new DoubleToLongBinding(() -> ex.scheduleInvalidation(observable), observable, transform));
     }
 
     /**
@@ -159,7 +160,698 @@ public abstract class SimpleLongExpression extends AbstractLongExpression {
      * @since   0.1.0
      */
     public static <S> SimpleLongExpression of(ObservableObjectValue<S> observable, ObjectToLongFunction<S> transform) {
-        return new Transform(ex -> new ObjectToLongBinding<>(ex::doInvalidate, observable, transform));
+        return new Transform(observable, ex -> new ObjectToLongBinding<>(() -> ex.scheduleInvalidation(observable), observable, transform));
+    }
+
+    /**
+     * Returns a new simple expression which combines the values of the given observables using the given function.
+     *
+     * <p>The expression depends directly on each of the given observables. Unlike dependencies that are added using
+     * {@link #addDependency(Observable)}, these dependencies are tracked without any additional bookkeeping.</p>
+     *
+     * @param a             the first observable
+     * @param b             the second observable
+     * @param transform     the function that combines the values
+     *
+     * @return  a new simple expression which combines the values of the given observables
+     *
+     * @since   0.9.0
+     */
+    public static SimpleLongExpression combine(ObservableBoolValue a, ObservableBoolValue b, BoolBoolToLongFunction transform) {
+        return new Transform(new Observable[] { a, b }, ex -> new BoolBoolToLongBinding(ex::scheduleInvalidation, a, b, transform));
+    }
+
+    /**
+     * Returns a new simple expression which combines the values of the given observables using the given function.
+     *
+     * <p>The expression depends directly on each of the given observables. Unlike dependencies that are added using
+     * {@link #addDependency(Observable)}, these dependencies are tracked without any additional bookkeeping.</p>
+     *
+     * @param a             the first observable
+     * @param b             the second observable
+     * @param c             the third observable
+     * @param transform     the function that combines the values
+     *
+     * @return  a new simple expression which combines the values of the given observables
+     *
+     * @since   0.9.0
+     */
+    public static SimpleLongExpression combine(ObservableBoolValue a, ObservableBoolValue b, ObservableBoolValue c, BoolBoolBoolToLongFunction transform) {
+        return new Transform(new Observable[] { a, b, c }, ex -> new BoolBoolBoolToLongBinding(ex::scheduleInvalidation, a, b, c, transform));
+    }
+
+    /**
+     * Returns a new simple expression which combines the values of the given observables using the given function.
+     *
+     * <p>The expression depends directly on each of the given observables. Unlike dependencies that are added using
+     * {@link #addDependency(Observable)}, these dependencies are tracked without any additional bookkeeping.</p>
+     *
+     * @param a             the first observable
+     * @param b             the second observable
+     * @param c             the third observable
+     * @param d             the fourth observable
+     * @param transform     the function that combines the values
+     *
+     * @return  a new simple expression which combines the values of the given observables
+     *
+     * @since   0.9.0
+     */
+    public static SimpleLongExpression combine(ObservableBoolValue a, ObservableBoolValue b, ObservableBoolValue c, ObservableBoolValue d, BoolBoolBoolBoolToLongFunction transform) {
+        return new Transform(new Observable[] { a, b, c, d }, ex -> new BoolBoolBoolBoolToLongBinding(ex::scheduleInvalidation, a, b, c, d, transform));
+    }
+
+    /**
+     * Returns a new simple expression which combines the values of the given observables using the given function.
+     *
+     * <p>The expression depends directly on each of the given observables. Unlike dependencies that are added using
+     * {@link #addDependency(Observable)}, these dependencies are tracked without any additional bookkeeping.</p>
+     *
+     * @param a             the first observable
+     * @param b             the second observable
+     * @param transform     the function that combines the values
+     *
+     * @return  a new simple expression which combines the values of the given observables
+     *
+     * @since   0.9.0
+     */
+    public static SimpleLongExpression combine(ObservableByteValue a, ObservableByteValue b, ByteByteToLongFunction transform) {
+        return new Transform(new Observable[] { a, b }, ex -> new ByteByteToLongBinding(ex::scheduleInvalidation, a, b, transform));
+    }
+
+    /**
+     * Returns a new simple expression which combines the values of the given observables using the given function.
+     *
+     * <p>The expression depends directly on each of the given observables. Unlike dependencies that are added using
+     * {@link #addDependency(Observable)}, these dependencies are tracked without any additional bookkeeping.</p>
+     *
+     * @param a             the first observable
+     * @param b             the second observable
+     * @param c             the third observable
+     * @param transform     the function that combines the values
+     *
+     * @return  a new simple expression which combines the values of the given observables
+     *
+     * @since   0.9.0
+     */
+    public static SimpleLongExpression combine(ObservableByteValue a, ObservableByteValue b, ObservableByteValue c, ByteByteByteToLongFunction transform) {
+        return new Transform(new Observable[] { a, b, c }, ex -> new ByteByteByteToLongBinding(ex::scheduleInvalidation, a, b, c, transform));
+    }
+
+    /**
+     * Returns a new simple expression which combines the values of the given observables using the given function.
+     *
+     * <p>The expression depends directly on each of the given observables. Unlike dependencies that are added using
+     * {@link #addDependency(Observable)}, these dependencies are tracked without any additional bookkeeping.</p>
+     *
+     * @param a             the first observable
+     * @param b             the second observable
+     * @param c             the third observable
+     * @param d             the fourth observable
+     * @param transform     the function that combines the values
+     *
+     * @return  a new simple expression which combines the values of the given observables
+     *
+     * @since   0.9.0
+     */
+    public static SimpleLongExpression combine(ObservableByteValue a, ObservableByteValue b, ObservableByteValue c, ObservableByteValue d, ByteByteByteByteToLongFunction transform) {
+        return new Transform(new Observable[] { a, b, c, d }, ex -> new ByteByteByteByteToLongBinding(ex::scheduleInvalidation, a, b, c, d, transform));
+    }
+
+    /**
+     * Returns a new simple expression which combines the values of the given observables using the given function.
+     *
+     * <p>The expression depends directly on each of the given observables. Unlike dependencies that are added using
+     * {@link #addDependency(Observable)}, these dependencies are tracked without any additional bookkeeping.</p>
+     *
+     * @param a             the first observable
+     * @param b             the second observable
+     * @param transform     the function that combines the values
+     *
+     * @return  a new simple expression which combines the values of the given observables
+     *
+     * @since   0.9.0
+     */
+    public static SimpleLongExpression combine(ObservableShortValue a, ObservableShortValue b, ShortShortToLongFunction transform) {
+        return new Transform(new Observable[] { a, b }, ex -> new ShortShortToLongBinding(ex::scheduleInvalidation, a, b, transform));
+    }
+
+    /**
+     * Returns a new simple expression which combines the values of the given observables using the given function.
+     *
+     * <p>The expression depends directly on each of the given observables. Unlike dependencies that are added using
+     * {@link #addDependency(Observable)}, these dependencies are tracked without any additional bookkeeping.</p>
+     *
+     * @param a             the first observable
+     * @param b             the second observable
+     * @param c             the third observable
+     * @param transform     the function that combines the values
+     *
+     * @return  a new simple expression which combines the values of the given observables
+     *
+     * @since   0.9.0
+     */
+    public static SimpleLongExpression combine(ObservableShortValue a, ObservableShortValue b, ObservableShortValue c, ShortShortShortToLongFunction transform) {
+        return new Transform(new Observable[] { a, b, c }, ex -> new ShortShortShortToLongBinding(ex::scheduleInvalidation, a, b, c, transform));
+    }
+
+    /**
+     * Returns a new simple expression which combines the values of the given observables using the given function.
+     *
+     * <p>The expression depends directly on each of the given observables. Unlike dependencies that are added using
+     * {@link #addDependency(Observable)}, these dependencies are tracked without any additional bookkeeping.</p>
+     *
+     * @param a             the first observable
+     * @param b             the second observable
+     * @param c             the third observable
+     * @param d             the fourth observable
+     * @param transform     the function that combines the values
+     *
+     * @return  a new simple expression which combines the values of the given observables
+     *
+     * @since   0.9.0
+     */
+    public static SimpleLongExpression combine(ObservableShortValue a, ObservableShortValue b, ObservableShortValue c, ObservableShortValue d, ShortShortShortShortToLongFunction transform) {
+        return new Transform(new Observable[] { a, b, c, d }, ex -> new ShortShortShortShortToLongBinding(ex::scheduleInvalidation, a, b, c, d, transform));
+    }
+
+    /**
+     * Returns a new simple expression which combines the values of the given observables using the given function.
+     *
+     * <p>The expression depends directly on each of the given observables. Unlike dependencies that are added using
+     * {@link #addDependency(Observable)}, these dependencies are tracked without any additional bookkeeping.</p>
+     *
+     * @param a             the first observable
+     * @param b             the second observable
+     * @param transform     the function that combines the values
+     *
+     * @return  a new simple expression which combines the values of the given observables
+     *
+     * @since   0.9.0
+     */
+    public static SimpleLongExpression combine(ObservableIntValue a, ObservableIntValue b, IntIntToLongFunction transform) {
+        return new Transform(new Observable[] { a, b }, ex -> new IntIntToLongBinding(ex::scheduleInvalidation, a, b, transform));
+    }
+
+    /**
+     * Returns a new simple expression which combines the values of the given observables using the given function.
+     *
+     * <p>The expression depends directly on each of the given observables. Unlike dependencies that are added using
+     * {@link #addDependency(Observable)}, these dependencies are tracked without any additional bookkeeping.</p>
+     *
+     * @param a             the first observable
+     * @param b             the second observable
+     * @param c             the third observable
+     * @param transform     the function that combines the values
+     *
+     * @return  a new simple expression which combines the values of the given observables
+     *
+     * @since   0.9.0
+     */
+    public static SimpleLongExpression combine(ObservableIntValue a, ObservableIntValue b, ObservableIntValue c, IntIntIntToLongFunction transform) {
+        return new Transform(new Observable[] { a, b, c }, ex -> new IntIntIntToLongBinding(ex::scheduleInvalidation, a, b, c, transform));
+    }
+
+    /**
+     * Returns a new simple expression which combines the values of the given observables using the given function.
+     *
+     * <p>The expression depends directly on each of the given observables. Unlike dependencies that are added using
+     * {@link #addDependency(Observable)}, these dependencies are tracked without any additional bookkeeping.</p>
+     *
+     * @param a             the first observable
+     * @param b             the second observable
+     * @param c             the third observable
+     * @param d             the fourth observable
+     * @param transform     the function that combines the values
+     *
+     * @return  a new simple expression which combines the values of the given observables
+     *
+     * @since   0.9.0
+     */
+    public static SimpleLongExpression combine(ObservableIntValue a, ObservableIntValue b, ObservableIntValue c, ObservableIntValue d, IntIntIntIntToLongFunction transform) {
+        return new Transform(new Observable[] { a, b, c, d }, ex -> new IntIntIntIntToLongBinding(ex::scheduleInvalidation, a, b, c, d, transform));
+    }
+
+    /**
+     * Returns a new simple expression which combines the values of the given observables using the given function.
+     *
+     * <p>The expression depends directly on each of the given observables. Unlike dependencies that are added using
+     * {@link #addDependency(Observable)}, these dependencies are tracked without any additional bookkeeping.</p>
+     *
+     * @param a             the first observable
+     * @param b             the second observable
+     * @param transform     the function that combines the values
+     *
+     * @return  a new simple expression which combines the values of the given observables
+     *
+     * @since   0.9.0
+     */
+    public static SimpleLongExpression combine(ObservableLongValue a, ObservableLongValue b, LongLongToLongFunction transform) {
+        return new Transform(new Observable[] { a, b }, ex -> new LongLongToLongBinding(ex::scheduleInvalidation, a, b, transform));
+    }
+
+    /**
+     * Returns a new simple expression which combines the values of the given observables using the given function.
+     *
+     * <p>The expression depends directly on each of the given observables. Unlike dependencies that are added using
+     * {@link #addDependency(Observable)}, these dependencies are tracked without any additional bookkeeping.</p>
+     *
+     * @param a             the first observable
+     * @param b             the second observable
+     * @param c             the third observable
+     * @param transform     the function that combines the values
+     *
+     * @return  a new simple expression which combines the values of the given observables
+     *
+     * @since   0.9.0
+     */
+    public static SimpleLongExpression combine(ObservableLongValue a, ObservableLongValue b, ObservableLongValue c, LongLongLongToLongFunction transform) {
+        return new Transform(new Observable[] { a, b, c }, ex -> new LongLongLongToLongBinding(ex::scheduleInvalidation, a, b, c, transform));
+    }
+
+    /**
+     * Returns a new simple expression which combines the values of the given observables using the given function.
+     *
+     * <p>The expression depends directly on each of the given observables. Unlike dependencies that are added using
+     * {@link #addDependency(Observable)}, these dependencies are tracked without any additional bookkeeping.</p>
+     *
+     * @param a             the first observable
+     * @param b             the second observable
+     * @param c             the third observable
+     * @param d             the fourth observable
+     * @param transform     the function that combines the values
+     *
+     * @return  a new simple expression which combines the values of the given observables
+     *
+     * @since   0.9.0
+     */
+    public static SimpleLongExpression combine(ObservableLongValue a, ObservableLongValue b, ObservableLongValue c, ObservableLongValue d, LongLongLongLongToLongFunction transform) {
+        return new Transform(new Observable[] { a, b, c, d }, ex -> new LongLongLongLongToLongBinding(ex::scheduleInvalidation, a, b, c, d, transform));
+    }
+
+    /**
+     * Returns a new simple expression which combines the values of the given observables using the given function.
+     *
+     * <p>The expression depends directly on each of the given observables. Unlike dependencies that are added using
+     * {@link #addDependency(Observable)}, these dependencies are tracked without any additional bookkeeping.</p>
+     *
+     * @param a             the first observable
+     * @param b             the second observable
+     * @param transform     the function that combines the values
+     *
+     * @return  a new simple expression which combines the values of the given observables
+     *
+     * @since   0.9.0
+     */
+    public static SimpleLongExpression combine(ObservableFloatValue a, ObservableFloatValue b, FloatFloatToLongFunction transform) {
+        return new Transform(new Observable[] { a, b }, ex -> new FloatFloatToLongBinding(ex::scheduleInvalidation, a, b, transform));
+    }
+
+    /**
+     * Returns a new simple expression which combines the values of the given observables using the given function.
+     *
+     * <p>The expression depends directly on each of the given observables. Unlike dependencies that are added using
+     * {@link #addDependency(Observable)}, these dependencies are tracked without any additional bookkeeping.</p>
+     *
+     * @param a             the first observable
+     * @param b             the second observable
+     * @param c             the third observable
+     * @param transform     the function that combines the values
+     *
+     * @return  a new simple expression which combines the values of the given observables
+     *
+     * @since   0.9.0
+     */
+    public static SimpleLongExpression combine(ObservableFloatValue a, ObservableFloatValue b, ObservableFloatValue c, FloatFloatFloatToLongFunction transform) {
+        return new Transform(new Observable[] { a, b, c }, ex -> new FloatFloatFloatToLongBinding(ex::scheduleInvalidation, a, b, c, transform));
+    }
+
+    /**
+     * Returns a new simple expression which combines the values of the given observables using the given function.
+     *
+     * <p>The expression depends directly on each of the given observables. Unlike dependencies that are added using
+     * {@link #addDependency(Observable)}, these dependencies are tracked without any additional bookkeeping.</p>
+     *
+     * @param a             the first observable
+     * @param b             the second observable
+     * @param c             the third observable
+     * @param d             the fourth observable
+     * @param transform     the function that combines the values
+     *
+     * @return  a new simple expression which combines the values of the given observables
+     *
+     * @since   0.9.0
+     */
+    public static SimpleLongExpression combine(ObservableFloatValue a, ObservableFloatValue b, ObservableFloatValue c, ObservableFloatValue d, FloatFloatFloatFloatToLongFunction transform) {
+        return new Transform(new Observable[] { a, b, c, d }, ex -> new FloatFloatFloatFloatToLongBinding(ex::scheduleInvalidation, a, b, c, d, transform));
+    }
+
+    /**
+     * Returns a new simple expression which combines the values of the given observables using the given function.
+     *
+     * <p>The expression depends directly on each of the given observables. Unlike dependencies that are added using
+     * {@link #addDependency(Observable)}, these dependencies are tracked without any additional bookkeeping.</p>
+     *
+     * @param a             the first observable
+     * @param b             the second observable
+     * @param transform     the function that combines the values
+     *
+     * @return  a new simple expression which combines the values of the given observables
+     *
+     * @since   0.9.0
+     */
+    public static SimpleLongExpression combine(ObservableDoubleValue a, ObservableDoubleValue b, DoubleDoubleToLongFunction transform) {
+        return new Transform(new Observable[] { a, b }, ex -> new DoubleDoubleToLongBinding(ex::scheduleInvalidation, a, b, transform));
+    }
+
+    /**
+     * Returns a new simple expression which combines the values of the given observables using the given function.
+     *
+     * <p>The expression depends directly on each of the given observables. Unlike dependencies that are added using
+     * {@link #addDependency(Observable)}, these dependencies are tracked without any additional bookkeeping.</p>
+     *
+     * @param a             the first observable
+     * @param b             the second observable
+     * @param c             the third observable
+     * @param transform     the function that combines the values
+     *
+     * @return  a new simple expression which combines the values of the given observables
+     *
+     * @since   0.9.0
+     */
+    public static SimpleLongExpression combine(ObservableDoubleValue a, ObservableDoubleValue b, ObservableDoubleValue c, DoubleDoubleDoubleToLongFunction transform) {
+        return new Transform(new Observable[] { a, b, c }, ex -> new DoubleDoubleDoubleToLongBinding(ex::scheduleInvalidation, a, b, c, transform));
+    }
+
+    /**
+     * Returns a new simple expression which combines the values of the given observables using the given function.
+     *
+     * <p>The expression depends directly on each of the given observables. Unlike dependencies that are added using
+     * {@link #addDependency(Observable)}, these dependencies are tracked without any additional bookkeeping.</p>
+     *
+     * @param a             the first observable
+     * @param b             the second observable
+     * @param c             the third observable
+     * @param d             the fourth observable
+     * @param transform     the function that combines the values
+     *
+     * @return  a new simple expression which combines the values of the given observables
+     *
+     * @since   0.9.0
+     */
+    public static SimpleLongExpression combine(ObservableDoubleValue a, ObservableDoubleValue b, ObservableDoubleValue c, ObservableDoubleValue d, DoubleDoubleDoubleDoubleToLongFunction transform) {
+        return new Transform(new Observable[] { a, b, c, d }, ex -> new DoubleDoubleDoubleDoubleToLongBinding(ex::scheduleInvalidation, a, b, c, d, transform));
+    }
+
+    /**
+     * Returns a new simple expression which combines the values of the given observables using the given function.
+     *
+     * <p>The expression depends directly on each of the given observables. Unlike dependencies that are added using
+     * {@link #addDependency(Observable)}, these dependencies are tracked without any additional bookkeeping.</p>
+     *
+     * @param <A>           the type of the first value
+     * @param <B>           the type of the second value
+     * @param a             the first observable
+     * @param b             the second observable
+     * @param transform     the function that combines the values
+     *
+     * @return  a new simple expression which combines the values of the given observables
+     *
+     * @since   0.9.0
+     */
+    public static <A, B> SimpleLongExpression combine(ObservableObjectValue<A> a, ObservableObjectValue<B> b, ObjectObjectToLongFunction<A, B> transform) {
+        return new Transform(new Observable[] { a, b }, ex -> new ObjectObjectToLongBinding<>(ex::scheduleInvalidation, a, b, transform));
+    }
+
+    /**
+     * Returns a new simple expression which combines the values of the given observables using the given function.
+     *
+     * <p>The expression depends directly on each of the given observables. Unlike dependencies that are added using
+     * {@link #addDependency(Observable)}, these dependencies are tracked without any additional bookkeeping.</p>
+     *
+     * @param <A>           the type of the first value
+     * @param <B>           the type of the second value
+     * @param <C>           the type of the third value
+     * @param a             the first observable
+     * @param b             the second observable
+     * @param c             the third observable
+     * @param transform     the function that combines the values
+     *
+     * @return  a new simple expression which combines the values of the given observables
+     *
+     * @since   0.9.0
+     */
+    public static <A, B, C> SimpleLongExpression combine(ObservableObjectValue<A> a, ObservableObjectValue<B> b, ObservableObjectValue<C> c, ObjectObjectObjectToLongFunction<A, B, C> transform) {
+        return new Transform(new Observable[] { a, b, c }, ex -> new ObjectObjectObjectToLongBinding<>(ex::scheduleInvalidation, a, b, c, transform));
+    }
+
+    /**
+     * Returns a new simple expression which combines the values of the given observables using the given function.
+     *
+     * <p>The expression depends directly on each of the given observables. Unlike dependencies that are added using
+     * {@link #addDependency(Observable)}, these dependencies are tracked without any additional bookkeeping.</p>
+     *
+     * @param <A>           the type of the first value
+     * @param <B>           the type of the second value
+     * @param <C>           the type of the third value
+     * @param <D>           the type of the fourth value
+     * @param a             the first observable
+     * @param b             the second observable
+     * @param c             the third observable
+     * @param d             the fourth observable
+     * @param transform     the function that combines the values
+     *
+     * @return  a new simple expression which combines the values of the given observables
+     *
+     * @since   0.9.0
+     */
+    public static <A, B, C, D> SimpleLongExpression combine(ObservableObjectValue<A> a, ObservableObjectValue<B> b, ObservableObjectValue<C> c, ObservableObjectValue<D> d, ObjectObjectObjectObjectToLongFunction<A, B, C, D> transform) {
+        return new Transform(new Observable[] { a, b, c, d }, ex -> new ObjectObjectObjectObjectToLongBinding<>(ex::scheduleInvalidation, a, b, c, d, transform));
+    }
+
+    /**
+     * Returns a new simple expression that evaluates to the sum of the values of the elements of the given list.
+     *
+     * <p>The value of the expression is updated incrementally from the changes to the list. The function is only
+     * applied to elements that are added to or removed from the list. Thus, it must return the same result for an
+     * element as long as the element is contained in the list.</p>
+     *
+     * <p>The sum overflows silently.</p>
+     *
+     * @param <E>           the type of the elements
+     * @param list          the list
+     * @param function      the function that computes the value for an element
+     *
+     * @return  a new simple expression that evaluates to the sum of the values of the elements of the given list
+     *
+     * @since   0.9.0
+     */
+    public static <E> SimpleLongExpression sumOf(ObservableList<E> list, ObjectToLongFunction<? super E> function) {
+        return new Transform(list, ex -> new AggregateBinding.LongSum<>(() -> ex.scheduleInvalidation(list), list, function));
+    }
+
+    /**
+     * Returns a new simple expression that evaluates to the sum of the values of the elements of the given set.
+     *
+     * <p>The value of the expression is updated incrementally from the changes to the set. The function is only
+     * applied to elements that are added to or removed from the set. Thus, it must return the same result for an
+     * element as long as the element is contained in the set.</p>
+     *
+     * <p>The sum overflows silently.</p>
+     *
+     * @param <E>           the type of the elements
+     * @param set           the set
+     * @param function      the function that computes the value for an element
+     *
+     * @return  a new simple expression that evaluates to the sum of the values of the elements of the given set
+     *
+     * @since   0.9.0
+     */
+    public static <E> SimpleLongExpression sumOf(ObservableSet<E> set, ObjectToLongFunction<? super E> function) {
+        return new Transform(set, ex -> new AggregateBinding.LongSum<>(() -> ex.scheduleInvalidation(set), set, function));
+    }
+
+    /**
+     * Returns a new simple expression that evaluates to the smallest value of the elements of the given list.
+     *
+     * <p>The value of the expression is updated incrementally from the changes to the list. The function is only
+     * applied to elements that are added to or removed from the list. Thus, it must return the same result for an
+     * element as long as the element is contained in the list.</p>
+     *
+     * @param <E>           the type of the elements
+     * @param list          the list
+     * @param function      the function that computes the value for an element
+     * @param defaultValue  the value of the expression if the list is empty
+     *
+     * @return  a new simple expression that evaluates to the smallest value of the elements of the given list
+     *
+     * @since   0.9.0
+     */
+    public static <E> SimpleLongExpression minOf(ObservableList<E> list, ObjectToLongFunction<? super E> function, long defaultValue) {
+        return new Transform(list, ex -> new AggregateBinding.LongExtremum<>(() -> ex.scheduleInvalidation(list), list, function, false, defaultValue));
+    }
+
+    /**
+     * Returns a new simple expression that evaluates to the smallest value of the elements of the given set.
+     *
+     * <p>The value of the expression is updated incrementally from the changes to the set. The function is only
+     * applied to elements that are added to or removed from the set. Thus, it must return the same result for an
+     * element as long as the element is contained in the set.</p>
+     *
+     * @param <E>           the type of the elements
+     * @param set           the set
+     * @param function      the function that computes the value for an element
+     * @param defaultValue  the value of the expression if the set is empty
+     *
+     * @return  a new simple expression that evaluates to the smallest value of the elements of the given set
+     *
+     * @since   0.9.0
+     */
+    public static <E> SimpleLongExpression minOf(ObservableSet<E> set, ObjectToLongFunction<? super E> function, long defaultValue) {
+        return new Transform(set, ex -> new AggregateBinding.LongExtremum<>(() -> ex.scheduleInvalidation(set), set, function, false, defaultValue));
+    }
+
+    /**
+     * Returns a new simple expression that evaluates to the greatest value of the elements of the given list.
+     *
+     * <p>The value of the expression is updated incrementally from the changes to the list. The function is only
+     * applied to elements that are added to or removed from the list. Thus, it must return the same result for an
+     * element as long as the element is contained in the list.</p>
+     *
+     * @param <E>           the type of the elements
+     * @param list          the list
+     * @param function      the function that computes the value for an element
+     * @param defaultValue  the value of the expression if the list is empty
+     *
+     * @return  a new simple expression that evaluates to the greatest value of the elements of the given list
+     *
+     * @since   0.9.0
+     */
+    public static <E> SimpleLongExpression maxOf(ObservableList<E> list, ObjectToLongFunction<? super E> function, long defaultValue) {
+        return new Transform(list, ex -> new AggregateBinding.LongExtremum<>(() -> ex.scheduleInvalidation(list), list, function, true, defaultValue));
+    }
+
+    /**
+     * Returns a new simple expression that evaluates to the greatest value of the elements of the given set.
+     *
+     * <p>The value of the expression is updated incrementally from the changes to the set. The function is only
+     * applied to elements that are added to or removed from the set. Thus, it must return the same result for an
+     * element as long as the element is contained in the set.</p>
+     *
+     * @param <E>           the type of the elements
+     * @param set           the set
+     * @param function      the function that computes the value for an element
+     * @param defaultValue  the value of the expression if the set is empty
+     *
+     * @return  a new simple expression that evaluates to the greatest value of the elements of the given set
+     *
+     * @since   0.9.0
+     */
+    public static <E> SimpleLongExpression maxOf(ObservableSet<E> set, ObjectToLongFunction<? super E> function, long defaultValue) {
+        return new Transform(set, ex -> new AggregateBinding.LongExtremum<>(() -> ex.scheduleInvalidation(set), set, function, true, defaultValue));
+    }
+
+    /**
+     * Returns a new simple expression which follows a path of nested observables starting at the given root.
+     *
+     * <p>Each selector is applied to the value of the previous observable in the path to obtain the next observable.
+     * The expression evaluates to the value of the last observable in the path, or to
+     * {@code 0} if any value along the path is {@code null}.</p>
+     *
+     * <p>Every observable in the path and its value are cached. When an observable in the path is invalidated, only
+     * the part of the path below it is walked again, and selectors are only applied to values that have changed. The
+     * observables in the path only reference the expression weakly.</p>
+     *
+     * @param <A>       the type of the value of the root observable
+     * @param root      the root observable
+     * @param first     the selector for the observable that provides the value
+     *
+     * @return  a new simple expression which follows a path of nested observables starting at the given root
+     *
+     * @since   0.9.0
+     */
+    public static <A> SimpleLongExpression select(ObservableObjectValue<A> root, Function<? super A, ? extends ObservableLongValue> first) {
+        return new Transform(root, ex -> new LongBinding.Selection(ex::scheduleInvalidation, root, false, first));
+    }
+
+    /**
+     * Returns a new simple expression which follows a path of nested observables starting at the given root.
+     *
+     * <p>Each selector is applied to the value of the previous observable in the path to obtain the next observable.
+     * The expression evaluates to the value of the last observable in the path, or to
+     * {@code 0} if any value along the path is {@code null}.</p>
+     *
+     * <p>Every observable in the path and its value are cached. When an observable in the path is invalidated, only
+     * the part of the path below it is walked again, and selectors are only applied to values that have changed. The
+     * observables in the path only reference the expression weakly.</p>
+     *
+     * @param <A>       the type of the value of the root observable
+     * @param <B>       the type of the value of the first selected observable
+     * @param root      the root observable
+     * @param first     the first selector
+     * @param second    the selector for the observable that provides the value
+     *
+     * @return  a new simple expression which follows a path of nested observables starting at the given root
+     *
+     * @since   0.9.0
+     */
+    public static <A, B> SimpleLongExpression select(ObservableObjectValue<A> root, Function<? super A, ? extends ObservableObjectValue<B>> first, Function<? super B, ? extends ObservableLongValue> second) {
+        return new Transform(root, ex -> new LongBinding.Selection(ex::scheduleInvalidation, root, false, first, second));
+    }
+
+    /**
+     * Returns a new simple expression which follows a path of nested observables starting at the given root.
+     *
+     * <p>Each selector is applied to the value of the previous observable in the path to obtain the next observable.
+     * The expression evaluates to the value of the last observable in the path, or to
+     * {@code 0} if any value along the path is {@code null}.</p>
+     *
+     * <p>Every observable in the path and its value are cached. When an observable in the path is invalidated, only
+     * the part of the path below it is walked again, and selectors are only applied to values that have changed. The
+     * observables in the path only reference the expression weakly.</p>
+     *
+     * @param <A>       the type of the value of the root observable
+     * @param <B>       the type of the value of the first selected observable
+     * @param <C>       the type of the value of the second selected observable
+     * @param root      the root observable
+     * @param first     the first selector
+     * @param second    the second selector
+     * @param third     the selector for the observable that provides the value
+     *
+     * @return  a new simple expression which follows a path of nested observables starting at the given root
+     *
+     * @since   0.9.0
+     */
+    public static <A, B, C> SimpleLongExpression select(ObservableObjectValue<A> root, Function<? super A, ? extends ObservableObjectValue<B>> first, Function<? super B, ? extends ObservableObjectValue<C>> second, Function<? super C, ? extends ObservableLongValue> third) {
+        return new Transform(root, ex -> new LongBinding.Selection(ex::scheduleInvalidation, root, false, first, second, third));
+    }
+
+    /**
+     * Returns a new simple expression which follows a path of nested observables starting at the given root.
+     *
+     * <p>Each selector is applied to the value of the previous observable in the path to obtain the next observable.
+     * The expression evaluates to the value of the last observable in the path, or to
+     * {@code 0} if any value along the path is {@code null}.</p>
+     *
+     * <p>Every observable in the path and its value are cached. When an observable in the path is invalidated, only
+     * the part of the path below it is walked again, and selectors are only applied to values that have changed. The
+     * observables in the path only reference the expression weakly.</p>
+     *
+     * @param <A>       the type of the value of the root observable
+     * @param <B>       the type of the value of the first selected observable
+     * @param <C>       the type of the value of the second selected observable
+     * @param <D>       the type of the value of the third selected observable
+     * @param root      the root observable
+     * @param first     the first selector
+     * @param second    the second selector
+     * @param third     the third selector
+     * @param fourth    the selector for the observable that provides the value
+     *
+     * @return  a new simple expression which follows a path of nested observables starting at the given root
+     *
+     * @since   0.9.0
+     */
+    public static <A, B, C, D> SimpleLongExpression select(ObservableObjectValue<A> root, Function<? super A, ? extends ObservableObjectValue<B>> first, Function<? super B, ? extends ObservableObjectValue<C>> second, Function<? super C, ? extends ObservableObjectValue<D>> third, Function<? super D, ? extends ObservableLongValue> fourth) {
+        return new Transform(root, ex -> new LongBinding.Selection(ex::scheduleInvalidation, root, false, first, second, third, fourth));
     }
 
     /**
@@ -176,33 +868,7 @@ public abstract class SimpleLongExpression extends AbstractLongExpression {
      * @since   0.1.0
      */
     public static <S> SimpleLongExpression ofNested(ObservableObjectValue<S> observable, Function<S, ObservableLongValue> selector) {
-        return new SimpleLongExpression() {
-
-            final InvalidationListener nestedPropertyListener = ignored -> this.doInvalidate();
-
-            {
-                observable.addInvalidationListener(ignored -> this.doInvalidate());
-
-                ObjectChangeListener<S> parentChangeListener = (ignored, oldValue, newValue) -> {
-                    if (oldValue != null) {
-                        var nestedProperty = selector.apply(oldValue);
-                        nestedProperty.removeInvalidationListener(this.nestedPropertyListener);
-                    }
-
-                    var nestedProperty = selector.apply(Objects.requireNonNull(newValue));
-                    nestedProperty.addInvalidationListener(this.nestedPropertyListener);
-                };
-                observable.addChangeListener(parentChangeListener);
-                parentChangeListener.onChanged(observable, null, observable.get());
-            }
-
-            @Override
-            protected long recomputeValue() {
-                var parent = observable.get();
-                return selector.apply(Objects.requireNonNull(parent)).get();
-            }
-
-        };
+        return new Transform(observable, ex -> new LongBinding.Selection(ex::scheduleInvalidation, observable, true, selector));
     }
 
     private long value;
@@ -232,7 +898,14 @@ public abstract class SimpleLongExpression extends AbstractLongExpression {
 
         private final transient LongBinding binding;
 
-        private Transform(Function<SimpleLongExpression, LongBinding> factory) {
+        private Transform(Observable source, Function<SimpleLongExpression, LongBinding> factory) {
+            this.rankAfter(source);
+            this.binding = factory.apply(this);
+            this.invalidate();
+        }
+
+        private Transform(Observable[] sources, Function<SimpleLongExpression, LongBinding> factory) {
+            for (Observable source : sources) this.rankAfter(source);
             this.binding = factory.apply(this);
             this.invalidate();
         }
@@ -63,7 +63,7 @@ public abstract class SimpleObjectExpression<T> extends AbstractObjectExpression
      * @since   0.1.0
      */
     public static <T> SimpleObjectExpression<T> of(ObservableBoolValue observable, BoolToObjectFunction<T> transform) {
-        return new Transform<>(ex -> new BoolToObjectBinding<>(ex::doInvalidate, observable, transform));
+        return new Transform<>(observable, ex -> new BoolToObjectBinding<>(() -> ex.scheduleInvalidation(observable), observable, transform));
     }
 
     /**
@@ -78,7 +78,7 @@ public abstract class SimpleObjectExpression<T> extends AbstractObjectExpression
      * @since   0.1.0
      */
     public static <T> SimpleObjectExpression<T> of(ObservableByteValue observable, ByteToObjectFunction<T> transform) {
-        return new Transform<>(ex -> new ByteToObjectBinding<>(ex::doInvalidate, observable, transform));
+        return new Transform<>(observable, ex -> new ByteToObjectBinding<>(() -> ex.scheduleInvalidation(observable), observable, transform));
     }
 
     /**
@@ -93,7 +93,7 @@ public abstract class SimpleObjectExpression<T> extends AbstractObjectExpression
      * @since   0.1.0
      */
     public static <T> SimpleObjectExpression<T> of(ObservableShortValue observable, ShortToObjectFunction<T> transform) {
-        return new Transform<>(ex -> new ShortToObjectBinding<>(ex::doInvalidate, observable, transform));
+        return new Transform<>(observable, ex -> new ShortToObjectBinding<>(() -> ex.scheduleInvalidation(observable), observable, transform));
     }
 
     /**
@@ -108,7 +108,7 @@ public abstract class SimpleObjectExpression<T> extends AbstractObjectExpression
      * @since   0.1.0
      */
     public static <T> SimpleObjectExpression<T> of(ObservableIntValue observable, IntToObjectFunction<T> transform) {
-        return new Transform<>(ex -> new IntToObjectBinding<>(ex::doInvalidate, observable, transform));
+        return new Transform<>(observable, ex -> new IntToObjectBinding<>(() -> ex.scheduleInvalidation(observable), observable, transform));
     }
 
     /**
@@ -123,7 +123,7 @@ public abstract class SimpleObjectExpression<T> extends AbstractObjectExpression
      * @since   0.1.0
      */
     public static <T> SimpleObjectExpression<T> of(ObservableLongValue observable, LongToObjectFunction<T> transform) {
-        return new Transform<>(ex -> new LongToObjectBinding<>(ex::doInvalidate, observable, transform));
+        return new Transform<>(observable, ex -> new LongToObjectBinding<>(() -> ex.scheduleInvalidation(observable), observable, transform));
     }
 
     /**
@@ -138,7 +138,7 @@ public abstract class SimpleObjectExpression<T> extends AbstractObjectExpression
      * @since   0.1.0
      */
     public static <T> SimpleObjectExpression<T> of(ObservableFloatValue observable, FloatToObjectFunction<T> transform) {
-        return new Transform<>(ex -> new FloatToObjectBinding<>(ex::doInvalidate, observable, transform));
+        return new Transform<>(observable, ex -> new FloatToObjectBinding<>(() -> ex.scheduleInvalidation(observable), observable, transform));
     }
 
     /**
@@ -153,7 +153,7 @@ public abstract class SimpleObjectExpression<T> extends AbstractObjectExpression
      * @since   0.1.0
      */
     public static <T> SimpleObjectExpression<T> of(ObservableDoubleValue observable, DoubleToObjectFunction<T> transform) {
-        return new Transform<>(ex -> new DoubleToObjectBinding<>(ex::doInvalidate, observable, transform));
+        return new Transform<>(observable, ex -> new DoubleToObjectBinding<>(() -> ex.scheduleInvalidation(observable), observable, transform));
     }
 
     /**
@@ -169,7 +169,604 @@ public abstract class SimpleObjectExpression<T> extends AbstractObjectExpression
      * @since   0.1.0
      */
     public static <S, T> SimpleObjectExpression<T> of(ObservableObjectValue<S> observable, ObjectToObjectFunction<S, T> transform) {
-        return new Transform<>(ex -> new ObjectToObjectBinding<>(ex::doInvalidate, observable, transform));
+        return new Transform<>(observable, ex -> new ObjectToObjectBinding<>(() -> ex.scheduleInvalidation(observable), observable, transform));
+    }
+
+    /**
+     * Returns a new simple expression which combines the values of the given observables using the given function.
+     *
+     * <p>The expression depends directly on each of the given observables. Unlike dependencies that are added using
+     * {@link #addDependency(Observable)}, these dependencies are tracked without any additional bookkeeping.</p>
+     *
+     * @param <T>           the type of the target value
+     * @param a             the first observable
+     * @param b             the second observable
+     * @param transform     the function that combines the values
+     *
+     * @return  a new simple expression which combines the values of the given observables
+     *
+     * @since   0.9.0
+     */
+    public static <T> SimpleObjectExpression<T> combine(ObservableBoolValue a, ObservableBoolValue b, BoolBoolToObjectFunction<T> transform) {
+        return new Transform<>(new Observable[] { a, b }, ex -> new BoolBoolToObjectBinding<>(ex::scheduleInvalidation, a, b, transform));
+    }
+
+    /**
+     * Returns a new simple expression which combines the values of the given observables using the given function.
+     *
+     * <p>The expression depends directly on each of the given observables. Unlike dependencies that are added using
+     * {@link #addDependency(Observable)}, these dependencies are tracked without any additional bookkeeping.</p>
+     *
+     * @param <T>           the type of the target value
+     * @param a             the first observable
+     * @param b             the second observable
+     * @param c             the third observable
+     * @param transform     the function that combines the values
+     *
+     * @return  a new simple expression which combines the values of the given observables
+     *
+     * @since   0.9.0
+     */
+    public static <T> SimpleObjectExpression<T> combine(ObservableBoolValue a, ObservableBoolValue b, ObservableBoolValue c, BoolBoolBoolToObjectFunction<T> transform) {
+        return new Transform<>(new Observable[] { a, b, c }, ex -> new BoolBoolBoolToObjectBinding<>(ex::scheduleInvalidation, a, b, c, transform));
+    }
+
+    /**
+     * Returns a new simple expression which combines the values of the given observables using the given function.
+     *
+     * <p>The expression depends directly on each of the given observables. Unlike dependencies that are added using
+     * {@link #addDependency(Observable)}, these dependencies are tracked without any additional bookkeeping.</p>
+     *
+     * @param <T>           the type of the target value
+     * @param a             the first observable
+     * @param b             the second observable
+     * @param c             the third observable
+     * @param d             the fourth observable
+     * @param transform     the function that combines the values
+     *
+     * @return  a new simple expression which combines the values of the given observables
+     *
+     * @since   0.9.0
+     */
+    public static <T> SimpleObjectExpression<T> combine(ObservableBoolValue a, ObservableBoolValue b, ObservableBoolValue c, ObservableBoolValue d, BoolBoolBoolBoolToObjectFunction<T> transform) {
+        return new Transform<>(new Observable[] { a, b, c, d }, ex -> new BoolBoolBoolBoolToObjectBinding<>(ex::scheduleInvalidation, a, b, c, d, transform));
+    }
+
+    /**
+     * Returns a new simple expression which combines the values of the given observables using the given function.
+     *
+     * <p>The expression depends directly on each of the given observables. Unlike dependencies that are added using
+     * {@link #addDependency(Observable)}, these dependencies are tracked without any additional bookkeeping.</p>
+     *
+     * @param <T>           the type of the target value
+     * @param a             the first observable
+     * @param b             the second observable
+     * @param transform     the function that combines the values
+     *
+     * @return  a new simple expression which combines the values of the given observables
+     *
+     * @since   0.9.0
+     */
+    public static <T> SimpleObjectExpression<T> combine(ObservableByteValue a, ObservableByteValue b, ByteByteToObjectFunction<T> transform) {
+        return new Transform<>(new Observable[] { a, b }, ex -> new ByteByteToObjectBinding<>(ex::scheduleInvalidation, a, b, transform));
+    }
+
+    /**
+     * Returns a new simple expression which combines the values of the given observables using the given function.
+     *
+     * <p>The expression depends directly on each of the given observables. Unlike dependencies that are added using
+     * {@link #addDependency(Observable)}, these dependencies are tracked without any additional bookkeeping.</p>
+     *
+     * @param <T>           the type of the target value
+     * @param a             the first observable
+     * @param b             the second observable
+     * @param c             the third observable
+     * @param transform     the function that combines the values
+     *
+     * @return  a new simple expression which combines the values of the given observables
+     *
+     * @since   0.9.0
+     */
+    public static <T> SimpleObjectExpression<T> combine(ObservableByteValue a, ObservableByteValue b, ObservableByteValue c, ByteByteByteToObjectFunction<T> transform) {
+        return new Transform<>(new Observable[] { a, b, c }, ex -> new ByteByteByteToObjectBinding<>(ex::scheduleInvalidation, a, b, c, transform));
+    }
+
+    /**
+     * Returns a new simple expression which combines the values of the given observables using the given function.
+     *
+     * <p>The expression depends directly on each of the given observables. Unlike dependencies that are added using
+     * {@link #addDependency(Observable)}, these dependencies are tracked without any additional bookkeeping.</p>
+     *
+     * @param <T>           the type of the target value
+     * @param a             the first observable
+     * @param b             the second observable
+     * @param c             the third observable
+     * @param d             the fourth observable
+     * @param transform     the function that combines the values
+     *
+     * @return  a new simple expression which combines the values of the given observables
+     *
+     * @since   0.9.0
+     */
+    public static <T> SimpleObjectExpression<T> combine(ObservableByteValue a, ObservableByteValue b, ObservableByteValue c, ObservableByteValue d, ByteByteByteByteToObjectFunction<T> transform) {
+        return new Transform<>(new Observable[] { a, b, c, d }, ex -> new ByteByteByteByteToObjectBinding<>(ex::scheduleInvalidation, a, b, c, d, transform));
+    }
+
+    /**
+     * Returns a new simple expression which combines the values of the given observables using the given function.
+     *
+     * <p>The expression depends directly on each of the given observables. Unlike dependencies that are added using
+     * {@link #addDependency(Observable)}, these dependencies are tracked without any additional bookkeeping.</p>
+     *
+     * @param <T>           the type of the target value
+     * @param a             the first observable
+     * @param b             the second observable
+     * @param transform     the function that combines the values
+     *
+     * @return  a new simple expression which combines the values of the given observables
+     *
+     * @since   0.9.0
+     */
+    public static <T> SimpleObjectExpression<T> combine(ObservableShortValue a, ObservableShortValue b, ShortShortToObjectFunction<T> transform) {
+        return new Transform<>(new Observable[] { a, b }, ex -> new ShortShortToObjectBinding<>(ex::scheduleInvalidation, a, b, transform));
+    }
+
+    /**
+     * Returns a new simple expression which combines the values of the given observables using the given function.
+     *
+     * <p>The expression depends directly on each of the given observables. Unlike dependencies that are added using
+     * {@link #addDependency(Observable)}, these dependencies are tracked without any additional bookkeeping.</p>
+     *
+     * @param <T>           the type of the target value
+     * @param a             the first observable
+     * @param b             the second observable
+     * @param c             the third observable
+     * @param transform     the function that combines the values
+     *
+     * @return  a new simple expression which combines the values of the given observables
+     *
+     * @since   0.9.0
+     */
+    public static <T> SimpleObjectExpression<T> combine(ObservableShortValue a, ObservableShortValue b, ObservableShortValue c, ShortShortShortToObjectFunction<T> transform) {
+        return new Transform<>(new Observable[] { a, b, c }, ex -> new ShortShortShortToObjectBinding<>(ex::scheduleInvalidation, a, b, c, transform));
+    }
+
+    /**
+     * Returns a new simple expression which combines the values of the given observables using the given function.
+     *
+     * <p>The expression depends directly on each of the given observables. Unlike dependencies that are added using
+     * {@link #addDependency(Observable)}, these dependencies are tracked without any additional bookkeeping.</p>
+     *
+     * @param <T>           the type of the target value
+     * @param a             the first observable
+     * @param b             the second observable
+     * @param c             the third observable
+     * @param d             the fourth observable
+     * @param transform     the function that combines the values
+     *
+     * @return  a new simple expression which combines the values of the given observables
+     *
+     * @since   0.9.0
+     */
+    public static <T> SimpleObjectExpression<T> combine(ObservableShortValue a, ObservableShortValue b, ObservableShortValue c, ObservableShortValue d, ShortShortShortShortToObjectFunction<T> transform) {
+        return new Transform<>(new Observable[] { a, b, c, d }, ex -> new ShortShortShortShortToObjectBinding<>(ex::scheduleInvalidation, a, b, c, d, transform));
+    }
+
+    /**
+     * Returns a new simple expression which combines the values of the given observables using the given function.
+     *
+     * <p>The expression depends directly on each of the given observables. Unlike dependencies that are added using
+     * {@link #addDependency(Observable)}, these dependencies are tracked without any additional bookkeeping.</p>
+     *
+     * @param <T>           the type of the target value
+     * @param a             the first observable
+     * @param b             the second observable
+     * @param transform     the function that combines the values
+     *
+     * @return  a new simple expression which combines the values of the given observables
+     *
+     * @since   0.9.0
+     */
+    public static <T> SimpleObjectExpression<T> combine(ObservableIntValue a, ObservableIntValue b, IntIntToObjectFunction<T> transform) {
+        return new Transform<>(new Observable[] { a, b }, ex -> new IntIntToObjectBinding<>(ex::scheduleInvalidation, a, b, transform));
+    }
+
+    /**
+     * Returns a new simple expression which combines the values of the given observables using the given function.
+     *
+     * <p>The expression depends directly on each of the given observables. Unlike dependencies that are added using
+     * {@link #addDependency(Observable)}, these dependencies are tracked without any additional bookkeeping.</p>
+     *
+     * @param <T>           the type of the target value
+     * @param a             the first observable
+     * @param b             the second observable
+     * @param c             the third observable
+     * @param transform     the function that combines the values
+     *
+     * @return  a new simple expression which combines the values of the given observables
+     *
+     * @since   0.9.0
+     */
+    public static <T> SimpleObjectExpression<T> combine(ObservableIntValue a, ObservableIntValue b, ObservableIntValue c, IntIntIntToObjectFunction<T> transform) {
+        return new Transform<>(new Observable[] { a, b, c }, ex -> new IntIntIntToObjectBinding<>(ex::scheduleInvalidation, a, b, c, transform));
+    }
+
+    /**
+     * Returns a new simple expression which combines the values of the given observables using the given function.
+     *
+     * <p>The expression depends directly on each of the given observables. Unlike dependencies that are added using
+     * {@link #addDependency(Observable)}, these dependencies are tracked without any additional bookkeeping.</p>
+     *
+     * @param <T>           the type of the target value
+     * @param a             the first observable
+     * @param b             the second observable
+     * @param c             the third observable
+     * @param d             the fourth observable
+     * @param transform     the function that combines the values
+     *
+     * @return  a new simple expression which combines the values of the given observables
+     *
+     * @since   0.9.0
+     */
+    public static <T> SimpleObjectExpression<T> combine(ObservableIntValue a, ObservableIntValue b, ObservableIntValue c, ObservableIntValue d, IntIntIntIntToObjectFunction<T> transform) {
+        return new Transform<>(new Observable[] { a, b, c, d }, ex -> new IntIntIntIntToObjectBinding<>(ex::scheduleInvalidation, a, b, c, d, transform));
+    }
+
+    /**
+     * Returns a new simple expression which combines the values of the given observables using the given function.
+     *
+     * <p>The expression depends directly on each of the given observables. Unlike dependencies that are added using
+     * {@link #addDependency(Observable)}, these dependencies are tracked without any additional bookkeeping.</p>
+     *
+     * @param <T>           the type of the target value
+     * @param a             the first observable
+     * @param b             the second observable
+     * @param transform     the function that combines the values
+     *
+     * @return  a new simple expression which combines the values of the given observables
+     *
+     * @since   0.9.0
+     */
+    public static <T> SimpleObjectExpression<T> combine(ObservableLongValue a, ObservableLongValue b, LongLongToObjectFunction<T> transform) {
+        return new Transform<>(new Observable[] { a, b }, ex -> new LongLongToObjectBinding<>(ex::scheduleInvalidation, a, b, transform));
+    }
+
+    /**
+     * Returns a new simple expression which combines the values of the given observables using the given function.
+     *
+     * <p>The expression depends directly on each of the given observables. Unlike dependencies that are added using
+     * {@link #addDependency(Observable)}, these dependencies are tracked without any additional bookkeeping.</p>
+     *
+     * @param <T>           the type of the target value
+     * @param a             the first observable
+     * @param b             the second observable
+     * @param c             the third observable
+     * @param transform     the function that combines the values
+     *
+     * @return  a new simple expression which combines the values of the given observables
+     *
+     * @since   0.9.0
+     */
+    public static <T> SimpleObjectExpression<T> combine(ObservableLongValue a, ObservableLongValue b, ObservableLongValue c, LongLongLongToObjectFunction<T> transform) {
+        return new Transform<>(new Observable[] { a, b, c }, ex -> new LongLongLongToObjectBinding<>(ex::scheduleInvalidation, a, b, c, transform));
+    }
+
+    /**
+     * Returns a new simple expression which combines the values of the given observables using the given function.
+     *
+     * <p>The expression depends directly on each of the given observables. Unlike dependencies that are added using
+     * {@link #addDependency(Observable)}, these dependencies are tracked without any additional bookkeeping.</p>
+     *
+     * @param <T>           the type of the target value
+     * @param a             the first observable
+     * @param b             the second observable
+     * @param c             the third observable
+     * @param d             the fourth observable
+     * @param transform     the function that combines the values
+     *
+     * @return  a new simple expression which combines the values of the given observables
+     *
+     * @since   0.9.0
+     */
+    public static <T> SimpleObjectExpression<T> combine(ObservableLongValue a, ObservableLongValue b, ObservableLongValue c, ObservableLongValue d, LongLongLongLongToObjectFunction<T> transform) {
+        return new Transform<>(new Observable[] { a, b, c, d }, ex -> new LongLongLongLongToObjectBinding<>(ex::scheduleInvalidation, a, b, c, d, transform));
+    }
+
+    /**
+     * Returns a new simple expression which combines the values of the given observables using the given function.
+     *
+     * <p>The expression depends directly on each of the given observables. Unlike dependencies that are added using
+     * {@link #addDependency(Observable)}, these dependencies are tracked without any additional bookkeeping.</p>
+     *
+     * @param <T>           the type of the target value
+     * @param a             the first observable
+     * @param b             the second observable
+     * @param transform     the function that combines the values
+     *
+     * @return  a new simple expression which combines the values of the given observables
+     *
+     * @since   0.9.0
+     */
+    public static <T> SimpleObjectExpression<T> combine(ObservableFloatValue a, ObservableFloatValue b, FloatFloatToObjectFunction<T> transform) {
+        return new Transform<>(new Observable[] { a, b }, ex -> new FloatFloatToObjectBinding<>(ex::scheduleInvalidation, a, b, transform));
+    }
+
+    /**
+     * Returns a new simple expression which combines the values of the given observables using the given function.
+     *
+     * <p>The expression depends directly on each of the given observables. Unlike dependencies that are added using
+     * {@link #addDependency(Observable)}, these dependencies are tracked without any additional bookkeeping.</p>
+     *
+     * @param <T>           the type of the target value
+     * @param a             the first observable
+     * @param b             the second observable
+     * @param c             the third observable
+     * @param transform     the function that combines the values
+     *
+     * @return  a new simple expression which combines the values of the given observables
+     *
+     * @since   0.9.0
+     */
+    public static <T> SimpleObjectExpression<T> combine(ObservableFloatValue a, ObservableFloatValue b, ObservableFloatValue c, FloatFloatFloatToObjectFunction<T> transform) {
+        return new Transform<>(new Observable[] { a, b, c }, ex -> new FloatFloatFloatToObjectBinding<>(ex::scheduleInvalidation, a, b, c, transform));
+    }
+
+    /**
+     * Returns a new simple expression which combines the values of the given observables using the given function.
+     *
+     * <p>The expression depends directly on each of the given observables. Unlike dependencies that are added using
+     * {@link #addDependency(Observable)}, these dependencies are tracked without any additional bookkeeping.</p>
+     *
+     * @param <T>           the type of the target value
+     * @param a             the first observable
+     * @param b             the second observable
+     * @param c             the third observable
+     * @param d             the fourth observable
+     * @param transform     the function that combines the values
+     *
+     * @return  a new simple expression which combines the values of the given observables
+     *
+     * @since   0.9.0
+     */
+    public static <T> SimpleObjectExpression<T> combine(ObservableFloatValue a, ObservableFloatValue b, ObservableFloatValue c, ObservableFloatValue d, FloatFloatFloatFloatToObjectFunction<T> transform) {
+        return new Transform<>(new Observable[] { a, b, c, d }, ex -> new FloatFloatFloatFloatToObjectBinding<>(ex::scheduleInvalidation, a, b, c, d, transform));
+    }
+
+    /**
+     * Returns a new simple expression which combines the values of the given observables using the given function.
+     *
+     * <p>The expression depends directly on each of the given observables. Unlike dependencies that are added using
+     * {@link #addDependency(Observable)}, these dependencies are tracked without any additional bookkeeping.</p>
+     *
+     * @param <T>           the type of the target value
+     * @param a             the first observable
+     * @param b             the second observable
+     * @param transform     the function that combines the values
+     *
+     * @return  a new simple expression which combines the values of the given observables
+     *
+     * @since   0.9.0
+     */
+    public static <T> SimpleObjectExpression<T> combine(ObservableDoubleValue a, ObservableDoubleValue b, DoubleDoubleToObjectFunction<T> transform) {
+        return new Transform<>(new Observable[] { a, b }, ex -> new DoubleDoubleToObjectBinding<>(ex::scheduleInvalidation, a, b, transform));
+    }
+
+    /**
+     * Returns a new simple expression which combines the values of the given observables using the given function.
+     *
+     * <p>The expression depends directly on each of the given observables. Unlike dependencies that are added using
+     * {@link #addDependency(Observable)}, these dependencies are tracked without any additional bookkeeping.</p>
+     *
+     * @param <T>           the type of the target value
+     * @param a             the first observable
+     * @param b             the second observable
+     * @param c             the third observable
+     * @param transform     the function that combines the values
+     *
+     * @return  a new simple expression which combines the values of the given observables
+     *
+     * @since   0.9.0
+     */
+    public static <T> SimpleObjectExpression<T> combine(ObservableDoubleValue a, ObservableDoubleValue b, ObservableDoubleValue c, DoubleDoubleDoubleToObjectFunction<T> transform) {
+        return new Transform<>(new Observable[] { a, b, c }, ex -> new DoubleDoubleDoubleToObjectBinding<>(ex::scheduleInvalidation, a, b, c, transform));
+    }
+
+    /**
+     * Returns a new simple expression which combines the values of the given observables using the given function.
+     *
+     * <p>The expression depends directly on each of the given observables. Unlike dependencies that are added using
+     * {@link #addDependency(Observable)}, these dependencies are tracked without any additional bookkeeping.</p>
+     *
+     * @param <T>           the type of the target value
+     * @param a             the first observable
+     * @param b             the second observable
+     * @param c             the third observable
+     * @param d             the fourth observable
+     * @param transform     the function that combines the values
+     *
+     * @return  a new simple expression which combines the values of the given observables
+     *
+     * @since   0.9.0
+     */
+    public static <T> SimpleObjectExpression<T> combine(ObservableDoubleValue a, ObservableDoubleValue b, ObservableDoubleValue c, ObservableDoubleValue d, DoubleDoubleDoubleDoubleToObjectFunction<T> transform) {
+        return new Transform<>(new Observable[] { a, b, c, d }, ex -> new DoubleDoubleDoubleDoubleToObjectBinding<>(ex::scheduleInvalidation, a, b, c, d, transform));
+    }
+
+    /**
+     * Returns a new simple expression which combines the values of the given observables using the given function.
+     *
+     * <p>The expression depends directly on each of the given observables. Unlike dependencies that are added using
+     * {@link #addDependency(Observable)}, these dependencies are tracked without any additional bookkeeping.</p>
+     *
+     * @param <A>           the type of the first value
+     * @param <B>           the type of the second value
+     * @param <T>           the type of the target value
+     * @param a             the first observable
+     * @param b             the second observable
+     * @param transform     the function that combines the values
+     *
+     * @return  a new simple expression which combines the values of the given observables
+     *
+     * @since   0.9.0
+     */
+    public static <A, B, T> SimpleObjectExpression<T> combine(ObservableObjectValue<A> a, ObservableObjectValue<B> b, ObjectObjectToObjectFunction<A, B, T> transform) {
+        return new Transform<>(new Observable[] { a, b }, ex -> new ObjectObjectToObjectBinding<>(ex::scheduleInvalidation, a, b, transform));
+    }
+
+    /**
+     * Returns a new simple expression which combines the values of the given observables using the given function.
+     *
+     * <p>The expression depends directly on each of the given observables. Unlike dependencies that are added using
+     * {@link #addDependency(Observable)}, these dependencies are tracked without any additional bookkeeping.</p>
+     *
+     * @param <A>           the type of the first value
+     * @param <B>           the type of the second value
+     * @param <C>           the type of the third value
+     * @param <T>           the type of the target value
+     * @param a             the first observable
+     * @param b             the second observable
+     * @param c             the third observable
+     * @param transform     the function that combines the values
+     *
+     * @return  a new simple expression which combines the values of the given observables
+     *
+     * @since   0.9.0
+     */
+    public static <A, B, C, T> SimpleObjectExpression<T> combine(ObservableObjectValue<A> a, ObservableObjectValue<B> b, ObservableObjectValue<C> c, ObjectObjectObjectToObjectFunction<A, B, C, T> transform) {
+        return new Transform<>(new Observable[] { a, b, c }, ex -> new ObjectObjectObjectToObjectBinding<>(ex::scheduleInvalidation, a, b, c, transform));
+    }
+
+    /**
+     * Returns a new simple expression which combines the values of the given observables using the given function.
+     *
+     * <p>The expression depends directly on each of the given observables. Unlike dependencies that are added using
+     * {@link #addDependency(Observable)}, these dependencies are tracked without any additional bookkeeping.</p>
+     *
+     * @param <A>           the type of the first value
+     * @param <B>           the type of the second value
+     * @param <C>           the type of the third value
+     * @param <D>           the type of the fourth value
+     * @param <T>           the type of the target value
+     * @param a             the first observable
+     * @param b             the second observable
+     * @param c             the third observable
+     * @param d             the fourth observable
+     * @param transform     the function that combines the values
+     *
+     * @return  a new simple expression which combines the values of the given observables
+     *
+     * @since   0.9.0
+     */
+    public static <A, B, C, D, T> SimpleObjectExpression<T> combine(ObservableObjectValue<A> a, ObservableObjectValue<B> b, ObservableObjectValue<C> c, ObservableObjectValue<D> d, ObjectObjectObjectObjectToObjectFunction<A, B, C, D, T> transform) {
+        return new Transform<>(new Observable[] { a, b, c, d }, ex -> new ObjectObjectObjectObjectToObjectBinding<>(ex::scheduleInvalidation, a, b, c, d, transform));
+    }
+
+    /**
+     * Returns a new simple expression which follows a path of nested observables starting at the given root.
+     *
+     * <p>Each selector is applied to the value of the previous observable in the path to obtain the next observable.
+     * The expression evaluates to the value of the last observable in the path, or to
+     * {@code null} if any value along the path is {@code null}.</p>
+     *
+     * <p>Every observable in the path and its value are cached. When an observable in the path is invalidated, only
+     * the part of the path below it is walked again, and selectors are only applied to values that have changed. The
+     * observables in the path only reference the expression weakly.</p>
+     *
+     * @param <A>       the type of the value of the root observable
+     * @param <T>       the type of the value of the expression
+     * @param root      the root observable
+     * @param first     the selector for the observable that provides the value
+     *
+     * @return  a new simple expression which follows a path of nested observables starting at the given root
+     *
+     * @since   0.9.0
+     */
+    public static <A, T> SimpleObjectExpression<T> select(ObservableObjectValue<A> root, Function<? super A, ? extends ObservableObjectValue<T>> first) {
+        return new Transform<>(root, ex -> new ObjectBinding.Selection<>(ex::scheduleInvalidation, root, false, first));
+    }
+
+    /**
+     * Returns a new simple expression which follows a path of nested observables starting at the given root.
+     *
+     * <p>Each selector is applied to the value of the previous observable in the path to obtain the next observable.
+     * The expression evaluates to the value of the last observable in the path, or to
+     * {@code null} if any value along the path is {@code null}.</p>
+     *
+     * <p>Every observable in the path and its value are cached. When an observable in the path is invalidated, only
+     * the part of the path below it is walked again, and selectors are only applied to values that have changed. The
+     * observables in the path only reference the expression weakly.</p>
+     *
+     * @param <A>       the type of the value of the root observable
+     * @param <B>       the type of the value of the first selected observable
+     * @param <T>       the type of the value of the expression
+     * @param root      the root observable
+     * @param first     the first selector
+     * @param second    the selector for the observable that provides the value
+     *
+     * @return  a new simple expression which follows a path of nested observables starting at the given root
+     *
+     * @since   0.9.0
+     */
+    public static <A, B, T> SimpleObjectExpression<T> select(ObservableObjectValue<A> root, Function<? super A, ? extends ObservableObjectValue<B>> first, Function<? super B, ? extends ObservableObjectValue<T>> second) {
+        return new Transform<>(root, ex -> new ObjectBinding.Selection<>(ex::scheduleInvalidation, root, false, first, second));
+    }
+
+    /**
+     * Returns a new simple expression which follows a path of nested observables starting at the given root.
+     *
+     * <p>Each selector is applied to the value of the previous observable in the path to obtain the next observable.
+     * The expression evaluates to the value of the last observable in the path, or to
+     * {@code null} if any value along the path is {@code null}.</p>
+     *
+     * <p>Every observable in the path and its value are cached. When an observable in the path is invalidated, only
+     * the part of the path below it is walked again, and selectors are only applied to values that have changed. The
+     * observables in the path only reference the expression weakly.</p>
+     *
+     * @param <A>       the type of the value of the root observable
+     * @param <B>       the type of the value of the first selected observable
+     * @param <C>       the type of the value of the second selected observable
+     * @param <T>       the type of the value of the expression
+     * @param root      the root observable
+     * @param first     the first selector
+     * @param second    the second selector
+     * @param third     the selector for the observable that provides the value
+     *
+     * @return  a new simple expression which follows a path of nested observables starting at the given root
+     *
+     * @since   0.9.0
+     */
+    public static <A, B, C, T> SimpleObjectExpression<T> select(ObservableObjectValue<A> root, Function<? super A, ? extends ObservableObjectValue<B>> first, Function<? super B, ? extends ObservableObjectValue<C>> second, Function<? super C, ? extends ObservableObjectValue<T>> third) {
+        return new Transform<>(root, ex -> new ObjectBinding.Selection<>(ex::scheduleInvalidation, root, false, first, second, third));
+    }
+
+    /**
+     * Returns a new simple expression which follows a path of nested observables starting at the given root.
+     *
+     * <p>Each selector is applied to the value of the previous observable in the path to obtain the next observable.
+     * The expression evaluates to the value of the last observable in the path, or to
+     * {@code null} if any value along the path is {@code null}.</p>
+     *
+     * <p>Every observable in the path and its value are cached. When an observable in the path is invalidated, only
+     * the part of the path below it is walked again, and selectors are only applied to values that have changed. The
+     * observables in the path only reference the expression weakly.</p>
+     *
+     * @param <A>       the type of the value of the root observable
+     * @param <B>       the type of the value of the first selected observable
+     * @param <C>       the type of the value of the second selected observable
+     * @param <D>       the type of the value of the third selected observable
+     * @param <T>       the type of the value of the expression
+     * @param root      the root observable
+     * @param first     the first selector
+     * @param second    the second selector
+     * @param third     the third selector
+     * @param fourth    the selector for the observable that provides the value
+     *
+     * @return  a new simple expression which follows a path of nested observables starting at the given root
+     *
+     * @since   0.9.0
+     */
+    public static <A, B, C, D, T> SimpleObjectExpression<T> select(ObservableObjectValue<A> root, Function<? super A, ? extends ObservableObjectValue<B>> first, Function<? super B, ? extends ObservableObjectValue<C>> second, Function<? super C, ? extends ObservableObjectValue<D>> third, Function<? super D, ? extends ObservableObjectValue<T>> fourth) {
+        return new Transform<>(root, ex -> new ObjectBinding.Selection<>(ex::scheduleInvalidation, root, false, first, second, third, fourth));
     }
 
     /**
@@ -187,34 +784,7 @@ public abstract class SimpleObjectExpression<T> extends AbstractObjectExpression
      * @since   0.1.0
      */
     public static <S, T> SimpleObjectExpression<T> ofNested(ObservableObjectValue<S> observable, Function<S, ObservableObjectValue<T>> selector) {
-        return new SimpleObjectExpression<>() {
-
-            final InvalidationListener nestedPropertyListener = ignored -> this.doInvalidate();
-
-            {
-                observable.addInvalidationListener(ignored -> this.doInvalidate());
-
-                ObjectChangeListener<S> parentChangeListener = (ignored, oldValue, newValue) -> {
-                    if (oldValue != null) {
-                        var nestedProperty = selector.apply(oldValue);
-                        nestedProperty.removeInvalidationListener(this.nestedPropertyListener);
-                    }
-
-                    var nestedProperty = selector.apply(Objects.requireNonNull(newValue));
-                    nestedProperty.addInvalidationListener(this.nestedPropertyListener);
-                };
-                observable.addChangeListener(parentChangeListener);
-                parentChangeListener.onChanged(observable, null, observable.get());
-            }
-
-            @Nullable
-            @Override
-            protected T recomputeValue() {
-                var parent = observable.get();
-                return selector.apply(Objects.requireNonNull(parent)).get();
-            }
-
-        };
+        return new Transform<>(observable, ex -> new ObjectBinding.Selection<>(ex::scheduleInvalidation, observable, true, selector));
     }
 
     /**
@@ -232,36 +802,7 @@ public abstract class SimpleObjectExpression<T> extends AbstractObjectExpression
      * @since   0.1.0
      */
     public static <S, T> SimpleObjectExpression<T> ofNestedOrNull(ObservableObjectValue<S> observable, Function<S, ObservableObjectValue<T>> selector) {
-        return new SimpleObjectExpression<>() {
-
-            final InvalidationListener nestedPropertyListener = ignored -> this.doInvalidate();
-
-            {
-                observable.addInvalidationListener(ignored -> this.doInvalidate());
-
-                ObjectChangeListener<S> parentChangeListener = (ignored, oldValue, newValue) -> {
-                    if (oldValue != null) {
-                        var nestedProperty = selector.apply(oldValue);
-                        nestedProperty.removeInvalidationListener(this.nestedPropertyListener);
-                    }
-
-                    if (newValue != null) {
-                        var nestedProperty = selector.apply(newValue);
-                        nestedProperty.addInvalidationListener(this.nestedPropertyListener);
-                    }
-                };
-                observable.addChangeListener(parentChangeListener);
-                parentChangeListener.onChanged(observable, null, observable.get());
-            }
-
-            @Nullable
-            @Override
-            protected T recomputeValue() {
-                var parent = observable.get();
-                return (parent != null) ? selector.apply(parent).get() : null;
-            }
-
-        };
+        return new Transform<>(observable, ex -> new ObjectBinding.Selection<>(ex::scheduleInvalidation, observable, false, selector));
     }
 
     @Nullable
@@ -293,7 +834,14 @@ public abstract class SimpleObjectExpression<T> extends AbstractObjectExpression
 
         private final transient ObjectBinding<T> binding;
 
-        private Transform(Function<SimpleObjectExpression<T>, ObjectBinding<T>> factory) {
+        private Transform(Observable source, Function<SimpleObjectExpression<T>, ObjectBinding<T>> factory) {
+            this.rankAfter(source);
+            this.binding = factory.apply(this);
+            this.invalidate();
+        }
+
+        private Transform(Observable[] sources, Function<SimpleObjectExpression<T>, ObjectBinding<T>> factory) {
+            for (Observable source : sources) this.rankAfter(source);
             this.binding = factory.apply(this);
             this.invalidate();
         }
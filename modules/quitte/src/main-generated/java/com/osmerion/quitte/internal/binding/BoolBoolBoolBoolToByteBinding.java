@@ -0,0 +1,83 @@
+/*
+ * Copyright (c) 2018-2023 Leon Linhart,
+ * All rights reserved.
+ * MACHINE GENERATED FILE, DO NOT EDIT
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.osmerion.quitte.internal.binding;
+
+import com.osmerion.quitte.*;
+import com.osmerion.quitte.functional.*;
+import com.osmerion.quitte.value.*;
+
+/**
+ * A specialized binding implementation that combines four values.
+ *
+ * <p>A single listener is shared between all sources.</p>
+ *
+ * @author  Leon Linhart
+ */
+public final class BoolBoolBoolBoolToByteBinding implements ByteBinding {
+
+    private final ObservableBoolValue a;
+    private final ObservableBoolValue b;
+    private final ObservableBoolValue c;
+    private final ObservableBoolValue d;
+    private final InvalidationListener listener;
+    private final WeakInvalidationListener weakListener;
+    private final BoolBoolBoolBoolToByteFunction transform;
+
+    public BoolBoolBoolBoolToByteBinding(InvalidationListener invalidator, ObservableBoolValue a, ObservableBoolValue b, ObservableBoolValue c, ObservableBoolValue d, BoolBoolBoolBoolToByteFunction transform) {
+        this.a = a;
+        this.b = b;
+        this.c = c;
+        this.d = d;
+        this.transform = transform;
+
+        this.listener = invalidator;
+        this.weakListener = new WeakInvalidationListener(invalidator);
+        this.a.addInvalidationListener(this.weakListener);
+        this.b.addInvalidationListener(this.weakListener);
+        this.c.addInvalidationListener(this.weakListener);
+        this.d.addInvalidationListener(this.weakListener);
+    }
+
+    @Override
+    public byte get() {
+        return this.transform.apply(this.a.get(), this.b.get(), this.c.get(), this.d.get());
+    }
+
+    @Override
+    public void release() {
+        this.a.removeInvalidationListener(this.weakListener);
+        this.b.removeInvalidationListener(this.weakListener);
+        this.c.removeInvalidationListener(this.weakListener);
+        this.d.removeInvalidationListener(this.weakListener);
+    }
+
+}
\ No newline at end of file
@@ -31,6 +31,8 @@
  */
 package com.osmerion.quitte.internal.binding;
 
+import java.util.function.Function;
+
 import com.osmerion.quitte.*;
 import com.osmerion.quitte.functional.*;
 import com.osmerion.quitte.value.*;
@@ -69,4 +71,26 @@ public interface IntBinding extends Binding {
 
     }
 
+    final class Selection implements IntBinding {
+
+        private final SelectionChain chain;
+
+        @SafeVarargs
+        public Selection(InvalidationListener invalidator, ObservableObjectValue<?> root, boolean strict, Function<?, ? extends Observable>... selectors) {
+            this.chain = new SelectionChain(invalidator, root, strict, selectors);
+        }
+
+        @Override
+        public int get() {
+            var leaf = (ObservableIntValue) this.chain.leaf();
+            return (leaf != null) ? leaf.get() : 0;
+        }
+
+        @Override
+        public void release() {
+            this.chain.release();
+        }
+
+    }
+
 }
\ No newline at end of file
@@ -31,6 +31,8 @@
  */
 package com.osmerion.quitte.internal.binding;
 
+import java.util.function.Function;
+
 import javax.annotation.Nullable;
 
 import com.osmerion.quitte.*;
@@ -73,4 +75,28 @@ public interface ObjectBinding<T> extends Binding {
 
     }
 
+    final class Selection<T> implements ObjectBinding<T> {
+
+        private final SelectionChain chain;
+
+        @SafeVarargs
+        public Selection(InvalidationListener invalidator, ObservableObjectValue<?> root, boolean strict, Function<?, ? extends Observable>... selectors) {
+            this.chain = new SelectionChain(invalidator, root, strict, selectors);
+        }
+
+        @Override
+        @Nullable
+        @SuppressWarnings("unchecked")
+        public T get() {
+            var leaf = (ObservableObjectValue<T>) this.chain.leaf();
+            return (leaf != null) ? leaf.get() : null;
+        }
+
+        @Override
+        public void release() {
+            this.chain.release();
+        }
+
+    }
+
 }
\ No newline at end of file
@@ -0,0 +1,131 @@
+/*
+ * Copyright (c) 2018-2023 Leon Linhart,
+ * All rights reserved.
+ * MACHINE GENERATED FILE, DO NOT EDIT
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.osmerion.quitte.internal.timing;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import javax.annotation.Nullable;
+
+import com.osmerion.quitte.property.*;
+import com.osmerion.quitte.value.*;
+import com.osmerion.quitte.value.change.*;
+
+/**
+ * A specialized {@code double} property that follows an observable value at a limited rate.
+ *
+ * <p>The source is only referenced weakly. Values are emitted by tasks that are scheduled on the given executor. All
+ * emissions are serialized, thus listeners observe values in the order in which they were produced by the source.</p>
+ *
+ * @see TimingMode
+ *
+ * @author  Leon Linhart
+ */
+public final class TimedDoubleProperty extends ConcurrentDoubleProperty {
+
+    private final Object lock = new Object();
+
+    private final DoubleChangeListener listener;
+
+    private final TimingMode mode;
+    private final long delayNanos;
+    private final ScheduledExecutorService executor;
+
+    private double latest;
+    private boolean dirty;
+
+    @Nullable
+    private ScheduledFuture<?> pending;
+    private long generation;
+
+    public TimedDoubleProperty(ObservableDoubleValue source, TimingMode mode, Duration delay, ScheduledExecutorService executor) {
+        super(source.get());
+        this.mode = Objects.requireNonNull(mode);
+        this.executor = Objects.requireNonNull(executor);
+
+        if (delay.isNegative() || delay.isZero()) throw new IllegalArgumentException("Delay must be positive: " + delay);
+        this.delayNanos = delay.toNanos();
+
+        this.listener = (observable, oldValue, newValue) -> this.onSourceChanged(newValue);
+        source.addChangeListener(new WeakDoubleChangeListener(this.listener));
+    }
+
+    private void onSourceChanged(double value) {
+        synchronized (this.lock) {
+            this.latest = value;
+
+            switch (this.mode) {
+                case DEBOUNCE -> {
+                    if (this.pending != null) this.pending.cancel(false);
+                    this.schedule();
+                }
+                case THROTTLE_LATEST -> {
+                    if (this.pending == null) {
+                        this.set(value);
+                        this.schedule();
+                    } else {
+                        this.dirty = true;
+                    }
+                }
+                case SAMPLE -> {
+                    this.dirty = true;
+                    if (this.pending == null) this.schedule();
+                }
+            }
+        }
+    }
+
+    private void onElapsed(long generation) {
+        synchronized (this.lock) {
+            /* A task that could not be cancelled in time must not emit a superseded value. */
+            if (generation != this.generation) return;
+            this.pending = null;
+
+            if (this.mode == TimingMode.DEBOUNCE) {
+                this.set(this.latest);
+            } else if (this.dirty) {
+                this.dirty = false;
+                this.set(this.latest);
+
+                if (this.mode == TimingMode.THROTTLE_LATEST) this.schedule();
+            }
+        }
+    }
+
+    private void schedule() {
+        long generation = ++this.generation;
+        this.pending = this.executor.schedule(() -> this.onElapsed(generation), this.delayNanos, TimeUnit.NANOSECONDS);
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,106 @@
+/*
+ * Copyright (c) 2018-2023 Leon Linhart,
+ * All rights reserved.
+ * MACHINE GENERATED FILE, DO NOT EDIT
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.osmerion.quitte.internal.wrappers;
+
+import com.osmerion.quitte.InvalidationListener;
+import com.osmerion.quitte.collections.BoolListChangeListener;
+import com.osmerion.quitte.functional.BoolConsumer;
+import com.osmerion.quitte.property.ReadableBoolListProperty;
+
+/**
+ * A specialized read-only {@code boolean} list property.
+ *
+ * @author  Leon Linhart
+ */
+public final class ReadOnlyBoolListProperty implements ReadableBoolListProperty {
+
+    private final ReadableBoolListProperty property;
+
+    public ReadOnlyBoolListProperty(ReadableBoolListProperty property) {
+        this.property = property;
+    }
+
+    @Override
+    public ReadableBoolListProperty asReadOnlyProperty() {
+        return this;
+    }
+
+    @Override
+    public boolean isBound() {
+        return this.property.isBound();
+    }
+
+    @Override
+    public boolean isWritable() {
+        return false;
+    }
+
+    @Override public boolean addInvalidationListener(InvalidationListener listener) { return this.property.addInvalidationListener(listener); }
+    @Override public boolean removeInvalidationListener(InvalidationListener listener) { return this.property.removeInvalidationListener(listener); }
+    @Override public boolean addChangeListener(BoolListChangeListener listener) { return this.property.addChangeListener(listener); }
+    @Override public boolean removeChangeListener(BoolListChangeListener listener) { return this.property.removeChangeListener(listener); }
+
+    @Override public int size() { return this.property.size(); }
+    @Override public boolean get(int index) { return this.property.get(index); }
+    @Override public int indexOf(boolean element) { return this.property.indexOf(element); }
+    @Override public int lastIndexOf(boolean element) { return this.property.lastIndexOf(element); }
+    @Override public boolean[] toArray() { return this.property.toArray(); }
+    @Override public void forEach(BoolConsumer action) { this.property.forEach(action); }
+
+    @Override public boolean add(boolean element) { throw new UnsupportedOperationException(); }
+    @Override public void add(int index, boolean element) { throw new UnsupportedOperationException(); }
+    @Override public boolean addAll(boolean[] elements) { throw new UnsupportedOperationException(); }
+    @Override public boolean addAll(int index, boolean[] elements) { throw new UnsupportedOperationException(); }
+    @Override public boolean addAll(int index, boolean[] elements, int offset, int length) { throw new UnsupportedOperationException(); }
+    @Override public boolean set(int index, boolean element) { throw new UnsupportedOperationException(); }
+    @Override public boolean setAll(boolean[] elements) { throw new UnsupportedOperationException(); }
+    @Override public boolean removeAt(int index) { throw new UnsupportedOperationException(); }
+    @Override public void removeRange(int fromIndex, int toIndex) { throw new UnsupportedOperationException(); }
+    @Override public void clear() { throw new UnsupportedOperationException(); }
+    @Override public void sort() { throw new UnsupportedOperationException(); }
+
+    @Override
+    public boolean equals(Object obj) {
+        return (this == obj || this.property.equals(obj));
+    }
+
+    @Override
+    public int hashCode() {
+        return this.property.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return this.property.toString();
+    }
+
+}
\ No newline at end of file
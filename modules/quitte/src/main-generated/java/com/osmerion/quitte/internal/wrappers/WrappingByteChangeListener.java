@@ -31,6 +31,9 @@
  */
 package com.osmerion.quitte.internal.wrappers;
 
+import java.util.function.Consumer;
+
+import com.osmerion.quitte.internal.ListenerReaper;
 import com.osmerion.quitte.value.*;
 import com.osmerion.quitte.value.change.*;
 
@@ -45,7 +48,7 @@ import com.osmerion.quitte.value.change.*;
  *
  * @author  Leon Linhart
  */
-public final class WrappingByteChangeListener implements ByteChangeListener {
+public final class WrappingByteChangeListener implements ByteChangeListener, ListenerReaper.Reapable {
 
     private final ChangeListener<Byte> listener;
 
@@ -63,6 +66,11 @@ public final class WrappingByteChangeListener implements ByteChangeListener {
         return this.listener.isInvalid();
     }
 
+    @Override
+    public <O> void reapFrom(O owner, Consumer<? super O> action) {
+        if (this.listener instanceof ListenerReaper.Reapable reapable) reapable.reapFrom(owner, action);
+    }
+
     /**
      * Returns whether this wrapper is wrapping the given listener.
      *
@@ -70,8 +78,8 @@ public final class WrappingByteChangeListener implements ByteChangeListener {
      *
      * @return  whether this wrapper is wrappping the given listener
      */
-    public boolean isWrapping(ChangeListener<Byte> listener) {
-        return this.listener == listener;
+    public boolean isWrapping(ChangeListener<?> listener) {
+        return this.listener.equals(listener);
     }
 
 }
\ No newline at end of file
@@ -31,6 +31,9 @@
  */
 package com.osmerion.quitte.internal.wrappers;
 
+import java.util.function.Consumer;
+
+import com.osmerion.quitte.internal.ListenerReaper;
 import com.osmerion.quitte.value.*;
 import com.osmerion.quitte.value.change.*;
 
@@ -45,7 +48,7 @@ import com.osmerion.quitte.value.change.*;
  *
  * @author  Leon Linhart
  */
-public final class WrappingFloatChangeListener implements FloatChangeListener {
+public final class WrappingFloatChangeListener implements FloatChangeListener, ListenerReaper.Reapable {
 
     private final ChangeListener<Float> listener;
 
@@ -63,6 +66,11 @@ public final class WrappingFloatChangeListener implements FloatChangeListener {
         return this.listener.isInvalid();
     }
 
+    @Override
+    public <O> void reapFrom(O owner, Consumer<? super O> action) {
+        if (this.listener instanceof ListenerReaper.Reapable reapable) reapable.reapFrom(owner, action);
+    }
+
     /**
      * Returns whether this wrapper is wrapping the given listener.
      *
@@ -70,8 +78,8 @@ public final class WrappingFloatChangeListener implements FloatChangeListener {
      *
      * @return  whether this wrapper is wrappping the given listener
      */
-    public boolean isWrapping(ChangeListener<Float> listener) {
-        return this.listener == listener;
+    public boolean isWrapping(ChangeListener<?> listener) {
+        return this.listener.equals(listener);
     }
 
 }
\ No newline at end of file
@@ -31,8 +31,11 @@
  */
 package com.osmerion.quitte.internal.wrappers;
 
+import java.util.function.Consumer;
+
 import javax.annotation.Nullable;
 
+import com.osmerion.quitte.internal.ListenerReaper;
 import com.osmerion.quitte.value.*;
 import com.osmerion.quitte.value.change.*;
 
@@ -47,7 +50,7 @@ import com.osmerion.quitte.value.change.*;
  *
  * @author  Leon Linhart
  */
-public final class WrappingObjectChangeListener<T> implements ObjectChangeListener<T> {
+public final class WrappingObjectChangeListener<T> implements ObjectChangeListener<T>, ListenerReaper.Reapable {
 
     private final ChangeListener<T> listener;
 
@@ -65,6 +68,11 @@ public final class WrappingObjectChangeListener<T> implements ObjectChangeListen
         return this.listener.isInvalid();
     }
 
+    @Override
+    public <O> void reapFrom(O owner, Consumer<? super O> action) {
+        if (this.listener instanceof ListenerReaper.Reapable reapable) reapable.reapFrom(owner, action);
+    }
+
     /**
      * Returns whether this wrapper is wrapping the given listener.
      *
@@ -72,8 +80,8 @@ public final class WrappingObjectChangeListener<T> implements ObjectChangeListen
      *
      * @return  whether this wrapper is wrappping the given listener
      */
-    public boolean isWrapping(ChangeListener<T> listener) {
-        return this.listener == listener;
+    public boolean isWrapping(ChangeListener<?> listener) {
+        return this.listener.equals(listener);
     }
 
 }
\ No newline at end of file
@@ -32,15 +32,21 @@
 package com.osmerion.quitte.property;
 
 import java.util.Objects;
-import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.atomic.AtomicLongFieldUpdater;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
 import java.util.function.Function;
 
 import javax.annotation.Nullable;
 
 import com.osmerion.quitte.*;
 import com.osmerion.quitte.functional.*;
+import com.osmerion.quitte.internal.Listeners;
+import com.osmerion.quitte.internal.Metrics;
+import com.osmerion.quitte.internal.Propagation;
+import com.osmerion.quitte.internal.SnapshotTracker;
 import com.osmerion.quitte.internal.binding.*;
 import com.osmerion.quitte.internal.wrappers.*;
+import com.osmerion.quitte.metrics.MetricsSink;
 import com.osmerion.quitte.value.*;
 import com.osmerion.quitte.value.change.*;
 
@@ -53,12 +59,20 @@ import com.osmerion.quitte.value.change.*;
  */
 public abstract class AbstractFloatProperty implements WritableFloatProperty {
 
-    private final transient CopyOnWriteArraySet<FloatChangeListener> changeListeners = new CopyOnWriteArraySet<>();
-    private final transient CopyOnWriteArraySet<InvalidationListener> invalidationListeners = new CopyOnWriteArraySet<>();
+    private static final AtomicReferenceFieldUpdater<AbstractFloatProperty, Object> CHANGE_LISTENERS = AtomicReferenceFieldUpdater.newUpdater(AbstractFloatProperty.class, Object.class, "changeListeners");
+    private static final AtomicReferenceFieldUpdater<AbstractFloatProperty, Object> INVALIDATION_LISTENERS = AtomicReferenceFieldUpdater.newUpdater(AbstractFloatProperty.class, Object.class, "invalidationListeners");
+    private static final AtomicLongFieldUpdater<AbstractFloatProperty> VERSION = AtomicLongFieldUpdater.newUpdater(AbstractFloatProperty.class, "version");
+
+    /* The attached listeners are stored compactly. See Listeners for the representation. */
+    @Nullable
+    private transient volatile Object changeListeners, invalidationListeners;
 
     @Nullable
     private transient FloatBinding binding;
 
+    /* Snapshot reads validate the value of this property against this stamp. See VersionStamp for its layout. */
+    private transient volatile long version;
+
     // package-private constructor for an effectively sealed class
     AbstractFloatProperty() {}
 
@@ -234,7 +248,7 @@ public abstract class AbstractFloatProperty implements WritableFloatProperty {
      */
     @Override
     public final boolean addChangeListener(FloatChangeListener listener) {
-        return this.changeListeners.add(listener);
+        return Listeners.add(CHANGE_LISTENERS, this, listener);
     }
 
     /**
@@ -244,8 +258,8 @@ public abstract class AbstractFloatProperty implements WritableFloatProperty {
      */
     @Override
     public final boolean addBoxedChangeListener(ChangeListener<Float> listener) {
-        if (this.changeListeners.stream().anyMatch(it -> it instanceof WrappingFloatChangeListener && ((WrappingFloatChangeListener) it).isWrapping(listener))) return false;
-        return this.changeListeners.add(FloatChangeListener.wrap(listener));
+        if (Listeners.anyMatch(this.changeListeners, it -> it instanceof WrappingFloatChangeListener wrapper && wrapper.isWrapping(listener))) return false;
+        return Listeners.add(CHANGE_LISTENERS, this, FloatChangeListener.wrap(listener));
     }
 
     /**
@@ -255,7 +269,7 @@ public abstract class AbstractFloatProperty implements WritableFloatProperty {
      */
     @Override
     public final boolean removeChangeListener(FloatChangeListener listener) {
-        return this.changeListeners.remove(listener);
+        return Listeners.remove(CHANGE_LISTENERS, this, listener);
     }
 
     /**
@@ -265,7 +279,7 @@ public abstract class AbstractFloatProperty implements WritableFloatProperty {
      */
     @Override
     public final boolean removeBoxedChangeListener(ChangeListener<Float> listener) {
-        return this.changeListeners.removeIf(it -> it instanceof WrappingFloatChangeListener && ((WrappingFloatChangeListener) it).isWrapping(listener));
+        return Listeners.removeIf(CHANGE_LISTENERS, this, it -> it instanceof WrappingFloatChangeListener wrapper && wrapper.isWrapping(listener));
     }
 
     /**
@@ -275,7 +289,7 @@ public abstract class AbstractFloatProperty implements WritableFloatProperty {
      */
     @Override
     public final boolean addInvalidationListener(InvalidationListener listener) {
-        return this.invalidationListeners.add(listener);
+        return Listeners.add(INVALIDATION_LISTENERS, this, listener);
     }
 
     /**
@@ -285,7 +299,7 @@ public abstract class AbstractFloatProperty implements WritableFloatProperty {
      */
     @Override
     public final boolean removeInvalidationListener(InvalidationListener listener) {
-        return this.invalidationListeners.remove(listener);
+        return Listeners.remove(INVALIDATION_LISTENERS, this, listener);
     }
 
     /** <b>This method must provide raw setter access and should not be called directly.</b> */
@@ -302,13 +316,37 @@ public abstract class AbstractFloatProperty implements WritableFloatProperty {
      */
     @Override
     public final void set(float value) {
-        if (this.binding != null) throw new IllegalStateException("A bound property's value may not be set explicitly");
-
+        this.checkUnbound();
         this.setInternal(value);
     }
 
+    final void checkUnbound() {
+        if (this.binding != null) throw new IllegalStateException("A bound property's value may not be set explicitly");
+    }
+
     private void setInternal(float value) {
-        if (this.setImplDeferrable(value)) this.invalidate();
+        this.beginWrite();
+
+        try {
+            if (this.setImplDeferrable(value)) this.invalidate();
+        } finally {
+            this.endWrite();
+        }
+    }
+
+    /* Marks the beginning of a modification of this property's value for snapshot reads. */
+    final void beginWrite() {
+        Propagation.beginWrite(VERSION, this);
+    }
+
+    /* Marks the end of a modification of this property's value for snapshot reads. */
+    final void endWrite() {
+        Propagation.endWrite(VERSION, this);
+    }
+
+    /* Records a read of this property's value for snapshot reads. Must be called before the value is read. */
+    final void recordSnapshotRead() {
+        SnapshotTracker.record(VERSION, this);
     }
 
     /**
@@ -334,15 +372,46 @@ public abstract class AbstractFloatProperty implements WritableFloatProperty {
     protected final void invalidate() {
         this.onInvalidated();
 
-        for (var listener : this.invalidationListeners) {
-            if (listener.isInvalid()) {
-                this.invalidationListeners.remove(listener);
-                continue;
-            }
+        MetricsSink sink = Metrics.sink();
+        if (sink != null) sink.recordInvalidation(this);
+
+        if (Listeners.size(this.invalidationListeners) == 0) return;
 
-            listener.onInvalidation(this);
-            if (listener.isInvalid()) this.invalidationListeners.remove(listener);
+        if (Propagation.isInTransaction()) {
+            Propagation.deferInvalidation(this, this::notifyInvalidationListeners);
+            return;
         }
+
+        this.notifyInvalidationListeners();
+    }
+
+    private void notifyInvalidationListeners() {
+        var listeners = this.invalidationListeners;
+        int size = Listeners.size(listeners);
+        if (size == 0) return;
+
+        MetricsSink sink = Metrics.sink();
+        long start = (sink != null) ? System.nanoTime() : 0L;
+
+        /* Dependent expressions are revalidated in topological order once all listeners have been notified. */
+        Propagation.begin();
+
+        try {
+            for (int i = 0; i < size; i++) {
+                InvalidationListener listener = Listeners.get(listeners, i);
+
+                if (listener.isInvalid()) {
+                    Listeners.remove(INVALIDATION_LISTENERS, this, listener);
+                    continue;
+                }
+
+                listener.onInvalidation(this);
+            }
+        } finally {
+            Propagation.end();
+        }
+
+        if (sink != null) sink.recordInvalidationDispatch(this, size, System.nanoTime() - start);
     }
 
     protected final void updateValue(float value, boolean notifyListeners) {
@@ -350,24 +419,61 @@ public abstract class AbstractFloatProperty implements WritableFloatProperty {
         var changed = prev != value;
 
         if (changed) {
+            this.beginWrite();
             this.setImpl(value);
+            this.endWrite();
+
             notifyListeners = true;
         }
 
         if (notifyListeners) {
             if (this.onChangedInternal(prev, value) && !changed) return;
-            this.onChanged(prev, value);
+            this.fireValueChanged(prev, value, !changed);
+        }
+    }
 
-            for (var listener : this.changeListeners) {
-                if (listener.isInvalid()) {
-                    this.changeListeners.remove(listener);
-                    continue;
-                }
+    /*
+     * Notifies this property's change listeners that the value was changed from the given old value to the given new
+     * value. If a transaction is open, the notification is deferred and only delivered if the value at the time the
+     * transaction is committed differs from the old value, or if force is set.
+     */
+    final void fireValueChanged(float oldValue, float newValue, boolean force) {
+        this.onChanged(oldValue, newValue);
+        if (Listeners.size(this.changeListeners) == 0) return;
+
+        if (Propagation.isInTransaction()) {
+            /* Only the first change is deferred. Thus, listeners are notified with the value prior to the transaction. */
+            Propagation.deferChange(this, () -> {
+                var value = this.getImpl();
+                if (force || oldValue != value) this.notifyChangeListeners(oldValue, value);
+            });
+
+            return;
+        }
+
+        this.notifyChangeListeners(oldValue, newValue);
+    }
+
+    private void notifyChangeListeners(float oldValue, float newValue) {
+        var listeners = this.changeListeners;
+        int size = Listeners.size(listeners);
+        if (size == 0) return;
 
-                listener.onChanged(this, prev, this.getImpl());
-                if (listener.isInvalid()) this.changeListeners.remove(listener);
+        MetricsSink sink = Metrics.sink();
+        long start = (sink != null) ? System.nanoTime() : 0L;
+
+        for (int i = 0; i < size; i++) {
+            FloatChangeListener listener = Listeners.get(listeners, i);
+
+            if (listener.isInvalid()) {
+                Listeners.remove(CHANGE_LISTENERS, this, listener);
+                continue;
             }
+
+            listener.onChanged(this, oldValue, newValue);
         }
+
+        if (sink != null) sink.recordChangeDispatch(this, size, System.nanoTime() - start);
     }
 
     void onBindingInvalidated() {
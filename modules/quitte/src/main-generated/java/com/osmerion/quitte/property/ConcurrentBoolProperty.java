@@ -0,0 +1,311 @@
+/*
+ * Copyright (c) 2018-2023 Leon Linhart,
+ * All rights reserved.
+ * MACHINE GENERATED FILE, DO NOT EDIT
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.osmerion.quitte.property;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+
+import com.osmerion.quitte.functional.*;
+import com.osmerion.quitte.internal.DependencyTracker;
+import com.osmerion.quitte.internal.addon.*;
+
+/**
+ * A specialized writable {@code boolean} property that may safely be updated concurrently.
+ *
+ * <p>Updates to the value of this property are performed atomically and without locking. Listeners are notified with
+ * the exact old and new value produced by each successful update. However, since listeners are notified after the
+ * update has been performed, notifications for concurrent updates may be delivered in any order.</p>
+ *
+ * @since   0.9.0
+ *
+ * @author  Leon Linhart
+ */
+public class ConcurrentBoolProperty extends AbstractBoolProperty {
+
+    private static final VarHandle VALUE;
+
+    static {
+        try {
+            VALUE = MethodHandles.lookup().findVarHandle(ConcurrentBoolProperty.class, "value", boolean.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private volatile boolean value;
+
+    /**
+     * Creates a new property with the given initial value.
+     *
+     * @param initial   the initial value for the property
+     *
+     * @since   0.9.0
+     */
+    @PrimaryConstructor
+    public ConcurrentBoolProperty(boolean initial) {
+        this.value = initial;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @since   0.9.0
+     */
+    @Override
+    public final boolean get() {
+        DependencyTracker.record(this);
+        this.recordSnapshotRead();
+
+        return this.value;
+    }
+
+    /**
+     * Atomically sets the value of this property to the given value if the current value is equal to the expected
+     * value.
+     *
+     * @param expectedValue the expected value
+     * @param newValue      the new value
+     *
+     * @return  {@code true} if successful, or {@code false} if the current value was not equal to the expected value
+     *
+     * @throws IllegalStateException    if this property is bound
+     *
+     * @see VarHandle#compareAndSet(Object...)
+     *
+     * @since   0.9.0
+     */
+    public final boolean compareAndSet(boolean expectedValue, boolean newValue) {
+        this.checkUnbound();
+        this.beginWrite();
+
+        try {
+            if (!VALUE.compareAndSet(this, expectedValue, newValue)) return false;
+
+            this.onUpdated(expectedValue, newValue);
+            return true;
+        } finally {
+            this.endWrite();
+        }
+    }
+
+    /**
+     * Atomically sets the value of this property to the given value and returns the old value.
+     *
+     * @param newValue  the new value
+     *
+     * @return  the previous value
+     *
+     * @throws IllegalStateException    if this property is bound
+     *
+     * @since   0.9.0
+     */
+    public final boolean getAndSet(boolean newValue) {
+        this.checkUnbound();
+        this.beginWrite();
+
+        try {
+            boolean prev = (boolean) VALUE.getAndSet(this, newValue);
+            this.onUpdated(prev, newValue);
+
+            return prev;
+        } finally {
+            this.endWrite();
+        }
+    }
+
+    /**
+     * Atomically updates the value of this property with the results of applying the given function, returning the
+     * previous value.
+     *
+     * <p>The function should be side-effect-free, since it may be re-applied when attempted updates fail due to
+     * contention among threads.</p>
+     *
+     * @param updateFunction    a side-effect-free function
+     *
+     * @return  the previous value
+     *
+     * @throws IllegalStateException    if this property is bound
+     *
+     * @since   0.9.0
+     */
+    public final boolean getAndUpdate(BoolToBoolFunction updateFunction) {
+        this.checkUnbound();
+        this.beginWrite();
+
+        try {
+            boolean prev, next;
+
+            do {
+                prev = this.value;
+                next = updateFunction.apply(prev);
+            } while (!VALUE.weakCompareAndSet(this, prev, next));
+
+            this.onUpdated(prev, next);
+            return prev;
+        } finally {
+            this.endWrite();
+        }
+    }
+
+    /**
+     * Atomically updates the value of this property with the results of applying the given function, returning the
+     * updated value.
+     *
+     * <p>The function should be side-effect-free, since it may be re-applied when attempted updates fail due to
+     * contention among threads.</p>
+     *
+     * @param updateFunction    a side-effect-free function
+     *
+     * @return  the updated value
+     *
+     * @throws IllegalStateException    if this property is bound
+     *
+     * @since   0.9.0
+     */
+    public final boolean updateAndGet(BoolToBoolFunction updateFunction) {
+        this.checkUnbound();
+        this.beginWrite();
+
+        try {
+            boolean prev, next;
+
+            do {
+                prev = this.value;
+                next = updateFunction.apply(prev);
+            } while (!VALUE.weakCompareAndSet(this, prev, next));
+
+            this.onUpdated(prev, next);
+            return next;
+        } finally {
+            this.endWrite();
+        }
+    }
+
+    /**
+     * Atomically updates the value of this property with the results of applying the given function to the current
+     * and given values, returning the previous value.
+     *
+     * <p>The function should be side-effect-free, since it may be re-applied when attempted updates fail due to
+     * contention among threads. The function is applied with the current value as its first argument, and the given
+     * update as the second argument.</p>
+     *
+     * @param x                     the update value
+     * @param accumulatorFunction   a side-effect-free function of two arguments
+     *
+     * @return  the previous value
+     *
+     * @throws IllegalStateException    if this property is bound
+     *
+     * @since   0.9.0
+     */
+    public final boolean getAndAccumulate(boolean x, BoolBinaryOperator accumulatorFunction) {
+        this.checkUnbound();
+        this.beginWrite();
+
+        try {
+            boolean prev, next;
+
+            do {
+                prev = this.value;
+                next = accumulatorFunction.apply(prev, x);
+            } while (!VALUE.weakCompareAndSet(this, prev, next));
+
+            this.onUpdated(prev, next);
+            return prev;
+        } finally {
+            this.endWrite();
+        }
+    }
+
+    /**
+     * Atomically updates the value of this property with the results of applying the given function to the current
+     * and given values, returning the updated value.
+     *
+     * <p>The function should be side-effect-free, since it may be re-applied when attempted updates fail due to
+     * contention among threads. The function is applied with the current value as its first argument, and the given
+     * update as the second argument.</p>
+     *
+     * @param x                     the update value
+     * @param accumulatorFunction   a side-effect-free function of two arguments
+     *
+     * @return  the updated value
+     *
+     * @throws IllegalStateException    if this property is bound
+     *
+     * @since   0.9.0
+     */
+    public final boolean accumulateAndGet(boolean x, BoolBinaryOperator accumulatorFunction) {
+        this.checkUnbound();
+        this.beginWrite();
+
+        try {
+            boolean prev, next;
+
+            do {
+                prev = this.value;
+                next = accumulatorFunction.apply(prev, x);
+            } while (!VALUE.weakCompareAndSet(this, prev, next));
+
+            this.onUpdated(prev, next);
+            return next;
+        } finally {
+            this.endWrite();
+        }
+    }
+
+    @Override
+    final boolean getImpl() {
+        return this.value;
+    }
+
+    @Override
+    final void setImpl(boolean value) {
+        this.value = value;
+    }
+
+    @Override
+    final boolean setImplDeferrable(boolean value) {
+        boolean prev = (boolean) VALUE.getAndSet(this, value);
+        if (prev == value) return false;
+
+        this.fireValueChanged(prev, value, false);
+        return true;
+    }
+
+    private void onUpdated(boolean oldValue, boolean newValue) {
+        if (oldValue == newValue) return;
+
+        this.fireValueChanged(oldValue, newValue, false);
+        this.invalidate();
+    }
+
+}
\ No newline at end of file
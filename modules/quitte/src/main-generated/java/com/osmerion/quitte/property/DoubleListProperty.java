@@ -0,0 +1,190 @@
+/*
+ * Copyright (c) 2018-2023 Leon Linhart,
+ * All rights reserved.
+ * MACHINE GENERATED FILE, DO NOT EDIT
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.osmerion.quitte.property;
+
+import javax.annotation.Nullable;
+
+import com.osmerion.quitte.collections.AbstractObservableDoubleList;
+import com.osmerion.quitte.collections.DoubleListChangeListener;
+import com.osmerion.quitte.collections.ObservableDoubleList;
+import com.osmerion.quitte.collections.WeakDoubleListChangeListener;
+
+/**
+ * A specialized {@code double} list property.
+ *
+ * <p>The elements of this property are stored in a growable {@code double} array without boxing.</p>
+ *
+ * @since   0.9.0
+ *
+ * @author  Leon Linhart
+ */
+public class DoubleListProperty extends AbstractObservableDoubleList implements ReadableDoubleListProperty, WritableProperty {
+
+    @Nullable
+    private transient ObservableDoubleList source;
+
+    @Nullable
+    private transient DoubleListChangeListener bindingListener;
+
+    @Nullable
+    private transient WeakDoubleListChangeListener weakBindingListener;
+
+    private transient boolean inBoundUpdate;
+
+    /**
+     * Creates a new {@code DoubleListProperty}.
+     *
+     * @since   0.9.0
+     */
+    public DoubleListProperty() {
+        super();
+    }
+
+    /**
+     * Creates a new {@code DoubleListProperty}.
+     *
+     * @param elements  the initial elements for the list
+     *
+     * @since   0.9.0
+     */
+    public DoubleListProperty(double... elements) {
+        super(elements);
+    }
+
+    /**
+     * Binds this property to the given observable list.
+     *
+     * <p>This method creates a unidirectional binding between this property and the given observable. This binding can
+     * be destroyed again by calling {@link #unbind()}. However, to avoid memory leaks, the given observable will not
+     * hold a strong reference to this property.</p>
+     *
+     * <p>While a property is bound, its value will depend on the value of the observable it is bound to. A property
+     * that is bound by calling this method, is not {@link #isWritable() writable}.</p>
+     *
+     * @param observable    the observable to bind this property to
+     *
+     * @throws IllegalStateException    if the property is already bound
+     *
+     * @since   0.9.0
+     */
+    public final synchronized void bindTo(ObservableDoubleList observable) {
+        if (this.isBound()) throw new IllegalStateException();
+
+        this.source = observable;
+        this.bindingListener = (ignored, change) -> this.onBindingChanged(change);
+        observable.addChangeListener(this.weakBindingListener = new WeakDoubleListChangeListener(this.bindingListener));
+
+        try {
+            this.inBoundUpdate = true;
+            this.setAll(observable.toArray());
+        } finally {
+            this.inBoundUpdate = false;
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @since   0.9.0
+     */
+    @Override
+    public final synchronized boolean isBound() {
+        return (this.source != null);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @since   0.9.0
+     */
+    @Override
+    public final boolean isWritable() {
+        return !this.isBound();
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @since   0.9.0
+     */
+    @Override
+    public final synchronized void unbind() {
+        if (!this.isBound()) throw new IllegalStateException();
+        assert (this.source != null && this.weakBindingListener != null);
+
+        this.source.removeChangeListener(this.weakBindingListener);
+        this.source = null;
+        this.bindingListener = null;
+        this.weakBindingListener = null;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @since   0.9.0
+     */
+    @Override
+    protected final void checkModifiable() {
+        if (this.source != null && !this.inBoundUpdate) throw new IllegalStateException("A bound property's value may not be set explicitly");
+    }
+
+    private void onBindingChanged(DoubleListChangeListener.Change change) {
+        try {
+            this.inBoundUpdate = true;
+
+            try (ChangeBuilder ignored = this.beginChange()) {
+                if (change instanceof DoubleListChangeListener.Change.Permutation permutation) {
+                    this.permute(permutation.indices());
+                } else if (change instanceof DoubleListChangeListener.Change.Update update) {
+                    for (var localChange : update.localChanges()) {
+                        if (localChange instanceof DoubleListChangeListener.LocalChange.Insertion insertion) {
+                            this.addAll(insertion.index(), insertion.elements(), insertion.offset(), insertion.length());
+                        } else if (localChange instanceof DoubleListChangeListener.LocalChange.Removal removal) {
+                            this.removeRange(removal.index(), removal.index() + removal.length());
+                        } else if (localChange instanceof DoubleListChangeListener.LocalChange.Update localUpdate) {
+                            for (int i = 0; i < localUpdate.length(); i++) {
+                                this.set(localUpdate.index() + i, localUpdate.getNew(i));
+                            }
+                        } else {
+                            throw new IllegalStateException();
+                        }
+                    }
+                } else {
+                    throw new IllegalStateException();
+                }
+            }
+        } finally {
+            this.inBoundUpdate = false;
+        }
+    }
+
+}
\ No newline at end of file
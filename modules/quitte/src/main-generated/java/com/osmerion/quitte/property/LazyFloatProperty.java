@@ -36,6 +36,7 @@ import java.util.Objects;
 import javax.annotation.Nullable;
 
 import com.osmerion.quitte.functional.*;
+import com.osmerion.quitte.internal.DependencyTracker;
 import com.osmerion.quitte.internal.addon.*;
 import com.osmerion.quitte.value.*;
 
@@ -48,15 +49,16 @@ import com.osmerion.quitte.value.*;
  */
 public class LazyFloatProperty extends AbstractFloatProperty implements LazyValue {
 
-    private final SimpleObjectProperty<State> state = new SimpleObjectProperty<>(State.UNINITIALIZED) {
+    private static final State[] STATES = State.values();
 
-        @Override
-        public void onChanged(@Nullable State prevValue, @Nullable State value) {
-            //noinspection ConstantConditions
-            if (!value.isValid()) LazyFloatProperty.this.invalidate();
-        }
+    /*
+     * The state is stored as the ordinal of the respective State constant. An observable view is only created once it
+     * is requested and kept in sync from then on.
+     */
+    private transient byte state = (byte) State.UNINITIALIZED.ordinal();
 
-    };
+    @Nullable
+    private transient SimpleObjectProperty<State> stateProperty;
 
     @Nullable
     private FloatSupplier provider;
@@ -73,7 +75,7 @@ public class LazyFloatProperty extends AbstractFloatProperty implements LazyValu
     @PrimaryConstructor
     public LazyFloatProperty(float initial) {
         this.value = initial;
-        this.state.set(State.INITIALIZED);
+        this.state = (byte) State.INITIALIZED.ordinal();
     }
 
     /**
@@ -98,7 +100,14 @@ public class LazyFloatProperty extends AbstractFloatProperty implements LazyValu
      */
     @Override
     public final ReadableObjectProperty<State> stateProperty() {
-        return this.state.asReadOnlyProperty();
+        SimpleObjectProperty<State> stateProperty = this.stateProperty;
+
+        if (stateProperty == null) {
+            stateProperty = new SimpleObjectProperty<>(this.getState());
+            this.stateProperty = stateProperty;
+        }
+
+        return stateProperty.asReadOnlyProperty();
     }
 
     /**
@@ -108,8 +117,7 @@ public class LazyFloatProperty extends AbstractFloatProperty implements LazyValu
      */
     @Override
     public final State getState() {
-        //noinspection ConstantConditions
-        return this.state.get();
+        return STATES[this.state];
     }
 
     /**
@@ -119,14 +127,20 @@ public class LazyFloatProperty extends AbstractFloatProperty implements LazyValu
      */
     @Override
     public final float get() {
-        //noinspection ConstantConditions
-        if (!this.state.get().isValid()) {
-            var provider = Objects.requireNonNull(this.provider); 
-            this.updateValue(this.intercept(provider.get()), !this.state.get().isValid());
+        DependencyTracker.record(this);
+
+        if (!this.isValid()) {
+            var provider = Objects.requireNonNull(this.provider);
+
+            /* The provider's reads are dependencies of this property, not of the enclosing scope. */
+            try (DependencyTracker.Scope ignored = DependencyTracker.suspend()) {
+                this.updateValue(this.intercept(provider.get()), !this.isValid());
+            }
 
             this.provider = null;
         }
 
+        this.recordSnapshotRead();
         return this.value;
     }
 
@@ -141,9 +155,7 @@ public class LazyFloatProperty extends AbstractFloatProperty implements LazyValu
         if (this.isBound()) throw new IllegalStateException("A bound property's value may not be set explicitly");
 
         this.provider = supplier;
-
-        //noinspection ConstantConditions
-        if (this.state.get().isValid()) this.state.set(State.INVALID);
+        if (this.isValid()) this.setState(State.INVALID);
     }
 
     @Override
@@ -158,9 +170,7 @@ public class LazyFloatProperty extends AbstractFloatProperty implements LazyValu
 
     final boolean setImplDeferrable(float value) {
         this.provider = () -> value;
-
-        //noinspection ConstantConditions
-        if (this.state.get().isValid()) this.state.set(State.INVALID);
+        if (this.isValid()) this.setState(State.INVALID);
 
         return false;
     }
@@ -168,22 +178,45 @@ public class LazyFloatProperty extends AbstractFloatProperty implements LazyValu
     @Override
     final void onBindingInvalidated() {
         this.provider = this::getBoundValue;
-
-        //noinspection ConstantConditions
-        if (this.state.get().isValid()) this.state.set(State.INVALID);
+        if (this.isValid()) this.setState(State.INVALID);
     }
 
     @Override
     final boolean onChangedInternal(float oldValue, float newValue) {
-        if (this.state.get() != State.UNINITIALIZED) {
-            this.state.set(State.VALID);
+        if (this.state != State.UNINITIALIZED.ordinal()) {
+            this.setState(State.VALID);
             return true;
         } else {
-            this.state.set(State.INITIALIZED);
+            this.setState(State.INITIALIZED);
             return false;
         }
     }
 
+    private boolean isValid() {
+        return STATES[this.state].isValid();
+    }
+
+    private void setState(State state) {
+        if (this.state == state.ordinal()) return;
+
+        if (state.isValid()) {
+            this.state = (byte) state.ordinal();
+        } else {
+            /* Invalidating this property is a modification of its value for snapshot reads. */
+            this.beginWrite();
+
+            try {
+                this.state = (byte) state.ordinal();
+                this.invalidate();
+            } finally {
+                this.endWrite();
+            }
+        }
+
+        SimpleObjectProperty<State> stateProperty = this.stateProperty;
+        if (stateProperty != null) stateProperty.set(state);
+    }
+
     /**
      * Intercepts values before updating this property.
      *
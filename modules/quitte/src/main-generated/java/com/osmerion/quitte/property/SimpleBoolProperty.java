@@ -31,6 +31,7 @@
  */
 package com.osmerion.quitte.property;
 
+import com.osmerion.quitte.internal.DependencyTracker;
 import com.osmerion.quitte.internal.addon.*;
 
 /**
@@ -63,6 +64,9 @@ public class SimpleBoolProperty extends AbstractBoolProperty {
      */
     @Override
     public final boolean get() {
+        DependencyTracker.record(this);
+        this.recordSnapshotRead();
+
         return this.getImpl();
     }
 
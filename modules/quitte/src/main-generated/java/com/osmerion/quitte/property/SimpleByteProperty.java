@@ -31,6 +31,7 @@
  */
 package com.osmerion.quitte.property;
 
+import com.osmerion.quitte.internal.DependencyTracker;
 import com.osmerion.quitte.internal.addon.*;
 
 /**
@@ -63,6 +64,9 @@ public class SimpleByteProperty extends AbstractByteProperty {
      */
     @Override
     public final byte get() {
+        DependencyTracker.record(this);
+        this.recordSnapshotRead();
+
         return this.getImpl();
     }
 
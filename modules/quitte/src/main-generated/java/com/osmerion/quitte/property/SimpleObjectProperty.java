@@ -33,6 +33,7 @@ package com.osmerion.quitte.property;
 
 import javax.annotation.Nullable;
 
+import com.osmerion.quitte.internal.DependencyTracker;
 import com.osmerion.quitte.internal.addon.*;
 
 /**
@@ -67,6 +68,9 @@ public class SimpleObjectProperty<T> extends AbstractObjectProperty<T> {
     @Override
     @Nullable
     public final T get() {
+        DependencyTracker.record(this);
+        this.recordSnapshotRead();
+
         return this.getImpl();
     }
 
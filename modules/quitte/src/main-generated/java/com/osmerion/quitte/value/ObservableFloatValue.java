@@ -31,7 +31,13 @@
  */
 package com.osmerion.quitte.value;
 
+import java.time.Duration;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ScheduledExecutorService;
+
+import com.osmerion.quitte.internal.timing.*;
 import com.osmerion.quitte.internal.wrappers.*;
+import com.osmerion.quitte.property.*;
 import com.osmerion.quitte.value.change.*;
 
 import static java.util.Objects.*;
@@ -104,6 +110,28 @@ public interface ObservableFloatValue extends ObservableValue<Float> {
      */
     boolean addChangeListener(FloatChangeListener listener);
 
+    /**
+     * Attaches the given {@link FloatChangeListener} to this observable. The listener is notified asynchronously using the
+     * given {@link Executor}.
+     *
+     * <p>This is equivalent to attaching a new {@link AsyncFloatChangeListener} that wraps the given listener.</p>
+     *
+     * @param listener  the listener to be attached to this observable value
+     * @param executor  the executor used to notify the listener
+     *
+     * @return  {@code true} if the listener was not previously attached to this observable using the given executor and
+     *          has been successfully attached, or {@code false} otherwise
+     *
+     * @throws NullPointerException if the given listener or executor is {@code null}
+     *
+     * @see #removeChangeListener(FloatChangeListener, Executor)
+     *
+     * @since   0.9.0
+     */
+    default boolean addChangeListener(FloatChangeListener listener, Executor executor) {
+        return this.addChangeListener(new AsyncFloatChangeListener(listener, executor));
+    }
+
     /**
      * {@inheritDoc}
      *
@@ -133,4 +161,97 @@ public interface ObservableFloatValue extends ObservableValue<Float> {
      */
     boolean removeChangeListener(FloatChangeListener listener);
 
+    /**
+     * Detaches the given {@link FloatChangeListener} that was attached using the given {@link Executor} from this
+     * observable.
+     *
+     * @param listener  the listener to be detached from this observable value
+     * @param executor  the executor that was used to attach the listener
+     *
+     * @return  {@code true} if the listener was attached to and has been detached from this observable, or
+     *          {@code false} otherwise
+     *
+     * @throws NullPointerException if the given listener or executor is {@code null}
+     *
+     * @see #addChangeListener(FloatChangeListener, Executor)
+     *
+     * @since   0.9.0
+     */
+    default boolean removeChangeListener(FloatChangeListener listener, Executor executor) {
+        return this.removeChangeListener(new AsyncFloatChangeListener(listener, executor));
+    }
+
+    /**
+     * Returns a read-only property that follows this value once it has settled.
+     *
+     * <p>The returned property is updated to the latest value of this observable once no further change has occurred
+     * for the given delay. Intermediate values are dropped. Updates are performed by tasks scheduled on the given
+     * executor, and listeners of the returned property are notified on the executor's threads.</p>
+     *
+     * <p>The returned property only references this observable weakly. It remains attached for as long as it is
+     * reachable.</p>
+     *
+     * @param delay     the duration for which this value must remain unchanged before it is emitted
+     * @param executor  the executor used to schedule updates
+     *
+     * @return  a debounced view of this value
+     *
+     * @throws IllegalArgumentException if the given delay is not positive
+     * @throws NullPointerException     if the given delay or executor is {@code null}
+     *
+     * @since   0.9.0
+     */
+    default ReadableFloatProperty debounce(Duration delay, ScheduledExecutorService executor) {
+        return new TimedFloatProperty(this, TimingMode.DEBOUNCE, delay, executor).asReadOnlyProperty();
+    }
+
+    /**
+     * Returns a read-only property that follows this value at most once per given interval.
+     *
+     * <p>A change that occurs while no interval is open is emitted immediately and opens a new interval. Changes that
+     * occur while an interval is open are held back, and the latest of them is emitted once the interval has passed.
+     * Updates are performed by tasks scheduled on the given executor, and listeners of the returned property may be
+     * notified on the executor's threads.</p>
+     *
+     * <p>The returned property only references this observable weakly. It remains attached for as long as it is
+     * reachable.</p>
+     *
+     * @param interval  the minimum duration between two updates of the returned property
+     * @param executor  the executor used to schedule updates
+     *
+     * @return  a throttled view of this value
+     *
+     * @throws IllegalArgumentException if the given interval is not positive
+     * @throws NullPointerException     if the given interval or executor is {@code null}
+     *
+     * @since   0.9.0
+     */
+    default ReadableFloatProperty throttleLatest(Duration interval, ScheduledExecutorService executor) {
+        return new TimedFloatProperty(this, TimingMode.THROTTLE_LATEST, interval, executor).asReadOnlyProperty();
+    }
+
+    /**
+     * Returns a read-only property that samples this value periodically.
+     *
+     * <p>Once this value changes, the returned property is updated to the latest value after the given period. No
+     * updates are scheduled while this value does not change. Updates are performed by tasks scheduled on the given
+     * executor, and listeners of the returned property are notified on the executor's threads.</p>
+     *
+     * <p>The returned property only references this observable weakly. It remains attached for as long as it is
+     * reachable.</p>
+     *
+     * @param period    the sampling period
+     * @param executor  the executor used to schedule updates
+     *
+     * @return  a sampled view of this value
+     *
+     * @throws IllegalArgumentException if the given period is not positive
+     * @throws NullPointerException     if the given period or executor is {@code null}
+     *
+     * @since   0.9.0
+     */
+    default ReadableFloatProperty sample(Duration period, ScheduledExecutorService executor) {
+        return new TimedFloatProperty(this, TimingMode.SAMPLE, period, executor).asReadOnlyProperty();
+    }
+
 }
\ No newline at end of file
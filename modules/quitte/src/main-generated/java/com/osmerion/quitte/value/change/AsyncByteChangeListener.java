@@ -0,0 +1,129 @@
+/*
+ * Copyright (c) 2018-2023 Leon Linhart,
+ * All rights reserved.
+ * MACHINE GENERATED FILE, DO NOT EDIT
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.osmerion.quitte.value.change;
+
+import java.util.Objects;
+import java.util.concurrent.Executor;
+
+import com.osmerion.quitte.internal.CoalescingDispatcher;
+import com.osmerion.quitte.value.*;
+
+/**
+ * An {@code AsyncByteChangeListener} may be used to wrap a listener that should be notified asynchronously
+ * using an {@link Executor}.
+ *
+ * <p>If the value of an observable changes again before the wrapped listener has been notified about a previous change
+ * of the same observable, only a single notification is delivered. This notification carries the old value of the
+ * first change and the new value of the latest change.</p>
+ *
+ * <p>Two {@code AsyncByteChangeListener} instances are equal if they wrap equal listeners and use the same
+ * executor. Thus, an {@code AsyncByteChangeListener} may be removed from an observable using a new wrapper
+ * instance.</p>
+ * 
+ * @see ObservableByteValue#addChangeListener(ByteChangeListener, Executor)
+ *
+ * @since   0.9.0
+ *
+ * @author  Leon Linhart
+ */
+public final class AsyncByteChangeListener implements ByteChangeListener {
+
+    private final ByteChangeListener listener;
+    private final CoalescingDispatcher<ObservableByteValue, Change> dispatcher;
+
+    /**
+     * Wraps the given {@link ByteChangeListener listener}.
+     *
+     * @param listener  the listener to wrap
+     * @param executor  the executor used to notify the listener
+     *
+     * @throws NullPointerException if the given listener or executor is {@code null}
+     *
+     * @since   0.9.0
+     */
+    public AsyncByteChangeListener(ByteChangeListener listener, Executor executor) {
+        this.listener = Objects.requireNonNull(listener);
+        this.dispatcher = new CoalescingDispatcher<>(
+            executor,
+            (prev, next) -> new Change(prev.oldValue(), next.newValue(), true),
+            (observable, change) -> {
+                if (!change.isCoalesced() || change.oldValue() != change.newValue()) listener.onChanged(observable, change.oldValue(), change.newValue());
+            }
+        );
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @since   0.9.0
+     */
+    @Override
+    public void onChanged(ObservableByteValue observable, byte oldValue, byte newValue) {
+        this.dispatcher.dispatch(observable, new Change(oldValue, newValue, false));
+    }
+
+    /**
+     * {@return whether the underlying listener has become invalid}
+     *
+     * @since   0.9.0
+     */
+    @Override
+    public boolean isInvalid() {
+        return this.listener.isInvalid();
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @since   0.9.0
+     */
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) return true;
+        if (!(obj instanceof AsyncByteChangeListener other)) return false;
+
+        return this.listener.equals(other.listener) && this.dispatcher.getExecutor() == other.dispatcher.getExecutor();
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @since   0.9.0
+     */
+    @Override
+    public int hashCode() {
+        return 31 * this.listener.hashCode() + System.identityHashCode(this.dispatcher.getExecutor());
+    }
+
+    private record Change(byte oldValue, byte newValue, boolean isCoalesced) {}
+
+}
\ No newline at end of file
@@ -33,14 +33,17 @@ package com.osmerion.quitte.value.change;
 
 import java.lang.ref.WeakReference;
 import java.util.Objects;
+import java.util.function.Consumer;
 
+import com.osmerion.quitte.internal.ListenerReaper;
 import com.osmerion.quitte.value.*;
 
 /**
  * A {@code WeakBoolChangeListener} may be used to wrap a listener that should only be referenced weakly
  * from an {@link ObservableValue}.
  *
- * <p>This listener does not keep a strong reference to the wrapped listener.</p>
+ * <p>This listener does not keep a strong reference to the wrapped listener. Once the wrapped listener has been
+ * garbage collected, this listener is proactively detached from the observables it is attached to.</p>
  * 
  * @see WeakReference
  *
@@ -48,11 +51,9 @@ import com.osmerion.quitte.value.*;
  *
  * @author  Leon Linhart
  */
-public final class WeakBoolChangeListener implements BoolChangeListener {
+public final class WeakBoolChangeListener implements BoolChangeListener, ListenerReaper.Reapable {
 
-    private final WeakReference<BoolChangeListener> ref;
-
-    private boolean wasGarbageCollected;
+    private final ListenerReaper.ListenerReference<BoolChangeListener> ref;
 
     /**
      * Wraps the given {@link BoolChangeListener listener}.
@@ -64,8 +65,7 @@ public final class WeakBoolChangeListener implements BoolChangeListener {
      * @since   0.1.0
      */
     public WeakBoolChangeListener(BoolChangeListener listener) {
-        this.ref = new WeakReference<>(Objects.requireNonNull(listener));
-        this.wasGarbageCollected = false;
+        this.ref = new ListenerReaper.ListenerReference<>(Objects.requireNonNull(listener));
     }
 
     /**
@@ -77,11 +77,7 @@ public final class WeakBoolChangeListener implements BoolChangeListener {
     public void onChanged(ObservableBoolValue observable, boolean oldValue, boolean newValue) {
         var listener = this.ref.get();
 
-        if (listener != null) {
-            listener.onChanged(observable, oldValue, newValue);
-        } else {
-            this.wasGarbageCollected = false;
-        }
+        if (listener != null) listener.onChanged(observable, oldValue, newValue);
     }
 
     /**
@@ -93,10 +89,16 @@ public final class WeakBoolChangeListener implements BoolChangeListener {
      */
     @Override
     public boolean isInvalid() {
-        if (this.wasGarbageCollected) return true;
-
         var listener = this.ref.get();
-        return (listener != null && listener.isInvalid());
+        return (listener == null || listener.isInvalid());
+    }
+
+    /**
+     * @hidden
+     */
+    @Override
+    public <O> void reapFrom(O owner, Consumer<? super O> action) {
+        this.ref.reapFrom(owner, action);
     }
 
 }
\ No newline at end of file
@@ -33,16 +33,19 @@ package com.osmerion.quitte.value.change;
 
 import java.lang.ref.WeakReference;
 import java.util.Objects;
+import java.util.function.Consumer;
 
 import javax.annotation.Nullable;
 
+import com.osmerion.quitte.internal.ListenerReaper;
 import com.osmerion.quitte.value.*;
 
 /**
  * A {@code WeakObjectChangeListener} may be used to wrap a listener that should only be referenced weakly
  * from an {@link ObservableValue}.
  *
- * <p>This listener does not keep a strong reference to the wrapped listener.</p>
+ * <p>This listener does not keep a strong reference to the wrapped listener. Once the wrapped listener has been
+ * garbage collected, this listener is proactively detached from the observables it is attached to.</p>
  * 
  * @param <T>   the type of the observed value
  *
@@ -52,11 +55,9 @@ import com.osmerion.quitte.value.*;
  *
  * @author  Leon Linhart
  */
-public final class WeakObjectChangeListener<T> implements ObjectChangeListener<T> {
+public final class WeakObjectChangeListener<T> implements ObjectChangeListener<T>, ListenerReaper.Reapable {
 
-    private final WeakReference<ObjectChangeListener<T>> ref;
-
-    private boolean wasGarbageCollected;
+    private final ListenerReaper.ListenerReference<ObjectChangeListener<T>> ref;
 
     /**
      * Wraps the given {@link ObjectChangeListener listener}.
@@ -68,8 +69,7 @@ public final class WeakObjectChangeListener<T> implements ObjectChangeListener<T
      * @since   0.1.0
      */
     public WeakObjectChangeListener(ObjectChangeListener<T> listener) {
-        this.ref = new WeakReference<>(Objects.requireNonNull(listener));
-        this.wasGarbageCollected = false;
+        this.ref = new ListenerReaper.ListenerReference<>(Objects.requireNonNull(listener));
     }
 
     /**
@@ -81,11 +81,7 @@ public final class WeakObjectChangeListener<T> implements ObjectChangeListener<T
     public void onChanged(ObservableObjectValue<T> observable, @Nullable T oldValue, @Nullable T newValue) {
         var listener = this.ref.get();
 
-        if (listener != null) {
-            listener.onChanged(observable, oldValue, newValue);
-        } else {
-            this.wasGarbageCollected = false;
-        }
+        if (listener != null) listener.onChanged(observable, oldValue, newValue);
     }
 
     /**
@@ -97,10 +93,16 @@ public final class WeakObjectChangeListener<T> implements ObjectChangeListener<T
      */
     @Override
     public boolean isInvalid() {
-        if (this.wasGarbageCollected) return true;
-
         var listener = this.ref.get();
-        return (listener != null && listener.isInvalid());
+        return (listener == null || listener.isInvalid());
+    }
+
+    /**
+     * @hidden
+     */
+    @Override
+    public <O> void reapFrom(O owner, Consumer<? super O> action) {
+        this.ref.reapFrom(owner, action);
     }
 
 }
\ No newline at end of file
@@ -0,0 +1,246 @@
+/*
+ * Copyright (c) 2018-2023 Leon Linhart,
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.osmerion.quitte;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Consumer;
+import javax.annotation.Nullable;
+
+import com.osmerion.quitte.internal.ListenerReaper;
+
+/**
+ * A registry of listeners that is intended for {@link Observable observables} with a very large number of listeners.
+ *
+ * <p>Observables commonly store their listeners in a {@link java.util.concurrent.CopyOnWriteArraySet}. Attaching or
+ * detaching a listener to such a set takes time linear in the number of listeners. Thus, attaching {@code n} listeners
+ * takes quadratic time. In contrast, a {@code ListenerRegistry} attaches and detaches listeners in amortized constant
+ * time. Implementations of {@link Observable} may opt in by storing their listeners in a registry instead.</p>
+ *
+ * <p>Listeners are stored in an array of slots. A detached listener leaves an empty slot behind, and the slots are
+ * compacted in batches once enough of them are empty. Compaction never modifies an array in place. Thus, the registry
+ * may be {@link #iterator() iterated} while listeners are concurrently attached or detached, for example, while
+ * listeners are notified. Listeners that are attached during an iteration may or may not be visited by it. Listeners
+ * that are detached during an iteration are skipped unless the iteration has already passed them or the slots have
+ * been compacted in the meantime.</p>
+ *
+ * <p>Listeners that reference another listener weakly (such as {@link WeakInvalidationListener}) are detached
+ * automatically once the referenced listener has been garbage collected.</p>
+ *
+ * <p>This class is thread-safe.</p>
+ *
+ * @param <L>   the type of the listeners
+ *
+ * @since   0.9.0
+ *
+ * @author  Leon Linhart
+ */
+public final class ListenerRegistry<L> implements Iterable<L> {
+
+    private static final int MIN_CAPACITY = 8;
+
+    private final HashMap<L, Integer> indices = new HashMap<>();
+
+    private volatile AtomicReferenceArray<L> slots = new AtomicReferenceArray<>(MIN_CAPACITY);
+    private volatile int size;
+
+    /* The index of the first slot that has never been used since the last compaction. */
+    private int end;
+
+    /**
+     * Creates a new empty {@code ListenerRegistry}.
+     *
+     * @since   0.9.0
+     */
+    public ListenerRegistry() {}
+
+    /**
+     * Attaches the given listener unless it is already attached.
+     *
+     * @param listener  the listener to attach
+     *
+     * @return  {@code true} if the listener was attached, or {@code false} if it was already attached
+     *
+     * @throws NullPointerException if the given listener is {@code null}
+     *
+     * @since   0.9.0
+     */
+    public boolean add(L listener) {
+        Objects.requireNonNull(listener);
+
+        synchronized (this.indices) {
+            if (this.indices.containsKey(listener)) return false;
+            if (this.end == this.slots.length()) this.compact();
+
+            this.slots.set(this.end, listener);
+            this.indices.put(listener, this.end);
+            this.end++;
+            this.size++;
+        }
+
+        ListenerReaper.track(listener, this, it -> it.remove(listener));
+        return true;
+    }
+
+    /**
+     * Detaches the given listener.
+     *
+     * @param listener  the listener to detach
+     *
+     * @return  {@code true} if the listener was detached, or {@code false} if it was not attached
+     *
+     * @throws NullPointerException if the given listener is {@code null}
+     *
+     * @since   0.9.0
+     */
+    public boolean remove(L listener) {
+        Objects.requireNonNull(listener);
+
+        synchronized (this.indices) {
+            Integer index = this.indices.remove(listener);
+            if (index == null) return false;
+
+            this.slots.set(index, null);
+            this.size--;
+
+            /* Once most of the used slots are empty, the slots are compacted to keep iteration proportional to the size. */
+            if (this.size < (this.end >>> 2) && this.slots.length() > MIN_CAPACITY) this.compact();
+        }
+
+        return true;
+    }
+
+    /**
+     * {@return the number of attached listeners}
+     *
+     * @since   0.9.0
+     */
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * {@return whether no listeners are attached}
+     *
+     * @since   0.9.0
+     */
+    public boolean isEmpty() {
+        return this.size == 0;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @since   0.9.0
+     */
+    @Override
+    public void forEach(Consumer<? super L> action) {
+        Objects.requireNonNull(action);
+        var slots = this.slots;
+
+        for (int i = 0, length = slots.length(); i < length; i++) {
+            L listener = slots.get(i);
+            if (listener != null) action.accept(listener);
+        }
+    }
+
+    /**
+     * {@return an iterator over the attached listeners}
+     *
+     * <p>The returned iterator does not support {@link Iterator#remove() removal}. Instead, listeners should be
+     * detached using {@link #remove(Object)}, which is safe to call during iteration.</p>
+     *
+     * @since   0.9.0
+     */
+    @Override
+    public Iterator<L> iterator() {
+        var slots = this.slots;
+
+        return new Iterator<>() {
+
+            private int index;
+
+            @Nullable
+            private L next = this.advance();
+
+            @Nullable
+            private L advance() {
+                while (this.index < slots.length()) {
+                    L listener = slots.get(this.index++);
+                    if (listener != null) return listener;
+                }
+
+                return null;
+            }
+
+            @Override
+            public boolean hasNext() {
+                return this.next != null;
+            }
+
+            @Override
+            public L next() {
+                L listener = this.next;
+                if (listener == null) throw new NoSuchElementException();
+
+                this.next = this.advance();
+                return listener;
+            }
+
+        };
+    }
+
+    /*
+     * Moves the attached listeners into a new array with room for at least as many additional listeners. The previous
+     * array is left untouched so that ongoing iterations are not affected.
+     */
+    private void compact() {
+        var slots = this.slots;
+        var compacted = new AtomicReferenceArray<L>(Math.max(MIN_CAPACITY, this.size * 2));
+        int size = 0;
+
+        for (int i = 0; i < this.end; i++) {
+            L listener = slots.get(i);
+            if (listener == null) continue;
+
+            compacted.set(size, listener);
+            this.indices.put(listener, size);
+            size++;
+        }
+
+        this.end = size;
+        this.slots = compacted;
+    }
+
+}
@@ -30,6 +30,8 @@
  */
 package com.osmerion.quitte;
 
+import java.util.concurrent.Executor;
+
 /**
  * An {@code Observable} object wraps a state and allows {@link #addInvalidationListener(InvalidationListener) listening}
  * for invalidation of the wrapped state.
@@ -72,6 +74,28 @@ public interface Observable {
      */
     boolean addInvalidationListener(InvalidationListener listener);
 
+    /**
+     * Attaches the given {@link InvalidationListener} to this observable. The listener is notified asynchronously
+     * using the given {@link Executor}.
+     *
+     * <p>This is equivalent to attaching a new {@link AsyncInvalidationListener} that wraps the given listener.</p>
+     *
+     * @param listener  the listener to be attached to this observable
+     * @param executor  the executor used to notify the listener
+     *
+     * @return  {@code true} if the listener was not previously attached to this observable using the given executor and
+     *          has been successfully attached, or {@code false} otherwise
+     *
+     * @throws NullPointerException if the given listener or executor is {@code null}
+     *
+     * @see #removeInvalidationListener(InvalidationListener, Executor)
+     *
+     * @since   0.9.0
+     */
+    default boolean addInvalidationListener(InvalidationListener listener, Executor executor) {
+        return this.addInvalidationListener(new AsyncInvalidationListener(listener, executor));
+    }
+
     /**
      * Detaches the given {@link InvalidationListener} from this observable.
      *
@@ -91,4 +115,24 @@ public interface Observable {
      */
     boolean removeInvalidationListener(InvalidationListener listener);
 
+    /**
+     * Detaches the given {@link InvalidationListener} that was attached using the given {@link Executor} from this
+     * observable.
+     *
+     * @param listener  the listener to be detached from this observable
+     * @param executor  the executor that was used to attach the listener
+     *
+     * @return  {@code true} if the listener was attached to and has been detached from this observable, or
+     *          {@code false} otherwise
+     *
+     * @throws NullPointerException if the given listener or executor is {@code null}
+     *
+     * @see #addInvalidationListener(InvalidationListener, Executor)
+     *
+     * @since   0.9.0
+     */
+    default boolean removeInvalidationListener(InvalidationListener listener, Executor executor) {
+        return this.removeInvalidationListener(new AsyncInvalidationListener(listener, executor));
+    }
+
 }
\ No newline at end of file
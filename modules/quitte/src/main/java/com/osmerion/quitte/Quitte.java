@@ -0,0 +1,127 @@
+/*
+ * Copyright (c) 2018-2023 Leon Linhart,
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.osmerion.quitte;
+
+import com.osmerion.quitte.internal.Propagation;
+
+/**
+ * This class provides general functionality for working with observables.
+ *
+ * @since   0.9.0
+ *
+ * @author  Leon Linhart
+ */
+public final class Quitte {
+
+    /**
+     * Runs the given action in a {@link #beginTransaction() transaction}.
+     *
+     * @param action    the action to run
+     *
+     * @since   0.9.0
+     */
+    public static void batch(Runnable action) {
+        try (Transaction ignored = beginTransaction()) {
+            action.run();
+        }
+    }
+
+    /**
+     * Opens a new transaction on the current thread.
+     *
+     * <p>While a transaction is open, notifications of properties and observable collections that are modified on the
+     * current thread are deferred. When the outermost transaction is committed, at most one change notification and
+     * one invalidation notification are delivered for every modified observable. Since dependent expressions and
+     * bindings are only revalidated when they are notified, they may not reflect modifications made inside the
+     * transaction until it has been committed.</p>
+     *
+     * <p>Transactions may be nested. A transaction must be committed by the thread that opened it. Typically, a
+     * transaction is used with a {@code try}-with-resources statement:</p>
+     *
+     * <pre>{@code
+     * try (var tx = Quitte.beginTransaction()) {
+     *     firstName.set("Jane");
+     *     lastName.set("Doe");
+     * }
+     * }</pre>
+     *
+     * @return  the new transaction
+     *
+     * @since   0.9.0
+     */
+    public static Transaction beginTransaction() {
+        Propagation.beginTransaction();
+        return new Transaction(Thread.currentThread());
+    }
+
+    @Deprecated
+    private Quitte() { throw new UnsupportedOperationException(); }
+
+    /**
+     * A transaction that defers notifications until it is committed.
+     *
+     * @see Quitte#beginTransaction()
+     *
+     * @since   0.9.0
+     *
+     * @author  Leon Linhart
+     */
+    public static final class Transaction implements AutoCloseable {
+
+        private final Thread owner;
+        private boolean isCommitted;
+
+        private Transaction(Thread owner) {
+            this.owner = owner;
+        }
+
+        /**
+         * Commits this transaction.
+         *
+         * <p>If this is the outermost transaction, all deferred notifications are delivered.</p>
+         *
+         * @throws IllegalStateException    if this transaction has already been committed, or if this method is not
+         *                                  called by the thread that opened this transaction
+         *
+         * @since   0.9.0
+         */
+        @Override
+        public void close() {
+            if (Thread.currentThread() != this.owner) throw new IllegalStateException("A transaction must be committed by the thread that opened it");
+            if (this.isCommitted) throw new IllegalStateException("Transaction has already been committed");
+
+            this.isCommitted = true;
+            Propagation.commitTransaction();
+        }
+
+    }
+
+}
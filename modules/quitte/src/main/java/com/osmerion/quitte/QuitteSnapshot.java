@@ -0,0 +1,118 @@
+/*
+ * Copyright (c) 2018-2023 Leon Linhart,
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.osmerion.quitte;
+
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Supplier;
+
+import com.osmerion.quitte.internal.SnapshotTracker;
+
+/**
+ * Consistent reads of multiple properties and expressions while other threads keep modifying them.
+ *
+ * <p>Every property and expression carries a version stamp that is advanced whenever its value is modified. A
+ * {@link #read(Supplier) snapshot read} runs an action optimistically, records the stamps of the values it reads, and
+ * validates afterwards that none of these values was being modified or has been modified since. If the validation
+ * fails, the action is run again. Thus, the result of a snapshot read is always computed from values that were current
+ * at the same point in time.</p>
+ *
+ * <pre>{@code
+ * Report report = QuitteSnapshot.read(() -> new Report(revenue.get(), cost.get(), margin.get()));
+ * }</pre>
+ *
+ * <p>A modification includes the propagation of the change to dependent expressions and bindings. Values that are
+ * modified in a {@link Quitte#beginTransaction() transaction} are considered to be modified until the transaction is
+ * committed. Thus, transactions may be used to make related modifications appear atomic to snapshot reads. Values
+ * that are being modified by the current thread itself, for example by a snapshot read from a listener or within a
+ * transaction, are read as they are.</p>
+ *
+ * <p>Snapshot reads never block writers and writers only ever touch the stamps of the values they modify. Readers only
+ * wait while a value they read is being modified and retry when their read was interleaved with a modification of one
+ * of these values. Under a continuous stream of modifications, a snapshot read may
+ * take several attempts to succeed. Since an action may be run multiple times and may observe inconsistent values in
+ * attempts that are discarded, it should be side-effect-free and short.</p>
+ *
+ * <p>Snapshot reads cover the values of the properties and expressions provided by this library. Observable
+ * collections are not covered.</p>
+ *
+ * @since   0.9.0
+ *
+ * @author  Leon Linhart
+ */
+public final class QuitteSnapshot {
+
+    /* The number of attempts after which a reader starts to back off instead of spinning. */
+    private static final int SPIN_ATTEMPTS = 64;
+
+    /* The upper bound for the time a reader backs off between two attempts. */
+    private static final long MAX_BACKOFF_NANOS = 1_000_000L;
+
+    /**
+     * Runs the given action and returns its result once it has been computed from a consistent set of values.
+     *
+     * <p>If the action throws a runtime exception during an attempt that turns out to be inconsistent, the exception is
+     * discarded and the action is run again. Otherwise, the exception is rethrown.</p>
+     *
+     * @param <R>       the type of the result
+     * @param action    the side-effect-free action that reads the values
+     *
+     * @return  the result of the action
+     *
+     * @since   0.9.0
+     */
+    public static <R> R read(Supplier<R> action) {
+        for (int attempt = 0; ; attempt++) {
+            try (SnapshotTracker.ReadSet reads = SnapshotTracker.open()) {
+                try {
+                    R result = action.get();
+                    if (reads.validate()) return result;
+                } catch (RuntimeException e) {
+                    if (reads.validate()) throw e;
+                }
+            }
+
+            backOff(attempt);
+        }
+    }
+
+    private static void backOff(int attempt) {
+        if (attempt < SPIN_ATTEMPTS) {
+            Thread.onSpinWait();
+        } else {
+            int shift = Math.min(attempt - SPIN_ATTEMPTS, 20);
+            LockSupport.parkNanos(Math.min(1_000L << shift, MAX_BACKOFF_NANOS));
+        }
+    }
+
+    @Deprecated
+    private QuitteSnapshot() { throw new UnsupportedOperationException(); }
+
+}
@@ -0,0 +1,1014 @@
+/*
+ * Copyright (c) 2018-2023 Leon Linhart,
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.osmerion.quitte;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.LongConsumer;
+import javax.annotation.Nullable;
+
+import com.osmerion.quitte.collections.*;
+import com.osmerion.quitte.internal.Propagation;
+import com.osmerion.quitte.property.*;
+import com.osmerion.quitte.value.change.*;
+
+/**
+ * An {@code UndoHistory} records the modifications of properties and observable collections as invertible deltas, so
+ * that they can be undone and redone.
+ *
+ * <p>Observables are {@link #track(WritableIntProperty) tracked} by the history. Every change of a tracked observable
+ * is recorded as an edit, and every edit forms a step that can be {@link #undo() undone}. Instead of copies of the
+ * modified observables, only the modified values and elements are retained. Adjacent edits of the same observable are
+ * merged into a single step. For example, consecutive modifications of the same value property, consecutive insertions
+ * into a list that continue each other, or an insertion that is immediately removed again. Merging can be prevented by
+ * starting a new step using {@link #checkpoint()}, and modifications of multiple observables may be grouped into a
+ * single step using {@link #batch(Runnable)}.</p>
+ *
+ * <p>The history retains steps until their estimated memory usage exceeds the configured budget. Then, the oldest
+ * steps are discarded. The estimate accounts for the deltas themselves, but not for the values and elements they
+ * reference.</p>
+ *
+ * <p>Undoing or redoing a step applies all of its edits in a single {@link Quitte#beginTransaction() transaction}.
+ * Thus, every affected observable is notified only once. Changes of a {@link ObservableDeque deque} that cannot be
+ * inverted (i.e. {@link DequeChangeListener.Site#OPAQUE opaque changes}) clear the history.</p>
+ *
+ * <p>This class is not thread-safe. Tracked observables must only be modified on the thread that uses the history.</p>
+ *
+ * @since   0.9.0
+ *
+ * @author  Leon Linhart
+ */
+public final class UndoHistory implements AutoCloseable {
+
+    /* Rough estimates (in bytes) of the retained size of an edit, and of a reference to a value. */
+    private static final long EDIT_SIZE = 32;
+    private static final long REFERENCE_SIZE = 8;
+
+    private final long memoryBudget;
+
+    private final Deque<Step> undoSteps = new ArrayDeque<>();
+    private final Deque<Step> redoSteps = new ArrayDeque<>();
+    private final List<Runnable> detachers = new ArrayList<>();
+
+    @Nullable
+    private Step group;
+
+    private long memoryUsage;
+    private boolean isMergeable;
+    private boolean isApplying;
+
+    /**
+     * Creates a new history.
+     *
+     * @param memoryBudget  the estimated memory usage (in bytes) up to which steps are retained
+     *
+     * @throws IllegalArgumentException if the given budget is negative
+     *
+     * @since   0.9.0
+     */
+    public UndoHistory(long memoryBudget) {
+        if (memoryBudget < 0) throw new IllegalArgumentException("Memory budget must not be negative: " + memoryBudget);
+        this.memoryBudget = memoryBudget;
+    }
+
+    /**
+     * Starts tracking the given property.
+     *
+     * @param property  the property to track
+     *
+     * @since   0.9.0
+     */
+    public void track(WritableBoolProperty property) {
+        LongConsumer setter = bits -> property.set(bits != 0);
+        BoolChangeListener listener = (observable, oldValue, newValue) -> this.record(new ValueEdit(property, setter, oldValue ? 1 : 0, newValue ? 1 : 0));
+        property.addChangeListener(listener);
+        this.detachers.add(() -> property.removeChangeListener(listener));
+    }
+
+    /**
+     * Starts tracking the given property.
+     *
+     * @param property  the property to track
+     *
+     * @since   0.9.0
+     */
+    public void track(WritableByteProperty property) {
+        LongConsumer setter = bits -> property.set((byte) bits);
+        ByteChangeListener listener = (observable, oldValue, newValue) -> this.record(new ValueEdit(property, setter, oldValue, newValue));
+        property.addChangeListener(listener);
+        this.detachers.add(() -> property.removeChangeListener(listener));
+    }
+
+    /**
+     * Starts tracking the given property.
+     *
+     * @param property  the property to track
+     *
+     * @since   0.9.0
+     */
+    public void track(WritableShortProperty property) {
+        LongConsumer setter = bits -> property.set((short) bits);
+        ShortChangeListener listener = (observable, oldValue, newValue) -> this.record(new ValueEdit(property, setter, oldValue, newValue));
+        property.addChangeListener(listener);
+        this.detachers.add(() -> property.removeChangeListener(listener));
+    }
+
+    /**
+     * Starts tracking the given property.
+     *
+     * @param property  the property to track
+     *
+     * @since   0.9.0
+     */
+    public void track(WritableIntProperty property) {
+        LongConsumer setter = bits -> property.set((int) bits);
+        IntChangeListener listener = (observable, oldValue, newValue) -> this.record(new ValueEdit(property, setter, oldValue, newValue));
+        property.addChangeListener(listener);
+        this.detachers.add(() -> property.removeChangeListener(listener));
+    }
+
+    /**
+     * Starts tracking the given property.
+     *
+     * @param property  the property to track
+     *
+     * @since   0.9.0
+     */
+    public void track(WritableLongProperty property) {
+        LongConsumer setter = property::set;
+        LongChangeListener listener = (observable, oldValue, newValue) -> this.record(new ValueEdit(property, setter, oldValue, newValue));
+        property.addChangeListener(listener);
+        this.detachers.add(() -> property.removeChangeListener(listener));
+    }
+
+    /**
+     * Starts tracking the given property.
+     *
+     * @param property  the property to track
+     *
+     * @since   0.9.0
+     */
+    public void track(WritableFloatProperty property) {
+        LongConsumer setter = bits -> property.set(Float.intBitsToFloat((int) bits));
+        FloatChangeListener listener = (observable, oldValue, newValue) -> this.record(new ValueEdit(property, setter, Float.floatToRawIntBits(oldValue), Float.floatToRawIntBits(newValue)));
+        property.addChangeListener(listener);
+        this.detachers.add(() -> property.removeChangeListener(listener));
+    }
+
+    /**
+     * Starts tracking the given property.
+     *
+     * @param property  the property to track
+     *
+     * @since   0.9.0
+     */
+    public void track(WritableDoubleProperty property) {
+        LongConsumer setter = bits -> property.set(Double.longBitsToDouble(bits));
+        DoubleChangeListener listener = (observable, oldValue, newValue) -> this.record(new ValueEdit(property, setter, Double.doubleToRawLongBits(oldValue), Double.doubleToRawLongBits(newValue)));
+        property.addChangeListener(listener);
+        this.detachers.add(() -> property.removeChangeListener(listener));
+    }
+
+    /**
+     * Starts tracking the given property.
+     *
+     * @param <T>       the type of the property's value
+     * @param property  the property to track
+     *
+     * @since   0.9.0
+     */
+    public <T> void track(WritableObjectProperty<T> property) {
+        Consumer<T> setter = property::set;
+        ObjectChangeListener<T> listener = (observable, oldValue, newValue) -> this.record(new ObjectEdit<>(property, setter, oldValue, newValue));
+        property.addChangeListener(listener);
+        this.detachers.add(() -> property.removeChangeListener(listener));
+    }
+
+    /**
+     * Starts tracking the given list.
+     *
+     * @param <E>   the type of the list's elements
+     * @param list  the list to track
+     *
+     * @since   0.9.0
+     */
+    public <E> void track(ObservableList<E> list) {
+        ListChangeListener<E> listener = (observable, change) -> this.record(ListEdit.of(list, change));
+        list.addChangeListener(listener);
+        this.detachers.add(() -> list.removeChangeListener(listener));
+    }
+
+    /**
+     * Starts tracking the given set.
+     *
+     * @param <E>   the type of the set's elements
+     * @param set   the set to track
+     *
+     * @since   0.9.0
+     */
+    public <E> void track(ObservableSet<E> set) {
+        SetChangeListener<E> listener = (observable, change) -> this.record(new SetEdit<>(set, change.addedElements(), change.removedElements()));
+        set.addChangeListener(listener);
+        this.detachers.add(() -> set.removeChangeListener(listener));
+    }
+
+    /**
+     * Starts tracking the given deque.
+     *
+     * @param <E>   the type of the deque's elements
+     * @param deque the deque to track
+     *
+     * @since   0.9.0
+     */
+    public <E> void track(ObservableDeque<E> deque) {
+        DequeChangeListener<E> listener = (observable, change) -> {
+            DequeEdit<E> edit = DequeEdit.of(deque, change);
+
+            if (edit != null) {
+                this.record(edit);
+            } else if (!this.isApplying) {
+                this.clear();
+            }
+        };
+        deque.addChangeListener(listener);
+        this.detachers.add(() -> deque.removeChangeListener(listener));
+    }
+
+    /**
+     * Starts tracking the given map.
+     *
+     * @param <K>   the type of the map's keys
+     * @param <V>   the type of the map's values
+     * @param map   the map to track
+     *
+     * @since   0.9.0
+     */
+    public <K, V> void track(ObservableMap<K, V> map) {
+        MapChangeListener<K, V> listener = (observable, change) -> this.record(MapEdit.of(map, change));
+        map.addChangeListener(listener);
+        this.detachers.add(() -> map.removeChangeListener(listener));
+    }
+
+    /**
+     * Runs the given action in a {@link Quitte#batch(Runnable) transaction} and records all modifications of tracked
+     * observables that are made by it as a single step.
+     *
+     * @param action    the action to run
+     *
+     * @throws IllegalStateException    if a transaction that was not opened by this history is open on the current
+     *                                  thread
+     *
+     * @since   0.9.0
+     */
+    public void batch(Runnable action) {
+        if (this.group != null) {
+            action.run();
+            return;
+        }
+
+        this.checkNotInTransaction();
+        Step step = this.group = new Step();
+
+        try {
+            Quitte.batch(action);
+        } finally {
+            this.group = null;
+        }
+
+        if (!step.edits.isEmpty()) this.push(step);
+        this.isMergeable = false;
+    }
+
+    /**
+     * Ends the current step, so that subsequent modifications are not merged into it.
+     *
+     * @since   0.9.0
+     */
+    public void checkpoint() {
+        this.isMergeable = false;
+    }
+
+    /**
+     * Undoes the most recent step.
+     *
+     * @return  whether a step was undone
+     *
+     * @throws IllegalStateException    if a transaction is open on the current thread
+     *
+     * @since   0.9.0
+     */
+    public boolean undo() {
+        this.checkNotInTransaction();
+
+        Step step = this.undoSteps.pollLast();
+        if (step == null) return false;
+
+        this.apply(() -> {
+            for (int i = step.edits.size() - 1; i >= 0; i--) step.edits.get(i).undo();
+        });
+
+        this.redoSteps.addLast(step);
+        this.isMergeable = false;
+
+        return true;
+    }
+
+    /**
+     * Redoes the most recently undone step.
+     *
+     * @return  whether a step was redone
+     *
+     * @throws IllegalStateException    if a transaction is open on the current thread
+     *
+     * @since   0.9.0
+     */
+    public boolean redo() {
+        this.checkNotInTransaction();
+
+        Step step = this.redoSteps.pollLast();
+        if (step == null) return false;
+
+        this.apply(() -> {
+            for (Edit edit : step.edits) edit.redo();
+        });
+
+        this.undoSteps.addLast(step);
+        this.isMergeable = false;
+
+        return true;
+    }
+
+    /**
+     * {@return whether a step can be undone}
+     *
+     * @since   0.9.0
+     */
+    public boolean canUndo() {
+        return !this.undoSteps.isEmpty();
+    }
+
+    /**
+     * {@return whether a step can be redone}
+     *
+     * @since   0.9.0
+     */
+    public boolean canRedo() {
+        return !this.redoSteps.isEmpty();
+    }
+
+    /**
+     * {@return the estimated memory usage (in bytes) of the retained steps}
+     *
+     * @since   0.9.0
+     */
+    public long getMemoryUsage() {
+        return this.memoryUsage;
+    }
+
+    /**
+     * Discards all steps.
+     *
+     * @since   0.9.0
+     */
+    public void clear() {
+        this.undoSteps.clear();
+        this.redoSteps.clear();
+        if (this.group != null) this.group.edits.clear();
+
+        this.memoryUsage = 0;
+        this.isMergeable = false;
+    }
+
+    /**
+     * Stops tracking all observables and discards all steps.
+     *
+     * @since   0.9.0
+     */
+    @Override
+    public void close() {
+        this.detachers.forEach(Runnable::run);
+        this.detachers.clear();
+        this.clear();
+    }
+
+    private void apply(Runnable action) {
+        this.isApplying = true;
+
+        try {
+            Quitte.batch(action);
+        } finally {
+            this.isApplying = false;
+        }
+    }
+
+    private void checkNotInTransaction() {
+        if (Propagation.isInTransaction()) throw new IllegalStateException("Cannot modify the history while a transaction is open");
+    }
+
+    private void record(Edit edit) {
+        if (this.isApplying) return;
+
+        if (this.group != null) {
+            this.group.edits.add(edit);
+            return;
+        }
+
+        Step top = this.undoSteps.peekLast();
+
+        if (this.isMergeable && top != null && top.edits.size() == 1) {
+            Edit last = top.edits.get(0);
+
+            if (last.merge(edit)) {
+                this.discardRedoSteps();
+                this.memoryUsage -= top.size;
+
+                if (last.isEmpty()) {
+                    this.undoSteps.removeLast();
+                    this.isMergeable = false;
+                } else {
+                    top.size = last.size();
+                    this.memoryUsage += top.size;
+                    this.trim();
+                }
+
+                return;
+            }
+        }
+
+        if (edit.isEmpty()) return;
+
+        Step step = new Step();
+        step.edits.add(edit);
+
+        this.push(step);
+        this.isMergeable = true;
+    }
+
+    private void push(Step step) {
+        this.discardRedoSteps();
+
+        for (Edit edit : step.edits) step.size += edit.size();
+
+        this.undoSteps.addLast(step);
+        this.memoryUsage += step.size;
+        this.trim();
+    }
+
+    private void discardRedoSteps() {
+        for (Step step : this.redoSteps) this.memoryUsage -= step.size;
+        this.redoSteps.clear();
+    }
+
+    private void trim() {
+        while (this.memoryUsage > this.memoryBudget && !this.undoSteps.isEmpty()) {
+            this.memoryUsage -= this.undoSteps.removeFirst().size;
+        }
+
+        if (this.undoSteps.isEmpty()) this.isMergeable = false;
+    }
+
+    private static final class Step {
+
+        final List<Edit> edits = new ArrayList<>(1);
+        long size;
+
+    }
+
+    private abstract static class Edit {
+
+        /* Merges the given edit, which was recorded immediately after this one, into this edit if possible. */
+        abstract boolean merge(Edit next);
+
+        abstract void undo();
+
+        abstract void redo();
+
+        abstract long size();
+
+        abstract boolean isEmpty();
+
+    }
+
+    /* An edit of a primitive value property. Values are stored as raw bits to avoid boxing. */
+    private static final class ValueEdit extends Edit {
+
+        private final Object property;
+        private final LongConsumer setter;
+        private final long oldBits;
+        private long newBits;
+
+        ValueEdit(Object property, LongConsumer setter, long oldBits, long newBits) {
+            this.property = property;
+            this.setter = setter;
+            this.oldBits = oldBits;
+            this.newBits = newBits;
+        }
+
+        @Override
+        boolean merge(Edit next) {
+            if (!(next instanceof ValueEdit edit) || edit.property != this.property) return false;
+
+            this.newBits = edit.newBits;
+            return true;
+        }
+
+        @Override
+        void undo() {
+            this.setter.accept(this.oldBits);
+        }
+
+        @Override
+        void redo() {
+            this.setter.accept(this.newBits);
+        }
+
+        @Override
+        long size() {
+            return EDIT_SIZE;
+        }
+
+        @Override
+        boolean isEmpty() {
+            return this.oldBits == this.newBits;
+        }
+
+    }
+
+    private static final class ObjectEdit<T> extends Edit {
+
+        private final Object property;
+        private final Consumer<T> setter;
+
+        @Nullable
+        private final T oldValue;
+
+        @Nullable
+        private T newValue;
+
+        ObjectEdit(Object property, Consumer<T> setter, @Nullable T oldValue, @Nullable T newValue) {
+            this.property = property;
+            this.setter = setter;
+            this.oldValue = oldValue;
+            this.newValue = newValue;
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        boolean merge(Edit next) {
+            if (!(next instanceof ObjectEdit<?> edit) || edit.property != this.property) return false;
+
+            this.newValue = (T) edit.newValue;
+            return true;
+        }
+
+        @Override
+        void undo() {
+            this.setter.accept(this.oldValue);
+        }
+
+        @Override
+        void redo() {
+            this.setter.accept(this.newValue);
+        }
+
+        @Override
+        long size() {
+            return EDIT_SIZE + 2 * REFERENCE_SIZE;
+        }
+
+        @Override
+        boolean isEmpty() {
+            return Objects.equals(this.oldValue, this.newValue);
+        }
+
+    }
+
+    private static final class ListEdit<E> extends Edit {
+
+        static <E> ListEdit<E> of(ObservableList<E> list, ListChangeListener.Change<? extends E> change) {
+            ListEdit<E> edit = new ListEdit<>(list);
+
+            if (change instanceof ListChangeListener.Change.Permutation<? extends E> permutation) {
+                edit.permutation = permutation.indices().stream().mapToInt(Integer::intValue).toArray();
+            } else if (change instanceof ListChangeListener.Change.Update<? extends E> update) {
+                for (ListChangeListener.LocalChange<? extends E> localChange : update.localChanges()) {
+                    Op<E> op;
+
+                    if (localChange instanceof ListChangeListener.LocalChange.Insertion<? extends E> insertion) {
+                        op = new Op<>(insertion.index(), List.of(), insertion.elements());
+                    } else if (localChange instanceof ListChangeListener.LocalChange.Removal<? extends E> removal) {
+                        op = new Op<>(removal.index(), removal.elements(), List.of());
+                    } else {
+                        ListChangeListener.LocalChange.Update<? extends E> localUpdate = (ListChangeListener.LocalChange.Update<? extends E>) localChange;
+                        op = new Op<>(localUpdate.index(), localUpdate.oldElements(), localUpdate.newElements());
+                    }
+
+                    edit.append(op);
+                }
+            }
+
+            return edit;
+        }
+
+        private final ObservableList<E> list;
+        private final List<Op<E>> ops = new ArrayList<>(1);
+
+        @Nullable
+        private int[] permutation;
+
+        private ListEdit(ObservableList<E> list) {
+            this.list = list;
+        }
+
+        /*
+         * Appends the given operation to this edit, coalescing it with the last operation if possible. Insertions that
+         * continue each other, removals by subsequent "delete" or "backspace" operations, and removals of the end of
+         * the last insertion are coalesced.
+         */
+        private boolean append(Op<E> op) {
+            if (!this.ops.isEmpty()) {
+                Op<E> last = this.ops.get(this.ops.size() - 1);
+
+                if (last.isInsertion() && op.isInsertion() && op.index == last.index + last.newElements.size()) {
+                    last.newElements.addAll(op.newElements);
+                    return true;
+                } else if (last.isRemoval() && op.isRemoval()) {
+                    if (op.index == last.index) {
+                        last.oldElements.addAll(op.oldElements);
+                        return true;
+                    } else if (op.index + op.oldElements.size() == last.index) {
+                        last.oldElements.addAll(0, op.oldElements);
+                        last.index = op.index;
+                        return true;
+                    }
+                } else if (last.isInsertion() && op.isRemoval() && op.index >= last.index && op.index + op.oldElements.size() == last.index + last.newElements.size()) {
+                    last.newElements.subList(op.index - last.index, last.newElements.size()).clear();
+                    if (last.newElements.isEmpty()) this.ops.remove(this.ops.size() - 1);
+
+                    return true;
+                }
+            }
+
+            this.ops.add(op);
+            return false;
+        }
+
+        @Override
+        boolean merge(Edit next) {
+            if (!(next instanceof ListEdit<?> edit) || edit.list != this.list) return false;
+            if (this.permutation != null || edit.permutation != null || edit.ops.size() != 1 || this.ops.isEmpty()) return false;
+
+            @SuppressWarnings("unchecked")
+            Op<E> op = (Op<E>) edit.ops.get(0);
+            if (this.append(op)) return true;
+
+            this.ops.remove(this.ops.size() - 1);
+            return false;
+        }
+
+        @Override
+        void undo() {
+            if (this.permutation != null) {
+                List<E> current = new ArrayList<>(this.list);
+                for (int i = 0; i < this.permutation.length; i++) this.list.set(i, current.get(this.permutation[i]));
+
+                return;
+            }
+
+            for (int i = this.ops.size() - 1; i >= 0; i--) {
+                Op<E> op = this.ops.get(i);
+
+                if (op.isInsertion()) {
+                    this.list.subList(op.index, op.index + op.newElements.size()).clear();
+                } else if (op.isRemoval()) {
+                    this.list.addAll(op.index, op.oldElements);
+                } else {
+                    for (int j = 0; j < op.oldElements.size(); j++) this.list.set(op.index + j, op.oldElements.get(j));
+                }
+            }
+        }
+
+        @Override
+        void redo() {
+            if (this.permutation != null) {
+                List<E> current = new ArrayList<>(this.list);
+                for (int i = 0; i < this.permutation.length; i++) this.list.set(this.permutation[i], current.get(i));
+
+                return;
+            }
+
+            for (Op<E> op : this.ops) {
+                if (op.isInsertion()) {
+                    this.list.addAll(op.index, op.newElements);
+                } else if (op.isRemoval()) {
+                    this.list.subList(op.index, op.index + op.oldElements.size()).clear();
+                } else {
+                    for (int j = 0; j < op.newElements.size(); j++) this.list.set(op.index + j, op.newElements.get(j));
+                }
+            }
+        }
+
+        @Override
+        long size() {
+            if (this.permutation != null) return EDIT_SIZE + 4L * this.permutation.length;
+
+            long size = EDIT_SIZE;
+            for (Op<E> op : this.ops) size += EDIT_SIZE + REFERENCE_SIZE * (op.oldElements.size() + op.newElements.size());
+
+            return size;
+        }
+
+        @Override
+        boolean isEmpty() {
+            return this.permutation == null && this.ops.isEmpty();
+        }
+
+        /* A local change that replaces the old elements at an index with the new elements. */
+        private static final class Op<E> {
+
+            int index;
+            final List<E> oldElements;
+            final List<E> newElements;
+
+            Op(int index, List<? extends E> oldElements, List<? extends E> newElements) {
+                this.index = index;
+                this.oldElements = new ArrayList<>(oldElements);
+                this.newElements = new ArrayList<>(newElements);
+            }
+
+            boolean isInsertion() {
+                return this.oldElements.isEmpty();
+            }
+
+            boolean isRemoval() {
+                return this.newElements.isEmpty();
+            }
+
+        }
+
+    }
+
+    private static final class SetEdit<E> extends Edit {
+
+        private final ObservableSet<E> set;
+        private SetChangeListener.Change<E> change;
+
+        @SuppressWarnings("unchecked")
+        SetEdit(ObservableSet<E> set, Set<? extends E> addedElements, Set<? extends E> removedElements) {
+            this.set = set;
+            this.change = new SetChangeListener.Change<>((Set<E>) addedElements, (Set<E>) removedElements);
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        boolean merge(Edit next) {
+            if (!(next instanceof SetEdit<?> edit) || edit.set != this.set) return false;
+
+            this.change = SetChangeListener.Change.merge(this.change, (SetChangeListener.Change<E>) edit.change);
+            return true;
+        }
+
+        @Override
+        void undo() {
+            this.set.removeAll(this.change.addedElements());
+            this.set.addAll(this.change.removedElements());
+        }
+
+        @Override
+        void redo() {
+            this.set.removeAll(this.change.removedElements());
+            this.set.addAll(this.change.addedElements());
+        }
+
+        @Override
+        long size() {
+            return EDIT_SIZE + REFERENCE_SIZE * (this.change.addedElements().size() + this.change.removedElements().size());
+        }
+
+        @Override
+        boolean isEmpty() {
+            return this.change.addedElements().isEmpty() && this.change.removedElements().isEmpty();
+        }
+
+    }
+
+    private static final class MapEdit<K, V> extends Edit {
+
+        @SuppressWarnings("unchecked")
+        static <K, V> MapEdit<K, V> of(ObservableMap<K, V> map, MapChangeListener.Change<? extends K, ? extends V> change) {
+            return new MapEdit<>(map, (MapChangeListener.Change<K, V>) change);
+        }
+
+        private final ObservableMap<K, V> map;
+        private MapChangeListener.Change<K, V> change;
+
+        private MapEdit(ObservableMap<K, V> map, MapChangeListener.Change<K, V> change) {
+            this.map = map;
+            this.change = change;
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        boolean merge(Edit next) {
+            if (!(next instanceof MapEdit<?, ?> edit) || edit.map != this.map) return false;
+
+            this.change = MapChangeListener.Change.merge(this.change, (MapChangeListener.Change<K, V>) edit.change);
+            return true;
+        }
+
+        @Override
+        void undo() {
+            this.map.keySet().removeAll(this.change.addedElements().keySet());
+            this.map.putAll(this.change.removedElements());
+            this.change.updatedElements().forEach((key, update) -> this.map.put(key, update.oldValue()));
+        }
+
+        @Override
+        void redo() {
+            this.map.keySet().removeAll(this.change.removedElements().keySet());
+            this.map.putAll(this.change.addedElements());
+            this.change.updatedElements().forEach((key, update) -> this.map.put(key, update.newValue()));
+        }
+
+        @Override
+        long size() {
+            return EDIT_SIZE + REFERENCE_SIZE * (2L * this.change.addedElements().size() + 2L * this.change.removedElements().size() + 3L * this.change.updatedElements().size());
+        }
+
+        @Override
+        boolean isEmpty() {
+            return this.change.addedElements().isEmpty() && this.change.removedElements().isEmpty() && this.change.updatedElements().isEmpty();
+        }
+
+    }
+
+    private static final class DequeEdit<E> extends Edit {
+
+        @Nullable
+        static <E> DequeEdit<E> of(ObservableDeque<E> deque, DequeChangeListener.Change<? extends E> change) {
+            DequeEdit<E> edit = new DequeEdit<>(deque);
+
+            for (DequeChangeListener.LocalChange<? extends E> localChange : change.localChanges()) {
+                if (localChange.site() == DequeChangeListener.Site.OPAQUE) return null;
+                edit.append(new Op<>(localChange.site() == DequeChangeListener.Site.HEAD, localChange instanceof DequeChangeListener.LocalChange.Insertion, localChange.elements()));
+            }
+
+            return edit;
+        }
+
+        private final ObservableDeque<E> deque;
+        private final List<Op<E>> ops = new ArrayList<>(1);
+
+        private DequeEdit(ObservableDeque<E> deque) {
+            this.deque = deque;
+        }
+
+        /*
+         * Appends the given operation to this edit, coalescing it with the last operation if possible. Operations of the
+         * same kind at the same site are coalesced, and removals cancel out preceding insertions at the same site.
+         */
+        private boolean append(Op<E> op) {
+            if (!this.ops.isEmpty()) {
+                Op<E> last = this.ops.get(this.ops.size() - 1);
+
+                if (last.isHead == op.isHead) {
+                    if (last.isInsertion == op.isInsertion) {
+                        last.elements.addAll(op.elements);
+                        return true;
+                    } else if (last.isInsertion && op.elements.size() <= last.elements.size()) {
+                        last.elements.subList(last.elements.size() - op.elements.size(), last.elements.size()).clear();
+                        if (last.elements.isEmpty()) this.ops.remove(this.ops.size() - 1);
+
+                        return true;
+                    }
+                }
+            }
+
+            this.ops.add(op);
+            return false;
+        }
+
+        @Override
+        boolean merge(Edit next) {
+            if (!(next instanceof DequeEdit<?> edit) || edit.deque != this.deque) return false;
+            if (edit.ops.size() != 1 || this.ops.isEmpty()) return false;
+
+            @SuppressWarnings("unchecked")
+            Op<E> op = (Op<E>) edit.ops.get(0);
+            if (this.append(op)) return true;
+
+            this.ops.remove(this.ops.size() - 1);
+            return false;
+        }
+
+        @Override
+        void undo() {
+            for (int i = this.ops.size() - 1; i >= 0; i--) {
+                Op<E> op = this.ops.get(i);
+                int size = op.elements.size();
+
+                if (op.isInsertion) {
+                    for (int j = 0; j < size; j++) {
+                        if (op.isHead) {
+                            this.deque.removeFirst();
+                        } else {
+                            this.deque.removeLast();
+                        }
+                    }
+                } else {
+                    for (int j = size - 1; j >= 0; j--) {
+                        if (op.isHead) {
+                            this.deque.addFirst(op.elements.get(j));
+                        } else {
+                            this.deque.addLast(op.elements.get(j));
+                        }
+                    }
+                }
+            }
+        }
+
+        @Override
+        void redo() {
+            for (Op<E> op : this.ops) {
+                for (E element : op.elements) {
+                    if (op.isInsertion) {
+                        if (op.isHead) {
+                            this.deque.addFirst(element);
+                        } else {
+                            this.deque.addLast(element);
+                        }
+                    } else {
+                        if (op.isHead) {
+                            this.deque.removeFirst();
+                        } else {
+                            this.deque.removeLast();
+                        }
+                    }
+                }
+            }
+        }
+
+        @Override
+        long size() {
+            long size = EDIT_SIZE;
+            for (Op<E> op : this.ops) size += EDIT_SIZE + REFERENCE_SIZE * op.elements.size();
+
+            return size;
+        }
+
+        @Override
+        boolean isEmpty() {
+            return this.ops.isEmpty();
+        }
+
+        /* Insertions or removals of elements at the head or tail of a deque, in the order in which they were made. */
+        private static final class Op<E> {
+
+            final boolean isHead;
+            final boolean isInsertion;
+            final List<E> elements;
+
+            Op(boolean isHead, boolean isInsertion, List<? extends E> elements) {
+                this.isHead = isHead;
+                this.isInsertion = isInsertion;
+                this.elements = new ArrayList<>(elements);
+            }
+
+        }
+
+    }
+
+}
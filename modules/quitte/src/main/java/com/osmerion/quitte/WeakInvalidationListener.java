@@ -32,12 +32,16 @@ package com.osmerion.quitte;
 
 import java.lang.ref.WeakReference;
 import java.util.Objects;
+import java.util.function.Consumer;
+
+import com.osmerion.quitte.internal.ListenerReaper;
 
 /**
  * A {@code WeakInvalidationListener} may be used to wrap a listener that should only be referenced weakly from an
  * {@link Observable}.
  *
- * <p>This listener does not keep a strong reference to the wrapped listener.</p>
+ * <p>This listener does not keep a strong reference to the wrapped listener. Once the wrapped listener has been
+ * garbage collected, this listener is proactively detached from the observables it is attached to.</p>
  *
  * @see WeakReference
  *
@@ -45,11 +49,9 @@ import java.util.Objects;
  *
  * @author  Leon Linhart
  */
-public final class WeakInvalidationListener implements InvalidationListener {
-
-    private final WeakReference<InvalidationListener> ref;
+public final class WeakInvalidationListener implements InvalidationListener, ListenerReaper.Reapable {
 
-    private boolean wasGarbageCollected;
+    private final ListenerReaper.ListenerReference<InvalidationListener> ref;
 
     /**
      * Wraps the given {@link InvalidationListener listener}.
@@ -61,8 +63,7 @@ public final class WeakInvalidationListener implements InvalidationListener {
      * @since   0.1.0
      */
     public WeakInvalidationListener(InvalidationListener listener) {
-        this.ref = new WeakReference<>(Objects.requireNonNull(listener));
-        this.wasGarbageCollected = false;
+        this.ref = new ListenerReaper.ListenerReference<>(Objects.requireNonNull(listener));
     }
 
     /**
@@ -74,11 +75,7 @@ public final class WeakInvalidationListener implements InvalidationListener {
     public void onInvalidation(Observable observable) {
         var listener = this.ref.get();
 
-        if (listener != null) {
-            listener.onInvalidation(observable);
-        } else {
-            this.wasGarbageCollected = true;
-        }
+        if (listener != null) listener.onInvalidation(observable);
     }
 
     /**
@@ -88,10 +85,16 @@ public final class WeakInvalidationListener implements InvalidationListener {
      */
     @Override
     public boolean isInvalid() {
-        if (this.wasGarbageCollected) return true;
-
         var listener = this.ref.get();
-        return (listener != null && listener.isInvalid());
+        return (listener == null || listener.isInvalid());
+    }
+
+    /**
+     * @hidden
+     */
+    @Override
+    public <O> void reapFrom(O owner, Consumer<? super O> action) {
+        this.ref.reapFrom(owner, action);
     }
 
 }
\ No newline at end of file
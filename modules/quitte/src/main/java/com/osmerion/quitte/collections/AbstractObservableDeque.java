@@ -35,6 +35,10 @@ import java.util.concurrent.CopyOnWriteArraySet;
 import javax.annotation.Nullable;
 
 import com.osmerion.quitte.InvalidationListener;
+import com.osmerion.quitte.internal.Listeners;
+import com.osmerion.quitte.internal.Metrics;
+import com.osmerion.quitte.internal.Propagation;
+import com.osmerion.quitte.metrics.MetricsSink;
 
 /**
  * A basic implementation for a modifiable {@link ObservableDeque}.
@@ -60,7 +64,7 @@ public abstract class AbstractObservableDeque<E> extends AbstractCollection<E> i
      */
     @Override
     public final boolean addChangeListener(DequeChangeListener<? super E> listener) {
-        return this.changeListeners.add(Objects.requireNonNull(listener));
+        return Listeners.add(this.changeListeners, listener);
     }
 
     /**
@@ -80,7 +84,7 @@ public abstract class AbstractObservableDeque<E> extends AbstractCollection<E> i
      */
     @Override
     public final boolean addInvalidationListener(InvalidationListener listener) {
-        return this.invalidationListeners.add(Objects.requireNonNull(listener));
+        return Listeners.add(this.invalidationListeners, listener);
     }
 
     /**
@@ -96,12 +100,20 @@ public abstract class AbstractObservableDeque<E> extends AbstractCollection<E> i
     /**
      * Pushes a frame on the current {@link ChangeBuilder} instance or creates a new one.
      *
+     * <p>If a {@link com.osmerion.quitte.Quitte#beginTransaction() transaction} is open, a newly created builder is
+     * kept open until the transaction is committed. Thus, all changes made during the transaction are reported as a
+     * single change.</p>
+     *
      * @return  the current {@code ChangeBuilder}
      *
      * @since   0.1.0
      */
     protected final ChangeBuilder beginChange() {
-        if (this.changeBuilder == null) this.changeBuilder = new ChangeBuilder();
+        if (this.changeBuilder == null) {
+            ChangeBuilder changeBuilder = this.changeBuilder = new ChangeBuilder();
+            if (Propagation.isInTransaction() && Propagation.deferChange(this, changeBuilder::close)) changeBuilder.depth++;
+        }
+
         this.changeBuilder.depth++;
 
         return this.changeBuilder;
@@ -352,8 +364,20 @@ public abstract class AbstractObservableDeque<E> extends AbstractCollection<E> i
                 AbstractObservableDeque.this.changeBuilder = null;
                 if (this.localChanges.isEmpty()) return;
 
+                MetricsSink sink = Metrics.sink();
+                long start = (sink != null) ? System.nanoTime() : 0L;
+
                 var change = new DequeChangeListener.Change<>(Collections.unmodifiableList(this.localChanges));
 
+                if (sink != null) {
+                    long now = System.nanoTime();
+                    sink.recordInvalidation(AbstractObservableDeque.this);
+                    sink.recordChangeCompaction(AbstractObservableDeque.this, now - start);
+                    start = now;
+                }
+
+                int changeListenerCount = AbstractObservableDeque.this.changeListeners.size();
+
                 for (var listener : AbstractObservableDeque.this.changeListeners) {
                     if (listener.isInvalid()) {
                         AbstractObservableDeque.this.changeListeners.remove(listener);
@@ -361,17 +385,33 @@ public abstract class AbstractObservableDeque<E> extends AbstractCollection<E> i
                     }
 
                     listener.onChanged(AbstractObservableDeque.this, change);
-                    if (listener.isInvalid()) AbstractObservableDeque.this.changeListeners.remove(listener);
                 }
 
-                for (var listener : AbstractObservableDeque.this.invalidationListeners) {
-                    if (listener.isInvalid()) {
-                        AbstractObservableDeque.this.invalidationListeners.remove(listener);
-                        continue;
+                if (sink != null) {
+                    long now = System.nanoTime();
+                    if (changeListenerCount != 0) sink.recordChangeDispatch(AbstractObservableDeque.this, changeListenerCount, now - start);
+                    start = now;
+                }
+
+                int invalidationListenerCount = AbstractObservableDeque.this.invalidationListeners.size();
+
+                if (invalidationListenerCount != 0) {
+                    Propagation.begin();
+
+                    try {
+                        for (var listener : AbstractObservableDeque.this.invalidationListeners) {
+                            if (listener.isInvalid()) {
+                                AbstractObservableDeque.this.invalidationListeners.remove(listener);
+                                continue;
+                            }
+
+                            listener.onInvalidation(AbstractObservableDeque.this);
+                        }
+                    } finally {
+                        Propagation.end();
                     }
 
-                    listener.onInvalidation(AbstractObservableDeque.this);
-                    if (listener.isInvalid()) AbstractObservableDeque.this.invalidationListeners.remove(listener);
+                    if (sink != null) sink.recordInvalidationDispatch(AbstractObservableDeque.this, invalidationListenerCount, System.nanoTime() - start);
                 }
             }
         }
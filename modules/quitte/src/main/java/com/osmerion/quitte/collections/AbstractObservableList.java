@@ -32,6 +32,7 @@ package com.osmerion.quitte.collections;
 
 import java.util.AbstractList;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
@@ -47,8 +48,10 @@ import java.util.stream.IntStream;
 import javax.annotation.Nullable;
 
 import com.osmerion.quitte.InvalidationListener;
-
-import static java.lang.Math.*;
+import com.osmerion.quitte.internal.Listeners;
+import com.osmerion.quitte.internal.Metrics;
+import com.osmerion.quitte.internal.Propagation;
+import com.osmerion.quitte.metrics.MetricsSink;
 
 /**
  * A basic implementation for a modifiable {@link ObservableList}.
@@ -74,7 +77,7 @@ public abstract class AbstractObservableList<E> extends AbstractList<E> implemen
      */
     @Override
     public final boolean addChangeListener(ListChangeListener<? super E> listener) {
-        return this.changeListeners.add(Objects.requireNonNull(listener));
+        return Listeners.add(this.changeListeners, listener);
     }
 
     /**
@@ -94,7 +97,7 @@ public abstract class AbstractObservableList<E> extends AbstractList<E> implemen
      */
     @Override
     public final boolean addInvalidationListener(InvalidationListener listener) {
-        return this.invalidationListeners.add(listener);
+        return Listeners.add(this.invalidationListeners, listener);
     }
 
     /**
@@ -110,12 +113,20 @@ public abstract class AbstractObservableList<E> extends AbstractList<E> implemen
     /**
      * Pushes a frame on the current {@link ChangeBuilder} instance or creates a new one.
      *
+     * <p>If a {@link com.osmerion.quitte.Quitte#beginTransaction() transaction} is open, a newly created builder is
+     * kept open until the transaction is committed. Thus, all changes made during the transaction are reported as a
+     * single change.</p>
+     *
      * @return  the current {@code ChangeBuilder}
      *
      * @since   0.1.0
      */
     protected final ChangeBuilder beginChange() {
-        if (this.changeBuilder == null) this.changeBuilder = new ChangeBuilder();
+        if (this.changeBuilder == null) {
+            ChangeBuilder changeBuilder = this.changeBuilder = new ChangeBuilder();
+            if (Propagation.isInTransaction() && Propagation.deferChange(this, changeBuilder::close)) changeBuilder.depth++;
+        }
+
         this.changeBuilder.depth++;
 
         return this.changeBuilder;
@@ -129,6 +140,37 @@ public abstract class AbstractObservableList<E> extends AbstractList<E> implemen
     @Nullable
     protected abstract E setImpl(int index, @Nullable E element);
 
+    /**
+     * Inserts all the given elements into the backing list starting at the given index.
+     *
+     * <p>The default implementation calls {@link #addImpl(int, Object)} once per element. Implementations should
+     * override this method if the backing list supports more efficient bulk insertion.</p>
+     *
+     * @param index     the index at which the first element should be inserted
+     * @param elements  the elements to insert
+     *
+     * @since   0.9.0
+     */
+    protected void addAllImpl(int index, Collection<? extends E> elements) {
+        for (E element : elements) this.addImpl(index++, element);
+    }
+
+    /**
+     * Removes the elements between {@code fromIndex}, inclusive, and {@code toIndex}, exclusive, from the backing
+     * list.
+     *
+     * <p>The default implementation calls {@link #removeImpl(int)} once per element. Implementations should override
+     * this method if the backing list supports more efficient bulk removal.</p>
+     *
+     * @param fromIndex the index of the first element to be removed
+     * @param toIndex   the index after the last element to be removed
+     *
+     * @since   0.9.0
+     */
+    protected void removeRangeImpl(int fromIndex, int toIndex) {
+        for (int i = toIndex - 1; i >= fromIndex; i--) this.removeImpl(i);
+    }
+
     @Override
     public final void add(int index, @Nullable E element) {
         this.addImpl(index, element);
@@ -152,6 +194,69 @@ public abstract class AbstractObservableList<E> extends AbstractList<E> implemen
         return old;
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * @since   0.9.0
+     */
+    @Override
+    public boolean addAll(Collection<? extends E> elements) {
+        return this.addAll(this.size(), elements);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>The elements are inserted using {@link #addAllImpl(int, Collection)} and logged as a single insertion.
+     * Subclasses that override this method should customize {@code addAllImpl} instead, or delegate to this
+     * implementation to ensure that the change is reported.</p>
+     *
+     * @since   0.9.0
+     */
+    @Override
+    public boolean addAll(int index, Collection<? extends E> elements) {
+        int size = this.size();
+        if (index < 0 || index > size) throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        if (elements.isEmpty()) return false;
+
+        try {
+            this.addAllImpl(index, elements);
+        } finally {
+            int added = this.size() - size;
+
+            if (added > 0) {
+                try (ChangeBuilder changeBuilder = this.beginChange()) {
+                    changeBuilder.logAdd(index, index + added);
+                    this.modCount++;
+                }
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>The elements are removed using {@link #removeRangeImpl(int, int)} and logged as a single removal.
+     * Subclasses that override this method should customize {@code removeRangeImpl} instead, or delegate to this
+     * implementation to ensure that the change is reported.</p>
+     *
+     * @since   0.9.0
+     */
+    @Override
+    protected void removeRange(int fromIndex, int toIndex) {
+        if (fromIndex >= toIndex) return;
+
+        List<E> old = new ArrayList<>(super.subList(fromIndex, toIndex));
+        this.removeRangeImpl(fromIndex, toIndex);
+
+        try (ChangeBuilder changeBuilder = this.beginChange()) {
+            changeBuilder.logRemove(fromIndex, old);
+            this.modCount++;
+        }
+    }
+
     @Override
     public final boolean remove(Object element) {
         int index = this.indexOf(element);
@@ -212,10 +317,92 @@ public abstract class AbstractObservableList<E> extends AbstractList<E> implemen
         return copyOfElements;
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * <p>The sort is stable. Unless it is part of a larger change, the change is reported as a
+     * {@link ListChangeListener.Change.Permutation permutation} that is computed by the sort itself.</p>
+     *
+     * @since   0.1.0
+     */
     @Override
-    public final void sort(Comparator<? super E> comparator) {
-        try (ChangeBuilder ignored = this.beginChange()) {
-            super.sort(comparator);
+    @SuppressWarnings("unchecked")
+    public final void sort(@Nullable Comparator<? super E> comparator) {
+        int size = this.size();
+        if (size < 2) return;
+
+        Comparator<? super E> cmp = (comparator != null) ? comparator : (Comparator<? super E>) Comparator.naturalOrder();
+        E[] origin = (E[]) this.toArray();
+
+        /* Sort the indices instead of the elements to compute the permutation as part of the sort. */
+        int[] order = new int[size];
+        for (int i = 0; i < order.length; i++) order[i] = i;
+
+        mergeSort(origin, cmp, order, new int[order.length], 0, order.length);
+
+        int[] permutation = new int[size];
+
+        for (int i = 0; i < order.length; i++) {
+            permutation[order[i]] = i;
+            if (order[i] != i) this.setImpl(i, origin[order[i]]);
+        }
+
+        this.modCount++;
+
+        try (ChangeBuilder changeBuilder = this.beginChange()) {
+            changeBuilder.logPermutation(origin, permutation);
+        }
+    }
+
+    private static <E> void mergeSort(E[] elements, Comparator<? super E> comparator, int[] order, int[] buffer, int from, int to) {
+        if (to - from < 2) return;
+
+        int mid = (from + to) >>> 1;
+        mergeSort(elements, comparator, order, buffer, from, mid);
+        mergeSort(elements, comparator, order, buffer, mid, to);
+
+        if (comparator.compare(elements[order[mid - 1]], elements[order[mid]]) <= 0) return;
+
+        System.arraycopy(order, from, buffer, from, to - from);
+
+        for (int i = from, l = from, r = mid; i < to; i++) {
+            order[i] = (r >= to || (l < mid && comparator.compare(elements[buffer[l]], elements[buffer[r]]) <= 0)) ? buffer[l++] : buffer[r++];
+        }
+    }
+
+    /**
+     * Rearranges the elements of this list according to the given permutation.
+     *
+     * <p>The element at index {@code i} is moved to index {@code indices[i]}.</p>
+     *
+     * @param indices   the permutation
+     *
+     * @throws IllegalArgumentException if the given array is not a permutation of the indices of this list
+     * @throws NullPointerException     if the given array is {@code null}
+     *
+     * @since   0.9.0
+     */
+    @SuppressWarnings("unchecked")
+    protected final void permute(int[] indices) {
+        if (indices.length != this.size()) throw new IllegalArgumentException("Permutation size does not match list size");
+
+        boolean[] visited = new boolean[indices.length];
+
+        for (int index : indices) {
+            if (index < 0 || index >= indices.length || visited[index]) throw new IllegalArgumentException("Not a permutation: " + Arrays.toString(indices));
+            visited[index] = true;
+        }
+
+        E[] origin = (E[]) this.toArray();
+
+        for (int i = 0; i < origin.length; i++) {
+            if (indices[i] != i) this.setImpl(indices[i], origin[i]);
+        }
+
+        this.modCount++;
+
+        try (ChangeBuilder changeBuilder = this.beginChange()) {
+            changeBuilder.logPermutation(origin, indices.clone());
         }
     }
 
@@ -403,8 +590,20 @@ public abstract class AbstractObservableList<E> extends AbstractList<E> implemen
         private final List<WorkingLocalChange<E>> localChanges = new ArrayList<>(1);
         private int sizeDelta = 0;
 
+        /*
+         * A permutation that has been logged while no other changes were logged. `permutationOrigin` holds the
+         * elements in their original order, and `permutation` maps from the original indices to the current indices.
+         */
+        @Nullable
+        private E[] permutationOrigin;
+
+        @Nullable
+        private int[] permutation;
+
         private int depth = 0;
 
+        private ChangeBuilder() {}
+
         /**
          * Pops a frame from this builder.
          *
@@ -421,249 +620,58 @@ public abstract class AbstractObservableList<E> extends AbstractList<E> implemen
 
             if (this.depth == 0) {
                 AbstractObservableList.this.changeBuilder = null;
-                if (this.localChanges.isEmpty()) return;
+                if (this.localChanges.isEmpty() && this.permutation == null) return;
+
+                MetricsSink sink = Metrics.sink();
+                long start = (sink != null) ? System.nanoTime() : 0L;
 
                 ListChangeListener.Change<E> change = null;
 
                 /*
                  * Compressing changes is a non-trivial task and to keep the implementation relatively simple, only
                  * operations defined in ObservableList are required to be compressed as much as possible.
-                 *
-                 * If the size of the list didn't change, attempt to construct a permutation mapping. This is done by
-                 * processing working changes change by change in the order they occurred.
                  */
-                if (this.sizeDelta == 0) {
+                if (this.permutation != null) {
+                    /* The change consists of one or more permutations only (see logPermutation). */
+                    if (isIdentity(this.permutation)) return;
+                    change = new ListChangeListener.Change.Permutation<>(IntStream.of(this.permutation).boxed().toList());
+                } else if (this.sizeDelta == 0 && this.isBalanced()) {
                     /*
-                     * `permutation` holds the permutation mapping (i.e. it maps from the original indices to the
-                     * current indices).
-                     *
-                     * `currentToOriginalIndexMapping` tracks the original indices and is dynamically in-/decreased
-                     * during each computation step.
+                     * If the size of the list didn't change and the same elements were removed and inserted, attempt
+                     * to construct a permutation mapping. If other elements were added or removed, the change was not
+                     * actually a permutation but the resulting list just happened to be equal in size to the original
+                     * list. Replacements only affect the replaced indices, so there is no need to inspect the entire
+                     * list.
                      */
-                    int[] permutation = new int[AbstractObservableList.this.size()];
-                    List<Integer> currentToOriginalIndexMapping = new ArrayList<>(AbstractObservableList.this.size());
-
-                    /* Populate the permutation and the currentToOriginalIndex mappings. */
-                    for (int i = 0; i < permutation.length; i++) {
-                        permutation[i] = i;
-                        currentToOriginalIndexMapping.add(i);
-                    }
-
-                    /*
-                     * To track the positions of elements after they have been removed, `expectedAdditions` stores all
-                     * original indices which do not have a mapping to a current index.
-                     *
-                     * Similarly, `expectedRemovals` tracks the list of current indices which do not have a mapping to
-                     * an original index.
-                     */
-                    Map<E, List<Integer>> expectedAdditions = new HashMap<>();
-                    Map<E, List<Integer>> expectedRemovals = new HashMap<>();
-
-                    for (WorkingLocalChange<E> workingLocalChange : this.localChanges) {
-                        if (workingLocalChange instanceof WorkingLocalChange.Insertion<E> insertion) {
-                            /*
-                             * Shift all current indices (starting from the insertion's offset) by adding the number of
-                             * elements inserted.
-                             */
-                            for (int i = insertion.from; i < permutation.length; i++) {
-                                if (permutation[i] >= insertion.from) {
-                                    permutation[i] += insertion.elements.size();
-                                }
-
-                                expectedRemovals.forEach((k, v) -> v.replaceAll(index -> index >= insertion.from ? index + insertion.elements.size() : index));
-                            }
-
-                            for (int i = 0; i < insertion.elements.size(); i++) {
-                                E element = insertion.elements.get(i);
-                                List<Integer> eAIs = expectedAdditions.get(element);
-                                int currentIndex = insertion.from + i;
-
-                                /*
-                                 * If the element is expected to be added (i.e. it has previously been removed
-                                 * unexpectedly), an original index without a mapping to a current index exists. The
-                                 * current index is then mapped to the original index.
-                                 *
-                                 * Otherwise, if the element is not expected to be added, it is expected that it will be
-                                 * removed again.
-                                 */
-                                if (eAIs != null && !eAIs.isEmpty()) {
-                                    int originalIndex = eAIs.remove(0);
-
-                                    currentToOriginalIndexMapping.add(currentIndex, originalIndex);
-                                    permutation[originalIndex] = currentIndex;
-                                } else {
-                                    expectedRemovals.computeIfAbsent(element, e -> new ArrayList<>()).add(currentIndex);
-                                    currentToOriginalIndexMapping.add(currentIndex, -1);
-                                }
-                            }
-                        } else if (workingLocalChange instanceof WorkingLocalChange.Removal<E> removal) {
-                            for (int i = 0; i < removal.elements.size(); i++) {
-                                E element = removal.elements.get(i);
-                                List<Integer> eRIs = expectedRemovals.get(element);
-                                int originalIndex = currentToOriginalIndexMapping.remove(removal.from + i);
-
-                                /*
-                                 * If the element is expected to be removed (i.e. it has previously been added
-                                 * unexpectedly), a current index without a mapping to an original index exists. The
-                                 * original index is then mapped to the current index.
-                                 *
-                                 * Otherwise, if the element is not expected to be removed, it is expected that it will
-                                 * be added again.
-                                 */
-                                if (eRIs != null && !eRIs.isEmpty()) {
-                                    int currentIndex = eRIs.remove(0);
-
-                                    currentToOriginalIndexMapping.set(currentIndex, originalIndex);
-                                    permutation[originalIndex] = currentIndex;
-                                } else {
-                                    expectedAdditions.computeIfAbsent(element, e -> new ArrayList<>()).add(originalIndex);
-                                }
-                            }
-
-                            /*
-                             * Shift all current indices (starting from the removal's offset) by subtracting the number
-                             * of elements removed.
-                             */
-                            for (int i = 0; i < permutation.length; i++) {
-                                if (permutation[i] >= removal.from) {
-                                    permutation[i] -= removal.elements.size();
-                                }
-
-                                expectedRemovals.forEach((k, v) -> v.replaceAll(index -> index >= removal.from ? index - removal.elements.size() : index));
-                            }
-                        } else {
-                            throw new IllegalStateException();
-                        }
-                    }
-
-                    /*
-                     * If elements are still expected to be added/removed, the change was not actually a permutation but
-                     * the resulting list just happened to be equal in size to the original ist.
-                     */
-                    if (expectedAdditions.values().stream().allMatch(List::isEmpty) && expectedRemovals.values().stream().allMatch(List::isEmpty)) {
-                        boolean hasChanged = false;
-
-                        for (int i = 0; i < permutation.length; i++) {
-                            if (i != permutation[i]) {
-                                hasChanged = true;
-                                break;
-                            }
-                        }
+                    int[] permutation = this.isReplacementOnly() ? this.reconstructLocalPermutation() : this.reconstructPermutation();
 
+                    if (permutation != null) {
                         /*
                          * If the permutation is the identity function, the list has not changed, and we do not notify
                          * listeners.
                          */
-                        if (!hasChanged) {
-                            return;
-                        }
-
+                        if (isIdentity(permutation)) return;
                         change = new ListChangeListener.Change.Permutation<>(IntStream.of(permutation).boxed().toList());
                     }
                 }
 
                 /* We couldn't reconstruct a permutation and need to "compress" local changes. */
                 if (change == null) {
-                    List<ListChangeListener.LocalChange<E>> localChanges = new ArrayList<>(this.localChanges.size());
-
-                    List<E> oldUpdateElements = new ArrayList<>();
-                    List<E> newUpdateElements = new ArrayList<>();
-                    int updateFrom = -1;
-
-                    List<E> batchElements = new ArrayList<>();
-                    int batchFrom = -1;
-
-                    /* Keep track of the type of the current change. (Insertion: 1, Removal: 2) */
-                    int batchType = 0;
-
-                    for (WorkingLocalChange<E> wlc : this.localChanges) {
-                        if (wlc instanceof WorkingLocalChange.Insertion<E> wlInsert) {
-                            if (batchType != 1) {
-                                if (batchType == 2) {
-                                    if (batchFrom == wlc.from && batchElements.size() == wlInsert.elements.size()) {
-                                        updateFrom = batchFrom;
-                                        newUpdateElements.addAll(wlInsert.elements);
-                                        oldUpdateElements.addAll(batchElements);
-
-                                        batchType = 0;
-                                        batchElements.clear();
-
-                                        continue;
-                                    } else {
-                                        localChanges.add(new ListChangeListener.LocalChange.Removal<>(batchFrom, new ArrayList<>(batchElements)));
-                                        batchElements.clear();
-                                    }
-                                }
-
-                                batchFrom = wlc.from;
-                                batchType = 1;
-                                batchElements.addAll(wlInsert.elements);
-                            } else if (wlc.from <= batchFrom + batchElements.size() && batchFrom <= wlc.to) {
-                                int offset = abs(wlc.from - batchFrom);
-
-                                batchFrom = min(wlc.from, batchFrom);
-                                batchElements.addAll(offset, wlInsert.elements);
-                            } else {
-                                if (!newUpdateElements.isEmpty()) {
-                                    localChanges.add(new ListChangeListener.LocalChange.Update<>(updateFrom, new ArrayList<>(oldUpdateElements), new ArrayList<>(newUpdateElements)));
-                                    updateFrom = -1;
-                                    newUpdateElements.clear();
-                                }
-
-                                localChanges.add(new ListChangeListener.LocalChange.Insertion<>(batchFrom, new ArrayList<>(batchElements)));
-                                batchElements.clear();
-
-                                batchFrom = wlc.from;
-                                batchElements.addAll(wlInsert.elements);
-                            }
-                        } else if (wlc instanceof WorkingLocalChange.Removal<E> wlRemove) {
-                            if (batchType != 2) {
-                                if (!newUpdateElements.isEmpty()) {
-                                    localChanges.add(new ListChangeListener.LocalChange.Update<>(updateFrom, new ArrayList<>(oldUpdateElements), new ArrayList<>(newUpdateElements)));
-                                    updateFrom = -1;
-                                    newUpdateElements.clear();
-                                }
-
-                                if (!batchElements.isEmpty()) localChanges.add(new ListChangeListener.LocalChange.Insertion<>(batchFrom, new ArrayList<>(batchElements)));
-                            } else if (wlc.from <= batchFrom + batchElements.size() && batchFrom <= wlc.to) {
-                                int offset = abs(wlc.from - batchFrom);
-
-                                batchFrom = min(wlc.from, batchFrom);
-                                batchElements.addAll(offset, wlRemove.elements);
+                    List<ListChangeListener.LocalChange<E>> localChanges = this.compress();
+                    if (localChanges.isEmpty()) return;
 
-                                continue;
-                            } else {
-                                localChanges.add(new ListChangeListener.LocalChange.Removal<>(batchFrom, new ArrayList<>(batchElements)));
-                                batchElements.clear();
-                            }
-
-                            batchFrom = wlc.from;
-                            batchType = 2;
-                            batchElements.addAll(wlRemove.elements);
-                        } else {
-                            throw new IllegalStateException();
-                        }
-                    }
-
-                    if (!newUpdateElements.isEmpty()) {
-                        localChanges.add(new ListChangeListener.LocalChange.Update<>(
-                            updateFrom,
-                            new ArrayList<>(oldUpdateElements),
-                            new ArrayList<>(newUpdateElements)
-                        ));
-                    }
-
-                    if (!batchElements.isEmpty()) {
-                        localChanges.add(switch (batchType) {
-                            case 1 -> new ListChangeListener.LocalChange.Insertion<>(batchFrom, batchElements);
-                            case 2 -> new ListChangeListener.LocalChange.Removal<>(batchFrom, batchElements);
-                            default -> throw new IllegalStateException();
-                        });
-                    }
+                    change = new ListChangeListener.Change.Update<>(localChanges);
+                }
 
-                    change = new ListChangeListener.Change.Update<>(List.copyOf(localChanges));
+                if (sink != null) {
+                    long now = System.nanoTime();
+                    sink.recordInvalidation(AbstractObservableList.this);
+                    sink.recordChangeCompaction(AbstractObservableList.this, now - start);
+                    start = now;
                 }
 
+                int changeListenerCount = AbstractObservableList.this.changeListeners.size();
+
                 for (var listener : AbstractObservableList.this.changeListeners) {
                     if (listener.isInvalid()) {
                         AbstractObservableList.this.changeListeners.remove(listener);
@@ -671,33 +679,55 @@ public abstract class AbstractObservableList<E> extends AbstractList<E> implemen
                     }
 
                     listener.onChanged(AbstractObservableList.this, change);
-                    if (listener.isInvalid()) AbstractObservableList.this.changeListeners.remove(listener);
                 }
 
-                for (var listener : AbstractObservableList.this.invalidationListeners) {
-                    if (listener.isInvalid()) {
-                        AbstractObservableList.this.invalidationListeners.remove(listener);
-                        continue;
+                if (sink != null) {
+                    long now = System.nanoTime();
+                    if (changeListenerCount != 0) sink.recordChangeDispatch(AbstractObservableList.this, changeListenerCount, now - start);
+                    start = now;
+                }
+
+                int invalidationListenerCount = AbstractObservableList.this.invalidationListeners.size();
+
+                if (invalidationListenerCount != 0) {
+                    Propagation.begin();
+
+                    try {
+                        for (var listener : AbstractObservableList.this.invalidationListeners) {
+                            if (listener.isInvalid()) {
+                                AbstractObservableList.this.invalidationListeners.remove(listener);
+                                continue;
+                            }
+
+                            listener.onInvalidation(AbstractObservableList.this);
+                        }
+                    } finally {
+                        Propagation.end();
                     }
 
-                    listener.onInvalidation(AbstractObservableList.this);
-                    if (listener.isInvalid()) AbstractObservableList.this.invalidationListeners.remove(listener);
+                    if (sink != null) sink.recordInvalidationDispatch(AbstractObservableList.this, invalidationListenerCount, System.nanoTime() - start);
                 }
             }
         }
 
         public void logAdd(int from, int to) {
+            this.flushPermutation();
             this.localChanges.add(new WorkingLocalChange.Insertion<>(from, to, new ArrayList<>(AbstractObservableList.this.subList(from, to))));
             this.sizeDelta += to - from;
         }
 
         public void logRemove(int index, @Nullable E old) {
+            this.flushPermutation();
             this.localChanges.add(new WorkingLocalChange.Removal<>(index, index, old));
             this.sizeDelta--;
         }
 
         public void logRemove(int index, List<? extends E> old) {
-            for (E e : old) this.logRemove(index, e);
+            if (old.isEmpty()) return;
+
+            this.flushPermutation();
+            this.localChanges.add(new WorkingLocalChange.Removal<>(index, index, new ArrayList<>(old)));
+            this.sizeDelta -= old.size();
         }
 
         public void logSet(int index, @Nullable E old) {
@@ -705,6 +735,308 @@ public abstract class AbstractObservableList<E> extends AbstractList<E> implemen
             this.logAdd(index, index + 1);
         }
 
+        /*
+         * Compresses the logged working changes into local changes. Local changes are applied in order (i.e. the index
+         * of a local change refers to the state of the list after all previous local changes have been applied).
+         *
+         * Subsequent working changes are merged if they are adjacent: insertions are merged into a single insertion,
+         * removals into a single removal, and a removal of elements that are subsequently replaced by the same number
+         * of elements into an update. The removal of elements that have just been inserted cancels their insertion.
+         */
+        private List<ListChangeListener.LocalChange<E>> compress() {
+            List<ListChangeListener.LocalChange<E>> localChanges = new ArrayList<>(this.localChanges.size());
+
+            List<E> batchElements = new ArrayList<>();
+            List<E> newUpdateElements = new ArrayList<>();
+            int batchFrom = -1;
+
+            /* Keep track of the type of the current batch. (None: 0, Insertion: 1, Removal: 2, Update: 3) */
+            int batchType = 0;
+
+            for (WorkingLocalChange<E> wlc : this.localChanges) {
+                if (wlc instanceof WorkingLocalChange.Insertion<E> wlInsert) {
+                    if (batchType == 1 && batchFrom <= wlc.from && wlc.from <= batchFrom + batchElements.size()) {
+                        batchElements.addAll(wlc.from - batchFrom, wlInsert.elements);
+                        continue;
+                    } else if (batchType == 2 && batchFrom == wlc.from && batchElements.size() == wlInsert.elements.size()) {
+                        batchType = 3;
+                        newUpdateElements.addAll(wlInsert.elements);
+                        continue;
+                    }
+
+                    flush(localChanges, batchType, batchFrom, batchElements, newUpdateElements);
+                    batchType = 1;
+                    batchFrom = wlc.from;
+                    batchElements.addAll(wlInsert.elements);
+                } else if (wlc instanceof WorkingLocalChange.Removal<E> wlRemove) {
+                    int length = wlRemove.elements.size();
+
+                    if (batchType == 1 && batchFrom <= wlc.from && wlc.from + length <= batchFrom + batchElements.size()) {
+                        batchElements.subList(wlc.from - batchFrom, wlc.from - batchFrom + length).clear();
+                        if (batchElements.isEmpty()) batchType = 0;
+
+                        continue;
+                    } else if (batchType == 2 && wlc.from <= batchFrom && batchFrom <= wlc.from + length) {
+                        batchElements.addAll(0, wlRemove.elements.subList(0, batchFrom - wlc.from));
+                        batchElements.addAll(wlRemove.elements.subList(batchFrom - wlc.from, length));
+                        batchFrom = wlc.from;
+
+                        continue;
+                    }
+
+                    flush(localChanges, batchType, batchFrom, batchElements, newUpdateElements);
+                    batchType = 2;
+                    batchFrom = wlc.from;
+                    batchElements.addAll(wlRemove.elements);
+                } else {
+                    throw new IllegalStateException();
+                }
+            }
+
+            flush(localChanges, batchType, batchFrom, batchElements, newUpdateElements);
+            return localChanges;
+        }
+
+        private static <E> void flush(List<ListChangeListener.LocalChange<E>> localChanges, int batchType, int batchFrom, List<E> batchElements, List<E> newUpdateElements) {
+            switch (batchType) {
+                case 0 -> {}
+                case 1 -> localChanges.add(new ListChangeListener.LocalChange.Insertion<>(batchFrom, batchElements));
+                case 2 -> localChanges.add(new ListChangeListener.LocalChange.Removal<>(batchFrom, batchElements));
+                case 3 -> {
+                    /* Merge adjacent updates. */
+                    if (!localChanges.isEmpty() && localChanges.get(localChanges.size() - 1) instanceof ListChangeListener.LocalChange.Update<E> prev
+                        && prev.index() + prev.newElements().size() == batchFrom) {
+                        List<E> oldElements = new ArrayList<>(prev.oldElements());
+                        oldElements.addAll(batchElements);
+
+                        List<E> newElements = new ArrayList<>(prev.newElements());
+                        newElements.addAll(newUpdateElements);
+
+                        localChanges.set(localChanges.size() - 1, new ListChangeListener.LocalChange.Update<>(prev.index(), oldElements, newElements));
+                    } else {
+                        localChanges.add(new ListChangeListener.LocalChange.Update<>(batchFrom, batchElements, newUpdateElements));
+                    }
+                }
+                default -> throw new IllegalStateException();
+            }
+
+            batchElements.clear();
+            newUpdateElements.clear();
+        }
+
+        /*
+         * Logs a permutation of the list's elements. `origin` holds the elements in their original order, and
+         * `permutation` maps from the original indices to the current indices.
+         */
+        private void logPermutation(E[] origin, int[] permutation) {
+            if (!this.localChanges.isEmpty()) {
+                this.permutationOrigin = origin;
+                this.permutation = permutation;
+                this.flushPermutation();
+            } else if (this.permutation == null) {
+                this.permutationOrigin = origin;
+                this.permutation = permutation;
+            } else {
+                /* Compose both permutations. The origin of the first permutation remains the origin. */
+                int[] composite = new int[permutation.length];
+                for (int i = 0; i < composite.length; i++) composite[i] = permutation[this.permutation[i]];
+
+                this.permutation = composite;
+            }
+        }
+
+        /*
+         * Converts a previously logged permutation into working changes by replacing every element that has been
+         * moved. This is required as soon as the permutation is combined with any other change.
+         */
+        @SuppressWarnings("unchecked")
+        private void flushPermutation() {
+            int[] permutation = this.permutation;
+            E[] origin = this.permutationOrigin;
+            if (permutation == null || origin == null) return;
+
+            this.permutation = null;
+            this.permutationOrigin = null;
+
+            E[] current = (E[]) new Object[origin.length];
+            for (int i = 0; i < origin.length; i++) current[permutation[i]] = origin[i];
+
+            for (int i = 0; i < origin.length; i++) {
+                if (permutation[i] == i) continue;
+
+                this.localChanges.add(new WorkingLocalChange.Removal<>(i, i, origin[i]));
+                this.localChanges.add(new WorkingLocalChange.Insertion<>(i, i + 1, Collections.singletonList(current[i])));
+            }
+        }
+
+        /*
+         * Returns whether the elements removed by the logged working changes are the same multiset as the elements
+         * inserted by them. This is a necessary condition for the current elements to be a permutation of the original
+         * elements that can be checked in time proportional to the size of the changes.
+         */
+        private boolean isBalanced() {
+            Map<E, Integer> balance = new HashMap<>();
+
+            for (WorkingLocalChange<E> wlc : this.localChanges) {
+                List<E> elements;
+                int delta;
+
+                if (wlc instanceof WorkingLocalChange.Insertion<E> insertion) {
+                    elements = insertion.elements;
+                    delta = 1;
+                } else if (wlc instanceof WorkingLocalChange.Removal<E> removal) {
+                    elements = removal.elements;
+                    delta = -1;
+                } else {
+                    throw new IllegalStateException();
+                }
+
+                for (E element : elements) balance.merge(element, delta, (a, b) -> (a + b != 0) ? a + b : null);
+            }
+
+            return balance.isEmpty();
+        }
+
+        /*
+         * Returns whether all logged working changes are in-place replacements (see logSet), i.e. removals which are
+         * immediately followed by an insertion of the same number of elements at the same index.
+         */
+        private boolean isReplacementOnly() {
+            int size = this.localChanges.size();
+            if (size % 2 != 0) return false;
+
+            for (int i = 0; i < size; i += 2) {
+                if (!(this.localChanges.get(i) instanceof WorkingLocalChange.Removal<E> removal
+                    && this.localChanges.get(i + 1) instanceof WorkingLocalChange.Insertion<E> insertion
+                    && removal.from == insertion.from && removal.elements.size() == insertion.elements.size())) {
+                    return false;
+                }
+            }
+
+            return true;
+        }
+
+        /*
+         * Attempts to reconstruct a permutation from working changes that are in-place replacements only (see
+         * isReplacementOnly). Since elements at indices that have not been replaced remain in place, only the elements
+         * at the replaced indices need to be matched. Equal elements are matched in order.
+         *
+         * Returns null if the current elements are not a permutation of the original elements, and an empty array if
+         * no element has been moved.
+         */
+        @Nullable
+        private int[] reconstructLocalPermutation() {
+            /* Revert the replacements in reverse order so that the earliest replacement determines the original element. */
+            Map<Integer, E> original = new HashMap<>();
+
+            for (int i = this.localChanges.size() - 2; i >= 0; i -= 2) {
+                WorkingLocalChange.Removal<E> removal = (WorkingLocalChange.Removal<E>) this.localChanges.get(i);
+                for (int j = 0; j < removal.elements.size(); j++) original.put(removal.from + j, removal.elements.get(j));
+            }
+
+            List<E> current = AbstractObservableList.this;
+            int[] indices = original.keySet().stream().mapToInt(Integer::intValue).sorted().toArray();
+
+            /* See reconstructPermutation. The chains are built over positions in `indices` instead of list indices. */
+            Map<E, Integer> heads = new HashMap<>();
+            int[] next = new int[indices.length];
+
+            for (int i = indices.length - 1; i >= 0; i--) {
+                Integer head = heads.put(current.get(indices[i]), i);
+                next[i] = (head != null) ? head : -1;
+            }
+
+            int[] targets = new int[indices.length];
+            boolean hasMoved = false;
+
+            for (int i = 0; i < indices.length; i++) {
+                E element = original.get(indices[i]);
+                Integer head = heads.get(element);
+                if (head == null || head < 0) return null;
+
+                targets[i] = indices[head];
+                heads.put(element, next[head]);
+
+                if (targets[i] != indices[i]) hasMoved = true;
+            }
+
+            if (!hasMoved) return new int[0];
+
+            int[] permutation = new int[current.size()];
+            for (int i = 0; i < permutation.length; i++) permutation[i] = i;
+            for (int i = 0; i < indices.length; i++) permutation[indices[i]] = targets[i];
+
+            return permutation;
+        }
+
+        /*
+         * Attempts to reconstruct a permutation (mapping from the original indices to the current indices) from the
+         * logged working changes. This is done by reverting the working changes to restore the original elements, and
+         * by subsequently matching the original elements to the current elements. Equal elements are matched in order.
+         *
+         * Returns null if the current elements are not a permutation of the original elements.
+         */
+        @Nullable
+        private int[] reconstructPermutation() {
+            List<E> current = AbstractObservableList.this;
+            List<E> original = new ArrayList<>(current);
+
+            for (int i = this.localChanges.size() - 1; i >= 0; i--) {
+                WorkingLocalChange<E> wlc = this.localChanges.get(i);
+
+                if (wlc instanceof WorkingLocalChange.Insertion<E> insertion) {
+                    /* Replacements (see logSet) are reverted in-place to avoid shifting the elements twice. */
+                    if (i > 0 && this.localChanges.get(i - 1) instanceof WorkingLocalChange.Removal<E> removal
+                        && removal.from == insertion.from && removal.elements.size() == insertion.elements.size()) {
+                        for (int j = 0; j < removal.elements.size(); j++) original.set(removal.from + j, removal.elements.get(j));
+                        i--;
+                    } else {
+                        original.subList(insertion.from, insertion.from + insertion.elements.size()).clear();
+                    }
+                } else if (wlc instanceof WorkingLocalChange.Removal<E> removal) {
+                    original.addAll(removal.from, removal.elements);
+                } else {
+                    throw new IllegalStateException();
+                }
+            }
+
+            if (original.size() != current.size()) return null;
+
+            /*
+             * Index the current elements by chaining the indices of equal elements: `heads` maps an element to the
+             * first unmatched index of an equal element, `next` maps an index to the next index of an equal element.
+             */
+            int size = current.size();
+            Map<E, Integer> heads = new HashMap<>();
+            int[] next = new int[size];
+
+            for (int i = size - 1; i >= 0; i--) {
+                Integer head = heads.put(current.get(i), i);
+                next[i] = (head != null) ? head : -1;
+            }
+
+            int[] permutation = new int[size];
+
+            for (int i = 0; i < size; i++) {
+                E element = original.get(i);
+                Integer head = heads.get(element);
+                if (head == null || head < 0) return null;
+
+                permutation[i] = head;
+                heads.put(element, next[head]);
+            }
+
+            return permutation;
+        }
+
+    }
+
+    private static boolean isIdentity(int[] permutation) {
+        for (int i = 0; i < permutation.length; i++) {
+            if (permutation[i] != i) return false;
+        }
+
+        return true;
     }
 
     private static abstract class WorkingLocalChange<E> {
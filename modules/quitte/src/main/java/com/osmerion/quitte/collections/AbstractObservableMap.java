@@ -35,6 +35,10 @@ import java.util.concurrent.CopyOnWriteArraySet;
 import javax.annotation.Nullable;
 
 import com.osmerion.quitte.InvalidationListener;
+import com.osmerion.quitte.internal.Listeners;
+import com.osmerion.quitte.internal.Metrics;
+import com.osmerion.quitte.internal.Propagation;
+import com.osmerion.quitte.metrics.MetricsSink;
 
 /**
  * A basic implementation for a modifiable {@link ObservableMap}.
@@ -61,7 +65,7 @@ public abstract class AbstractObservableMap<K, V> extends AbstractMap<K, V> impl
      */
     @Override
     public final boolean addChangeListener(MapChangeListener<? super K, ? super V> listener) {
-        return this.changeListeners.add(Objects.requireNonNull(listener));
+        return Listeners.add(this.changeListeners, listener);
     }
 
     /**
@@ -81,7 +85,7 @@ public abstract class AbstractObservableMap<K, V> extends AbstractMap<K, V> impl
      */
     @Override
     public final boolean addInvalidationListener(InvalidationListener listener) {
-        return this.invalidationListeners.add(Objects.requireNonNull(listener));
+        return Listeners.add(this.invalidationListeners, listener);
     }
 
     /**
@@ -97,12 +101,20 @@ public abstract class AbstractObservableMap<K, V> extends AbstractMap<K, V> impl
     /**
      * Pushes a frame on the current {@link ChangeBuilder} instance or creates a new one.
      *
+     * <p>If a {@link com.osmerion.quitte.Quitte#beginTransaction() transaction} is open, a newly created builder is
+     * kept open until the transaction is committed. Thus, all changes made during the transaction are reported as a
+     * single change.</p>
+     *
      * @return  the current {@code ChangeBuilder}
      *
      * @since   0.1.0
      */
     protected final ChangeBuilder beginChange() {
-        if (this.changeBuilder == null) this.changeBuilder = new ChangeBuilder();
+        if (this.changeBuilder == null) {
+            ChangeBuilder changeBuilder = this.changeBuilder = new ChangeBuilder();
+            if (Propagation.isInTransaction() && Propagation.deferChange(this, changeBuilder::close)) changeBuilder.depth++;
+        }
+
         this.changeBuilder.depth++;
 
         return this.changeBuilder;
@@ -324,8 +336,20 @@ public abstract class AbstractObservableMap<K, V> extends AbstractMap<K, V> impl
                     (this.removed == null || this.removed.isEmpty()) &&
                     (this.updated == null || this.updated.isEmpty())) return;
 
+                MetricsSink sink = Metrics.sink();
+                long start = (sink != null) ? System.nanoTime() : 0L;
+
                 var change = new MapChangeListener.Change<>(this.added, this.removed, this.updated);
 
+                if (sink != null) {
+                    long now = System.nanoTime();
+                    sink.recordInvalidation(AbstractObservableMap.this);
+                    sink.recordChangeCompaction(AbstractObservableMap.this, now - start);
+                    start = now;
+                }
+
+                int changeListenerCount = AbstractObservableMap.this.changeListeners.size();
+
                 for (MapChangeListener<? super K, ? super V> listener : AbstractObservableMap.this.changeListeners) {
                     if (listener.isInvalid()) {
                         AbstractObservableMap.this.changeListeners.remove(listener);
@@ -333,17 +357,33 @@ public abstract class AbstractObservableMap<K, V> extends AbstractMap<K, V> impl
                     }
 
                     listener.onChanged(AbstractObservableMap.this, change);
-                    if (listener.isInvalid()) AbstractObservableMap.this.changeListeners.remove(listener);
                 }
 
-                for (var listener : AbstractObservableMap.this.invalidationListeners) {
-                    if (listener.isInvalid()) {
-                        AbstractObservableMap.this.invalidationListeners.remove(listener);
-                        continue;
+                if (sink != null) {
+                    long now = System.nanoTime();
+                    if (changeListenerCount != 0) sink.recordChangeDispatch(AbstractObservableMap.this, changeListenerCount, now - start);
+                    start = now;
+                }
+
+                int invalidationListenerCount = AbstractObservableMap.this.invalidationListeners.size();
+
+                if (invalidationListenerCount != 0) {
+                    Propagation.begin();
+
+                    try {
+                        for (var listener : AbstractObservableMap.this.invalidationListeners) {
+                            if (listener.isInvalid()) {
+                                AbstractObservableMap.this.invalidationListeners.remove(listener);
+                                continue;
+                            }
+
+                            listener.onInvalidation(AbstractObservableMap.this);
+                        }
+                    } finally {
+                        Propagation.end();
                     }
 
-                    listener.onInvalidation(AbstractObservableMap.this);
-                    if (listener.isInvalid()) AbstractObservableMap.this.invalidationListeners.remove(listener);
+                    if (sink != null) sink.recordInvalidationDispatch(AbstractObservableMap.this, invalidationListenerCount, System.nanoTime() - start);
                 }
             }
         }
@@ -38,6 +38,10 @@ import java.util.concurrent.CopyOnWriteArraySet;
 import javax.annotation.Nullable;
 
 import com.osmerion.quitte.InvalidationListener;
+import com.osmerion.quitte.internal.Listeners;
+import com.osmerion.quitte.internal.Metrics;
+import com.osmerion.quitte.internal.Propagation;
+import com.osmerion.quitte.metrics.MetricsSink;
 
 /**
  * A basic implementation for a modifiable {@link ObservableSet}.
@@ -63,7 +67,7 @@ public abstract class AbstractObservableSet<E> extends AbstractSet<E> implements
      */
     @Override
     public final boolean addChangeListener(SetChangeListener<? super E> listener) {
-        return this.changeListeners.add(Objects.requireNonNull(listener));
+        return Listeners.add(this.changeListeners, listener);
     }
 
     /**
@@ -83,7 +87,7 @@ public abstract class AbstractObservableSet<E> extends AbstractSet<E> implements
      */
     @Override
     public final boolean addInvalidationListener(InvalidationListener listener) {
-        return this.invalidationListeners.add(Objects.requireNonNull(listener));
+        return Listeners.add(this.invalidationListeners, listener);
     }
 
     /**
@@ -99,12 +103,20 @@ public abstract class AbstractObservableSet<E> extends AbstractSet<E> implements
     /**
      * Pushes a frame on the current {@link ChangeBuilder} instance or creates a new one.
      *
+     * <p>If a {@link com.osmerion.quitte.Quitte#beginTransaction() transaction} is open, a newly created builder is
+     * kept open until the transaction is committed. Thus, all changes made during the transaction are reported as a
+     * single change.</p>
+     *
      * @return  the current {@code ChangeBuilder}
      *
      * @since   0.1.0
      */
     protected final ChangeBuilder beginChange() {
-        if (this.changeBuilder == null) this.changeBuilder = new ChangeBuilder();
+        if (this.changeBuilder == null) {
+            ChangeBuilder changeBuilder = this.changeBuilder = new ChangeBuilder();
+            if (Propagation.isInTransaction() && Propagation.deferChange(this, changeBuilder::close)) changeBuilder.depth++;
+        }
+
         this.changeBuilder.depth++;
 
         return this.changeBuilder;
@@ -192,8 +204,20 @@ public abstract class AbstractObservableSet<E> extends AbstractSet<E> implements
                 AbstractObservableSet.this.changeBuilder = null;
                 if ((this.added == null || this.added.isEmpty()) && (this.removed == null || this.removed.isEmpty())) return;
 
+                MetricsSink sink = Metrics.sink();
+                long start = (sink != null) ? System.nanoTime() : 0L;
+
                 var change = new SetChangeListener.Change<>(this.added, this.removed);
 
+                if (sink != null) {
+                    long now = System.nanoTime();
+                    sink.recordInvalidation(AbstractObservableSet.this);
+                    sink.recordChangeCompaction(AbstractObservableSet.this, now - start);
+                    start = now;
+                }
+
+                int changeListenerCount = AbstractObservableSet.this.changeListeners.size();
+
                 for (var listener : AbstractObservableSet.this.changeListeners) {
                     if (listener.isInvalid()) {
                         AbstractObservableSet.this.changeListeners.remove(listener);
@@ -201,17 +225,33 @@ public abstract class AbstractObservableSet<E> extends AbstractSet<E> implements
                     }
 
                     listener.onChanged(AbstractObservableSet.this, change);
-                    if (listener.isInvalid()) AbstractObservableSet.this.changeListeners.remove(listener);
                 }
 
-                for (var listener : AbstractObservableSet.this.invalidationListeners) {
-                    if (listener.isInvalid()) {
-                        AbstractObservableSet.this.invalidationListeners.remove(listener);
-                        continue;
+                if (sink != null) {
+                    long now = System.nanoTime();
+                    if (changeListenerCount != 0) sink.recordChangeDispatch(AbstractObservableSet.this, changeListenerCount, now - start);
+                    start = now;
+                }
+
+                int invalidationListenerCount = AbstractObservableSet.this.invalidationListeners.size();
+
+                if (invalidationListenerCount != 0) {
+                    Propagation.begin();
+
+                    try {
+                        for (var listener : AbstractObservableSet.this.invalidationListeners) {
+                            if (listener.isInvalid()) {
+                                AbstractObservableSet.this.invalidationListeners.remove(listener);
+                                continue;
+                            }
+
+                            listener.onInvalidation(AbstractObservableSet.this);
+                        }
+                    } finally {
+                        Propagation.end();
                     }
 
-                    listener.onInvalidation(AbstractObservableSet.this);
-                    if (listener.isInvalid()) AbstractObservableSet.this.invalidationListeners.remove(listener);
+                    if (sink != null) sink.recordInvalidationDispatch(AbstractObservableSet.this, invalidationListenerCount, System.nanoTime() - start);
                 }
             }
         }
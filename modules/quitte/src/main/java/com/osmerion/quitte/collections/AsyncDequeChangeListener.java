@@ -0,0 +1,130 @@
+/*
+ * Copyright (c) 2018-2023 Leon Linhart,
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.osmerion.quitte.collections;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.Executor;
+
+import com.osmerion.quitte.internal.CoalescingDispatcher;
+
+/**
+ * An {@code AsyncDequeChangeListener} may be used to wrap a listener that should be notified asynchronously using an
+ * {@link Executor}.
+ *
+ * <p>If the deque changes again before the wrapped listener has been notified about a previous change of the same
+ * deque, the local changes are concatenated and delivered as a single change.</p>
+ *
+ * <p>Two {@code AsyncDequeChangeListener} instances are equal if they wrap equal listeners and use the same executor.
+ * Thus, an {@code AsyncDequeChangeListener} may be removed from an observable using a new wrapper instance.</p>
+ *
+ * @param <E>   the type of the deque elements
+ *
+ * @see ObservableDeque#addChangeListener(DequeChangeListener, Executor)
+ *
+ * @since   0.9.0
+ *
+ * @author  Leon Linhart
+ */
+public final class AsyncDequeChangeListener<E> implements DequeChangeListener<E> {
+
+    private final DequeChangeListener<? super E> listener;
+    private final CoalescingDispatcher<ObservableDeque<? extends E>, DequeChangeListener.Change<E>> dispatcher;
+
+    /**
+     * Wraps the given {@link DequeChangeListener listener}.
+     *
+     * @param listener  the listener to wrap
+     * @param executor  the executor used to notify the listener
+     *
+     * @throws NullPointerException if the given listener or executor is {@code null}
+     *
+     * @since   0.9.0
+     */
+    public AsyncDequeChangeListener(DequeChangeListener<? super E> listener, Executor executor) {
+        this.listener = Objects.requireNonNull(listener);
+        this.dispatcher = new CoalescingDispatcher<>(executor, AsyncDequeChangeListener::merge, listener::onChanged);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @since   0.9.0
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public void onChanged(ObservableDeque<? extends E> observable, DequeChangeListener.Change<? extends E> change) {
+        this.dispatcher.dispatch(observable, (DequeChangeListener.Change<E>) change);
+    }
+
+    /**
+     * {@return whether the underlying listener has become invalid}
+     *
+     * @since   0.9.0
+     */
+    @Override
+    public boolean isInvalid() {
+        return this.listener.isInvalid();
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @since   0.9.0
+     */
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) return true;
+        if (!(obj instanceof AsyncDequeChangeListener<?> other)) return false;
+
+        return this.listener.equals(other.listener) && this.dispatcher.getExecutor() == other.dispatcher.getExecutor();
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @since   0.9.0
+     */
+    @Override
+    public int hashCode() {
+        return 31 * this.listener.hashCode() + System.identityHashCode(this.dispatcher.getExecutor());
+    }
+
+    private static <E> DequeChangeListener.Change<E> merge(DequeChangeListener.Change<E> first, DequeChangeListener.Change<E> second) {
+        List<DequeChangeListener.LocalChange<E>> localChanges = new ArrayList<>(first.localChanges().size() + second.localChanges().size());
+        localChanges.addAll(first.localChanges());
+        localChanges.addAll(second.localChanges());
+
+        return new DequeChangeListener.Change<>(localChanges);
+    }
+
+}
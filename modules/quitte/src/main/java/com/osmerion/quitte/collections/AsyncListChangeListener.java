@@ -0,0 +1,142 @@
+/*
+ * Copyright (c) 2018-2023 Leon Linhart,
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.osmerion.quitte.collections;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.Executor;
+
+import com.osmerion.quitte.internal.CoalescingDispatcher;
+
+/**
+ * An {@code AsyncListChangeListener} may be used to wrap a listener that should be notified asynchronously using an
+ * {@link Executor}.
+ *
+ * <p>If the list changes again before the wrapped listener has been notified about a previous change of the same list,
+ * the pending changes are merged where possible. Subsequent updates are concatenated and subsequent permutations are
+ * composed. The remaining changes are delivered in order as part of a single task.</p>
+ *
+ * <p>Two {@code AsyncListChangeListener} instances are equal if they wrap equal listeners and use the same executor.
+ * Thus, an {@code AsyncListChangeListener} may be removed from an observable using a new wrapper instance.</p>
+ *
+ * @param <E>   the type of the list elements
+ *
+ * @see ObservableList#addChangeListener(ListChangeListener, Executor)
+ *
+ * @since   0.9.0
+ *
+ * @author  Leon Linhart
+ */
+public final class AsyncListChangeListener<E> implements ListChangeListener<E> {
+
+    private final ListChangeListener<? super E> listener;
+    private final CoalescingDispatcher<ObservableList<? extends E>, List<ListChangeListener.Change<E>>> dispatcher;
+
+    /**
+     * Wraps the given {@link ListChangeListener listener}.
+     *
+     * @param listener  the listener to wrap
+     * @param executor  the executor used to notify the listener
+     *
+     * @throws NullPointerException if the given listener or executor is {@code null}
+     *
+     * @since   0.9.0
+     */
+    public AsyncListChangeListener(ListChangeListener<? super E> listener, Executor executor) {
+        this.listener = Objects.requireNonNull(listener);
+        this.dispatcher = new CoalescingDispatcher<>(executor, AsyncListChangeListener::merge, (observable, changes) -> {
+            for (var change : changes) listener.onChanged(observable, change);
+        });
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @since   0.9.0
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public void onChanged(ObservableList<? extends E> observable, ListChangeListener.Change<? extends E> change) {
+        List<ListChangeListener.Change<E>> changes = new ArrayList<>(1);
+        changes.add((ListChangeListener.Change<E>) change);
+
+        this.dispatcher.dispatch(observable, changes);
+    }
+
+    /**
+     * {@return whether the underlying listener has become invalid}
+     *
+     * @since   0.9.0
+     */
+    @Override
+    public boolean isInvalid() {
+        return this.listener.isInvalid();
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @since   0.9.0
+     */
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) return true;
+        if (!(obj instanceof AsyncListChangeListener<?> other)) return false;
+
+        return this.listener.equals(other.listener) && this.dispatcher.getExecutor() == other.dispatcher.getExecutor();
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @since   0.9.0
+     */
+    @Override
+    public int hashCode() {
+        return 31 * this.listener.hashCode() + System.identityHashCode(this.dispatcher.getExecutor());
+    }
+
+    private static <E> List<ListChangeListener.Change<E>> merge(List<ListChangeListener.Change<E>> pending, List<ListChangeListener.Change<E>> changes) {
+        for (var change : changes) {
+            var merged = ListChangeListener.Change.merge(pending.get(pending.size() - 1), change);
+
+            if (merged != null) {
+                pending.set(pending.size() - 1, merged);
+            } else {
+                pending.add(change);
+            }
+        }
+
+        return pending;
+    }
+
+}
@@ -30,10 +30,13 @@
  */
 package com.osmerion.quitte.collections;
 
+import javax.annotation.Nullable;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 
+import com.osmerion.quitte.internal.collections.LocalChangeBuffer;
+
 /**
  * A listener that may be used to subscribe to changes to one or more {@link ObservableList observable list}.
  *
@@ -83,6 +86,42 @@ public interface ListChangeListener<E> {
      */
     sealed interface Change<E> {
 
+        /**
+         * Merges two subsequent changes into a single change, if possible.
+         *
+         * <p>Two {@link Update updates} are merged by concatenating their local changes, and two
+         * {@link Permutation permutations} are merged by composing them. Other combinations cannot be merged.</p>
+         *
+         * @param <E>       the type of the list's elements
+         * @param first     the change that happened first
+         * @param second    the change that happened second
+         *
+         * @return  a change that is equivalent to applying both changes in order, or {@code null} if the changes cannot
+         *          be merged
+         *
+         * @since   0.9.0
+         */
+        @Nullable
+        static <E> Change<E> merge(Change<E> first, Change<E> second) {
+            if (first instanceof Update<E> firstUpdate && second instanceof Update<E> secondUpdate) {
+                /*
+                 * The local changes of an update are applied sequentially. Thus, subsequent updates may be concatenated.
+                 * The buffer appends in place when merging into the latest merge result, so that repeated merges do
+                 * not copy all accumulated changes every time.
+                 */
+                return new Update<>(LocalChangeBuffer.concat(firstUpdate.localChanges(), secondUpdate.localChanges()));
+            } else if (first instanceof Permutation<E> firstPermutation && second instanceof Permutation<E> secondPermutation) {
+                /* A permutation maps original indices to current indices. Thus, subsequent permutations may be composed. */
+                List<Integer> firstIndices = firstPermutation.indices(), secondIndices = secondPermutation.indices();
+                List<Integer> indices = new ArrayList<>(firstIndices.size());
+                for (int index : firstIndices) indices.add(secondIndices.get(index));
+
+                return new Permutation<>(indices);
+            }
+
+            return null;
+        }
+
         /**
          * A change to a list in which its elements are rearranged.
          *
@@ -114,7 +153,7 @@ public interface ListChangeListener<E> {
         ) implements Change<E> {
 
             public Update {
-                localChanges = List.copyOf(localChanges);
+                if (!LocalChangeBuffer.isView(localChanges)) localChanges = List.copyOf(localChanges);
             }
 
         }
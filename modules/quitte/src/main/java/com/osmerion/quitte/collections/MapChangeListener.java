@@ -97,6 +97,56 @@ public interface MapChangeListener<K, V>  {
             this.updatedElements = (updatedElements != null) ? Collections.unmodifiableMap(new HashMap<>(updatedElements)) : Map.of();
         }
 
+        /**
+         * Merges two subsequent changes into a single change that describes their net difference.
+         *
+         * @param <K>       the type of the map's keys
+         * @param <V>       the type of the map's values
+         * @param first     the change that happened first
+         * @param second    the change that happened second
+         *
+         * @return  a change that is equivalent to applying both changes in order
+         *
+         * @since   0.9.0
+         */
+        public static <K, V> Change<K, V> merge(Change<K, V> first, Change<K, V> second) {
+            Map<K, V> addedElements = new HashMap<>(first.addedElements());
+            Map<K, V> removedElements = new HashMap<>(first.removedElements());
+            Map<K, Update<V>> updatedElements = new HashMap<>(first.updatedElements());
+
+            /* Keys removed by the second change were present after the first change. */
+            second.removedElements().forEach((key, value) -> {
+                if (addedElements.containsKey(key)) {
+                    addedElements.remove(key);
+                } else if (updatedElements.containsKey(key)) {
+                    removedElements.put(key, updatedElements.remove(key).oldValue());
+                } else {
+                    removedElements.put(key, value);
+                }
+            });
+
+            /* Keys added by the second change were absent after the first change. */
+            second.addedElements().forEach((key, value) -> {
+                if (removedElements.containsKey(key)) {
+                    updatedElements.put(key, new Update<>(removedElements.remove(key), value));
+                } else {
+                    addedElements.put(key, value);
+                }
+            });
+
+            second.updatedElements().forEach((key, update) -> {
+                if (addedElements.containsKey(key)) {
+                    addedElements.put(key, update.newValue());
+                } else if (updatedElements.containsKey(key)) {
+                    updatedElements.put(key, new Update<>(updatedElements.get(key).oldValue(), update.newValue()));
+                } else {
+                    updatedElements.put(key, update);
+                }
+            });
+
+            return new Change<>(addedElements, removedElements, updatedElements);
+        }
+
         /**
          * Describes an update to a map entry's value.
          *
@@ -32,6 +32,7 @@ package com.osmerion.quitte.collections;
 
 import java.util.Deque;
 import java.util.Iterator;
+import java.util.concurrent.Executor;
 import javax.annotation.Nullable;
 
 import com.osmerion.quitte.internal.collections.UnmodifiableObservableDeque;
@@ -113,6 +114,28 @@ public interface ObservableDeque<E> extends Deque<E>, ObservableCollection<E> {
      */
     boolean addChangeListener(DequeChangeListener<? super E> listener);
 
+    /**
+     * Attaches the given {@link DequeChangeListener change listener} to this deque. The listener is notified
+     * asynchronously using the given {@link Executor}.
+     *
+     * <p>This is equivalent to attaching a new {@link AsyncDequeChangeListener} that wraps the given listener.</p>
+     *
+     * @param listener  the listener to be attached to this deque
+     * @param executor  the executor used to notify the listener
+     *
+     * @return  {@code true} if the listener was not previously attached to this deque using the given executor and has
+     *          been successfully attached, or {@code false} otherwise
+     *
+     * @throws NullPointerException if the given listener or executor is {@code null}
+     *
+     * @see #removeChangeListener(DequeChangeListener, Executor)
+     *
+     * @since   0.9.0
+     */
+    default boolean addChangeListener(DequeChangeListener<? super E> listener, Executor executor) {
+        return this.addChangeListener(new AsyncDequeChangeListener<>(listener, executor));
+    }
+
     /**
      * Detaches the given {@link DequeChangeListener change listener} from this deque.
      *
@@ -131,6 +154,26 @@ public interface ObservableDeque<E> extends Deque<E>, ObservableCollection<E> {
      */
     boolean removeChangeListener(DequeChangeListener<? super E> listener);
 
+    /**
+     * Detaches the given {@link DequeChangeListener change listener} that was attached using the given
+     * {@link Executor} from this deque.
+     *
+     * @param listener  the listener to be detached from this deque
+     * @param executor  the executor that was used to attach the listener
+     *
+     * @return  {@code true} if the listener was attached to and has been detached from this deque, or {@code false}
+     *          otherwise
+     *
+     * @throws NullPointerException if the given listener or executor is {@code null}
+     *
+     * @see #addChangeListener(DequeChangeListener, Executor)
+     *
+     * @since   0.9.0
+     */
+    default boolean removeChangeListener(DequeChangeListener<? super E> listener, Executor executor) {
+        return this.removeChangeListener(new AsyncDequeChangeListener<>(listener, executor));
+    }
+
     /**
      * {@inheritDoc}
      *
@@ -32,9 +32,16 @@ package com.osmerion.quitte.collections;
 
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Comparator;
 import java.util.List;
 import java.util.RandomAccess;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+import java.util.function.Predicate;
 
+import com.osmerion.quitte.internal.collections.FilteredObservableList;
+import com.osmerion.quitte.internal.collections.MappedObservableList;
+import com.osmerion.quitte.internal.collections.SortedObservableList;
 import com.osmerion.quitte.internal.collections.UnmodifiableObservableList;
 import com.osmerion.quitte.internal.collections.UnmodifiableRandomAccessObservableList;
 import com.osmerion.quitte.internal.collections.WrappingObservableList;
@@ -116,6 +123,28 @@ public interface ObservableList<E> extends List<E>, ObservableCollection<E> {
      */
     boolean addChangeListener(ListChangeListener<? super E> listener);
 
+    /**
+     * Attaches the given {@link ListChangeListener change listener} to this list. The listener is notified
+     * asynchronously using the given {@link Executor}.
+     *
+     * <p>This is equivalent to attaching a new {@link AsyncListChangeListener} that wraps the given listener.</p>
+     *
+     * @param listener  the listener to be attached to this list
+     * @param executor  the executor used to notify the listener
+     *
+     * @return  {@code true} if the listener was not previously attached to this list using the given executor and has
+     *          been successfully attached, or {@code false} otherwise
+     *
+     * @throws NullPointerException if the given listener or executor is {@code null}
+     *
+     * @see #removeChangeListener(ListChangeListener, Executor)
+     *
+     * @since   0.9.0
+     */
+    default boolean addChangeListener(ListChangeListener<? super E> listener, Executor executor) {
+        return this.addChangeListener(new AsyncListChangeListener<>(listener, executor));
+    }
+
     /**
      * Detaches the given {@link ListChangeListener change listener} from this list.
      *
@@ -134,6 +163,90 @@ public interface ObservableList<E> extends List<E>, ObservableCollection<E> {
      */
     boolean removeChangeListener(ListChangeListener<? super E> listener);
 
+    /**
+     * Detaches the given {@link ListChangeListener change listener} that was attached using the given
+     * {@link Executor} from this list.
+     *
+     * @param listener  the listener to be detached from this list
+     * @param executor  the executor that was used to attach the listener
+     *
+     * @return  {@code true} if the listener was attached to and has been detached from this list, or {@code false}
+     *          otherwise
+     *
+     * @throws NullPointerException if the given listener or executor is {@code null}
+     *
+     * @see #addChangeListener(ListChangeListener, Executor)
+     *
+     * @since   0.9.0
+     */
+    default boolean removeChangeListener(ListChangeListener<? super E> listener, Executor executor) {
+        return this.removeChangeListener(new AsyncListChangeListener<>(listener, executor));
+    }
+
+    /**
+     * Returns a live view of the elements of this list that match the given predicate.
+     *
+     * <p>The returned list is unmodifiable and preserves the order of this list. It is updated incrementally from the
+     * changes to this list. Thus, the predicate is only evaluated for elements that are added or replaced. The
+     * returned list reports its own, minimal changes.</p>
+     *
+     * <p>This list references the returned view weakly.</p>
+     *
+     * @param predicate the predicate used to filter the elements
+     *
+     * @return  a live view of the elements of this list that match the given predicate
+     *
+     * @throws NullPointerException if the given predicate is {@code null}
+     *
+     * @since   0.9.0
+     */
+    default ObservableList<E> filtered(Predicate<? super E> predicate) {
+        return new FilteredObservableList<>(this, predicate);
+    }
+
+    /**
+     * Returns a live view of the elements of this list sorted by the given comparator.
+     *
+     * <p>The returned list is unmodifiable and stable (i.e. equal elements are kept in the order in which they occur
+     * in this list). It is updated incrementally from the changes to this list, and it reports its own, minimal
+     * changes.</p>
+     *
+     * <p>This list references the returned view weakly.</p>
+     *
+     * @param comparator    the comparator used to sort the elements
+     *
+     * @return  a live view of the elements of this list sorted by the given comparator
+     *
+     * @throws NullPointerException if the given comparator is {@code null}
+     *
+     * @since   0.9.0
+     */
+    default ObservableList<E> sorted(Comparator<? super E> comparator) {
+        return new SortedObservableList<>(this, comparator);
+    }
+
+    /**
+     * Returns a live view of the elements of this list transformed by the given function.
+     *
+     * <p>The returned list is unmodifiable. It is updated incrementally from the changes to this list. Thus, the
+     * function is only applied to elements that are added or replaced. The returned list reports its own, minimal
+     * changes.</p>
+     *
+     * <p>This list references the returned view weakly.</p>
+     *
+     * @param <R>       the type of the elements of the view
+     * @param transform the function used to transform the elements
+     *
+     * @return  a live view of the elements of this list transformed by the given function
+     *
+     * @throws NullPointerException if the given function is {@code null}
+     *
+     * @since   0.9.0
+     */
+    default <R> ObservableList<R> mapped(Function<? super E, ? extends R> transform) {
+        return new MappedObservableList<>(this, transform);
+    }
+
     /**
      * See {@link #addAll(Collection)}.
      *
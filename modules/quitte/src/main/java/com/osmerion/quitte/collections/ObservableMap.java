@@ -31,6 +31,7 @@
 package com.osmerion.quitte.collections;
 
 import java.util.Map;
+import java.util.concurrent.Executor;
 
 import com.osmerion.quitte.Observable;
 import com.osmerion.quitte.internal.collections.UnmodifiableObservableMap;
@@ -114,6 +115,28 @@ public interface ObservableMap<K, V> extends Map<K, V>, Observable {
      */
     boolean addChangeListener(MapChangeListener<? super K, ? super V> listener);
 
+    /**
+     * Attaches the given {@link MapChangeListener change listener} to this map. The listener is notified
+     * asynchronously using the given {@link Executor}.
+     *
+     * <p>This is equivalent to attaching a new {@link AsyncMapChangeListener} that wraps the given listener.</p>
+     *
+     * @param listener  the listener to be attached to this map
+     * @param executor  the executor used to notify the listener
+     *
+     * @return  {@code true} if the listener was not previously attached to this map using the given executor and has
+     *          been successfully attached, or {@code false} otherwise
+     *
+     * @throws NullPointerException if the given listener or executor is {@code null}
+     *
+     * @see #removeChangeListener(MapChangeListener, Executor)
+     *
+     * @since   0.9.0
+     */
+    default boolean addChangeListener(MapChangeListener<? super K, ? super V> listener, Executor executor) {
+        return this.addChangeListener(new AsyncMapChangeListener<>(listener, executor));
+    }
+
     /**
      * Detaches the given {@link MapChangeListener change listener} from this map.
      *
@@ -132,6 +155,26 @@ public interface ObservableMap<K, V> extends Map<K, V>, Observable {
      */
     boolean removeChangeListener(MapChangeListener<? super K, ? super V> listener);
 
+    /**
+     * Detaches the given {@link MapChangeListener change listener} that was attached using the given
+     * {@link Executor} from this map.
+     *
+     * @param listener  the listener to be detached from this map
+     * @param executor  the executor that was used to attach the listener
+     *
+     * @return  {@code true} if the listener was attached to and has been detached from this map, or {@code false}
+     *          otherwise
+     *
+     * @throws NullPointerException if the given listener or executor is {@code null}
+     *
+     * @see #addChangeListener(MapChangeListener, Executor)
+     *
+     * @since   0.9.0
+     */
+    default boolean removeChangeListener(MapChangeListener<? super K, ? super V> listener, Executor executor) {
+        return this.removeChangeListener(new AsyncMapChangeListener<>(listener, executor));
+    }
+
     /**
      * {@inheritDoc}
      *
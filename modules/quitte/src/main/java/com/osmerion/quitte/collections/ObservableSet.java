@@ -31,6 +31,7 @@
 package com.osmerion.quitte.collections;
 
 import java.util.Set;
+import java.util.concurrent.Executor;
 
 import com.osmerion.quitte.internal.collections.UnmodifiableObservableSet;
 import com.osmerion.quitte.internal.collections.WrappingObservableSet;
@@ -110,6 +111,28 @@ public interface ObservableSet<E> extends Set<E>, ObservableCollection<E> {
      */
     boolean addChangeListener(SetChangeListener<? super E> listener);
 
+    /**
+     * Attaches the given {@link SetChangeListener change listener} to this set. The listener is notified
+     * asynchronously using the given {@link Executor}.
+     *
+     * <p>This is equivalent to attaching a new {@link AsyncSetChangeListener} that wraps the given listener.</p>
+     *
+     * @param listener  the listener to be attached to this set
+     * @param executor  the executor used to notify the listener
+     *
+     * @return  {@code true} if the listener was not previously attached to this set using the given executor and has
+     *          been successfully attached, or {@code false} otherwise
+     *
+     * @throws NullPointerException if the given listener or executor is {@code null}
+     *
+     * @see #removeChangeListener(SetChangeListener, Executor)
+     *
+     * @since   0.9.0
+     */
+    default boolean addChangeListener(SetChangeListener<? super E> listener, Executor executor) {
+        return this.addChangeListener(new AsyncSetChangeListener<>(listener, executor));
+    }
+
     /**
      * Detaches the given {@link SetChangeListener change listener} from this set.
      *
@@ -128,4 +151,24 @@ public interface ObservableSet<E> extends Set<E>, ObservableCollection<E> {
      */
     boolean removeChangeListener(SetChangeListener<? super E> listener);
 
+    /**
+     * Detaches the given {@link SetChangeListener change listener} that was attached using the given
+     * {@link Executor} from this set.
+     *
+     * @param listener  the listener to be detached from this set
+     * @param executor  the executor that was used to attach the listener
+     *
+     * @return  {@code true} if the listener was attached to and has been detached from this set, or {@code false}
+     *          otherwise
+     *
+     * @throws NullPointerException if the given listener or executor is {@code null}
+     *
+     * @see #addChangeListener(SetChangeListener, Executor)
+     *
+     * @since   0.9.0
+     */
+    default boolean removeChangeListener(SetChangeListener<? super E> listener, Executor executor) {
+        return this.removeChangeListener(new AsyncSetChangeListener<>(listener, executor));
+    }
+
 }
\ No newline at end of file
@@ -97,6 +97,32 @@ public interface SetChangeListener<E> {
             this.removedElements = removedElements != null ? Collections.unmodifiableSet(new HashSet<>(removedElements)) : Set.of();
         }
 
+        /**
+         * Merges two subsequent changes into a single change that describes their net difference.
+         *
+         * @param <E>       the type of the set's elements
+         * @param first     the change that happened first
+         * @param second    the change that happened second
+         *
+         * @return  a change that is equivalent to applying both changes in order
+         *
+         * @since   0.9.0
+         */
+        public static <E> Change<E> merge(Change<E> first, Change<E> second) {
+            Set<E> addedElements = new HashSet<>(first.addedElements());
+            Set<E> removedElements = new HashSet<>(first.removedElements());
+
+            for (E element : second.removedElements()) {
+                if (!addedElements.remove(element)) removedElements.add(element);
+            }
+
+            for (E element : second.addedElements()) {
+                if (!removedElements.remove(element)) addedElements.add(element);
+            }
+
+            return new Change<>(addedElements, removedElements);
+        }
+
     }
 
 }
\ No newline at end of file
@@ -32,12 +32,16 @@ package com.osmerion.quitte.collections;
 
 import java.lang.ref.WeakReference;
 import java.util.Objects;
+import java.util.function.Consumer;
+
+import com.osmerion.quitte.internal.ListenerReaper;
 
 /**
  * A {@code WeakListChangeListener} may be used to wrap a listener that should only be referenced weakly from an
  * {@link ObservableList}.
  *
- * <p>This listener does not keep a strong reference to the wrapped listener.</p>
+ * <p>This listener does not keep a strong reference to the wrapped listener. Once the wrapped listener has been
+ * garbage collected, this listener is proactively detached from the observables it is attached to.</p>
  *
  * @param <E>   the type of the list elements
  *
@@ -47,11 +51,9 @@ import java.util.Objects;
  *
  * @author  Leon Linhart
  */
-public final class WeakListChangeListener<E> implements ListChangeListener<E> {
-
-    private final WeakReference<ListChangeListener<E>> ref;
+public final class WeakListChangeListener<E> implements ListChangeListener<E>, ListenerReaper.Reapable {
 
-    private boolean wasGarbageCollected;
+    private final ListenerReaper.ListenerReference<ListChangeListener<E>> ref;
 
     /**
      * Wraps the given {@link ListChangeListener listener}.
@@ -63,8 +65,7 @@ public final class WeakListChangeListener<E> implements ListChangeListener<E> {
      * @since   0.8.0
      */
     public WeakListChangeListener(ListChangeListener<E> listener) {
-        this.ref = new WeakReference<>(Objects.requireNonNull(listener));
-        this.wasGarbageCollected = false;
+        this.ref = new ListenerReaper.ListenerReference<>(Objects.requireNonNull(listener));
     }
 
     /**
@@ -76,11 +77,7 @@ public final class WeakListChangeListener<E> implements ListChangeListener<E> {
     public void onChanged(ObservableList<? extends E> observable, ListChangeListener.Change<? extends E> change) {
         var listener = this.ref.get();
 
-        if (listener != null) {
-            listener.onChanged(observable, change);
-        } else {
-            this.wasGarbageCollected = true;
-        }
+        if (listener != null) listener.onChanged(observable, change);
     }
 
     /**
@@ -90,10 +87,16 @@ public final class WeakListChangeListener<E> implements ListChangeListener<E> {
      */
     @Override
     public boolean isInvalid() {
-        if (this.wasGarbageCollected) return true;
-
         var listener = this.ref.get();
-        return (listener != null && listener.isInvalid());
+        return (listener == null || listener.isInvalid());
+    }
+
+    /**
+     * @hidden
+     */
+    @Override
+    public <O> void reapFrom(O owner, Consumer<? super O> action) {
+        this.ref.reapFrom(owner, action);
     }
 
 }
\ No newline at end of file
@@ -32,12 +32,16 @@ package com.osmerion.quitte.collections;
 
 import java.lang.ref.WeakReference;
 import java.util.Objects;
+import java.util.function.Consumer;
+
+import com.osmerion.quitte.internal.ListenerReaper;
 
 /**
  * A {@code WeakMapChangeListener} may be used to wrap a listener that should only be referenced weakly from an
  * {@link ObservableMap}.
  *
- * <p>This listener does not keep a strong reference to the wrapped listener.</p>
+ * <p>This listener does not keep a strong reference to the wrapped listener. Once the wrapped listener has been
+ * garbage collected, this listener is proactively detached from the observables it is attached to.</p>
  *
  * @param <K>   the type of the map keys
  * @param <V>   the type of the map values
@@ -48,11 +52,9 @@ import java.util.Objects;
  *
  * @author  Leon Linhart
  */
-public final class WeakMapChangeListener<K, V> implements MapChangeListener<K, V> {
-
-    private final WeakReference<MapChangeListener<K, V>> ref;
+public final class WeakMapChangeListener<K, V> implements MapChangeListener<K, V>, ListenerReaper.Reapable {
 
-    private boolean wasGarbageCollected;
+    private final ListenerReaper.ListenerReference<MapChangeListener<K, V>> ref;
 
     /**
      * Wraps the given {@link MapChangeListener listener}.
@@ -64,8 +66,7 @@ public final class WeakMapChangeListener<K, V> implements MapChangeListener<K, V
      * @since   0.8.0
      */
     public WeakMapChangeListener(MapChangeListener<K, V> listener) {
-        this.ref = new WeakReference<>(Objects.requireNonNull(listener));
-        this.wasGarbageCollected = false;
+        this.ref = new ListenerReaper.ListenerReference<>(Objects.requireNonNull(listener));
     }
 
     /**
@@ -77,11 +78,7 @@ public final class WeakMapChangeListener<K, V> implements MapChangeListener<K, V
     public void onChanged(ObservableMap<? extends K, ? extends V> observable, MapChangeListener.Change<? extends K, ? extends V> change) {
         var listener = this.ref.get();
 
-        if (listener != null) {
-            listener.onChanged(observable, change);
-        } else {
-            this.wasGarbageCollected = true;
-        }
+        if (listener != null) listener.onChanged(observable, change);
     }
 
     /**
@@ -91,10 +88,16 @@ public final class WeakMapChangeListener<K, V> implements MapChangeListener<K, V
      */
     @Override
     public boolean isInvalid() {
-        if (this.wasGarbageCollected) return true;
-
         var listener = this.ref.get();
-        return (listener != null && listener.isInvalid());
+        return (listener == null || listener.isInvalid());
+    }
+
+    /**
+     * @hidden
+     */
+    @Override
+    public <O> void reapFrom(O owner, Consumer<? super O> action) {
+        this.ref.reapFrom(owner, action);
     }
 
 }
\ No newline at end of file
@@ -31,7 +31,8 @@
 package com.osmerion.quitte.expression;
 
 import java.util.IdentityHashMap;
-import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.atomic.AtomicLongFieldUpdater;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
 
 import javax.annotation.Nullable;
 
@@ -39,6 +40,11 @@ import com.osmerion.quitte.InvalidationListener;
 import com.osmerion.quitte.Observable;
 import com.osmerion.quitte.WeakInvalidationListener;
 import com.osmerion.quitte.functional.BoolSupplier;
+import com.osmerion.quitte.internal.Listeners;
+import com.osmerion.quitte.internal.Metrics;
+import com.osmerion.quitte.internal.Propagation;
+import com.osmerion.quitte.internal.SnapshotTracker;
+import com.osmerion.quitte.metrics.MetricsSink;
 
 /**
  * An {@code AbstractExpression} is an expression with basic dependency management functionalities.
@@ -49,11 +55,29 @@ import com.osmerion.quitte.functional.BoolSupplier;
  */
 public abstract class AbstractExpression implements Expression {
 
-    private final transient CopyOnWriteArraySet<InvalidationListener> invalidationListeners = new CopyOnWriteArraySet<>();
+    private static final AtomicReferenceFieldUpdater<AbstractExpression, Object> INVALIDATION_LISTENERS = AtomicReferenceFieldUpdater.newUpdater(AbstractExpression.class, Object.class, "invalidationListeners");
+    private static final AtomicLongFieldUpdater<AbstractExpression> VERSION = AtomicLongFieldUpdater.newUpdater(AbstractExpression.class, "version");
+
+    /* The attached listeners are stored compactly. See Listeners for the representation. */
+    @Nullable
+    private transient volatile Object invalidationListeners;
 
     @Nullable
     private transient IdentityHashMap<Observable, InvalidationListener> dependencies;
 
+    /* Snapshot reads validate the value of this expression against this stamp. See VersionStamp for its layout. */
+    private transient volatile long version;
+
+    /* Invalidations of dependencies are routed through this node to revalidate expressions in topological order. */
+    private final transient Propagation.Node node = new Propagation.Node(VERSION, this) {
+
+        @Override
+        protected void propagate() {
+            AbstractExpression.this.invalidateImpl();
+        }
+
+    };
+
     /**
      * Creates a new {@code AbstractExpression}.
      *
@@ -67,7 +91,7 @@ public abstract class AbstractExpression implements Expression {
      * @since   0.1.0
      */
     public final boolean addInvalidationListener(InvalidationListener listener) {
-        return this.invalidationListeners.add(listener);
+        return Listeners.add(INVALIDATION_LISTENERS, this, listener);
     }
 
     /**
@@ -76,7 +100,7 @@ public abstract class AbstractExpression implements Expression {
      * @since   0.1.0
      */
     public final boolean removeInvalidationListener(InvalidationListener listener) {
-        return this.invalidationListeners.remove(listener);
+        return Listeners.remove(INVALIDATION_LISTENERS, this, listener);
     }
 
     /**
@@ -85,6 +109,19 @@ public abstract class AbstractExpression implements Expression {
      * @since   0.1.0
      */
     protected final void invalidate() {
+        this.beginWrite();
+
+        try {
+            this.invalidateImpl();
+        } finally {
+            this.endWrite();
+        }
+    }
+
+    private void invalidateImpl() {
+        MetricsSink sink = Metrics.sink();
+        if (sink != null) sink.recordInvalidation(this);
+
         this.doInvalidate();
     }
 
@@ -92,16 +129,68 @@ public abstract class AbstractExpression implements Expression {
         this.notifyInvalidationListeners();
     }
 
+    /* Marks the beginning of a modification of this expression's value for snapshot reads. */
+    final void beginWrite() {
+        Propagation.beginWrite(VERSION, this);
+    }
+
+    /* Marks the end of a modification of this expression's value for snapshot reads. */
+    final void endWrite() {
+        Propagation.endWrite(VERSION, this);
+    }
+
+    /* Records a read of this expression's value for snapshot reads. Must be called before the value is read. */
+    final void recordSnapshotRead() {
+        SnapshotTracker.record(VERSION, this);
+    }
+
     final void notifyInvalidationListeners() {
-        for (var listener : this.invalidationListeners) {
-            if (listener.isInvalid()) {
-                this.invalidationListeners.remove(listener);
-                continue;
-            }
+        var listeners = this.invalidationListeners;
+        int size = Listeners.size(listeners);
+        if (size == 0) return;
+
+        MetricsSink sink = Metrics.sink();
+        long start = (sink != null) ? System.nanoTime() : 0L;
+
+        Propagation.begin();
 
-            listener.onInvalidation(this);
-            if (listener.isInvalid()) this.invalidationListeners.remove(listener);
+        try {
+            for (int i = 0; i < size; i++) {
+                InvalidationListener listener = Listeners.get(listeners, i);
+
+                if (listener.isInvalid()) {
+                    Listeners.remove(INVALIDATION_LISTENERS, this, listener);
+                    continue;
+                }
+
+                listener.onInvalidation(this);
+            }
+        } finally {
+            Propagation.end();
         }
+
+        if (sink != null) sink.recordInvalidationDispatch(this, size, System.nanoTime() - start);
+    }
+
+    /*
+     * Ranks this expression above the given dependency.
+     *
+     * Expressions are ranked by their height in the dependency graph. Other observables are treated as sources with a
+     * height of zero.
+     */
+    final void rankAfter(Observable dependency) {
+        if (dependency instanceof AbstractExpression expression) this.node.rank(expression.node.height() + 1);
+    }
+
+    /*
+     * Schedules this expression to be revalidated after the given dependency has been invalidated.
+     *
+     * If a propagation is in progress, this expression is revalidated once all expressions that are ranked lower have
+     * been revalidated. Otherwise, this expression is revalidated immediately.
+     */
+    final void scheduleInvalidation(Observable dependency) {
+        int minHeight = (dependency instanceof AbstractExpression expression) ? expression.node.height() + 1 : 1;
+        Propagation.schedule(this.node, minHeight);
     }
 
     /**
@@ -117,11 +206,12 @@ public abstract class AbstractExpression implements Expression {
     protected final synchronized void addDependency(Observable observable) {
         if (this.dependencies == null) this.dependencies = new IdentityHashMap<>();
 
-        InvalidationListener listener = ignored -> this.doInvalidate();
+        InvalidationListener listener = this::scheduleInvalidation;
         this.dependencies.compute(observable, (key, oldValue) -> {
             if (oldValue != null) throw new IllegalArgumentException("Expression already depends on observable: " + observable);
 
             observable.addInvalidationListener(new WeakInvalidationListener(listener));
+            this.rankAfter(observable);
             return listener;
         });
     }
@@ -141,13 +231,14 @@ public abstract class AbstractExpression implements Expression {
         if (this.dependencies == null) this.dependencies = new IdentityHashMap<>();
 
         InvalidationListener listener = ignored -> {
-            if (verifier.get()) this.doInvalidate();
+            if (verifier.get()) this.scheduleInvalidation(observable);
         };
 
         this.dependencies.compute(observable, (key, oldValue) -> {
             if (oldValue != null) throw new IllegalArgumentException("Expression already depends on observable: " + observable);
 
             observable.addInvalidationListener(new WeakInvalidationListener(listener));
+            this.rankAfter(observable);
             return listener;
         });
     }
@@ -172,13 +263,14 @@ public abstract class AbstractExpression implements Expression {
 
         InvalidationListener listener = ignored -> {
             action.run();
-            this.doInvalidate();
+            this.scheduleInvalidation(observable);
         };
 
         this.dependencies.compute(observable, (key, oldValue) -> {
             if (oldValue != null) throw new IllegalArgumentException("Expression already depends on observable: " + observable);
 
             observable.addInvalidationListener(new WeakInvalidationListener(listener));
+            this.rankAfter(observable);
             return listener;
         });
     }
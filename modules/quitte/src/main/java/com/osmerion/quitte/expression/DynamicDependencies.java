@@ -0,0 +1,110 @@
+/*
+ * Copyright (c) 2018-2023 Leon Linhart,
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.osmerion.quitte.expression;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
+import javax.annotation.Nullable;
+
+import com.osmerion.quitte.InvalidationListener;
+import com.osmerion.quitte.Observable;
+import com.osmerion.quitte.WeakInvalidationListener;
+import com.osmerion.quitte.internal.DependencyTracker;
+
+/*
+ * The dependencies of an expression that are discovered while its value is computed.
+ *
+ * A single weak listener is shared between all dependencies. After each computation, the listener is detached from
+ * the observables that were not read anymore and attached to the observables that were read for the first time.
+ */
+final class DynamicDependencies {
+
+    private static final Observable[] EMPTY = new Observable[0];
+
+    private final AbstractExpression owner;
+    private final InvalidationListener listener;
+    private final WeakInvalidationListener weakListener;
+
+    private Observable[] observables = EMPTY;
+
+    DynamicDependencies(AbstractExpression owner) {
+        this.owner = owner;
+        this.listener = owner::scheduleInvalidation;
+        this.weakListener = new WeakInvalidationListener(this.listener);
+    }
+
+    /* Closes the given scope and updates the dependencies to the observables that were read while it was open. */
+    synchronized void update(DependencyTracker.Scope scope) {
+        scope.close();
+
+        Observable[] previous = this.observables;
+        Observable[] current = scope.observables();
+        this.observables = current;
+
+        if (previous.length == 0 && current.length == 0) return;
+
+        Set<Observable> previousSet = asSet(previous);
+        Set<Observable> currentSet = asSet(current);
+
+        for (Observable observable : previous) {
+            if (!contains(currentSet, current, observable)) observable.removeInvalidationListener(this.weakListener);
+        }
+
+        for (Observable observable : current) {
+            if (observable == this.owner || contains(previousSet, previous, observable)) continue;
+
+            observable.addInvalidationListener(this.weakListener);
+            this.owner.rankAfter(observable);
+        }
+    }
+
+    /* Returns an identity set for larger arrays, or null if a linear scan is cheaper. */
+    @Nullable
+    private static Set<Observable> asSet(Observable[] observables) {
+        if (observables.length <= 8) return null;
+
+        Set<Observable> set = Collections.newSetFromMap(new IdentityHashMap<>());
+        Collections.addAll(set, observables);
+        return set;
+    }
+
+    private static boolean contains(@Nullable Set<Observable> set, Observable[] observables, Observable observable) {
+        if (set != null) return set.contains(observable);
+
+        for (Observable o : observables) {
+            if (o == observable) return true;
+        }
+
+        return false;
+    }
+
+}
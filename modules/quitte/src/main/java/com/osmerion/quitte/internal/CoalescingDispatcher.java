@@ -0,0 +1,151 @@
+/*
+ * Copyright (c) 2018-2023 Leon Linhart,
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.osmerion.quitte.internal;
+
+import java.util.IdentityHashMap;
+import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.function.BiConsumer;
+import java.util.function.BinaryOperator;
+
+import javax.annotation.Nullable;
+
+/**
+ * A dispatcher that delivers notifications asynchronously using an {@link Executor}.
+ *
+ * <p>If a notification for an observable is dispatched while a previous notification for the same observable is still
+ * pending, both notifications are merged and only delivered once.</p>
+ *
+ * <p>Notifications for the same observable are delivered serially and in order, even if the executor runs tasks
+ * concurrently: While a notification is being delivered, subsequent notifications are merged and only scheduled for
+ * delivery once the current delivery has finished.</p>
+ *
+ * @param <O>   the type of the observables
+ * @param <N>   the type of the notifications
+ *
+ * @author  Leon Linhart
+ */
+public final class CoalescingDispatcher<O, N> {
+
+    private final Executor executor;
+    private final BinaryOperator<N> merger;
+    private final BiConsumer<O, N> consumer;
+
+    /* An observable is present in this map for as long as a delivery task for it is scheduled or running. */
+    private final IdentityHashMap<O, Slot<N>> slots = new IdentityHashMap<>();
+
+    /**
+     * Creates a new dispatcher.
+     *
+     * @param executor  the executor used to deliver notifications
+     * @param merger    the function used to merge a pending notification with a subsequent one
+     * @param consumer  the function that delivers a notification
+     */
+    public CoalescingDispatcher(Executor executor, BinaryOperator<N> merger, BiConsumer<O, N> consumer) {
+        this.executor = Objects.requireNonNull(executor);
+        this.merger = merger;
+        this.consumer = consumer;
+    }
+
+    /** {@return the executor used to deliver notifications} */
+    public Executor getExecutor() {
+        return this.executor;
+    }
+
+    /**
+     * Dispatches a notification for the given observable.
+     *
+     * @param observable    the observable
+     * @param notification  the notification
+     */
+    public void dispatch(O observable, N notification) {
+        synchronized (this.slots) {
+            Slot<N> slot = this.slots.get(observable);
+
+            if (slot != null) {
+                slot.pending = (slot.pending != null) ? this.merger.apply(slot.pending, notification) : notification;
+                return;
+            }
+
+            this.slots.put(observable, new Slot<>(notification));
+        }
+
+        this.schedule(observable);
+    }
+
+    private void schedule(O observable) {
+        try {
+            this.executor.execute(() -> this.deliver(observable));
+        } catch (RuntimeException e) {
+            synchronized (this.slots) {
+                this.slots.remove(observable);
+            }
+
+            throw e;
+        }
+    }
+
+    private void deliver(O observable) {
+        N notification;
+
+        synchronized (this.slots) {
+            Slot<N> slot = this.slots.get(observable);
+            notification = slot.pending;
+            slot.pending = null;
+        }
+
+        try {
+            if (notification != null) this.consumer.accept(observable, notification);
+        } finally {
+            boolean hasPending;
+
+            synchronized (this.slots) {
+                hasPending = this.slots.get(observable).pending != null;
+                if (!hasPending) this.slots.remove(observable);
+            }
+
+            /* Notifications that arrived during the delivery are delivered by a single follow-up task. */
+            if (hasPending) this.schedule(observable);
+        }
+    }
+
+    private static final class Slot<N> {
+
+        @Nullable
+        N pending;
+
+        Slot(N pending) {
+            this.pending = pending;
+        }
+
+    }
+
+}
@@ -0,0 +1,177 @@
+/*
+ * Copyright (c) 2018-2023 Leon Linhart,
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.osmerion.quitte.internal;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
+import javax.annotation.Nullable;
+
+import com.osmerion.quitte.Observable;
+
+/**
+ * A tracker that records the observables that are read while a computation is running.
+ *
+ * <p>Observables report reads by calling {@link #record(Observable)}. While a {@link Scope scope} is open on the
+ * current thread, the reported observables are collected by the innermost scope. Scopes may be nested, in which case
+ * reads are only recorded by the innermost scope.</p>
+ *
+ * <p>Tracking is confined to the current thread.</p>
+ *
+ * @author  Leon Linhart
+ */
+public final class DependencyTracker {
+
+    private static final ThreadLocal<Scope> CURRENT = new ThreadLocal<>();
+
+    @Deprecated
+    private DependencyTracker() { throw new UnsupportedOperationException(); }
+
+    /**
+     * Opens a new tracking scope on the current thread.
+     *
+     * <p>Every call to this method must be paired with a call to {@link Scope#close()}.</p>
+     *
+     * @return  the new scope
+     */
+    public static Scope open() {
+        Scope scope = new Scope(CURRENT.get(), true);
+        CURRENT.set(scope);
+
+        return scope;
+    }
+
+    /**
+     * Opens a new scope on the current thread that does not record any reads.
+     *
+     * <p>Observables that recompute their value while they are being read suspend tracking for the recomputation. Thus,
+     * the reads that are performed by the recomputation are not attributed to the enclosing scope, which only depends
+     * on the observable itself.</p>
+     *
+     * <p>Every call to this method must be paired with a call to {@link Scope#close()}.</p>
+     *
+     * @return  the new scope
+     */
+    public static Scope suspend() {
+        Scope scope = new Scope(CURRENT.get(), false);
+        CURRENT.set(scope);
+
+        return scope;
+    }
+
+    /**
+     * Records a read of the given observable in the innermost scope of the current thread, if any.
+     *
+     * @param observable    the observable that was read
+     */
+    public static void record(Observable observable) {
+        Scope scope = CURRENT.get();
+        if (scope != null) scope.add(observable);
+    }
+
+    /**
+     * A tracking scope that collects the observables that were read while it was open.
+     */
+    public static final class Scope implements AutoCloseable {
+
+        /* Reads are deduplicated by a linear scan until this many observables have been recorded. */
+        private static final int LINEAR_THRESHOLD = 8;
+
+        @Nullable
+        private final Scope parent;
+
+        private Observable[] observables = new Observable[4];
+        private int size;
+
+        @Nullable
+        private Set<Observable> index;
+
+        private final boolean recording;
+        private boolean closed;
+
+        private Scope(@Nullable Scope parent, boolean recording) {
+            this.parent = parent;
+            this.recording = recording;
+        }
+
+        private void add(Observable observable) {
+            if (!this.recording) return;
+
+            if (this.index != null) {
+                if (!this.index.add(observable)) return;
+            } else {
+                for (int i = 0; i < this.size; i++) {
+                    if (this.observables[i] == observable) return;
+                }
+
+                if (this.size == LINEAR_THRESHOLD) {
+                    this.index = Collections.newSetFromMap(new IdentityHashMap<>());
+                    this.index.addAll(Arrays.asList(this.observables).subList(0, this.size));
+                    this.index.add(observable);
+                }
+            }
+
+            if (this.size == this.observables.length) this.observables = Arrays.copyOf(this.observables, this.size * 2);
+            this.observables[this.size++] = observable;
+        }
+
+        /**
+         * Returns the observables that were read while this scope was open, in the order of their first read.
+         *
+         * @return  the observables that were read while this scope was open
+         */
+        public Observable[] observables() {
+            return Arrays.copyOf(this.observables, this.size);
+        }
+
+        /**
+         * Closes this scope and restores the enclosing scope.
+         *
+         * @throws IllegalStateException    if this scope is not the innermost open scope of the current thread
+         */
+        @Override
+        public void close() {
+            if (this.closed) return;
+            if (CURRENT.get() != this) throw new IllegalStateException("Scope is not the innermost open scope");
+
+            this.closed = true;
+
+            if (this.parent != null) {
+                CURRENT.set(this.parent);
+            } else {
+                CURRENT.remove();
+            }
+        }
+
+    }
+
+}
@@ -0,0 +1,219 @@
+/*
+ * Copyright (c) 2018-2023 Leon Linhart,
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.osmerion.quitte.internal;
+
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.function.Consumer;
+import javax.annotation.Nullable;
+
+/**
+ * A reaper that proactively detaches weakly referenced listeners from their owners once the listeners have been
+ * garbage collected.
+ *
+ * <p>Weak listener wrappers reference the wrapped listener using a {@link ListenerReference}. Whenever a wrapper is
+ * attached to an owner, the owner registers an action that detaches the wrapper again using
+ * {@link #track(Object, Object, Consumer)}. Once the wrapped listener is collected, its reference is enqueued and a
+ * shared daemon thread runs the registered actions. Thus, owners that are rarely notified do not retain dead wrappers
+ * until their next notification.</p>
+ *
+ * <p>Owners are only referenced weakly by the registered actions. Hence, tracking a listener never prolongs the
+ * lifetime of its owner.</p>
+ *
+ * @author  Leon Linhart
+ */
+public final class ListenerReaper {
+
+    private static final ReferenceQueue<Object> QUEUE = new ReferenceQueue<>();
+
+    static {
+        Thread thread = new Thread(ListenerReaper::run, "Quitte Listener Reaper");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    @Deprecated
+    private ListenerReaper() { throw new UnsupportedOperationException(); }
+
+    /**
+     * Registers an action that detaches the given listener from the given owner once the listener's referent has been
+     * collected. If the given listener is not {@link Reapable reapable}, this method does nothing.
+     *
+     * @param <O>       the type of the owner
+     * @param listener  the listener that was attached to the owner
+     * @param owner     the owner
+     * @param action    the action that detaches the listener from the owner
+     */
+    public static <O> void track(Object listener, O owner, Consumer<? super O> action) {
+        if (listener instanceof Reapable reapable) reapable.reapFrom(owner, action);
+    }
+
+    private static void run() {
+        while (true) {
+            try {
+                ((ListenerReference<?>) QUEUE.remove()).reap();
+            } catch (InterruptedException ignored) {
+                /* The reaper must outlive spurious interrupts. */
+            } catch (Throwable t) {
+                Thread thread = Thread.currentThread();
+                thread.getUncaughtExceptionHandler().uncaughtException(thread, t);
+            }
+        }
+    }
+
+    /**
+     * A listener that references another listener weakly and may thus be reaped.
+     */
+    public interface Reapable {
+
+        /**
+         * Registers an action that is run for the given owner once the wrapped listener has been collected.
+         *
+         * <p>If the wrapped listener has already been reaped, the action is run immediately. If an action has already
+         * been registered for the same owner, it is replaced.</p>
+         *
+         * @param <O>       the type of the owner
+         * @param owner     the owner
+         * @param action    the action
+         */
+        <O> void reapFrom(O owner, Consumer<? super O> action);
+
+    }
+
+    /**
+     * A weak reference to a listener that is processed by the reaper once the listener has been collected.
+     *
+     * @param <T>   the type of the referent
+     */
+    public static final class ListenerReference<T> extends WeakReference<T> {
+
+        private static final int MIN_PRUNE_THRESHOLD = 8;
+
+        /*
+         * The registered owners, or null once this reference has been reaped. Owners are compared by identity, so that
+         * repeatedly attaching a listener to the same owner does not accumulate entries.
+         */
+        @Nullable
+        private Set<Owner<?>> owners = new HashSet<>(2);
+
+        /* The number of owners at which owners that have been collected are pruned. */
+        private int pruneThreshold = MIN_PRUNE_THRESHOLD;
+
+        /**
+         * Creates a new reference to the given listener.
+         *
+         * @param referent  the listener
+         */
+        public ListenerReference(T referent) {
+            super(referent, QUEUE);
+        }
+
+        /**
+         * Registers an action that is run for the given owner once the referent has been collected.
+         *
+         * <p>If an action has already been registered for the same owner, it is replaced.</p>
+         *
+         * @param <O>       the type of the owner
+         * @param owner     the owner
+         * @param action    the action
+         *
+         * @see Reapable#reapFrom(Object, Consumer)
+         */
+        public <O> void reapFrom(O owner, Consumer<? super O> action) {
+            synchronized (this) {
+                if (this.owners != null) {
+                    /* Replace the action of a previous registration for the same owner. */
+                    Owner<O> entry = new Owner<>(owner, action);
+                    this.owners.remove(entry);
+                    this.owners.add(entry);
+
+                    /* Owners that have been collected themselves no longer need to be notified. */
+                    if (this.owners.size() >= this.pruneThreshold) {
+                        this.owners.removeIf(it -> it.refersTo(null));
+                        this.pruneThreshold = Math.max(MIN_PRUNE_THRESHOLD, this.owners.size() * 2);
+                    }
+
+                    return;
+                }
+            }
+
+            action.accept(owner);
+        }
+
+        private void reap() {
+            Set<Owner<?>> owners;
+
+            synchronized (this) {
+                owners = this.owners;
+                this.owners = null;
+            }
+
+            if (owners == null) return;
+            for (var owner : owners) owner.reap();
+        }
+
+    }
+
+    private static final class Owner<O> extends WeakReference<O> {
+
+        private final Consumer<? super O> action;
+        private final int hash;
+
+        private Owner(O owner, Consumer<? super O> action) {
+            super(owner);
+            this.action = action;
+            this.hash = System.identityHashCode(owner);
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) return true;
+            if (!(obj instanceof Owner<?> other)) return false;
+
+            Object owner = this.get();
+            return owner != null && owner == other.get();
+        }
+
+        @Override
+        public int hashCode() {
+            return this.hash;
+        }
+
+        private void reap() {
+            O owner = this.get();
+            if (owner != null) this.action.accept(owner);
+        }
+
+    }
+
+}
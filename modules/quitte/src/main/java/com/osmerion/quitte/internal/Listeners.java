@@ -0,0 +1,213 @@
+/*
+ * Copyright (c) 2018-2023 Leon Linhart,
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.osmerion.quitte.internal;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+import java.util.function.Predicate;
+import javax.annotation.Nullable;
+
+/**
+ * Utilities for storing listeners compactly in a single field of the owning observable.
+ *
+ * <p>The field holds {@code null} if no listener is attached, the listener itself if exactly one listener is attached,
+ * or an array of listeners otherwise. The state is never modified in place. Instead, every modification atomically
+ * replaces the state using the given field updater. Thus, a state that has been read from the field once may safely be
+ * iterated while listeners are concurrently attached or detached.</p>
+ *
+ * <p>Listeners that are attached using this class are {@link ListenerReaper#track(Object, Object, java.util.function.Consumer)
+ * tracked} by the {@link ListenerReaper}. Thus, weak listeners are detached as soon as they have been collected.</p>
+ *
+ * @author  Leon Linhart
+ */
+public final class Listeners {
+
+    @Deprecated
+    private Listeners() { throw new UnsupportedOperationException(); }
+
+    /**
+     * Attaches the given listener to the owner unless it is already attached.
+     *
+     * @param <T>       the type of the owner
+     * @param updater   the updater for the owner's listener field
+     * @param owner     the owner
+     * @param listener  the listener to attach
+     *
+     * @return  {@code true} if the listener was attached, or {@code false} if it was already attached
+     */
+    public static <T> boolean add(AtomicReferenceFieldUpdater<T, Object> updater, T owner, Object listener) {
+        Objects.requireNonNull(listener);
+
+        Object state, newState;
+
+        do {
+            state = updater.get(owner);
+            if (indexOf(state, listener) != -1) return false;
+
+            if (state == null) {
+                newState = listener;
+            } else if (state instanceof Object[] array) {
+                Object[] newArray = Arrays.copyOf(array, array.length + 1);
+                newArray[array.length] = listener;
+
+                newState = newArray;
+            } else {
+                newState = new Object[] { state, listener };
+            }
+        } while (!updater.compareAndSet(owner, state, newState));
+
+        ListenerReaper.track(listener, owner, it -> remove(updater, it, listener));
+        return true;
+    }
+
+    /**
+     * Attaches the given listener to the given set of listeners unless it is already attached.
+     *
+     * <p>This method is intended for owners that store their listeners in a concurrent set instead of a compact
+     * field.</p>
+     *
+     * @param <L>       the type of the listeners
+     * @param listeners the set of listeners
+     * @param listener  the listener to attach
+     *
+     * @return  {@code true} if the listener was attached, or {@code false} if it was already attached
+     */
+    public static <L> boolean add(Set<L> listeners, L listener) {
+        if (!listeners.add(Objects.requireNonNull(listener))) return false;
+
+        ListenerReaper.track(listener, listeners, it -> it.remove(listener));
+        return true;
+    }
+
+    /**
+     * Detaches the given listener from the owner.
+     *
+     * @param <T>       the type of the owner
+     * @param updater   the updater for the owner's listener field
+     * @param owner     the owner
+     * @param listener  the listener to detach
+     *
+     * @return  {@code true} if the listener was detached, or {@code false} if it was not attached
+     */
+    public static <T> boolean remove(AtomicReferenceFieldUpdater<T, Object> updater, T owner, Object listener) {
+        Objects.requireNonNull(listener);
+        return removeIf(updater, owner, listener::equals);
+    }
+
+    /**
+     * Detaches all listeners from the owner that match the given predicate.
+     *
+     * @param <T>       the type of the owner
+     * @param updater   the updater for the owner's listener field
+     * @param owner     the owner
+     * @param filter    the predicate used to select the listeners to detach
+     *
+     * @return  {@code true} if any listener was detached, or {@code false} otherwise
+     */
+    public static <T> boolean removeIf(AtomicReferenceFieldUpdater<T, Object> updater, T owner, Predicate<Object> filter) {
+        Object state, newState;
+
+        do {
+            state = updater.get(owner);
+
+            if (state == null) {
+                return false;
+            } else if (state instanceof Object[] array) {
+                Object[] newArray = new Object[array.length];
+                int size = 0;
+
+                for (Object listener : array) {
+                    if (!filter.test(listener)) newArray[size++] = listener;
+                }
+
+                if (size == array.length) return false;
+
+                newState = switch (size) {
+                    case 0 -> null;
+                    case 1 -> newArray[0];
+                    default -> Arrays.copyOf(newArray, size);
+                };
+            } else {
+                if (!filter.test(state)) return false;
+                newState = null;
+            }
+        } while (!updater.compareAndSet(owner, state, newState));
+
+        return true;
+    }
+
+    /**
+     * {@return whether any listener in the given state matches the given predicate}
+     *
+     * @param state     the listener state
+     * @param predicate the predicate to test the listeners against
+     */
+    public static boolean anyMatch(@Nullable Object state, Predicate<Object> predicate) {
+        for (int i = 0, size = size(state); i < size; i++) {
+            if (predicate.test(get(state, i))) return true;
+        }
+
+        return false;
+    }
+
+    /**
+     * {@return the number of listeners in the given state}
+     *
+     * @param state the listener state
+     */
+    public static int size(@Nullable Object state) {
+        if (state == null) return 0;
+        return (state instanceof Object[] array) ? array.length : 1;
+    }
+
+    /**
+     * {@return the listener at the given index in the given state}
+     *
+     * @param <L>   the type of the listener
+     * @param state the listener state
+     * @param index the index of the listener
+     */
+    @SuppressWarnings("unchecked")
+    public static <L> L get(Object state, int index) {
+        return (L) ((state instanceof Object[] array) ? array[index] : state);
+    }
+
+    private static int indexOf(@Nullable Object state, Object listener) {
+        for (int i = 0, size = size(state); i < size; i++) {
+            if (listener.equals(get(state, i))) return i;
+        }
+
+        return -1;
+    }
+
+}
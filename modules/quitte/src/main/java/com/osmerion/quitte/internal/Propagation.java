@@ -0,0 +1,466 @@
+/*
+ * Copyright (c) 2018-2023 Leon Linhart,
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.osmerion.quitte.internal;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongFieldUpdater;
+
+/**
+ * An engine that propagates invalidations through a graph of dependent nodes in topological order.
+ *
+ * <p>Every node is ranked by its height in the dependency graph. Observables that are not nodes have a height of zero
+ * and a node is always ranked higher than all of its known dependencies. If a node is scheduled from a dependency that
+ * is ranked at least as high as the node itself, the node is re-ranked accordingly.</p>
+ *
+ * <p>Invalidations that occur while a propagation {@link #begin() scope} is open do not propagate immediately. Instead,
+ * the affected nodes are merely scheduled. Once the outermost scope is closed, the scheduled nodes are propagated in
+ * ascending order of their height. As a result, each node is propagated at most once per change and only after all
+ * of its dependencies have been brought up-to-date.</p>
+ *
+ * <p>Additionally, notifications may be deferred until the outermost {@link #beginTransaction() transaction} is
+ * committed. At most one notification of each kind is deferred per observable and all deferred notifications are
+ * delivered in a single propagation scope.</p>
+ *
+ * <p>Propagation and transactions are confined to the current thread.</p>
+ *
+ * @author  Leon Linhart
+ */
+public final class Propagation {
+
+    private static final ThreadLocal<State> CURRENT = ThreadLocal.withInitial(State::new);
+
+    /* The number of threads with an open transaction. This is used to avoid the thread-local lookup in most cases. */
+    private static final AtomicInteger TRANSACTIONS = new AtomicInteger();
+
+    @Deprecated
+    private Propagation() { throw new UnsupportedOperationException(); }
+
+    /**
+     * Opens a propagation scope. Scopes may be nested.
+     *
+     * <p>Every call to this method must be paired with a call to {@link #end()}.</p>
+     */
+    public static void begin() {
+        CURRENT.get().depth++;
+    }
+
+    /**
+     * Closes a propagation scope. If the outermost scope is closed, all scheduled nodes are propagated.
+     *
+     * @throws IllegalStateException    if no scope is open
+     */
+    public static void end() {
+        State propagation = CURRENT.get();
+        if (propagation.depth < 1) throw new IllegalStateException();
+
+        if (propagation.depth == 1 && propagation.size > 0) {
+            try {
+                propagation.drain();
+            } finally {
+                propagation.depth--;
+            }
+        } else {
+            propagation.depth--;
+        }
+    }
+
+    /**
+     * Schedules the given node for propagation.
+     *
+     * <p>If no scope is open, the node (and all nodes transitively scheduled by it) are propagated immediately.</p>
+     *
+     * @param node      the node to schedule
+     * @param minHeight the minimum height of the node
+     */
+    public static void schedule(Node node, int minHeight) {
+        State propagation = CURRENT.get();
+        node.rank(minHeight);
+
+        if (node.queuedHeight == node.height) return;
+        propagation.enqueue(node);
+
+        if (propagation.depth == 0) {
+            propagation.depth++;
+            end();
+        }
+    }
+
+    /**
+     * Opens a transaction. Transactions may be nested.
+     *
+     * <p>Every call to this method must be paired with a call to {@link #commitTransaction()}.</p>
+     */
+    public static void beginTransaction() {
+        State propagation = CURRENT.get();
+        if (propagation.transactionDepth++ == 0) TRANSACTIONS.incrementAndGet();
+    }
+
+    /**
+     * Closes a transaction. If the outermost transaction is closed, all deferred notifications are delivered.
+     *
+     * @throws IllegalStateException    if no transaction is open
+     */
+    public static void commitTransaction() {
+        State propagation = CURRENT.get();
+        if (propagation.transactionDepth < 1) throw new IllegalStateException();
+
+        if (--propagation.transactionDepth == 0) {
+            TRANSACTIONS.decrementAndGet();
+
+            /* Snapshots must not observe the values of a transaction until its notifications have been delivered. */
+            try {
+                propagation.commit();
+            } finally {
+                propagation.releaseWrites();
+            }
+        }
+    }
+
+    /**
+     * Marks the beginning of a write to the given cell. Every call must be paired with a call to {@link #endWrite}.
+     *
+     * <p>Writes on a single thread must be ended in the reverse order in which they were begun.</p>
+     *
+     * @param <T>       the type of the cell
+     * @param updater   the updater for the cell's {@link VersionStamp stamp} field
+     * @param cell      the cell
+     */
+    public static <T> void beginWrite(AtomicLongFieldUpdater<T> updater, T cell) {
+        CURRENT.get().pushWrite(cell);
+        VersionStamp.beginWrite(updater, cell);
+    }
+
+    /**
+     * Marks the end of a write to the given cell.
+     *
+     * <p>If a transaction is open, the write is only ended once the transaction is committed. Thus, snapshot reads do
+     * not observe the values of cells that were written in a transaction until all notifications have been
+     * delivered.</p>
+     *
+     * @param <T>       the type of the cell
+     * @param updater   the updater for the cell's {@link VersionStamp stamp} field
+     * @param cell      the cell
+     */
+    public static <T> void endWrite(AtomicLongFieldUpdater<T> updater, T cell) {
+        State propagation = CURRENT.get();
+        propagation.popWrite();
+        propagation.releaseWrite(updater, cell);
+    }
+
+    /**
+     * Returns whether a write to the given cell has been begun on the current thread and has not been ended yet.
+     *
+     * <p>This includes writes that are held until the current transaction is committed and expressions that are
+     * scheduled for propagation. The current thread cannot make progress on any of these writes while it waits for
+     * them to end.</p>
+     *
+     * @param cell  the cell
+     *
+     * @return  whether the current thread holds a write to the given cell
+     */
+    public static boolean isWriting(Object cell) {
+        return CURRENT.get().isWriting(cell);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> void endWrite(Map.Entry<Object, AtomicLongFieldUpdater<?>> write) {
+        VersionStamp.endWrite((AtomicLongFieldUpdater<T>) write.getValue(), (T) write.getKey());
+    }
+
+    /** {@return whether a transaction is open on the current thread} */
+    public static boolean isInTransaction() {
+        return TRANSACTIONS.get() != 0 && CURRENT.get().transactionDepth > 0;
+    }
+
+    /**
+     * Defers a change notification for the given observable until the current transaction is committed.
+     *
+     * <p>If a change notification has already been deferred for the given observable, this method has no effect.</p>
+     *
+     * @param observable    the observable
+     * @param notifier      the action that delivers the notification
+     *
+     * @return  whether the notification was deferred
+     *
+     * @throws IllegalStateException    if no transaction is open
+     */
+    public static boolean deferChange(Object observable, Runnable notifier) {
+        State propagation = CURRENT.get();
+        if (propagation.transactionDepth < 1) throw new IllegalStateException();
+
+        if (!propagation.changedObservables.add(observable)) return false;
+
+        propagation.changeNotifiers.add(notifier);
+        return true;
+    }
+
+    /**
+     * Defers an invalidation notification for the given observable until the current transaction is committed.
+     *
+     * <p>If an invalidation notification has already been deferred for the given observable, this method has no
+     * effect.</p>
+     *
+     * @param observable    the observable
+     * @param notifier      the action that delivers the notification
+     *
+     * @return  whether the notification was deferred
+     *
+     * @throws IllegalStateException    if no transaction is open
+     */
+    public static boolean deferInvalidation(Object observable, Runnable notifier) {
+        State propagation = CURRENT.get();
+        if (propagation.transactionDepth < 1) throw new IllegalStateException();
+
+        if (!propagation.invalidatedObservables.add(observable)) return false;
+
+        propagation.invalidationNotifiers.add(notifier);
+        return true;
+    }
+
+    /* The propagation state of a single thread. */
+    private static final class State {
+
+        @SuppressWarnings("unchecked")
+        private ArrayDeque<Node>[] buckets = (ArrayDeque<Node>[]) new ArrayDeque<?>[8];
+        private int minHeight = Integer.MAX_VALUE;
+        private int size;
+
+        private int depth;
+
+        private final Set<Object> changedObservables = Collections.newSetFromMap(new IdentityHashMap<>());
+        private final Set<Object> invalidatedObservables = Collections.newSetFromMap(new IdentityHashMap<>());
+        private List<Runnable> changeNotifiers = new ArrayList<>();
+        private List<Runnable> invalidationNotifiers = new ArrayList<>();
+        private int transactionDepth;
+
+        /* The cells that are currently being written, in the order in which the writes were begun. */
+        private Object[] writes = new Object[8];
+        private int writeDepth;
+
+        /* The cells that were written in the current transaction and whose writes are still pending. */
+        private final Map<Object, AtomicLongFieldUpdater<?>> heldWrites = new IdentityHashMap<>();
+
+        private void commit() {
+            if (this.changeNotifiers.isEmpty() && this.invalidationNotifiers.isEmpty()) return;
+
+            List<Runnable> changeNotifiers = this.changeNotifiers;
+            List<Runnable> invalidationNotifiers = this.invalidationNotifiers;
+
+            this.changedObservables.clear();
+            this.invalidatedObservables.clear();
+            this.changeNotifiers = new ArrayList<>();
+            this.invalidationNotifiers = new ArrayList<>();
+
+            /*
+             * Change notifications are delivered first so that change listeners observe the values of all observables that
+             * were modified during the transaction. The subsequent invalidations schedule dependent expressions which are
+             * then revalidated exactly once when the scope is closed.
+             */
+            begin();
+
+            try {
+                for (Runnable notifier : changeNotifiers) notifier.run();
+                for (Runnable notifier : invalidationNotifiers) notifier.run();
+            } finally {
+                end();
+            }
+        }
+
+        private void pushWrite(Object cell) {
+            if (this.writeDepth == this.writes.length) this.writes = Arrays.copyOf(this.writes, this.writeDepth * 2);
+            this.writes[this.writeDepth++] = cell;
+        }
+
+        private void popWrite() {
+            if (this.writeDepth < 1) throw new IllegalStateException();
+            this.writes[--this.writeDepth] = null;
+        }
+
+        private <T> void releaseWrite(AtomicLongFieldUpdater<T> updater, T cell) {
+            if (this.transactionDepth > 0) {
+                /* A single pending write per cell is sufficient to keep snapshot reads from observing it. */
+                if (this.heldWrites.putIfAbsent(cell, updater) != null) VersionStamp.endWrite(updater, cell);
+                return;
+            }
+
+            VersionStamp.endWrite(updater, cell);
+        }
+
+        private boolean isWriting(Object cell) {
+            for (int i = 0; i < this.writeDepth; i++) {
+                if (this.writes[i] == cell) return true;
+            }
+
+            if (this.heldWrites.containsKey(cell)) return true;
+            if (this.size == 0) return false;
+
+            for (ArrayDeque<Node> bucket : this.buckets) {
+                if (bucket == null) continue;
+
+                for (Node node : bucket) {
+                    if (node.cell == cell && node.queuedHeight != -1) return true;
+                }
+            }
+
+            return false;
+        }
+
+        private void releaseWrites() {
+            if (this.heldWrites.isEmpty()) return;
+
+            List<Map.Entry<Object, AtomicLongFieldUpdater<?>>> writes = new ArrayList<>(this.heldWrites.entrySet());
+            this.heldWrites.clear();
+
+            for (Map.Entry<Object, AtomicLongFieldUpdater<?>> write : writes) endWrite(write);
+        }
+
+        private void enqueue(Node node) {
+            int height = node.height;
+
+            if (height >= this.buckets.length) this.buckets = Arrays.copyOf(this.buckets, Math.max(height + 1, this.buckets.length * 2));
+            if (this.buckets[height] == null) this.buckets[height] = new ArrayDeque<>();
+
+            /*
+             * The value of a node is stale from the moment it is scheduled until it has been propagated. If the node is
+             * already queued at a lower height, the stale entry is skipped when it is dequeued.
+             */
+            if (node.queuedHeight == -1) VersionStamp.beginWrite(node.updater, node.cell);
+            this.buckets[height].addLast(node);
+            node.queuedHeight = height;
+
+            if (height < this.minHeight) this.minHeight = height;
+            this.size++;
+        }
+
+        private void drain() {
+            try {
+                while (this.size > 0) {
+                    ArrayDeque<Node> bucket = this.buckets[this.minHeight];
+
+                    if (bucket == null || bucket.isEmpty()) {
+                        this.minHeight++;
+                        continue;
+                    }
+
+                    Node node = bucket.pollFirst();
+                    this.size--;
+
+                    if (node.queuedHeight != this.minHeight) continue;
+
+                    node.queuedHeight = -1;
+                    this.pushWrite(node.cell);
+
+                    try {
+                        node.propagate();
+                    } finally {
+                        this.popWrite();
+                        this.releaseWrite(node.updater, node.cell);
+                    }
+                }
+            } finally {
+                /* Discard any remaining nodes if propagation was aborted exceptionally. */
+                if (this.size > 0) {
+                    for (ArrayDeque<Node> bucket : this.buckets) {
+                        if (bucket == null) continue;
+
+                        for (Node node : bucket) {
+                            if (node.queuedHeight == -1) continue;
+
+                            node.queuedHeight = -1;
+                            this.releaseWrite(node.updater, node.cell);
+                        }
+
+                        bucket.clear();
+                    }
+
+                    this.size = 0;
+                }
+
+                this.minHeight = Integer.MAX_VALUE;
+            }
+        }
+
+    }
+
+    /**
+     * A node in the dependency graph.
+     *
+     * @author  Leon Linhart
+     */
+    public static abstract class Node {
+
+        private final AtomicLongFieldUpdater<Object> updater;
+        private final Object cell;
+
+        private int height = 1;
+        private int queuedHeight = -1;
+
+        /**
+         * Creates a new node.
+         *
+         * @param <T>       the type of the cell
+         * @param updater   the updater for the cell's {@link VersionStamp stamp} field
+         * @param cell      the cell that is revalidated by this node
+         */
+        @SuppressWarnings("unchecked")
+        protected <T> Node(AtomicLongFieldUpdater<T> updater, T cell) {
+            this.updater = (AtomicLongFieldUpdater<Object>) updater;
+            this.cell = cell;
+        }
+
+        /** {@return the height of this node} */
+        public final int height() {
+            return this.height;
+        }
+
+        /**
+         * Ensures that this node is ranked at least at the given height.
+         *
+         * @param minHeight the minimum height
+         */
+        public final void rank(int minHeight) {
+            if (this.height < minHeight) this.height = minHeight;
+        }
+
+        /** Propagates the invalidation of this node. */
+        protected abstract void propagate();
+
+    }
+
+}
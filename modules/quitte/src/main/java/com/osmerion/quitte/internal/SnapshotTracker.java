@@ -0,0 +1,181 @@
+/*
+ * Copyright (c) 2018-2023 Leon Linhart,
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.osmerion.quitte.internal;
+
+import java.lang.invoke.VarHandle;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLongFieldUpdater;
+import javax.annotation.Nullable;
+
+/**
+ * A tracker that records the {@link VersionStamp version stamps} of the cells that are read by a snapshot read.
+ *
+ * <p>Cells report reads by calling {@link #record} before reading their value. While a {@link ReadSet
+ * read set} is open on the current thread, the current stamps of the reported cells are collected by the innermost
+ * read set. When a read set is closed, its reads are also added to the enclosing read set.</p>
+ *
+ * <p>Reads of cells that are being written by the current thread itself are not recorded.</p>
+ *
+ * <p>Tracking is confined to the current thread.</p>
+ *
+ * @author  Leon Linhart
+ */
+public final class SnapshotTracker {
+
+    private static final ThreadLocal<ReadSet> CURRENT = new ThreadLocal<>();
+
+    @Deprecated
+    private SnapshotTracker() { throw new UnsupportedOperationException(); }
+
+    /**
+     * Opens a new read set on the current thread.
+     *
+     * <p>Every call to this method must be paired with a call to {@link ReadSet#close()}.</p>
+     *
+     * @return  the new read set
+     */
+    public static ReadSet open() {
+        ReadSet readSet = new ReadSet(CURRENT.get());
+        CURRENT.set(readSet);
+
+        return readSet;
+    }
+
+    /**
+     * Records a read of the given cell in the innermost read set of the current thread, if any.
+     *
+     * @param <T>       the type of the cell
+     * @param updater   the updater for the cell's stamp field
+     * @param cell      the cell that is about to be read
+     */
+    public static <T> void record(AtomicLongFieldUpdater<T> updater, T cell) {
+        ReadSet readSet = CURRENT.get();
+        if (readSet == null) return;
+
+        long stamp = VersionStamp.tryBeginRead(updater, cell);
+
+        /*
+         * A write that is held by the current thread cannot end while the current thread waits for it. Such a write is
+         * part of the current thread's view of the world, and reads of the cell are treated as consistent.
+         */
+        if (stamp == VersionStamp.INVALID_STAMP && Propagation.isWriting(cell)) return;
+
+        readSet.add(updater, cell, stamp);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> boolean validate(AtomicLongFieldUpdater<T> updater, Object cell, long stamp) {
+        return VersionStamp.validate(updater, (T) cell, stamp);
+    }
+
+    /**
+     * A read set that collects the stamps of the cells that were read while it was open.
+     */
+    public static final class ReadSet implements AutoCloseable {
+
+        @Nullable
+        private final ReadSet parent;
+
+        private AtomicLongFieldUpdater<?>[] updaters = new AtomicLongFieldUpdater<?>[8];
+        private Object[] cells = new Object[8];
+        private long[] stamps = new long[8];
+        private int size;
+
+        private boolean invalid, closed;
+
+        private ReadSet(@Nullable ReadSet parent) {
+            this.parent = parent;
+        }
+
+        private void add(AtomicLongFieldUpdater<?> updater, Object cell, long stamp) {
+            if (stamp == VersionStamp.INVALID_STAMP) {
+                this.invalid = true;
+                return;
+            }
+
+            /* Repeated reads of the same cell are common and need not be validated more than once. */
+            if (this.size > 0 && this.cells[this.size - 1] == cell && this.stamps[this.size - 1] == stamp) return;
+
+            if (this.size == this.cells.length) {
+                this.updaters = Arrays.copyOf(this.updaters, this.size * 2);
+                this.cells = Arrays.copyOf(this.cells, this.size * 2);
+                this.stamps = Arrays.copyOf(this.stamps, this.size * 2);
+            }
+
+            this.updaters[this.size] = updater;
+            this.cells[this.size] = cell;
+            this.stamps[this.size] = stamp;
+            this.size++;
+        }
+
+        /**
+         * Returns whether none of the cells that were read while this read set was open has been modified since.
+         *
+         * @return  whether all reads are still valid
+         */
+        public boolean validate() {
+            if (this.invalid) return false;
+
+            /* Prevent the reads that are validated from being reordered with the reads of the stamps. */
+            VarHandle.acquireFence();
+
+            for (int i = 0; i < this.size; i++) {
+                if (!SnapshotTracker.validate(this.updaters[i], this.cells[i], this.stamps[i])) return false;
+            }
+
+            return true;
+        }
+
+        /**
+         * Closes this read set and restores the enclosing read set.
+         *
+         * @throws IllegalStateException    if this read set is not the innermost open read set of the current thread
+         */
+        @Override
+        public void close() {
+            if (this.closed) return;
+            if (CURRENT.get() != this) throw new IllegalStateException("Read set is not the innermost open read set");
+
+            this.closed = true;
+
+            if (this.parent != null) {
+                if (this.invalid) this.parent.invalid = true;
+                for (int i = 0; i < this.size; i++) this.parent.add(this.updaters[i], this.cells[i], this.stamps[i]);
+
+                CURRENT.set(this.parent);
+            } else {
+                CURRENT.remove();
+            }
+        }
+
+    }
+
+}
@@ -0,0 +1,118 @@
+/*
+ * Copyright (c) 2018-2023 Leon Linhart,
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.osmerion.quitte.internal;
+
+import java.lang.invoke.VarHandle;
+import java.util.concurrent.atomic.AtomicLongFieldUpdater;
+
+/**
+ * Utilities for storing a version stamp in a single field of the owning cell. The stamp allows readers to validate that
+ * the value of the cell was not modified while they were reading it.
+ *
+ * <p>The lower half of the field holds the number of writes that are in progress, and the upper half holds the number
+ * of writes that have been finished. Writers bracket every modification of the cell with {@link #beginWrite} and
+ * {@link #endWrite}. Writes may be nested and may happen concurrently on multiple threads. Readers obtain a stamp using
+ * {@link #tryBeginRead} before reading the value and {@link #validate validate} it once they are done. A stamp is only
+ * valid if no write was in progress when it was obtained and no write has been started since.</p>
+ *
+ * <p>Writers never wait for readers and only ever touch the stamp of the cell they modify.</p>
+ *
+ * @author  Leon Linhart
+ */
+public final class VersionStamp {
+
+    /** The stamp that is returned by {@link #tryBeginRead} if a write is in progress. */
+    public static final long INVALID_STAMP = -1L;
+
+    private static final long WRITES_IN_PROGRESS = 0xFFFF_FFFFL;
+
+    /* Adding this value decrements the number of writes in progress and increments the number of finished writes. */
+    private static final long FINISH_WRITE = (1L << 32) - 1L;
+
+    @Deprecated
+    private VersionStamp() { throw new UnsupportedOperationException(); }
+
+    /**
+     * Marks the beginning of a write. Every call must be paired with a call to {@link #endWrite}.
+     *
+     * @param <T>       the type of the cell
+     * @param updater   the updater for the cell's stamp field
+     * @param cell      the cell
+     */
+    public static <T> void beginWrite(AtomicLongFieldUpdater<T> updater, T cell) {
+        updater.getAndIncrement(cell);
+
+        /* Prevent the modification of the cell from being reordered with the increment. */
+        VarHandle.storeStoreFence();
+    }
+
+    /**
+     * Marks the end of a write.
+     *
+     * @param <T>       the type of the cell
+     * @param updater   the updater for the cell's stamp field
+     * @param cell      the cell
+     */
+    public static <T> void endWrite(AtomicLongFieldUpdater<T> updater, T cell) {
+        updater.getAndAdd(cell, FINISH_WRITE);
+    }
+
+    /**
+     * Returns a stamp that may later be validated, or {@link #INVALID_STAMP} if a write is in progress.
+     *
+     * @param <T>       the type of the cell
+     * @param updater   the updater for the cell's stamp field
+     * @param cell      the cell
+     *
+     * @return  a stamp, or {@link #INVALID_STAMP}
+     */
+    public static <T> long tryBeginRead(AtomicLongFieldUpdater<T> updater, T cell) {
+        long stamp = updater.get(cell);
+        return ((stamp & WRITES_IN_PROGRESS) == 0) ? stamp : INVALID_STAMP;
+    }
+
+    /**
+     * Returns whether no write has been started since the given stamp was obtained.
+     *
+     * @param <T>       the type of the cell
+     * @param updater   the updater for the cell's stamp field
+     * @param cell      the cell
+     * @param stamp     the stamp
+     *
+     * @return  whether the given stamp is still valid
+     */
+    public static <T> boolean validate(AtomicLongFieldUpdater<T> updater, T cell, long stamp) {
+        /* Prevent the reads that are validated from being reordered with the read of the stamp. */
+        VarHandle.acquireFence();
+        return stamp != INVALID_STAMP && updater.get(cell) == stamp;
+    }
+
+}
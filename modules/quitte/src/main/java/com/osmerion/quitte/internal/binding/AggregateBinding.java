@@ -0,0 +1,395 @@
+/*
+ * Copyright (c) 2018-2023 Leon Linhart,
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.osmerion.quitte.internal.binding;
+
+import java.util.Map;
+import java.util.TreeMap;
+import javax.annotation.Nullable;
+
+import com.osmerion.quitte.collections.ListChangeListener;
+import com.osmerion.quitte.collections.ObservableCollection;
+import com.osmerion.quitte.collections.ObservableList;
+import com.osmerion.quitte.collections.ObservableSet;
+import com.osmerion.quitte.collections.SetChangeListener;
+import com.osmerion.quitte.collections.WeakListChangeListener;
+import com.osmerion.quitte.collections.WeakSetChangeListener;
+import com.osmerion.quitte.functional.ObjectToBoolFunction;
+import com.osmerion.quitte.functional.ObjectToDoubleFunction;
+import com.osmerion.quitte.functional.ObjectToIntFunction;
+import com.osmerion.quitte.functional.ObjectToLongFunction;
+
+/**
+ * A binding that aggregates the elements of an {@link ObservableCollection}.
+ *
+ * <p>The aggregate is updated incrementally from the changes to the collection. Implementations are notified about
+ * every element that is added to or removed from the collection. Reordering the elements of a list does not affect the
+ * aggregate.</p>
+ *
+ * @param <E>   the type of the collection's elements
+ *
+ * @author  Leon Linhart
+ */
+public abstract class AggregateBinding<E> implements Binding {
+
+    private final Runnable invalidator;
+    private final ObservableCollection<E> source;
+
+    @Nullable
+    private ListChangeListener<E> listChangeListener;
+
+    @Nullable
+    private SetChangeListener<E> setChangeListener;
+
+    AggregateBinding(Runnable invalidator, ObservableCollection<E> source) {
+        this.invalidator = invalidator;
+        this.source = source;
+    }
+
+    /*
+     * Adds all elements of the source collection to the aggregate and starts listening for changes. This must be
+     * called by implementations once they are fully initialized.
+     */
+    final void bind() {
+        for (E element : this.source) this.onAdded(element);
+
+        if (this.source instanceof ObservableList<E> list) {
+            list.addChangeListener(new WeakListChangeListener<>(this.listChangeListener = this::onChanged));
+        } else if (this.source instanceof ObservableSet<E> set) {
+            set.addChangeListener(new WeakSetChangeListener<>(this.setChangeListener = this::onChanged));
+        } else {
+            throw new IllegalArgumentException("Unsupported collection: " + this.source);
+        }
+    }
+
+    private void onChanged(ObservableList<? extends E> observable, ListChangeListener.Change<? extends E> change) {
+        if (!(change instanceof ListChangeListener.Change.Update<? extends E> update)) return;
+
+        for (var localChange : update.localChanges()) {
+            if (localChange instanceof ListChangeListener.LocalChange.Insertion<? extends E> insertion) {
+                for (E element : insertion.elements()) this.onAdded(element);
+            } else if (localChange instanceof ListChangeListener.LocalChange.Removal<? extends E> removal) {
+                for (E element : removal.elements()) this.onRemoved(element);
+            } else if (localChange instanceof ListChangeListener.LocalChange.Update<? extends E> localUpdate) {
+                for (E element : localUpdate.oldElements()) this.onRemoved(element);
+                for (E element : localUpdate.newElements()) this.onAdded(element);
+            } else {
+                throw new IllegalStateException();
+            }
+        }
+
+        this.invalidator.run();
+    }
+
+    private void onChanged(ObservableSet<? extends E> observable, SetChangeListener.Change<? extends E> change) {
+        for (E element : change.removedElements()) this.onRemoved(element);
+        for (E element : change.addedElements()) this.onAdded(element);
+
+        this.invalidator.run();
+    }
+
+    abstract void onAdded(@Nullable E element);
+
+    abstract void onRemoved(@Nullable E element);
+
+    @Override
+    public final void release() {
+        if (this.listChangeListener != null) ((ObservableList<E>) this.source).removeChangeListener(this.listChangeListener);
+        if (this.setChangeListener != null) ((ObservableSet<E>) this.source).removeChangeListener(this.setChangeListener);
+    }
+
+    /* A sum of doubles that tracks non-finite values separately and compensates for the rounding of finite values. */
+    private static final class CompensatedSum {
+
+        private double sum, compensation;
+        private int nanCount, positiveInfinityCount, negativeInfinityCount;
+
+        void add(double value) {
+            if (Double.isNaN(value)) {
+                this.nanCount++;
+            } else if (value == Double.POSITIVE_INFINITY) {
+                this.positiveInfinityCount++;
+            } else if (value == Double.NEGATIVE_INFINITY) {
+                this.negativeInfinityCount++;
+            } else {
+                this.addFinite(value);
+            }
+        }
+
+        void remove(double value) {
+            if (Double.isNaN(value)) {
+                this.nanCount--;
+            } else if (value == Double.POSITIVE_INFINITY) {
+                this.positiveInfinityCount--;
+            } else if (value == Double.NEGATIVE_INFINITY) {
+                this.negativeInfinityCount--;
+            } else {
+                this.addFinite(-value);
+            }
+        }
+
+        /* See Neumaier's improved Kahan-Babuska summation. */
+        private void addFinite(double value) {
+            double t = this.sum + value;
+
+            if (Math.abs(this.sum) >= Math.abs(value)) {
+                this.compensation += (this.sum - t) + value;
+            } else {
+                this.compensation += (value - t) + this.sum;
+            }
+
+            this.sum = t;
+        }
+
+        double get() {
+            if (this.nanCount > 0 || (this.positiveInfinityCount > 0 && this.negativeInfinityCount > 0)) return Double.NaN;
+            if (this.positiveInfinityCount > 0) return Double.POSITIVE_INFINITY;
+            if (this.negativeInfinityCount > 0) return Double.NEGATIVE_INFINITY;
+
+            return this.sum + this.compensation;
+        }
+
+    }
+
+    /* A sorted multiset of values. */
+    private static final class Multiset<T extends Comparable<T>> {
+
+        private final TreeMap<T, Integer> counts = new TreeMap<>();
+
+        void add(T value) {
+            this.counts.merge(value, 1, Integer::sum);
+        }
+
+        void remove(T value) {
+            this.counts.computeIfPresent(value, (key, count) -> (count > 1) ? count - 1 : null);
+        }
+
+        @Nullable
+        T get(boolean max) {
+            Map.Entry<T, Integer> entry = max ? this.counts.lastEntry() : this.counts.firstEntry();
+            return (entry != null) ? entry.getKey() : null;
+        }
+
+    }
+
+    public static final class IntSum<E> extends AggregateBinding<E> implements IntBinding {
+
+        private final ObjectToIntFunction<? super E> function;
+        private int sum;
+
+        public IntSum(Runnable invalidator, ObservableCollection<E> source, ObjectToIntFunction<? super E> function) {
+            super(invalidator, source);
+            this.function = function;
+            this.bind();
+        }
+
+        @Override void onAdded(@Nullable E element) { this.sum += this.function.apply(element); }
+        @Override void onRemoved(@Nullable E element) { this.sum -= this.function.apply(element); }
+
+        @Override
+        public int get() {
+            return this.sum;
+        }
+
+    }
+
+    public static final class LongSum<E> extends AggregateBinding<E> implements LongBinding {
+
+        private final ObjectToLongFunction<? super E> function;
+        private long sum;
+
+        public LongSum(Runnable invalidator, ObservableCollection<E> source, ObjectToLongFunction<? super E> function) {
+            super(invalidator, source);
+            this.function = function;
+            this.bind();
+        }
+
+        @Override void onAdded(@Nullable E element) { this.sum += this.function.apply(element); }
+        @Override void onRemoved(@Nullable E element) { this.sum -= this.function.apply(element); }
+
+        @Override
+        public long get() {
+            return this.sum;
+        }
+
+    }
+
+    public static final class DoubleSum<E> extends AggregateBinding<E> implements DoubleBinding {
+
+        private final ObjectToDoubleFunction<? super E> function;
+        private final CompensatedSum sum = new CompensatedSum();
+
+        public DoubleSum(Runnable invalidator, ObservableCollection<E> source, ObjectToDoubleFunction<? super E> function) {
+            super(invalidator, source);
+            this.function = function;
+            this.bind();
+        }
+
+        @Override void onAdded(@Nullable E element) { this.sum.add(this.function.apply(element)); }
+        @Override void onRemoved(@Nullable E element) { this.sum.remove(this.function.apply(element)); }
+
+        @Override
+        public double get() {
+            return this.sum.get();
+        }
+
+    }
+
+    public static final class Count<E> extends AggregateBinding<E> implements IntBinding {
+
+        private final ObjectToBoolFunction<? super E> predicate;
+        private int count;
+
+        public Count(Runnable invalidator, ObservableCollection<E> source, ObjectToBoolFunction<? super E> predicate) {
+            super(invalidator, source);
+            this.predicate = predicate;
+            this.bind();
+        }
+
+        @Override void onAdded(@Nullable E element) { if (this.predicate.apply(element)) this.count++; }
+        @Override void onRemoved(@Nullable E element) { if (this.predicate.apply(element)) this.count--; }
+
+        @Override
+        public int get() {
+            return this.count;
+        }
+
+    }
+
+    public static final class Average<E> extends AggregateBinding<E> implements DoubleBinding {
+
+        private final ObjectToDoubleFunction<? super E> function;
+        private final CompensatedSum sum = new CompensatedSum();
+        private int count;
+
+        public Average(Runnable invalidator, ObservableCollection<E> source, ObjectToDoubleFunction<? super E> function) {
+            super(invalidator, source);
+            this.function = function;
+            this.bind();
+        }
+
+        @Override
+        void onAdded(@Nullable E element) {
+            this.sum.add(this.function.apply(element));
+            this.count++;
+        }
+
+        @Override
+        void onRemoved(@Nullable E element) {
+            this.sum.remove(this.function.apply(element));
+            this.count--;
+        }
+
+        @Override
+        public double get() {
+            return (this.count > 0) ? this.sum.get() / this.count : Double.NaN;
+        }
+
+    }
+
+    public static final class IntExtremum<E> extends AggregateBinding<E> implements IntBinding {
+
+        private final ObjectToIntFunction<? super E> function;
+        private final boolean max;
+        private final int defaultValue;
+        private final Multiset<Integer> values = new Multiset<>();
+
+        public IntExtremum(Runnable invalidator, ObservableCollection<E> source, ObjectToIntFunction<? super E> function, boolean max, int defaultValue) {
+            super(invalidator, source);
+            this.function = function;
+            this.max = max;
+            this.defaultValue = defaultValue;
+            this.bind();
+        }
+
+        @Override void onAdded(@Nullable E element) { this.values.add(this.function.apply(element)); }
+        @Override void onRemoved(@Nullable E element) { this.values.remove(this.function.apply(element)); }
+
+        @Override
+        public int get() {
+            Integer value = this.values.get(this.max);
+            return (value != null) ? value : this.defaultValue;
+        }
+
+    }
+
+    public static final class LongExtremum<E> extends AggregateBinding<E> implements LongBinding {
+
+        private final ObjectToLongFunction<? super E> function;
+        private final boolean max;
+        private final long defaultValue;
+        private final Multiset<Long> values = new Multiset<>();
+
+        public LongExtremum(Runnable invalidator, ObservableCollection<E> source, ObjectToLongFunction<? super E> function, boolean max, long defaultValue) {
+            super(invalidator, source);
+            this.function = function;
+            this.max = max;
+            this.defaultValue = defaultValue;
+            this.bind();
+        }
+
+        @Override void onAdded(@Nullable E element) { this.values.add(this.function.apply(element)); }
+        @Override void onRemoved(@Nullable E element) { this.values.remove(this.function.apply(element)); }
+
+        @Override
+        public long get() {
+            Long value = this.values.get(this.max);
+            return (value != null) ? value : this.defaultValue;
+        }
+
+    }
+
+    public static final class DoubleExtremum<E> extends AggregateBinding<E> implements DoubleBinding {
+
+        private final ObjectToDoubleFunction<? super E> function;
+        private final boolean max;
+        private final double defaultValue;
+        private final Multiset<Double> values = new Multiset<>();
+
+        public DoubleExtremum(Runnable invalidator, ObservableCollection<E> source, ObjectToDoubleFunction<? super E> function, boolean max, double defaultValue) {
+            super(invalidator, source);
+            this.function = function;
+            this.max = max;
+            this.defaultValue = defaultValue;
+            this.bind();
+        }
+
+        @Override void onAdded(@Nullable E element) { this.values.add(this.function.apply(element)); }
+        @Override void onRemoved(@Nullable E element) { this.values.remove(this.function.apply(element)); }
+
+        @Override
+        public double get() {
+            Double value = this.values.get(this.max);
+            return (value != null) ? value : this.defaultValue;
+        }
+
+    }
+
+}
@@ -0,0 +1,171 @@
+/*
+ * Copyright (c) 2018-2023 Leon Linhart,
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.osmerion.quitte.internal.binding;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
+import javax.annotation.Nullable;
+
+import com.osmerion.quitte.InvalidationListener;
+import com.osmerion.quitte.Observable;
+import com.osmerion.quitte.WeakInvalidationListener;
+import com.osmerion.quitte.value.ObservableObjectValue;
+
+/**
+ * A chain of observables that is obtained by repeatedly selecting a child observable from the value of its parent.
+ *
+ * <p>The chain caches every intermediate observable and its value. When an observable in the chain is invalidated,
+ * only the segments below it are walked again, and the walk stops as soon as a value is found to be unchanged. Child
+ * observables are only re-subscribed if the selector returned a different observable.</p>
+ *
+ * <p>A single listener is shared between all observables in the chain, and that listener is only referenced weakly
+ * by the observables. Thus, the chain never prolongs the lifetime of its owner.</p>
+ *
+ * @author  Leon Linhart
+ */
+public final class SelectionChain {
+
+    private static final Object UNKNOWN = new Object();
+
+    private final InvalidationListener invalidator;
+    private final boolean strict;
+    private final List<Function<Object, ? extends Observable>> selectors;
+
+    /* The observables in the chain. The first observable is the root, the last one is the leaf. */
+    private final Observable[] nodes;
+
+    /* The cached values of all observables in the chain but the leaf. */
+    private final Object[] values;
+
+    private final InvalidationListener listener;
+    private final WeakInvalidationListener weakListener;
+
+    /**
+     * Creates a new selection chain.
+     *
+     * @param invalidator   the listener that is notified when the leaf of the chain might have changed
+     * @param root          the root observable
+     * @param strict        whether a {@code null} value in the chain is an error
+     * @param selectors     the functions that select the child observable for the value of each observable
+     */
+    @SafeVarargs
+    @SuppressWarnings("unchecked")
+    public SelectionChain(InvalidationListener invalidator, ObservableObjectValue<?> root, boolean strict, Function<?, ? extends Observable>... selectors) {
+        this.invalidator = invalidator;
+        this.strict = strict;
+        this.selectors = new ArrayList<>(selectors.length);
+
+        /* Each selector is only ever applied to the value of the preceding observable in the chain. */
+        for (Function<?, ? extends Observable> selector : selectors) this.selectors.add((Function<Object, ? extends Observable>) selector);
+
+        this.nodes = new Observable[selectors.length + 1];
+        this.values = new Object[selectors.length];
+        Arrays.fill(this.values, UNKNOWN);
+
+        this.listener = this::onInvalidation;
+        this.weakListener = new WeakInvalidationListener(this.listener);
+
+        this.nodes[0] = root;
+        root.addInvalidationListener(this.weakListener);
+        this.walk(0);
+    }
+
+    /**
+     * Returns the current leaf of the chain, or {@code null} if the chain is interrupted by a {@code null} value.
+     *
+     * @return  the current leaf of the chain
+     *
+     * @throws NullPointerException if the chain is interrupted and {@code null} values are not permitted
+     */
+    @Nullable
+    public synchronized Observable leaf() {
+        Observable leaf = this.nodes[this.selectors.size()];
+        if (leaf == null && this.strict) throw new NullPointerException("Selection chain is interrupted by a null value");
+
+        return leaf;
+    }
+
+    /** Detaches the chain from all observables. */
+    public synchronized void release() {
+        for (int i = 0; i < this.nodes.length; i++) {
+            Observable node = this.nodes[i];
+            if (node != null) node.removeInvalidationListener(this.weakListener);
+
+            this.nodes[i] = null;
+            if (i < this.values.length) this.values[i] = UNKNOWN;
+        }
+    }
+
+    private void onInvalidation(Observable observable) {
+        synchronized (this) {
+            int index = -1;
+
+            for (int i = 0; i < this.nodes.length; i++) {
+                if (this.nodes[i] == observable) {
+                    index = i;
+                    break;
+                }
+            }
+
+            /* The observable was detached from the chain while the invalidation was in flight. */
+            if (index == -1) return;
+            this.walk(index);
+        }
+
+        this.invalidator.onInvalidation(observable);
+    }
+
+    /* Walks the chain starting at the given index until a value is found to be unchanged. */
+    @SuppressWarnings("unchecked")
+    private void walk(int from) {
+        for (int i = from; i < this.selectors.size(); i++) {
+            Observable node = this.nodes[i];
+            Object value = (node != null) ? ((ObservableObjectValue<Object>) node).get() : null;
+            if (value == this.values[i]) return;
+
+            this.values[i] = value;
+
+            Observable child = (value != null) ? Objects.requireNonNull(this.selectors.get(i).apply(value)) : null;
+            Observable previous = this.nodes[i + 1];
+
+            if (child != previous) {
+                if (previous != null) previous.removeInvalidationListener(this.weakListener);
+                if (child != null) child.addInvalidationListener(this.weakListener);
+
+                this.nodes[i + 1] = child;
+            }
+        }
+    }
+
+}
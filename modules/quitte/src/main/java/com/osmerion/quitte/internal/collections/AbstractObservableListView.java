@@ -0,0 +1,138 @@
+/*
+ * Copyright (c) 2018-2023 Leon Linhart,
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.osmerion.quitte.internal.collections;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.RandomAccess;
+import javax.annotation.Nullable;
+
+import com.osmerion.quitte.collections.AbstractObservableList;
+import com.osmerion.quitte.collections.ListChangeListener;
+import com.osmerion.quitte.collections.ObservableList;
+import com.osmerion.quitte.collections.WeakListChangeListener;
+
+/**
+ * A base class for unmodifiable {@link ObservableList} views that are incrementally updated from the changes of a
+ * source list.
+ *
+ * <p>The source list references the view weakly. Thus, a view may be garbage collected once it is no longer
+ * referenced, even if the source list is still reachable.</p>
+ *
+ * @param <S>   the type of the source list's elements
+ * @param <E>   the type of the view's elements
+ *
+ * @author  Leon Linhart
+ */
+abstract class AbstractObservableListView<S, E> extends AbstractObservableList<E> implements RandomAccess {
+
+    final ObservableList<S> source;
+    final List<E> impl;
+
+    @SuppressWarnings("FieldCanBeLocal")
+    private final ListChangeListener<S> changeListener;
+
+    private boolean inUpdate;
+
+    AbstractObservableListView(ObservableList<S> source) {
+        this.source = Objects.requireNonNull(source);
+        this.impl = new ArrayList<>(source.size());
+
+        this.source.addChangeListener(new WeakListChangeListener<>(this.changeListener = (observable, change) -> this.update(() -> this.onSourceChanged(change))));
+    }
+
+    /*
+     * Applies the given change of the source list to this view. This method is called while a change to this view is
+     * being recorded. Thus, all modifications made by an implementation are reported as a single change.
+     */
+    abstract void onSourceChanged(ListChangeListener.Change<? extends S> change);
+
+    final void update(Runnable action) {
+        try {
+            this.inUpdate = true;
+
+            try (ChangeBuilder ignored = this.beginChange()) {
+                action.run();
+            }
+        } finally {
+            this.inUpdate = false;
+        }
+    }
+
+    private void checkModifiable() {
+        if (!this.inUpdate) throw new UnsupportedOperationException("A view may not be modified explicitly");
+    }
+
+    @Override
+    protected final void addImpl(int index, @Nullable E element) {
+        this.checkModifiable();
+        this.impl.add(index, element);
+    }
+
+    @Override
+    protected final void addAllImpl(int index, Collection<? extends E> elements) {
+        this.checkModifiable();
+        this.impl.addAll(index, elements);
+    }
+
+    @Nullable
+    @Override
+    protected final E removeImpl(int index) {
+        this.checkModifiable();
+        return this.impl.remove(index);
+    }
+
+    @Override
+    protected final void removeRangeImpl(int fromIndex, int toIndex) {
+        this.checkModifiable();
+        this.impl.subList(fromIndex, toIndex).clear();
+    }
+
+    @Nullable
+    @Override
+    protected final E setImpl(int index, @Nullable E element) {
+        this.checkModifiable();
+        return this.impl.set(index, element);
+    }
+
+    @Override
+    public final E get(int index) {
+        return this.impl.get(index);
+    }
+
+    @Override
+    public final int size() {
+        return this.impl.size();
+    }
+
+}
@@ -0,0 +1,158 @@
+/*
+ * Copyright (c) 2018-2023 Leon Linhart,
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.osmerion.quitte.internal.collections;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Predicate;
+
+import com.osmerion.quitte.collections.ListChangeListener;
+import com.osmerion.quitte.collections.ObservableList;
+
+/**
+ * An {@link ObservableList} view that contains the elements of a source list that match a predicate.
+ *
+ * @param <E>   the type of the list's elements
+ *
+ * @see ObservableList#filtered(Predicate)
+ *
+ * @author  Leon Linhart
+ */
+public final class FilteredObservableList<E> extends AbstractObservableListView<E, E> {
+
+    private final Predicate<? super E> predicate;
+
+    /* The (ascending) source indices of the elements in this view. */
+    private final IndexBuffer sourceIndices;
+
+    public FilteredObservableList(ObservableList<E> source, Predicate<? super E> predicate) {
+        super(source);
+        this.predicate = Objects.requireNonNull(predicate);
+        this.sourceIndices = new IndexBuffer(source.size());
+
+        this.update(() -> this.insert(0, source));
+    }
+
+    /* Inserts the matching elements of the given elements that have been inserted into the source list at `index`. */
+    private void insert(int index, List<? extends E> elements) {
+        int pos = this.sourceIndices.lowerBound(index);
+        this.sourceIndices.shift(index, elements.size());
+
+        List<E> matches = new ArrayList<>();
+        int[] matchIndices = new int[elements.size()];
+
+        for (int i = 0; i < elements.size(); i++) {
+            E element = elements.get(i);
+
+            if (this.predicate.test(element)) {
+                matchIndices[matches.size()] = index + i;
+                matches.add(element);
+            }
+        }
+
+        if (matches.isEmpty()) return;
+
+        this.sourceIndices.open(pos, matches.size());
+        for (int i = 0; i < matches.size(); i++) this.sourceIndices.set(pos + i, matchIndices[i]);
+
+        this.addAll(pos, matches);
+    }
+
+    @Override
+    void onSourceChanged(ListChangeListener.Change<? extends E> change) {
+        if (change instanceof ListChangeListener.Change.Permutation<? extends E> permutation) {
+            List<Integer> indices = permutation.indices();
+
+            /* Order the elements of this view by their new source indices to compute the view's permutation. */
+            int[] viewPositions = new int[indices.size()];
+            Arrays.fill(viewPositions, -1);
+
+            for (int pos = 0; pos < this.sourceIndices.size(); pos++) {
+                viewPositions[indices.get(this.sourceIndices.get(pos))] = pos;
+            }
+
+            int[] viewPermutation = new int[this.sourceIndices.size()];
+
+            for (int sourceIndex = 0, newPos = 0; sourceIndex < viewPositions.length; sourceIndex++) {
+                int pos = viewPositions[sourceIndex];
+                if (pos == -1) continue;
+
+                viewPermutation[pos] = newPos;
+                this.sourceIndices.set(newPos++, sourceIndex);
+            }
+
+            this.permute(viewPermutation);
+        } else if (change instanceof ListChangeListener.Change.Update<? extends E> update) {
+            for (var localChange : update.localChanges()) {
+                if (localChange instanceof ListChangeListener.LocalChange.Insertion<? extends E> insertion) {
+                    this.insert(insertion.index(), insertion.elements());
+                } else if (localChange instanceof ListChangeListener.LocalChange.Removal<? extends E> removal) {
+                    int index = removal.index(), length = removal.elements().size();
+                    int fromPos = this.sourceIndices.lowerBound(index);
+                    int toPos = this.sourceIndices.lowerBound(index + length);
+
+                    this.sourceIndices.removeRange(fromPos, toPos);
+                    this.sourceIndices.shift(index + length, -length);
+
+                    this.removeRange(fromPos, toPos);
+                } else if (localChange instanceof ListChangeListener.LocalChange.Update<? extends E> localUpdate) {
+                    List<? extends E> elements = localUpdate.newElements();
+
+                    for (int i = 0; i < elements.size(); i++) {
+                        E element = elements.get(i);
+                        int sourceIndex = localUpdate.index() + i;
+                        int pos = this.sourceIndices.lowerBound(sourceIndex);
+
+                        boolean wasMatch = (pos < this.sourceIndices.size() && this.sourceIndices.get(pos) == sourceIndex);
+                        boolean isMatch = this.predicate.test(element);
+
+                        if (wasMatch && isMatch) {
+                            this.set(pos, element);
+                        } else if (wasMatch) {
+                            this.sourceIndices.remove(pos);
+                            this.remove(pos);
+                        } else if (isMatch) {
+                            this.sourceIndices.insert(pos, sourceIndex);
+                            this.add(pos, element);
+                        }
+                    }
+                } else {
+                    throw new IllegalStateException();
+                }
+            }
+        } else {
+            throw new IllegalStateException();
+        }
+    }
+
+}
@@ -0,0 +1,106 @@
+/*
+ * Copyright (c) 2018-2023 Leon Linhart,
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.osmerion.quitte.internal.collections;
+
+import java.util.Arrays;
+
+/**
+ * A growable buffer of indices that supports efficient insertion and removal of ranges.
+ *
+ * @author  Leon Linhart
+ */
+final class IndexBuffer {
+
+    private int[] indices;
+    private int size;
+
+    IndexBuffer(int capacity) {
+        this.indices = new int[Math.max(capacity, 10)];
+    }
+
+    int size() {
+        return this.size;
+    }
+
+    int get(int pos) {
+        return this.indices[pos];
+    }
+
+    void set(int pos, int index) {
+        this.indices[pos] = index;
+    }
+
+    /* Inserts `length` slots at the given position. The content of the new slots is unspecified. */
+    void open(int pos, int length) {
+        int newSize = this.size + length;
+        if (newSize > this.indices.length) this.indices = Arrays.copyOf(this.indices, Math.max(newSize, this.indices.length + (this.indices.length >> 1)));
+
+        System.arraycopy(this.indices, pos, this.indices, pos + length, this.size - pos);
+        this.size = newSize;
+    }
+
+    void insert(int pos, int index) {
+        this.open(pos, 1);
+        this.indices[pos] = index;
+    }
+
+    void remove(int pos) {
+        this.removeRange(pos, pos + 1);
+    }
+
+    void removeRange(int fromPos, int toPos) {
+        System.arraycopy(this.indices, toPos, this.indices, fromPos, this.size - toPos);
+        this.size -= toPos - fromPos;
+    }
+
+    /* Adds `delta` to all indices greater than or equal to `threshold`. The buffer must be sorted. */
+    void shift(int threshold, int delta) {
+        for (int i = this.lowerBound(threshold); i < this.size; i++) this.indices[i] += delta;
+    }
+
+    /* Returns the position of the first index that is greater than or equal to `index`. The buffer must be sorted. */
+    int lowerBound(int index) {
+        int lo = 0, hi = this.size;
+
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+
+            if (this.indices[mid] < index) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+
+        return lo;
+    }
+
+}
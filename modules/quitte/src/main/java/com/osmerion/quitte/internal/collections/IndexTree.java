@@ -0,0 +1,211 @@
+/*
+ * Copyright (c) 2018-2023 Leon Linhart,
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.osmerion.quitte.internal.collections;
+
+import javax.annotation.Nullable;
+
+/**
+ * A sequence of nodes whose indices are maintained implicitly.
+ *
+ * <p>Nodes may be inserted and removed by index, and the index of a node may be queried, in expected logarithmic time.
+ * Thus, inserting or removing nodes does not require updating the indices of all subsequent nodes.</p>
+ *
+ * <p>The sequence is implemented as a treap with implicit keys.</p>
+ *
+ * @author  Leon Linhart
+ */
+final class IndexTree {
+
+    @Nullable
+    private Node root;
+
+    private long seed = 0x9E3779B97F4A7C15L;
+
+    /* Temporary results of split(). */
+    @Nullable
+    private Node splitLeft, splitRight;
+
+    int size() {
+        return size(this.root);
+    }
+
+    /* Returns the node at the given index. */
+    Node get(int index) {
+        if (index < 0 || index >= this.size()) throw new IndexOutOfBoundsException(index);
+
+        Node node = this.root;
+
+        while (true) {
+            assert node != null;
+            int leftSize = size(node.left);
+
+            if (index < leftSize) {
+                node = node.left;
+            } else if (index > leftSize) {
+                index -= leftSize + 1;
+                node = node.right;
+            } else {
+                return node;
+            }
+        }
+    }
+
+    /* Returns the index of the given node. The node must be part of this tree. */
+    int indexOf(Node node) {
+        int index = size(node.left);
+
+        for (Node child = node, parent = node.parent; parent != null; child = parent, parent = parent.parent) {
+            if (child == parent.right) index += size(parent.left) + 1;
+        }
+
+        return index;
+    }
+
+    /* Inserts `length` new nodes at the given index. */
+    void insert(int index, int length) {
+        if (length == 0) return;
+
+        Node nodes = null;
+        for (int i = 0; i < length; i++) nodes = merge(nodes, new Node(this.nextPriority()));
+
+        this.split(this.root, index);
+        Node right = this.splitRight;
+
+        this.root = detach(merge(merge(this.splitLeft, nodes), right));
+    }
+
+    /* Removes the nodes between `fromIndex`, inclusive, and `toIndex`, exclusive. */
+    void remove(int fromIndex, int toIndex) {
+        if (fromIndex >= toIndex) return;
+
+        this.split(this.root, toIndex);
+        Node right = this.splitRight;
+
+        this.split(this.splitLeft, fromIndex);
+        this.root = detach(merge(this.splitLeft, right));
+    }
+
+    /* Removes all nodes. */
+    void clear() {
+        this.root = null;
+    }
+
+    /* Splits the given tree into its first `index` nodes (splitLeft) and the remaining nodes (splitRight). */
+    private void split(@Nullable Node node, int index) {
+        if (node == null) {
+            this.splitLeft = null;
+            this.splitRight = null;
+            return;
+        }
+
+        int leftSize = size(node.left);
+
+        if (index <= leftSize) {
+            this.split(node.left, index);
+            node.left = attach(this.splitRight, node);
+            this.splitRight = node;
+        } else {
+            this.split(node.right, index - leftSize - 1);
+            node.right = attach(this.splitLeft, node);
+            this.splitLeft = node;
+        }
+
+        node.update();
+        detach(this.splitLeft);
+        detach(this.splitRight);
+    }
+
+    @Nullable
+    private static Node merge(@Nullable Node left, @Nullable Node right) {
+        if (left == null) return right;
+        if (right == null) return left;
+
+        if (left.priority > right.priority) {
+            left.right = attach(merge(left.right, right), left);
+            left.update();
+            return left;
+        } else {
+            right.left = attach(merge(left, right.left), right);
+            right.update();
+            return right;
+        }
+    }
+
+    @Nullable
+    private static Node attach(@Nullable Node node, Node parent) {
+        if (node != null) node.parent = parent;
+        return node;
+    }
+
+    @Nullable
+    private static Node detach(@Nullable Node node) {
+        if (node != null) node.parent = null;
+        return node;
+    }
+
+    private static int size(@Nullable Node node) {
+        return (node != null) ? node.size : 0;
+    }
+
+    /* See SplittableRandom (SplitMix64). */
+    private int nextPriority() {
+        long z = (this.seed += 0x9E3779B97F4A7C15L);
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+
+        return (int) (z ^ (z >>> 31));
+    }
+
+    /**
+     * A node of an {@link IndexTree}.
+     *
+     * @author  Leon Linhart
+     */
+    static final class Node {
+
+        private final int priority;
+
+        @Nullable
+        private Node left, right, parent;
+
+        private int size = 1;
+
+        private Node(int priority) {
+            this.priority = priority;
+        }
+
+        private void update() {
+            this.size = size(this.left) + size(this.right) + 1;
+        }
+
+    }
+
+}
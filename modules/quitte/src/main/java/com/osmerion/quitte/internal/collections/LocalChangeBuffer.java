@@ -0,0 +1,142 @@
+/*
+ * Copyright (c) 2018-2023 Leon Linhart,
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.osmerion.quitte.internal.collections;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.RandomAccess;
+
+import com.osmerion.quitte.collections.ListChangeListener;
+
+/**
+ * An append-only buffer of local changes that backs the lists of merged {@link ListChangeListener.Change.Update
+ * updates}.
+ *
+ * <p>Each merged update views a prefix of a shared buffer. Merging another update into the update that views the
+ * whole buffer appends to the buffer in place. Thus, repeatedly merging into the latest update takes amortized time
+ * proportional to the number of appended changes, instead of copying all accumulated changes on every merge. Merging
+ * into any other update copies its prefix into a new buffer.</p>
+ *
+ * @param <E>   the type of the list's elements
+ *
+ * @author  Leon Linhart
+ */
+public final class LocalChangeBuffer<E> {
+
+    /**
+     * Returns an unmodifiable list of the local changes of {@code first} followed by those of {@code second}.
+     *
+     * @param <E>       the type of the list's elements
+     * @param first     the local changes that happened first
+     * @param second    the local changes that happened second
+     *
+     * @return  the concatenated local changes
+     */
+    public static <E> List<ListChangeListener.LocalChange<E>> concat(
+        List<? extends ListChangeListener.LocalChange<E>> first,
+        List<? extends ListChangeListener.LocalChange<E>> second
+    ) {
+        if (first instanceof LocalChangeBuffer<?>.View view) {
+            @SuppressWarnings("unchecked")
+            LocalChangeBuffer<E> buffer = (LocalChangeBuffer<E>) view.buffer();
+
+            synchronized (buffer) {
+                if (buffer.elements == view.elements && buffer.size == view.size) return buffer.append(second);
+            }
+        }
+
+        LocalChangeBuffer<E> buffer = new LocalChangeBuffer<>(first.size() + second.size());
+        synchronized (buffer) {
+            buffer.append(first);
+            return buffer.append(second);
+        }
+    }
+
+    /**
+     * {@return whether the given list is a view of a buffer and thus known to be unmodifiable}
+     *
+     * @param list  the list to check
+     */
+    public static boolean isView(List<?> list) {
+        return list instanceof LocalChangeBuffer<?>.View;
+    }
+
+    /* Guarded by `this`. Appends never modify the slots that are visible to existing views. */
+    private ListChangeListener.LocalChange<?>[] elements;
+    private int size;
+
+    private LocalChangeBuffer(int capacity) {
+        this.elements = new ListChangeListener.LocalChange<?>[Math.max(capacity, 10)];
+    }
+
+    private View append(List<? extends ListChangeListener.LocalChange<E>> changes) {
+        int newSize = this.size + changes.size();
+        if (newSize > this.elements.length) this.elements = Arrays.copyOf(this.elements, Math.max(newSize, this.elements.length + (this.elements.length >> 1)));
+
+        for (var change : changes) this.elements[this.size++] = Objects.requireNonNull(change);
+        return new View(this.elements, this.size);
+    }
+
+    /*
+     * The array is captured when the view is created and is only ever read up to `size`. Since both fields are final,
+     * all slots in that range are visible to any thread that observes the view.
+     */
+    private final class View extends AbstractList<ListChangeListener.LocalChange<E>> implements RandomAccess {
+
+        private final ListChangeListener.LocalChange<?>[] elements;
+        private final int size;
+
+        View(ListChangeListener.LocalChange<?>[] elements, int size) {
+            this.elements = elements;
+            this.size = size;
+        }
+
+        LocalChangeBuffer<E> buffer() {
+            return LocalChangeBuffer.this;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public ListChangeListener.LocalChange<E> get(int index) {
+            Objects.checkIndex(index, this.size);
+            return (ListChangeListener.LocalChange<E>) this.elements[index];
+        }
+
+        @Override
+        public int size() {
+            return this.size;
+        }
+
+    }
+
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) 2018-2023 Leon Linhart,
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.osmerion.quitte.internal.collections;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
+
+import com.osmerion.quitte.collections.ListChangeListener;
+import com.osmerion.quitte.collections.ObservableList;
+
+/**
+ * An {@link ObservableList} view that contains the elements of a source list transformed by a mapping function.
+ *
+ * @param <S>   the type of the source list's elements
+ * @param <E>   the type of the view's elements
+ *
+ * @see ObservableList#mapped(Function)
+ *
+ * @author  Leon Linhart
+ */
+public final class MappedObservableList<S, E> extends AbstractObservableListView<S, E> {
+
+    private final Function<? super S, ? extends E> transform;
+
+    public MappedObservableList(ObservableList<S> source, Function<? super S, ? extends E> transform) {
+        super(source);
+        this.transform = Objects.requireNonNull(transform);
+
+        this.update(() -> this.addAll(this.map(source)));
+    }
+
+    private List<E> map(List<? extends S> elements) {
+        List<E> mapped = new ArrayList<>(elements.size());
+        for (S element : elements) mapped.add(this.transform.apply(element));
+
+        return mapped;
+    }
+
+    @Override
+    void onSourceChanged(ListChangeListener.Change<? extends S> change) {
+        if (change instanceof ListChangeListener.Change.Permutation<? extends S> permutation) {
+            this.permute(permutation.indices().stream().mapToInt(Integer::intValue).toArray());
+        } else if (change instanceof ListChangeListener.Change.Update<? extends S> update) {
+            for (var localChange : update.localChanges()) {
+                if (localChange instanceof ListChangeListener.LocalChange.Insertion<? extends S> insertion) {
+                    this.addAll(insertion.index(), this.map(insertion.elements()));
+                } else if (localChange instanceof ListChangeListener.LocalChange.Removal<? extends S> removal) {
+                    this.removeRange(removal.index(), removal.index() + removal.elements().size());
+                } else if (localChange instanceof ListChangeListener.LocalChange.Update<? extends S> localUpdate) {
+                    List<? extends S> elements = localUpdate.newElements();
+                    int offset = localUpdate.index();
+
+                    for (int i = 0; i < elements.size(); i++) {
+                        this.set(offset + i, this.transform.apply(elements.get(i)));
+                    }
+                } else {
+                    throw new IllegalStateException();
+                }
+            }
+        } else {
+            throw new IllegalStateException();
+        }
+    }
+
+}
@@ -0,0 +1,204 @@
+/*
+ * Copyright (c) 2018-2023 Leon Linhart,
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.osmerion.quitte.internal.collections;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import javax.annotation.Nullable;
+
+import com.osmerion.quitte.collections.ListChangeListener;
+import com.osmerion.quitte.collections.ObservableList;
+
+/**
+ * An {@link ObservableList} view that contains the elements of a source list sorted by a comparator.
+ *
+ * <p>The view is stable: equal elements are kept in the order in which they occur in the source list.</p>
+ *
+ * @param <E>   the type of the list's elements
+ *
+ * @see ObservableList#sorted(Comparator)
+ *
+ * @author  Leon Linhart
+ */
+public final class SortedObservableList<E> extends AbstractObservableListView<E, E> {
+
+    private final Comparator<? super E> comparator;
+
+    /*
+     * The source order of the elements in this view. Each element of the source list is represented by a node whose
+     * index is the element's source index. Nodes are not updated when other elements are inserted or removed.
+     */
+    private final IndexTree sourceOrder = new IndexTree();
+
+    /*
+     * The nodes of the elements in this view. The elements of this view are ordered by the comparator first and by
+     * their source indices second. Thus, each element of the source list can be located using a binary search.
+     */
+    private final List<IndexTree.Node> nodes;
+
+    public SortedObservableList(ObservableList<E> source, Comparator<? super E> comparator) {
+        super(source);
+        this.comparator = Objects.requireNonNull(comparator);
+        this.nodes = new ArrayList<>(source.size());
+
+        this.update(() -> {
+            List<Integer> order = new ArrayList<>(source.size());
+            for (int i = 0; i < source.size(); i++) order.add(i);
+
+            /* List#sort is stable. */
+            order.sort((a, b) -> comparator.compare(source.get(a), source.get(b)));
+
+            List<E> elements = new ArrayList<>(order.size());
+            this.sourceOrder.insert(0, order.size());
+
+            for (int sourceIndex : order) {
+                this.nodes.add(this.sourceOrder.get(sourceIndex));
+                elements.add(source.get(sourceIndex));
+            }
+
+            this.addAll(elements);
+        });
+    }
+
+    private int sourceIndex(int pos) {
+        return this.sourceOrder.indexOf(this.nodes.get(pos));
+    }
+
+    private int compare(int pos, @Nullable E element, int sourceIndex) {
+        int res = this.comparator.compare(this.impl.get(pos), element);
+        return (res != 0) ? res : Integer.compare(this.sourceIndex(pos), sourceIndex);
+    }
+
+    /* Returns the position of the first element in this view that is not less than the given element. */
+    private int search(@Nullable E element, int sourceIndex) {
+        int lo = 0, hi = this.impl.size();
+
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+
+            if (this.compare(mid, element, sourceIndex) < 0) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+
+        return lo;
+    }
+
+    private void insertElement(@Nullable E element, int sourceIndex) {
+        int pos = this.search(element, sourceIndex);
+
+        this.nodes.add(pos, this.sourceOrder.get(sourceIndex));
+        this.add(pos, element);
+    }
+
+    private void removeElement(@Nullable E element, int sourceIndex) {
+        int pos = this.search(element, sourceIndex);
+        if (pos == this.impl.size() || this.sourceIndex(pos) != sourceIndex) throw new IllegalStateException("Source list is out of sync");
+
+        this.nodes.remove(pos);
+        this.remove(pos);
+    }
+
+    @Override
+    void onSourceChanged(ListChangeListener.Change<? extends E> change) {
+        if (change instanceof ListChangeListener.Change.Permutation<? extends E> permutation) {
+            /*
+             * Permuting the source list only affects the order of equal elements in this view. Typically, the resulting
+             * permutation of this view is the identity, and no change is reported.
+             */
+            List<Integer> indices = permutation.indices();
+
+            int[] sourceIndices = new int[this.nodes.size()];
+            for (int pos = 0; pos < sourceIndices.length; pos++) sourceIndices[pos] = indices.get(this.sourceIndex(pos));
+
+            List<Integer> order = new ArrayList<>(this.impl.size());
+            for (int pos = 0; pos < this.impl.size(); pos++) order.add(pos);
+
+            order.sort((a, b) -> {
+                int res = this.comparator.compare(this.impl.get(a), this.impl.get(b));
+                return (res != 0) ? res : Integer.compare(sourceIndices[a], sourceIndices[b]);
+            });
+
+            this.sourceOrder.clear();
+            this.sourceOrder.insert(0, sourceIndices.length);
+
+            int[] viewPermutation = new int[order.size()];
+
+            for (int pos = 0; pos < viewPermutation.length; pos++) {
+                viewPermutation[order.get(pos)] = pos;
+                this.nodes.set(pos, this.sourceOrder.get(sourceIndices[order.get(pos)]));
+            }
+
+            this.permute(viewPermutation);
+        } else if (change instanceof ListChangeListener.Change.Update<? extends E> update) {
+            for (var localChange : update.localChanges()) {
+                if (localChange instanceof ListChangeListener.LocalChange.Insertion<? extends E> insertion) {
+                    List<? extends E> elements = insertion.elements();
+                    this.sourceOrder.insert(insertion.index(), elements.size());
+
+                    for (int i = 0; i < elements.size(); i++) this.insertElement(elements.get(i), insertion.index() + i);
+                } else if (localChange instanceof ListChangeListener.LocalChange.Removal<? extends E> removal) {
+                    List<? extends E> elements = removal.elements();
+
+                    for (int i = 0; i < elements.size(); i++) this.removeElement(elements.get(i), removal.index() + i);
+                    this.sourceOrder.remove(removal.index(), removal.index() + elements.size());
+                } else if (localChange instanceof ListChangeListener.LocalChange.Update<? extends E> localUpdate) {
+                    List<? extends E> oldElements = localUpdate.oldElements();
+                    List<? extends E> newElements = localUpdate.newElements();
+
+                    for (int i = 0; i < newElements.size(); i++) {
+                        int sourceIndex = localUpdate.index() + i;
+                        int pos = this.search(oldElements.get(i), sourceIndex);
+                        E element = newElements.get(i);
+
+                        /* Replace the element in-place if the new element belongs to the same position. */
+                        if ((pos == 0 || this.compare(pos - 1, element, sourceIndex) < 0)
+                            && (pos == this.impl.size() - 1 || this.compare(pos + 1, element, sourceIndex) > 0)) {
+                            this.set(pos, element);
+                        } else {
+                            this.removeElement(oldElements.get(i), sourceIndex);
+                            this.insertElement(element, sourceIndex);
+                        }
+                    }
+                } else {
+                    throw new IllegalStateException();
+                }
+            }
+        } else {
+            throw new IllegalStateException();
+        }
+    }
+
+}
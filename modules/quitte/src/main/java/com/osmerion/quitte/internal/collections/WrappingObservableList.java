@@ -30,6 +30,7 @@
  */
 package com.osmerion.quitte.internal.collections;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Objects;
 import javax.annotation.Nullable;
@@ -61,6 +62,8 @@ public class WrappingObservableList<E> extends AbstractObservableList<E> {
     @Override public void addImpl(int index, @Nullable E element) { this.impl.add(index, element); }
     @Override public E removeImpl(int index) { return this.impl.remove(index); }
     @Override public E setImpl(int index, @Nullable E element) { return this.impl.set(index, element); }
+    @Override public void addAllImpl(int index, Collection<? extends E> elements) { this.impl.addAll(index, elements); }
+    @Override public void removeRangeImpl(int fromIndex, int toIndex) { this.impl.subList(fromIndex, toIndex).clear(); }
 
     @Override public E get(int index) { return this.impl.get(index); }
     @Override public int size() { return this.impl.size(); }
@@ -0,0 +1,730 @@
+/*
+ * Copyright (c) 2018-2023 Leon Linhart,
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.osmerion.quitte.io;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.Closeable;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+import java.util.zip.CRC32;
+import javax.annotation.Nullable;
+
+import com.osmerion.quitte.Quitte;
+import com.osmerion.quitte.collections.*;
+
+/**
+ * A {@code ChangeJournal} records the changes of an observable collection in an append-only binary log.
+ *
+ * <p>A journal is {@link #attach(FileChannel, ObservableList, ValueCodec) attached} to an observable collection and
+ * encodes every change of the collection into a compact, checksummed record. Records are buffered in memory and
+ * appended to the journal's channel in groups: A group is committed once the buffered records exceed the
+ * {@link #COMMIT_THRESHOLD commit threshold}, or when {@link #commit()} or {@link #close()} is called. Every
+ * commit writes all buffered records with as few writes as possible and {@link FileChannel#force(boolean) forces} them
+ * to the storage device once.</p>
+ *
+ * <p>The contents of a collection can be rebuilt from a journal by {@link #replay(FileChannel, ObservableList, ValueCodec)
+ * replaying} it. Replaying applies all records to a working copy first, and then updates the target collection in bulk
+ * in a single {@link Quitte#beginTransaction() transaction}. If the journal ends with an incomplete or corrupted record
+ * (for example, because the process crashed while a group was being committed), replaying stops before that record.</p>
+ *
+ * <p>When a journal is attached to an empty channel, the current contents of the collection are recorded first.
+ * Otherwise, the existing journal is continued and the collection is expected to reflect the state recorded in it (for
+ * example, because it has just been replayed). Incomplete records at the end of an existing journal are discarded.</p>
+ *
+ * <p>If an I/O error occurs while a record is buffered or committed, the journal stops recording and the error is
+ * reported by the next call to {@link #commit()} or {@link #close()}.</p>
+ *
+ * @since   0.9.0
+ *
+ * @author  Leon Linhart
+ */
+public final class ChangeJournal implements Closeable {
+
+    /**
+     * The size (in bytes) of buffered records above which a group of records is committed automatically.
+     *
+     * @since   0.9.0
+     */
+    public static final int COMMIT_THRESHOLD = 64 * 1024;
+
+    private static final int MAGIC = 0x5154544A; // "QTTJ"
+    private static final int VERSION = 1;
+    private static final int HEADER_SIZE = 9;
+
+    private static final byte KIND_LIST = 0;
+    private static final byte KIND_SET = 1;
+    private static final byte KIND_DEQUE = 2;
+    private static final byte KIND_MAP = 3;
+
+    private static final byte OP_RESET = 0;
+    private static final byte OP_INSERT = 1;
+    private static final byte OP_REMOVE = 2;
+    private static final byte OP_UPDATE = 3;
+    private static final byte OP_PERMUTE = 4;
+    private static final byte OP_ADD_FIRST = 5;
+    private static final byte OP_ADD_LAST = 6;
+    private static final byte OP_REMOVE_FIRST = 7;
+    private static final byte OP_REMOVE_LAST = 8;
+
+    /**
+     * Attaches a new journal to the given list.
+     *
+     * @param <E>       the type of the list's elements
+     * @param channel   the channel to append the journal to
+     * @param list      the list to record the changes of
+     * @param codec     the codec to encode the list's elements with
+     *
+     * @return  the new journal
+     *
+     * @throws IOException  if an I/O error occurs, or if the channel contains a journal for another kind of collection
+     *
+     * @since   0.9.0
+     */
+    public static <E> ChangeJournal attach(FileChannel channel, ObservableList<E> list, ValueCodec<E> codec) throws IOException {
+        Objects.requireNonNull(list);
+        Objects.requireNonNull(codec);
+
+        ChangeJournal journal = new ChangeJournal(channel, KIND_LIST, out -> writeReset(out, list, codec));
+        ListChangeListener<E> listener = (observable, change) -> journal.append(out -> writeListChange(out, change, codec));
+        list.addChangeListener(listener);
+        journal.detach = () -> list.removeChangeListener(listener);
+
+        return journal;
+    }
+
+    /**
+     * Attaches a new journal to the given set.
+     *
+     * @param <E>       the type of the set's elements
+     * @param channel   the channel to append the journal to
+     * @param set       the set to record the changes of
+     * @param codec     the codec to encode the set's elements with
+     *
+     * @return  the new journal
+     *
+     * @throws IOException  if an I/O error occurs, or if the channel contains a journal for another kind of collection
+     *
+     * @since   0.9.0
+     */
+    public static <E> ChangeJournal attach(FileChannel channel, ObservableSet<E> set, ValueCodec<E> codec) throws IOException {
+        Objects.requireNonNull(set);
+        Objects.requireNonNull(codec);
+
+        ChangeJournal journal = new ChangeJournal(channel, KIND_SET, out -> writeReset(out, set, codec));
+        SetChangeListener<E> listener = (observable, change) -> journal.append(out -> {
+            out.writeInt(2);
+            writeElements(out, OP_REMOVE, change.removedElements(), codec);
+            writeElements(out, OP_INSERT, change.addedElements(), codec);
+        });
+        set.addChangeListener(listener);
+        journal.detach = () -> set.removeChangeListener(listener);
+
+        return journal;
+    }
+
+    /**
+     * Attaches a new journal to the given deque.
+     *
+     * <p>Changes to the head and tail of the deque are recorded as such. Since {@link DequeChangeListener.Site#OPAQUE
+     * opaque changes} cannot be replayed reliably, the full contents of the deque are recorded instead.</p>
+     *
+     * @param <E>       the type of the deque's elements
+     * @param channel   the channel to append the journal to
+     * @param deque     the deque to record the changes of
+     * @param codec     the codec to encode the deque's elements with
+     *
+     * @return  the new journal
+     *
+     * @throws IOException  if an I/O error occurs, or if the channel contains a journal for another kind of collection
+     *
+     * @since   0.9.0
+     */
+    public static <E> ChangeJournal attach(FileChannel channel, ObservableDeque<E> deque, ValueCodec<E> codec) throws IOException {
+        Objects.requireNonNull(deque);
+        Objects.requireNonNull(codec);
+
+        ChangeJournal journal = new ChangeJournal(channel, KIND_DEQUE, out -> writeReset(out, deque, codec));
+        DequeChangeListener<E> listener = (observable, change) -> journal.append(out -> writeDequeChange(out, deque, change, codec));
+        deque.addChangeListener(listener);
+        journal.detach = () -> deque.removeChangeListener(listener);
+
+        return journal;
+    }
+
+    /**
+     * Attaches a new journal to the given map.
+     *
+     * @param <K>           the type of the map's keys
+     * @param <V>           the type of the map's values
+     * @param channel       the channel to append the journal to
+     * @param map           the map to record the changes of
+     * @param keyCodec      the codec to encode the map's keys with
+     * @param valueCodec    the codec to encode the map's values with
+     *
+     * @return  the new journal
+     *
+     * @throws IOException  if an I/O error occurs, or if the channel contains a journal for another kind of collection
+     *
+     * @since   0.9.0
+     */
+    public static <K, V> ChangeJournal attach(FileChannel channel, ObservableMap<K, V> map, ValueCodec<K> keyCodec, ValueCodec<V> valueCodec) throws IOException {
+        Objects.requireNonNull(map);
+        Objects.requireNonNull(keyCodec);
+        Objects.requireNonNull(valueCodec);
+
+        ChangeJournal journal = new ChangeJournal(channel, KIND_MAP, out -> writeReset(out, map, keyCodec, valueCodec));
+        MapChangeListener<K, V> listener = (observable, change) -> journal.append(out -> writeMapChange(out, change, keyCodec, valueCodec));
+        map.addChangeListener(listener);
+        journal.detach = () -> map.removeChangeListener(listener);
+
+        return journal;
+    }
+
+    /**
+     * Replays the journal in the given channel onto the given list.
+     *
+     * <p>The journal is read from the start of the channel. The contents of the list are replaced in bulk using
+     * {@link ObservableList#setAll(Collection)}.</p>
+     *
+     * @param <E>       the type of the list's elements
+     * @param channel   the channel to read the journal from
+     * @param list      the list to restore
+     * @param codec     the codec to decode the list's elements with
+     *
+     * @throws IOException  if an I/O error occurs, or if the channel does not contain a valid list journal
+     *
+     * @since   0.9.0
+     */
+    public static <E> void replay(FileChannel channel, ObservableList<E> list, ValueCodec<E> codec) throws IOException {
+        Objects.requireNonNull(list);
+        Objects.requireNonNull(codec);
+
+        List<E> elements = new ArrayList<>();
+
+        read(channel, KIND_LIST, in -> {
+            int ops = in.readInt();
+
+            for (int i = 0; i < ops; i++) {
+                byte op = in.readByte();
+
+                switch (op) {
+                    case OP_RESET -> {
+                        elements.clear();
+                        readElements(in, codec, elements);
+                    }
+                    case OP_INSERT -> {
+                        int index = in.readInt();
+                        List<E> inserted = readElements(in, codec, new ArrayList<>());
+                        elements.addAll(index, inserted);
+                    }
+                    case OP_REMOVE -> {
+                        int index = in.readInt();
+                        int size = in.readInt();
+                        elements.subList(index, index + size).clear();
+                    }
+                    case OP_UPDATE -> {
+                        int index = in.readInt();
+                        List<E> updated = readElements(in, codec, new ArrayList<>());
+                        for (int j = 0; j < updated.size(); j++) elements.set(index + j, updated.get(j));
+                    }
+                    case OP_PERMUTE -> {
+                        int size = in.readInt();
+                        if (size != elements.size()) throw new IOException("Permutation size does not match list size");
+
+                        List<E> origin = new ArrayList<>(elements);
+                        for (int j = 0; j < size; j++) elements.set(in.readInt(), origin.get(j));
+                    }
+                    default -> throw new IOException("Unexpected operation: " + op);
+                }
+            }
+        });
+
+        Quitte.batch(() -> list.setAll(elements));
+    }
+
+    /**
+     * Replays the journal in the given channel onto the given set.
+     *
+     * <p>Elements that are not contained in the replayed set are removed from the given set before the remaining
+     * elements are added.</p>
+     *
+     * @param <E>       the type of the set's elements
+     * @param channel   the channel to read the journal from
+     * @param set       the set to restore
+     * @param codec     the codec to decode the set's elements with
+     *
+     * @throws IOException  if an I/O error occurs, or if the channel does not contain a valid set journal
+     *
+     * @since   0.9.0
+     */
+    public static <E> void replay(FileChannel channel, ObservableSet<E> set, ValueCodec<E> codec) throws IOException {
+        Objects.requireNonNull(set);
+        Objects.requireNonNull(codec);
+
+        Set<E> elements = new HashSet<>();
+
+        read(channel, KIND_SET, in -> {
+            int ops = in.readInt();
+
+            for (int i = 0; i < ops; i++) {
+                byte op = in.readByte();
+
+                switch (op) {
+                    case OP_RESET -> {
+                        elements.clear();
+                        readElements(in, codec, elements);
+                    }
+                    case OP_INSERT -> readElements(in, codec, elements);
+                    case OP_REMOVE -> elements.removeAll(readElements(in, codec, new ArrayList<>()));
+                    default -> throw new IOException("Unexpected operation: " + op);
+                }
+            }
+        });
+
+        Quitte.batch(() -> {
+            set.retainAll(elements);
+            set.addAll(elements);
+        });
+    }
+
+    /**
+     * Replays the journal in the given channel onto the given deque.
+     *
+     * <p>The deque is cleared before the replayed elements are added.</p>
+     *
+     * @param <E>       the type of the deque's elements
+     * @param channel   the channel to read the journal from
+     * @param deque     the deque to restore
+     * @param codec     the codec to decode the deque's elements with
+     *
+     * @throws IOException  if an I/O error occurs, or if the channel does not contain a valid deque journal
+     *
+     * @since   0.9.0
+     */
+    public static <E> void replay(FileChannel channel, ObservableDeque<E> deque, ValueCodec<E> codec) throws IOException {
+        Objects.requireNonNull(deque);
+        Objects.requireNonNull(codec);
+
+        LinkedList<E> elements = new LinkedList<>();
+
+        read(channel, KIND_DEQUE, in -> {
+            int ops = in.readInt();
+
+            for (int i = 0; i < ops; i++) {
+                byte op = in.readByte();
+
+                switch (op) {
+                    case OP_RESET -> {
+                        elements.clear();
+                        readElements(in, codec, elements);
+                    }
+                    case OP_ADD_FIRST -> {
+                        for (E element : readElements(in, codec, new ArrayList<>())) elements.addFirst(element);
+                    }
+                    case OP_ADD_LAST -> readElements(in, codec, elements);
+                    case OP_REMOVE_FIRST -> {
+                        int size = in.readInt();
+                        for (int j = 0; j < size; j++) elements.removeFirst();
+                    }
+                    case OP_REMOVE_LAST -> {
+                        int size = in.readInt();
+                        for (int j = 0; j < size; j++) elements.removeLast();
+                    }
+                    default -> throw new IOException("Unexpected operation: " + op);
+                }
+            }
+        });
+
+        Quitte.batch(() -> {
+            deque.clear();
+            deque.addAll(elements);
+        });
+    }
+
+    /**
+     * Replays the journal in the given channel onto the given map.
+     *
+     * <p>Mappings for keys that are not contained in the replayed map are removed from the given map before the
+     * remaining mappings are put.</p>
+     *
+     * @param <K>           the type of the map's keys
+     * @param <V>           the type of the map's values
+     * @param channel       the channel to read the journal from
+     * @param map           the map to restore
+     * @param keyCodec      the codec to decode the map's keys with
+     * @param valueCodec    the codec to decode the map's values with
+     *
+     * @throws IOException  if an I/O error occurs, or if the channel does not contain a valid map journal
+     *
+     * @since   0.9.0
+     */
+    public static <K, V> void replay(FileChannel channel, ObservableMap<K, V> map, ValueCodec<K> keyCodec, ValueCodec<V> valueCodec) throws IOException {
+        Objects.requireNonNull(map);
+        Objects.requireNonNull(keyCodec);
+        Objects.requireNonNull(valueCodec);
+
+        Map<K, V> mappings = new HashMap<>();
+
+        read(channel, KIND_MAP, in -> {
+            int ops = in.readInt();
+
+            for (int i = 0; i < ops; i++) {
+                byte op = in.readByte();
+
+                switch (op) {
+                    case OP_RESET -> {
+                        mappings.clear();
+                        readMappings(in, keyCodec, valueCodec, mappings);
+                    }
+                    case OP_INSERT -> readMappings(in, keyCodec, valueCodec, mappings);
+                    case OP_REMOVE -> mappings.keySet().removeAll(readElements(in, keyCodec, new ArrayList<>()));
+                    default -> throw new IOException("Unexpected operation: " + op);
+                }
+            }
+        });
+
+        Quitte.batch(() -> {
+            map.keySet().retainAll(mappings.keySet());
+            map.putAll(mappings);
+        });
+    }
+
+    private final FileChannel channel;
+
+    private final ByteBufferOutputStream pending = new ByteBufferOutputStream();
+    private final DataOutputStream pendingOut = new DataOutputStream(this.pending);
+
+    private final ByteBufferOutputStream record = new ByteBufferOutputStream();
+    private final DataOutputStream recordOut = new DataOutputStream(this.record);
+
+    private final CRC32 checksum = new CRC32();
+
+    @Nullable
+    private Runnable detach;
+
+    @Nullable
+    private IOException failure;
+
+    private boolean isClosed;
+
+    private ChangeJournal(FileChannel channel, byte kind, RecordWriter snapshot) throws IOException {
+        this.channel = Objects.requireNonNull(channel);
+
+        if (channel.size() == 0) {
+            ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE).putInt(MAGIC).putInt(VERSION).put(kind).flip();
+            channel.position(0);
+            while (header.hasRemaining()) channel.write(header);
+
+            this.append(snapshot);
+            this.commit();
+        } else {
+            /* Discard incomplete records, so that new records are not appended to garbage. */
+            long end = read(channel, kind, in -> {});
+            channel.truncate(end);
+            channel.position(end);
+        }
+    }
+
+    /**
+     * Commits all buffered records.
+     *
+     * @throws IOException              if an I/O error occurs, or if an I/O error occurred while a record was buffered
+     * @throws IllegalStateException    if this journal has been closed
+     *
+     * @since   0.9.0
+     */
+    public synchronized void commit() throws IOException {
+        if (this.isClosed) throw new IllegalStateException("Journal has been closed");
+        this.commitImpl();
+    }
+
+    /**
+     * Detaches this journal from its collection and commits all buffered records.
+     *
+     * <p>The journal's channel is not closed by this method.</p>
+     *
+     * @throws IOException  if an I/O error occurs, or if an I/O error occurred while a record was buffered
+     *
+     * @since   0.9.0
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        if (this.isClosed) return;
+
+        if (this.detach != null) this.detach.run();
+        this.commitImpl();
+
+        this.isClosed = true;
+    }
+
+    private void commitImpl() throws IOException {
+        if (this.failure != null) throw new IOException("Journal has stopped recording", this.failure);
+        if (this.pending.size() == 0) return;
+
+        try {
+            ByteBuffer buffer = this.pending.toByteBuffer();
+            while (buffer.hasRemaining()) this.channel.write(buffer);
+
+            this.channel.force(false);
+            this.pending.reset();
+        } catch (IOException e) {
+            this.failure = e;
+            throw e;
+        }
+    }
+
+    private synchronized void append(RecordWriter writer) {
+        if (this.isClosed || this.failure != null) return;
+
+        try {
+            this.record.reset();
+            writer.write(this.recordOut);
+            this.recordOut.flush();
+
+            this.checksum.reset();
+            this.checksum.update(this.record.toByteBuffer());
+
+            this.pendingOut.writeInt(this.record.size());
+            this.pendingOut.writeInt((int) this.checksum.getValue());
+            this.record.writeTo(this.pendingOut);
+            this.pendingOut.flush();
+
+            if (this.pending.size() >= COMMIT_THRESHOLD) this.commitImpl();
+        } catch (IOException e) {
+            this.failure = e;
+        }
+    }
+
+    /*
+     * Reads the journal in the given channel and passes the payload of every valid record to the given reader. Returns
+     * the position after the last valid record.
+     */
+    private static long read(FileChannel channel, byte kind, RecordReader reader) throws IOException {
+        channel.position(0);
+        DataInputStream in = new DataInputStream(new BufferedInputStream(Channels.newInputStream(channel)));
+
+        try {
+            if (in.readInt() != MAGIC) throw new IOException("Not a change journal");
+
+            int version = in.readInt();
+            if (version != VERSION) throw new IOException("Unsupported journal version: " + version);
+            if (in.readByte() != kind) throw new IOException("Journal was recorded for another kind of collection");
+        } catch (EOFException e) {
+            throw new IOException("Not a change journal", e);
+        }
+
+        CRC32 checksum = new CRC32();
+        long end = HEADER_SIZE;
+
+        while (true) {
+            byte[] payload;
+            int expectedChecksum;
+
+            try {
+                int length = in.readInt();
+                expectedChecksum = in.readInt();
+                if (length < 0 || length > channel.size() - end) break;
+
+                payload = new byte[length];
+                in.readFully(payload);
+            } catch (EOFException e) {
+                break;
+            }
+
+            checksum.reset();
+            checksum.update(payload);
+            if ((int) checksum.getValue() != expectedChecksum) break;
+
+            try {
+                reader.read(new DataInputStream(new ByteArrayInputStream(payload)));
+            } catch (IndexOutOfBoundsException | NoSuchElementException e) {
+                throw new IOException("Journal does not describe a valid sequence of changes", e);
+            }
+
+            end += 8 + payload.length;
+        }
+
+        return end;
+    }
+
+    private static <E> void writeListChange(DataOutput out, ListChangeListener.Change<? extends E> change, ValueCodec<E> codec) throws IOException {
+        if (change instanceof ListChangeListener.Change.Permutation<? extends E> permutation) {
+            List<Integer> indices = permutation.indices();
+
+            out.writeInt(1);
+            out.writeByte(OP_PERMUTE);
+            out.writeInt(indices.size());
+            for (int index : indices) out.writeInt(index);
+        } else if (change instanceof ListChangeListener.Change.Update<? extends E> update) {
+            List<? extends ListChangeListener.LocalChange<? extends E>> localChanges = update.localChanges();
+            out.writeInt(localChanges.size());
+
+            for (ListChangeListener.LocalChange<? extends E> localChange : localChanges) {
+                if (localChange instanceof ListChangeListener.LocalChange.Insertion<? extends E> insertion) {
+                    out.writeByte(OP_INSERT);
+                    out.writeInt(insertion.index());
+                    writeElements(out, insertion.elements(), codec);
+                } else if (localChange instanceof ListChangeListener.LocalChange.Removal<? extends E> removal) {
+                    out.writeByte(OP_REMOVE);
+                    out.writeInt(removal.index());
+                    out.writeInt(removal.elements().size());
+                } else if (localChange instanceof ListChangeListener.LocalChange.Update<? extends E> localUpdate) {
+                    out.writeByte(OP_UPDATE);
+                    out.writeInt(localUpdate.index());
+                    writeElements(out, localUpdate.newElements(), codec);
+                }
+            }
+        }
+    }
+
+    private static <E> void writeDequeChange(DataOutput out, ObservableDeque<E> deque, DequeChangeListener.Change<? extends E> change, ValueCodec<E> codec) throws IOException {
+        List<? extends DequeChangeListener.LocalChange<? extends E>> localChanges = change.localChanges();
+
+        for (DequeChangeListener.LocalChange<? extends E> localChange : localChanges) {
+            if (localChange.site() == DequeChangeListener.Site.OPAQUE) {
+                /* The deque has already been modified. Thus, its current contents reflect this change. */
+                writeReset(out, deque, codec);
+                return;
+            }
+        }
+
+        out.writeInt(localChanges.size());
+
+        for (DequeChangeListener.LocalChange<? extends E> localChange : localChanges) {
+            boolean isHead = localChange.site() == DequeChangeListener.Site.HEAD;
+
+            if (localChange instanceof DequeChangeListener.LocalChange.Insertion) {
+                writeElements(out, isHead ? OP_ADD_FIRST : OP_ADD_LAST, localChange.elements(), codec);
+            } else {
+                out.writeByte(isHead ? OP_REMOVE_FIRST : OP_REMOVE_LAST);
+                out.writeInt(localChange.elements().size());
+            }
+        }
+    }
+
+    private static <K, V> void writeMapChange(DataOutput out, MapChangeListener.Change<? extends K, ? extends V> change, ValueCodec<K> keyCodec, ValueCodec<V> valueCodec) throws IOException {
+        out.writeInt(2);
+        writeElements(out, OP_REMOVE, change.removedElements().keySet(), keyCodec);
+
+        out.writeByte(OP_INSERT);
+        out.writeInt(change.addedElements().size() + change.updatedElements().size());
+
+        for (Map.Entry<? extends K, ? extends V> entry : change.addedElements().entrySet()) {
+            keyCodec.write(out, entry.getKey());
+            valueCodec.write(out, entry.getValue());
+        }
+
+        for (Map.Entry<? extends K, ? extends MapChangeListener.Change.Update<? extends V>> entry : change.updatedElements().entrySet()) {
+            keyCodec.write(out, entry.getKey());
+            valueCodec.write(out, entry.getValue().newValue());
+        }
+    }
+
+    private static <E> void writeReset(DataOutput out, Collection<E> elements, ValueCodec<E> codec) throws IOException {
+        out.writeInt(1);
+        writeElements(out, OP_RESET, new ArrayList<>(elements), codec);
+    }
+
+    private static <K, V> void writeReset(DataOutput out, Map<K, V> map, ValueCodec<K> keyCodec, ValueCodec<V> valueCodec) throws IOException {
+        List<Map.Entry<K, V>> mappings = new ArrayList<>(map.entrySet());
+
+        out.writeInt(1);
+        out.writeByte(OP_RESET);
+        out.writeInt(mappings.size());
+
+        for (Map.Entry<K, V> mapping : mappings) {
+            keyCodec.write(out, mapping.getKey());
+            valueCodec.write(out, mapping.getValue());
+        }
+    }
+
+    private static <E> void writeElements(DataOutput out, byte op, Collection<? extends E> elements, ValueCodec<E> codec) throws IOException {
+        out.writeByte(op);
+        writeElements(out, elements, codec);
+    }
+
+    private static <E> void writeElements(DataOutput out, Collection<? extends E> elements, ValueCodec<E> codec) throws IOException {
+        out.writeInt(elements.size());
+        for (E element : elements) codec.write(out, element);
+    }
+
+    private static <E, C extends Collection<E>> C readElements(DataInput in, ValueCodec<E> codec, C target) throws IOException {
+        int size = readSize(in);
+        for (int i = 0; i < size; i++) target.add(codec.read(in));
+
+        return target;
+    }
+
+    private static <K, V> void readMappings(DataInput in, ValueCodec<K> keyCodec, ValueCodec<V> valueCodec, Map<K, V> target) throws IOException {
+        int size = readSize(in);
+
+        for (int i = 0; i < size; i++) {
+            K key = keyCodec.read(in);
+            target.put(key, valueCodec.read(in));
+        }
+    }
+
+    private static int readSize(DataInput in) throws IOException {
+        int size = in.readInt();
+        if (size < 0) throw new IOException("Invalid size: " + size);
+
+        return size;
+    }
+
+    @FunctionalInterface
+    private interface RecordWriter {
+        void write(DataOutput out) throws IOException;
+    }
+
+    @FunctionalInterface
+    private interface RecordReader {
+        void read(DataInput in) throws IOException;
+    }
+
+}
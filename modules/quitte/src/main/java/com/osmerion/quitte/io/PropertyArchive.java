@@ -0,0 +1,662 @@
+/*
+ * Copyright (c) 2018-2023 Leon Linhart,
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.osmerion.quitte.io;
+
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import javax.annotation.Nullable;
+
+import com.osmerion.quitte.Quitte;
+import com.osmerion.quitte.property.*;
+
+/**
+ * A {@code PropertyArchive} persists the state of a set of properties in a compact binary format.
+ *
+ * <p>Properties are {@link #register(String, WritableIntProperty) registered} under a unique key. The values of value
+ * properties and the contents of collection properties may then be {@link #write(FileChannel) written} to a file and
+ * {@link #restore(FileChannel) restored} later on. Reading the value of a {@link LazyIntProperty lazy property} (etc.)
+ * to write it forces its computation.</p>
+ *
+ * <p>An archive is restored in two phases: First, the archive is decoded completely and the targeted properties are
+ * checked for writability. Only if this succeeds, the decoded state is applied to the registered properties in a single
+ * {@link Quitte#beginTransaction() transaction}. Thus, a malformed archive or a read-only property does not leave the
+ * properties partially restored, and at most one change notification and one invalidation notification are delivered
+ * for every modified property, regardless of the number of elements that are restored. However, modifications are not
+ * rolled back if applying the state fails (for example, because a listener throws an exception). Entries for keys
+ * that are not registered are skipped, and properties for which the archive contains no entry are left untouched.</p>
+ *
+ * <p>This class is not thread-safe.</p>
+ *
+ * @since   0.9.0
+ *
+ * @author  Leon Linhart
+ */
+public final class PropertyArchive {
+
+    private static final int MAGIC = 0x51545441; // "QTTA"
+    private static final int VERSION = 1;
+
+    private static final byte TAG_BOOL = 0;
+    private static final byte TAG_BYTE = 1;
+    private static final byte TAG_SHORT = 2;
+    private static final byte TAG_INT = 3;
+    private static final byte TAG_LONG = 4;
+    private static final byte TAG_FLOAT = 5;
+    private static final byte TAG_DOUBLE = 6;
+    private static final byte TAG_OBJECT = 7;
+    private static final byte TAG_LIST = 8;
+    private static final byte TAG_SET = 9;
+    private static final byte TAG_DEQUE = 10;
+    private static final byte TAG_MAP = 11;
+
+    private final Map<String, Entry> entries = new LinkedHashMap<>();
+
+    /**
+     * Creates a new empty {@code PropertyArchive}.
+     *
+     * @since   0.9.0
+     */
+    public PropertyArchive() {}
+
+    /**
+     * Registers the given property with this archive.
+     *
+     * @param key       the key to register the property with
+     * @param property  the property to register
+     *
+     * @throws IllegalArgumentException if another property is already registered with the given key
+     *
+     * @since   0.9.0
+     */
+    public void register(String key, WritableBoolProperty property) {
+        Objects.requireNonNull(property);
+        this.register(key, new Entry(TAG_BOOL, property) {
+
+            @Override
+            void write(DataOutput out) throws IOException { out.writeBoolean(property.get()); }
+
+            @Override
+            Object read(DataInputStream in) throws IOException { return in.readBoolean(); }
+
+            @Override
+            void apply(Object value) { property.set((boolean) value); }
+
+        });
+    }
+
+    /**
+     * Registers the given property with this archive.
+     *
+     * @param key       the key to register the property with
+     * @param property  the property to register
+     *
+     * @throws IllegalArgumentException if another property is already registered with the given key
+     *
+     * @since   0.9.0
+     */
+    public void register(String key, WritableByteProperty property) {
+        Objects.requireNonNull(property);
+        this.register(key, new Entry(TAG_BYTE, property) {
+
+            @Override
+            void write(DataOutput out) throws IOException { out.writeByte(property.get()); }
+
+            @Override
+            Object read(DataInputStream in) throws IOException { return in.readByte(); }
+
+            @Override
+            void apply(Object value) { property.set((byte) value); }
+
+        });
+    }
+
+    /**
+     * Registers the given property with this archive.
+     *
+     * @param key       the key to register the property with
+     * @param property  the property to register
+     *
+     * @throws IllegalArgumentException if another property is already registered with the given key
+     *
+     * @since   0.9.0
+     */
+    public void register(String key, WritableShortProperty property) {
+        Objects.requireNonNull(property);
+        this.register(key, new Entry(TAG_SHORT, property) {
+
+            @Override
+            void write(DataOutput out) throws IOException { out.writeShort(property.get()); }
+
+            @Override
+            Object read(DataInputStream in) throws IOException { return in.readShort(); }
+
+            @Override
+            void apply(Object value) { property.set((short) value); }
+
+        });
+    }
+
+    /**
+     * Registers the given property with this archive.
+     *
+     * @param key       the key to register the property with
+     * @param property  the property to register
+     *
+     * @throws IllegalArgumentException if another property is already registered with the given key
+     *
+     * @since   0.9.0
+     */
+    public void register(String key, WritableIntProperty property) {
+        Objects.requireNonNull(property);
+        this.register(key, new Entry(TAG_INT, property) {
+
+            @Override
+            void write(DataOutput out) throws IOException { out.writeInt(property.get()); }
+
+            @Override
+            Object read(DataInputStream in) throws IOException { return in.readInt(); }
+
+            @Override
+            void apply(Object value) { property.set((int) value); }
+
+        });
+    }
+
+    /**
+     * Registers the given property with this archive.
+     *
+     * @param key       the key to register the property with
+     * @param property  the property to register
+     *
+     * @throws IllegalArgumentException if another property is already registered with the given key
+     *
+     * @since   0.9.0
+     */
+    public void register(String key, WritableLongProperty property) {
+        Objects.requireNonNull(property);
+        this.register(key, new Entry(TAG_LONG, property) {
+
+            @Override
+            void write(DataOutput out) throws IOException { out.writeLong(property.get()); }
+
+            @Override
+            Object read(DataInputStream in) throws IOException { return in.readLong(); }
+
+            @Override
+            void apply(Object value) { property.set((long) value); }
+
+        });
+    }
+
+    /**
+     * Registers the given property with this archive.
+     *
+     * @param key       the key to register the property with
+     * @param property  the property to register
+     *
+     * @throws IllegalArgumentException if another property is already registered with the given key
+     *
+     * @since   0.9.0
+     */
+    public void register(String key, WritableFloatProperty property) {
+        Objects.requireNonNull(property);
+        this.register(key, new Entry(TAG_FLOAT, property) {
+
+            @Override
+            void write(DataOutput out) throws IOException { out.writeFloat(property.get()); }
+
+            @Override
+            Object read(DataInputStream in) throws IOException { return in.readFloat(); }
+
+            @Override
+            void apply(Object value) { property.set((float) value); }
+
+        });
+    }
+
+    /**
+     * Registers the given property with this archive.
+     *
+     * @param key       the key to register the property with
+     * @param property  the property to register
+     *
+     * @throws IllegalArgumentException if another property is already registered with the given key
+     *
+     * @since   0.9.0
+     */
+    public void register(String key, WritableDoubleProperty property) {
+        Objects.requireNonNull(property);
+        this.register(key, new Entry(TAG_DOUBLE, property) {
+
+            @Override
+            void write(DataOutput out) throws IOException { out.writeDouble(property.get()); }
+
+            @Override
+            Object read(DataInputStream in) throws IOException { return in.readDouble(); }
+
+            @Override
+            void apply(Object value) { property.set((double) value); }
+
+        });
+    }
+
+    /**
+     * Registers the given property with this archive.
+     *
+     * @param <T>       the type of the property's value
+     * @param key       the key to register the property with
+     * @param property  the property to register
+     * @param codec     the codec to encode the property's value with
+     *
+     * @throws IllegalArgumentException if another property is already registered with the given key
+     *
+     * @since   0.9.0
+     */
+    public <T> void register(String key, WritableObjectProperty<T> property, ValueCodec<T> codec) {
+        Objects.requireNonNull(property);
+        Objects.requireNonNull(codec);
+        this.register(key, new Entry(TAG_OBJECT, property) {
+
+            @Override
+            void write(DataOutput out) throws IOException { codec.write(out, property.get()); }
+
+            @Nullable
+            @Override
+            Object read(DataInputStream in) throws IOException { return codec.read(in); }
+
+            @SuppressWarnings("unchecked")
+            @Override
+            void apply(@Nullable Object value) { property.set((T) value); }
+
+        });
+    }
+
+    /**
+     * Registers the given property with this archive.
+     *
+     * <p>When the archive is restored, the contents of the list are replaced in bulk using
+     * {@link WritableListProperty#setAll(Collection)}.</p>
+     *
+     * @param <E>       the type of the list's elements
+     * @param key       the key to register the property with
+     * @param property  the property to register
+     * @param codec     the codec to encode the list's elements with
+     *
+     * @throws IllegalArgumentException if another property is already registered with the given key
+     *
+     * @since   0.9.0
+     */
+    public <E> void register(String key, WritableListProperty<E> property, ValueCodec<E> codec) {
+        Objects.requireNonNull(property);
+        Objects.requireNonNull(codec);
+        this.register(key, new Entry(TAG_LIST, property) {
+
+            @Override
+            void write(DataOutput out) throws IOException { writeElements(out, property, codec); }
+
+            @Override
+            Object read(DataInputStream in) throws IOException { return readElements(in, codec); }
+
+            @SuppressWarnings("unchecked")
+            @Override
+            void apply(Object value) { property.setAll((List<E>) value); }
+
+        });
+    }
+
+    /**
+     * Registers the given property with this archive.
+     *
+     * <p>When the archive is restored, elements that are not contained in the archive are removed from the set before
+     * the remaining elements are added.</p>
+     *
+     * @param <E>       the type of the set's elements
+     * @param key       the key to register the property with
+     * @param property  the property to register
+     * @param codec     the codec to encode the set's elements with
+     *
+     * @throws IllegalArgumentException if another property is already registered with the given key
+     *
+     * @since   0.9.0
+     */
+    public <E> void register(String key, WritableSetProperty<E> property, ValueCodec<E> codec) {
+        Objects.requireNonNull(property);
+        Objects.requireNonNull(codec);
+        this.register(key, new Entry(TAG_SET, property) {
+
+            @Override
+            void write(DataOutput out) throws IOException { writeElements(out, property, codec); }
+
+            @Override
+            Object read(DataInputStream in) throws IOException { return new LinkedHashSet<>(readElements(in, codec)); }
+
+            @SuppressWarnings("unchecked")
+            @Override
+            void apply(Object value) {
+                Set<E> elements = (Set<E>) value;
+                property.retainAll(elements);
+                property.addAll(elements);
+            }
+
+        });
+    }
+
+    /**
+     * Registers the given property with this archive.
+     *
+     * <p>When the archive is restored, the deque is cleared before the elements contained in the archive are added.</p>
+     *
+     * @param <E>       the type of the deque's elements
+     * @param key       the key to register the property with
+     * @param property  the property to register
+     * @param codec     the codec to encode the deque's elements with
+     *
+     * @throws IllegalArgumentException if another property is already registered with the given key
+     *
+     * @since   0.9.0
+     */
+    public <E> void register(String key, WritableDequeProperty<E> property, ValueCodec<E> codec) {
+        Objects.requireNonNull(property);
+        Objects.requireNonNull(codec);
+        this.register(key, new Entry(TAG_DEQUE, property) {
+
+            @Override
+            void write(DataOutput out) throws IOException { writeElements(out, property, codec); }
+
+            @Override
+            Object read(DataInputStream in) throws IOException { return readElements(in, codec); }
+
+            @SuppressWarnings("unchecked")
+            @Override
+            void apply(Object value) {
+                property.clear();
+                property.addAll((List<E>) value);
+            }
+
+        });
+    }
+
+    /**
+     * Registers the given property with this archive.
+     *
+     * <p>When the archive is restored, mappings for keys that are not contained in the archive are removed from the map
+     * before the remaining mappings are put.</p>
+     *
+     * @param <K>           the type of the map's keys
+     * @param <V>           the type of the map's values
+     * @param key           the key to register the property with
+     * @param property      the property to register
+     * @param keyCodec      the codec to encode the map's keys with
+     * @param valueCodec    the codec to encode the map's values with
+     *
+     * @throws IllegalArgumentException if another property is already registered with the given key
+     *
+     * @since   0.9.0
+     */
+    public <K, V> void register(String key, WritableMapProperty<K, V> property, ValueCodec<K> keyCodec, ValueCodec<V> valueCodec) {
+        Objects.requireNonNull(property);
+        Objects.requireNonNull(keyCodec);
+        Objects.requireNonNull(valueCodec);
+        this.register(key, new Entry(TAG_MAP, property) {
+
+            @Override
+            void write(DataOutput out) throws IOException {
+                List<Map.Entry<K, V>> mappings = new ArrayList<>(property.entrySet());
+                out.writeInt(mappings.size());
+
+                for (Map.Entry<K, V> mapping : mappings) {
+                    keyCodec.write(out, mapping.getKey());
+                    valueCodec.write(out, mapping.getValue());
+                }
+            }
+
+            @Override
+            Object read(DataInputStream in) throws IOException {
+                int size = readSize(in);
+                Map<K, V> mappings = new LinkedHashMap<>();
+
+                for (int i = 0; i < size; i++) {
+                    K k = keyCodec.read(in);
+                    mappings.put(k, valueCodec.read(in));
+                }
+
+                return mappings;
+            }
+
+            @SuppressWarnings("unchecked")
+            @Override
+            void apply(Object value) {
+                Map<K, V> mappings = (Map<K, V>) value;
+                property.keySet().retainAll(mappings.keySet());
+                property.putAll(mappings);
+            }
+
+        });
+    }
+
+    private void register(String key, Entry entry) {
+        Objects.requireNonNull(key);
+        if (this.entries.putIfAbsent(key, entry) != null) throw new IllegalArgumentException("A property is already registered with key: " + key);
+    }
+
+    /**
+     * Writes the state of all registered properties to the file at the given path.
+     *
+     * <p>The file is created if it does not exist, and truncated otherwise.</p>
+     *
+     * @param path  the path of the file to write to
+     *
+     * @throws IOException  if an I/O error occurs
+     *
+     * @since   0.9.0
+     */
+    public void write(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.WRITE, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            this.write(channel);
+        }
+    }
+
+    /**
+     * Writes the state of all registered properties to the given channel, starting at the channel's current position.
+     *
+     * @param channel   the channel to write to
+     *
+     * @throws IOException  if an I/O error occurs
+     *
+     * @since   0.9.0
+     */
+    public void write(FileChannel channel) throws IOException {
+        ByteBufferOutputStream file = new ByteBufferOutputStream();
+        ByteBufferOutputStream payload = new ByteBufferOutputStream();
+        DataOutputStream fileOut = new DataOutputStream(file);
+        DataOutputStream payloadOut = new DataOutputStream(payload);
+
+        fileOut.writeInt(MAGIC);
+        fileOut.writeInt(VERSION);
+        fileOut.writeInt(this.entries.size());
+
+        for (Map.Entry<String, Entry> mapping : this.entries.entrySet()) {
+            Entry entry = mapping.getValue();
+
+            payload.reset();
+            entry.write(payloadOut);
+            payloadOut.flush();
+
+            fileOut.writeUTF(mapping.getKey());
+            fileOut.writeByte(entry.tag);
+            fileOut.writeInt(payload.size());
+            payload.writeTo(fileOut);
+        }
+
+        fileOut.flush();
+
+        ByteBuffer buffer = file.toByteBuffer();
+        while (buffer.hasRemaining()) channel.write(buffer);
+    }
+
+    /**
+     * Restores the state of the registered properties from the file at the given path.
+     *
+     * @param path  the path of the file to read from
+     *
+     * @throws IOException              if an I/O error occurs, or if the file is not a valid archive
+     * @throws IllegalStateException    if a property for which the archive contains an entry is not writable
+     *
+     * @since   0.9.0
+     */
+    public void restore(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            this.restore(channel);
+        }
+    }
+
+    /**
+     * Restores the state of the registered properties from the given channel, starting at the channel's current
+     * position.
+     *
+     * @param channel   the channel to read from
+     *
+     * @throws IOException              if an I/O error occurs, or if the channel does not contain a valid archive
+     * @throws IllegalStateException    if a property for which the archive contains an entry is not writable
+     *
+     * @since   0.9.0
+     */
+    public void restore(FileChannel channel) throws IOException {
+        long remaining = channel.size() - channel.position();
+        if (remaining > Integer.MAX_VALUE) throw new IOException("Archive is too large: " + remaining + " bytes");
+
+        ByteBuffer buffer = ByteBuffer.allocate((int) remaining);
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer) < 0) throw new EOFException();
+        }
+
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(buffer.array()));
+        if (in.readInt() != MAGIC) throw new IOException("Not a property archive");
+
+        int version = in.readInt();
+        if (version != VERSION) throw new IOException("Unsupported archive version: " + version);
+
+        int count = readSize(in);
+        Map<Entry, Object> values = new LinkedHashMap<>();
+
+        for (int i = 0; i < count; i++) {
+            String key = in.readUTF();
+            byte tag = in.readByte();
+            int length = readSize(in);
+
+            Entry entry = this.entries.get(key);
+
+            if (entry == null) {
+                if (in.skipBytes(length) != length) throw new EOFException();
+                continue;
+            }
+
+            if (entry.tag != tag) throw new IOException("Entry for key '" + key + "' does not match the registered property");
+            if (!entry.target.isWritable()) throw new IllegalStateException("Property registered with key '" + key + "' is not writable");
+
+            byte[] payload = new byte[length];
+            in.readFully(payload);
+
+            DataInputStream payloadIn = new DataInputStream(new ByteArrayInputStream(payload));
+            values.put(entry, entry.read(payloadIn));
+            if (payloadIn.available() != 0) throw new IOException("Entry for key '" + key + "' was not fully consumed");
+        }
+
+        Quitte.batch(() -> values.forEach(Entry::apply));
+    }
+
+    private static <E> void writeElements(DataOutput out, Collection<E> elements, ValueCodec<E> codec) throws IOException {
+        List<E> snapshot = new ArrayList<>(elements);
+        out.writeInt(snapshot.size());
+
+        for (E element : snapshot) codec.write(out, element);
+    }
+
+    private static <E> List<E> readElements(DataInputStream in, ValueCodec<E> codec) throws IOException {
+        int size = readSize(in);
+        List<E> elements = new ArrayList<>(size);
+
+        for (int i = 0; i < size; i++) elements.add(codec.read(in));
+
+        return elements;
+    }
+
+    /*
+     * Reads a size and verifies that it does not exceed the number of remaining bytes. Every element and entry is
+     * encoded using at least one byte. Hence, a larger size can only stem from a corrupted archive and must be
+     * rejected before it is used to allocate memory.
+     */
+    private static int readSize(DataInputStream in) throws IOException {
+        int size = in.readInt();
+        if (size < 0) throw new IOException("Invalid size: " + size);
+
+        int remaining = in.available();
+        if (size > remaining) throw new IOException("Invalid size: " + size + " (only " + remaining + " bytes remaining)");
+
+        return size;
+    }
+
+    private abstract static class Entry {
+
+        final byte tag;
+        final WritableProperty target;
+
+        Entry(byte tag, WritableProperty property) {
+            this.tag = tag;
+            this.target = property;
+        }
+
+        abstract void write(DataOutput out) throws IOException;
+
+        @Nullable
+        abstract Object read(DataInputStream in) throws IOException;
+
+        abstract void apply(@Nullable Object value);
+
+    }
+
+}
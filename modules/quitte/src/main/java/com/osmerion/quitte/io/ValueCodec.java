@@ -0,0 +1,225 @@
+/*
+ * Copyright (c) 2018-2023 Leon Linhart,
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.osmerion.quitte.io;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * A {@code ValueCodec} encodes values of a specific type to, and decodes them from, a binary representation.
+ *
+ * <p>Codecs are used by {@link PropertyArchive} to persist the values of object properties and the elements of
+ * collection properties. The codecs provided by this interface support {@code null} values.</p>
+ *
+ * @param <T>   the type of the values
+ *
+ * @since   0.9.0
+ *
+ * @author  Leon Linhart
+ */
+public interface ValueCodec<T> {
+
+    /**
+     * A codec for {@link Boolean} values.
+     *
+     * @since   0.9.0
+     */
+    ValueCodec<Boolean> BOOLEAN = new NullableCodec<>() {
+
+        @Override
+        void writeNonNull(DataOutput out, Boolean value) throws IOException { out.writeBoolean(value); }
+
+        @Override
+        Boolean readNonNull(DataInput in) throws IOException { return in.readBoolean(); }
+
+    };
+
+    /**
+     * A codec for {@link Byte} values.
+     *
+     * @since   0.9.0
+     */
+    ValueCodec<Byte> BYTE = new NullableCodec<>() {
+
+        @Override
+        void writeNonNull(DataOutput out, Byte value) throws IOException { out.writeByte(value); }
+
+        @Override
+        Byte readNonNull(DataInput in) throws IOException { return in.readByte(); }
+
+    };
+
+    /**
+     * A codec for {@link Short} values.
+     *
+     * @since   0.9.0
+     */
+    ValueCodec<Short> SHORT = new NullableCodec<>() {
+
+        @Override
+        void writeNonNull(DataOutput out, Short value) throws IOException { out.writeShort(value); }
+
+        @Override
+        Short readNonNull(DataInput in) throws IOException { return in.readShort(); }
+
+    };
+
+    /**
+     * A codec for {@link Integer} values.
+     *
+     * @since   0.9.0
+     */
+    ValueCodec<Integer> INTEGER = new NullableCodec<>() {
+
+        @Override
+        void writeNonNull(DataOutput out, Integer value) throws IOException { out.writeInt(value); }
+
+        @Override
+        Integer readNonNull(DataInput in) throws IOException { return in.readInt(); }
+
+    };
+
+    /**
+     * A codec for {@link Long} values.
+     *
+     * @since   0.9.0
+     */
+    ValueCodec<Long> LONG = new NullableCodec<>() {
+
+        @Override
+        void writeNonNull(DataOutput out, Long value) throws IOException { out.writeLong(value); }
+
+        @Override
+        Long readNonNull(DataInput in) throws IOException { return in.readLong(); }
+
+    };
+
+    /**
+     * A codec for {@link Float} values.
+     *
+     * @since   0.9.0
+     */
+    ValueCodec<Float> FLOAT = new NullableCodec<>() {
+
+        @Override
+        void writeNonNull(DataOutput out, Float value) throws IOException { out.writeFloat(value); }
+
+        @Override
+        Float readNonNull(DataInput in) throws IOException { return in.readFloat(); }
+
+    };
+
+    /**
+     * A codec for {@link Double} values.
+     *
+     * @since   0.9.0
+     */
+    ValueCodec<Double> DOUBLE = new NullableCodec<>() {
+
+        @Override
+        void writeNonNull(DataOutput out, Double value) throws IOException { out.writeDouble(value); }
+
+        @Override
+        Double readNonNull(DataInput in) throws IOException { return in.readDouble(); }
+
+    };
+
+    /**
+     * A codec for {@link String} values.
+     *
+     * <p>Strings are encoded as length-prefixed UTF-8. Unlike {@link DataOutput#writeUTF(String)}, this codec does not
+     * limit the length of the encoded string.</p>
+     *
+     * @since   0.9.0
+     */
+    ValueCodec<String> STRING = new NullableCodec<>() {
+
+        @Override
+        void writeNonNull(DataOutput out, String value) throws IOException {
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            out.writeInt(bytes.length);
+            out.write(bytes);
+        }
+
+        @Override
+        String readNonNull(DataInput in) throws IOException {
+            int length = in.readInt();
+            if (length < 0) throw new IOException("Invalid string length: " + length);
+
+            /*
+             * The length is read from the input and cannot be trusted. Thus, the buffer is only grown once the bytes
+             * that were read so far are actually present, and a corrupted length results in an EOFException.
+             */
+            byte[] bytes = new byte[Math.min(length, 8192)];
+            int read = 0;
+
+            while (true) {
+                in.readFully(bytes, read, bytes.length - read);
+                read = bytes.length;
+
+                if (read == length) break;
+                bytes = Arrays.copyOf(bytes, (int) Math.min(length, 2L * read));
+            }
+
+            return new String(bytes, StandardCharsets.UTF_8);
+        }
+
+    };
+
+    /**
+     * Writes the given value to the given output.
+     *
+     * @param out   the output to write to
+     * @param value the value to write
+     *
+     * @throws IOException  if an I/O error occurs
+     *
+     * @since   0.9.0
+     */
+    void write(DataOutput out, T value) throws IOException;
+
+    /**
+     * Reads a value from the given input.
+     *
+     * @param in    the input to read from
+     *
+     * @return  the value that was read
+     *
+     * @throws IOException  if an I/O error occurs
+     *
+     * @since   0.9.0
+     */
+    T read(DataInput in) throws IOException;
+
+}
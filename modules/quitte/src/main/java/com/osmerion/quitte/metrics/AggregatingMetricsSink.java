@@ -0,0 +1,194 @@
+/*
+ * Copyright (c) 2018-2023 Leon Linhart,
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.osmerion.quitte.metrics;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.osmerion.quitte.Observable;
+
+/**
+ * A {@link MetricsSink} that aggregates measurements by the class of the measured observable.
+ *
+ * <pre>{@code
+ * var sink = new AggregatingMetricsSink();
+ * QuitteMetrics.setSink(sink);
+ *
+ * // ...
+ *
+ * sink.snapshot().forEach((type, statistics) -> System.out.println(type.getName() + ": " + statistics));
+ * }</pre>
+ *
+ * @since   0.9.0
+ *
+ * @author  Leon Linhart
+ */
+public final class AggregatingMetricsSink implements MetricsSink {
+
+    private final Map<Class<?>, Counters> counters = new ConcurrentHashMap<>();
+
+    /**
+     * Creates a new sink.
+     *
+     * @since   0.9.0
+     */
+    public AggregatingMetricsSink() {}
+
+    @Override
+    public void recordInvalidation(Observable observable) {
+        this.countersFor(observable).invalidations.increment();
+    }
+
+    @Override
+    public void recordRecomputation(Observable expression, long nanos) {
+        Counters counters = this.countersFor(expression);
+        counters.recomputations.increment();
+        counters.recomputationNanos.add(nanos);
+    }
+
+    @Override
+    public void recordInvalidationDispatch(Observable observable, int listeners, long nanos) {
+        Counters counters = this.countersFor(observable);
+        counters.invalidationDispatches.increment();
+        counters.invalidationDispatchListeners.add(listeners);
+        counters.invalidationDispatchNanos.add(nanos);
+    }
+
+    @Override
+    public void recordChangeDispatch(Observable observable, int listeners, long nanos) {
+        Counters counters = this.countersFor(observable);
+        counters.changeDispatches.increment();
+        counters.changeDispatchListeners.add(listeners);
+        counters.changeDispatchNanos.add(nanos);
+    }
+
+    @Override
+    public void recordChangeCompaction(Observable collection, long nanos) {
+        Counters counters = this.countersFor(collection);
+        counters.compactions.increment();
+        counters.compactionNanos.add(nanos);
+    }
+
+    /**
+     * {@return a snapshot of the statistics that have been aggregated so far, by class}
+     *
+     * <p>Measurements that are recorded concurrently may or may not be reflected by the snapshot.</p>
+     *
+     * @since   0.9.0
+     */
+    public Map<Class<?>, Statistics> snapshot() {
+        Map<Class<?>, Statistics> snapshot = new HashMap<>();
+        this.counters.forEach((type, counters) -> snapshot.put(type, counters.toStatistics()));
+
+        return snapshot;
+    }
+
+    /**
+     * Discards all statistics that have been aggregated so far.
+     *
+     * @since   0.9.0
+     */
+    public void reset() {
+        this.counters.clear();
+    }
+
+    private Counters countersFor(Observable observable) {
+        return this.counters.computeIfAbsent(observable.getClass(), ignored -> new Counters());
+    }
+
+    /**
+     * The statistics that have been aggregated for a class of observables.
+     *
+     * @param invalidations                 the number of invalidations
+     * @param recomputations                the number of recomputations
+     * @param recomputationNanos            the total duration of all recomputations in nanoseconds
+     * @param invalidationDispatches        the number of times invalidation listeners have been notified
+     * @param invalidationDispatchListeners the total number of invalidation listeners that have been notified
+     * @param invalidationDispatchNanos     the total duration of all invalidation notifications in nanoseconds
+     * @param changeDispatches              the number of times change listeners have been notified
+     * @param changeDispatchListeners       the total number of change listeners that have been notified
+     * @param changeDispatchNanos           the total duration of all change notifications in nanoseconds
+     * @param compactions                   the number of compacted collection changes
+     * @param compactionNanos               the total duration of all compactions in nanoseconds
+     *
+     * @since   0.9.0
+     *
+     * @author  Leon Linhart
+     */
+    public record Statistics(
+        long invalidations,
+        long recomputations,
+        long recomputationNanos,
+        long invalidationDispatches,
+        long invalidationDispatchListeners,
+        long invalidationDispatchNanos,
+        long changeDispatches,
+        long changeDispatchListeners,
+        long changeDispatchNanos,
+        long compactions,
+        long compactionNanos
+    ) {}
+
+    private static final class Counters {
+
+        final LongAdder invalidations = new LongAdder();
+        final LongAdder recomputations = new LongAdder();
+        final LongAdder recomputationNanos = new LongAdder();
+        final LongAdder invalidationDispatches = new LongAdder();
+        final LongAdder invalidationDispatchListeners = new LongAdder();
+        final LongAdder invalidationDispatchNanos = new LongAdder();
+        final LongAdder changeDispatches = new LongAdder();
+        final LongAdder changeDispatchListeners = new LongAdder();
+        final LongAdder changeDispatchNanos = new LongAdder();
+        final LongAdder compactions = new LongAdder();
+        final LongAdder compactionNanos = new LongAdder();
+
+        Statistics toStatistics() {
+            return new Statistics(
+                this.invalidations.sum(),
+                this.recomputations.sum(),
+                this.recomputationNanos.sum(),
+                this.invalidationDispatches.sum(),
+                this.invalidationDispatchListeners.sum(),
+                this.invalidationDispatchNanos.sum(),
+                this.changeDispatches.sum(),
+                this.changeDispatchListeners.sum(),
+                this.changeDispatchNanos.sum(),
+                this.compactions.sum(),
+                this.compactionNanos.sum()
+            );
+        }
+
+    }
+
+}
@@ -0,0 +1,110 @@
+/*
+ * Copyright (c) 2018-2023 Leon Linhart,
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.osmerion.quitte.metrics;
+
+import com.osmerion.quitte.Observable;
+
+/**
+ * A {@code MetricsSink} receives measurements from properties, expressions, and observable collections.
+ *
+ * <p>A sink is installed globally using {@link QuitteMetrics#setSink(MetricsSink)}. While a sink is installed, its
+ * methods are called synchronously by the thread that performs the measured operation. Thus, implementations must be
+ * thread-safe and should return quickly. Durations are measured using {@link System#nanoTime()}.</p>
+ *
+ * <p>All methods have empty default implementations, so that implementations only need to override the methods for the
+ * measurements they are interested in.</p>
+ *
+ * @see AggregatingMetricsSink
+ *
+ * @since   0.9.0
+ *
+ * @author  Leon Linhart
+ */
+public interface MetricsSink {
+
+    /**
+     * Records that the given observable has been invalidated.
+     *
+     * <p>Properties report every invalidation, expressions report every invalidation of one of their dependencies, and
+     * observable collections report every change.</p>
+     *
+     * @param observable    the observable that has been invalidated
+     *
+     * @since   0.9.0
+     */
+    default void recordInvalidation(Observable observable) {}
+
+    /**
+     * Records that the given expression has recomputed its value.
+     *
+     * @param expression    the expression that has recomputed its value
+     * @param nanos         the duration of the recomputation in nanoseconds
+     *
+     * @since   0.9.0
+     */
+    default void recordRecomputation(Observable expression, long nanos) {}
+
+    /**
+     * Records that the invalidation listeners of the given observable have been notified.
+     *
+     * <p>The duration includes the revalidation of dependent expressions that is triggered by the notification.</p>
+     *
+     * @param observable    the observable whose listeners have been notified
+     * @param listeners     the number of listeners that are attached to the observable
+     * @param nanos         the duration of the notification in nanoseconds
+     *
+     * @since   0.9.0
+     */
+    default void recordInvalidationDispatch(Observable observable, int listeners, long nanos) {}
+
+    /**
+     * Records that the change listeners of the given observable have been notified.
+     *
+     * @param observable    the observable whose listeners have been notified
+     * @param listeners     the number of listeners that are attached to the observable
+     * @param nanos         the duration of the notification in nanoseconds
+     *
+     * @since   0.9.0
+     */
+    default void recordChangeDispatch(Observable observable, int listeners, long nanos) {}
+
+    /**
+     * Records that the given observable collection has compacted the modifications of a change into the change that is
+     * reported to its listeners.
+     *
+     * @param collection    the collection that has compacted a change
+     * @param nanos         the duration of the compaction in nanoseconds
+     *
+     * @since   0.9.0
+     */
+    default void recordChangeCompaction(Observable collection, long nanos) {}
+
+}
@@ -0,0 +1,72 @@
+/*
+ * Copyright (c) 2018-2023 Leon Linhart,
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.osmerion.quitte.metrics;
+
+import javax.annotation.Nullable;
+
+import com.osmerion.quitte.internal.Metrics;
+
+/**
+ * This class provides functionality for installing a {@link MetricsSink}.
+ *
+ * <p>At most one sink is installed at any time. While no sink is installed, no measurements are taken.</p>
+ *
+ * @since   0.9.0
+ *
+ * @author  Leon Linhart
+ */
+public final class QuitteMetrics {
+
+    /**
+     * {@return the installed sink, or {@code null} if no sink is installed}
+     *
+     * @since   0.9.0
+     */
+    @Nullable
+    public static MetricsSink getSink() {
+        return Metrics.sink();
+    }
+
+    /**
+     * Installs the given sink, replacing the currently installed sink.
+     *
+     * @param sink  the sink to install, or {@code null} to uninstall the current sink
+     *
+     * @since   0.9.0
+     */
+    public static void setSink(@Nullable MetricsSink sink) {
+        Metrics.setSink(sink);
+    }
+
+    @Deprecated
+    private QuitteMetrics() { throw new UnsupportedOperationException(); }
+
+}
@@ -32,6 +32,7 @@ package com.osmerion.quitte.property;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.List;
 import java.util.function.Function;
 import java.util.stream.Collectors;
@@ -121,7 +122,7 @@ public class ListProperty<E> extends AbstractObservableList<E> implements Writab
 
             try (ChangeBuilder ignored = this.beginChange()) {
                 this.clear();
-                observable.forEach(it -> this.add(transform.apply(it)));
+                this.addAll(observable.stream().map(transform).toList());
             }
         } finally {
             this.inBoundUpdate = false;
@@ -196,6 +197,28 @@ public class ListProperty<E> extends AbstractObservableList<E> implements Writab
         return this.impl.set(index, element);
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * @since   0.9.0
+     */
+    @Override
+    protected final void addAllImpl(int index, Collection<? extends E> elements) {
+        if (this.binding != null && !this.inBoundUpdate) throw new IllegalStateException("A bound property's value may not be set explicitly");
+        this.impl.addAll(index, elements);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @since   0.9.0
+     */
+    @Override
+    protected final void removeRangeImpl(int fromIndex, int toIndex) {
+        if (this.binding != null && !this.inBoundUpdate) throw new IllegalStateException("A bound property's value may not be set explicitly");
+        this.impl.subList(fromIndex, toIndex).clear();
+    }
+
     /**
      * {@inheritDoc}
      *
@@ -224,38 +247,24 @@ public class ListProperty<E> extends AbstractObservableList<E> implements Writab
         try {
             this.inBoundUpdate = true;
 
+            /* Changes are applied using bulk operations and logged as a single compact change. */
             try (ChangeBuilder ignored = this.beginChange()) {
                 for (var change : changes) {
                     if (change instanceof ListChangeListener.Change.Permutation<E> perm) {
                         List<Integer> indices = perm.indices();
-
                         if (this.size() != indices.size()) throw new IndexOutOfBoundsException();
 
-                        List<E> copy = List.copyOf(this);
-
-                        for (int i = 0; i < this.size(); i++) {
-                            this.set(indices.get(i), copy.get(i));
-                        }
+                        this.permute(indices.stream().mapToInt(Integer::intValue).toArray());
                     } else if (change instanceof ListChangeListener.Change.Update<E> update) {
                         for (var localChange : update.localChanges()) {
                             if (localChange instanceof ListChangeListener.LocalChange.Insertion<E> insertion) {
                                 if (this.size() < insertion.index()) throw new IndexOutOfBoundsException();
 
-                                List<E> elements = insertion.elements();
-                                int offset = insertion.index();
-
-                                for (int i = 0; i < elements.size(); i++) {
-                                    this.addAll(offset + i, elements);
-                                }
+                                this.addAll(insertion.index(), insertion.elements());
                             } else if (localChange instanceof ListChangeListener.LocalChange.Removal<E> removal) {
                                 if (this.size() < removal.index() + removal.elements().size()) throw new IndexOutOfBoundsException();
 
-                                List<E> elements = removal.elements();
-                                int offset = removal.index();
-
-                                for (int i = 0; i < elements.size(); i++) {
-                                    this.remove(offset);
-                                }
+                                this.removeRange(removal.index(), removal.index() + removal.elements().size());
                             } else if (localChange instanceof ListChangeListener.LocalChange.Update<E> localUpdate) {
                                 if (this.size() < localUpdate.index() + localUpdate.newElements().size()) throw new IndexOutOfBoundsException();
 
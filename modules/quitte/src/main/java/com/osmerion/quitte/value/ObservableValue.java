@@ -30,9 +30,12 @@
  */
 package com.osmerion.quitte.value;
 
+import java.util.concurrent.Executor;
+
 import javax.annotation.Nullable;
 
 import com.osmerion.quitte.Observable;
+import com.osmerion.quitte.value.change.AsyncChangeListener;
 import com.osmerion.quitte.value.change.ChangeListener;
 
 /**
@@ -89,6 +92,28 @@ public interface ObservableValue<T> extends Observable {
      */
     boolean addBoxedChangeListener(ChangeListener<T> listener);
 
+    /**
+     * Attaches the given {@link ChangeListener} to this observable. The listener is notified asynchronously using the
+     * given {@link Executor}.
+     *
+     * <p>This is equivalent to attaching a new {@link AsyncChangeListener} that wraps the given listener.</p>
+     *
+     * @param listener  the listener to be attached to this observable value
+     * @param executor  the executor used to notify the listener
+     *
+     * @return  {@code true} if the listener was not previously attached to this observable using the given executor and
+     *          has been successfully attached, or {@code false} otherwise
+     *
+     * @throws NullPointerException if the given listener or executor is {@code null}
+     *
+     * @see #removeBoxedChangeListener(ChangeListener, Executor)
+     *
+     * @since   0.9.0
+     */
+    default boolean addBoxedChangeListener(ChangeListener<T> listener, Executor executor) {
+        return this.addBoxedChangeListener(new AsyncChangeListener<>(listener, executor));
+    }
+
     /**
      * Detaches the given {@link ChangeListener} from this observable.
      *
@@ -108,4 +133,24 @@ public interface ObservableValue<T> extends Observable {
      */
     boolean removeBoxedChangeListener(ChangeListener<T> listener);
 
+    /**
+     * Detaches the given {@link ChangeListener} that was attached using the given {@link Executor} from this
+     * observable.
+     *
+     * @param listener  the listener to be detached from this observable value
+     * @param executor  the executor that was used to attach the listener
+     *
+     * @return  {@code true} if the listener was attached to and has been detached from this observable, or
+     *          {@code false} otherwise
+     *
+     * @throws NullPointerException if the given listener or executor is {@code null}
+     *
+     * @see #addBoxedChangeListener(ChangeListener, Executor)
+     *
+     * @since   0.9.0
+     */
+    default boolean removeBoxedChangeListener(ChangeListener<T> listener, Executor executor) {
+        return this.removeBoxedChangeListener(new AsyncChangeListener<>(listener, executor));
+    }
+
 }
\ No newline at end of file
@@ -32,14 +32,17 @@ package com.osmerion.quitte.value.change;
 
 import java.lang.ref.WeakReference;
 import java.util.Objects;
+import java.util.function.Consumer;
 import javax.annotation.Nullable;
+import com.osmerion.quitte.internal.ListenerReaper;
 import com.osmerion.quitte.value.ObservableValue;
 
 /**
  * A {@code WeakChangeListener} may be used to wrap a listener that should only be referenced weakly from an
  * {@link ObservableValue}.
  *
- * <p>This listener does not keep a strong reference to the wrapped listener.</p>
+ * <p>This listener does not keep a strong reference to the wrapped listener. Once the wrapped listener has been
+ * garbage collected, this listener is proactively detached from the observables it is attached to.</p>
  *
  * @param <T>   the type of the observed value
  *
@@ -49,11 +52,9 @@ import com.osmerion.quitte.value.ObservableValue;
  *
  * @author  Leon Linhart
  */
-public final class WeakChangeListener<T> implements ChangeListener<T> {
+public final class WeakChangeListener<T> implements ChangeListener<T>, ListenerReaper.Reapable {
 
-    private final WeakReference<ChangeListener<T>> ref;
-
-    private boolean wasGarbageCollected;
+    private final ListenerReaper.ListenerReference<ChangeListener<T>> ref;
 
     /**
      * Wraps the given {@link ChangeListener listener}.
@@ -65,8 +66,7 @@ public final class WeakChangeListener<T> implements ChangeListener<T> {
      * @since   0.1.0
      */
     public WeakChangeListener(ChangeListener<T> listener) {
-        this.ref = new WeakReference<>(Objects.requireNonNull(listener));
-        this.wasGarbageCollected = false;
+        this.ref = new ListenerReaper.ListenerReference<>(Objects.requireNonNull(listener));
     }
 
     /**
@@ -78,11 +78,7 @@ public final class WeakChangeListener<T> implements ChangeListener<T> {
     public void onChanged(ObservableValue<? extends T> observable, @Nullable T oldValue, @Nullable T newValue) {
         var listener = this.ref.get();
 
-        if (listener != null) {
-            listener.onChanged(observable, oldValue, newValue);
-        } else {
-            this.wasGarbageCollected = true;
-        }
+        if (listener != null) listener.onChanged(observable, oldValue, newValue);
     }
 
     /**
@@ -92,10 +88,16 @@ public final class WeakChangeListener<T> implements ChangeListener<T> {
      */
     @Override
     public boolean isInvalid() {
-        if (this.wasGarbageCollected) return true;
-
         var listener = this.ref.get();
-        return (listener != null && listener.isInvalid());
+        return (listener == null || listener.isInvalid());
+    }
+
+    /**
+     * @hidden
+     */
+    @Override
+    public <O> void reapFrom(O owner, Consumer<? super O> action) {
+        this.ref.reapFrom(owner, action);
     }
 
 }
\ No newline at end of file
@@ -44,6 +44,8 @@ module com.osmerion.quitte {
     exports com.osmerion.quitte.expression;
     exports com.osmerion.quitte.collections;
     exports com.osmerion.quitte.functional;
+    exports com.osmerion.quitte.io;
+    exports com.osmerion.quitte.metrics;
     exports com.osmerion.quitte.property;
     exports com.osmerion.quitte.value;
     exports com.osmerion.quitte.value.change;
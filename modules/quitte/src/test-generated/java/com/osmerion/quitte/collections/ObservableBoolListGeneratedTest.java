@@ -0,0 +1,251 @@
+/*
+ * Copyright (c) 2018-2023 Leon Linhart,
+ * All rights reserved.
+ * MACHINE GENERATED FILE, DO NOT EDIT
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.osmerion.quitte.collections;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.osmerion.quitte.Quitte;
+import com.osmerion.quitte.property.BoolListProperty;
+import org.junit.jupiter.api.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Generated tests for {@link ObservableBoolList}.
+ *
+ * @author  Leon Linhart
+ */
+public final class ObservableBoolListGeneratedTest {
+
+    private static List<BoolListChangeListener.Change> trackChanges(ObservableBoolList list) {
+        List<BoolListChangeListener.Change> changes = new ArrayList<>();
+        list.addChangeListener((observable, change) -> changes.add(change));
+
+        return changes;
+    }
+
+    private static BoolListChangeListener.Change update(BoolListChangeListener.LocalChange... localChanges) {
+        return new BoolListChangeListener.Change.Update(List.of(localChanges));
+    }
+
+    @Test
+    public void testAdd() {
+        BoolListProperty list = new BoolListProperty();
+        var changes = trackChanges(list);
+
+        list.add(true);
+        list.add(0, false);
+
+        assertArrayEquals(new boolean[] { false, true }, list.toArray());
+        assertEquals(List.of(
+            update(new BoolListChangeListener.LocalChange.Insertion(0, new boolean[] { true }, 0, 1)),
+            update(new BoolListChangeListener.LocalChange.Insertion(0, new boolean[] { false }, 0, 1))
+        ), changes);
+    }
+
+    @Test
+    public void testAddAll() {
+        BoolListProperty list = new BoolListProperty(true, false);
+        var changes = trackChanges(list);
+
+        assertFalse(list.addAll(1, new boolean[0]));
+        assertTrue(list.addAll(1, new boolean[] { false, false, true, false }, 1, 2));
+
+        assertArrayEquals(new boolean[] { true, false, true, false }, list.toArray());
+        assertEquals(List.of(update(new BoolListChangeListener.LocalChange.Insertion(1, new boolean[] { false, true }, 0, 2))), changes);
+    }
+
+    @Test
+    public void testBatchedAppendsAreMerged() {
+        BoolListProperty list = new BoolListProperty();
+        var changes = trackChanges(list);
+
+        Quitte.batch(() -> {
+            for (int i = 0; i < 100; i++) list.add(true);
+            list.add(false);
+        });
+
+        assertEquals(101, list.size());
+        assertEquals(1, changes.size());
+
+        var localChanges = assertInstanceOf(BoolListChangeListener.Change.Update.class, changes.get(0)).localChanges();
+        assertEquals(1, localChanges.size());
+
+        var insertion = assertInstanceOf(BoolListChangeListener.LocalChange.Insertion.class, localChanges.get(0));
+        assertEquals(0, insertion.index());
+        assertEquals(101, insertion.length());
+        assertEquals(false, insertion.get(100));
+    }
+
+    @Test
+    public void testRemovalOfInsertedElementsIsNotReported() {
+        BoolListProperty list = new BoolListProperty(true);
+        var changes = trackChanges(list);
+
+        Quitte.batch(() -> {
+            list.add(false);
+            list.removeAt(1);
+        });
+
+        assertTrue(changes.isEmpty());
+    }
+
+    @Test
+    public void testRemoveAt() {
+        BoolListProperty list = new BoolListProperty(true, false, true);
+        var changes = trackChanges(list);
+
+        assertEquals(false, list.removeAt(1));
+
+        assertArrayEquals(new boolean[] { true, true }, list.toArray());
+        assertEquals(List.of(update(new BoolListChangeListener.LocalChange.Removal(1, new boolean[] { false }, 0, 1))), changes);
+    }
+
+    @Test
+    public void testRemoveRange() {
+        BoolListProperty list = new BoolListProperty(true, false, true, false);
+        var changes = trackChanges(list);
+
+        list.removeRange(1, 3);
+
+        assertArrayEquals(new boolean[] { true, false }, list.toArray());
+        assertEquals(List.of(update(new BoolListChangeListener.LocalChange.Removal(1, new boolean[] { false, true }, 0, 2))), changes);
+
+        list.clear();
+        assertTrue(list.isEmpty());
+        assertEquals(2, changes.size());
+    }
+
+    @Test
+    public void testSet() {
+        BoolListProperty list = new BoolListProperty(true, false);
+        var changes = trackChanges(list);
+
+        assertEquals(true, list.set(0, false));
+
+        assertArrayEquals(new boolean[] { false, false }, list.toArray());
+        assertEquals(List.of(update(new BoolListChangeListener.LocalChange.Update(0, new boolean[] { true }, new boolean[] { false }, 0, 1))), changes);
+    }
+
+    @Test
+    public void testSetAll() {
+        BoolListProperty list = new BoolListProperty(true, false);
+        var changes = trackChanges(list);
+
+        assertFalse(list.setAll(new boolean[] { true, false }));
+        assertTrue(changes.isEmpty());
+
+        assertTrue(list.setAll(new boolean[] { false, true }));
+        assertArrayEquals(new boolean[] { false, true }, list.toArray());
+        assertEquals(List.of(update(new BoolListChangeListener.LocalChange.Update(0, new boolean[] { true, false }, new boolean[] { false, true }, 0, 2))), changes);
+    }
+
+    @Test
+    public void testSort() {
+        BoolListProperty list = new BoolListProperty(true, false, false);
+        var changes = trackChanges(list);
+
+        list.sort();
+
+        assertArrayEquals(new boolean[] { false, false, true }, list.toArray());
+        assertEquals(List.of(new BoolListChangeListener.Change.Permutation(new int[] { 2, 0, 1 })), changes);
+
+        list.sort();
+        assertEquals(1, changes.size());
+    }
+
+    @Test
+    public void testSortInBatchWithOtherChanges() {
+        BoolListProperty list = new BoolListProperty(true, false, false);
+        var changes = trackChanges(list);
+
+        Quitte.batch(() -> {
+            list.sort();
+            list.set(0, list.get(0));
+        });
+
+        assertEquals(List.of(update(new BoolListChangeListener.LocalChange.Update(0, new boolean[] { true, false, false }, new boolean[] { false, false, true }, 0, 3))), changes);
+    }
+
+    @Test
+    public void testInvalidationListener() {
+        BoolListProperty list = new BoolListProperty();
+        List<Object> invalidations = new ArrayList<>();
+        list.addInvalidationListener(invalidations::add);
+
+        list.add(true);
+        assertEquals(List.of(list), invalidations);
+    }
+
+    @Test
+    public void testBindTo() {
+        BoolListProperty source = new BoolListProperty(true, false, false);
+        BoolListProperty property = new BoolListProperty();
+        property.bindTo(source);
+
+        assertTrue(property.isBound());
+        assertFalse(property.isWritable());
+        assertEquals(source, property);
+        assertThrows(IllegalStateException.class, () -> property.add(true));
+
+        source.add(1, false);
+        assertEquals(source, property);
+
+        source.sort();
+        assertEquals(source, property);
+
+        source.set(2, true);
+        source.removeRange(0, 2);
+        assertEquals(source, property);
+
+        property.unbind();
+        source.clear();
+        assertFalse(property.isEmpty());
+
+        property.add(true);
+    }
+
+    @Test
+    public void testReadOnlyProperty() {
+        BoolListProperty property = new BoolListProperty(true);
+        var readOnly = property.asReadOnlyProperty();
+
+        assertSame(readOnly, readOnly.asReadOnlyProperty());
+        assertEquals(property, readOnly);
+        assertThrows(UnsupportedOperationException.class, () -> readOnly.add(false));
+
+        property.add(false);
+        assertEquals(2, readOnly.size());
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,251 @@
+/*
+ * Copyright (c) 2018-2023 Leon Linhart,
+ * All rights reserved.
+ * MACHINE GENERATED FILE, DO NOT EDIT
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.osmerion.quitte.collections;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.osmerion.quitte.Quitte;
+import com.osmerion.quitte.property.ByteListProperty;
+import org.junit.jupiter.api.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Generated tests for {@link ObservableByteList}.
+ *
+ * @author  Leon Linhart
+ */
+public final class ObservableByteListGeneratedTest {
+
+    private static List<ByteListChangeListener.Change> trackChanges(ObservableByteList list) {
+        List<ByteListChangeListener.Change> changes = new ArrayList<>();
+        list.addChangeListener((observable, change) -> changes.add(change));
+
+        return changes;
+    }
+
+    private static ByteListChangeListener.Change update(ByteListChangeListener.LocalChange... localChanges) {
+        return new ByteListChangeListener.Change.Update(List.of(localChanges));
+    }
+
+    @Test
+    public void testAdd() {
+        ByteListProperty list = new ByteListProperty();
+        var changes = trackChanges(list);
+
+        list.add((byte) 1);
+        list.add(0, (byte) 2);
+
+        assertArrayEquals(new byte[] { (byte) 2, (byte) 1 }, list.toArray());
+        assertEquals(List.of(
+            update(new ByteListChangeListener.LocalChange.Insertion(0, new byte[] { (byte) 1 }, 0, 1)),
+            update(new ByteListChangeListener.LocalChange.Insertion(0, new byte[] { (byte) 2 }, 0, 1))
+        ), changes);
+    }
+
+    @Test
+    public void testAddAll() {
+        ByteListProperty list = new ByteListProperty((byte) 1, (byte) 4);
+        var changes = trackChanges(list);
+
+        assertFalse(list.addAll(1, new byte[0]));
+        assertTrue(list.addAll(1, new byte[] { (byte) 0, (byte) 2, (byte) 3, (byte) 0 }, 1, 2));
+
+        assertArrayEquals(new byte[] { (byte) 1, (byte) 2, (byte) 3, (byte) 4 }, list.toArray());
+        assertEquals(List.of(update(new ByteListChangeListener.LocalChange.Insertion(1, new byte[] { (byte) 2, (byte) 3 }, 0, 2))), changes);
+    }
+
+    @Test
+    public void testBatchedAppendsAreMerged() {
+        ByteListProperty list = new ByteListProperty();
+        var changes = trackChanges(list);
+
+        Quitte.batch(() -> {
+            for (int i = 0; i < 100; i++) list.add((byte) 1);
+            list.add((byte) 2);
+        });
+
+        assertEquals(101, list.size());
+        assertEquals(1, changes.size());
+
+        var localChanges = assertInstanceOf(ByteListChangeListener.Change.Update.class, changes.get(0)).localChanges();
+        assertEquals(1, localChanges.size());
+
+        var insertion = assertInstanceOf(ByteListChangeListener.LocalChange.Insertion.class, localChanges.get(0));
+        assertEquals(0, insertion.index());
+        assertEquals(101, insertion.length());
+        assertEquals((byte) 2, insertion.get(100));
+    }
+
+    @Test
+    public void testRemovalOfInsertedElementsIsNotReported() {
+        ByteListProperty list = new ByteListProperty((byte) 1);
+        var changes = trackChanges(list);
+
+        Quitte.batch(() -> {
+            list.add((byte) 2);
+            list.removeAt(1);
+        });
+
+        assertTrue(changes.isEmpty());
+    }
+
+    @Test
+    public void testRemoveAt() {
+        ByteListProperty list = new ByteListProperty((byte) 1, (byte) 2, (byte) 3);
+        var changes = trackChanges(list);
+
+        assertEquals((byte) 2, list.removeAt(1));
+
+        assertArrayEquals(new byte[] { (byte) 1, (byte) 3 }, list.toArray());
+        assertEquals(List.of(update(new ByteListChangeListener.LocalChange.Removal(1, new byte[] { (byte) 2 }, 0, 1))), changes);
+    }
+
+    @Test
+    public void testRemoveRange() {
+        ByteListProperty list = new ByteListProperty((byte) 1, (byte) 2, (byte) 3, (byte) 4);
+        var changes = trackChanges(list);
+
+        list.removeRange(1, 3);
+
+        assertArrayEquals(new byte[] { (byte) 1, (byte) 4 }, list.toArray());
+        assertEquals(List.of(update(new ByteListChangeListener.LocalChange.Removal(1, new byte[] { (byte) 2, (byte) 3 }, 0, 2))), changes);
+
+        list.clear();
+        assertTrue(list.isEmpty());
+        assertEquals(2, changes.size());
+    }
+
+    @Test
+    public void testSet() {
+        ByteListProperty list = new ByteListProperty((byte) 1, (byte) 2);
+        var changes = trackChanges(list);
+
+        assertEquals((byte) 1, list.set(0, (byte) 2));
+
+        assertArrayEquals(new byte[] { (byte) 2, (byte) 2 }, list.toArray());
+        assertEquals(List.of(update(new ByteListChangeListener.LocalChange.Update(0, new byte[] { (byte) 1 }, new byte[] { (byte) 2 }, 0, 1))), changes);
+    }
+
+    @Test
+    public void testSetAll() {
+        ByteListProperty list = new ByteListProperty((byte) 1, (byte) 2);
+        var changes = trackChanges(list);
+
+        assertFalse(list.setAll(new byte[] { (byte) 1, (byte) 2 }));
+        assertTrue(changes.isEmpty());
+
+        assertTrue(list.setAll(new byte[] { (byte) 2, (byte) 3 }));
+        assertArrayEquals(new byte[] { (byte) 2, (byte) 3 }, list.toArray());
+        assertEquals(List.of(update(new ByteListChangeListener.LocalChange.Update(0, new byte[] { (byte) 1, (byte) 2 }, new byte[] { (byte) 2, (byte) 3 }, 0, 2))), changes);
+    }
+
+    @Test
+    public void testSort() {
+        ByteListProperty list = new ByteListProperty((byte) 3, (byte) 1, (byte) 2);
+        var changes = trackChanges(list);
+
+        list.sort();
+
+        assertArrayEquals(new byte[] { (byte) 1, (byte) 2, (byte) 3 }, list.toArray());
+        assertEquals(List.of(new ByteListChangeListener.Change.Permutation(new int[] { 2, 0, 1 })), changes);
+
+        list.sort();
+        assertEquals(1, changes.size());
+    }
+
+    @Test
+    public void testSortInBatchWithOtherChanges() {
+        ByteListProperty list = new ByteListProperty((byte) 3, (byte) 1, (byte) 2);
+        var changes = trackChanges(list);
+
+        Quitte.batch(() -> {
+            list.sort();
+            list.set(0, list.get(0));
+        });
+
+        assertEquals(List.of(update(new ByteListChangeListener.LocalChange.Update(0, new byte[] { (byte) 3, (byte) 1, (byte) 2 }, new byte[] { (byte) 1, (byte) 2, (byte) 3 }, 0, 3))), changes);
+    }
+
+    @Test
+    public void testInvalidationListener() {
+        ByteListProperty list = new ByteListProperty();
+        List<Object> invalidations = new ArrayList<>();
+        list.addInvalidationListener(invalidations::add);
+
+        list.add((byte) 1);
+        assertEquals(List.of(list), invalidations);
+    }
+
+    @Test
+    public void testBindTo() {
+        ByteListProperty source = new ByteListProperty((byte) 3, (byte) 1, (byte) 2);
+        ByteListProperty property = new ByteListProperty();
+        property.bindTo(source);
+
+        assertTrue(property.isBound());
+        assertFalse(property.isWritable());
+        assertEquals(source, property);
+        assertThrows(IllegalStateException.class, () -> property.add((byte) 1));
+
+        source.add(1, (byte) 4);
+        assertEquals(source, property);
+
+        source.sort();
+        assertEquals(source, property);
+
+        source.set(2, (byte) 5);
+        source.removeRange(0, 2);
+        assertEquals(source, property);
+
+        property.unbind();
+        source.clear();
+        assertFalse(property.isEmpty());
+
+        property.add((byte) 1);
+    }
+
+    @Test
+    public void testReadOnlyProperty() {
+        ByteListProperty property = new ByteListProperty((byte) 1);
+        var readOnly = property.asReadOnlyProperty();
+
+        assertSame(readOnly, readOnly.asReadOnlyProperty());
+        assertEquals(property, readOnly);
+        assertThrows(UnsupportedOperationException.class, () -> readOnly.add((byte) 2));
+
+        property.add((byte) 2);
+        assertEquals(2, readOnly.size());
+    }
+
+}
\ No newline at end of file
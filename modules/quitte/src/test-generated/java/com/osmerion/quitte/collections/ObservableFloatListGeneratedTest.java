@@ -0,0 +1,251 @@
+/*
+ * Copyright (c) 2018-2023 Leon Linhart,
+ * All rights reserved.
+ * MACHINE GENERATED FILE, DO NOT EDIT
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.osmerion.quitte.collections;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.osmerion.quitte.Quitte;
+import com.osmerion.quitte.property.FloatListProperty;
+import org.junit.jupiter.api.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Generated tests for {@link ObservableFloatList}.
+ *
+ * @author  Leon Linhart
+ */
+public final class ObservableFloatListGeneratedTest {
+
+    private static List<FloatListChangeListener.Change> trackChanges(ObservableFloatList list) {
+        List<FloatListChangeListener.Change> changes = new ArrayList<>();
+        list.addChangeListener((observable, change) -> changes.add(change));
+
+        return changes;
+    }
+
+    private static FloatListChangeListener.Change update(FloatListChangeListener.LocalChange... localChanges) {
+        return new FloatListChangeListener.Change.Update(List.of(localChanges));
+    }
+
+    @Test
+    public void testAdd() {
+        FloatListProperty list = new FloatListProperty();
+        var changes = trackChanges(list);
+
+        list.add(1.0F);
+        list.add(0, 2.0F);
+
+        assertArrayEquals(new float[] { 2.0F, 1.0F }, list.toArray());
+        assertEquals(List.of(
+            update(new FloatListChangeListener.LocalChange.Insertion(0, new float[] { 1.0F }, 0, 1)),
+            update(new FloatListChangeListener.LocalChange.Insertion(0, new float[] { 2.0F }, 0, 1))
+        ), changes);
+    }
+
+    @Test
+    public void testAddAll() {
+        FloatListProperty list = new FloatListProperty(1.0F, 4.0F);
+        var changes = trackChanges(list);
+
+        assertFalse(list.addAll(1, new float[0]));
+        assertTrue(list.addAll(1, new float[] { 0.0F, 2.0F, 3.0F, 0.0F }, 1, 2));
+
+        assertArrayEquals(new float[] { 1.0F, 2.0F, 3.0F, 4.0F }, list.toArray());
+        assertEquals(List.of(update(new FloatListChangeListener.LocalChange.Insertion(1, new float[] { 2.0F, 3.0F }, 0, 2))), changes);
+    }
+
+    @Test
+    public void testBatchedAppendsAreMerged() {
+        FloatListProperty list = new FloatListProperty();
+        var changes = trackChanges(list);
+
+        Quitte.batch(() -> {
+            for (int i = 0; i < 100; i++) list.add(1.0F);
+            list.add(2.0F);
+        });
+
+        assertEquals(101, list.size());
+        assertEquals(1, changes.size());
+
+        var localChanges = assertInstanceOf(FloatListChangeListener.Change.Update.class, changes.get(0)).localChanges();
+        assertEquals(1, localChanges.size());
+
+        var insertion = assertInstanceOf(FloatListChangeListener.LocalChange.Insertion.class, localChanges.get(0));
+        assertEquals(0, insertion.index());
+        assertEquals(101, insertion.length());
+        assertEquals(2.0F, insertion.get(100));
+    }
+
+    @Test
+    public void testRemovalOfInsertedElementsIsNotReported() {
+        FloatListProperty list = new FloatListProperty(1.0F);
+        var changes = trackChanges(list);
+
+        Quitte.batch(() -> {
+            list.add(2.0F);
+            list.removeAt(1);
+        });
+
+        assertTrue(changes.isEmpty());
+    }
+
+    @Test
+    public void testRemoveAt() {
+        FloatListProperty list = new FloatListProperty(1.0F, 2.0F, 3.0F);
+        var changes = trackChanges(list);
+
+        assertEquals(2.0F, list.removeAt(1));
+
+        assertArrayEquals(new float[] { 1.0F, 3.0F }, list.toArray());
+        assertEquals(List.of(update(new FloatListChangeListener.LocalChange.Removal(1, new float[] { 2.0F }, 0, 1))), changes);
+    }
+
+    @Test
+    public void testRemoveRange() {
+        FloatListProperty list = new FloatListProperty(1.0F, 2.0F, 3.0F, 4.0F);
+        var changes = trackChanges(list);
+
+        list.removeRange(1, 3);
+
+        assertArrayEquals(new float[] { 1.0F, 4.0F }, list.toArray());
+        assertEquals(List.of(update(new FloatListChangeListener.LocalChange.Removal(1, new float[] { 2.0F, 3.0F }, 0, 2))), changes);
+
+        list.clear();
+        assertTrue(list.isEmpty());
+        assertEquals(2, changes.size());
+    }
+
+    @Test
+    public void testSet() {
+        FloatListProperty list = new FloatListProperty(1.0F, 2.0F);
+        var changes = trackChanges(list);
+
+        assertEquals(1.0F, list.set(0, 2.0F));
+
+        assertArrayEquals(new float[] { 2.0F, 2.0F }, list.toArray());
+        assertEquals(List.of(update(new FloatListChangeListener.LocalChange.Update(0, new float[] { 1.0F }, new float[] { 2.0F }, 0, 1))), changes);
+    }
+
+    @Test
+    public void testSetAll() {
+        FloatListProperty list = new FloatListProperty(1.0F, 2.0F);
+        var changes = trackChanges(list);
+
+        assertFalse(list.setAll(new float[] { 1.0F, 2.0F }));
+        assertTrue(changes.isEmpty());
+
+        assertTrue(list.setAll(new float[] { 2.0F, 3.0F }));
+        assertArrayEquals(new float[] { 2.0F, 3.0F }, list.toArray());
+        assertEquals(List.of(update(new FloatListChangeListener.LocalChange.Update(0, new float[] { 1.0F, 2.0F }, new float[] { 2.0F, 3.0F }, 0, 2))), changes);
+    }
+
+    @Test
+    public void testSort() {
+        FloatListProperty list = new FloatListProperty(3.0F, 1.0F, 2.0F);
+        var changes = trackChanges(list);
+
+        list.sort();
+
+        assertArrayEquals(new float[] { 1.0F, 2.0F, 3.0F }, list.toArray());
+        assertEquals(List.of(new FloatListChangeListener.Change.Permutation(new int[] { 2, 0, 1 })), changes);
+
+        list.sort();
+        assertEquals(1, changes.size());
+    }
+
+    @Test
+    public void testSortInBatchWithOtherChanges() {
+        FloatListProperty list = new FloatListProperty(3.0F, 1.0F, 2.0F);
+        var changes = trackChanges(list);
+
+        Quitte.batch(() -> {
+            list.sort();
+            list.set(0, list.get(0));
+        });
+
+        assertEquals(List.of(update(new FloatListChangeListener.LocalChange.Update(0, new float[] { 3.0F, 1.0F, 2.0F }, new float[] { 1.0F, 2.0F, 3.0F }, 0, 3))), changes);
+    }
+
+    @Test
+    public void testInvalidationListener() {
+        FloatListProperty list = new FloatListProperty();
+        List<Object> invalidations = new ArrayList<>();
+        list.addInvalidationListener(invalidations::add);
+
+        list.add(1.0F);
+        assertEquals(List.of(list), invalidations);
+    }
+
+    @Test
+    public void testBindTo() {
+        FloatListProperty source = new FloatListProperty(3.0F, 1.0F, 2.0F);
+        FloatListProperty property = new FloatListProperty();
+        property.bindTo(source);
+
+        assertTrue(property.isBound());
+        assertFalse(property.isWritable());
+        assertEquals(source, property);
+        assertThrows(IllegalStateException.class, () -> property.add(1.0F));
+
+        source.add(1, 4.0F);
+        assertEquals(source, property);
+
+        source.sort();
+        assertEquals(source, property);
+
+        source.set(2, 5.0F);
+        source.removeRange(0, 2);
+        assertEquals(source, property);
+
+        property.unbind();
+        source.clear();
+        assertFalse(property.isEmpty());
+
+        property.add(1.0F);
+    }
+
+    @Test
+    public void testReadOnlyProperty() {
+        FloatListProperty property = new FloatListProperty(1.0F);
+        var readOnly = property.asReadOnlyProperty();
+
+        assertSame(readOnly, readOnly.asReadOnlyProperty());
+        assertEquals(property, readOnly);
+        assertThrows(UnsupportedOperationException.class, () -> readOnly.add(2.0F));
+
+        property.add(2.0F);
+        assertEquals(2, readOnly.size());
+    }
+
+}
\ No newline at end of file
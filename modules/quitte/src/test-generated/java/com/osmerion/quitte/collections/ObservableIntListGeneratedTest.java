@@ -0,0 +1,251 @@
+/*
+ * Copyright (c) 2018-2023 Leon Linhart,
+ * All rights reserved.
+ * MACHINE GENERATED FILE, DO NOT EDIT
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.osmerion.quitte.collections;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.osmerion.quitte.Quitte;
+import com.osmerion.quitte.property.IntListProperty;
+import org.junit.jupiter.api.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Generated tests for {@link ObservableIntList}.
+ *
+ * @author  Leon Linhart
+ */
+public final class ObservableIntListGeneratedTest {
+
+    private static List<IntListChangeListener.Change> trackChanges(ObservableIntList list) {
+        List<IntListChangeListener.Change> changes = new ArrayList<>();
+        list.addChangeListener((observable, change) -> changes.add(change));
+
+        return changes;
+    }
+
+    private static IntListChangeListener.Change update(IntListChangeListener.LocalChange... localChanges) {
+        return new IntListChangeListener.Change.Update(List.of(localChanges));
+    }
+
+    @Test
+    public void testAdd() {
+        IntListProperty list = new IntListProperty();
+        var changes = trackChanges(list);
+
+        list.add(1);
+        list.add(0, 2);
+
+        assertArrayEquals(new int[] { 2, 1 }, list.toArray());
+        assertEquals(List.of(
+            update(new IntListChangeListener.LocalChange.Insertion(0, new int[] { 1 }, 0, 1)),
+            update(new IntListChangeListener.LocalChange.Insertion(0, new int[] { 2 }, 0, 1))
+        ), changes);
+    }
+
+    @Test
+    public void testAddAll() {
+        IntListProperty list = new IntListProperty(1, 4);
+        var changes = trackChanges(list);
+
+        assertFalse(list.addAll(1, new int[0]));
+        assertTrue(list.addAll(1, new int[] { 0, 2, 3, 0 }, 1, 2));
+
+        assertArrayEquals(new int[] { 1, 2, 3, 4 }, list.toArray());
+        assertEquals(List.of(update(new IntListChangeListener.LocalChange.Insertion(1, new int[] { 2, 3 }, 0, 2))), changes);
+    }
+
+    @Test
+    public void testBatchedAppendsAreMerged() {
+        IntListProperty list = new IntListProperty();
+        var changes = trackChanges(list);
+
+        Quitte.batch(() -> {
+            for (int i = 0; i < 100; i++) list.add(1);
+            list.add(2);
+        });
+
+        assertEquals(101, list.size());
+        assertEquals(1, changes.size());
+
+        var localChanges = assertInstanceOf(IntListChangeListener.Change.Update.class, changes.get(0)).localChanges();
+        assertEquals(1, localChanges.size());
+
+        var insertion = assertInstanceOf(IntListChangeListener.LocalChange.Insertion.class, localChanges.get(0));
+        assertEquals(0, insertion.index());
+        assertEquals(101, insertion.length());
+        assertEquals(2, insertion.get(100));
+    }
+
+    @Test
+    public void testRemovalOfInsertedElementsIsNotReported() {
+        IntListProperty list = new IntListProperty(1);
+        var changes = trackChanges(list);
+
+        Quitte.batch(() -> {
+            list.add(2);
+            list.removeAt(1);
+        });
+
+        assertTrue(changes.isEmpty());
+    }
+
+    @Test
+    public void testRemoveAt() {
+        IntListProperty list = new IntListProperty(1, 2, 3);
+        var changes = trackChanges(list);
+
+        assertEquals(2, list.removeAt(1));
+
+        assertArrayEquals(new int[] { 1, 3 }, list.toArray());
+        assertEquals(List.of(update(new IntListChangeListener.LocalChange.Removal(1, new int[] { 2 }, 0, 1))), changes);
+    }
+
+    @Test
+    public void testRemoveRange() {
+        IntListProperty list = new IntListProperty(1, 2, 3, 4);
+        var changes = trackChanges(list);
+
+        list.removeRange(1, 3);
+
+        assertArrayEquals(new int[] { 1, 4 }, list.toArray());
+        assertEquals(List.of(update(new IntListChangeListener.LocalChange.Removal(1, new int[] { 2, 3 }, 0, 2))), changes);
+
+        list.clear();
+        assertTrue(list.isEmpty());
+        assertEquals(2, changes.size());
+    }
+
+    @Test
+    public void testSet() {
+        IntListProperty list = new IntListProperty(1, 2);
+        var changes = trackChanges(list);
+
+        assertEquals(1, list.set(0, 2));
+
+        assertArrayEquals(new int[] { 2, 2 }, list.toArray());
+        assertEquals(List.of(update(new IntListChangeListener.LocalChange.Update(0, new int[] { 1 }, new int[] { 2 }, 0, 1))), changes);
+    }
+
+    @Test
+    public void testSetAll() {
+        IntListProperty list = new IntListProperty(1, 2);
+        var changes = trackChanges(list);
+
+        assertFalse(list.setAll(new int[] { 1, 2 }));
+        assertTrue(changes.isEmpty());
+
+        assertTrue(list.setAll(new int[] { 2, 3 }));
+        assertArrayEquals(new int[] { 2, 3 }, list.toArray());
+        assertEquals(List.of(update(new IntListChangeListener.LocalChange.Update(0, new int[] { 1, 2 }, new int[] { 2, 3 }, 0, 2))), changes);
+    }
+
+    @Test
+    public void testSort() {
+        IntListProperty list = new IntListProperty(3, 1, 2);
+        var changes = trackChanges(list);
+
+        list.sort();
+
+        assertArrayEquals(new int[] { 1, 2, 3 }, list.toArray());
+        assertEquals(List.of(new IntListChangeListener.Change.Permutation(new int[] { 2, 0, 1 })), changes);
+
+        list.sort();
+        assertEquals(1, changes.size());
+    }
+
+    @Test
+    public void testSortInBatchWithOtherChanges() {
+        IntListProperty list = new IntListProperty(3, 1, 2);
+        var changes = trackChanges(list);
+
+        Quitte.batch(() -> {
+            list.sort();
+            list.set(0, list.get(0));
+        });
+
+        assertEquals(List.of(update(new IntListChangeListener.LocalChange.Update(0, new int[] { 3, 1, 2 }, new int[] { 1, 2, 3 }, 0, 3))), changes);
+    }
+
+    @Test
+    public void testInvalidationListener() {
+        IntListProperty list = new IntListProperty();
+        List<Object> invalidations = new ArrayList<>();
+        list.addInvalidationListener(invalidations::add);
+
+        list.add(1);
+        assertEquals(List.of(list), invalidations);
+    }
+
+    @Test
+    public void testBindTo() {
+        IntListProperty source = new IntListProperty(3, 1, 2);
+        IntListProperty property = new IntListProperty();
+        property.bindTo(source);
+
+        assertTrue(property.isBound());
+        assertFalse(property.isWritable());
+        assertEquals(source, property);
+        assertThrows(IllegalStateException.class, () -> property.add(1));
+
+        source.add(1, 4);
+        assertEquals(source, property);
+
+        source.sort();
+        assertEquals(source, property);
+
+        source.set(2, 5);
+        source.removeRange(0, 2);
+        assertEquals(source, property);
+
+        property.unbind();
+        source.clear();
+        assertFalse(property.isEmpty());
+
+        property.add(1);
+    }
+
+    @Test
+    public void testReadOnlyProperty() {
+        IntListProperty property = new IntListProperty(1);
+        var readOnly = property.asReadOnlyProperty();
+
+        assertSame(readOnly, readOnly.asReadOnlyProperty());
+        assertEquals(property, readOnly);
+        assertThrows(UnsupportedOperationException.class, () -> readOnly.add(2));
+
+        property.add(2);
+        assertEquals(2, readOnly.size());
+    }
+
+}
\ No newline at end of file
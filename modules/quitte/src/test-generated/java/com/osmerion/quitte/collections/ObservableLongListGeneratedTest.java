@@ -0,0 +1,251 @@
+/*
+ * Copyright (c) 2018-2023 Leon Linhart,
+ * All rights reserved.
+ * MACHINE GENERATED FILE, DO NOT EDIT
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.osmerion.quitte.collections;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.osmerion.quitte.Quitte;
+import com.osmerion.quitte.property.LongListProperty;
+import org.junit.jupiter.api.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Generated tests for {@link ObservableLongList}.
+ *
+ * @author  Leon Linhart
+ */
+public final class ObservableLongListGeneratedTest {
+
+    private static List<LongListChangeListener.Change> trackChanges(ObservableLongList list) {
+        List<LongListChangeListener.Change> changes = new ArrayList<>();
+        list.addChangeListener((observable, change) -> changes.add(change));
+
+        return changes;
+    }
+
+    private static LongListChangeListener.Change update(LongListChangeListener.LocalChange... localChanges) {
+        return new LongListChangeListener.Change.Update(List.of(localChanges));
+    }
+
+    @Test
+    public void testAdd() {
+        LongListProperty list = new LongListProperty();
+        var changes = trackChanges(list);
+
+        list.add(1L);
+        list.add(0, 2L);
+
+        assertArrayEquals(new long[] { 2L, 1L }, list.toArray());
+        assertEquals(List.of(
+            update(new LongListChangeListener.LocalChange.Insertion(0, new long[] { 1L }, 0, 1)),
+            update(new LongListChangeListener.LocalChange.Insertion(0, new long[] { 2L }, 0, 1))
+        ), changes);
+    }
+
+    @Test
+    public void testAddAll() {
+        LongListProperty list = new LongListProperty(1L, 4L);
+        var changes = trackChanges(list);
+
+        assertFalse(list.addAll(1, new long[0]));
+        assertTrue(list.addAll(1, new long[] { 0L, 2L, 3L, 0L }, 1, 2));
+
+        assertArrayEquals(new long[] { 1L, 2L, 3L, 4L }, list.toArray());
+        assertEquals(List.of(update(new LongListChangeListener.LocalChange.Insertion(1, new long[] { 2L, 3L }, 0, 2))), changes);
+    }
+
+    @Test
+    public void testBatchedAppendsAreMerged() {
+        LongListProperty list = new LongListProperty();
+        var changes = trackChanges(list);
+
+        Quitte.batch(() -> {
+            for (int i = 0; i < 100; i++) list.add(1L);
+            list.add(2L);
+        });
+
+        assertEquals(101, list.size());
+        assertEquals(1, changes.size());
+
+        var localChanges = assertInstanceOf(LongListChangeListener.Change.Update.class, changes.get(0)).localChanges();
+        assertEquals(1, localChanges.size());
+
+        var insertion = assertInstanceOf(LongListChangeListener.LocalChange.Insertion.class, localChanges.get(0));
+        assertEquals(0, insertion.index());
+        assertEquals(101, insertion.length());
+        assertEquals(2L, insertion.get(100));
+    }
+
+    @Test
+    public void testRemovalOfInsertedElementsIsNotReported() {
+        LongListProperty list = new LongListProperty(1L);
+        var changes = trackChanges(list);
+
+        Quitte.batch(() -> {
+            list.add(2L);
+            list.removeAt(1);
+        });
+
+        assertTrue(changes.isEmpty());
+    }
+
+    @Test
+    public void testRemoveAt() {
+        LongListProperty list = new LongListProperty(1L, 2L, 3L);
+        var changes = trackChanges(list);
+
+        assertEquals(2L, list.removeAt(1));
+
+        assertArrayEquals(new long[] { 1L, 3L }, list.toArray());
+        assertEquals(List.of(update(new LongListChangeListener.LocalChange.Removal(1, new long[] { 2L }, 0, 1))), changes);
+    }
+
+    @Test
+    public void testRemoveRange() {
+        LongListProperty list = new LongListProperty(1L, 2L, 3L, 4L);
+        var changes = trackChanges(list);
+
+        list.removeRange(1, 3);
+
+        assertArrayEquals(new long[] { 1L, 4L }, list.toArray());
+        assertEquals(List.of(update(new LongListChangeListener.LocalChange.Removal(1, new long[] { 2L, 3L }, 0, 2))), changes);
+
+        list.clear();
+        assertTrue(list.isEmpty());
+        assertEquals(2, changes.size());
+    }
+
+    @Test
+    public void testSet() {
+        LongListProperty list = new LongListProperty(1L, 2L);
+        var changes = trackChanges(list);
+
+        assertEquals(1L, list.set(0, 2L));
+
+        assertArrayEquals(new long[] { 2L, 2L }, list.toArray());
+        assertEquals(List.of(update(new LongListChangeListener.LocalChange.Update(0, new long[] { 1L }, new long[] { 2L }, 0, 1))), changes);
+    }
+
+    @Test
+    public void testSetAll() {
+        LongListProperty list = new LongListProperty(1L, 2L);
+        var changes = trackChanges(list);
+
+        assertFalse(list.setAll(new long[] { 1L, 2L }));
+        assertTrue(changes.isEmpty());
+
+        assertTrue(list.setAll(new long[] { 2L, 3L }));
+        assertArrayEquals(new long[] { 2L, 3L }, list.toArray());
+        assertEquals(List.of(update(new LongListChangeListener.LocalChange.Update(0, new long[] { 1L, 2L }, new long[] { 2L, 3L }, 0, 2))), changes);
+    }
+
+    @Test
+    public void testSort() {
+        LongListProperty list = new LongListProperty(3L, 1L, 2L);
+        var changes = trackChanges(list);
+
+        list.sort();
+
+        assertArrayEquals(new long[] { 1L, 2L, 3L }, list.toArray());
+        assertEquals(List.of(new LongListChangeListener.Change.Permutation(new int[] { 2, 0, 1 })), changes);
+
+        list.sort();
+        assertEquals(1, changes.size());
+    }
+
+    @Test
+    public void testSortInBatchWithOtherChanges() {
+        LongListProperty list = new LongListProperty(3L, 1L, 2L);
+        var changes = trackChanges(list);
+
+        Quitte.batch(() -> {
+            list.sort();
+            list.set(0, list.get(0));
+        });
+
+        assertEquals(List.of(update(new LongListChangeListener.LocalChange.Update(0, new long[] { 3L, 1L, 2L }, new long[] { 1L, 2L, 3L }, 0, 3))), changes);
+    }
+
+    @Test
+    public void testInvalidationListener() {
+        LongListProperty list = new LongListProperty();
+        List<Object> invalidations = new ArrayList<>();
+        list.addInvalidationListener(invalidations::add);
+
+        list.add(1L);
+        assertEquals(List.of(list), invalidations);
+    }
+
+    @Test
+    public void testBindTo() {
+        LongListProperty source = new LongListProperty(3L, 1L, 2L);
+        LongListProperty property = new LongListProperty();
+        property.bindTo(source);
+
+        assertTrue(property.isBound());
+        assertFalse(property.isWritable());
+        assertEquals(source, property);
+        assertThrows(IllegalStateException.class, () -> property.add(1L));
+
+        source.add(1, 4L);
+        assertEquals(source, property);
+
+        source.sort();
+        assertEquals(source, property);
+
+        source.set(2, 5L);
+        source.removeRange(0, 2);
+        assertEquals(source, property);
+
+        property.unbind();
+        source.clear();
+        assertFalse(property.isEmpty());
+
+        property.add(1L);
+    }
+
+    @Test
+    public void testReadOnlyProperty() {
+        LongListProperty property = new LongListProperty(1L);
+        var readOnly = property.asReadOnlyProperty();
+
+        assertSame(readOnly, readOnly.asReadOnlyProperty());
+        assertEquals(property, readOnly);
+        assertThrows(UnsupportedOperationException.class, () -> readOnly.add(2L));
+
+        property.add(2L);
+        assertEquals(2, readOnly.size());
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,251 @@
+/*
+ * Copyright (c) 2018-2023 Leon Linhart,
+ * All rights reserved.
+ * MACHINE GENERATED FILE, DO NOT EDIT
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.osmerion.quitte.collections;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.osmerion.quitte.Quitte;
+import com.osmerion.quitte.property.ShortListProperty;
+import org.junit.jupiter.api.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Generated tests for {@link ObservableShortList}.
+ *
+ * @author  Leon Linhart
+ */
+public final class ObservableShortListGeneratedTest {
+
+    private static List<ShortListChangeListener.Change> trackChanges(ObservableShortList list) {
+        List<ShortListChangeListener.Change> changes = new ArrayList<>();
+        list.addChangeListener((observable, change) -> changes.add(change));
+
+        return changes;
+    }
+
+    private static ShortListChangeListener.Change update(ShortListChangeListener.LocalChange... localChanges) {
+        return new ShortListChangeListener.Change.Update(List.of(localChanges));
+    }
+
+    @Test
+    public void testAdd() {
+        ShortListProperty list = new ShortListProperty();
+        var changes = trackChanges(list);
+
+        list.add((short) 1);
+        list.add(0, (short) 2);
+
+        assertArrayEquals(new short[] { (short) 2, (short) 1 }, list.toArray());
+        assertEquals(List.of(
+            update(new ShortListChangeListener.LocalChange.Insertion(0, new short[] { (short) 1 }, 0, 1)),
+            update(new ShortListChangeListener.LocalChange.Insertion(0, new short[] { (short) 2 }, 0, 1))
+        ), changes);
+    }
+
+    @Test
+    public void testAddAll() {
+        ShortListProperty list = new ShortListProperty((short) 1, (short) 4);
+        var changes = trackChanges(list);
+
+        assertFalse(list.addAll(1, new short[0]));
+        assertTrue(list.addAll(1, new short[] { (short) 0, (short) 2, (short) 3, (short) 0 }, 1, 2));
+
+        assertArrayEquals(new short[] { (short) 1, (short) 2, (short) 3, (short) 4 }, list.toArray());
+        assertEquals(List.of(update(new ShortListChangeListener.LocalChange.Insertion(1, new short[] { (short) 2, (short) 3 }, 0, 2))), changes);
+    }
+
+    @Test
+    public void testBatchedAppendsAreMerged() {
+        ShortListProperty list = new ShortListProperty();
+        var changes = trackChanges(list);
+
+        Quitte.batch(() -> {
+            for (int i = 0; i < 100; i++) list.add((short) 1);
+            list.add((short) 2);
+        });
+
+        assertEquals(101, list.size());
+        assertEquals(1, changes.size());
+
+        var localChanges = assertInstanceOf(ShortListChangeListener.Change.Update.class, changes.get(0)).localChanges();
+        assertEquals(1, localChanges.size());
+
+        var insertion = assertInstanceOf(ShortListChangeListener.LocalChange.Insertion.class, localChanges.get(0));
+        assertEquals(0, insertion.index());
+        assertEquals(101, insertion.length());
+        assertEquals((short) 2, insertion.get(100));
+    }
+
+    @Test
+    public void testRemovalOfInsertedElementsIsNotReported() {
+        ShortListProperty list = new ShortListProperty((short) 1);
+        var changes = trackChanges(list);
+
+        Quitte.batch(() -> {
+            list.add((short) 2);
+            list.removeAt(1);
+        });
+
+        assertTrue(changes.isEmpty());
+    }
+
+    @Test
+    public void testRemoveAt() {
+        ShortListProperty list = new ShortListProperty((short) 1, (short) 2, (short) 3);
+        var changes = trackChanges(list);
+
+        assertEquals((short) 2, list.removeAt(1));
+
+        assertArrayEquals(new short[] { (short) 1, (short) 3 }, list.toArray());
+        assertEquals(List.of(update(new ShortListChangeListener.LocalChange.Removal(1, new short[] { (short) 2 }, 0, 1))), changes);
+    }
+
+    @Test
+    public void testRemoveRange() {
+        ShortListProperty list = new ShortListProperty((short) 1, (short) 2, (short) 3, (short) 4);
+        var changes = trackChanges(list);
+
+        list.removeRange(1, 3);
+
+        assertArrayEquals(new short[] { (short) 1, (short) 4 }, list.toArray());
+        assertEquals(List.of(update(new ShortListChangeListener.LocalChange.Removal(1, new short[] { (short) 2, (short) 3 }, 0, 2))), changes);
+
+        list.clear();
+        assertTrue(list.isEmpty());
+        assertEquals(2, changes.size());
+    }
+
+    @Test
+    public void testSet() {
+        ShortListProperty list = new ShortListProperty((short) 1, (short) 2);
+        var changes = trackChanges(list);
+
+        assertEquals((short) 1, list.set(0, (short) 2));
+
+        assertArrayEquals(new short[] { (short) 2, (short) 2 }, list.toArray());
+        assertEquals(List.of(update(new ShortListChangeListener.LocalChange.Update(0, new short[] { (short) 1 }, new short[] { (short) 2 }, 0, 1))), changes);
+    }
+
+    @Test
+    public void testSetAll() {
+        ShortListProperty list = new ShortListProperty((short) 1, (short) 2);
+        var changes = trackChanges(list);
+
+        assertFalse(list.setAll(new short[] { (short) 1, (short) 2 }));
+        assertTrue(changes.isEmpty());
+
+        assertTrue(list.setAll(new short[] { (short) 2, (short) 3 }));
+        assertArrayEquals(new short[] { (short) 2, (short) 3 }, list.toArray());
+        assertEquals(List.of(update(new ShortListChangeListener.LocalChange.Update(0, new short[] { (short) 1, (short) 2 }, new short[] { (short) 2, (short) 3 }, 0, 2))), changes);
+    }
+
+    @Test
+    public void testSort() {
+        ShortListProperty list = new ShortListProperty((short) 3, (short) 1, (short) 2);
+        var changes = trackChanges(list);
+
+        list.sort();
+
+        assertArrayEquals(new short[] { (short) 1, (short) 2, (short) 3 }, list.toArray());
+        assertEquals(List.of(new ShortListChangeListener.Change.Permutation(new int[] { 2, 0, 1 })), changes);
+
+        list.sort();
+        assertEquals(1, changes.size());
+    }
+
+    @Test
+    public void testSortInBatchWithOtherChanges() {
+        ShortListProperty list = new ShortListProperty((short) 3, (short) 1, (short) 2);
+        var changes = trackChanges(list);
+
+        Quitte.batch(() -> {
+            list.sort();
+            list.set(0, list.get(0));
+        });
+
+        assertEquals(List.of(update(new ShortListChangeListener.LocalChange.Update(0, new short[] { (short) 3, (short) 1, (short) 2 }, new short[] { (short) 1, (short) 2, (short) 3 }, 0, 3))), changes);
+    }
+
+    @Test
+    public void testInvalidationListener() {
+        ShortListProperty list = new ShortListProperty();
+        List<Object> invalidations = new ArrayList<>();
+        list.addInvalidationListener(invalidations::add);
+
+        list.add((short) 1);
+        assertEquals(List.of(list), invalidations);
+    }
+
+    @Test
+    public void testBindTo() {
+        ShortListProperty source = new ShortListProperty((short) 3, (short) 1, (short) 2);
+        ShortListProperty property = new ShortListProperty();
+        property.bindTo(source);
+
+        assertTrue(property.isBound());
+        assertFalse(property.isWritable());
+        assertEquals(source, property);
+        assertThrows(IllegalStateException.class, () -> property.add((short) 1));
+
+        source.add(1, (short) 4);
+        assertEquals(source, property);
+
+        source.sort();
+        assertEquals(source, property);
+
+        source.set(2, (short) 5);
+        source.removeRange(0, 2);
+        assertEquals(source, property);
+
+        property.unbind();
+        source.clear();
+        assertFalse(property.isEmpty());
+
+        property.add((short) 1);
+    }
+
+    @Test
+    public void testReadOnlyProperty() {
+        ShortListProperty property = new ShortListProperty((short) 1);
+        var readOnly = property.asReadOnlyProperty();
+
+        assertSame(readOnly, readOnly.asReadOnlyProperty());
+        assertEquals(property, readOnly);
+        assertThrows(UnsupportedOperationException.class, () -> readOnly.add((short) 2));
+
+        property.add((short) 2);
+        assertEquals(2, readOnly.size());
+    }
+
+}
\ No newline at end of file
@@ -67,6 +67,36 @@ public final class SimpleBoolExpressionGeneratedTest {
         assertEquals(TestValues.BoolValue_H, expression.get());
     }
 
+    @Test
+    public void testCombineUpdateGetConsistency() {
+        SimpleBoolProperty a = new SimpleBoolProperty(TestValues.BoolValue_L);
+        SimpleBoolProperty b = new SimpleBoolProperty(TestValues.BoolValue_L);
+        SimpleBoolExpression expression = SimpleBoolExpression.combine(a, b, (x, y) -> y);
+        assertEquals(TestValues.BoolValue_L, expression.get());
+
+        b.set(TestValues.BoolValue_H);
+        assertEquals(TestValues.BoolValue_H, expression.get());
+    }
+
+    @Test
+    public void testCombineFourUpdateGetConsistency() {
+        SimpleBoolProperty a = new SimpleBoolProperty(TestValues.BoolValue_L);
+        SimpleBoolProperty b = new SimpleBoolProperty(TestValues.BoolValue_L);
+        SimpleBoolProperty c = new SimpleBoolProperty(TestValues.BoolValue_L);
+        SimpleBoolProperty d = new SimpleBoolProperty(TestValues.BoolValue_L);
+        SimpleBoolExpression expression = SimpleBoolExpression.combine(a, b, c, d, (w, x, y, z) -> z);
+        AtomicInteger callCounter = new AtomicInteger(0);
+        expression.addInvalidationListener(observable -> callCounter.getAndIncrement());
+
+        c.set(TestValues.BoolValue_H);
+        assertEquals(TestValues.BoolValue_L, expression.get());
+        assertEquals(0, callCounter.get());
+
+        d.set(TestValues.BoolValue_H);
+        assertEquals(TestValues.BoolValue_H, expression.get());
+        assertEquals(1, callCounter.get());
+    }
+
     @Test
     public void testChangeListenerBoxAttachDetach() {
         var property = new SimpleBoolProperty(TestValues.BoolValue_H);
@@ -67,6 +67,36 @@ public final class SimpleByteExpressionGeneratedTest {
         assertEquals(TestValues.ByteValue_H, expression.get());
     }
 
+    @Test
+    public void testCombineUpdateGetConsistency() {
+        SimpleByteProperty a = new SimpleByteProperty(TestValues.ByteValue_L);
+        SimpleByteProperty b = new SimpleByteProperty(TestValues.ByteValue_L);
+        SimpleByteExpression expression = SimpleByteExpression.combine(a, b, (x, y) -> y);
+        assertEquals(TestValues.ByteValue_L, expression.get());
+
+        b.set(TestValues.ByteValue_H);
+        assertEquals(TestValues.ByteValue_H, expression.get());
+    }
+
+    @Test
+    public void testCombineFourUpdateGetConsistency() {
+        SimpleByteProperty a = new SimpleByteProperty(TestValues.ByteValue_L);
+        SimpleByteProperty b = new SimpleByteProperty(TestValues.ByteValue_L);
+        SimpleByteProperty c = new SimpleByteProperty(TestValues.ByteValue_L);
+        SimpleByteProperty d = new SimpleByteProperty(TestValues.ByteValue_L);
+        SimpleByteExpression expression = SimpleByteExpression.combine(a, b, c, d, (w, x, y, z) -> z);
+        AtomicInteger callCounter = new AtomicInteger(0);
+        expression.addInvalidationListener(observable -> callCounter.getAndIncrement());
+
+        c.set(TestValues.ByteValue_H);
+        assertEquals(TestValues.ByteValue_L, expression.get());
+        assertEquals(0, callCounter.get());
+
+        d.set(TestValues.ByteValue_H);
+        assertEquals(TestValues.ByteValue_H, expression.get());
+        assertEquals(1, callCounter.get());
+    }
+
     @Test
     public void testChangeListenerBoxAttachDetach() {
         var property = new SimpleByteProperty(TestValues.ByteValue_H);
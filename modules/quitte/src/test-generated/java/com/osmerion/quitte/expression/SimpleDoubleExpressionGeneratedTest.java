@@ -67,6 +67,36 @@ public final class SimpleDoubleExpressionGeneratedTest {
         assertEquals(TestValues.DoubleValue_H, expression.get());
     }
 
+    @Test
+    public void testCombineUpdateGetConsistency() {
+        SimpleDoubleProperty a = new SimpleDoubleProperty(TestValues.DoubleValue_L);
+        SimpleDoubleProperty b = new SimpleDoubleProperty(TestValues.DoubleValue_L);
+        SimpleDoubleExpression expression = SimpleDoubleExpression.combine(a, b, (x, y) -> y);
+        assertEquals(TestValues.DoubleValue_L, expression.get());
+
+        b.set(TestValues.DoubleValue_H);
+        assertEquals(TestValues.DoubleValue_H, expression.get());
+    }
+
+    @Test
+    public void testCombineFourUpdateGetConsistency() {
+        SimpleDoubleProperty a = new SimpleDoubleProperty(TestValues.DoubleValue_L);
+        SimpleDoubleProperty b = new SimpleDoubleProperty(TestValues.DoubleValue_L);
+        SimpleDoubleProperty c = new SimpleDoubleProperty(TestValues.DoubleValue_L);
+        SimpleDoubleProperty d = new SimpleDoubleProperty(TestValues.DoubleValue_L);
+        SimpleDoubleExpression expression = SimpleDoubleExpression.combine(a, b, c, d, (w, x, y, z) -> z);
+        AtomicInteger callCounter = new AtomicInteger(0);
+        expression.addInvalidationListener(observable -> callCounter.getAndIncrement());
+
+        c.set(TestValues.DoubleValue_H);
+        assertEquals(TestValues.DoubleValue_L, expression.get());
+        assertEquals(0, callCounter.get());
+
+        d.set(TestValues.DoubleValue_H);
+        assertEquals(TestValues.DoubleValue_H, expression.get());
+        assertEquals(1, callCounter.get());
+    }
+
     @Test
     public void testChangeListenerBoxAttachDetach() {
         var property = new SimpleDoubleProperty(TestValues.DoubleValue_H);
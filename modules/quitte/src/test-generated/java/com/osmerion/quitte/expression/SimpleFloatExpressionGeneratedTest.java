@@ -67,6 +67,36 @@ public final class SimpleFloatExpressionGeneratedTest {
         assertEquals(TestValues.FloatValue_H, expression.get());
     }
 
+    @Test
+    public void testCombineUpdateGetConsistency() {
+        SimpleFloatProperty a = new SimpleFloatProperty(TestValues.FloatValue_L);
+        SimpleFloatProperty b = new SimpleFloatProperty(TestValues.FloatValue_L);
+        SimpleFloatExpression expression = SimpleFloatExpression.combine(a, b, (x, y) -> y);
+        assertEquals(TestValues.FloatValue_L, expression.get());
+
+        b.set(TestValues.FloatValue_H);
+        assertEquals(TestValues.FloatValue_H, expression.get());
+    }
+
+    @Test
+    public void testCombineFourUpdateGetConsistency() {
+        SimpleFloatProperty a = new SimpleFloatProperty(TestValues.FloatValue_L);
+        SimpleFloatProperty b = new SimpleFloatProperty(TestValues.FloatValue_L);
+        SimpleFloatProperty c = new SimpleFloatProperty(TestValues.FloatValue_L);
+        SimpleFloatProperty d = new SimpleFloatProperty(TestValues.FloatValue_L);
+        SimpleFloatExpression expression = SimpleFloatExpression.combine(a, b, c, d, (w, x, y, z) -> z);
+        AtomicInteger callCounter = new AtomicInteger(0);
+        expression.addInvalidationListener(observable -> callCounter.getAndIncrement());
+
+        c.set(TestValues.FloatValue_H);
+        assertEquals(TestValues.FloatValue_L, expression.get());
+        assertEquals(0, callCounter.get());
+
+        d.set(TestValues.FloatValue_H);
+        assertEquals(TestValues.FloatValue_H, expression.get());
+        assertEquals(1, callCounter.get());
+    }
+
     @Test
     public void testChangeListenerBoxAttachDetach() {
         var property = new SimpleFloatProperty(TestValues.FloatValue_H);
@@ -67,6 +67,36 @@ public final class SimpleIntExpressionGeneratedTest {
         assertEquals(TestValues.IntValue_H, expression.get());
     }
 
+    @Test
+    public void testCombineUpdateGetConsistency() {
+        SimpleIntProperty a = new SimpleIntProperty(TestValues.IntValue_L);
+        SimpleIntProperty b = new SimpleIntProperty(TestValues.IntValue_L);
+        SimpleIntExpression expression = SimpleIntExpression.combine(a, b, (x, y) -> y);
+        assertEquals(TestValues.IntValue_L, expression.get());
+
+        b.set(TestValues.IntValue_H);
+        assertEquals(TestValues.IntValue_H, expression.get());
+    }
+
+    @Test
+    public void testCombineFourUpdateGetConsistency() {
+        SimpleIntProperty a = new SimpleIntProperty(TestValues.IntValue_L);
+        SimpleIntProperty b = new SimpleIntProperty(TestValues.IntValue_L);
+        SimpleIntProperty c = new SimpleIntProperty(TestValues.IntValue_L);
+        SimpleIntProperty d = new SimpleIntProperty(TestValues.IntValue_L);
+        SimpleIntExpression expression = SimpleIntExpression.combine(a, b, c, d, (w, x, y, z) -> z);
+        AtomicInteger callCounter = new AtomicInteger(0);
+        expression.addInvalidationListener(observable -> callCounter.getAndIncrement());
+
+        c.set(TestValues.IntValue_H);
+        assertEquals(TestValues.IntValue_L, expression.get());
+        assertEquals(0, callCounter.get());
+
+        d.set(TestValues.IntValue_H);
+        assertEquals(TestValues.IntValue_H, expression.get());
+        assertEquals(1, callCounter.get());
+    }
+
     @Test
     public void testChangeListenerBoxAttachDetach() {
         var property = new SimpleIntProperty(TestValues.IntValue_H);
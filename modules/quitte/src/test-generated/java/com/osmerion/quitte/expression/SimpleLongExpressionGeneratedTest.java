@@ -67,6 +67,36 @@ public final class SimpleLongExpressionGeneratedTest {
         assertEquals(TestValues.LongValue_H, expression.get());
     }
 
+    @Test
+    public void testCombineUpdateGetConsistency() {
+        SimpleLongProperty a = new SimpleLongProperty(TestValues.LongValue_L);
+        SimpleLongProperty b = new SimpleLongProperty(TestValues.LongValue_L);
+        SimpleLongExpression expression = SimpleLongExpression.combine(a, b, (x, y) -> y);
+        assertEquals(TestValues.LongValue_L, expression.get());
+
+        b.set(TestValues.LongValue_H);
+        assertEquals(TestValues.LongValue_H, expression.get());
+    }
+
+    @Test
+    public void testCombineFourUpdateGetConsistency() {
+        SimpleLongProperty a = new SimpleLongProperty(TestValues.LongValue_L);
+        SimpleLongProperty b = new SimpleLongProperty(TestValues.LongValue_L);
+        SimpleLongProperty c = new SimpleLongProperty(TestValues.LongValue_L);
+        SimpleLongProperty d = new SimpleLongProperty(TestValues.LongValue_L);
+        SimpleLongExpression expression = SimpleLongExpression.combine(a, b, c, d, (w, x, y, z) -> z);
+        AtomicInteger callCounter = new AtomicInteger(0);
+        expression.addInvalidationListener(observable -> callCounter.getAndIncrement());
+
+        c.set(TestValues.LongValue_H);
+        assertEquals(TestValues.LongValue_L, expression.get());
+        assertEquals(0, callCounter.get());
+
+        d.set(TestValues.LongValue_H);
+        assertEquals(TestValues.LongValue_H, expression.get());
+        assertEquals(1, callCounter.get());
+    }
+
     @Test
     public void testChangeListenerBoxAttachDetach() {
         var property = new SimpleLongProperty(TestValues.LongValue_H);
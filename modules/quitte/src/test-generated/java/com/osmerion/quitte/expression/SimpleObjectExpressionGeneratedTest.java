@@ -69,6 +69,36 @@ public final class SimpleObjectExpressionGeneratedTest {
         assertEquals(TestValues.ObjectValue_H, expression.get());
     }
 
+    @Test
+    public void testCombineUpdateGetConsistency() {
+        SimpleObjectProperty<Object> a = new SimpleObjectProperty<>(TestValues.ObjectValue_L);
+        SimpleObjectProperty<Object> b = new SimpleObjectProperty<>(TestValues.ObjectValue_L);
+        SimpleObjectExpression<Object> expression = SimpleObjectExpression.combine(a, b, (x, y) -> y);
+        assertEquals(TestValues.ObjectValue_L, expression.get());
+
+        b.set(TestValues.ObjectValue_H);
+        assertEquals(TestValues.ObjectValue_H, expression.get());
+    }
+
+    @Test
+    public void testCombineFourUpdateGetConsistency() {
+        SimpleObjectProperty<Object> a = new SimpleObjectProperty<>(TestValues.ObjectValue_L);
+        SimpleObjectProperty<Object> b = new SimpleObjectProperty<>(TestValues.ObjectValue_L);
+        SimpleObjectProperty<Object> c = new SimpleObjectProperty<>(TestValues.ObjectValue_L);
+        SimpleObjectProperty<Object> d = new SimpleObjectProperty<>(TestValues.ObjectValue_L);
+        SimpleObjectExpression<Object> expression = SimpleObjectExpression.combine(a, b, c, d, (w, x, y, z) -> z);
+        AtomicInteger callCounter = new AtomicInteger(0);
+        expression.addInvalidationListener(observable -> callCounter.getAndIncrement());
+
+        c.set(TestValues.ObjectValue_H);
+        assertEquals(TestValues.ObjectValue_L, expression.get());
+        assertEquals(0, callCounter.get());
+
+        d.set(TestValues.ObjectValue_H);
+        assertEquals(TestValues.ObjectValue_H, expression.get());
+        assertEquals(1, callCounter.get());
+    }
+
     @Test
     public void testChangeListenerBoxAttachDetach() {
         var property = new SimpleObjectProperty<>(TestValues.ObjectValue_H);
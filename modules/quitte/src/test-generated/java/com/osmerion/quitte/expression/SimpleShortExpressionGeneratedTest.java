@@ -67,6 +67,36 @@ public final class SimpleShortExpressionGeneratedTest {
         assertEquals(TestValues.ShortValue_H, expression.get());
     }
 
+    @Test
+    public void testCombineUpdateGetConsistency() {
+        SimpleShortProperty a = new SimpleShortProperty(TestValues.ShortValue_L);
+        SimpleShortProperty b = new SimpleShortProperty(TestValues.ShortValue_L);
+        SimpleShortExpression expression = SimpleShortExpression.combine(a, b, (x, y) -> y);
+        assertEquals(TestValues.ShortValue_L, expression.get());
+
+        b.set(TestValues.ShortValue_H);
+        assertEquals(TestValues.ShortValue_H, expression.get());
+    }
+
+    @Test
+    public void testCombineFourUpdateGetConsistency() {
+        SimpleShortProperty a = new SimpleShortProperty(TestValues.ShortValue_L);
+        SimpleShortProperty b = new SimpleShortProperty(TestValues.ShortValue_L);
+        SimpleShortProperty c = new SimpleShortProperty(TestValues.ShortValue_L);
+        SimpleShortProperty d = new SimpleShortProperty(TestValues.ShortValue_L);
+        SimpleShortExpression expression = SimpleShortExpression.combine(a, b, c, d, (w, x, y, z) -> z);
+        AtomicInteger callCounter = new AtomicInteger(0);
+        expression.addInvalidationListener(observable -> callCounter.getAndIncrement());
+
+        c.set(TestValues.ShortValue_H);
+        assertEquals(TestValues.ShortValue_L, expression.get());
+        assertEquals(0, callCounter.get());
+
+        d.set(TestValues.ShortValue_H);
+        assertEquals(TestValues.ShortValue_H, expression.get());
+        assertEquals(1, callCounter.get());
+    }
+
     @Test
     public void testChangeListenerBoxAttachDetach() {
         var property = new SimpleShortProperty(TestValues.ShortValue_H);
@@ -0,0 +1,149 @@
+/*
+ * Copyright (c) 2018-2023 Leon Linhart,
+ * All rights reserved.
+ * MACHINE GENERATED FILE, DO NOT EDIT
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.osmerion.quitte.property;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.osmerion.quitte.*;
+
+import org.junit.jupiter.api.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+            
+/**
+ * Generated tests for {@link ConcurrentIntProperty}.
+ *
+ * @author  Leon Linhart
+ */
+public final class ConcurrentIntPropertyGeneratedTest {
+
+    @Test
+    public void testCompareAndSet() {
+        ConcurrentIntProperty property = new ConcurrentIntProperty(TestValues.IntValue_L);
+        assertFalse(property.compareAndSet(TestValues.IntValue_H, TestValues.IntValue_H));
+        assertEquals(TestValues.IntValue_L, property.get());
+
+        assertTrue(property.compareAndSet(TestValues.IntValue_L, TestValues.IntValue_H));
+        assertEquals(TestValues.IntValue_H, property.get());
+    }
+
+    @Test
+    public void testGetAndSet() {
+        ConcurrentIntProperty property = new ConcurrentIntProperty(TestValues.IntValue_L);
+        assertEquals(TestValues.IntValue_L, property.getAndSet(TestValues.IntValue_H));
+        assertEquals(TestValues.IntValue_H, property.get());
+    }
+
+    @Test
+    public void testGetAndUpdate() {
+        ConcurrentIntProperty property = new ConcurrentIntProperty(TestValues.IntValue_L);
+        assertEquals(TestValues.IntValue_L, property.getAndUpdate(it -> TestValues.IntValue_H));
+        assertEquals(TestValues.IntValue_H, property.get());
+    }
+
+    @Test
+    public void testUpdateAndGet() {
+        ConcurrentIntProperty property = new ConcurrentIntProperty(TestValues.IntValue_L);
+        assertEquals(TestValues.IntValue_H, property.updateAndGet(it -> TestValues.IntValue_H));
+        assertEquals(TestValues.IntValue_H, property.get());
+    }
+
+    @Test
+    public void testGetAndAccumulate() {
+        ConcurrentIntProperty property = new ConcurrentIntProperty(TestValues.IntValue_L);
+        assertEquals(TestValues.IntValue_L, property.getAndAccumulate(TestValues.IntValue_H, (left, right) -> right));
+        assertEquals(TestValues.IntValue_H, property.get());
+    }
+
+    @Test
+    public void testAccumulateAndGet() {
+        ConcurrentIntProperty property = new ConcurrentIntProperty(TestValues.IntValue_L);
+        assertEquals(TestValues.IntValue_H, property.accumulateAndGet(TestValues.IntValue_H, (left, right) -> right));
+        assertEquals(TestValues.IntValue_H, property.get());
+    }
+
+    @Test
+    public void testListenersReceiveUpdate() {
+        ConcurrentIntProperty property = new ConcurrentIntProperty(TestValues.IntValue_L);
+        List<Object> changes = new ArrayList<>();
+        property.addChangeListener((observable, oldValue, newValue) -> {
+            changes.add(oldValue);
+            changes.add(newValue);
+        });
+
+        List<Observable> invalidations = new ArrayList<>();
+        property.addInvalidationListener(invalidations::add);
+
+        property.compareAndSet(TestValues.IntValue_L, TestValues.IntValue_H);
+        assertEquals(List.of(TestValues.IntValue_L, TestValues.IntValue_H), changes);
+        assertEquals(1, invalidations.size());
+
+        property.compareAndSet(TestValues.IntValue_H, TestValues.IntValue_H);
+        assertEquals(2, changes.size());
+        assertEquals(1, invalidations.size());
+    }
+
+    @Test
+    public void testUpdateThrowsForBound() {
+        ConcurrentIntProperty other = new ConcurrentIntProperty(TestValues.IntValue_L);
+        ConcurrentIntProperty property = new ConcurrentIntProperty(TestValues.IntValue_L);
+        property.bindTo(other);
+
+        assertThrows(IllegalStateException.class, () -> property.compareAndSet(TestValues.IntValue_L, TestValues.IntValue_H));
+        assertThrows(IllegalStateException.class, () -> property.getAndUpdate(it -> TestValues.IntValue_H));
+        assertEquals(TestValues.IntValue_L, property.get());
+    }
+
+    @Test
+    public void testConcurrentUpdates() throws InterruptedException {
+        ConcurrentIntProperty property = new ConcurrentIntProperty(0);
+        AtomicLong delta = new AtomicLong();
+        property.addChangeListener((observable, oldValue, newValue) -> delta.addAndGet(newValue - oldValue));
+
+        Thread[] threads = new Thread[4];
+
+        for (int i = 0; i < threads.length; i++) {
+            threads[i] = new Thread(() -> {
+                for (int j = 0; j < 10_000; j++) property.accumulateAndGet(1, (left, right) -> left + right);
+            });
+            threads[i].start();
+        }
+
+        for (Thread thread : threads) thread.join();
+
+        assertEquals(40_000, property.get());
+        assertEquals(40_000, delta.get());
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,127 @@
+/*
+ * Copyright (c) 2018-2023 Leon Linhart,
+ * All rights reserved.
+ * MACHINE GENERATED FILE, DO NOT EDIT
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.osmerion.quitte.property;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.osmerion.quitte.*;
+
+import org.junit.jupiter.api.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+            
+/**
+ * Generated tests for {@link ConcurrentObjectProperty}.
+ *
+ * @author  Leon Linhart
+ */
+public final class ConcurrentObjectPropertyGeneratedTest {
+
+    @Test
+    public void testCompareAndSet() {
+        ConcurrentObjectProperty<Object> property = new ConcurrentObjectProperty<>(TestValues.ObjectValue_L);
+        assertFalse(property.compareAndSet(TestValues.ObjectValue_H, TestValues.ObjectValue_H));
+        assertEquals(TestValues.ObjectValue_L, property.get());
+
+        assertTrue(property.compareAndSet(TestValues.ObjectValue_L, TestValues.ObjectValue_H));
+        assertEquals(TestValues.ObjectValue_H, property.get());
+    }
+
+    @Test
+    public void testGetAndSet() {
+        ConcurrentObjectProperty<Object> property = new ConcurrentObjectProperty<>(TestValues.ObjectValue_L);
+        assertEquals(TestValues.ObjectValue_L, property.getAndSet(TestValues.ObjectValue_H));
+        assertEquals(TestValues.ObjectValue_H, property.get());
+    }
+
+    @Test
+    public void testGetAndUpdate() {
+        ConcurrentObjectProperty<Object> property = new ConcurrentObjectProperty<>(TestValues.ObjectValue_L);
+        assertEquals(TestValues.ObjectValue_L, property.getAndUpdate(it -> TestValues.ObjectValue_H));
+        assertEquals(TestValues.ObjectValue_H, property.get());
+    }
+
+    @Test
+    public void testUpdateAndGet() {
+        ConcurrentObjectProperty<Object> property = new ConcurrentObjectProperty<>(TestValues.ObjectValue_L);
+        assertEquals(TestValues.ObjectValue_H, property.updateAndGet(it -> TestValues.ObjectValue_H));
+        assertEquals(TestValues.ObjectValue_H, property.get());
+    }
+
+    @Test
+    public void testGetAndAccumulate() {
+        ConcurrentObjectProperty<Object> property = new ConcurrentObjectProperty<>(TestValues.ObjectValue_L);
+        assertEquals(TestValues.ObjectValue_L, property.getAndAccumulate(TestValues.ObjectValue_H, (left, right) -> right));
+        assertEquals(TestValues.ObjectValue_H, property.get());
+    }
+
+    @Test
+    public void testAccumulateAndGet() {
+        ConcurrentObjectProperty<Object> property = new ConcurrentObjectProperty<>(TestValues.ObjectValue_L);
+        assertEquals(TestValues.ObjectValue_H, property.accumulateAndGet(TestValues.ObjectValue_H, (left, right) -> right));
+        assertEquals(TestValues.ObjectValue_H, property.get());
+    }
+
+    @Test
+    public void testListenersReceiveUpdate() {
+        ConcurrentObjectProperty<Object> property = new ConcurrentObjectProperty<>(TestValues.ObjectValue_L);
+        List<Object> changes = new ArrayList<>();
+        property.addChangeListener((observable, oldValue, newValue) -> {
+            changes.add(oldValue);
+            changes.add(newValue);
+        });
+
+        List<Observable> invalidations = new ArrayList<>();
+        property.addInvalidationListener(invalidations::add);
+
+        property.compareAndSet(TestValues.ObjectValue_L, TestValues.ObjectValue_H);
+        assertEquals(List.of(TestValues.ObjectValue_L, TestValues.ObjectValue_H), changes);
+        assertEquals(1, invalidations.size());
+
+        property.compareAndSet(TestValues.ObjectValue_H, TestValues.ObjectValue_H);
+        assertEquals(2, changes.size());
+        assertEquals(1, invalidations.size());
+    }
+
+    @Test
+    public void testUpdateThrowsForBound() {
+        ConcurrentObjectProperty<Object> other = new ConcurrentObjectProperty<>(TestValues.ObjectValue_L);
+        ConcurrentObjectProperty<Object> property = new ConcurrentObjectProperty<>(TestValues.ObjectValue_L);
+        property.bindTo(other);
+
+        assertThrows(IllegalStateException.class, () -> property.compareAndSet(TestValues.ObjectValue_L, TestValues.ObjectValue_H));
+        assertThrows(IllegalStateException.class, () -> property.getAndUpdate(it -> TestValues.ObjectValue_H));
+        assertEquals(TestValues.ObjectValue_L, property.get());
+    }
+
+}
\ No newline at end of file
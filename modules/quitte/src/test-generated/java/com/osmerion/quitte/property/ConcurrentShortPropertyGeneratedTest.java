@@ -0,0 +1,127 @@
+/*
+ * Copyright (c) 2018-2023 Leon Linhart,
+ * All rights reserved.
+ * MACHINE GENERATED FILE, DO NOT EDIT
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.osmerion.quitte.property;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.osmerion.quitte.*;
+
+import org.junit.jupiter.api.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+            
+/**
+ * Generated tests for {@link ConcurrentShortProperty}.
+ *
+ * @author  Leon Linhart
+ */
+public final class ConcurrentShortPropertyGeneratedTest {
+
+    @Test
+    public void testCompareAndSet() {
+        ConcurrentShortProperty property = new ConcurrentShortProperty(TestValues.ShortValue_L);
+        assertFalse(property.compareAndSet(TestValues.ShortValue_H, TestValues.ShortValue_H));
+        assertEquals(TestValues.ShortValue_L, property.get());
+
+        assertTrue(property.compareAndSet(TestValues.ShortValue_L, TestValues.ShortValue_H));
+        assertEquals(TestValues.ShortValue_H, property.get());
+    }
+
+    @Test
+    public void testGetAndSet() {
+        ConcurrentShortProperty property = new ConcurrentShortProperty(TestValues.ShortValue_L);
+        assertEquals(TestValues.ShortValue_L, property.getAndSet(TestValues.ShortValue_H));
+        assertEquals(TestValues.ShortValue_H, property.get());
+    }
+
+    @Test
+    public void testGetAndUpdate() {
+        ConcurrentShortProperty property = new ConcurrentShortProperty(TestValues.ShortValue_L);
+        assertEquals(TestValues.ShortValue_L, property.getAndUpdate(it -> TestValues.ShortValue_H));
+        assertEquals(TestValues.ShortValue_H, property.get());
+    }
+
+    @Test
+    public void testUpdateAndGet() {
+        ConcurrentShortProperty property = new ConcurrentShortProperty(TestValues.ShortValue_L);
+        assertEquals(TestValues.ShortValue_H, property.updateAndGet(it -> TestValues.ShortValue_H));
+        assertEquals(TestValues.ShortValue_H, property.get());
+    }
+
+    @Test
+    public void testGetAndAccumulate() {
+        ConcurrentShortProperty property = new ConcurrentShortProperty(TestValues.ShortValue_L);
+        assertEquals(TestValues.ShortValue_L, property.getAndAccumulate(TestValues.ShortValue_H, (left, right) -> right));
+        assertEquals(TestValues.ShortValue_H, property.get());
+    }
+
+    @Test
+    public void testAccumulateAndGet() {
+        ConcurrentShortProperty property = new ConcurrentShortProperty(TestValues.ShortValue_L);
+        assertEquals(TestValues.ShortValue_H, property.accumulateAndGet(TestValues.ShortValue_H, (left, right) -> right));
+        assertEquals(TestValues.ShortValue_H, property.get());
+    }
+
+    @Test
+    public void testListenersReceiveUpdate() {
+        ConcurrentShortProperty property = new ConcurrentShortProperty(TestValues.ShortValue_L);
+        List<Object> changes = new ArrayList<>();
+        property.addChangeListener((observable, oldValue, newValue) -> {
+            changes.add(oldValue);
+            changes.add(newValue);
+        });
+
+        List<Observable> invalidations = new ArrayList<>();
+        property.addInvalidationListener(invalidations::add);
+
+        property.compareAndSet(TestValues.ShortValue_L, TestValues.ShortValue_H);
+        assertEquals(List.of(TestValues.ShortValue_L, TestValues.ShortValue_H), changes);
+        assertEquals(1, invalidations.size());
+
+        property.compareAndSet(TestValues.ShortValue_H, TestValues.ShortValue_H);
+        assertEquals(2, changes.size());
+        assertEquals(1, invalidations.size());
+    }
+
+    @Test
+    public void testUpdateThrowsForBound() {
+        ConcurrentShortProperty other = new ConcurrentShortProperty(TestValues.ShortValue_L);
+        ConcurrentShortProperty property = new ConcurrentShortProperty(TestValues.ShortValue_L);
+        property.bindTo(other);
+
+        assertThrows(IllegalStateException.class, () -> property.compareAndSet(TestValues.ShortValue_L, TestValues.ShortValue_H));
+        assertThrows(IllegalStateException.class, () -> property.getAndUpdate(it -> TestValues.ShortValue_H));
+        assertEquals(TestValues.ShortValue_L, property.get());
+    }
+
+}
\ No newline at end of file
@@ -347,6 +347,20 @@ public final class LazyBoolPropertyGeneratedTest {
         assertEquals(3, stateInvalidatedCallCounter.get());
     }
 
+    @Test
+    public void testStatePropertyCreatedAfterStateChange() {
+        var property = new LazyBoolProperty(() -> TestValues.BoolValue_H);
+        property.get();
+        property.set(TestValues.BoolValue_L);
+
+        var state = property.stateProperty();
+        assertEquals(LazyValue.State.INVALID, state.get());
+
+        property.get();
+        assertEquals(LazyValue.State.VALID, state.get());
+        assertEquals(LazyValue.State.VALID, property.stateProperty().get());
+    }
+
     @Test
     public void testChangeListenerAddRemovedWithBox() {
         var property = new LazyBoolProperty(TestValues.BoolValue_H);
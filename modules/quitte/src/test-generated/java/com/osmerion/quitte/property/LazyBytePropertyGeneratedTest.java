@@ -347,6 +347,20 @@ public final class LazyBytePropertyGeneratedTest {
         assertEquals(3, stateInvalidatedCallCounter.get());
     }
 
+    @Test
+    public void testStatePropertyCreatedAfterStateChange() {
+        var property = new LazyByteProperty(() -> TestValues.ByteValue_H);
+        property.get();
+        property.set(TestValues.ByteValue_L);
+
+        var state = property.stateProperty();
+        assertEquals(LazyValue.State.INVALID, state.get());
+
+        property.get();
+        assertEquals(LazyValue.State.VALID, state.get());
+        assertEquals(LazyValue.State.VALID, property.stateProperty().get());
+    }
+
     @Test
     public void testChangeListenerAddRemovedWithBox() {
         var property = new LazyByteProperty(TestValues.ByteValue_H);
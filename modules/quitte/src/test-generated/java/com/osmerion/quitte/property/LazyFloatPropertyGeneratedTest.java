@@ -347,6 +347,20 @@ public final class LazyFloatPropertyGeneratedTest {
         assertEquals(3, stateInvalidatedCallCounter.get());
     }
 
+    @Test
+    public void testStatePropertyCreatedAfterStateChange() {
+        var property = new LazyFloatProperty(() -> TestValues.FloatValue_H);
+        property.get();
+        property.set(TestValues.FloatValue_L);
+
+        var state = property.stateProperty();
+        assertEquals(LazyValue.State.INVALID, state.get());
+
+        property.get();
+        assertEquals(LazyValue.State.VALID, state.get());
+        assertEquals(LazyValue.State.VALID, property.stateProperty().get());
+    }
+
     @Test
     public void testChangeListenerAddRemovedWithBox() {
         var property = new LazyFloatProperty(TestValues.FloatValue_H);
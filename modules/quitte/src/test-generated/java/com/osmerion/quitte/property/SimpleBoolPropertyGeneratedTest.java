@@ -604,4 +604,34 @@ public final class SimpleBoolPropertyGeneratedTest {
         assertEquals(0, callCounter.get());
     }
 
+    @Test
+    public void testMultipleListenersAttachDetach() {
+        StringBuilder calls = new StringBuilder();
+
+        SimpleBoolProperty property = new SimpleBoolProperty(TestValues.BoolValue_L);
+        InvalidationListener a = observable -> calls.append('a');
+        InvalidationListener b = observable -> calls.append('b');
+        InvalidationListener c = observable -> calls.append('c');
+
+        assertTrue(property.addInvalidationListener(a));
+        assertTrue(property.addInvalidationListener(b));
+        assertTrue(property.addInvalidationListener(c));
+        assertFalse(property.addInvalidationListener(b));
+
+        property.set(TestValues.BoolValue_H);
+        assertEquals("abc", calls.toString());
+
+        assertTrue(property.removeInvalidationListener(b));
+        assertFalse(property.removeInvalidationListener(b));
+
+        property.set(TestValues.BoolValue_L);
+        assertEquals("abcac", calls.toString());
+
+        assertTrue(property.removeInvalidationListener(a));
+        assertTrue(property.removeInvalidationListener(c));
+
+        property.set(TestValues.BoolValue_H);
+        assertEquals("abcac", calls.toString());
+    }
+
 }
\ No newline at end of file
@@ -0,0 +1,211 @@
+/*
+ * Copyright (c) 2018-2023 Leon Linhart,
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.osmerion.quitte;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.osmerion.quitte.collections.MapChangeListener;
+import com.osmerion.quitte.collections.ObservableMap;
+import com.osmerion.quitte.property.SimpleIntProperty;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public final class AsyncListenerTest {
+
+    private static final class QueueExecutor implements Executor {
+
+        private final Queue<Runnable> tasks = new ArrayDeque<>();
+
+        @Override
+        public void execute(Runnable command) {
+            this.tasks.add(command);
+        }
+
+        int runAll() {
+            int count = 0;
+            Runnable task;
+
+            while ((task = this.tasks.poll()) != null) {
+                task.run();
+                count++;
+            }
+
+            return count;
+        }
+
+    }
+
+    @Test
+    public void testInvalidationsAreCoalesced() {
+        QueueExecutor executor = new QueueExecutor();
+        SimpleIntProperty property = new SimpleIntProperty(0);
+        AtomicInteger invalidations = new AtomicInteger();
+        InvalidationListener listener = ignored -> invalidations.incrementAndGet();
+        assertTrue(property.addInvalidationListener(listener, executor));
+
+        for (int i = 1; i <= 10; i++) {
+            property.set(i);
+            property.get();
+        }
+
+        assertEquals(0, invalidations.get());
+        assertEquals(1, executor.runAll());
+        assertEquals(1, invalidations.get());
+
+        assertTrue(property.removeInvalidationListener(listener, executor));
+        property.set(42);
+        assertEquals(0, executor.runAll());
+    }
+
+    @Test
+    public void testChangesAreCoalesced() {
+        QueueExecutor executor = new QueueExecutor();
+        SimpleIntProperty property = new SimpleIntProperty(0);
+        List<String> changes = new ArrayList<>();
+        assertTrue(property.addChangeListener((observable, oldValue, newValue) -> changes.add(oldValue + "->" + newValue), executor));
+
+        property.set(1);
+        property.set(2);
+        property.set(3);
+        assertEquals(1, executor.runAll());
+        assertEquals(List.of("0->3"), changes);
+
+        property.set(4);
+        property.set(3);
+        assertEquals(1, executor.runAll());
+        assertEquals(List.of("0->3"), changes);
+    }
+
+    @Test
+    public void testChangesAreDeliveredSeriallyOnMultiThreadedExecutor() throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+
+        try {
+            SimpleIntProperty property = new SimpleIntProperty(0);
+            List<int[]> changes = new ArrayList<>();
+            AtomicInteger active = new AtomicInteger();
+            AtomicInteger maxActive = new AtomicInteger();
+            CountDownLatch entered = new CountDownLatch(1);
+            CountDownLatch released = new CountDownLatch(1);
+            CountDownLatch done = new CountDownLatch(1);
+
+            property.addChangeListener((observable, oldValue, newValue) -> {
+                maxActive.accumulateAndGet(active.incrementAndGet(), Math::max);
+
+                try {
+                    if (entered.getCount() > 0) {
+                        entered.countDown();
+                        released.await();
+                    } else {
+                        Thread.sleep(1);
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+
+                synchronized (changes) {
+                    changes.add(new int[] { oldValue, newValue });
+                }
+
+                active.decrementAndGet();
+                if (newValue == 200) done.countDown();
+            }, executor);
+
+            property.set(1);
+            assertTrue(entered.await(10, TimeUnit.SECONDS));
+
+            /* These changes are dispatched while the first delivery is still running. */
+            for (int i = 2; i <= 100; i++) property.set(i);
+            released.countDown();
+
+            for (int i = 101; i <= 200; i++) {
+                property.set(i);
+                if (i % 10 == 0) Thread.sleep(1);
+            }
+
+            assertTrue(done.await(10, TimeUnit.SECONDS));
+            assertEquals(1, maxActive.get());
+
+            synchronized (changes) {
+                assertTrue(changes.size() < 200);
+
+                int prev = 0;
+
+                for (int[] change : changes) {
+                    assertEquals(prev, change[0]);
+                    prev = change[1];
+                }
+
+                assertEquals(200, prev);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testMapChangesAreMerged() {
+        QueueExecutor executor = new QueueExecutor();
+        ObservableMap<String, Integer> map = ObservableMap.of(new HashMap<>(Map.of("a", 1, "b", 2)));
+        List<MapChangeListener.Change<? extends String, ? extends Integer>> changes = new ArrayList<>();
+        map.addChangeListener((observable, change) -> changes.add(change), executor);
+
+        map.put("c", 3);
+        map.remove("a");
+        map.put("b", 4);
+        map.put("a", 5);
+        map.remove("c");
+
+        assertEquals(1, executor.runAll());
+        assertEquals(1, changes.size());
+
+        var change = changes.get(0);
+        assertEquals(Map.of(), change.addedElements());
+        assertEquals(Map.of(), change.removedElements());
+        assertEquals(
+            Map.of("a", new MapChangeListener.Change.Update<>(1, 5), "b", new MapChangeListener.Change.Update<>(2, 4)),
+            change.updatedElements()
+        );
+    }
+
+}
@@ -0,0 +1,159 @@
+/*
+ * Copyright (c) 2018-2023 Leon Linhart,
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.osmerion.quitte;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Random;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public final class ListenerRegistryTest {
+
+    private static <L> List<L> toList(ListenerRegistry<L> registry) {
+        List<L> listeners = new ArrayList<>();
+        registry.forEach(listeners::add);
+
+        List<L> iterated = new ArrayList<>();
+        for (L listener : registry) iterated.add(listener);
+
+        assertEquals(listeners, iterated);
+        return listeners;
+    }
+
+    @Test
+    public void testAddRemove() {
+        ListenerRegistry<String> registry = new ListenerRegistry<>();
+        assertTrue(registry.isEmpty());
+
+        assertTrue(registry.add("A"));
+        assertTrue(registry.add("B"));
+        assertFalse(registry.add("A"));
+        assertEquals(2, registry.size());
+        assertEquals(List.of("A", "B"), toList(registry));
+
+        assertTrue(registry.remove("A"));
+        assertFalse(registry.remove("A"));
+        assertEquals(1, registry.size());
+        assertEquals(List.of("B"), toList(registry));
+
+        assertTrue(registry.remove("B"));
+        assertTrue(registry.isEmpty());
+        assertEquals(List.of(), toList(registry));
+    }
+
+    @Test
+    public void testNull() {
+        ListenerRegistry<String> registry = new ListenerRegistry<>();
+        assertThrows(NullPointerException.class, () -> registry.add(null));
+        assertThrows(NullPointerException.class, () -> registry.remove(null));
+    }
+
+    @Test
+    public void testIteratorExhausted() {
+        ListenerRegistry<String> registry = new ListenerRegistry<>();
+        assertThrows(NoSuchElementException.class, () -> registry.iterator().next());
+    }
+
+    @Test
+    public void testOrderIsPreservedAcrossCompaction() {
+        ListenerRegistry<Integer> registry = new ListenerRegistry<>();
+        for (int i = 0; i < 1000; i++) registry.add(i);
+        for (int i = 0; i < 1000; i++) if (i % 10 != 0) registry.remove(i);
+
+        List<Integer> expected = new ArrayList<>();
+        for (int i = 0; i < 1000; i += 10) expected.add(i);
+
+        assertEquals(expected, toList(registry));
+        assertEquals(100, registry.size());
+    }
+
+    @Test
+    public void testRemoveDuringIteration() {
+        ListenerRegistry<Integer> registry = new ListenerRegistry<>();
+        for (int i = 0; i < 100; i++) registry.add(i);
+
+        List<Integer> visited = new ArrayList<>();
+
+        /* Removing every listener during the iteration triggers compaction, which must not affect the iteration. */
+        for (Integer listener : registry) {
+            visited.add(listener);
+            registry.remove(listener);
+        }
+
+        assertEquals(100, visited.size());
+        assertTrue(registry.isEmpty());
+    }
+
+    @Test
+    public void testRemoveAheadDuringIteration() {
+        ListenerRegistry<String> registry = new ListenerRegistry<>();
+        registry.add("A");
+        registry.add("B");
+        registry.add("C");
+
+        List<String> visited = new ArrayList<>();
+
+        registry.forEach(listener -> {
+            visited.add(listener);
+            if (listener.equals("A")) registry.remove("B");
+        });
+
+        assertEquals(List.of("A", "C"), visited);
+    }
+
+    @Test
+    public void testRandomized() {
+        Random random = new Random(42);
+        ListenerRegistry<Integer> registry = new ListenerRegistry<>();
+        Set<Integer> expected = new HashSet<>();
+
+        for (int i = 0; i < 100_000; i++) {
+            int listener = random.nextInt(2000);
+
+            if (random.nextBoolean()) {
+                assertEquals(expected.add(listener), registry.add(listener));
+            } else {
+                assertEquals(expected.remove(listener), registry.remove(listener));
+            }
+
+            assertEquals(expected.size(), registry.size());
+        }
+
+        assertEquals(expected, new HashSet<>(toList(registry)));
+    }
+
+}
@@ -0,0 +1,176 @@
+/*
+ * Copyright (c) 2018-2023 Leon Linhart,
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.osmerion.quitte;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.osmerion.quitte.expression.SimpleLongExpression;
+import com.osmerion.quitte.property.ConcurrentIntProperty;
+import com.osmerion.quitte.property.SimpleLongProperty;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public final class QuitteSnapshotTest {
+
+    private static final int READS = 20_000;
+
+    private static Thread startWriter(AtomicBoolean running, Runnable write) {
+        Thread thread = new Thread(() -> {
+            while (running.get()) write.run();
+        });
+
+        thread.setDaemon(true);
+        thread.start();
+        return thread;
+    }
+
+    private static void assertCompletes(Runnable action) throws InterruptedException {
+        Thread thread = new Thread(action);
+        thread.setDaemon(true);
+        thread.start();
+        thread.join(10_000);
+
+        assertFalse(thread.isAlive());
+    }
+
+    @Test
+    public void testTransactionsAppearAtomic() throws InterruptedException {
+        SimpleLongProperty from = new SimpleLongProperty(1000);
+        SimpleLongProperty to = new SimpleLongProperty(0);
+        AtomicBoolean running = new AtomicBoolean(true);
+
+        Thread writer = startWriter(running, () -> Quitte.batch(() -> {
+            from.set(from.get() - 1);
+            to.set(to.get() + 1);
+        }));
+
+        try {
+            for (int i = 0; i < READS; i++) {
+                assertEquals(1000L, (long) QuitteSnapshot.read(() -> from.get() + to.get()));
+            }
+        } finally {
+            running.set(false);
+            writer.join();
+        }
+    }
+
+    @Test
+    public void testExpressionsAreConsistentWithTheirSources() throws InterruptedException {
+        SimpleLongProperty source = new SimpleLongProperty(0);
+        SimpleLongExpression doubled = SimpleLongExpression.of(source, it -> it * 2);
+        AtomicBoolean running = new AtomicBoolean(true);
+
+        Thread writer = startWriter(running, () -> source.set(source.get() + 1));
+
+        try {
+            for (int i = 0; i < READS; i++) {
+                long[] values = QuitteSnapshot.read(() -> new long[] { source.get(), doubled.get() });
+                assertEquals(values[0] * 2, values[1]);
+            }
+        } finally {
+            running.set(false);
+            writer.join();
+        }
+    }
+
+    @Test
+    public void testConcurrentPropertiesAreConsistent() throws InterruptedException {
+        ConcurrentIntProperty a = new ConcurrentIntProperty(0);
+        ConcurrentIntProperty b = new ConcurrentIntProperty(0);
+        AtomicBoolean running = new AtomicBoolean(true);
+
+        Thread writer = startWriter(running, () -> Quitte.batch(() -> {
+            a.updateAndGet(it -> it + 1);
+            b.updateAndGet(it -> it + 1);
+        }));
+
+        try {
+            for (int i = 0; i < READS; i++) {
+                int[] values = QuitteSnapshot.read(() -> new int[] { a.get(), b.get() });
+                assertEquals(values[0], values[1]);
+            }
+        } finally {
+            running.set(false);
+            writer.join();
+        }
+    }
+
+    @Test
+    public void testOpenTransactionsDoNotBlockReadsOfUnrelatedValues() throws InterruptedException {
+        SimpleLongProperty unrelated = new SimpleLongProperty(0);
+        SimpleLongProperty written = new SimpleLongProperty(0);
+        AtomicLong result = new AtomicLong(-1);
+
+        assertCompletes(() -> {
+            try (Quitte.Transaction ignored = Quitte.beginTransaction()) {
+                written.set(1);
+                result.set(QuitteSnapshot.read(unrelated::get));
+            }
+        });
+
+        assertEquals(0L, result.get());
+        assertEquals(1L, (long) QuitteSnapshot.read(written::get));
+    }
+
+    @Test
+    public void testReadsFromListenersOfTheModifiedValueComplete() throws InterruptedException {
+        SimpleLongProperty property = new SimpleLongProperty(0);
+        AtomicLong result = new AtomicLong(-1);
+
+        property.addChangeListener((observable, oldValue, newValue) -> result.set(QuitteSnapshot.read(property::get)));
+
+        assertCompletes(() -> property.set(1));
+        assertEquals(1L, result.get());
+    }
+
+    @Test
+    public void testReadsOfValuesModifiedInTheCurrentTransactionComplete() throws InterruptedException {
+        SimpleLongProperty property = new SimpleLongProperty(0);
+        AtomicLong result = new AtomicLong(-1);
+
+        assertCompletes(() -> Quitte.batch(() -> {
+            property.set(1);
+            result.set(QuitteSnapshot.read(property::get));
+        }));
+
+        assertEquals(1L, result.get());
+    }
+
+    @Test
+    public void testExceptionsOfConsistentReadsAreRethrown() {
+        assertThrows(IllegalStateException.class, () -> QuitteSnapshot.read(() -> {
+            throw new IllegalStateException();
+        }));
+    }
+
+}
@@ -0,0 +1,159 @@
+/*
+ * Copyright (c) 2018-2023 Leon Linhart,
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.osmerion.quitte;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.osmerion.quitte.collections.ListChangeListener;
+import com.osmerion.quitte.collections.ObservableList;
+import com.osmerion.quitte.expression.SimpleIntExpression;
+import com.osmerion.quitte.property.SimpleIntProperty;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public final class QuitteTest {
+
+    @Test
+    public void testBatchDefersInvalidations() {
+        SimpleIntProperty property = new SimpleIntProperty(0);
+        AtomicInteger invalidations = new AtomicInteger();
+        property.addInvalidationListener(ignored -> invalidations.incrementAndGet());
+
+        Quitte.batch(() -> {
+            for (int i = 1; i <= 50; i++) property.set(i);
+            assertEquals(0, invalidations.get());
+        });
+
+        assertEquals(1, invalidations.get());
+    }
+
+    @Test
+    public void testBatchCoalescesChanges() {
+        SimpleIntProperty property = new SimpleIntProperty(0);
+        List<String> changes = new ArrayList<>();
+        property.addChangeListener((observable, oldValue, newValue) -> changes.add(oldValue + "->" + newValue));
+
+        Quitte.batch(() -> {
+            property.set(1);
+            property.set(2);
+        });
+
+        assertEquals(List.of("0->2"), changes);
+    }
+
+    @Test
+    public void testBatchDropsRevertedChanges() {
+        SimpleIntProperty property = new SimpleIntProperty(0);
+        AtomicInteger changes = new AtomicInteger();
+        property.addChangeListener((observable, oldValue, newValue) -> changes.incrementAndGet());
+
+        Quitte.batch(() -> {
+            property.set(1);
+            property.set(0);
+        });
+
+        assertEquals(0, changes.get());
+    }
+
+    @Test
+    public void testBatchRecomputesDependentsOnce() {
+        List<SimpleIntProperty> properties = new ArrayList<>();
+        for (int i = 0; i < 50; i++) properties.add(new SimpleIntProperty(0));
+
+        AtomicInteger recomputations = new AtomicInteger();
+        SimpleIntExpression sum = new SimpleIntExpression() {
+
+            {
+                properties.forEach(this::addDependency);
+                this.invalidate();
+            }
+
+            @Override
+            protected int recomputeValue() {
+                recomputations.incrementAndGet();
+                return properties.stream().mapToInt(SimpleIntProperty::get).sum();
+            }
+
+        };
+
+        recomputations.set(0);
+        Quitte.batch(() -> properties.forEach(property -> property.set(1)));
+
+        assertEquals(1, recomputations.get());
+        assertEquals(50, sum.get());
+    }
+
+    @Test
+    public void testNestedTransactions() {
+        SimpleIntProperty property = new SimpleIntProperty(0);
+        AtomicInteger invalidations = new AtomicInteger();
+        property.addInvalidationListener(ignored -> invalidations.incrementAndGet());
+
+        try (var outer = Quitte.beginTransaction()) {
+            try (var inner = Quitte.beginTransaction()) {
+                property.set(1);
+            }
+
+            assertEquals(0, invalidations.get());
+            property.set(2);
+        }
+
+        assertEquals(1, invalidations.get());
+    }
+
+    @Test
+    public void testTransactionCommitTwice() {
+        Quitte.Transaction transaction = Quitte.beginTransaction();
+        transaction.close();
+
+        assertThrows(IllegalStateException.class, transaction::close);
+    }
+
+    @Test
+    public void testBatchMergesCollectionChanges() {
+        ObservableList<Integer> list = ObservableList.of(new ArrayList<>());
+        List<ListChangeListener.Change<? extends Integer>> changes = new ArrayList<>();
+        list.addChangeListener((observable, change) -> changes.add(change));
+
+        Quitte.batch(() -> {
+            list.add(1);
+            list.add(2);
+            list.add(3);
+        });
+
+        assertEquals(1, changes.size());
+        assertEquals(List.of(1, 2, 3), list);
+    }
+
+}
@@ -0,0 +1,239 @@
+/*
+ * Copyright (c) 2018-2023 Leon Linhart,
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.osmerion.quitte;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import com.osmerion.quitte.property.ReadableDoubleProperty;
+import com.osmerion.quitte.property.ReadableIntProperty;
+import com.osmerion.quitte.property.ReadableObjectProperty;
+import com.osmerion.quitte.property.SimpleDoubleProperty;
+import com.osmerion.quitte.property.SimpleIntProperty;
+import com.osmerion.quitte.property.SimpleObjectProperty;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public final class TimedValueTest {
+
+    private static final Duration DELAY = Duration.ofMillis(100);
+
+    /** A scheduler that runs its tasks on the calling thread once its virtual clock is advanced. */
+    private static final class VirtualScheduler extends AbstractExecutorService implements ScheduledExecutorService {
+
+        private final PriorityQueue<Task<?>> tasks = new PriorityQueue<>(Comparator.comparingLong((Task<?> task) -> task.time).thenComparingLong(task -> task.sequence));
+
+        private long now, sequence;
+
+        void advance(Duration duration) {
+            long target = this.now + duration.toNanos();
+            Task<?> task;
+
+            while ((task = this.tasks.peek()) != null && task.time <= target) {
+                this.tasks.poll();
+                this.now = task.time;
+                task.run();
+            }
+
+            this.now = target;
+        }
+
+        int pending() {
+            this.tasks.removeIf(Task::isCancelled);
+            return this.tasks.size();
+        }
+
+        @Override
+        public ScheduledFuture<?> schedule(Runnable command, long delay, TimeUnit unit) {
+            return this.schedule(() -> {
+                command.run();
+                return null;
+            }, delay, unit);
+        }
+
+        @Override
+        public <V> ScheduledFuture<V> schedule(Callable<V> callable, long delay, TimeUnit unit) {
+            Task<V> task = new Task<>(callable, this.now + unit.toNanos(delay), this.sequence++);
+            this.tasks.add(task);
+            return task;
+        }
+
+        @Override
+        public ScheduledFuture<?> scheduleAtFixedRate(Runnable command, long initialDelay, long period, TimeUnit unit) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public ScheduledFuture<?> scheduleWithFixedDelay(Runnable command, long initialDelay, long delay, TimeUnit unit) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void execute(Runnable command) {
+            this.schedule(command, 0, TimeUnit.NANOSECONDS);
+        }
+
+        @Override public void shutdown() {}
+        @Override public List<Runnable> shutdownNow() { return List.of(); }
+        @Override public boolean isShutdown() { return false; }
+        @Override public boolean isTerminated() { return false; }
+        @Override public boolean awaitTermination(long timeout, TimeUnit unit) { return false; }
+
+        private final class Task<V> extends FutureTask<V> implements ScheduledFuture<V> {
+
+            private final long time, sequence;
+
+            Task(Callable<V> callable, long time, long sequence) {
+                super(callable);
+                this.time = time;
+                this.sequence = sequence;
+            }
+
+            @Override
+            public long getDelay(TimeUnit unit) {
+                return unit.convert(this.time - VirtualScheduler.this.now, TimeUnit.NANOSECONDS);
+            }
+
+            @Override
+            public int compareTo(Delayed other) {
+                return Long.compare(this.getDelay(TimeUnit.NANOSECONDS), other.getDelay(TimeUnit.NANOSECONDS));
+            }
+
+        }
+
+    }
+
+    @Test
+    public void testDebounce() {
+        VirtualScheduler scheduler = new VirtualScheduler();
+        SimpleDoubleProperty source = new SimpleDoubleProperty(0.0D);
+        ReadableDoubleProperty debounced = source.debounce(DELAY, scheduler);
+        List<Double> values = new ArrayList<>();
+        debounced.addChangeListener((observable, oldValue, newValue) -> values.add(newValue));
+
+        source.set(1.0D);
+        scheduler.advance(Duration.ofMillis(50));
+        source.set(2.0D);
+        scheduler.advance(Duration.ofMillis(50));
+        source.set(3.0D);
+        scheduler.advance(Duration.ofMillis(99));
+        assertEquals(0.0D, debounced.get());
+        assertEquals(List.of(), values);
+
+        scheduler.advance(Duration.ofMillis(1));
+        assertEquals(3.0D, debounced.get());
+        assertEquals(List.of(3.0D), values);
+        assertEquals(0, scheduler.pending());
+        assertFalse(debounced.isWritable());
+    }
+
+    @Test
+    public void testThrottleLatest() {
+        VirtualScheduler scheduler = new VirtualScheduler();
+        SimpleIntProperty source = new SimpleIntProperty(0);
+        ReadableIntProperty throttled = source.throttleLatest(DELAY, scheduler);
+        List<Integer> values = new ArrayList<>();
+        throttled.addChangeListener((observable, oldValue, newValue) -> values.add(newValue));
+
+        source.set(1);
+        assertEquals(List.of(1), values);
+
+        source.set(2);
+        source.set(3);
+        scheduler.advance(Duration.ofMillis(50));
+        assertEquals(List.of(1), values);
+
+        scheduler.advance(Duration.ofMillis(50));
+        assertEquals(List.of(1, 3), values);
+
+        /* The emission of the latest value opened a new interval. */
+        source.set(4);
+        assertEquals(List.of(1, 3), values);
+
+        scheduler.advance(DELAY);
+        assertEquals(List.of(1, 3, 4), values);
+
+        /* The interval closes without further emissions. */
+        scheduler.advance(DELAY);
+        assertEquals(0, scheduler.pending());
+
+        source.set(5);
+        assertEquals(List.of(1, 3, 4, 5), values);
+    }
+
+    @Test
+    public void testSample() {
+        VirtualScheduler scheduler = new VirtualScheduler();
+        SimpleObjectProperty<String> source = new SimpleObjectProperty<>("a");
+        ReadableObjectProperty<String> sampled = source.sample(DELAY, scheduler);
+        List<String> values = new ArrayList<>();
+        sampled.addChangeListener((observable, oldValue, newValue) -> values.add(newValue));
+
+        assertEquals(0, scheduler.pending());
+
+        source.set("b");
+        scheduler.advance(Duration.ofMillis(60));
+        source.set("c");
+        scheduler.advance(Duration.ofMillis(40));
+        assertEquals(List.of("c"), values);
+
+        /* No tasks are scheduled while the source is idle. */
+        assertEquals(0, scheduler.pending());
+        scheduler.advance(DELAY.multipliedBy(5));
+        assertEquals(List.of("c"), values);
+
+        source.set("d");
+        scheduler.advance(DELAY);
+        assertEquals(List.of("c", "d"), values);
+    }
+
+    @Test
+    public void testNonPositiveDelayIsRejected() {
+        VirtualScheduler scheduler = new VirtualScheduler();
+        SimpleIntProperty source = new SimpleIntProperty(0);
+
+        assertThrows(IllegalArgumentException.class, () -> source.debounce(Duration.ZERO, scheduler));
+        assertThrows(IllegalArgumentException.class, () -> source.throttleLatest(Duration.ofMillis(-1), scheduler));
+        assertThrows(NullPointerException.class, () -> source.sample(DELAY, null));
+    }
+
+}
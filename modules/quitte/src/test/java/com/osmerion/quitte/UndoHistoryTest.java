@@ -0,0 +1,290 @@
+/*
+ * Copyright (c) 2018-2023 Leon Linhart,
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.osmerion.quitte;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.osmerion.quitte.collections.ObservableList;
+import com.osmerion.quitte.property.*;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public final class UndoHistoryTest {
+
+    @Test
+    public void testValueEditsAreMerged() {
+        UndoHistory history = new UndoHistory(Long.MAX_VALUE);
+        SimpleIntProperty property = new SimpleIntProperty(0);
+        history.track(property);
+
+        for (int i = 1; i <= 10; i++) property.set(i);
+
+        assertTrue(history.undo());
+        assertEquals(0, property.get());
+        assertFalse(history.canUndo());
+
+        assertTrue(history.redo());
+        assertEquals(10, property.get());
+    }
+
+    @Test
+    public void testCheckpointPreventsMerging() {
+        UndoHistory history = new UndoHistory(Long.MAX_VALUE);
+        SimpleDoubleProperty property = new SimpleDoubleProperty(0.0D);
+        history.track(property);
+
+        property.set(1.5D);
+        history.checkpoint();
+        property.set(2.5D);
+
+        assertTrue(history.undo());
+        assertEquals(1.5D, property.get());
+        assertTrue(history.undo());
+        assertEquals(0.0D, property.get());
+    }
+
+    @Test
+    public void testRevertedValueEditIsDropped() {
+        UndoHistory history = new UndoHistory(Long.MAX_VALUE);
+        SimpleObjectProperty<String> property = new SimpleObjectProperty<>("a");
+        history.track(property);
+
+        property.set("b");
+        property.set("a");
+
+        assertFalse(history.canUndo());
+    }
+
+    @Test
+    public void testAdjacentListInsertionsAreMerged() {
+        UndoHistory history = new UndoHistory(Long.MAX_VALUE);
+        ListProperty<Character> list = new ListProperty<>();
+        list.addAll(List.of('x', 'y'));
+        history.track(list);
+
+        for (char c : "hello".toCharArray()) list.add(list.size() - 1, c);
+
+        list.remove(list.size() - 2);
+
+        AtomicInteger changes = new AtomicInteger();
+        list.addChangeListener((observable, change) -> changes.incrementAndGet());
+
+        assertTrue(history.undo());
+        assertEquals(List.of('x', 'y'), list);
+        assertEquals(1, changes.get());
+        assertFalse(history.canUndo());
+
+        assertTrue(history.redo());
+        assertEquals(List.of('x', 'h', 'e', 'l', 'l', 'y'), list);
+        assertEquals(2, changes.get());
+    }
+
+    @Test
+    public void testListRangesAreReplayedInBulk() {
+        AtomicInteger removals = new AtomicInteger();
+        ObservableList<Integer> list = ObservableList.of(new ArrayList<>() {
+
+            @Override
+            public Integer remove(int index) {
+                removals.incrementAndGet();
+                return super.remove(index);
+            }
+
+        });
+        list.addAll(List.of(1, 5));
+
+        UndoHistory history = new UndoHistory(Long.MAX_VALUE);
+        history.track(list);
+
+        list.addAll(1, List.of(2, 3, 4));
+        history.checkpoint();
+        list.subList(0, 3).clear();
+
+        assertTrue(history.undo());
+        assertTrue(history.undo());
+        assertEquals(List.of(1, 5), list);
+
+        assertTrue(history.redo());
+        assertTrue(history.redo());
+        assertEquals(List.of(4, 5), list);
+
+        assertEquals(0, removals.get());
+    }
+
+    @Test
+    public void testListEdits() {
+        UndoHistory history = new UndoHistory(Long.MAX_VALUE);
+        ListProperty<Integer> list = new ListProperty<>();
+        list.addAll(List.of(3, 1, 2));
+        history.track(list);
+
+        list.set(0, 4);
+        history.checkpoint();
+        list.remove(1);
+        history.checkpoint();
+        list.sort(Comparator.naturalOrder());
+
+        List<List<Integer>> undone = new ArrayList<>();
+        while (history.undo()) undone.add(new ArrayList<>(list));
+
+        assertEquals(List.of(List.of(4, 2), List.of(4, 1, 2), List.of(3, 1, 2)), undone);
+
+        while (history.redo());
+        assertEquals(List.of(2, 4), list);
+    }
+
+    @Test
+    public void testSetAndMapEdits() {
+        UndoHistory history = new UndoHistory(Long.MAX_VALUE);
+        SetProperty<String> set = new SetProperty<>();
+        MapProperty<String, Integer> map = new MapProperty<>();
+        set.add("a");
+        map.put("a", 1);
+        history.track(set);
+        history.track(map);
+
+        history.batch(() -> {
+            set.add("b");
+            set.remove("a");
+            map.put("a", 2);
+            map.put("b", 3);
+        });
+
+        assertTrue(history.undo());
+        assertEquals(Set.of("a"), set);
+        assertEquals(Map.of("a", 1), map);
+        assertFalse(history.canUndo());
+
+        assertTrue(history.redo());
+        assertEquals(Set.of("b"), set);
+        assertEquals(Map.of("a", 2, "b", 3), map);
+    }
+
+    @Test
+    public void testDequeEdits() {
+        UndoHistory history = new UndoHistory(Long.MAX_VALUE);
+        DequeProperty<Integer> deque = new DequeProperty<>();
+        deque.addAll(List.of(1, 2, 3));
+        history.track(deque);
+
+        deque.addFirst(0);
+        history.checkpoint();
+        deque.removeLast();
+        deque.removeLast();
+        history.checkpoint();
+        deque.addLast(7);
+
+        assertTrue(history.undo());
+        assertEquals(List.of(0, 1), new ArrayList<>(deque));
+        assertTrue(history.undo());
+        assertEquals(List.of(0, 1, 2, 3), new ArrayList<>(deque));
+        assertTrue(history.undo());
+        assertEquals(List.of(1, 2, 3), new ArrayList<>(deque));
+
+        while (history.redo());
+        assertEquals(List.of(0, 1, 7), new ArrayList<>(deque));
+    }
+
+    @Test
+    public void testOpaqueDequeEditClearsHistory() {
+        UndoHistory history = new UndoHistory(Long.MAX_VALUE);
+        DequeProperty<Integer> deque = new DequeProperty<>();
+        deque.addAll(List.of(1, 2, 1));
+        history.track(deque);
+
+        deque.addFirst(0);
+        deque.removeLastOccurrence(1);
+
+        assertFalse(history.canUndo());
+    }
+
+    @Test
+    public void testNewEditDiscardsRedoSteps() {
+        UndoHistory history = new UndoHistory(Long.MAX_VALUE);
+        SimpleIntProperty property = new SimpleIntProperty(0);
+        history.track(property);
+
+        property.set(1);
+        history.undo();
+        property.set(2);
+
+        assertFalse(history.canRedo());
+        assertTrue(history.undo());
+        assertEquals(0, property.get());
+    }
+
+    @Test
+    public void testMemoryBudgetDiscardsOldestSteps() {
+        UndoHistory history = new UndoHistory(1024);
+        ListProperty<Integer> list = new ListProperty<>();
+        history.track(list);
+
+        for (int i = 0; i < 100; i++) {
+            list.add(0, i);
+            history.checkpoint();
+        }
+
+        assertTrue(history.getMemoryUsage() <= 1024);
+
+        int steps = 0;
+        while (history.undo()) steps++;
+
+        assertTrue(steps > 0 && steps < 100);
+        assertEquals(100 - steps, list.size());
+    }
+
+    @Test
+    public void testUndoInTransactionFails() {
+        UndoHistory history = new UndoHistory(Long.MAX_VALUE);
+        assertThrows(IllegalStateException.class, () -> Quitte.batch(history::undo));
+    }
+
+    @Test
+    public void testCloseStopsTracking() {
+        UndoHistory history = new UndoHistory(Long.MAX_VALUE);
+        SimpleIntProperty property = new SimpleIntProperty(0);
+        history.track(property);
+
+        property.set(1);
+        history.close();
+        property.set(2);
+
+        assertFalse(history.canUndo());
+        assertEquals(0, history.getMemoryUsage());
+    }
+
+}
@@ -0,0 +1,173 @@
+/*
+ * Copyright (c) 2018-2023 Leon Linhart,
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.osmerion.quitte;
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.osmerion.quitte.collections.ObservableList;
+import com.osmerion.quitte.collections.WeakListChangeListener;
+import com.osmerion.quitte.property.SimpleIntProperty;
+import com.osmerion.quitte.value.change.IntChangeListener;
+import com.osmerion.quitte.value.change.WeakIntChangeListener;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public final class WeakListenerTest {
+
+    /*
+     * The helpers below create the wrapped listeners in separate frames so that no strong reference to them survives on
+     * the test's stack.
+     */
+
+    private static WeakInvalidationListener attachInvalidationListener(Observable observable, AtomicInteger counter) {
+        WeakInvalidationListener wrapper = new WeakInvalidationListener(ignored -> counter.incrementAndGet());
+        assertTrue(observable.addInvalidationListener(wrapper));
+
+        return wrapper;
+    }
+
+    private static WeakReference<WeakIntChangeListener> attachChangeListener(SimpleIntProperty property, AtomicInteger counter) {
+        IntChangeListener listener = (observable, oldValue, newValue) -> counter.incrementAndGet();
+        WeakIntChangeListener wrapper = new WeakIntChangeListener(listener);
+        assertTrue(property.addChangeListener(wrapper));
+
+        return new WeakReference<>(wrapper);
+    }
+
+    private static WeakReference<WeakListChangeListener<String>> attachListChangeListener(ObservableList<String> list, AtomicInteger counter) {
+        WeakListChangeListener<String> wrapper = new WeakListChangeListener<>((observable, change) -> counter.incrementAndGet());
+        assertTrue(list.addChangeListener(wrapper));
+
+        return new WeakReference<>(wrapper);
+    }
+
+    private static void awaitCollection(WeakReference<?> ref) throws InterruptedException {
+        for (int i = 0; i < 200 && !ref.refersTo(null); i++) {
+            System.gc();
+            Thread.sleep(10);
+        }
+
+        assertTrue(ref.refersTo(null));
+    }
+
+    @Test
+    public void testIsInvalidAfterCollection() throws InterruptedException {
+        SimpleIntProperty property = new SimpleIntProperty(0);
+        AtomicInteger counter = new AtomicInteger();
+        WeakInvalidationListener wrapper = attachInvalidationListener(property, counter);
+
+        /* The wrapper is still referenced by the test. Thus, it can only become invalid once its listener is collected. */
+        for (int i = 0; i < 200 && !wrapper.isInvalid(); i++) {
+            System.gc();
+            Thread.sleep(10);
+        }
+
+        assertTrue(wrapper.isInvalid());
+
+        property.set(1);
+        assertEquals(0, counter.get());
+    }
+
+    @Test
+    public void testChangeListenerIsReapedWithoutNotification() throws InterruptedException {
+        SimpleIntProperty property = new SimpleIntProperty(0);
+        AtomicInteger counter = new AtomicInteger();
+
+        /*
+         * The wrapper itself is only referenced by the property. It can only be collected once the property has detached
+         * it, which requires the reaper since the property is never notified.
+         */
+        awaitCollection(attachChangeListener(property, counter));
+
+        property.set(1);
+        assertEquals(0, counter.get());
+    }
+
+    @Test
+    public void testListChangeListenerIsReapedWithoutNotification() throws InterruptedException {
+        ObservableList<String> list = ObservableList.of(new ArrayList<>());
+        AtomicInteger counter = new AtomicInteger();
+
+        awaitCollection(attachListChangeListener(list, counter));
+
+        list.add("A");
+        assertEquals(0, counter.get());
+    }
+
+    @Test
+    public void testRepeatedAttachmentIsTrackedOnce() throws InterruptedException {
+        SimpleIntProperty property = new SimpleIntProperty(0);
+        AtomicInteger counter = new AtomicInteger();
+        WeakInvalidationListener wrapper = attachInvalidationListener(property, counter);
+
+        for (int i = 0; i < 10_000; i++) {
+            assertTrue(property.removeInvalidationListener(wrapper));
+            assertTrue(property.addInvalidationListener(wrapper));
+        }
+
+        Object owner = new Object();
+        AtomicInteger reaped = new AtomicInteger();
+        for (int i = 0; i < 100; i++) wrapper.reapFrom(owner, ignored -> reaped.incrementAndGet());
+
+        for (int i = 0; i < 200 && reaped.get() == 0; i++) {
+            System.gc();
+            Thread.sleep(10);
+        }
+
+        Thread.sleep(50);
+        assertEquals(1, reaped.get());
+        assertNotNull(owner);
+    }
+
+    @Test
+    public void testStronglyReferencedListenerIsNotReaped() throws InterruptedException {
+        SimpleIntProperty property = new SimpleIntProperty(0);
+        AtomicInteger counter = new AtomicInteger();
+        InvalidationListener listener = ignored -> counter.incrementAndGet();
+        WeakReference<WeakInvalidationListener> wrapper = new WeakReference<>(new WeakInvalidationListener(listener));
+        assertTrue(property.addInvalidationListener(wrapper.get()));
+
+        for (int i = 0; i < 5; i++) {
+            System.gc();
+            Thread.sleep(10);
+        }
+
+        assertFalse(wrapper.refersTo(null));
+
+        property.set(1);
+        assertEquals(1, counter.get());
+        assertNotNull(listener);
+    }
+
+}
@@ -35,6 +35,7 @@ import java.util.Collections;
 import java.util.Comparator;
 import java.util.List;
 
+import com.osmerion.quitte.Quitte;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -64,8 +65,7 @@ public final class ObservableListTest {
     public void testClear() {
         try (var changeCtx = this.changeListener.push()) {
             this.observableList.addAll(List.of("foo", "bar"));
-            changeCtx.assertInsertion(0, "foo");
-            changeCtx.assertInsertion(1, "bar");
+            changeCtx.assertInsertion(0, "foo", "bar");
             changeCtx.assertEmpty();
 
             this.observableList.add("foo");
@@ -73,9 +73,7 @@ public final class ObservableListTest {
             changeCtx.assertEmpty();
 
             this.observableList.clear();
-            changeCtx.assertRemoval(0, "foo");
-            changeCtx.assertRemoval(0, "bar");
-            changeCtx.assertRemoval(0, "foo");
+            changeCtx.assertRemoval(0, "foo", "bar", "foo");
             changeCtx.assertEmpty();
         }
     }
@@ -125,10 +123,7 @@ public final class ObservableListTest {
     public void testPerm() {
         try (var changeCtx = this.changeListener.push()) {
             this.observableList.addAll(List.of("foo", "bar", "blub", "dup"));
-            changeCtx.assertInsertion(0, "foo");
-            changeCtx.assertInsertion(1, "bar");
-            changeCtx.assertInsertion(2, "blub");
-            changeCtx.assertInsertion(3, "dup");
+            changeCtx.assertInsertion(0, "foo", "bar", "blub", "dup");
             changeCtx.assertEmpty();
 
             this.observableList.sort(Comparator.naturalOrder());
@@ -137,6 +132,139 @@ public final class ObservableListTest {
         }
     }
 
+    @Test
+    @DisplayName("ObservableList permutation detection for batched modifications")
+    public void testPermBatched() {
+        this.observableList.addAll(List.of("foo", "bar", "blub"));
+
+        try (var changeCtx = this.changeListener.push()) {
+            Quitte.batch(() -> {
+                this.observableList.set(0, "blub");
+                this.observableList.set(2, "foo");
+            });
+
+            changeCtx.assertPermutation(List.of(2, 1, 0));
+            changeCtx.assertEmpty();
+
+            Quitte.batch(() -> {
+                this.observableList.remove(0);
+                this.observableList.add(1, "blub");
+            });
+
+            changeCtx.assertPermutation(List.of(1, 0, 2));
+            changeCtx.assertEmpty();
+
+            Quitte.batch(() -> {
+                this.observableList.sort(Comparator.reverseOrder());
+                this.observableList.sort(Comparator.comparingInt(String::length));
+            });
+
+            changeCtx.assertPermutation(List.of(1, 2, 0));
+            changeCtx.assertEmpty();
+        }
+    }
+
+    @Test
+    @DisplayName("ObservableList#sort() is stable and does not notify if the order is unchanged")
+    public void testSort() {
+        this.observableList.addAll(List.of("b", "a", "B", "A"));
+
+        try (var changeCtx = this.changeListener.push()) {
+            this.observableList.sort(String.CASE_INSENSITIVE_ORDER);
+            changeCtx.assertPermutation(List.of(2, 0, 3, 1));
+            changeCtx.assertEmpty();
+
+            assertEquals(List.of("a", "A", "b", "B"), this.observableList);
+
+            this.observableList.sort(String.CASE_INSENSITIVE_ORDER);
+            changeCtx.assertEmpty();
+
+            this.observableList.sort(null);
+            changeCtx.assertPermutation(List.of(2, 0, 3, 1));
+            changeCtx.assertEmpty();
+
+            assertEquals(List.of("A", "B", "a", "b"), this.observableList);
+        }
+    }
+
+    @Test
+    @DisplayName("ObservableList#sort() for large lists")
+    public void testSortLarge() {
+        int size = 100_000;
+        List<String> elements = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) elements.add(String.format("%06d", (i * 7919) % size));
+
+        this.observableList.addAll(elements);
+
+        try (var changeCtx = this.changeListener.push()) {
+            this.observableList.sort(Comparator.naturalOrder());
+
+            List<Integer> indices = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) indices.add((i * 7919) % size);
+
+            changeCtx.assertPermutation(indices);
+            changeCtx.assertEmpty();
+        }
+    }
+
+    @Test
+    @DisplayName("ObservableList#set() does not inspect the entire list")
+    public void testSetDoesNotScaleWithSize() {
+        assertEquals(countReadsForSet(1_000), countReadsForSet(100_000));
+    }
+
+    private static int countReadsForSet(int size) {
+        class CountingList extends ArrayList<String> {
+
+            int reads;
+
+            @Override
+            public String get(int index) {
+                this.reads++;
+                return super.get(index);
+            }
+
+            @Override
+            public Object[] toArray() {
+                this.reads += this.size();
+                return super.toArray();
+            }
+
+            @Override
+            public <T> T[] toArray(T[] a) {
+                this.reads += this.size();
+                return super.toArray(a);
+            }
+
+        }
+
+        CountingList underlyingList = new CountingList();
+        for (int i = 0; i < size; i++) underlyingList.add(String.valueOf(i));
+
+        ObservableList<String> observableList = ObservableList.of(underlyingList);
+        MockListChangeListener<String> changeListener = new MockListChangeListener<>();
+        observableList.addChangeListener(changeListener);
+
+        underlyingList.reads = 0;
+
+        try (var changeCtx = changeListener.push()) {
+            observableList.set(1, "foo");
+            changeCtx.assertUpdate(1, "1", "foo");
+            changeCtx.assertEmpty();
+
+            observableList.set(2, "2");
+            changeCtx.assertEmpty();
+
+            Quitte.batch(() -> {
+                observableList.set(3, "foo");
+                observableList.set(3, "3");
+            });
+            changeCtx.assertEmpty();
+        }
+
+        return underlyingList.reads;
+    }
+
     @Test
     @DisplayName("ObservableSet#setAll()")
     public void testSetAll() {
@@ -195,5 +323,29 @@ public final class ObservableListTest {
         assertEquals(1, this.observableList.size());
     }
 
+    @Test
+    @DisplayName("ListChangeListener.Change#merge(Change, Change) of updates")
+    public void testMergeUpdates() {
+        var a = new ListChangeListener.Change.Update<>(List.of(new ListChangeListener.LocalChange.Insertion<>(0, List.of("a"))));
+        var b = new ListChangeListener.Change.Update<>(List.of(new ListChangeListener.LocalChange.Insertion<>(1, List.of("b"))));
+        var c = new ListChangeListener.Change.Update<>(List.of(new ListChangeListener.LocalChange.Insertion<>(2, List.of("c"))));
+        var d = new ListChangeListener.Change.Update<>(List.of(new ListChangeListener.LocalChange.Removal<>(0, List.of("a"))));
+
+        var ab = ListChangeListener.Change.merge(a, b);
+        var abc = ListChangeListener.Change.merge(ab, c);
+        assertEquals(List.of(a.localChanges().get(0), b.localChanges().get(0)), ((ListChangeListener.Change.Update<String>) ab).localChanges());
+        assertEquals(List.of(a.localChanges().get(0), b.localChanges().get(0), c.localChanges().get(0)), ((ListChangeListener.Change.Update<String>) abc).localChanges());
+
+        // Merging into an earlier result must neither modify it nor any later result.
+        var abd = ListChangeListener.Change.merge(ab, d);
+        assertEquals(List.of(a.localChanges().get(0), b.localChanges().get(0), d.localChanges().get(0)), ((ListChangeListener.Change.Update<String>) abd).localChanges());
+        assertEquals(List.of(a.localChanges().get(0), b.localChanges().get(0), c.localChanges().get(0)), ((ListChangeListener.Change.Update<String>) abc).localChanges());
+        assertEquals(2, ((ListChangeListener.Change.Update<String>) ab).localChanges().size());
+
+        var merged = abc;
+        for (int i = 0; i < 100; i++) merged = ListChangeListener.Change.merge(merged, d);
+        assertEquals(103, ((ListChangeListener.Change.Update<String>) merged).localChanges().size());
+        assertThrows(UnsupportedOperationException.class, () -> ((ListChangeListener.Change.Update<String>) abc).localChanges().clear());
+    }
 
 }
\ No newline at end of file
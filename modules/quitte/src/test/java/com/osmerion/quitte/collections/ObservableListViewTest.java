@@ -0,0 +1,248 @@
+/*
+ * Copyright (c) 2018-2023 Leon Linhart,
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.osmerion.quitte.collections;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import com.osmerion.quitte.Quitte;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for {@link ObservableList#filtered(Predicate)}, {@link ObservableList#sorted(Comparator)}, and
+ * {@link ObservableList#mapped(Function)}.
+ *
+ * @author  Leon Linhart
+ */
+public final class ObservableListViewTest {
+
+    private ObservableList<String> source;
+    private MockListChangeListener<String> changeListener;
+
+    @BeforeEach
+    public void reset() {
+        this.source = ObservableList.of(new ArrayList<>(List.of("b", "A", "c", "D")));
+        this.changeListener = new MockListChangeListener<>();
+    }
+
+    @Test
+    @DisplayName("ObservableList#filtered()")
+    public void testFiltered() {
+        ObservableList<String> view = this.source.filtered(it -> Character.isLowerCase(it.charAt(0)));
+        view.addChangeListener(this.changeListener);
+        assertEquals(List.of("b", "c"), view);
+
+        try (var changeCtx = this.changeListener.push()) {
+            this.source.addAll(1, List.of("x", "Y", "z"));
+            assertEquals(List.of("b", "x", "z", "c"), view);
+            changeCtx.assertInsertion(1, "x", "z");
+            changeCtx.assertEmpty();
+
+            this.source.add("E");
+            changeCtx.assertEmpty();
+
+            this.source.set(2, "y");
+            assertEquals(List.of("b", "x", "y", "z", "c"), view);
+            changeCtx.assertInsertion(2, "y");
+            changeCtx.assertEmpty();
+
+            this.source.set(1, "X");
+            assertEquals(List.of("b", "y", "z", "c"), view);
+            changeCtx.assertRemoval(1, "x");
+            changeCtx.assertEmpty();
+
+            this.source.set(0, "a");
+            assertEquals(List.of("a", "y", "z", "c"), view);
+            changeCtx.assertUpdate(0, List.of("b"), List.of("a"));
+            changeCtx.assertEmpty();
+
+            this.source.subList(0, 3).clear();
+            assertEquals(List.of("z", "c"), view);
+            changeCtx.assertRemoval(0, "a", "y");
+            changeCtx.assertEmpty();
+
+            this.source.sort(Comparator.naturalOrder());
+            assertEquals(List.of("c", "z"), view);
+            changeCtx.assertPermutation(List.of(1, 0));
+            changeCtx.assertEmpty();
+        }
+
+        assertThrows(UnsupportedOperationException.class, () -> view.add("a"));
+        assertThrows(UnsupportedOperationException.class, view::clear);
+    }
+
+    @Test
+    @DisplayName("ObservableList#sorted()")
+    public void testSorted() {
+        ObservableList<String> view = this.source.sorted(String.CASE_INSENSITIVE_ORDER);
+        view.addChangeListener(this.changeListener);
+        assertEquals(List.of("A", "b", "c", "D"), view);
+
+        try (var changeCtx = this.changeListener.push()) {
+            this.source.add("B");
+            assertEquals(List.of("A", "b", "B", "c", "D"), view);
+            changeCtx.assertInsertion(2, "B");
+            changeCtx.assertEmpty();
+
+            this.source.set(2, "a");
+            assertEquals(List.of("A", "a", "b", "B", "D"), view);
+            changeCtx.assertRemoval(3, "c");
+            changeCtx.assertInsertion(1, "a");
+            changeCtx.assertEmpty();
+
+            this.source.set(3, "E");
+            assertEquals(List.of("A", "a", "b", "B", "E"), view);
+            changeCtx.assertUpdate(4, List.of("D"), List.of("E"));
+            changeCtx.assertEmpty();
+
+            this.source.remove(0);
+            assertEquals(List.of("A", "a", "B", "E"), view);
+            changeCtx.assertRemoval(2, "b");
+            changeCtx.assertEmpty();
+
+            /* Reordering the source list only affects the order of equal elements. */
+            this.source.sort(Comparator.reverseOrder());
+            assertEquals(List.of("a", "A", "B", "E"), view);
+            changeCtx.assertPermutation(List.of(1, 0, 2, 3));
+            changeCtx.assertEmpty();
+
+            this.source.sort(Comparator.comparing(String::toLowerCase));
+            changeCtx.assertEmpty();
+        }
+    }
+
+    @Test
+    @DisplayName("ObservableList#mapped()")
+    public void testMapped() {
+        ObservableList<String> view = this.source.mapped(String::toUpperCase);
+        view.addChangeListener(this.changeListener);
+        assertEquals(List.of("B", "A", "C", "D"), view);
+
+        try (var changeCtx = this.changeListener.push()) {
+            this.source.addAll(List.of("e", "f"));
+            changeCtx.assertInsertion(4, "E", "F");
+            changeCtx.assertEmpty();
+
+            this.source.set(0, "x");
+            changeCtx.assertUpdate(0, List.of("B"), List.of("X"));
+            changeCtx.assertEmpty();
+
+            this.source.subList(1, 3).clear();
+            changeCtx.assertRemoval(1, "A", "C");
+            changeCtx.assertEmpty();
+
+            this.source.sort(Comparator.reverseOrder());
+            changeCtx.assertPermutation(List.of(0, 3, 2, 1));
+            changeCtx.assertEmpty();
+        }
+
+        assertEquals(List.of("X", "F", "E", "D"), view);
+    }
+
+    @Test
+    @DisplayName("ObservableList views are consistent with their source")
+    public void testConsistency() {
+        Random random = new Random(42);
+        Predicate<String> predicate = it -> (it.charAt(0) % 3) != 0;
+        Comparator<String> comparator = Comparator.comparing(String::toLowerCase);
+
+        ObservableList<String> filtered = this.source.filtered(predicate);
+        ObservableList<String> sorted = this.source.sorted(comparator);
+        ObservableList<String> mapped = this.source.mapped(String::toUpperCase);
+
+        /* Apply changes to copies of the views to verify that the reported changes are consistent. */
+        List<String> filteredCopy = new ArrayList<>(filtered);
+        List<String> sortedCopy = new ArrayList<>(sorted);
+        filtered.addChangeListener((observable, change) -> apply(filteredCopy, change));
+        sorted.addChangeListener((observable, change) -> apply(sortedCopy, change));
+
+        for (int i = 0; i < 1000; i++) {
+            Runnable action = () -> {
+                int size = this.source.size();
+                String element = String.valueOf((char) ((random.nextBoolean() ? 'a' : 'A') + random.nextInt(8)));
+
+                switch (random.nextInt(6)) {
+                    case 0 -> this.source.add(random.nextInt(size + 1), element);
+                    case 1 -> this.source.addAll(random.nextInt(size + 1), List.of(element, element.toLowerCase(), "h"));
+                    case 2 -> { if (size > 0) this.source.remove(random.nextInt(size)); }
+                    case 3 -> { if (size > 0) this.source.set(random.nextInt(size), element); }
+                    case 4 -> {
+                        int from = random.nextInt(size + 1);
+                        this.source.subList(from, from + random.nextInt(size - from + 1)).clear();
+                    }
+                    case 5 -> this.source.sort(random.nextBoolean() ? Comparator.naturalOrder() : Comparator.reverseOrder());
+                }
+            };
+
+            if (random.nextInt(4) == 0) {
+                Quitte.batch(() -> {
+                    action.run();
+                    action.run();
+                });
+            } else {
+                action.run();
+            }
+
+            assertEquals(this.source.stream().filter(predicate).toList(), filtered);
+            assertEquals(this.source.stream().sorted(comparator).toList(), sorted);
+            assertEquals(this.source.stream().map(String::toUpperCase).toList(), mapped);
+
+            assertEquals(filtered, filteredCopy);
+            assertEquals(sorted, sortedCopy);
+        }
+    }
+
+    private static <E> void apply(List<E> list, ListChangeListener.Change<? extends E> change) {
+        if (change instanceof ListChangeListener.Change.Permutation<? extends E> permutation) {
+            List<E> copy = new ArrayList<>(list);
+            for (int i = 0; i < copy.size(); i++) list.set(permutation.indices().get(i), copy.get(i));
+        } else if (change instanceof ListChangeListener.Change.Update<? extends E> update) {
+            for (var localChange : update.localChanges()) {
+                if (localChange instanceof ListChangeListener.LocalChange.Insertion<? extends E> insertion) {
+                    list.addAll(insertion.index(), insertion.elements());
+                } else if (localChange instanceof ListChangeListener.LocalChange.Removal<? extends E> removal) {
+                    list.subList(removal.index(), removal.index() + removal.elements().size()).clear();
+                } else if (localChange instanceof ListChangeListener.LocalChange.Update<? extends E> localUpdate) {
+                    for (int i = 0; i < localUpdate.newElements().size(); i++) list.set(localUpdate.index() + i, localUpdate.newElements().get(i));
+                }
+            }
+        }
+    }
+
+}
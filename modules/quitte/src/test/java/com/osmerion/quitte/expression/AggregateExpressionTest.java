@@ -0,0 +1,173 @@
+/*
+ * Copyright (c) 2018-2023 Leon Linhart,
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.osmerion.quitte.expression;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import com.osmerion.quitte.Quitte;
+import com.osmerion.quitte.collections.ObservableList;
+import com.osmerion.quitte.collections.ObservableSet;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public final class AggregateExpressionTest {
+
+    @Test
+    public void testSumOfList() {
+        ObservableList<String> list = ObservableList.of(new ArrayList<>(List.of("a", "bb", "ccc")));
+        SimpleIntExpression sum = SimpleIntExpression.sumOf(list, String::length);
+        assertEquals(6, sum.get());
+
+        List<Integer> observed = new ArrayList<>();
+        sum.addChangeListener((observable, oldValue, newValue) -> observed.add(newValue));
+
+        list.add("dddd");
+        assertEquals(10, sum.get());
+
+        list.set(0, "eeeee");
+        assertEquals(14, sum.get());
+
+        list.subList(1, 3).clear();
+        assertEquals(9, sum.get());
+
+        /* Reordering the list does not change the sum. */
+        list.sort(null);
+        assertEquals(9, sum.get());
+
+        Quitte.batch(() -> {
+            list.add("f");
+            list.remove("f");
+        });
+        assertEquals(9, sum.get());
+
+        assertEquals(List.of(10, 14, 9), observed);
+    }
+
+    @Test
+    public void testSumOfSet() {
+        ObservableSet<Long> set = ObservableSet.of(new HashSet<>(Set.of(1L, 2L, 3L)));
+        SimpleLongExpression sum = SimpleLongExpression.sumOf(set, it -> it);
+        assertEquals(6L, sum.get());
+
+        set.add(10L);
+        assertEquals(16L, sum.get());
+
+        set.remove(2L);
+        assertEquals(14L, sum.get());
+
+        set.clear();
+        assertEquals(0L, sum.get());
+    }
+
+    @Test
+    public void testCountOf() {
+        ObservableList<Integer> list = ObservableList.of(new ArrayList<>(List.of(1, 2, 3, 4)));
+        SimpleIntExpression count = SimpleIntExpression.countOf(list, it -> it % 2 == 0);
+        assertEquals(2, count.get());
+
+        list.addAll(List.of(6, 7, 8));
+        assertEquals(4, count.get());
+
+        list.set(0, 10);
+        assertEquals(5, count.get());
+
+        list.remove(Integer.valueOf(2));
+        assertEquals(4, count.get());
+    }
+
+    @Test
+    public void testMinOfAndMaxOf() {
+        ObservableList<Integer> list = ObservableList.of(new ArrayList<>(List.of(5, 3, 3, 9)));
+        SimpleIntExpression min = SimpleIntExpression.minOf(list, it -> it, -1);
+        SimpleIntExpression max = SimpleIntExpression.maxOf(list, it -> it, -1);
+        assertEquals(3, min.get());
+        assertEquals(9, max.get());
+
+        /* Duplicates are tracked. */
+        list.remove(Integer.valueOf(3));
+        assertEquals(3, min.get());
+
+        list.remove(Integer.valueOf(3));
+        assertEquals(5, min.get());
+
+        list.set(list.indexOf(9), 1);
+        assertEquals(1, min.get());
+        assertEquals(5, max.get());
+
+        list.clear();
+        assertEquals(-1, min.get());
+        assertEquals(-1, max.get());
+    }
+
+    @Test
+    public void testAverageOf() {
+        ObservableList<Double> list = ObservableList.of(new ArrayList<>());
+        SimpleDoubleExpression average = SimpleDoubleExpression.averageOf(list, it -> it);
+        assertTrue(Double.isNaN(average.get()));
+
+        list.addAll(List.of(1.0D, 2.0D, 6.0D));
+        assertEquals(3.0D, average.get());
+
+        list.add(Double.POSITIVE_INFINITY);
+        assertEquals(Double.POSITIVE_INFINITY, average.get());
+
+        list.remove(Double.POSITIVE_INFINITY);
+        assertEquals(3.0D, average.get());
+    }
+
+    @Test
+    public void testDoubleSumIsCompensated() {
+        ObservableList<Double> list = ObservableList.of(new ArrayList<>());
+        SimpleDoubleExpression sum = SimpleDoubleExpression.sumOf(list, it -> it);
+
+        list.add(1.0E20D);
+        for (int i = 0; i < 10; i++) list.add(1.0D);
+        list.remove(0);
+
+        assertEquals(10.0D, sum.get());
+    }
+
+    @Test
+    public void testDependentExpression() {
+        ObservableList<Integer> list = ObservableList.of(new ArrayList<>(List.of(1, 2)));
+        SimpleIntExpression sum = SimpleIntExpression.sumOf(list, it -> it);
+        SimpleIntExpression doubled = SimpleIntExpression.of(sum, it -> it * 2);
+        assertEquals(6, doubled.get());
+
+        list.add(3);
+        assertEquals(12, doubled.get());
+    }
+
+}
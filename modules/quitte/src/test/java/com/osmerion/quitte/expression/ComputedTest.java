@@ -0,0 +1,175 @@
+/*
+ * Copyright (c) 2018-2023 Leon Linhart,
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.osmerion.quitte.expression;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.osmerion.quitte.Observable;
+import com.osmerion.quitte.metrics.MetricsSink;
+import com.osmerion.quitte.metrics.QuitteMetrics;
+import com.osmerion.quitte.property.LazyIntProperty;
+import com.osmerion.quitte.property.SimpleBoolProperty;
+import com.osmerion.quitte.property.SimpleIntProperty;
+import com.osmerion.quitte.property.SimpleObjectProperty;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public final class ComputedTest {
+
+    @Test
+    public void testDependenciesAreTracked() {
+        SimpleIntProperty a = new SimpleIntProperty(1);
+        SimpleIntProperty b = new SimpleIntProperty(2);
+        SimpleIntExpression sum = Computed.ofInt(() -> a.get() + b.get());
+        assertEquals(3, sum.get());
+
+        a.set(5);
+        assertEquals(7, sum.get());
+
+        b.set(10);
+        assertEquals(15, sum.get());
+    }
+
+    @Test
+    public void testUntakenBranchesAreDropped() {
+        SimpleBoolProperty condition = new SimpleBoolProperty(true);
+        SimpleIntProperty a = new SimpleIntProperty(1);
+        SimpleIntProperty b = new SimpleIntProperty(2);
+        AtomicInteger computations = new AtomicInteger();
+
+        SimpleIntExpression expression = Computed.ofInt(() -> {
+            computations.incrementAndGet();
+            return condition.get() ? a.get() : b.get();
+        });
+        assertEquals(1, expression.get());
+        assertEquals(1, computations.get());
+
+        b.set(3);
+        assertEquals(1, computations.get());
+
+        condition.set(false);
+        assertEquals(3, expression.get());
+        assertEquals(2, computations.get());
+
+        a.set(4);
+        assertEquals(2, computations.get());
+
+        b.set(5);
+        assertEquals(5, expression.get());
+        assertEquals(3, computations.get());
+    }
+
+    @Test
+    public void testNestedComputedExpressions() {
+        SimpleIntProperty a = new SimpleIntProperty(1);
+        LazyIntProperty b = new LazyIntProperty(() -> 2);
+        SimpleIntExpression doubled = Computed.ofInt(() -> a.get() * 2);
+        SimpleObjectExpression<String> text = Computed.ofObject(() -> doubled.get() + "/" + b.get());
+        assertEquals("2/2", text.get());
+
+        a.set(3);
+        assertEquals("6/2", text.get());
+
+        b.set(4);
+        assertEquals("6/4", text.get());
+    }
+
+    @Test
+    public void testLazyRecomputationsAreNotTracked() {
+        SimpleIntProperty p = new SimpleIntProperty(1);
+        SimpleIntProperty q = new SimpleIntProperty(2);
+        LazyIntExpression lazy = LazyIntExpression.of(p, it -> it * 2);
+        SimpleIntExpression sum = Computed.ofInt(() -> lazy.get() + q.get());
+        assertEquals(4, sum.get());
+
+        /* The number of invalidation listeners of an observable is reported as the fan-out of its invalidations. */
+        List<Integer> fanOut = new ArrayList<>();
+        QuitteMetrics.setSink(new MetricsSink() {
+
+            @Override
+            public void recordInvalidationDispatch(Observable observable, int listeners, long nanos) {
+                if (observable == p) fanOut.add(listeners);
+            }
+
+        });
+
+        try {
+            p.set(3);
+        } finally {
+            QuitteMetrics.setSink(null);
+        }
+
+        assertEquals(List.of(1), fanOut);
+        assertEquals(8, sum.get());
+    }
+
+    @Test
+    public void testDiamondIsGlitchFree() {
+        SimpleIntProperty a = new SimpleIntProperty(1);
+        SimpleIntExpression b = SimpleIntExpression.of(a, it -> it + 1);
+        SimpleIntExpression c = SimpleIntExpression.of(SimpleIntExpression.of(a, it -> it * 2), it -> it);
+
+        List<String> observed = new ArrayList<>();
+        SimpleIntExpression d = Computed.ofInt(() -> {
+            observed.add(b.get() + "," + c.get());
+            return b.get() + c.get();
+        });
+
+        assertEquals(4, d.get());
+        observed.clear();
+
+        a.set(2);
+        assertEquals(List.of("3,4"), observed);
+        assertEquals(7, d.get());
+    }
+
+    @Test
+    public void testDependenciesAreTrackedAfterFailedComputation() {
+        SimpleObjectProperty<String> source = new SimpleObjectProperty<>("1");
+        SimpleIntExpression parsed = Computed.ofInt(() -> {
+            String value = source.get();
+            return (value != null) ? Integer.parseInt(value) : -1;
+        });
+        assertEquals(1, parsed.get());
+
+        source.set(null);
+        assertEquals(-1, parsed.get());
+
+        assertThrows(NumberFormatException.class, () -> source.set("x"));
+
+        source.set("42");
+        assertEquals(42, parsed.get());
+    }
+
+}
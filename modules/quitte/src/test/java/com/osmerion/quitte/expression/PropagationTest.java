@@ -0,0 +1,124 @@
+/*
+ * Copyright (c) 2018-2023 Leon Linhart,
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.osmerion.quitte.expression;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.osmerion.quitte.property.SimpleIntProperty;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public final class PropagationTest {
+
+    @Test
+    public void testDiamondIsGlitchFree() {
+        SimpleIntProperty a = new SimpleIntProperty(1);
+        SimpleIntExpression b = SimpleIntExpression.of(a, it -> it + 1);
+        SimpleIntExpression c = SimpleIntExpression.of(a, it -> it * 2);
+
+        List<String> observed = new ArrayList<>();
+        SimpleIntExpression d = new SimpleIntExpression() {
+
+            {
+                this.addDependency(b);
+                this.addDependency(c);
+                this.invalidate();
+            }
+
+            @Override
+            protected int recomputeValue() {
+                observed.add(b.get() + "," + c.get());
+                return b.get() + c.get();
+            }
+
+        };
+
+        assertEquals(4, d.get());
+        observed.clear();
+
+        a.set(2);
+        assertEquals(List.of("3,4"), observed);
+        assertEquals(7, d.get());
+    }
+
+    @Test
+    public void testUnevenPathsAreGlitchFree() {
+        SimpleIntProperty a = new SimpleIntProperty(1);
+        SimpleIntExpression b = SimpleIntExpression.of(SimpleIntExpression.of(a, it -> it + 1), it -> it + 1);
+
+        List<String> observed = new ArrayList<>();
+        SimpleIntExpression d = new SimpleIntExpression() {
+
+            {
+                this.addDependency(a);
+                this.addDependency(b);
+                this.invalidate();
+            }
+
+            @Override
+            protected int recomputeValue() {
+                observed.add(a.get() + "," + b.get());
+                return a.get() + b.get();
+            }
+
+        };
+
+        assertEquals(4, d.get());
+        observed.clear();
+
+        a.set(5);
+        assertEquals(List.of("5,7"), observed);
+        assertEquals(12, d.get());
+    }
+
+    @Test
+    public void testCombinedDiamondIsGlitchFree() {
+        SimpleIntProperty a = new SimpleIntProperty(1);
+        SimpleIntExpression b = SimpleIntExpression.of(a, it -> it + 1);
+        SimpleIntExpression c = SimpleIntExpression.of(SimpleIntExpression.of(a, it -> it * 2), it -> it);
+
+        List<String> observed = new ArrayList<>();
+        SimpleIntExpression d = SimpleIntExpression.combine(a, b, c, (x, y, z) -> {
+            observed.add(x + "," + y + "," + z);
+            return x + y + z;
+        });
+
+        assertEquals(5, d.get());
+        observed.clear();
+
+        a.set(2);
+        assertEquals(List.of("2,3,4"), observed);
+        assertEquals(9, d.get());
+    }
+
+}
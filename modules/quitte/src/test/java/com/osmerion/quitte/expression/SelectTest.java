@@ -0,0 +1,178 @@
+/*
+ * Copyright (c) 2018-2023 Leon Linhart,
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.osmerion.quitte.expression;
+
+import java.lang.ref.WeakReference;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.osmerion.quitte.property.SimpleIntProperty;
+import com.osmerion.quitte.property.SimpleObjectProperty;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public final class SelectTest {
+
+    private static final class Company {
+
+        final SimpleObjectProperty<Department> department = new SimpleObjectProperty<>(null);
+
+        Company(Department department) {
+            this.department.set(department);
+        }
+
+    }
+
+    private static final class Department {
+
+        final SimpleObjectProperty<Employee> head = new SimpleObjectProperty<>(null);
+
+        Department(Employee head) {
+            this.head.set(head);
+        }
+
+    }
+
+    private static final class Employee {
+
+        final SimpleIntProperty salary;
+
+        Employee(int salary) {
+            this.salary = new SimpleIntProperty(salary);
+        }
+
+    }
+
+    @Test
+    public void testPathIsFollowed() {
+        Employee alice = new Employee(100);
+        Department research = new Department(alice);
+        SimpleObjectProperty<Company> root = new SimpleObjectProperty<>(new Company(research));
+
+        SimpleIntExpression salary = SimpleIntExpression.select(root, company -> company.department, department -> department.head, employee -> employee.salary);
+        assertEquals(100, salary.get());
+
+        alice.salary.set(120);
+        assertEquals(120, salary.get());
+
+        Employee bob = new Employee(90);
+        research.head.set(bob);
+        assertEquals(90, salary.get());
+
+        /* The previous head is detached from the path. */
+        alice.salary.set(200);
+        assertEquals(90, salary.get());
+
+        root.set(new Company(new Department(new Employee(300))));
+        assertEquals(300, salary.get());
+
+        bob.salary.set(95);
+        assertEquals(300, salary.get());
+    }
+
+    @Test
+    public void testNullValuesEvaluateToDefault() {
+        SimpleObjectProperty<Department> root = new SimpleObjectProperty<>(null);
+        SimpleIntExpression salary = SimpleIntExpression.select(root, department -> department.head, employee -> employee.salary);
+        assertEquals(0, salary.get());
+
+        Department department = new Department(null);
+        root.set(department);
+        assertEquals(0, salary.get());
+
+        department.head.set(new Employee(50));
+        assertEquals(50, salary.get());
+
+        LazyObjectExpression<Employee> head = LazyObjectExpression.select(root, it -> it.head);
+        assertNotNull(head.get());
+
+        root.set(null);
+        assertEquals(0, salary.get());
+        assertNull(head.get());
+    }
+
+    @Test
+    public void testOnlyChangedSegmentsAreWalked() {
+        Department department = new Department(new Employee(10));
+        SimpleObjectProperty<Department> root = new SimpleObjectProperty<>(department);
+        AtomicInteger rootSelections = new AtomicInteger(), headSelections = new AtomicInteger();
+
+        SimpleIntExpression salary = SimpleIntExpression.select(
+            root,
+            it -> {
+                rootSelections.incrementAndGet();
+                return it.head;
+            },
+            it -> {
+                headSelections.incrementAndGet();
+                return it.salary;
+            }
+        );
+        assertEquals(1, rootSelections.get());
+        assertEquals(1, headSelections.get());
+
+        department.head.get().salary.set(20);
+        assertEquals(20, salary.get());
+        assertEquals(1, rootSelections.get());
+        assertEquals(1, headSelections.get());
+
+        department.head.set(new Employee(30));
+        assertEquals(30, salary.get());
+        assertEquals(1, rootSelections.get());
+        assertEquals(2, headSelections.get());
+    }
+
+    @Test
+    public void testExpressionIsNotRetainedByPath() throws InterruptedException {
+        SimpleObjectProperty<Department> root = new SimpleObjectProperty<>(new Department(new Employee(10)));
+        WeakReference<SimpleIntExpression> ref = new WeakReference<>(SimpleIntExpression.select(root, it -> it.head, it -> it.salary));
+
+        for (int i = 0; i < 200 && !ref.refersTo(null); i++) {
+            System.gc();
+            Thread.sleep(10);
+        }
+
+        assertTrue(ref.refersTo(null));
+    }
+
+    @Test
+    public void testOfNestedRejectsNull() {
+        SimpleObjectProperty<Employee> root = new SimpleObjectProperty<>(new Employee(10));
+        SimpleIntExpression salary = SimpleIntExpression.ofNested(root, it -> it.salary);
+        assertEquals(10, salary.get());
+
+        root.set(new Employee(20));
+        assertEquals(20, salary.get());
+
+        assertThrows(NullPointerException.class, () -> root.set(null));
+    }
+
+}
@@ -0,0 +1,244 @@
+/*
+ * Copyright (c) 2018-2023 Leon Linhart,
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.osmerion.quitte.io;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.osmerion.quitte.Quitte;
+import com.osmerion.quitte.property.*;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public final class ChangeJournalTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    public void testListReplay() throws IOException {
+        Path path = this.directory.resolve("list.journal");
+        ListProperty<String> list = new ListProperty<>();
+        list.addAll(List.of("d", "a"));
+
+        try (FileChannel channel = open(path); ChangeJournal ignored = ChangeJournal.attach(channel, list, ValueCodec.STRING)) {
+            list.add("c");
+            list.add(1, "b");
+            list.set(0, "e");
+            list.remove("a");
+            list.sort(Comparator.naturalOrder());
+            Quitte.batch(() -> {
+                list.add(0, null);
+                list.add("f");
+            });
+        }
+
+        ListProperty<String> restored = new ListProperty<>();
+        AtomicInteger changes = new AtomicInteger();
+        restored.addChangeListener((observable, change) -> changes.incrementAndGet());
+
+        try (FileChannel channel = open(path)) {
+            ChangeJournal.replay(channel, restored, ValueCodec.STRING);
+        }
+
+        assertEquals(list, restored);
+        assertEquals(1, changes.get());
+    }
+
+    @Test
+    public void testSetReplay() throws IOException {
+        Path path = this.directory.resolve("set.journal");
+        SetProperty<Integer> set = new SetProperty<>();
+        set.addAll(Set.of(1, 2));
+
+        try (FileChannel channel = open(path); ChangeJournal ignored = ChangeJournal.attach(channel, set, ValueCodec.INTEGER)) {
+            set.add(3);
+            set.remove(1);
+            set.addAll(Set.of(4, 5));
+        }
+
+        SetProperty<Integer> restored = new SetProperty<>();
+        restored.add(7);
+
+        try (FileChannel channel = open(path)) {
+            ChangeJournal.replay(channel, restored, ValueCodec.INTEGER);
+        }
+
+        assertEquals(Set.of(2, 3, 4, 5), restored);
+    }
+
+    @Test
+    public void testDequeReplay() throws IOException {
+        Path path = this.directory.resolve("deque.journal");
+        DequeProperty<Integer> deque = new DequeProperty<>();
+        deque.addAll(List.of(1, 2, 3));
+
+        try (FileChannel channel = open(path); ChangeJournal ignored = ChangeJournal.attach(channel, deque, ValueCodec.INTEGER)) {
+            deque.addFirst(0);
+            deque.addLast(4);
+            deque.removeFirst();
+            deque.pollLast();
+            deque.offerFirst(-1);
+            deque.removeLastOccurrence(2);
+        }
+
+        DequeProperty<Integer> restored = new DequeProperty<>();
+
+        try (FileChannel channel = open(path)) {
+            ChangeJournal.replay(channel, restored, ValueCodec.INTEGER);
+        }
+
+        assertEquals(new ArrayList<>(deque), new ArrayList<>(restored));
+    }
+
+    @Test
+    public void testMapReplay() throws IOException {
+        Path path = this.directory.resolve("map.journal");
+        MapProperty<String, Integer> map = new MapProperty<>();
+        map.put("a", 1);
+
+        try (FileChannel channel = open(path); ChangeJournal ignored = ChangeJournal.attach(channel, map, ValueCodec.STRING, ValueCodec.INTEGER)) {
+            map.put("b", 2);
+            map.put("a", 3);
+            map.remove("b");
+            map.put("c", null);
+        }
+
+        MapProperty<String, Integer> restored = new MapProperty<>();
+        restored.put("z", 26);
+
+        try (FileChannel channel = open(path)) {
+            ChangeJournal.replay(channel, restored, ValueCodec.STRING, ValueCodec.INTEGER);
+        }
+
+        assertEquals(map, restored);
+    }
+
+    @Test
+    public void testReplayIgnoresTornRecord() throws IOException {
+        Path path = this.directory.resolve("list.journal");
+        ListProperty<Integer> list = new ListProperty<>();
+
+        try (FileChannel channel = open(path); ChangeJournal ignored = ChangeJournal.attach(channel, list, ValueCodec.INTEGER)) {
+            list.add(1);
+            list.add(2);
+        }
+
+        try (FileChannel channel = open(path)) {
+            channel.truncate(channel.size() - 3);
+        }
+
+        ListProperty<Integer> restored = new ListProperty<>();
+
+        try (FileChannel channel = open(path)) {
+            ChangeJournal.replay(channel, restored, ValueCodec.INTEGER);
+        }
+
+        assertEquals(List.of(1), restored);
+    }
+
+    @Test
+    public void testAttachContinuesExistingJournal() throws IOException {
+        Path path = this.directory.resolve("list.journal");
+        ListProperty<Integer> list = new ListProperty<>();
+
+        try (FileChannel channel = open(path); ChangeJournal ignored = ChangeJournal.attach(channel, list, ValueCodec.INTEGER)) {
+            list.add(1);
+            list.add(2);
+        }
+
+        /* Simulate a crash while a record was being written. */
+        try (FileChannel channel = open(path)) {
+            channel.write(ByteBuffer.wrap(new byte[] { 0, 0, 0, 42, 1 }), channel.size());
+        }
+
+        ListProperty<Integer> restored = new ListProperty<>();
+
+        try (FileChannel channel = open(path)) {
+            ChangeJournal.replay(channel, restored, ValueCodec.INTEGER);
+
+            try (ChangeJournal ignored = ChangeJournal.attach(channel, restored, ValueCodec.INTEGER)) {
+                restored.add(3);
+            }
+        }
+
+        ListProperty<Integer> restoredAgain = new ListProperty<>();
+
+        try (FileChannel channel = open(path)) {
+            ChangeJournal.replay(channel, restoredAgain, ValueCodec.INTEGER);
+        }
+
+        assertEquals(List.of(1, 2, 3), restoredAgain);
+    }
+
+    @Test
+    public void testCloseDetaches() throws IOException {
+        Path path = this.directory.resolve("list.journal");
+        ListProperty<Integer> list = new ListProperty<>();
+
+        try (FileChannel channel = open(path)) {
+            ChangeJournal journal = ChangeJournal.attach(channel, list, ValueCodec.INTEGER);
+            list.add(1);
+            journal.close();
+
+            long size = channel.size();
+            list.add(2);
+
+            assertEquals(size, channel.size());
+            assertThrows(IllegalStateException.class, journal::commit);
+        }
+    }
+
+    @Test
+    public void testReplayRejectsOtherKinds() throws IOException {
+        Path path = this.directory.resolve("set.journal");
+
+        try (FileChannel channel = open(path); ChangeJournal ignored = ChangeJournal.attach(channel, new SetProperty<Integer>(), ValueCodec.INTEGER)) {
+            assertThrows(IOException.class, () -> ChangeJournal.replay(channel, new ListProperty<>(), ValueCodec.INTEGER));
+        }
+    }
+
+    private static FileChannel open(Path path) throws IOException {
+        return FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE, StandardOpenOption.CREATE);
+    }
+
+}
@@ -0,0 +1,226 @@
+/*
+ * Copyright (c) 2018-2023 Leon Linhart,
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.osmerion.quitte.io;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.osmerion.quitte.property.*;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public final class PropertyArchiveTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    public void testRoundTrip() throws IOException {
+        SimpleIntProperty count = new SimpleIntProperty(42);
+        LazyDoubleProperty ratio = new LazyDoubleProperty(() -> 0.5D);
+        SimpleObjectProperty<String> name = new SimpleObjectProperty<>(null);
+        ListProperty<String> list = new ListProperty<>();
+        SetProperty<Integer> set = new SetProperty<>();
+        DequeProperty<Long> deque = new DequeProperty<>();
+        MapProperty<String, Integer> map = new MapProperty<>();
+
+        list.addAll(List.of("a", "b", "c"));
+        set.addAll(Set.of(1, 2, 3));
+        deque.addAll(List.of(1L, 2L));
+        map.putAll(Map.of("x", 1, "y", 2));
+
+        Path path = this.directory.resolve("archive.bin");
+        archive(count, ratio, name, list, set, deque, map).write(path);
+
+        SimpleIntProperty restoredCount = new SimpleIntProperty(0);
+        LazyDoubleProperty restoredRatio = new LazyDoubleProperty(0.0D);
+        SimpleObjectProperty<String> restoredName = new SimpleObjectProperty<>("initial");
+        ListProperty<String> restoredList = new ListProperty<>();
+        SetProperty<Integer> restoredSet = new SetProperty<>();
+        DequeProperty<Long> restoredDeque = new DequeProperty<>();
+        MapProperty<String, Integer> restoredMap = new MapProperty<>();
+
+        restoredSet.addAll(Set.of(3, 4));
+        restoredMap.put("z", 3);
+
+        archive(restoredCount, restoredRatio, restoredName, restoredList, restoredSet, restoredDeque, restoredMap).restore(path);
+
+        assertEquals(42, restoredCount.get());
+        assertEquals(0.5D, restoredRatio.get());
+        assertNull(restoredName.get());
+        assertEquals(List.of("a", "b", "c"), restoredList);
+        assertEquals(Set.of(1, 2, 3), restoredSet);
+        assertEquals(List.of(1L, 2L), new ArrayList<>(restoredDeque));
+        assertEquals(Map.of("x", 1, "y", 2), restoredMap);
+    }
+
+    @Test
+    public void testRestoreNotifiesOncePerObservable() throws IOException {
+        ListProperty<Integer> list = new ListProperty<>();
+        for (int i = 0; i < 10_000; i++) list.add(i);
+
+        Path path = this.directory.resolve("archive.bin");
+        PropertyArchive archive = new PropertyArchive();
+        archive.register("list", list, ValueCodec.INTEGER);
+        archive.write(path);
+
+        ListProperty<Integer> restored = new ListProperty<>();
+        AtomicInteger invalidations = new AtomicInteger();
+        AtomicInteger changes = new AtomicInteger();
+        restored.addInvalidationListener(ignored -> invalidations.incrementAndGet());
+        restored.addChangeListener((observable, change) -> changes.incrementAndGet());
+
+        PropertyArchive restoringArchive = new PropertyArchive();
+        restoringArchive.register("list", restored, ValueCodec.INTEGER);
+        restoringArchive.restore(path);
+
+        assertEquals(10_000, restored.size());
+        assertEquals(1, invalidations.get());
+        assertEquals(1, changes.get());
+    }
+
+    @Test
+    public void testRestoreSkipsUnknownEntries() throws IOException {
+        PropertyArchive archive = new PropertyArchive();
+        archive.register("unknown", new SimpleObjectProperty<>("value"), ValueCodec.STRING);
+        archive.register("count", new SimpleIntProperty(7));
+
+        Path path = this.directory.resolve("archive.bin");
+        archive.write(path);
+
+        SimpleIntProperty count = new SimpleIntProperty(0);
+        SimpleLongProperty untouched = new SimpleLongProperty(3L);
+
+        PropertyArchive restoringArchive = new PropertyArchive();
+        restoringArchive.register("count", count);
+        restoringArchive.register("untouched", untouched);
+        restoringArchive.restore(path);
+
+        assertEquals(7, count.get());
+        assertEquals(3L, untouched.get());
+    }
+
+    @Test
+    public void testRestoreIsAtomic() throws IOException {
+        PropertyArchive archive = new PropertyArchive();
+        archive.register("first", new SimpleIntProperty(1));
+        archive.register("second", new SimpleIntProperty(2));
+
+        Path path = this.directory.resolve("archive.bin");
+        archive.write(path);
+
+        SimpleIntProperty first = new SimpleIntProperty(0);
+        SimpleLongProperty second = new SimpleLongProperty(0L);
+
+        PropertyArchive restoringArchive = new PropertyArchive();
+        restoringArchive.register("first", first);
+        restoringArchive.register("second", second);
+
+        assertThrows(IOException.class, () -> restoringArchive.restore(path));
+        assertEquals(0, first.get());
+    }
+
+    @Test
+    public void testRestoreRejectsInvalidFiles() throws IOException {
+        Path path = this.directory.resolve("archive.bin");
+        Files.write(path, new byte[] { 1, 2, 3, 4, 5, 6, 7, 8 });
+
+        PropertyArchive archive = new PropertyArchive();
+        assertThrows(IOException.class, () -> archive.restore(path));
+    }
+
+    @Test
+    public void testRestoreRejectsCorruptedSizes() throws IOException {
+        PropertyArchive archive = new PropertyArchive();
+        archive.register("list", new ListProperty<>("a"), ValueCodec.STRING);
+
+        Path path = this.directory.resolve("archive.bin");
+        archive.write(path);
+
+        byte[] bytes = Files.readAllBytes(path);
+
+        /*
+         * The archive consists of the magic, the version, and the number of entries (at offset 8), followed by the
+         * entry. The entry consists of its key ("list" with a two byte length prefix), its tag, and the length of its
+         * payload (at offset 19). The payload consists of the number of elements (at offset 23) and the element, which
+         * is prefixed by a null marker and a length (at offset 28).
+         */
+        for (int offset : new int[] { 8, 19, 23, 28 }) {
+            ByteBuffer corrupted = ByteBuffer.wrap(bytes.clone());
+            corrupted.putInt(offset, Integer.MAX_VALUE);
+            Files.write(path, corrupted.array());
+
+            PropertyArchive restoringArchive = new PropertyArchive();
+            restoringArchive.register("list", new ListProperty<String>(), ValueCodec.STRING);
+
+            assertThrows(IOException.class, () -> restoringArchive.restore(path), "offset " + offset);
+        }
+    }
+
+    @Test
+    public void testRegisterRejectsDuplicateKeys() {
+        PropertyArchive archive = new PropertyArchive();
+        archive.register("key", new SimpleIntProperty(0));
+
+        assertThrows(IllegalArgumentException.class, () -> archive.register("key", new SimpleIntProperty(0)));
+    }
+
+    private static PropertyArchive archive(
+        WritableIntProperty count,
+        WritableDoubleProperty ratio,
+        WritableObjectProperty<String> name,
+        WritableListProperty<String> list,
+        WritableSetProperty<Integer> set,
+        WritableDequeProperty<Long> deque,
+        WritableMapProperty<String, Integer> map
+    ) {
+        PropertyArchive archive = new PropertyArchive();
+        archive.register("count", count);
+        archive.register("ratio", ratio);
+        archive.register("name", name, ValueCodec.STRING);
+        archive.register("list", list, ValueCodec.STRING);
+        archive.register("set", set, ValueCodec.INTEGER);
+        archive.register("deque", deque, ValueCodec.LONG);
+        archive.register("map", map, ValueCodec.STRING, ValueCodec.INTEGER);
+
+        return archive;
+    }
+
+}
@@ -0,0 +1,179 @@
+/*
+ * Copyright (c) 2018-2023 Leon Linhart,
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.osmerion.quitte.metrics;
+
+import java.util.List;
+
+import com.osmerion.quitte.InvalidationListener;
+import com.osmerion.quitte.Observable;
+import com.osmerion.quitte.Quitte;
+import com.osmerion.quitte.collections.ListChangeListener;
+import com.osmerion.quitte.collections.ObservableList;
+import com.osmerion.quitte.expression.LazyIntExpression;
+import com.osmerion.quitte.expression.SimpleIntExpression;
+import com.osmerion.quitte.property.ListProperty;
+import com.osmerion.quitte.property.SimpleIntProperty;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public final class AggregatingMetricsSinkTest {
+
+    private final AggregatingMetricsSink sink = new AggregatingMetricsSink();
+
+    @BeforeEach
+    public void setUp() {
+        QuitteMetrics.setSink(this.sink);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        QuitteMetrics.setSink(null);
+    }
+
+    @Test
+    public void testSink() {
+        assertSame(this.sink, QuitteMetrics.getSink());
+
+        QuitteMetrics.setSink(null);
+        assertNull(QuitteMetrics.getSink());
+
+        SimpleIntProperty property = new SimpleIntProperty(0);
+        property.addInvalidationListener(observable -> {});
+        property.set(1);
+
+        assertTrue(this.sink.snapshot().isEmpty());
+    }
+
+    @Test
+    public void testProperty() {
+        SimpleIntProperty property = new SimpleIntProperty(0);
+        property.addInvalidationListener(observable -> {});
+        property.addInvalidationListener(observable -> {});
+        property.addChangeListener((observable, oldValue, newValue) -> {});
+
+        property.set(1);
+        property.set(1);
+        property.set(2);
+
+        AggregatingMetricsSink.Statistics statistics = this.sink.snapshot().get(SimpleIntProperty.class);
+        assertEquals(2, statistics.invalidations());
+        assertEquals(2, statistics.invalidationDispatches());
+        assertEquals(4, statistics.invalidationDispatchListeners());
+        assertEquals(2, statistics.changeDispatches());
+        assertEquals(2, statistics.changeDispatchListeners());
+        assertEquals(0, statistics.recomputations());
+        assertEquals(0, statistics.compactions());
+
+        this.sink.reset();
+        assertTrue(this.sink.snapshot().isEmpty());
+    }
+
+    @Test
+    public void testExpressions() {
+        SimpleIntProperty property = new SimpleIntProperty(0);
+        SimpleIntExpression simple = SimpleIntExpression.of(property, it -> it + 1);
+        LazyIntExpression lazy = LazyIntExpression.of(property, it -> it * 2);
+        lazy.get();
+        this.sink.reset();
+
+        property.set(1);
+        property.set(2);
+
+        assertEquals(2, this.sink.snapshot().get(simple.getClass()).recomputations());
+        assertEquals(2, this.sink.snapshot().get(lazy.getClass()).invalidations());
+        assertEquals(0, this.sink.snapshot().get(lazy.getClass()).recomputations());
+
+        assertEquals(4, lazy.get());
+        assertEquals(4, lazy.get());
+        assertEquals(3, simple.get());
+
+        AggregatingMetricsSink.Statistics statistics = this.sink.snapshot().get(lazy.getClass());
+        assertEquals(1, statistics.recomputations());
+        assertTrue(statistics.recomputationNanos() >= 0);
+    }
+
+    @Test
+    public void testCollection() {
+        ListProperty<String> list = new ListProperty<>();
+        list.addInvalidationListener(observable -> {});
+        list.addChangeListener((observable, change) -> {});
+
+        Quitte.batch(() -> {
+            list.add("a");
+            list.addAll(List.of("b", "c"));
+        });
+        list.remove("b");
+
+        AggregatingMetricsSink.Statistics statistics = this.sink.snapshot().get(ListProperty.class);
+        assertEquals(2, statistics.invalidations());
+        assertEquals(2, statistics.compactions());
+        assertEquals(2, statistics.changeDispatches());
+        assertEquals(2, statistics.changeDispatchListeners());
+        assertEquals(2, statistics.invalidationDispatches());
+        assertEquals(2, statistics.invalidationDispatchListeners());
+    }
+
+    @Test
+    public void testCollectionWithInvalidListeners() {
+        ListProperty<String> list = new ListProperty<>();
+        list.addInvalidationListener(observable -> {});
+        list.addInvalidationListener(new InvalidationListener() {
+
+            @Override
+            public void onInvalidation(Observable observable) {}
+
+            @Override
+            public boolean isInvalid() { return true; }
+
+        });
+        list.addChangeListener((observable, change) -> {});
+        list.addChangeListener(new ListChangeListener<>() {
+
+            @Override
+            public void onChanged(ObservableList<? extends String> observable, Change<? extends String> change) {}
+
+            @Override
+            public boolean isInvalid() { return true; }
+
+        });
+
+        list.add("a");
+
+        // The fan-out is the number of listeners the dispatch started with, including the ones it found invalid.
+        AggregatingMetricsSink.Statistics statistics = this.sink.snapshot().get(ListProperty.class);
+        assertEquals(2, statistics.changeDispatchListeners());
+        assertEquals(2, statistics.invalidationDispatchListeners());
+    }
+
+}
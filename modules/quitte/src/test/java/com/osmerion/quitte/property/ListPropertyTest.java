@@ -30,7 +30,12 @@
  */
 package com.osmerion.quitte.property;
 
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
 import com.osmerion.quitte.TestValues;
+import com.osmerion.quitte.collections.ListChangeListener;
 import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -159,4 +164,28 @@ public final class ListPropertyTest {
         assertEquals(other1, property);
     }
 
+    @Test
+    public void test_WritableListProperty$bindTo_UpdateBulk() {
+        ListProperty<String> other1 = new ListProperty<>("c", "a", "b");
+        ListProperty<String> property = new ListProperty<>();
+        property.bindTo(other1);
+
+        List<ListChangeListener.Change<? extends String>> changes = new ArrayList<>();
+        property.addChangeListener((observable, change) -> changes.add(change));
+
+        other1.addAll(1, List.of("x", "y", "z"));
+        assertEquals(other1, property);
+        assertEquals(List.of(new ListChangeListener.Change.Update<>(List.of(new ListChangeListener.LocalChange.Insertion<>(1, List.of("x", "y", "z"))))), changes);
+        changes.clear();
+
+        other1.subList(1, 4).clear();
+        assertEquals(other1, property);
+        assertEquals(List.of(new ListChangeListener.Change.Update<>(List.of(new ListChangeListener.LocalChange.Removal<>(1, List.of("x", "y", "z"))))), changes);
+        changes.clear();
+
+        other1.sort(Comparator.naturalOrder());
+        assertEquals(List.of("a", "b", "c"), property);
+        assertEquals(List.of(new ListChangeListener.Change.Permutation<>(List.of(2, 0, 1))), changes);
+    }
+
 }
\ No newline at end of file